@@ -0,0 +1,115 @@
+package com.neovisionaries.ws.client;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A pool of reusable byte arrays whose lengths are powers of two.
+ *
+ * <p>
+ * The pool is shared by the reading threads of all web sockets so that
+ * large messages (screenshots, outerHTML etc.) do not allocate a new
+ * array for each frame.
+ * </p>
+ */
+class ByteArrayPool
+{
+    /**
+     * The shared pool. Arrays from 64 KB up to 64 MB are pooled,
+     * at most 4 arrays per size.
+     */
+    static final ByteArrayPool SHARED = new ByteArrayPool(16, 26, 4);
+
+
+    private final int mMinShift;
+    private final int mMaxShift;
+    private final int mMaxPerSize;
+    private final Queue<byte[]>[] mQueues;
+    private final AtomicInteger[] mSizes;
+
+
+    @SuppressWarnings("unchecked")
+    ByteArrayPool(int minShift, int maxShift, int maxPerSize)
+    {
+        mMinShift   = minShift;
+        mMaxShift   = maxShift;
+        mMaxPerSize = maxPerSize;
+        mQueues     = new Queue[maxShift - minShift + 1];
+        mSizes      = new AtomicInteger[mQueues.length];
+
+        for (int i = 0; i < mQueues.length; ++i)
+        {
+            mQueues[i] = new ConcurrentLinkedQueue<byte[]>();
+            mSizes[i]  = new AtomicInteger();
+        }
+    }
+
+
+    /**
+     * Get an array whose length is equal to or greater than {@code minLength}.
+     */
+    byte[] acquire(int minLength)
+    {
+        int shift = shift(minLength);
+
+        if (mMaxShift < shift)
+        {
+            // Too large to be pooled.
+            return new byte[minLength];
+        }
+
+        int index = shift - mMinShift;
+        byte[] array = mQueues[index].poll();
+
+        if (array != null)
+        {
+            mSizes[index].decrementAndGet();
+            return array;
+        }
+
+        return new byte[1 << shift];
+    }
+
+
+    /**
+     * Return an array to the pool. Arrays which were not created
+     * by {@link #acquire(int)} are ignored.
+     */
+    void release(byte[] array)
+    {
+        if (array == null || Integer.bitCount(array.length) != 1)
+        {
+            return;
+        }
+
+        int shift = Integer.numberOfTrailingZeros(array.length);
+
+        if (shift < mMinShift || mMaxShift < shift)
+        {
+            return;
+        }
+
+        int index = shift - mMinShift;
+
+        if (mSizes[index].incrementAndGet() <= mMaxPerSize)
+        {
+            mQueues[index].offer(array);
+        }
+        else
+        {
+            mSizes[index].decrementAndGet();
+        }
+    }
+
+
+    private int shift(int length)
+    {
+        if (length <= (1 << mMinShift))
+        {
+            return mMinShift;
+        }
+
+        return 32 - Integer.numberOfLeadingZeros(length - 1);
+    }
+}
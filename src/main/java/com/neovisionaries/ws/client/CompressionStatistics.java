@@ -0,0 +1,66 @@
+package com.neovisionaries.ws.client;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Byte counters of {@link PerMessageDeflate}. An instance can be shared by
+ * several web sockets.
+ */
+public class CompressionStatistics
+{
+    private final AtomicLong mSentUncompressedBytes = new AtomicLong();
+    private final AtomicLong mSentCompressedBytes = new AtomicLong();
+    private final AtomicLong mReceivedCompressedBytes = new AtomicLong();
+    private final AtomicLong mReceivedUncompressedBytes = new AtomicLong();
+
+
+    void onCompressed(int before, int after)
+    {
+        mSentUncompressedBytes.addAndGet(before);
+        mSentCompressedBytes.addAndGet(after);
+    }
+
+
+    void onDecompressed(int before, int after)
+    {
+        mReceivedCompressedBytes.addAndGet(before);
+        mReceivedUncompressedBytes.addAndGet(after);
+    }
+
+
+    /**
+     * Get the total size of the messages passed to the compressor.
+     */
+    public long getSentUncompressedBytes()
+    {
+        return mSentUncompressedBytes.get();
+    }
+
+
+    /**
+     * Get the total size of the messages produced by the compressor.
+     * Messages below the threshold are counted with their original size.
+     */
+    public long getSentCompressedBytes()
+    {
+        return mSentCompressedBytes.get();
+    }
+
+
+    /**
+     * Get the total size of the compressed messages received from the server.
+     */
+    public long getReceivedCompressedBytes()
+    {
+        return mReceivedCompressedBytes.get();
+    }
+
+
+    /**
+     * Get the total size of the received messages after decompression.
+     */
+    public long getReceivedUncompressedBytes()
+    {
+        return mReceivedUncompressedBytes.get();
+    }
+}
@@ -0,0 +1,115 @@
+package com.neovisionaries.ws.client;
+
+import java.io.IOException;
+
+/**
+ * A growable buffer which collects the payloads of the frames of a message.
+ *
+ * <p>
+ * The buffer is owned by a single reading thread and reused for every message.
+ * The backing array is taken from {@link ByteArrayPool} and it is returned to
+ * the pool when the buffer is cleared after a message larger than
+ * {@link #MAX_RETAINED_CAPACITY}.
+ * </p>
+ */
+class PayloadBuffer
+{
+    private static final int MAX_RETAINED_CAPACITY = 1024 * 1024;
+
+    private static final byte[] EMPTY = new byte[0];
+
+
+    private final ByteArrayPool mPool;
+    private byte[] mArray = EMPTY;
+    private int mLength;
+
+
+    PayloadBuffer(ByteArrayPool pool)
+    {
+        mPool = pool;
+    }
+
+
+    /**
+     * Read {@code length} bytes from the input stream and append them to this buffer.
+     */
+    void append(WebSocketInputStream input, int length) throws IOException, WebSocketException
+    {
+        ensureCapacity(mLength + length);
+
+        input.readBytes(mArray, mLength, length);
+
+        mLength += length;
+    }
+
+
+    private void ensureCapacity(int capacity) throws WebSocketException
+    {
+        if (capacity <= mArray.length)
+        {
+            return;
+        }
+
+        byte[] array;
+
+        try
+        {
+            array = mPool.acquire(capacity);
+        }
+        catch (OutOfMemoryError e)
+        {
+            throw new WebSocketException(
+                WebSocketError.INSUFFICIENT_MEMORY_FOR_PAYLOAD,
+                "OutOfMemoryError occurred during a trial to allocate a memory area for a frame's payload: " + e.getMessage(), e);
+        }
+
+        System.arraycopy(mArray, 0, array, 0, mLength);
+
+        mPool.release(mArray);
+
+        mArray = array;
+    }
+
+
+    byte[] array()
+    {
+        return mArray;
+    }
+
+
+    int length()
+    {
+        return mLength;
+    }
+
+
+    byte[] toByteArray()
+    {
+        byte[] bytes = new byte[mLength];
+
+        System.arraycopy(mArray, 0, bytes, 0, mLength);
+
+        return bytes;
+    }
+
+
+    void clear()
+    {
+        mLength = 0;
+
+        if (MAX_RETAINED_CAPACITY < mArray.length)
+        {
+            // Do not keep a huge array for the lifetime of the web socket.
+            mPool.release(mArray);
+            mArray = EMPTY;
+        }
+    }
+
+
+    void release()
+    {
+        mLength = 0;
+        mPool.release(mArray);
+        mArray = EMPTY;
+    }
+}
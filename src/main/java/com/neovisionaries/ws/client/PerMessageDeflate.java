@@ -0,0 +1,281 @@
+package com.neovisionaries.ws.client;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Per-Message Deflate Extension (<a href="https://tools.ietf.org/html/rfc7692">RFC 7692</a>)
+ * implemented with {@link Deflater} and {@link Inflater} of {@code java.util.zip}.
+ *
+ * <p>
+ * Unlike {@link PerMessageDeflateExtension}, the compression level is configurable
+ * and messages smaller than a threshold are sent uncompressed. The inflater keeps
+ * the sliding window between messages unless the server agreed to
+ * {@code server_no_context_takeover}. The deflater is reset after every message,
+ * which is always allowed for the client.
+ * </p>
+ *
+ * @see WebSocket#setPerMessageDeflate(int, int, CompressionStatistics)
+ */
+public class PerMessageDeflate extends PerMessageCompressionExtension
+{
+    private static final String SERVER_NO_CONTEXT_TAKEOVER = "server_no_context_takeover";
+    private static final String CLIENT_NO_CONTEXT_TAKEOVER = "client_no_context_takeover";
+    private static final String SERVER_MAX_WINDOW_BITS = "server_max_window_bits";
+    private static final String CLIENT_MAX_WINDOW_BITS = "client_max_window_bits";
+    private static final byte[] COMPRESSION_TERMINATOR = { 0, 0, (byte)0xFF, (byte)0xFF };
+    private static final int MIN_BITS = 8;
+    private static final int MAX_BITS = 15;
+
+
+    private final int mLevel;
+    private final int mThreshold;
+    private final CompressionStatistics mStatistics;
+    private boolean mServerNoContextTakeover;
+    private Inflater mInflater;
+    private Deflater mDeflater;
+    private byte[] mOutput;
+    private int mLength;
+
+
+    /**
+     * @param source
+     *         The extension agreed by the server.
+     *
+     * @param level
+     *         Compression level, from {@link Deflater#NO_COMPRESSION} to
+     *         {@link Deflater#BEST_COMPRESSION} or {@link Deflater#DEFAULT_COMPRESSION}.
+     *
+     * @param threshold
+     *         Messages smaller than this size in bytes are not compressed.
+     *
+     * @param statistics
+     *         Byte counters, {@code null} if not needed.
+     */
+    public PerMessageDeflate(WebSocketExtension source, int level, int threshold, CompressionStatistics statistics)
+    {
+        super(source);
+
+        mLevel      = level;
+        mThreshold  = threshold;
+        mStatistics = statistics;
+    }
+
+
+    @Override
+    void validate() throws WebSocketException
+    {
+        for (Map.Entry<String, String> entry : getParameters().entrySet())
+        {
+            validateParameter(entry.getKey(), entry.getValue());
+        }
+    }
+
+
+    private void validateParameter(String key, String value) throws WebSocketException
+    {
+        if (SERVER_NO_CONTEXT_TAKEOVER.equals(key))
+        {
+            mServerNoContextTakeover = true;
+        }
+        else if (CLIENT_NO_CONTEXT_TAKEOVER.equals(key))
+        {
+            // The deflater is reset after every message anyway.
+        }
+        else if (SERVER_MAX_WINDOW_BITS.equals(key))
+        {
+            // The inflater accepts any window size.
+            parseMaxWindowBits(key, value);
+        }
+        else if (CLIENT_MAX_WINDOW_BITS.equals(key))
+        {
+            // The window size of Deflater is fixed to 2^15. The server may send
+            // a smaller value only if the client offered the parameter.
+            if (value != null && parseMaxWindowBits(key, value) != MAX_BITS)
+            {
+                throw new WebSocketException(
+                    WebSocketError.PERMESSAGE_DEFLATE_INVALID_MAX_WINDOW_BITS,
+                    "The client window size of permessage-deflate extension is not supported: " + value);
+            }
+        }
+        else
+        {
+            throw new WebSocketException(
+                WebSocketError.PERMESSAGE_DEFLATE_UNSUPPORTED_PARAMETER,
+                "permessage-deflate extension contains an unsupported parameter: " + key);
+        }
+    }
+
+
+    private static int parseMaxWindowBits(String key, String value) throws WebSocketException
+    {
+        int bits = -1;
+
+        try
+        {
+            bits = Integer.parseInt(value);
+        }
+        catch (NumberFormatException e)
+        {
+        }
+
+        if (bits < MIN_BITS || MAX_BITS < bits)
+        {
+            throw new WebSocketException(
+                WebSocketError.PERMESSAGE_DEFLATE_INVALID_MAX_WINDOW_BITS,
+                String.format("The value of %s parameter of permessage-deflate extension is invalid: %s", key, value));
+        }
+
+        return bits;
+    }
+
+
+    /**
+     * Called by the reading thread.
+     */
+    @Override
+    protected byte[] decompress(byte[] compressed) throws WebSocketException
+    {
+        if (mInflater == null)
+        {
+            mInflater = new Inflater(true);
+        }
+
+        mOutput = new byte[Math.max(256, compressed.length * 4)];
+        mLength = 0;
+
+        try
+        {
+            // The terminator which is removed by the server is appended as a separate input.
+            inflate(compressed);
+            inflate(COMPRESSION_TERMINATOR);
+
+            // The server ended the deflate stream or it does not use the previous messages.
+            if (mServerNoContextTakeover || mInflater.finished())
+            {
+                mInflater.reset();
+            }
+
+            if (mStatistics != null)
+            {
+                mStatistics.onDecompressed(compressed.length, mLength);
+            }
+
+            return Arrays.copyOf(mOutput, mLength);
+        }
+        catch (DataFormatException e)
+        {
+            mInflater.reset();
+
+            throw new WebSocketException(
+                WebSocketError.DECOMPRESSION_ERROR,
+                String.format("Failed to decompress the message: %s", e.getMessage()), e);
+        }
+        finally
+        {
+            mOutput = null;
+        }
+    }
+
+
+    private void inflate(byte[] input) throws DataFormatException
+    {
+        mInflater.setInput(input);
+
+        while (true)
+        {
+            if (mLength == mOutput.length)
+            {
+                mOutput = Arrays.copyOf(mOutput, mOutput.length * 2);
+            }
+
+            int count = mInflater.inflate(mOutput, mLength, mOutput.length - mLength);
+
+            mLength += count;
+
+            if (count == 0 && (mInflater.needsInput() || mInflater.finished() || mInflater.needsDictionary()))
+            {
+                break;
+            }
+        }
+    }
+
+
+    /**
+     * Called by the writing thread, or by the sender if the maximum payload size is set.
+     */
+    @Override
+    protected synchronized byte[] compress(byte[] plain) throws WebSocketException
+    {
+        // WebSocketFrame sends the message uncompressed if the result is not smaller.
+        if (plain.length < mThreshold)
+        {
+            if (mStatistics != null)
+            {
+                mStatistics.onCompressed(plain.length, plain.length);
+            }
+
+            return plain;
+        }
+
+        if (mDeflater == null)
+        {
+            mDeflater = new Deflater(mLevel, true);
+        }
+
+        byte[] output = new byte[plain.length / 2 + 64];
+        int length = 0;
+
+        mDeflater.setInput(plain);
+
+        while (true)
+        {
+            length += mDeflater.deflate(output, length, output.length - length, Deflater.SYNC_FLUSH);
+
+            // SYNC_FLUSH has completed if the output buffer is not full.
+            if (length < output.length)
+            {
+                break;
+            }
+
+            output = Arrays.copyOf(output, output.length * 2);
+        }
+
+        mDeflater.reset();
+
+        // Remove the terminator of the sync flush, see RFC 7692, 7.2.1.
+        if (endsWithTerminator(output, length))
+        {
+            length -= COMPRESSION_TERMINATOR.length;
+        }
+
+        if (mStatistics != null)
+        {
+            mStatistics.onCompressed(plain.length, Math.min(plain.length, length));
+        }
+
+        return Arrays.copyOf(output, length);
+    }
+
+
+    private static boolean endsWithTerminator(byte[] data, int length)
+    {
+        if (length < COMPRESSION_TERMINATOR.length)
+        {
+            return false;
+        }
+
+        for (int i = 0; i < COMPRESSION_TERMINATOR.length; ++i)
+        {
+            if (data[length - COMPRESSION_TERMINATOR.length + i] != COMPRESSION_TERMINATOR[i])
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,31 @@
+package com.neovisionaries.ws.client;
+
+/**
+ * Listener which receives text messages as raw UTF-8 bytes.
+ *
+ * <p>
+ * When a {@code TextMessageListener} is set by {@link WebSocket#setTextMessageListener(TextMessageListener)},
+ * uncompressed text frames are read into a pooled buffer which is reused for the next message,
+ * and no {@code String} is created. Text messages are passed only to this listener,
+ * {@link WebSocketListener#onTextMessage(WebSocket, String)} is not called.
+ * The payloads of the frames passed to {@code onFrame}, {@code onTextFrame} and
+ * {@code onContinuationFrame} are {@code null} in this mode.
+ * </p>
+ */
+public interface TextMessageListener
+{
+    /**
+     * Called when a text message was received.
+     *
+     * @param websocket
+     *         The web socket.
+     *
+     * @param data
+     *         UTF-8 encoded message. The array is reused after this method returns,
+     *         the implementation must not keep a reference to it.
+     *
+     * @param length
+     *         The length of the message in bytes.
+     */
+    void onTextMessage(WebSocket websocket, byte[] data, int length) throws Exception;
+}
@@ -30,6 +30,7 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.zip.Deflater;
 import com.neovisionaries.ws.client.StateManager.CloseInitiator;
 
 
@@ -1088,6 +1089,11 @@ public class WebSocket
     private WebSocketFrame mClientCloseFrame;
     private PerMessageCompressionExtension mPerMessageCompressionExtension;
     private Masker payloadMasker;
+    private volatile TextMessageListener mTextMessageListener;
+    private boolean mPerMessageDeflate;
+    private int mDeflateLevel;
+    private int mDeflateThreshold;
+    private CompressionStatistics mCompressionStatistics;
 
 
     WebSocket(WebSocketFactory factory, boolean secure, String userInfo,
@@ -1178,6 +1184,10 @@ public class WebSocket
         instance.mAutoFlush = mAutoFlush;
         instance.mMissingCloseFrameAllowed = mMissingCloseFrameAllowed;
         instance.mFrameQueueSize = mFrameQueueSize;
+        instance.mPerMessageDeflate = mPerMessageDeflate;
+        instance.mDeflateLevel = mDeflateLevel;
+        instance.mDeflateThreshold = mDeflateThreshold;
+        instance.mCompressionStatistics = mCompressionStatistics;
 
         // Copy listeners.
         List<WebSocketListener> listeners = mListenerManager.getListeners();
@@ -1611,6 +1621,79 @@ public class WebSocket
     }
 
 
+    /**
+     * Get the listener which receives text messages as raw UTF-8 bytes.
+     *
+     * @return
+     *         The listener, or {@code null} if not set.
+     */
+    public TextMessageListener getTextMessageListener()
+    {
+        return mTextMessageListener;
+    }
+
+
+    /**
+     * Set the listener which receives text messages as raw UTF-8 bytes.
+     * The listener must be set before {@link #connect()} is called.
+     *
+     * @param listener
+     *         The listener. {@code null} restores the default behavior
+     *         which converts text messages into strings.
+     *
+     * @return
+     *         {@code this} object.
+     *
+     * @see TextMessageListener
+     */
+    public WebSocket setTextMessageListener(TextMessageListener listener)
+    {
+        mTextMessageListener = listener;
+
+        return this;
+    }
+
+
+    /**
+     * Offer the permessage-deflate extension to the server and, if the
+     * server agrees, use {@link PerMessageDeflate} instead of the default
+     * implementation. This method must be called before {@link #connect()}.
+     *
+     * @param level
+     *         Compression level of {@link java.util.zip.Deflater}.
+     *
+     * @param threshold
+     *         Messages smaller than this size in bytes are sent uncompressed.
+     *
+     * @param statistics
+     *         Byte counters, {@code null} if not needed.
+     *
+     * @return
+     *         {@code this} object.
+     */
+    public WebSocket setPerMessageDeflate(int level, int threshold, CompressionStatistics statistics)
+    {
+        if (level < Deflater.DEFAULT_COMPRESSION || Deflater.BEST_COMPRESSION < level)
+        {
+            throw new IllegalArgumentException("The given compression level is invalid.");
+        }
+
+        if (threshold < 0)
+        {
+            throw new IllegalArgumentException("The given threshold is negative.");
+        }
+
+        mPerMessageDeflate     = true;
+        mDeflateLevel          = level;
+        mDeflateThreshold      = threshold;
+        mCompressionStatistics = statistics;
+
+        mHandshakeBuilder.addExtension(WebSocketExtension.PERMESSAGE_DEFLATE);
+
+        return this;
+    }
+
+
     /**
      * Check if this instance allows the server to close the WebSocket
      * connection without sending a <a href=
@@ -2798,6 +2881,49 @@ public class WebSocket
     }
 
 
+    /**
+     * Send text messages to the server at once.
+     *
+     * <p>
+     * The frames are queued while the writing thread is blocked, so the
+     * writing thread writes all of them before it flushes the output stream.
+     * </p>
+     *
+     * @param messages
+     *         Text messages to be sent to the server.
+     *
+     * @return
+     *         {@code this} object.
+     */
+    public WebSocket sendTexts(List<String> messages)
+    {
+        if (messages == null || messages.isEmpty())
+        {
+            return this;
+        }
+
+        // Get the reference to the writing thread.
+        WritingThread wt = mWritingThread;
+
+        if (wt == null)
+        {
+            // An instance of WritingThread is not available.
+            return this;
+        }
+
+        // WritingThread polls its queue while holding its own lock.
+        synchronized (wt)
+        {
+            for (String message : messages)
+            {
+                sendFrame(WebSocketFrame.createTextFrame(message));
+            }
+        }
+
+        return this;
+    }
+
+
     /**
      * Send a text frame to the server.
      *
@@ -3130,6 +3256,9 @@ public class WebSocket
         // Read the response from the server.
         Map<String, List<String>> headers = readHandshake(input, key);
 
+        // Replace the agreed permessage-deflate extension if configured.
+        replacePerMessageDeflate();
+
         // Keep the input stream and the output stream to pass them
         // to the reading thread and the writing thread later.
         mInput  = input;
@@ -3581,6 +3710,35 @@ public class WebSocket
     }
 
 
+    /**
+     * Replace the permessage-deflate extension created by {@link HandshakeReader}
+     * with {@link PerMessageDeflate} which supports the compression level and
+     * the threshold.
+     */
+    private void replacePerMessageDeflate() throws WebSocketException
+    {
+        if (mPerMessageDeflate == false || mAgreedExtensions == null)
+        {
+            return;
+        }
+
+        for (int i = 0; i < mAgreedExtensions.size(); ++i)
+        {
+            WebSocketExtension extension = mAgreedExtensions.get(i);
+
+            if (extension instanceof PerMessageDeflateExtension)
+            {
+                PerMessageDeflate deflate = new PerMessageDeflate(
+                    extension, mDeflateLevel, mDeflateThreshold, mCompressionStatistics);
+
+                deflate.validate();
+
+                mAgreedExtensions.set(i, deflate);
+            }
+        }
+    }
+
+
     /**
      * Find a per-message compression extension from among the agreed extensions.
      */
@@ -23,6 +23,11 @@ import java.io.InputStream;
 
 class WebSocketInputStream extends BufferedInputStream
 {
+    // Frames are read only by the reading thread, the buffer
+    // for the frame header is reused.
+    private final byte[] mHeader = new byte[8];
+
+
     public WebSocketInputStream(InputStream in)
     {
         super(in);
@@ -36,9 +41,23 @@ class WebSocketInputStream extends BufferedInputStream
 
 
     public WebSocketFrame readFrame() throws IOException, WebSocketException
+    {
+        return readFrame(null);
+    }
+
+
+    /**
+     * Read a frame.
+     *
+     * @param payloadBuffer
+     *         If not {@code null}, the payload of an uncompressed data frame
+     *         is appended to this buffer instead of a newly allocated array
+     *         and the payload of the returned frame is {@code null}.
+     */
+    public WebSocketFrame readFrame(PayloadBuffer payloadBuffer) throws IOException, WebSocketException
     {
         // Buffer.
-        byte[] buffer = new byte[8];
+        byte[] buffer = mHeader;
 
         try
         {
@@ -140,8 +159,21 @@ class WebSocketInputStream extends BufferedInputStream
                 "The payload length of a frame exceeds the maximum array size in Java.");
         }
 
-        // Read the payload if the payload length is not 0.
-        byte[] payload = readPayload(payloadLength, mask, maskingKey);
+        byte[] payload = null;
+
+        // Data frame: continuation (0x0), text (0x1) or binary (0x2).
+        boolean dataFrame = (opcode <= 0x2);
+
+        if (payloadBuffer != null && dataFrame && (opcode == 0x0 || rsv1 == false) && mask == false)
+        {
+            // Append the payload to the pooled buffer of the reading thread.
+            payloadBuffer.append(this, (int)payloadLength);
+        }
+        else
+        {
+            // Read the payload if the payload length is not 0.
+            payload = readPayload(payloadLength, mask, maskingKey);
+        }
 
         // Create a WebSocketFrame instance that represents a frame.
         return new WebSocketFrame()
@@ -156,13 +188,19 @@ class WebSocketInputStream extends BufferedInputStream
 
 
     void readBytes(byte[] buffer, int length) throws IOException, WebSocketException
+    {
+        readBytes(buffer, 0, length);
+    }
+
+
+    void readBytes(byte[] buffer, int offset, int length) throws IOException, WebSocketException
     {
         // Read
         int total = 0;
 
         while (total < length)
         {
-            int count = read(buffer, total, length - total);
+            int count = read(buffer, offset + total, length - total);
 
             if (count <= 0)
             {
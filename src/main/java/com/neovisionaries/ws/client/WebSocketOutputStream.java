@@ -25,6 +25,10 @@ class WebSocketOutputStream extends BufferedOutputStream
 {
     private Masker payloadMask;
 
+    // The frame header (at most 14 bytes) is built in this buffer and
+    // written at once. Frames are written only by the writing thread.
+    private final byte[] mHeader = new byte[14];
+
     public WebSocketOutputStream(OutputStream out, Masker payloadMask)
     {
         super(out);
@@ -43,22 +47,28 @@ class WebSocketOutputStream extends BufferedOutputStream
 
     public void write(WebSocketFrame frame) throws IOException
     {
-        writeFrame0(frame);
-        writeFrame1(frame);
-        writeFrameExtendedPayloadLength(frame);
+        int position = 0;
+
+        position = writeFrame0(frame, position);
+        position = writeFrame1(frame, position);
+        position = writeFrameExtendedPayloadLength(frame, position);
 
         // Generate a random masking key.
         byte[] maskingKey = this.payloadMask.getMaskingKey();
 
         // Write the masking key.
-        write(maskingKey);
+        System.arraycopy(maskingKey, 0, mHeader, position, 4);
+        position += 4;
+
+        // Write the header at once.
+        write(mHeader, 0, position);
 
         // Write the payload.
         writeFramePayload(frame);
     }
 
 
-    private void writeFrame0(WebSocketFrame frame) throws IOException
+    private int writeFrame0(WebSocketFrame frame, int position)
     {
         int b = (frame.getFin()  ? 0x80 : 0x00)
               | (frame.getRsv1() ? 0x40 : 0x00)
@@ -66,11 +76,13 @@ class WebSocketOutputStream extends BufferedOutputStream
               | (frame.getRsv3() ? 0x10 : 0x00)
               | (frame.getOpcode() & 0x0F);
 
-        write(b);
+        mHeader[position++] = (byte)b;
+
+        return position;
     }
 
 
-    private void writeFrame1(WebSocketFrame frame) throws IOException
+    private int writeFrame1(WebSocketFrame frame, int position)
     {
         // Frames sent from a client are always masked.
         int b = 0x80;
@@ -90,37 +102,41 @@ class WebSocketOutputStream extends BufferedOutputStream
             b |= 127;
         }
 
-        write(b);
+        mHeader[position++] = (byte)b;
+
+        return position;
     }
 
 
-    private void writeFrameExtendedPayloadLength(WebSocketFrame frame) throws IOException
+    private int writeFrameExtendedPayloadLength(WebSocketFrame frame, int position)
     {
         int len = frame.getPayloadLength();
 
         if (len <= 125)
         {
-            return;
+            return position;
         }
 
         if (len <= 65535)
         {
             // 2-byte in network byte order.
-            write((len >> 8) & 0xFF);
-            write((len     ) & 0xFF);
-            return;
+            mHeader[position++] = (byte)((len >> 8) & 0xFF);
+            mHeader[position++] = (byte)((len     ) & 0xFF);
+            return position;
         }
 
         // In this implementation, the maximum payload length is (2^31 - 1).
         // So, the first 4 bytes are 0.
-        write(0);
-        write(0);
-        write(0);
-        write(0);
-        write((len >> 24) & 0xFF);
-        write((len >> 16) & 0xFF);
-        write((len >>  8) & 0xFF);
-        write((len      ) & 0xFF);
+        mHeader[position++] = 0;
+        mHeader[position++] = 0;
+        mHeader[position++] = 0;
+        mHeader[position++] = 0;
+        mHeader[position++] = (byte)((len >> 24) & 0xFF);
+        mHeader[position++] = (byte)((len >> 16) & 0xFF);
+        mHeader[position++] = (byte)((len >>  8) & 0xFF);
+        mHeader[position++] = (byte)((len      ) & 0xFF);
+
+        return position;
     }
 
 
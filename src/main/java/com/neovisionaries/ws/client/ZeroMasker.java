@@ -2,8 +2,10 @@ package com.neovisionaries.ws.client;
 
 public class ZeroMasker implements Masker {
 
+    private static final byte[] MASKING_KEY = new byte[] {0x0,0x0,0x0,0x0};
+
     public byte[] getMaskingKey() {
-        return new byte[] {0x0,0x0,0x0,0x0};
+        return MASKING_KEY;
     }
 
     public void mask(byte[] payload) {
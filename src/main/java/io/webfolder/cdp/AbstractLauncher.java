@@ -41,7 +41,8 @@ abstract class AbstractLauncher {
         List<String> list = new ArrayList<>();
         list.add(chromeExecutablePath);
 
-        if (factory.getPort() > 0) {
+        // chrome selects a free port if the port is 0
+        if (factory.getPort() >= 0) {
             list.add(format("--remote-debugging-port=%d", factory.getPort()));
         }
 
@@ -101,12 +102,14 @@ abstract class AbstractLauncher {
         int     retryCount = 0;
         boolean connected  = factory.ping();
 
-        while ( ! ( connected = factory.ping() ) && retryCount < 50 ) {
+        // the first ping succeeds if the launcher has already read the endpoint of the browser
+        while ( ! connected && retryCount < 50 ) {
             try {
                 sleep(100);
             } catch (InterruptedException e) {
                 // ignore
             }
+            connected   = factory.ping();
             retryCount += 1;
         }
 
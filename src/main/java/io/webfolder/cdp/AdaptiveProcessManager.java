@@ -38,12 +38,13 @@ public class AdaptiveProcessManager extends ProcessManager {
     private static final boolean JAVA_8  = getProperty("java.version").startsWith("1.8.");
 
     public AdaptiveProcessManager() {
-        if ( ! JAVA_8 ) {
-           processManager = new DefaultProcessManager();
+        if (LINUX) {
+            // kills the whole process tree including the re-parented processes
+            processManager = new LinuxProcessManager();
+        } else if ( ! JAVA_8 ) {
+            processManager = new DefaultProcessManager();
         } else if (WINDOWS) {
             processManager = new WindowsProcessManager();
-        } else if (LINUX) {
-            processManager = new LinuxProcessManager();
         } else if (MAC) {
             processManager = new MacOsProcessManager();            
         } else {
@@ -51,6 +52,13 @@ public class AdaptiveProcessManager extends ProcessManager {
         }
     }
 
+    /**
+     * Returns the process manager of the operating system.
+     */
+    public ProcessManager getProcessManager() {
+        return processManager;
+    }
+
     @Override
     void setProcess(CdpProcess process) {
         processManager.setProcess(process);
@@ -0,0 +1,511 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp;
+
+import static io.webfolder.cdp.LoadMetric.OpenSessions;
+import static java.lang.System.getProperty;
+import static java.lang.System.nanoTime;
+import static java.nio.file.Files.createTempDirectory;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Locale.ENGLISH;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import io.webfolder.cdp.exception.CdpException;
+import io.webfolder.cdp.session.Session;
+import io.webfolder.cdp.session.SessionFactory;
+
+/**
+ * Launches and supervises a number of browser processes and routes the new sessions to the least loaded one.
+ * 
+ * Each browser has its own <code>--user-data-dir</code> (see {@link #setProfileManager(ProfileManager)}) and its own debugging port, selected by the browser, or pipe.
+ * A browser is recycled after it serves {@link #setMaxPages(long) a number of pages} or exceeds
+ * {@link #setMaxMemory(long) a memory budget}: it receives no new sessions and is restarted when its
+ * open sessions are closed. A crashed browser is restarted by the supervisor thread, the sessions
+ * which are created later are routed to the other browsers meanwhile.
+ */
+public class BrowserFarm implements AutoCloseable {
+
+    private static final boolean LINUX = getProperty("os.name").toLowerCase(ENGLISH).startsWith("linux");
+
+    // weight of the last sample in the moving average of latency
+    private static final double LATENCY_WEIGHT = 0.2;
+
+    private final Node[] nodes;
+
+    private final AtomicLong restartCount = new AtomicLong();
+
+    private final AtomicLong recycleCount = new AtomicLong();
+
+    private volatile List<String> arguments = emptyList();
+
+    private volatile String chromeExecutablePath;
+
+    private volatile Consumer<SessionFactory> initializer;
+
+    private volatile LoadMetric loadMetric = OpenSessions;
+
+    private volatile long maxPages;
+
+    private volatile long maxMemory;
+
+    private volatile boolean pipe;
+
+    private volatile ProfileManager profileManager;
+
+    private volatile boolean reapOrphans;
+
+    private volatile long supervisorInterval = 1000;
+
+    private ScheduledExecutorService supervisor;
+
+    private volatile boolean closed;
+
+    private static class Node {
+
+        private final int index;
+
+        private final AtomicLong pages = new AtomicLong();
+
+        // sessions which are routed to the browser and not created yet
+        private final AtomicInteger pending = new AtomicInteger();
+
+        private volatile Launcher launcher;
+
+        private volatile SessionFactory factory;
+
+        private volatile Path userDataDir;
+
+        private volatile boolean healthy;
+
+        private volatile boolean draining;
+
+        private volatile double latency;
+
+        Node(final int index) {
+            this.index = index;
+        }
+
+        boolean isAlive() {
+            Launcher launcher = this.launcher;
+            CdpProcess process = launcher == null ? null : launcher.getProcess();
+            return process != null && process.getProcess().isAlive();
+        }
+
+        double getLoad(final LoadMetric metric, final SessionFactory factory) {
+            int pending = this.pending.get();
+            switch (metric) {
+                case PendingCommands: return factory.getPendingCommandCount() + pending;
+                // each pending session waits for the sessions which are created before it,
+                // 1 ms keeps the reservations of a browser which has no latency sample yet
+                case Latency: return (latency + 1) * (1 + pending);
+                default: return factory.getSessionCount() + pending;
+            }
+        }
+    }
+
+    /**
+     * @param size number of the browser processes
+     */
+    public BrowserFarm(final int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException();
+        }
+        nodes = new Node[size];
+        for (int i = 0; i < size; i++) {
+            nodes[i] = new Node(i);
+        }
+    }
+
+    /**
+     * Launches the browsers and starts the supervisor thread.
+     */
+    public synchronized BrowserFarm start() {
+        if (supervisor != null) {
+            return this;
+        }
+        if (closed) {
+            throw new CdpException("Browser farm is closed");
+        }
+        if (reapOrphans && LINUX) {
+            LinuxProcessManager.reapOrphans();
+        }
+        for (int i = 0; i < nodes.length; i++) {
+            try {
+                launch(nodes[i]);
+            } catch (RuntimeException e) {
+                // the browsers which are already launched are not supervised, they must not outlive the failure
+                for (int j = 0; j <= i; j++) {
+                    nodes[j].healthy = false;
+                    stop(nodes[j]);
+                }
+                throw e;
+            }
+        }
+        supervisor = newSingleThreadScheduledExecutor(r -> {
+                        Thread thread = new Thread(r, "cdp4j-farm");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+        supervisor.scheduleWithFixedDelay(this::supervise, supervisorInterval,
+                                            supervisorInterval, MILLISECONDS);
+        return this;
+    }
+
+    /**
+     * Creates a session in the least loaded browser.
+     */
+    public Session create() {
+        for (int attempt = 0; attempt <= nodes.length; attempt++) {
+            Node node = select();
+            if (node == null) {
+                break;
+            }
+            SessionFactory factory = node.factory;
+            if (factory == null) {
+                // stopped after it is selected
+                node.pending.decrementAndGet();
+                continue;
+            }
+            long start = nanoTime();
+            try {
+                Session session = factory.create();
+                double elapsed = (double) NANOSECONDS.toMicros(nanoTime() - start) / 1000;
+                node.latency = node.latency == 0 ? elapsed :
+                                    LATENCY_WEIGHT * elapsed + (1 - LATENCY_WEIGHT) * node.latency;
+                long maxPages = this.maxPages;
+                if (maxPages > 0 && node.pages.incrementAndGet() >= maxPages) {
+                    node.draining = true;
+                }
+                return session;
+            } catch (CdpException e) {
+                if (node.isAlive() && factory.ping()) {
+                    throw e;
+                }
+                // crashed, restarted by the supervisor
+                node.healthy = false;
+            } finally {
+                node.pending.decrementAndGet();
+            }
+        }
+        throw new CdpException("No browser is available");
+    }
+
+    /**
+     * Selects the least loaded browser and reserves a pending session on it, concurrent calls see the reservation
+     * and spread a burst of sessions over the browsers.
+     */
+    private Node select() {
+        synchronized (nodes) {
+            Node selected = selectLeastLoaded();
+            if (selected != null) {
+                selected.pending.incrementAndGet();
+            }
+            return selected;
+        }
+    }
+
+    private Node selectLeastLoaded() {
+        LoadMetric metric = loadMetric;
+        Node selected = null;
+        double load = 0;
+        // draining browsers are used only if all browsers are draining
+        for (int pass = 0; pass < 2 && selected == null; pass++) {
+            for (Node next : nodes) {
+                // the factory is null while the browser is restarted
+                SessionFactory factory = next.factory;
+                if ( ! next.healthy || factory == null || (pass == 0 && next.draining) ) {
+                    continue;
+                }
+                double current = next.getLoad(metric, factory);
+                if (selected == null || current < load) {
+                    selected = next;
+                    load     = current;
+                }
+            }
+        }
+        return selected;
+    }
+
+    private void supervise() {
+        Map<String, Long> memory = maxMemory > 0 && LINUX ? LinuxProcessManager.getResidentMemoryById() : null;
+        for (Node next : nodes) {
+            if (closed) {
+                return;
+            }
+            try {
+                SessionFactory factory = next.factory;
+                Launcher launcher = next.launcher;
+                CdpProcess process = launcher == null ? null : launcher.getProcess();
+                if ( ! next.healthy || factory == null || process == null || ! next.isAlive() ) {
+                    restart(next);
+                    restartCount.incrementAndGet();
+                    continue;
+                }
+                if (memory != null) {
+                    Long rss = memory.get(process.getCdp4jProcessId());
+                    if (rss != null && rss > maxMemory) {
+                        next.draining = true;
+                    }
+                }
+                if (next.draining && factory.getSessionCount() == 0) {
+                    restart(next);
+                    recycleCount.incrementAndGet();
+                }
+            } catch (RuntimeException e) {
+                // retried on the next run
+                next.healthy = false;
+            }
+        }
+    }
+
+    private void launch(final Node node) {
+        try {
+            ProfileManager profileManager = this.profileManager;
+            Path userDataDir = profileManager == null ?
+                                    createTempDirectory("cdp4j-farm-" + node.index + "-") : null;
+            // port 0, chrome selects a free port and prints its endpoint
+            SessionFactory factory = pipe ? new SessionFactory() : new SessionFactory(0);
+            Consumer<SessionFactory> initializer = this.initializer;
+            if (initializer != null) {
+                initializer.accept(factory);
+            }
+            Launcher launcher = new Launcher(factory);
+            launcher.setPipe(pipe);
+            List<String> arguments = new ArrayList<>(this.arguments);
+            if (userDataDir == null) {
+                // deleted by the profile manager when the browser exits
+                launcher.setProfileManager(profileManager);
+            } else {
+                arguments.add("--user-data-dir=" + userDataDir.toString());
+            }
+            node.userDataDir = userDataDir;
+            node.launcher    = launcher;
+            String chrome = chromeExecutablePath;
+            node.factory     = launcher.launch(chrome != null ? chrome : launcher.findChrome(), arguments);
+            node.pages.set(0);
+            node.latency  = 0;
+            node.draining = false;
+            node.healthy  = true;
+        } catch (IOException e) {
+            throw new CdpException(e);
+        }
+    }
+
+    private void restart(final Node node) {
+        node.healthy = false;
+        stop(node);
+        launch(node);
+    }
+
+    private void stop(final Node node) {
+        SessionFactory factory = node.factory;
+        Launcher launcher = node.launcher;
+        Path userDataDir = node.userDataDir;
+        // unpublished first, the sessions are not routed to a closing factory
+        node.factory     = null;
+        node.launcher    = null;
+        node.userDataDir = null;
+        if (factory != null) {
+            try {
+                factory.close();
+            } catch (RuntimeException e) {
+                // ignore
+            }
+        }
+        if (launcher != null) {
+            launcher.kill();
+        }
+        if (userDataDir != null) {
+            ProfileManager.deleteDirectory(userDataDir);
+        }
+    }
+
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (supervisor != null) {
+            supervisor.shutdownNow();
+        }
+        for (Node next : nodes) {
+            next.healthy = false;
+            stop(next);
+        }
+    }
+
+    /**
+     * Command line arguments of the browsers, <code>--user-data-dir</code> is set by the farm.
+     */
+    public void setArguments(List<String> arguments) {
+        this.arguments = new ArrayList<>(arguments);
+    }
+
+    public List<String> getArguments() {
+        return unmodifiableList(arguments);
+    }
+
+    public void setChromeExecutablePath(String chromeExecutablePath) {
+        this.chromeExecutablePath = chromeExecutablePath;
+    }
+
+    /**
+     * Configures the {@link SessionFactory} of each browser before it is launched,
+     * e.g. its routing mode or compression.
+     */
+    public void setInitializer(Consumer<SessionFactory> initializer) {
+        this.initializer = initializer;
+    }
+
+    /**
+     * Default value is {@link LoadMetric#OpenSessions}.
+     */
+    public void setLoadMetric(LoadMetric loadMetric) {
+        if (loadMetric == null) {
+            throw new IllegalArgumentException();
+        }
+        this.loadMetric = loadMetric;
+    }
+
+    public LoadMetric getLoadMetric() {
+        return loadMetric;
+    }
+
+    /**
+     * Recycles a browser after it creates <code>maxPages</code> sessions, <code>0</code> (default) means unlimited.
+     */
+    public void setMaxPages(long maxPages) {
+        this.maxPages = maxPages;
+    }
+
+    public long getMaxPages() {
+        return maxPages;
+    }
+
+    /**
+     * Recycles a browser if the resident memory of its processes exceeds <code>maxMemory</code> bytes,
+     * <code>0</code> (default) means unlimited. Supported only on Linux.
+     */
+    public void setMaxMemory(long maxMemory) {
+        this.maxMemory = maxMemory;
+    }
+
+    public long getMaxMemory() {
+        return maxMemory;
+    }
+
+    /**
+     * Launches the browsers with {@link Launcher#setPipe(boolean) the debugging pipe} instead of a port.
+     */
+    public void setPipe(boolean pipe) {
+        this.pipe = pipe;
+    }
+
+    public boolean isPipe() {
+        return pipe;
+    }
+
+    /**
+     * Creates the user data directories of the browsers from a template profile,
+     * a temporary empty directory is used for each browser by default.
+     */
+    public void setProfileManager(ProfileManager profileManager) {
+        this.profileManager = profileManager;
+    }
+
+    public ProfileManager getProfileManager() {
+        return profileManager;
+    }
+
+    /**
+     * Kills the browsers of the JVMs which are not running anymore before the browsers are launched,
+     * see {@link LinuxProcessManager#reapOrphans()}. Disabled by default, supported only on Linux.
+     */
+    public void setReapOrphans(boolean reapOrphans) {
+        this.reapOrphans = reapOrphans;
+    }
+
+    public boolean isReapOrphans() {
+        return reapOrphans;
+    }
+
+    /**
+     * Interval of the health checks in milliseconds, must be set before {@link #start()}.
+     */
+    public void setSupervisorInterval(long supervisorInterval) {
+        this.supervisorInterval = supervisorInterval;
+    }
+
+    /**
+     * Returns the session factories of the running browsers.
+     */
+    public List<SessionFactory> getFactories() {
+        List<SessionFactory> factories = new ArrayList<>();
+        for (Node next : nodes) {
+            SessionFactory factory = next.factory;
+            if (next.healthy && factory != null) {
+                factories.add(factory);
+            }
+        }
+        return factories;
+    }
+
+    public int getSize() {
+        return nodes.length;
+    }
+
+    /**
+     * Returns the number of the open sessions of all browsers.
+     */
+    public int getSessionCount() {
+        int count = 0;
+        for (SessionFactory next : getFactories()) {
+            count += next.getSessionCount();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of the browsers which are restarted after a crash.
+     */
+    public long getRestartCount() {
+        return restartCount.get();
+    }
+
+    /**
+     * Returns the number of the browsers which are restarted after the page or the memory budget is exceeded.
+     */
+    public long getRecycleCount() {
+        return recycleCount.get();
+    }
+}
@@ -266,7 +266,7 @@ public class ChromiumDownloader implements Downloader {
             logger.info("Extracting to: " + destinationRoot.toString());
             if (exists(archive)) {
                 createDirectories(destinationRoot);
-                try (FileSystem fileSystem = newFileSystem(archive, null)) {
+                try (FileSystem fileSystem = newFileSystem(archive, (ClassLoader) null)) {
                     Iterator<Path> iter = fileSystem.getRootDirectories().iterator();
                     if (iter.hasNext()) {
                         Path sourceRoot = iter.next();
@@ -19,24 +19,40 @@ package io.webfolder.cdp;
 
 import static io.webfolder.cdp.session.SessionFactory.DEFAULT_HOST;
 import static java.lang.Long.toHexString;
+import static java.lang.management.ManagementFactory.getRuntimeMXBean;
 import static java.lang.Runtime.getRuntime;
 import static java.lang.String.format;
+import static java.lang.System.currentTimeMillis;
 import static java.lang.System.getProperty;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.createTempDirectory;
+import static java.nio.file.Files.deleteIfExists;
 import static java.nio.file.Paths.get;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Locale.ENGLISH;
 import static java.util.concurrent.ThreadLocalRandom.current;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Scanner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 
 import io.webfolder.cdp.exception.CdpException;
 import io.webfolder.cdp.logger.CdpLoggerType;
+import io.webfolder.cdp.session.PipeTransport;
 import io.webfolder.cdp.session.SessionFactory;
 
 public class Launcher extends AbstractLauncher {
@@ -47,8 +63,24 @@ public class Launcher extends AbstractLauncher {
 
     private static final boolean OSX = OS.startsWith("mac");
 
+    // pid of this JVM
+    private static final String OWNER = getRuntimeMXBean().getName().split("@")[0];
+
+    private static final String DEVTOOLS_LISTENING = "DevTools listening on ";
+
+    private static final int ENDPOINT_TIMEOUT = 5 * 1000; // 5 seconds
+
+    // the shell opens the FIFOs before it executes the browser
+    private static final int PIPE_TIMEOUT = 5 * 1000; // 5 seconds
+
     private ProcessManager processManager = new AdaptiveProcessManager();
 
+    private boolean pipe;
+
+    private ProfileManager profileManager;
+
+    private volatile CdpProcess process;
+
     public Launcher(CdpLoggerType loggerType) {
         this(new SessionFactory(loggerType));
     }
@@ -151,7 +183,15 @@ public class Launcher extends AbstractLauncher {
     protected void internalLaunch(List<String> list, List<String> arguments) {
         boolean foundUserDataDir = arguments.stream().anyMatch(arg -> arg.startsWith("--user-data-dir="));
 
-        if (!foundUserDataDir) {
+        ProfileManager profileManager = this.profileManager;
+        Path profile = null;
+
+        if (!foundUserDataDir && profileManager != null) {
+            // the template is prepared by the first launch
+            profileManager.prepare(list.get(0), arguments);
+            profile = profileManager.create();
+            list.add(format("--user-data-dir=%s", profile.toString()));
+        } else if (!foundUserDataDir) {
             Path remoteProfileData = get(getProperty("java.io.tmpdir")).resolve("remote-profile");
             list.add(format("--user-data-dir=%s", remoteProfileData.toString()));
         }
@@ -160,27 +200,252 @@ public class Launcher extends AbstractLauncher {
             list.add(format("--remote-debugging-address=%s", factory.getHost()));
         }
 
+        if (pipe) {
+            list.removeIf(arg -> arg.startsWith("--remote-debugging-port="));
+            list.add("--remote-debugging-pipe");
+        }
+
         try {
             String cdp4jId = toHexString(current().nextLong());
             list.add("--cdp4jId=" + cdp4jId);
+
+            Path pipeDir = null;
+            if (pipe) {
+                pipeDir = createTempDirectory("cdp4j-pipe");
+                createPipe(pipeDir, list);
+            }
+
             ProcessBuilder builder = new ProcessBuilder(list);
             builder.environment().put("CDP4J_ID", cdp4jId);
-            Process process = builder.start();
+            // orphan processes of a terminated JVM are found by the owner
+            builder.environment().put("CDP4J_OWNER", OWNER);
+            if (pipe) {
+                builder.environment().put("CDP4J_PIPE_IN", pipeDir.resolve("in").toString());
+                builder.environment().put("CDP4J_PIPE_OUT", pipeDir.resolve("out").toString());
+            }
+            Process process = null;
+            try {
+                process = builder.start();
+            } finally {
+                if (profile != null && process == null) {
+                    profileManager.delete(profile);
+                }
+                if (pipe && process == null) {
+                    deletePipe(pipeDir);
+                }
+            }
+
+            if (profile != null) {
+                Path userDataDir = profile;
+                onExit(process, () -> profileManager.delete(userDataDir));
+            }
 
             process.getOutputStream().close();
             process.getInputStream().close();
-            process.getErrorStream().close();
+
+            CompletableFuture<String> endpoint = null;
+            if (pipe) {
+                process.getErrorStream().close();
+            } else {
+                endpoint = readEndpoint(process.getErrorStream());
+            }
+
+            if (pipe) {
+                PipeStreams streams;
+                try {
+                    streams = openPipe(pipeDir, process);
+                } finally {
+                    deletePipe(pipeDir);
+                }
+                factory.setTransport(new PipeTransport(streams.events,
+                                        new BufferedOutputStream(streams.commands)));
+            }
 
             if (!process.isAlive()) {
                 throw new CdpException("No process: the chrome process is not alive.");
             }
 
-            processManager.setProcess(new CdpProcess(process, cdp4jId));
+            this.process = new CdpProcess(process, cdp4jId);
+            processManager.setProcess(this.process);
+
+            if (endpoint != null) {
+                awaitEndpoint(endpoint);
+            }
         } catch (IOException e) {
             throw new CdpException(e);
         }
     }
 
+    /**
+     * Runs the action on a daemon thread when the process exits, Process.onExit() is not available on Java 8.
+     */
+    private static void onExit(Process process, Runnable action) {
+        Thread thread = new Thread(() -> {
+            try {
+                process.waitFor();
+                action.run();
+            } catch (InterruptedException e) {
+                // ignore
+            }
+        }, "cdp4j-exit");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Reads the <code>DevTools listening on ws://...</code> line which chrome prints to stderr
+     * as soon as its debugging port is open, stderr is closed after the line is read.
+     */
+    private CompletableFuture<String> readEndpoint(InputStream stderr) {
+        CompletableFuture<String> endpoint = new CompletableFuture<>();
+        Thread thread = new Thread(() -> {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(stderr, UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String url = parseEndpoint(line);
+                    if (url != null) {
+                        endpoint.complete(url);
+                        break;
+                    }
+                }
+            } catch (IOException e) {
+                // ignore
+            } finally {
+                // the browser is exited or prints no endpoint
+                endpoint.complete(null);
+            }
+        }, "cdp4j-stderr");
+        thread.setDaemon(true);
+        thread.start();
+        return endpoint;
+    }
+
+    private void awaitEndpoint(CompletableFuture<String> endpoint) {
+        String url = null;
+        try {
+            url = endpoint.get(ENDPOINT_TIMEOUT, MILLISECONDS);
+        } catch (TimeoutException e) {
+            // falls back to polling the port
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CdpException(e);
+        } catch (ExecutionException e) {
+            throw new CdpException(e.getCause());
+        }
+        if (url != null) {
+            factory.setWebSocketDebuggerUrl(url);
+        } else if (factory.getPort() == 0) {
+            throw new CdpException("Unable to read the DevTools endpoint of the browser");
+        }
+    }
+
+    static String parseEndpoint(String line) {
+        if (line.startsWith(DEVTOOLS_LISTENING)) {
+            String url = line.substring(DEVTOOLS_LISTENING.length()).trim();
+            if (url.startsWith("ws://")) {
+                return url;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Creates the FIFOs of the debugging pipe and wraps the command with a shell which
+     * connects them to the file descriptors <code>3</code> and <code>4</code> of the browser.
+     */
+    private void createPipe(Path pipeDir, List<String> list) throws IOException {
+        String in  = pipeDir.resolve("in").toString();
+        String out = pipeDir.resolve("out").toString();
+        try {
+            Process mkfifo = new ProcessBuilder("mkfifo", in, out).start();
+            if (mkfifo.waitFor() != 0) {
+                throw new CdpException("Unable to create the debugging pipe: " + pipeDir);
+            }
+        } catch (InterruptedException e) {
+            throw new CdpException(e);
+        }
+        list.addAll(0, asList("/bin/sh", "-c", "exec \"$0\" \"$@\" 3<\"$CDP4J_PIPE_IN\" 4>\"$CDP4J_PIPE_OUT\""));
+    }
+
+    private static class PipeStreams {
+
+        private volatile FileOutputStream commands;
+
+        private volatile FileInputStream events;
+
+        void close() throws IOException {
+            if (commands != null) {
+                commands.close();
+            }
+            if (events != null) {
+                events.close();
+            }
+        }
+    }
+
+    /**
+     * Opens our ends of the FIFOs in the order of the redirections of the shell.
+     * 
+     * The command pipe is opened write only, a write fails with <code>EPIPE</code> after the browser exits.
+     * The opens block until the shell opens the other ends, they are released if the process exits
+     * or does not open them in time.
+     */
+    private PipeStreams openPipe(Path pipeDir, Process process) throws IOException {
+        File in  = pipeDir.resolve("in").toFile();
+        File out = pipeDir.resolve("out").toFile();
+        PipeStreams streams = new PipeStreams();
+        CompletableFuture<PipeStreams> opened = new CompletableFuture<>();
+        Thread thread = new Thread(() -> {
+            try {
+                streams.commands = new FileOutputStream(in);
+                streams.events   = new FileInputStream(out);
+                opened.complete(streams);
+            } catch (IOException e) {
+                opened.completeExceptionally(e);
+            }
+        }, "cdp4j-pipe");
+        thread.setDaemon(true);
+        thread.start();
+        long deadline = currentTimeMillis() + PIPE_TIMEOUT;
+        try {
+            while ( ! opened.isDone() && process.isAlive() && currentTimeMillis() < deadline ) {
+                try {
+                    opened.get(50, MILLISECONDS);
+                } catch (TimeoutException e) {
+                    // checks the process again
+                }
+            }
+            if (opened.isDone()) {
+                return opened.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new CdpException(e.getCause());
+        }
+        String message = process.isAlive() ?
+                            "The browser did not open the debugging pipe" :
+                            "The browser exited before it opened the debugging pipe";
+        // a FIFO which is opened for read and write does not wait for the other end,
+        // both ends are held until the blocked opens are released
+        try (RandomAccessFile commands = new RandomAccessFile(in, "rw");
+                RandomAccessFile events = new RandomAccessFile(out, "rw")) {
+            thread.join(PIPE_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            streams.close();
+            process.destroyForcibly();
+        }
+        throw new CdpException(message);
+    }
+
+    private static void deletePipe(Path pipeDir) throws IOException {
+        deleteIfExists(pipeDir.resolve("in"));
+        deleteIfExists(pipeDir.resolve("out"));
+        deleteIfExists(pipeDir);
+    }
+
     protected String toString(InputStream is) {
         try (Scanner scanner = new Scanner(is)) {
             scanner.useDelimiter("\\A");
@@ -188,6 +453,43 @@ public class Launcher extends AbstractLauncher {
         }
     }
 
+    /**
+     * Launches the browser with <code>--remote-debugging-pipe</code> instead of <code>--remote-debugging-port</code>.
+     * 
+     * Messages are exchanged over a pair of FIFOs with {@link PipeTransport}, no port is allocated
+     * and many browsers can run on the same host. Requires <code>sh</code> and <code>mkfifo</code>,
+     * not supported on Windows.
+     */
+    public void setPipe(boolean pipe) {
+        if (pipe && WINDOWS) {
+            throw new CdpException("Debugging pipe is not supported on Windows");
+        }
+        this.pipe = pipe;
+    }
+
+    public boolean isPipe() {
+        return pipe;
+    }
+
+    /**
+     * Returns the browser process, <code>null</code> if the browser is not launched.
+     */
+    public CdpProcess getProcess() {
+        return process;
+    }
+
+    /**
+     * Creates the user data directory of the browser from the template of the {@link ProfileManager}
+     * if no <code>--user-data-dir</code> argument is given, the directory is deleted when the browser exits.
+     */
+    public void setProfileManager(ProfileManager profileManager) {
+        this.profileManager = profileManager;
+    }
+
+    public ProfileManager getProfileManager() {
+        return profileManager;
+    }
+
     public void setProcessManager(ProcessManager processManager) {
         this.processManager = processManager;
     }
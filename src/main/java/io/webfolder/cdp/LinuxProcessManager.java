@@ -18,53 +18,227 @@
 package io.webfolder.cdp;
 
 import static java.lang.Class.forName;
-import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.lang.Integer.parseInt;
+import static java.lang.Long.parseLong;
+import static java.lang.System.currentTimeMillis;
+import static java.lang.System.getProperty;
+import static java.lang.Thread.sleep;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.file.Files.exists;
+import static java.nio.file.Files.newDirectoryStream;
+import static java.nio.file.Files.readAllBytes;
+import static java.nio.file.Paths.get;
 
-import java.io.InputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
-import java.util.Scanner;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import io.webfolder.cdp.exception.CdpException;
 
+/**
+ * Finds the process tree of the browser in <code>/proc</code> by the <code>CDP4J_ID</code>
+ * environment variable which is inherited by the renderer, GPU and zygote processes,
+ * including the processes which are re-parented after the browser process exits.
+ * 
+ * {@link #kill()} terminates the tree and kills the processes which are still alive after
+ * {@link #setGracePeriod(long) a grace period}. The processes of the JVMs which are not running
+ * anymore are killed by {@link #reapOrphans()}, it is not called implicitly.
+ */
 public class LinuxProcessManager extends ProcessManager {
 
-    private int pid;
+    private static final Path PROC = get("/proc");
+
+    private static final String CDP4J_ID = "CDP4J_ID";
+
+    private static final String CDP4J_OWNER = "CDP4J_OWNER";
+
+    private static final String VM_RSS = "VmRSS:";
+
+    // USER_HZ of the most kernels
+    private static final long DEFAULT_CLOCK_TICKS = 100;
+
+    private static final boolean JAVA_8 = getProperty("java.version").startsWith("1.8.");
+
+    private volatile int pid;
+
+    private volatile String cdp4jId;
+
+    private volatile long gracePeriod = 5000;
+
+    private interface ProcessVisitor {
+
+        void visit(int pid, Path dir, Map<String, String> markers) throws IOException;
+    }
+
+    // USER_HZ, unit of the cpu times in /proc/[pid]/stat, resolved when the cpu time is read first
+    private static class ClockTicks {
+
+        static final long VALUE = readClockTicks();
+    }
 
-    private String cdp4jId;
+    // ProcessHandle is not available on Java 8, this class is loaded only on Java 9 and later
+    private static class Handles {
+
+        static int getPid(Process process) {
+            return (int) process.pid();
+        }
+
+        static boolean destroy(int pid, boolean force) {
+            return ProcessHandle.of(pid)
+                                .map(handle -> force ? handle.destroyForcibly() : handle.destroy())
+                                .orElse(false);
+        }
+    }
 
     @Override
     void setProcess(CdpProcess process) {
-        try {
-            Field pidField = process.getProcess().getClass().getDeclaredField("pid");
-            pidField.setAccessible(true);
-            this.pid = (int) pidField.get(process.getProcess());
-        } catch (Throwable e) {
-            throw new CdpException(e);
+        if (JAVA_8) {
+            try {
+                Field pidField = process.getProcess().getClass().getDeclaredField("pid");
+                pidField.setAccessible(true);
+                this.pid = (int) pidField.get(process.getProcess());
+            } catch (Throwable e) {
+                throw new CdpException(e);
+            }
+        } else {
+            this.pid = Handles.getPid(process.getProcess());
         }
         this.cdp4jId = process.getCdp4jProcessId();
     }
 
     @Override
     public boolean kill() {
-        ProcessBuilder builder = new ProcessBuilder("strings",
-                                                    "-a",
-                                                    "/proc/" + pid + "/cmdline");
-        try {
-            Process process = builder.start();
-            boolean ok = process.waitFor(5, SECONDS);
-            if ( ! ok ) {
-                return false;
+        List<Integer> tree = getProcessIds();
+        if (tree.isEmpty()) {
+            return false;
+        }
+        terminate(tree, gracePeriod);
+        return true;
+    }
+
+    /**
+     * Returns the process ids of the browser, the browser process is the first one if it is alive.
+     */
+    public List<Integer> getProcessIds() {
+        String cdp4jId = this.cdp4jId;
+        List<Integer> tree = new ArrayList<>();
+        if (cdp4jId == null) {
+            return tree;
+        }
+        forEachProcess((pid, dir, markers) -> {
+            if (cdp4jId.equals(markers.get(CDP4J_ID))) {
+                if (pid == this.pid) {
+                    tree.add(0, pid);
+                } else {
+                    tree.add(pid);
+                }
             }
-            if ( process.exitValue() != 0 ) {
-                return false;
+        });
+        return tree;
+    }
+
+    /**
+     * Returns the resident memory of the browser processes in bytes.
+     */
+    public long getResidentMemory() {
+        long rss = 0;
+        for (Integer next : getProcessIds()) {
+            rss += getResidentMemory(PROC.resolve(String.valueOf(next)));
+        }
+        return rss;
+    }
+
+    /**
+     * Returns the user and system cpu time of the browser processes in milliseconds.
+     * 
+     * The cpu time of the exited renderers is included if the browser process waited for them.
+     */
+    public long getCpuTime() {
+        long ticks = 0;
+        for (Integer next : getProcessIds()) {
+            String[] stat = readStat(PROC.resolve(String.valueOf(next)));
+            if (stat != null && stat.length > 14) {
+                // utime, stime, cutime, cstime
+                ticks += parseLong(stat[11]) + parseLong(stat[12]) +
+                            parseLong(stat[13]) + parseLong(stat[14]);
             }
-            String stdout = toString(process.getInputStream());
-            if ( ! stdout.contains("cdp4jId=" + cdp4jId) ) {
-                return false;
+        }
+        return ticks * 1000 / ClockTicks.VALUE;
+    }
+
+    /**
+     * Kills the browser processes whose JVM is not running, e.g. after the JVM crashed.
+     * 
+     * @return number of the killed processes
+     */
+    public static int reapOrphans() {
+        String self = getSelf();
+        Map<String, Boolean> owners = new HashMap<>();
+        List<Integer> orphans = new ArrayList<>();
+        forEachProcess((pid, dir, markers) -> {
+            String owner = markers.get(CDP4J_OWNER);
+            if (owner == null || markers.get(CDP4J_ID) == null || owner.equals(self)) {
+                return;
+            }
+            boolean alive = owners.computeIfAbsent(owner, o -> isAlive(PROC.resolve(o)));
+            if ( ! alive ) {
+                orphans.add(pid);
+            }
+        });
+        if ( ! orphans.isEmpty() ) {
+            terminate(orphans, 1000);
+        }
+        return orphans.size();
+    }
+
+    /**
+     * Returns the resident memory of the processes in bytes by their <code>CDP4J_ID</code>.
+     */
+    static Map<String, Long> getResidentMemoryById() {
+        Map<String, Long> memory = new HashMap<>();
+        forEachProcess((pid, dir, markers) -> {
+            String id = markers.get(CDP4J_ID);
+            if (id != null) {
+                memory.merge(id, getResidentMemory(dir), Long::sum);
+            }
+        });
+        return memory;
+    }
+
+    private static void terminate(List<Integer> pids, long gracePeriod) {
+        for (Integer next : pids) {
+            signal(next, false);
+        }
+        long deadline = currentTimeMillis() + gracePeriod;
+        List<Integer> alive = new ArrayList<>(pids);
+        while (true) {
+            alive.removeIf(next -> ! isAlive(PROC.resolve(String.valueOf(next))));
+            if (alive.isEmpty() || currentTimeMillis() >= deadline) {
+                break;
+            }
+            try {
+                sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
             }
-        } catch (Throwable e) {
-            return false;
+        }
+        for (Integer next : alive) {
+            signal(next, true);
+        }
+    }
+
+    private static boolean signal(int pid, boolean force) {
+        if ( ! JAVA_8 ) {
+            return Handles.destroy(pid, force);
         }
         try {
             Class<?> clazz = forName("java.lang.UNIXProcess");
@@ -72,7 +246,6 @@ public class LinuxProcessManager extends ProcessManager {
                                                                 int.class,
                                                                 boolean.class);
             destroyProcess.setAccessible(true);
-            boolean force = false;
             destroyProcess.invoke(null, pid, force);
             return true;
         } catch (Throwable e) {
@@ -80,10 +253,137 @@ public class LinuxProcessManager extends ProcessManager {
         }
     }
 
-    protected String toString(InputStream is) {
-        try (Scanner scanner = new Scanner(is)) {
-            scanner.useDelimiter("\\A");
-            return scanner.hasNext() ? scanner.next() : "";
+    private static void forEachProcess(ProcessVisitor visitor) {
+        try (DirectoryStream<Path> stream = newDirectoryStream(PROC, "[0-9]*")) {
+            for (Path next : stream) {
+                try {
+                    Map<String, String> markers = readMarkers(next);
+                    if ( ! markers.isEmpty() ) {
+                        visitor.visit(parseInt(next.getFileName().toString()), next, markers);
+                    }
+                } catch (IOException | RuntimeException e) {
+                    // the process is exited or belongs to another user
+                }
+            }
+        } catch (IOException e) {
+            throw new CdpException(e);
+        }
+    }
+
+    private static Map<String, String> readMarkers(Path dir) throws IOException {
+        return parseMarkers(new String(readAllBytes(dir.resolve("environ")), ISO_8859_1));
+    }
+
+    static Map<String, String> parseMarkers(String environ) {
+        Map<String, String> markers = new HashMap<>();
+        for (String next : environ.split("\0")) {
+            if (next.startsWith(CDP4J_ID + "=")) {
+                markers.put(CDP4J_ID, next.substring(CDP4J_ID.length() + 1));
+            } else if (next.startsWith(CDP4J_OWNER + "=")) {
+                markers.put(CDP4J_OWNER, next.substring(CDP4J_OWNER.length() + 1));
+            }
+        }
+        return markers;
+    }
+
+    private static String[] readStat(Path dir) {
+        try {
+            return parseStat(new String(readAllBytes(dir.resolve("stat")), ISO_8859_1));
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return fields of the stat after the command name, the first one is the state
+     */
+    static String[] parseStat(String stat) {
+        // the command name could contain spaces and parentheses
+        return stat.substring(stat.lastIndexOf(')') + 2).trim().split(" ");
+    }
+
+    static long getResidentMemory(Path dir) {
+        try {
+            return parseResidentMemory(new String(readAllBytes(dir.resolve("status")), ISO_8859_1));
+        } catch (IOException | RuntimeException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Reads <code>VmRSS</code> of the status instead of multiplying the pages of <code>statm</code>,
+     * the page size is not 4 KiB on every architecture.
+     * 
+     * @return resident memory in bytes, <code>0</code> for the kernel threads
+     */
+    static long parseResidentMemory(String status) {
+        for (String next : status.split("\n")) {
+            if (next.startsWith(VM_RSS)) {
+                String[] value = next.substring(VM_RSS.length()).trim().split("\\s+");
+                return parseLong(value[0]) * 1024;
+            }
+        }
+        return 0;
+    }
+
+    private static long readClockTicks() {
+        try {
+            Process process = new ProcessBuilder("getconf", "CLK_TCK").start();
+            process.getOutputStream().close();
+            process.getErrorStream().close();
+            String output;
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), ISO_8859_1))) {
+                output = reader.readLine();
+            }
+            if (process.waitFor() == 0 && output != null) {
+                return parseClockTicks(output);
+            }
+        } catch (IOException | RuntimeException e) {
+            // falls back to the default value
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return DEFAULT_CLOCK_TICKS;
+    }
+
+    static long parseClockTicks(String output) {
+        try {
+            long ticks = parseLong(output.trim());
+            return ticks > 0 ? ticks : DEFAULT_CLOCK_TICKS;
+        } catch (NumberFormatException e) {
+            return DEFAULT_CLOCK_TICKS;
+        }
+    }
+
+    static boolean isAlive(long pid) {
+        return isAlive(PROC.resolve(String.valueOf(pid)));
+    }
+
+    private static boolean isAlive(Path dir) {
+        if ( ! exists(dir) ) {
+            return false;
+        }
+        String[] stat = readStat(dir);
+        // zombie processes are exited
+        return stat == null || ! "Z".equals(stat[0]);
+    }
+
+    private static String getSelf() {
+        try {
+            return PROC.resolve("self").toRealPath().getFileName().toString();
+        } catch (IOException e) {
+            return null;
         }
     }
+
+    /**
+     * Time to wait for the browser processes to exit before they are killed, in milliseconds.
+     */
+    public void setGracePeriod(long gracePeriod) {
+        this.gracePeriod = gracePeriod;
+    }
+
+    public long getGracePeriod() {
+        return gracePeriod;
+    }
 }
@@ -0,0 +1,324 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp;
+
+import static java.lang.Long.parseLong;
+import static java.lang.Long.toHexString;
+import static java.lang.System.getProperty;
+import static java.lang.management.ManagementFactory.getRuntimeMXBean;
+import static java.nio.file.Files.copy;
+import static java.nio.file.Files.createDirectories;
+import static java.nio.file.Files.createDirectory;
+import static java.nio.file.Files.createFile;
+import static java.nio.file.Files.deleteIfExists;
+import static java.nio.file.Files.exists;
+import static java.nio.file.Files.isDirectory;
+import static java.nio.file.Files.move;
+import static java.nio.file.Files.newDirectoryStream;
+import static java.nio.file.Files.walk;
+import static java.nio.file.Paths.get;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.COPY_ATTRIBUTES;
+import static java.util.Arrays.asList;
+import static java.util.Comparator.reverseOrder;
+import static java.util.Locale.ENGLISH;
+import static java.util.concurrent.ThreadLocalRandom.current;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import io.webfolder.cdp.exception.CdpException;
+import io.webfolder.cdp.session.Session;
+import io.webfolder.cdp.session.SessionFactory;
+
+/**
+ * Creates the user data directories of the browsers from a template profile.
+ * 
+ * The template is prepared once by launching the browser, so the first run initialization
+ * is not repeated by each browser. A profile is a copy of the template, the copy is
+ * copy-on-write where the file system supports it (<code>cp --reflink=auto</code> on Linux,
+ * <code>cp -c</code> on macOS). A profile is deleted when its browser exits, the profiles
+ * of the JVMs which are not running anymore are deleted by {@link #collect()}, which runs once
+ * when the manager prepares the profile of its first browser.
+ * 
+ * <pre>
+ * ProfileManager profiles = new ProfileManager();
+ * Launcher launcher = new Launcher(0);
+ * launcher.setProfileManager(profiles);
+ * </pre>
+ */
+public class ProfileManager {
+
+    private static final String OS = getProperty("os.name").toLowerCase(ENGLISH);
+
+    private static final boolean WINDOWS = OS.startsWith("windows");
+
+    private static final boolean OSX = OS.startsWith("mac");
+
+    private static final boolean LINUX = OS.startsWith("linux");
+
+    private static final boolean JAVA_8 = getProperty("java.version").startsWith("1.8.");
+
+    private static final String TEMPLATE = "template";
+
+    // created after the template is prepared
+    private static final String READY = "cdp4j-template";
+
+    // lock files of the browser which must not be copied
+    private static final List<String> LOCK_FILES = asList("SingletonLock", "SingletonSocket",
+                                                            "SingletonCookie", "lockfile");
+
+    private static final int EXIT_TIMEOUT = 10; // 10 seconds
+
+    private final Path root;
+
+    private final String pid = getRuntimeMXBean().getName().split("@")[0];
+
+    private boolean collected;
+
+    // ProcessHandle is not available on Java 8, this class is loaded only on Java 9 and later
+    private static class Handles {
+
+        static boolean isAlive(long pid) {
+            return ProcessHandle.of(pid)
+                                .map(ProcessHandle::isAlive)
+                                .orElse(false);
+        }
+    }
+
+    public ProfileManager() {
+        this(get(getProperty("java.io.tmpdir")).resolve("cdp4j-profiles"));
+    }
+
+    /**
+     * @param root directory of the template and the profiles
+     */
+    public ProfileManager(final Path root) {
+        this.root = root;
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    public Path getTemplate() {
+        return root.resolve(TEMPLATE);
+    }
+
+    public boolean isPrepared() {
+        return exists(getTemplate().resolve(READY));
+    }
+
+    /**
+     * Prepares the template if it is not prepared yet.
+     * 
+     * The browser is launched with the template as its user data directory,
+     * a tab is loaded and the browser is stopped.
+     */
+    public synchronized void prepare(final String chromeExecutablePath, final List<String> arguments) {
+        if ( ! collected ) {
+            // leftovers of the crashed JVMs
+            collected = true;
+            collect();
+        }
+        if (isPrepared()) {
+            return;
+        }
+        Path staging = null;
+        try {
+            createDirectories(root);
+            staging = root.resolve("staging-" + pid + "-" + toHexString(current().nextLong()));
+            createDirectory(staging);
+            List<String> list = new ArrayList<>();
+            for (String next : arguments) {
+                if ( ! next.startsWith("--user-data-dir=") ) {
+                    list.add(next);
+                }
+            }
+            list.add("--user-data-dir=" + staging.toString());
+            Launcher launcher = new Launcher(0);
+            try (SessionFactory factory = launcher.launch(chromeExecutablePath, list)) {
+                try (Session session = factory.create()) {
+                    session.navigate("about:blank");
+                    session.waitDocumentReady();
+                }
+            } finally {
+                launcher.kill();
+                CdpProcess process = launcher.getProcess();
+                if (process != null) {
+                    process.getProcess().waitFor(EXIT_TIMEOUT, SECONDS);
+                }
+            }
+            removeLockFiles(staging);
+            createFile(staging.resolve(READY));
+            try {
+                move(staging, getTemplate(), ATOMIC_MOVE);
+                staging = null;
+            } catch (IOException e) {
+                // prepared by another JVM
+                if ( ! isPrepared() ) {
+                    throw e;
+                }
+            }
+        } catch (IOException e) {
+            throw new CdpException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CdpException(e);
+        } finally {
+            if (staging != null) {
+                deleteDirectory(staging);
+            }
+        }
+    }
+
+    /**
+     * Creates a profile, the profile is empty if the template is not prepared.
+     */
+    public Path create() {
+        Path profile = root.resolve("profile-" + pid + "-" + toHexString(current().nextLong()));
+        try {
+            createDirectories(root);
+            if ( ! isPrepared() ) {
+                return createDirectory(profile);
+            }
+            if ( ! WINDOWS && cloneTemplate(profile) ) {
+                return profile;
+            }
+            deleteDirectory(profile);
+            copyTemplate(profile);
+            return profile;
+        } catch (IOException e) {
+            deleteDirectory(profile);
+            throw new CdpException(e);
+        }
+    }
+
+    /**
+     * @return <code>false</code> if the template can not be cloned, it is copied instead
+     */
+    boolean cloneTemplate(final Path profile) {
+        String template = getTemplate().toString();
+        List<String> command = OSX ?
+                                asList("cp", "-Rc", template, profile.toString()) :
+                                asList("cp", "-a", "--reflink=auto", template, profile.toString());
+        try {
+            Process process = new ProcessBuilder(command).start();
+            process.getOutputStream().close();
+            process.getInputStream().close();
+            process.getErrorStream().close();
+            if (process.waitFor() == 0) {
+                deleteIfExists(profile.resolve(READY));
+                return true;
+            }
+        } catch (IOException e) {
+            // falls back to copy
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CdpException(e);
+        }
+        return false;
+    }
+
+    private void copyTemplate(final Path profile) throws IOException {
+        Path template = getTemplate();
+        try (Stream<Path> paths = walk(template)) {
+            for (Path next : (Iterable<Path>) paths::iterator) {
+                Path target = profile.resolve(template.relativize(next).toString());
+                if (isDirectory(next)) {
+                    createDirectories(target);
+                } else if ( ! READY.equals(next.getFileName().toString()) ) {
+                    copy(next, target, COPY_ATTRIBUTES);
+                }
+            }
+        }
+    }
+
+    /**
+     * Deletes a profile which is created by this manager.
+     */
+    public void delete(final Path profile) {
+        if (profile.getParent() != null && profile.getParent().equals(root) &&
+                profile.getFileName().toString().startsWith("profile-")) {
+            deleteDirectory(profile);
+        }
+    }
+
+    /**
+     * Deletes the profiles and the unfinished templates of the JVMs which are not running.
+     * 
+     * @return number of the deleted directories
+     */
+    public int collect() {
+        int count = 0;
+        if ( ! isDirectory(root) ) {
+            return count;
+        }
+        try (DirectoryStream<Path> stream = newDirectoryStream(root, "{profile,staging}-*")) {
+            for (Path next : stream) {
+                String[] name = next.getFileName().toString().split("-");
+                long owner;
+                try {
+                    owner = parseLong(name[1]);
+                } catch (RuntimeException e) {
+                    continue;
+                }
+                if ( ! name[1].equals(pid) && ! isAlive(owner) ) {
+                    deleteDirectory(next);
+                    count += 1;
+                }
+            }
+        } catch (IOException e) {
+            throw new CdpException(e);
+        }
+        return count;
+    }
+
+    /**
+     * @return <code>true</code> if the process is running or if its state can not be determined
+     */
+    private static boolean isAlive(final long pid) {
+        if ( ! JAVA_8 ) {
+            return Handles.isAlive(pid);
+        }
+        if (LINUX) {
+            return LinuxProcessManager.isAlive(pid);
+        }
+        // the profiles are kept until a JVM which can check the owner collects them
+        return true;
+    }
+
+    private static void removeLockFiles(final Path profile) throws IOException {
+        for (String next : LOCK_FILES) {
+            deleteIfExists(profile.resolve(next));
+        }
+    }
+
+    static void deleteDirectory(final Path dir) {
+        try (Stream<Path> paths = walk(dir)) {
+            paths.sorted(reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            // ignore
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.async;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.annotation.Domain;
+import io.webfolder.cdp.annotation.Experimental;
+import io.webfolder.cdp.type.runtime.RemoteObject;
+
+/**
+ * Asynchronous variant of {@link io.webfolder.cdp.command.Animation}.
+ *
+ * The returned future is completed when the response of the command is received.
+ *
+ * Generated by CommandImplGenerator, do not edit.
+ */
+@Domain("Animation")
+@Experimental
+public interface AsyncAnimation {
+    /**
+     * @see io.webfolder.cdp.command.Animation#disable()
+     */
+    CompletableFuture<Void> disable();
+
+    /**
+     * @see io.webfolder.cdp.command.Animation#enable()
+     */
+    CompletableFuture<Void> enable();
+
+    /**
+     * @see io.webfolder.cdp.command.Animation#getCurrentTime(String)
+     */
+    CompletableFuture<Double> getCurrentTime(String id);
+
+    /**
+     * @see io.webfolder.cdp.command.Animation#getPlaybackRate()
+     */
+    CompletableFuture<Double> getPlaybackRate();
+
+    /**
+     * @see io.webfolder.cdp.command.Animation#releaseAnimations(List)
+     */
+    CompletableFuture<Void> releaseAnimations(List<String> animations);
+
+    /**
+     * @see io.webfolder.cdp.command.Animation#resolveAnimation(String)
+     */
+    CompletableFuture<RemoteObject> resolveAnimation(String animationId);
+
+    /**
+     * @see io.webfolder.cdp.command.Animation#seekAnimations(List, Double)
+     */
+    CompletableFuture<Void> seekAnimations(List<String> animations, Double currentTime);
+
+    /**
+     * @see io.webfolder.cdp.command.Animation#setPaused(List, Boolean)
+     */
+    CompletableFuture<Void> setPaused(List<String> animations, Boolean paused);
+
+    /**
+     * @see io.webfolder.cdp.command.Animation#setPlaybackRate(Double)
+     */
+    CompletableFuture<Void> setPlaybackRate(Double playbackRate);
+
+    /**
+     * @see io.webfolder.cdp.command.Animation#setTiming(String, Double, Double)
+     */
+    CompletableFuture<Void> setTiming(String animationId, Double duration, Double delay);
+}
@@ -0,0 +1,98 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.async;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.annotation.Domain;
+import io.webfolder.cdp.annotation.Experimental;
+import io.webfolder.cdp.annotation.Optional;
+import io.webfolder.cdp.type.browser.Bounds;
+import io.webfolder.cdp.type.browser.GetVersionResult;
+import io.webfolder.cdp.type.browser.GetWindowForTargetResult;
+import io.webfolder.cdp.type.browser.Histogram;
+
+/**
+ * Asynchronous variant of {@link io.webfolder.cdp.command.Browser}.
+ *
+ * The returned future is completed when the response of the command is received.
+ *
+ * Generated by CommandImplGenerator, do not edit.
+ */
+@Domain("Browser")
+public interface AsyncBrowser {
+    /**
+     * @see io.webfolder.cdp.command.Browser#close()
+     */
+    CompletableFuture<Void> close();
+
+    /**
+     * @see io.webfolder.cdp.command.Browser#getBrowserCommandLine()
+     */
+    @Experimental
+    CompletableFuture<List<String>> getBrowserCommandLine();
+
+    /**
+     * @see io.webfolder.cdp.command.Browser#getHistogram(String)
+     */
+    @Experimental
+    CompletableFuture<Histogram> getHistogram(String name);
+
+    /**
+     * @see io.webfolder.cdp.command.Browser#getHistogram(String, Boolean)
+     */
+    @Experimental
+    CompletableFuture<Histogram> getHistogram(String name, @Optional Boolean delta);
+
+    /**
+     * @see io.webfolder.cdp.command.Browser#getHistograms()
+     */
+    @Experimental
+    CompletableFuture<List<Histogram>> getHistograms();
+
+    /**
+     * @see io.webfolder.cdp.command.Browser#getHistograms(String, Boolean)
+     */
+    @Experimental
+    CompletableFuture<List<Histogram>> getHistograms(@Optional String query,
+            @Optional Boolean delta);
+
+    /**
+     * @see io.webfolder.cdp.command.Browser#getVersion()
+     */
+    CompletableFuture<GetVersionResult> getVersion();
+
+    /**
+     * @see io.webfolder.cdp.command.Browser#getWindowBounds(Integer)
+     */
+    @Experimental
+    CompletableFuture<Bounds> getWindowBounds(Integer windowId);
+
+    /**
+     * @see io.webfolder.cdp.command.Browser#getWindowForTarget(String)
+     */
+    @Experimental
+    CompletableFuture<GetWindowForTargetResult> getWindowForTarget(String targetId);
+
+    /**
+     * @see io.webfolder.cdp.command.Browser#setWindowBounds(Integer, Bounds)
+     */
+    @Experimental
+    CompletableFuture<Void> setWindowBounds(Integer windowId, Bounds bounds);
+}
@@ -0,0 +1,160 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.async;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.annotation.Domain;
+import io.webfolder.cdp.annotation.Experimental;
+import io.webfolder.cdp.type.css.CSSComputedStyleProperty;
+import io.webfolder.cdp.type.css.CSSMedia;
+import io.webfolder.cdp.type.css.CSSRule;
+import io.webfolder.cdp.type.css.CSSStyle;
+import io.webfolder.cdp.type.css.GetBackgroundColorsResult;
+import io.webfolder.cdp.type.css.GetInlineStylesForNodeResult;
+import io.webfolder.cdp.type.css.GetMatchedStylesForNodeResult;
+import io.webfolder.cdp.type.css.PlatformFontUsage;
+import io.webfolder.cdp.type.css.RuleUsage;
+import io.webfolder.cdp.type.css.SelectorList;
+import io.webfolder.cdp.type.css.SourceRange;
+import io.webfolder.cdp.type.css.StyleDeclarationEdit;
+import io.webfolder.cdp.type.css.Value;
+
+/**
+ * Asynchronous variant of {@link io.webfolder.cdp.command.CSS}.
+ *
+ * The returned future is completed when the response of the command is received.
+ *
+ * Generated by CommandImplGenerator, do not edit.
+ */
+@Domain("CSS")
+@Experimental
+public interface AsyncCSS {
+    /**
+     * @see io.webfolder.cdp.command.CSS#addRule(String, String, SourceRange)
+     */
+    CompletableFuture<CSSRule> addRule(String styleSheetId, String ruleText, SourceRange location);
+
+    /**
+     * @see io.webfolder.cdp.command.CSS#collectClassNames(String)
+     */
+    CompletableFuture<List<String>> collectClassNames(String styleSheetId);
+
+    /**
+     * @see io.webfolder.cdp.command.CSS#createStyleSheet(String)
+     */
+    CompletableFuture<String> createStyleSheet(String frameId);
+
+    /**
+     * @see io.webfolder.cdp.command.CSS#disable()
+     */
+    CompletableFuture<Void> disable();
+
+    /**
+     * @see io.webfolder.cdp.command.CSS#enable()
+     */
+    CompletableFuture<Void> enable();
+
+    /**
+     * @see io.webfolder.cdp.command.CSS#forcePseudoState(Integer, List)
+     */
+    CompletableFuture<Void> forcePseudoState(Integer nodeId, List<String> forcedPseudoClasses);
+
+    /**
+     * @see io.webfolder.cdp.command.CSS#getBackgroundColors(Integer)
+     */
+    CompletableFuture<GetBackgroundColorsResult> getBackgroundColors(Integer nodeId);
+
+    /**
+     * @see io.webfolder.cdp.command.CSS#getComputedStyleForNode(Integer)
+     */
+    CompletableFuture<List<CSSComputedStyleProperty>> getComputedStyleForNode(Integer nodeId);
+
+    /**
+     * @see io.webfolder.cdp.command.CSS#getInlineStylesForNode(Integer)
+     */
+    CompletableFuture<GetInlineStylesForNodeResult> getInlineStylesForNode(Integer nodeId);
+
+    /**
+     * @see io.webfolder.cdp.command.CSS#getMatchedStylesForNode(Integer)
+     */
+    CompletableFuture<GetMatchedStylesForNodeResult> getMatchedStylesForNode(Integer nodeId);
+
+    /**
+     * @see io.webfolder.cdp.command.CSS#getMediaQueries()
+     */
+    CompletableFuture<List<CSSMedia>> getMediaQueries();
+
+    /**
+     * @see io.webfolder.cdp.command.CSS#getPlatformFontsForNode(Integer)
+     */
+    CompletableFuture<List<PlatformFontUsage>> getPlatformFontsForNode(Integer nodeId);
+
+    /**
+     * @see io.webfolder.cdp.command.CSS#getStyleSheetText(String)
+     */
+    CompletableFuture<String> getStyleSheetText(String styleSheetId);
+
+    /**
+     * @see io.webfolder.cdp.command.CSS#setEffectivePropertyValueForNode(Integer, String, String)
+     */
+    CompletableFuture<Void> setEffectivePropertyValueForNode(Integer nodeId, String propertyName,
+            String value);
+
+    /**
+     * @see io.webfolder.cdp.command.CSS#setKeyframeKey(String, SourceRange, String)
+     */
+    CompletableFuture<Value> setKeyframeKey(String styleSheetId, SourceRange range, String keyText);
+
+    /**
+     * @see io.webfolder.cdp.command.CSS#setMediaText(String, SourceRange, String)
+     */
+    CompletableFuture<CSSMedia> setMediaText(String styleSheetId, SourceRange range, String text);
+
+    /**
+     * @see io.webfolder.cdp.command.CSS#setRuleSelector(String, SourceRange, String)
+     */
+    CompletableFuture<SelectorList> setRuleSelector(String styleSheetId, SourceRange range,
+            String selector);
+
+    /**
+     * @see io.webfolder.cdp.command.CSS#setStyleSheetText(String, String)
+     */
+    CompletableFuture<String> setStyleSheetText(String styleSheetId, String text);
+
+    /**
+     * @see io.webfolder.cdp.command.CSS#setStyleTexts(List)
+     */
+    CompletableFuture<List<CSSStyle>> setStyleTexts(List<StyleDeclarationEdit> edits);
+
+    /**
+     * @see io.webfolder.cdp.command.CSS#startRuleUsageTracking()
+     */
+    CompletableFuture<Void> startRuleUsageTracking();
+
+    /**
+     * @see io.webfolder.cdp.command.CSS#stopRuleUsageTracking()
+     */
+    CompletableFuture<List<RuleUsage>> stopRuleUsageTracking();
+
+    /**
+     * @see io.webfolder.cdp.command.CSS#takeCoverageDelta()
+     */
+    CompletableFuture<List<RuleUsage>> takeCoverageDelta();
+}
@@ -0,0 +1,64 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.async;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.annotation.Domain;
+import io.webfolder.cdp.annotation.Experimental;
+import io.webfolder.cdp.type.cachestorage.Cache;
+import io.webfolder.cdp.type.cachestorage.CachedResponse;
+import io.webfolder.cdp.type.cachestorage.RequestEntriesResult;
+
+/**
+ * Asynchronous variant of {@link io.webfolder.cdp.command.CacheStorage}.
+ *
+ * The returned future is completed when the response of the command is received.
+ *
+ * Generated by CommandImplGenerator, do not edit.
+ */
+@Domain("CacheStorage")
+@Experimental
+public interface AsyncCacheStorage {
+    /**
+     * @see io.webfolder.cdp.command.CacheStorage#deleteCache(String)
+     */
+    CompletableFuture<Void> deleteCache(String cacheId);
+
+    /**
+     * @see io.webfolder.cdp.command.CacheStorage#deleteEntry(String, String)
+     */
+    CompletableFuture<Void> deleteEntry(String cacheId, String request);
+
+    /**
+     * @see io.webfolder.cdp.command.CacheStorage#requestCacheNames(String)
+     */
+    CompletableFuture<List<Cache>> requestCacheNames(String securityOrigin);
+
+    /**
+     * @see io.webfolder.cdp.command.CacheStorage#requestCachedResponse(String, String)
+     */
+    CompletableFuture<CachedResponse> requestCachedResponse(String cacheId, String requestURL);
+
+    /**
+     * @see io.webfolder.cdp.command.CacheStorage#requestEntries(String, Integer, Integer)
+     */
+    CompletableFuture<RequestEntriesResult> requestEntries(String cacheId, Integer skipCount,
+            Integer pageSize);
+}
@@ -0,0 +1,352 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.async;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.annotation.Domain;
+import io.webfolder.cdp.annotation.Experimental;
+import io.webfolder.cdp.annotation.Optional;
+import io.webfolder.cdp.type.dom.BoxModel;
+import io.webfolder.cdp.type.dom.Node;
+import io.webfolder.cdp.type.dom.PerformSearchResult;
+import io.webfolder.cdp.type.runtime.RemoteObject;
+
+/**
+ * Asynchronous variant of {@link io.webfolder.cdp.command.DOM}.
+ *
+ * The returned future is completed when the response of the command is received.
+ *
+ * Generated by CommandImplGenerator, do not edit.
+ */
+@Domain("DOM")
+public interface AsyncDOM {
+    /**
+     * @see io.webfolder.cdp.command.DOM#collectClassNamesFromSubtree(Integer)
+     */
+    @Experimental
+    CompletableFuture<List<String>> collectClassNamesFromSubtree(Integer nodeId);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#copyTo(Integer, Integer)
+     */
+    @Experimental
+    CompletableFuture<Integer> copyTo(Integer nodeId, Integer targetNodeId);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#copyTo(Integer, Integer, Integer)
+     */
+    @Experimental
+    CompletableFuture<Integer> copyTo(Integer nodeId, Integer targetNodeId,
+            @Optional Integer insertBeforeNodeId);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#describeNode()
+     */
+    CompletableFuture<Node> describeNode();
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#describeNode(Integer, Integer, String, Integer, Boolean)
+     */
+    CompletableFuture<Node> describeNode(@Optional Integer nodeId, @Optional Integer backendNodeId,
+            @Optional String objectId, @Optional Integer depth, @Optional Boolean pierce);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#disable()
+     */
+    CompletableFuture<Void> disable();
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#discardSearchResults(String)
+     */
+    @Experimental
+    CompletableFuture<Void> discardSearchResults(String searchId);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#enable()
+     */
+    CompletableFuture<Void> enable();
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#focus()
+     */
+    CompletableFuture<Void> focus();
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#focus(Integer, Integer, String)
+     */
+    CompletableFuture<Void> focus(@Optional Integer nodeId, @Optional Integer backendNodeId,
+            @Optional String objectId);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#getAttributes(Integer)
+     */
+    CompletableFuture<List<String>> getAttributes(Integer nodeId);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#getBoxModel()
+     */
+    CompletableFuture<BoxModel> getBoxModel();
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#getBoxModel(Integer, Integer, String)
+     */
+    CompletableFuture<BoxModel> getBoxModel(@Optional Integer nodeId,
+            @Optional Integer backendNodeId, @Optional String objectId);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#getContentQuads()
+     */
+    @Experimental
+    CompletableFuture<List<Double>> getContentQuads();
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#getContentQuads(Integer, Integer, String)
+     */
+    @Experimental
+    CompletableFuture<List<List<Double>>> getContentQuads(@Optional Integer nodeId,
+            @Optional Integer backendNodeId, @Optional String objectId);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#getDocument()
+     */
+    CompletableFuture<Node> getDocument();
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#getDocument(Integer, Boolean)
+     */
+    CompletableFuture<Node> getDocument(@Optional Integer depth, @Optional Boolean pierce);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#getFlattenedDocument()
+     */
+    CompletableFuture<List<Node>> getFlattenedDocument();
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#getFlattenedDocument(Integer, Boolean)
+     */
+    CompletableFuture<List<Node>> getFlattenedDocument(@Optional Integer depth,
+            @Optional Boolean pierce);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#getFrameOwner(String)
+     */
+    @Experimental
+    CompletableFuture<Integer> getFrameOwner(String frameId);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#getNodeForLocation(Integer, Integer)
+     */
+    @Experimental
+    CompletableFuture<Integer> getNodeForLocation(Integer x, Integer y);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#getNodeForLocation(Integer, Integer, Boolean)
+     */
+    @Experimental
+    CompletableFuture<Integer> getNodeForLocation(Integer x, Integer y,
+            @Optional Boolean includeUserAgentShadowDOM);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#getOuterHTML()
+     */
+    CompletableFuture<String> getOuterHTML();
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#getOuterHTML(Integer, Integer, String)
+     */
+    CompletableFuture<String> getOuterHTML(@Optional Integer nodeId,
+            @Optional Integer backendNodeId, @Optional String objectId);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#getRelayoutBoundary(Integer)
+     */
+    @Experimental
+    CompletableFuture<Integer> getRelayoutBoundary(Integer nodeId);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#getSearchResults(String, Integer, Integer)
+     */
+    @Experimental
+    CompletableFuture<List<Integer>> getSearchResults(String searchId, Integer fromIndex,
+            Integer toIndex);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#hideHighlight()
+     */
+    CompletableFuture<Void> hideHighlight();
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#highlightNode()
+     */
+    CompletableFuture<Void> highlightNode();
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#highlightRect()
+     */
+    CompletableFuture<Void> highlightRect();
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#markUndoableState()
+     */
+    @Experimental
+    CompletableFuture<Void> markUndoableState();
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#moveTo(Integer, Integer)
+     */
+    CompletableFuture<Integer> moveTo(Integer nodeId, Integer targetNodeId);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#moveTo(Integer, Integer, Integer)
+     */
+    CompletableFuture<Integer> moveTo(Integer nodeId, Integer targetNodeId,
+            @Optional Integer insertBeforeNodeId);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#performSearch(String)
+     */
+    @Experimental
+    CompletableFuture<PerformSearchResult> performSearch(String query);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#performSearch(String, Boolean)
+     */
+    @Experimental
+    CompletableFuture<PerformSearchResult> performSearch(String query,
+            @Optional Boolean includeUserAgentShadowDOM);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#pushNodeByPathToFrontend(String)
+     */
+    @Experimental
+    CompletableFuture<Integer> pushNodeByPathToFrontend(String path);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#pushNodesByBackendIdsToFrontend(List)
+     */
+    @Experimental
+    CompletableFuture<List<Integer>> pushNodesByBackendIdsToFrontend(List<Integer> backendNodeIds);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#querySelector(Integer, String)
+     */
+    CompletableFuture<Integer> querySelector(Integer nodeId, String selector);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#querySelectorAll(Integer, String)
+     */
+    CompletableFuture<List<Integer>> querySelectorAll(Integer nodeId, String selector);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#redo()
+     */
+    @Experimental
+    CompletableFuture<Void> redo();
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#removeAttribute(Integer, String)
+     */
+    CompletableFuture<Void> removeAttribute(Integer nodeId, String name);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#removeNode(Integer)
+     */
+    CompletableFuture<Void> removeNode(Integer nodeId);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#requestChildNodes(Integer)
+     */
+    CompletableFuture<Void> requestChildNodes(Integer nodeId);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#requestChildNodes(Integer, Integer, Boolean)
+     */
+    CompletableFuture<Void> requestChildNodes(Integer nodeId, @Optional Integer depth,
+            @Optional Boolean pierce);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#requestNode(String)
+     */
+    CompletableFuture<Integer> requestNode(String objectId);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#resolveNode()
+     */
+    CompletableFuture<RemoteObject> resolveNode();
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#resolveNode(Integer, Integer, String)
+     */
+    CompletableFuture<RemoteObject> resolveNode(@Optional Integer nodeId,
+            @Optional Integer backendNodeId, @Optional String objectGroup);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#setAttributeValue(Integer, String, String)
+     */
+    CompletableFuture<Void> setAttributeValue(Integer nodeId, String name, String value);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#setAttributesAsText(Integer, String)
+     */
+    CompletableFuture<Void> setAttributesAsText(Integer nodeId, String text);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#setAttributesAsText(Integer, String, String)
+     */
+    CompletableFuture<Void> setAttributesAsText(Integer nodeId, String text, @Optional String name);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#setFileInputFiles(List)
+     */
+    CompletableFuture<Void> setFileInputFiles(List<String> files);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#setFileInputFiles(List, Integer, Integer, String)
+     */
+    CompletableFuture<Void> setFileInputFiles(List<String> files, @Optional Integer nodeId,
+            @Optional Integer backendNodeId, @Optional String objectId);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#setInspectedNode(Integer)
+     */
+    @Experimental
+    CompletableFuture<Void> setInspectedNode(Integer nodeId);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#setNodeName(Integer, String)
+     */
+    CompletableFuture<Integer> setNodeName(Integer nodeId, String name);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#setNodeValue(Integer, String)
+     */
+    CompletableFuture<Void> setNodeValue(Integer nodeId, String value);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#setOuterHTML(Integer, String)
+     */
+    CompletableFuture<Void> setOuterHTML(Integer nodeId, String outerHTML);
+
+    /**
+     * @see io.webfolder.cdp.command.DOM#undo()
+     */
+    @Experimental
+    CompletableFuture<Void> undo();
+}
@@ -0,0 +1,102 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.async;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.annotation.Domain;
+import io.webfolder.cdp.annotation.Experimental;
+import io.webfolder.cdp.annotation.Optional;
+import io.webfolder.cdp.type.domdebugger.DOMBreakpointType;
+import io.webfolder.cdp.type.domdebugger.EventListener;
+
+/**
+ * Asynchronous variant of {@link io.webfolder.cdp.command.DOMDebugger}.
+ *
+ * The returned future is completed when the response of the command is received.
+ *
+ * Generated by CommandImplGenerator, do not edit.
+ */
+@Domain("DOMDebugger")
+public interface AsyncDOMDebugger {
+    /**
+     * @see io.webfolder.cdp.command.DOMDebugger#getEventListeners(String)
+     */
+    CompletableFuture<List<EventListener>> getEventListeners(String objectId);
+
+    /**
+     * @see io.webfolder.cdp.command.DOMDebugger#getEventListeners(String, Integer, Boolean)
+     */
+    CompletableFuture<List<EventListener>> getEventListeners(String objectId,
+            @Optional Integer depth, @Optional Boolean pierce);
+
+    /**
+     * @see io.webfolder.cdp.command.DOMDebugger#removeDOMBreakpoint(Integer, DOMBreakpointType)
+     */
+    CompletableFuture<Void> removeDOMBreakpoint(Integer nodeId, DOMBreakpointType type);
+
+    /**
+     * @see io.webfolder.cdp.command.DOMDebugger#removeEventListenerBreakpoint(String)
+     */
+    CompletableFuture<Void> removeEventListenerBreakpoint(String eventName);
+
+    /**
+     * @see io.webfolder.cdp.command.DOMDebugger#removeEventListenerBreakpoint(String, String)
+     */
+    CompletableFuture<Void> removeEventListenerBreakpoint(String eventName,
+            @Experimental @Optional String targetName);
+
+    /**
+     * @see io.webfolder.cdp.command.DOMDebugger#removeInstrumentationBreakpoint(String)
+     */
+    @Experimental
+    CompletableFuture<Void> removeInstrumentationBreakpoint(String eventName);
+
+    /**
+     * @see io.webfolder.cdp.command.DOMDebugger#removeXHRBreakpoint(String)
+     */
+    CompletableFuture<Void> removeXHRBreakpoint(String url);
+
+    /**
+     * @see io.webfolder.cdp.command.DOMDebugger#setDOMBreakpoint(Integer, DOMBreakpointType)
+     */
+    CompletableFuture<Void> setDOMBreakpoint(Integer nodeId, DOMBreakpointType type);
+
+    /**
+     * @see io.webfolder.cdp.command.DOMDebugger#setEventListenerBreakpoint(String)
+     */
+    CompletableFuture<Void> setEventListenerBreakpoint(String eventName);
+
+    /**
+     * @see io.webfolder.cdp.command.DOMDebugger#setEventListenerBreakpoint(String, String)
+     */
+    CompletableFuture<Void> setEventListenerBreakpoint(String eventName,
+            @Experimental @Optional String targetName);
+
+    /**
+     * @see io.webfolder.cdp.command.DOMDebugger#setInstrumentationBreakpoint(String)
+     */
+    @Experimental
+    CompletableFuture<Void> setInstrumentationBreakpoint(String eventName);
+
+    /**
+     * @see io.webfolder.cdp.command.DOMDebugger#setXHRBreakpoint(String)
+     */
+    CompletableFuture<Void> setXHRBreakpoint(String url);
+}
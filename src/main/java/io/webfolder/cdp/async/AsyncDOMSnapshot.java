@@ -0,0 +1,65 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.async;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.annotation.Domain;
+import io.webfolder.cdp.annotation.Experimental;
+import io.webfolder.cdp.annotation.Optional;
+import io.webfolder.cdp.type.domsnapshot.CaptureSnapshotResult;
+import io.webfolder.cdp.type.domsnapshot.GetSnapshotResult;
+
+/**
+ * Asynchronous variant of {@link io.webfolder.cdp.command.DOMSnapshot}.
+ *
+ * The returned future is completed when the response of the command is received.
+ *
+ * Generated by CommandImplGenerator, do not edit.
+ */
+@Domain("DOMSnapshot")
+@Experimental
+public interface AsyncDOMSnapshot {
+    /**
+     * @see io.webfolder.cdp.command.DOMSnapshot#captureSnapshot(List)
+     */
+    CompletableFuture<CaptureSnapshotResult> captureSnapshot(List<String> computedStyles);
+
+    /**
+     * @see io.webfolder.cdp.command.DOMSnapshot#disable()
+     */
+    CompletableFuture<Void> disable();
+
+    /**
+     * @see io.webfolder.cdp.command.DOMSnapshot#enable()
+     */
+    CompletableFuture<Void> enable();
+
+    /**
+     * @see io.webfolder.cdp.command.DOMSnapshot#getSnapshot(List)
+     */
+    CompletableFuture<GetSnapshotResult> getSnapshot(List<String> computedStyleWhitelist);
+
+    /**
+     * @see io.webfolder.cdp.command.DOMSnapshot#getSnapshot(List, Boolean, Boolean, Boolean)
+     */
+    CompletableFuture<GetSnapshotResult> getSnapshot(List<String> computedStyleWhitelist,
+            @Optional Boolean includeEventListeners, @Optional Boolean includePaintOrder,
+            @Optional Boolean includeUserAgentShadowTree);
+}
@@ -0,0 +1,66 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.async;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.annotation.Domain;
+import io.webfolder.cdp.annotation.Experimental;
+import io.webfolder.cdp.type.domstorage.StorageId;
+
+/**
+ * Asynchronous variant of {@link io.webfolder.cdp.command.DOMStorage}.
+ *
+ * The returned future is completed when the response of the command is received.
+ *
+ * Generated by CommandImplGenerator, do not edit.
+ */
+@Domain("DOMStorage")
+@Experimental
+public interface AsyncDOMStorage {
+    /**
+     * @see io.webfolder.cdp.command.DOMStorage#clear(StorageId)
+     */
+    CompletableFuture<Void> clear(StorageId storageId);
+
+    /**
+     * @see io.webfolder.cdp.command.DOMStorage#disable()
+     */
+    CompletableFuture<Void> disable();
+
+    /**
+     * @see io.webfolder.cdp.command.DOMStorage#enable()
+     */
+    CompletableFuture<Void> enable();
+
+    /**
+     * @see io.webfolder.cdp.command.DOMStorage#getDOMStorageItems(StorageId)
+     */
+    CompletableFuture<List<String>> getDOMStorageItems(StorageId storageId);
+
+    /**
+     * @see io.webfolder.cdp.command.DOMStorage#removeDOMStorageItem(StorageId, String)
+     */
+    CompletableFuture<Void> removeDOMStorageItem(StorageId storageId, String key);
+
+    /**
+     * @see io.webfolder.cdp.command.DOMStorage#setDOMStorageItem(StorageId, String, String)
+     */
+    CompletableFuture<Void> setDOMStorageItem(StorageId storageId, String key, String value);
+}
@@ -0,0 +1,261 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.async;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.annotation.Domain;
+import io.webfolder.cdp.annotation.Experimental;
+import io.webfolder.cdp.annotation.Optional;
+import io.webfolder.cdp.type.constant.PauseOnExceptionState;
+import io.webfolder.cdp.type.constant.TargetCallFrames;
+import io.webfolder.cdp.type.debugger.BreakLocation;
+import io.webfolder.cdp.type.debugger.EvaluateOnCallFrameResult;
+import io.webfolder.cdp.type.debugger.Location;
+import io.webfolder.cdp.type.debugger.RestartFrameResult;
+import io.webfolder.cdp.type.debugger.ScriptPosition;
+import io.webfolder.cdp.type.debugger.SearchMatch;
+import io.webfolder.cdp.type.debugger.SetBreakpointByUrlResult;
+import io.webfolder.cdp.type.debugger.SetBreakpointResult;
+import io.webfolder.cdp.type.debugger.SetScriptSourceResult;
+import io.webfolder.cdp.type.runtime.CallArgument;
+import io.webfolder.cdp.type.runtime.StackTrace;
+import io.webfolder.cdp.type.runtime.StackTraceId;
+
+/**
+ * Asynchronous variant of {@link io.webfolder.cdp.command.Debugger}.
+ *
+ * The returned future is completed when the response of the command is received.
+ *
+ * Generated by CommandImplGenerator, do not edit.
+ */
+@Domain("Debugger")
+public interface AsyncDebugger {
+    /**
+     * @see io.webfolder.cdp.command.Debugger#continueToLocation(Location)
+     */
+    CompletableFuture<Void> continueToLocation(Location location);
+
+    /**
+     * @see io.webfolder.cdp.command.Debugger#continueToLocation(Location, TargetCallFrames)
+     */
+    CompletableFuture<Void> continueToLocation(Location location,
+            @Optional TargetCallFrames targetCallFrames);
+
+    /**
+     * @see io.webfolder.cdp.command.Debugger#disable()
+     */
+    CompletableFuture<Void> disable();
+
+    /**
+     * @see io.webfolder.cdp.command.Debugger#enable()
+     */
+    CompletableFuture<String> enable();
+
+    /**
+     * @see io.webfolder.cdp.command.Debugger#evaluateOnCallFrame(String, String)
+     */
+    CompletableFuture<EvaluateOnCallFrameResult> evaluateOnCallFrame(String callFrameId,
+            String expression);
+
+    /**
+     * @see io.webfolder.cdp.command.Debugger#evaluateOnCallFrame(String, String, String, Boolean, Boolean, Boolean, Boolean, Boolean, Double)
+     */
+    CompletableFuture<EvaluateOnCallFrameResult> evaluateOnCallFrame(String callFrameId,
+            String expression, @Optional String objectGroup,
+            @Optional Boolean includeCommandLineAPI, @Optional Boolean silent,
+            @Optional Boolean returnByValue, @Experimental @Optional Boolean generatePreview,
+            @Optional Boolean throwOnSideEffect, @Experimental @Optional Double timeout);
+
+    /**
+     * @see io.webfolder.cdp.command.Debugger#getPossibleBreakpoints(Location)
+     */
+    CompletableFuture<List<BreakLocation>> getPossibleBreakpoints(Location start);
+
+    /**
+     * @see io.webfolder.cdp.command.Debugger#getPossibleBreakpoints(Location, Location, Boolean)
+     */
+    CompletableFuture<List<BreakLocation>> getPossibleBreakpoints(Location start,
+            @Optional Location end, @Optional Boolean restrictToFunction);
+
+    /**
+     * @see io.webfolder.cdp.command.Debugger#getScriptSource(String)
+     */
+    CompletableFuture<String> getScriptSource(String scriptId);
+
+    /**
+     * @see io.webfolder.cdp.command.Debugger#getStackTrace(StackTraceId)
+     */
+    @Experimental
+    CompletableFuture<StackTrace> getStackTrace(StackTraceId stackTraceId);
+
+    /**
+     * @see io.webfolder.cdp.command.Debugger#pause()
+     */
+    CompletableFuture<Void> pause();
+
+    /**
+     * @see io.webfolder.cdp.command.Debugger#pauseOnAsyncCall(StackTraceId)
+     */
+    @Experimental
+    CompletableFuture<Void> pauseOnAsyncCall(StackTraceId parentStackTraceId);
+
+    /**
+     * @see io.webfolder.cdp.command.Debugger#removeBreakpoint(String)
+     */
+    CompletableFuture<Void> removeBreakpoint(String breakpointId);
+
+    /**
+     * @see io.webfolder.cdp.command.Debugger#restartFrame(String)
+     */
+    CompletableFuture<RestartFrameResult> restartFrame(String callFrameId);
+
+    /**
+     * @see io.webfolder.cdp.command.Debugger#resume()
+     */
+    CompletableFuture<Void> resume();
+
+    /**
+     * @see io.webfolder.cdp.command.Debugger#scheduleStepIntoAsync()
+     */
+    @Experimental
+    CompletableFuture<Void> scheduleStepIntoAsync();
+
+    /**
+     * @see io.webfolder.cdp.command.Debugger#searchInContent(String, String)
+     */
+    CompletableFuture<List<SearchMatch>> searchInContent(String scriptId, String query);
+
+    /**
+     * @see io.webfolder.cdp.command.Debugger#searchInContent(String, String, Boolean, Boolean)
+     */
+    CompletableFuture<List<SearchMatch>> searchInContent(String scriptId, String query,
+            @Optional Boolean caseSensitive, @Optional Boolean isRegex);
+
+    /**
+     * @see io.webfolder.cdp.command.Debugger#setAsyncCallStackDepth(Integer)
+     */
+    CompletableFuture<Void> setAsyncCallStackDepth(Integer maxDepth);
+
+    /**
+     * @see io.webfolder.cdp.command.Debugger#setBlackboxPatterns(List)
+     */
+    @Experimental
+    CompletableFuture<Void> setBlackboxPatterns(List<String> patterns);
+
+    /**
+     * @see io.webfolder.cdp.command.Debugger#setBlackboxedRanges(String, List)
+     */
+    @Experimental
+    CompletableFuture<Void> setBlackboxedRanges(String scriptId, List<ScriptPosition> positions);
+
+    /**
+     * @see io.webfolder.cdp.command.Debugger#setBreakpoint(Location)
+     */
+    CompletableFuture<SetBreakpointResult> setBreakpoint(Location location);
+
+    /**
+     * @see io.webfolder.cdp.command.Debugger#setBreakpoint(Location, String)
+     */
+    CompletableFuture<SetBreakpointResult> setBreakpoint(Location location,
+            @Optional String condition);
+
+    /**
+     * @see io.webfolder.cdp.command.Debugger#setBreakpointByUrl(Integer)
+     */
+    CompletableFuture<SetBreakpointByUrlResult> setBreakpointByUrl(Integer lineNumber);
+
+    /**
+     * @see io.webfolder.cdp.command.Debugger#setBreakpointByUrl(Integer, String, String, String, Integer, String)
+     */
+    CompletableFuture<SetBreakpointByUrlResult> setBreakpointByUrl(Integer lineNumber,
+            @Optional String url, @Optional String urlRegex, @Optional String scriptHash,
+            @Optional Integer columnNumber, @Optional String condition);
+
+    /**
+     * @see io.webfolder.cdp.command.Debugger#setBreakpointOnFunctionCall(String)
+     */
+    @Experimental
+    CompletableFuture<String> setBreakpointOnFunctionCall(String objectId);
+
+    /**
+     * @see io.webfolder.cdp.command.Debugger#setBreakpointOnFunctionCall(String, String)
+     */
+    @Experimental
+    CompletableFuture<String> setBreakpointOnFunctionCall(String objectId,
+            @Optional String condition);
+
+    /**
+     * @see io.webfolder.cdp.command.Debugger#setBreakpointsActive(Boolean)
+     */
+    CompletableFuture<Void> setBreakpointsActive(Boolean active);
+
+    /**
+     * @see io.webfolder.cdp.command.Debugger#setPauseOnExceptions(PauseOnExceptionState)
+     */
+    CompletableFuture<Void> setPauseOnExceptions(PauseOnExceptionState state);
+
+    /**
+     * @see io.webfolder.cdp.command.Debugger#setReturnValue(CallArgument)
+     */
+    @Experimental
+    CompletableFuture<Void> setReturnValue(CallArgument newValue);
+
+    /**
+     * @see io.webfolder.cdp.command.Debugger#setScriptSource(String, String)
+     */
+    CompletableFuture<SetScriptSourceResult> setScriptSource(String scriptId, String scriptSource);
+
+    /**
+     * @see io.webfolder.cdp.command.Debugger#setScriptSource(String, String, Boolean)
+     */
+    CompletableFuture<SetScriptSourceResult> setScriptSource(String scriptId, String scriptSource,
+            @Optional Boolean dryRun);
+
+    /**
+     * @see io.webfolder.cdp.command.Debugger#setSkipAllPauses(Boolean)
+     */
+    CompletableFuture<Void> setSkipAllPauses(Boolean skip);
+
+    /**
+     * @see io.webfolder.cdp.command.Debugger#setVariableValue(Integer, String, CallArgument, String)
+     */
+    CompletableFuture<Void> setVariableValue(Integer scopeNumber, String variableName,
+            CallArgument newValue, String callFrameId);
+
+    /**
+     * @see io.webfolder.cdp.command.Debugger#stepInto()
+     */
+    CompletableFuture<Void> stepInto();
+
+    /**
+     * @see io.webfolder.cdp.command.Debugger#stepInto(Boolean)
+     */
+    CompletableFuture<Void> stepInto(@Experimental @Optional Boolean breakOnAsyncCall);
+
+    /**
+     * @see io.webfolder.cdp.command.Debugger#stepOut()
+     */
+    CompletableFuture<Void> stepOut();
+
+    /**
+     * @see io.webfolder.cdp.command.Debugger#stepOver()
+     */
+    CompletableFuture<Void> stepOver();
+}
@@ -0,0 +1,194 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.async;
+
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.annotation.Domain;
+import io.webfolder.cdp.annotation.Experimental;
+import io.webfolder.cdp.annotation.Optional;
+import io.webfolder.cdp.type.constant.Platform;
+import io.webfolder.cdp.type.dom.RGBA;
+import io.webfolder.cdp.type.emulation.ScreenOrientation;
+import io.webfolder.cdp.type.emulation.VirtualTimePolicy;
+import io.webfolder.cdp.type.page.Viewport;
+
+/**
+ * Asynchronous variant of {@link io.webfolder.cdp.command.Emulation}.
+ *
+ * The returned future is completed when the response of the command is received.
+ *
+ * Generated by CommandImplGenerator, do not edit.
+ */
+@Domain("Emulation")
+public interface AsyncEmulation {
+    /**
+     * @see io.webfolder.cdp.command.Emulation#canEmulate()
+     */
+    CompletableFuture<Boolean> canEmulate();
+
+    /**
+     * @see io.webfolder.cdp.command.Emulation#clearDeviceMetricsOverride()
+     */
+    CompletableFuture<Void> clearDeviceMetricsOverride();
+
+    /**
+     * @see io.webfolder.cdp.command.Emulation#clearGeolocationOverride()
+     */
+    CompletableFuture<Void> clearGeolocationOverride();
+
+    /**
+     * @see io.webfolder.cdp.command.Emulation#resetPageScaleFactor()
+     */
+    @Experimental
+    CompletableFuture<Void> resetPageScaleFactor();
+
+    /**
+     * @see io.webfolder.cdp.command.Emulation#setCPUThrottlingRate(Double)
+     */
+    @Experimental
+    CompletableFuture<Void> setCPUThrottlingRate(Double rate);
+
+    /**
+     * @see io.webfolder.cdp.command.Emulation#setDefaultBackgroundColorOverride()
+     */
+    CompletableFuture<Void> setDefaultBackgroundColorOverride();
+
+    /**
+     * @see io.webfolder.cdp.command.Emulation#setDefaultBackgroundColorOverride(RGBA)
+     */
+    CompletableFuture<Void> setDefaultBackgroundColorOverride(@Optional RGBA color);
+
+    /**
+     * @see io.webfolder.cdp.command.Emulation#setDeviceMetricsOverride(Integer, Integer, Double, Boolean)
+     */
+    CompletableFuture<Void> setDeviceMetricsOverride(Integer width, Integer height,
+            Double deviceScaleFactor, Boolean mobile);
+
+    /**
+     * @see io.webfolder.cdp.command.Emulation#setDeviceMetricsOverride(Integer, Integer, Double, Boolean, Double, Integer, Integer, Integer, Integer, Boolean, ScreenOrientation, Viewport)
+     */
+    CompletableFuture<Void> setDeviceMetricsOverride(Integer width, Integer height,
+            Double deviceScaleFactor, Boolean mobile, @Experimental @Optional Double scale,
+            @Experimental @Optional Integer screenWidth,
+            @Experimental @Optional Integer screenHeight, @Experimental @Optional Integer positionX,
+            @Experimental @Optional Integer positionY,
+            @Experimental @Optional Boolean dontSetVisibleSize,
+            @Optional ScreenOrientation screenOrientation,
+            @Experimental @Optional Viewport viewport);
+
+    /**
+     * @see io.webfolder.cdp.command.Emulation#setDocumentCookieDisabled(Boolean)
+     */
+    @Experimental
+    CompletableFuture<Void> setDocumentCookieDisabled(Boolean disabled);
+
+    /**
+     * @see io.webfolder.cdp.command.Emulation#setEmitTouchEventsForMouse(Boolean)
+     */
+    @Experimental
+    CompletableFuture<Void> setEmitTouchEventsForMouse(Boolean enabled);
+
+    /**
+     * @see io.webfolder.cdp.command.Emulation#setEmitTouchEventsForMouse(Boolean, Platform)
+     */
+    @Experimental
+    CompletableFuture<Void> setEmitTouchEventsForMouse(Boolean enabled,
+            @Optional Platform configuration);
+
+    /**
+     * @see io.webfolder.cdp.command.Emulation#setEmulatedMedia(String)
+     */
+    CompletableFuture<Void> setEmulatedMedia(String media);
+
+    /**
+     * @see io.webfolder.cdp.command.Emulation#setGeolocationOverride()
+     */
+    CompletableFuture<Void> setGeolocationOverride();
+
+    /**
+     * @see io.webfolder.cdp.command.Emulation#setGeolocationOverride(Double, Double, Double)
+     */
+    CompletableFuture<Void> setGeolocationOverride(@Optional Double latitude,
+            @Optional Double longitude, @Optional Double accuracy);
+
+    /**
+     * @see io.webfolder.cdp.command.Emulation#setNavigatorOverrides(String)
+     */
+    @Experimental
+    CompletableFuture<Void> setNavigatorOverrides(String platform);
+
+    /**
+     * @see io.webfolder.cdp.command.Emulation#setPageScaleFactor(Double)
+     */
+    @Experimental
+    CompletableFuture<Void> setPageScaleFactor(Double pageScaleFactor);
+
+    /**
+     * @see io.webfolder.cdp.command.Emulation#setScriptExecutionDisabled(Boolean)
+     */
+    CompletableFuture<Void> setScriptExecutionDisabled(Boolean value);
+
+    /**
+     * @see io.webfolder.cdp.command.Emulation#setScrollbarsHidden(Boolean)
+     */
+    @Experimental
+    CompletableFuture<Void> setScrollbarsHidden(Boolean hidden);
+
+    /**
+     * @see io.webfolder.cdp.command.Emulation#setTouchEmulationEnabled(Boolean)
+     */
+    CompletableFuture<Void> setTouchEmulationEnabled(Boolean enabled);
+
+    /**
+     * @see io.webfolder.cdp.command.Emulation#setTouchEmulationEnabled(Boolean, Integer)
+     */
+    CompletableFuture<Void> setTouchEmulationEnabled(Boolean enabled,
+            @Optional Integer maxTouchPoints);
+
+    /**
+     * @see io.webfolder.cdp.command.Emulation#setUserAgentOverride(String)
+     */
+    CompletableFuture<Void> setUserAgentOverride(String userAgent);
+
+    /**
+     * @see io.webfolder.cdp.command.Emulation#setUserAgentOverride(String, String, String)
+     */
+    CompletableFuture<Void> setUserAgentOverride(String userAgent, @Optional String acceptLanguage,
+            @Optional String platform);
+
+    /**
+     * @see io.webfolder.cdp.command.Emulation#setVirtualTimePolicy(VirtualTimePolicy)
+     */
+    @Experimental
+    CompletableFuture<Double> setVirtualTimePolicy(VirtualTimePolicy policy);
+
+    /**
+     * @see io.webfolder.cdp.command.Emulation#setVirtualTimePolicy(VirtualTimePolicy, Double, Integer, Boolean, Double)
+     */
+    @Experimental
+    CompletableFuture<Double> setVirtualTimePolicy(VirtualTimePolicy policy,
+            @Optional Double budget, @Optional Integer maxVirtualTimeTaskStarvationCount,
+            @Optional Boolean waitForNavigation, @Optional Double initialVirtualTime);
+
+    /**
+     * @see io.webfolder.cdp.command.Emulation#setVisibleSize(Integer, Integer)
+     */
+    @Experimental
+    CompletableFuture<Void> setVisibleSize(Integer width, Integer height);
+}
@@ -0,0 +1,123 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.async;
+
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.annotation.Domain;
+import io.webfolder.cdp.annotation.Experimental;
+import io.webfolder.cdp.annotation.Optional;
+import io.webfolder.cdp.type.heapprofiler.SamplingHeapProfile;
+import io.webfolder.cdp.type.runtime.RemoteObject;
+
+/**
+ * Asynchronous variant of {@link io.webfolder.cdp.command.HeapProfiler}.
+ *
+ * The returned future is completed when the response of the command is received.
+ *
+ * Generated by CommandImplGenerator, do not edit.
+ */
+@Domain("HeapProfiler")
+@Experimental
+public interface AsyncHeapProfiler {
+    /**
+     * @see io.webfolder.cdp.command.HeapProfiler#addInspectedHeapObject(String)
+     */
+    CompletableFuture<Void> addInspectedHeapObject(String heapObjectId);
+
+    /**
+     * @see io.webfolder.cdp.command.HeapProfiler#collectGarbage()
+     */
+    CompletableFuture<Void> collectGarbage();
+
+    /**
+     * @see io.webfolder.cdp.command.HeapProfiler#disable()
+     */
+    CompletableFuture<Void> disable();
+
+    /**
+     * @see io.webfolder.cdp.command.HeapProfiler#enable()
+     */
+    CompletableFuture<Void> enable();
+
+    /**
+     * @see io.webfolder.cdp.command.HeapProfiler#getHeapObjectId(String)
+     */
+    CompletableFuture<String> getHeapObjectId(String objectId);
+
+    /**
+     * @see io.webfolder.cdp.command.HeapProfiler#getObjectByHeapObjectId(String)
+     */
+    CompletableFuture<RemoteObject> getObjectByHeapObjectId(String objectId);
+
+    /**
+     * @see io.webfolder.cdp.command.HeapProfiler#getObjectByHeapObjectId(String, String)
+     */
+    CompletableFuture<RemoteObject> getObjectByHeapObjectId(String objectId,
+            @Optional String objectGroup);
+
+    /**
+     * @see io.webfolder.cdp.command.HeapProfiler#getSamplingProfile()
+     */
+    CompletableFuture<SamplingHeapProfile> getSamplingProfile();
+
+    /**
+     * @see io.webfolder.cdp.command.HeapProfiler#startSampling()
+     */
+    CompletableFuture<Void> startSampling();
+
+    /**
+     * @see io.webfolder.cdp.command.HeapProfiler#startSampling(Double)
+     */
+    CompletableFuture<Void> startSampling(@Optional Double samplingInterval);
+
+    /**
+     * @see io.webfolder.cdp.command.HeapProfiler#startTrackingHeapObjects()
+     */
+    CompletableFuture<Void> startTrackingHeapObjects();
+
+    /**
+     * @see io.webfolder.cdp.command.HeapProfiler#startTrackingHeapObjects(Boolean)
+     */
+    CompletableFuture<Void> startTrackingHeapObjects(@Optional Boolean trackAllocations);
+
+    /**
+     * @see io.webfolder.cdp.command.HeapProfiler#stopSampling()
+     */
+    CompletableFuture<SamplingHeapProfile> stopSampling();
+
+    /**
+     * @see io.webfolder.cdp.command.HeapProfiler#stopTrackingHeapObjects()
+     */
+    CompletableFuture<Void> stopTrackingHeapObjects();
+
+    /**
+     * @see io.webfolder.cdp.command.HeapProfiler#stopTrackingHeapObjects(Boolean)
+     */
+    CompletableFuture<Void> stopTrackingHeapObjects(@Optional Boolean reportProgress);
+
+    /**
+     * @see io.webfolder.cdp.command.HeapProfiler#takeHeapSnapshot()
+     */
+    CompletableFuture<Void> takeHeapSnapshot();
+
+    /**
+     * @see io.webfolder.cdp.command.HeapProfiler#takeHeapSnapshot(Boolean)
+     */
+    CompletableFuture<Void> takeHeapSnapshot(@Optional Boolean reportProgress);
+}
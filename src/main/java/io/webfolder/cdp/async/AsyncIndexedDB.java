@@ -0,0 +1,90 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.async;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.annotation.Domain;
+import io.webfolder.cdp.annotation.Experimental;
+import io.webfolder.cdp.annotation.Optional;
+import io.webfolder.cdp.type.indexeddb.DatabaseWithObjectStores;
+import io.webfolder.cdp.type.indexeddb.KeyRange;
+import io.webfolder.cdp.type.indexeddb.RequestDataResult;
+
+/**
+ * Asynchronous variant of {@link io.webfolder.cdp.command.IndexedDB}.
+ *
+ * The returned future is completed when the response of the command is received.
+ *
+ * Generated by CommandImplGenerator, do not edit.
+ */
+@Domain("IndexedDB")
+@Experimental
+public interface AsyncIndexedDB {
+    /**
+     * @see io.webfolder.cdp.command.IndexedDB#clearObjectStore(String, String, String)
+     */
+    CompletableFuture<Void> clearObjectStore(String securityOrigin, String databaseName,
+            String objectStoreName);
+
+    /**
+     * @see io.webfolder.cdp.command.IndexedDB#deleteDatabase(String, String)
+     */
+    CompletableFuture<Void> deleteDatabase(String securityOrigin, String databaseName);
+
+    /**
+     * @see io.webfolder.cdp.command.IndexedDB#deleteObjectStoreEntries(String, String, String, KeyRange)
+     */
+    CompletableFuture<Void> deleteObjectStoreEntries(String securityOrigin, String databaseName,
+            String objectStoreName, KeyRange keyRange);
+
+    /**
+     * @see io.webfolder.cdp.command.IndexedDB#disable()
+     */
+    CompletableFuture<Void> disable();
+
+    /**
+     * @see io.webfolder.cdp.command.IndexedDB#enable()
+     */
+    CompletableFuture<Void> enable();
+
+    /**
+     * @see io.webfolder.cdp.command.IndexedDB#requestData(String, String, String, String, Integer, Integer)
+     */
+    CompletableFuture<RequestDataResult> requestData(String securityOrigin, String databaseName,
+            String objectStoreName, String indexName, Integer skipCount, Integer pageSize);
+
+    /**
+     * @see io.webfolder.cdp.command.IndexedDB#requestData(String, String, String, String, Integer, Integer, KeyRange)
+     */
+    CompletableFuture<RequestDataResult> requestData(String securityOrigin, String databaseName,
+            String objectStoreName, String indexName, Integer skipCount, Integer pageSize,
+            @Optional KeyRange keyRange);
+
+    /**
+     * @see io.webfolder.cdp.command.IndexedDB#requestDatabase(String, String)
+     */
+    CompletableFuture<DatabaseWithObjectStores> requestDatabase(String securityOrigin,
+            String databaseName);
+
+    /**
+     * @see io.webfolder.cdp.command.IndexedDB#requestDatabaseNames(String)
+     */
+    CompletableFuture<List<String>> requestDatabaseNames(String securityOrigin);
+}
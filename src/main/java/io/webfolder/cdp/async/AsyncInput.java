@@ -0,0 +1,142 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.async;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.annotation.Domain;
+import io.webfolder.cdp.annotation.Experimental;
+import io.webfolder.cdp.annotation.Optional;
+import io.webfolder.cdp.type.constant.KeyEventType;
+import io.webfolder.cdp.type.constant.MouseButtonType;
+import io.webfolder.cdp.type.constant.MouseEventType;
+import io.webfolder.cdp.type.constant.TouchEventType;
+import io.webfolder.cdp.type.input.GestureSourceType;
+import io.webfolder.cdp.type.input.TouchPoint;
+
+/**
+ * Asynchronous variant of {@link io.webfolder.cdp.command.Input}.
+ *
+ * The returned future is completed when the response of the command is received.
+ *
+ * Generated by CommandImplGenerator, do not edit.
+ */
+@Domain("Input")
+public interface AsyncInput {
+    /**
+     * @see io.webfolder.cdp.command.Input#dispatchKeyEvent(KeyEventType)
+     */
+    CompletableFuture<Void> dispatchKeyEvent(KeyEventType type);
+
+    /**
+     * @see io.webfolder.cdp.command.Input#dispatchKeyEvent(KeyEventType, Integer, Double, String, String, String, String, String, Integer, Integer, Boolean, Boolean, Boolean, Integer)
+     */
+    CompletableFuture<Void> dispatchKeyEvent(KeyEventType type, @Optional Integer modifiers,
+            @Optional Double timestamp, @Optional String text, @Optional String unmodifiedText,
+            @Optional String keyIdentifier, @Optional String code, @Optional String key,
+            @Optional Integer windowsVirtualKeyCode, @Optional Integer nativeVirtualKeyCode,
+            @Optional Boolean autoRepeat, @Optional Boolean isKeypad, @Optional Boolean isSystemKey,
+            @Optional Integer location);
+
+    /**
+     * @see io.webfolder.cdp.command.Input#dispatchMouseEvent(MouseEventType, Double, Double)
+     */
+    CompletableFuture<Void> dispatchMouseEvent(MouseEventType type, Double x, Double y);
+
+    /**
+     * @see io.webfolder.cdp.command.Input#dispatchMouseEvent(MouseEventType, Double, Double, Integer, Double, MouseButtonType, Integer, Double, Double)
+     */
+    CompletableFuture<Void> dispatchMouseEvent(MouseEventType type, Double x, Double y,
+            @Optional Integer modifiers, @Optional Double timestamp,
+            @Optional MouseButtonType button, @Optional Integer clickCount, @Optional Double deltaX,
+            @Optional Double deltaY);
+
+    /**
+     * @see io.webfolder.cdp.command.Input#dispatchTouchEvent(TouchEventType, List)
+     */
+    CompletableFuture<Void> dispatchTouchEvent(TouchEventType type, List<TouchPoint> touchPoints);
+
+    /**
+     * @see io.webfolder.cdp.command.Input#dispatchTouchEvent(TouchEventType, List, Integer, Double)
+     */
+    CompletableFuture<Void> dispatchTouchEvent(TouchEventType type, List<TouchPoint> touchPoints,
+            @Optional Integer modifiers, @Optional Double timestamp);
+
+    /**
+     * @see io.webfolder.cdp.command.Input#emulateTouchFromMouseEvent(MouseEventType, Integer, Integer, MouseButtonType)
+     */
+    @Experimental
+    CompletableFuture<Void> emulateTouchFromMouseEvent(MouseEventType type, Integer x, Integer y,
+            MouseButtonType button);
+
+    /**
+     * @see io.webfolder.cdp.command.Input#emulateTouchFromMouseEvent(MouseEventType, Integer, Integer, MouseButtonType, Double, Double, Double, Integer, Integer)
+     */
+    @Experimental
+    CompletableFuture<Void> emulateTouchFromMouseEvent(MouseEventType type, Integer x, Integer y,
+            MouseButtonType button, @Optional Double timestamp, @Optional Double deltaX,
+            @Optional Double deltaY, @Optional Integer modifiers, @Optional Integer clickCount);
+
+    /**
+     * @see io.webfolder.cdp.command.Input#setIgnoreInputEvents(Boolean)
+     */
+    CompletableFuture<Void> setIgnoreInputEvents(Boolean ignore);
+
+    /**
+     * @see io.webfolder.cdp.command.Input#synthesizePinchGesture(Double, Double, Double)
+     */
+    @Experimental
+    CompletableFuture<Void> synthesizePinchGesture(Double x, Double y, Double scaleFactor);
+
+    /**
+     * @see io.webfolder.cdp.command.Input#synthesizePinchGesture(Double, Double, Double, Integer, GestureSourceType)
+     */
+    @Experimental
+    CompletableFuture<Void> synthesizePinchGesture(Double x, Double y, Double scaleFactor,
+            @Optional Integer relativeSpeed, @Optional GestureSourceType gestureSourceType);
+
+    /**
+     * @see io.webfolder.cdp.command.Input#synthesizeScrollGesture(Double, Double)
+     */
+    @Experimental
+    CompletableFuture<Void> synthesizeScrollGesture(Double x, Double y);
+
+    /**
+     * @see io.webfolder.cdp.command.Input#synthesizeScrollGesture(Double, Double, Double, Double, Double, Double, Boolean, Integer, GestureSourceType, Integer, Integer, String)
+     */
+    @Experimental
+    CompletableFuture<Void> synthesizeScrollGesture(Double x, Double y, @Optional Double xDistance,
+            @Optional Double yDistance, @Optional Double xOverscroll, @Optional Double yOverscroll,
+            @Optional Boolean preventFling, @Optional Integer speed,
+            @Optional GestureSourceType gestureSourceType, @Optional Integer repeatCount,
+            @Optional Integer repeatDelayMs, @Optional String interactionMarkerName);
+
+    /**
+     * @see io.webfolder.cdp.command.Input#synthesizeTapGesture(Double, Double)
+     */
+    @Experimental
+    CompletableFuture<Void> synthesizeTapGesture(Double x, Double y);
+
+    /**
+     * @see io.webfolder.cdp.command.Input#synthesizeTapGesture(Double, Double, Integer, Integer, GestureSourceType)
+     */
+    @Experimental
+    CompletableFuture<Void> synthesizeTapGesture(Double x, Double y, @Optional Integer duration,
+            @Optional Integer tapCount, @Optional GestureSourceType gestureSourceType);
+}
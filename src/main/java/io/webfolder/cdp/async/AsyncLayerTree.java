@@ -0,0 +1,91 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.async;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.annotation.Domain;
+import io.webfolder.cdp.annotation.Experimental;
+import io.webfolder.cdp.annotation.Optional;
+import io.webfolder.cdp.type.dom.Rect;
+import io.webfolder.cdp.type.layertree.PictureTile;
+
+/**
+ * Asynchronous variant of {@link io.webfolder.cdp.command.LayerTree}.
+ *
+ * The returned future is completed when the response of the command is received.
+ *
+ * Generated by CommandImplGenerator, do not edit.
+ */
+@Domain("LayerTree")
+@Experimental
+public interface AsyncLayerTree {
+    /**
+     * @see io.webfolder.cdp.command.LayerTree#compositingReasons(String)
+     */
+    CompletableFuture<List<String>> compositingReasons(String layerId);
+
+    /**
+     * @see io.webfolder.cdp.command.LayerTree#disable()
+     */
+    CompletableFuture<Void> disable();
+
+    /**
+     * @see io.webfolder.cdp.command.LayerTree#enable()
+     */
+    CompletableFuture<Void> enable();
+
+    /**
+     * @see io.webfolder.cdp.command.LayerTree#loadSnapshot(List)
+     */
+    CompletableFuture<String> loadSnapshot(List<PictureTile> tiles);
+
+    /**
+     * @see io.webfolder.cdp.command.LayerTree#makeSnapshot(String)
+     */
+    CompletableFuture<String> makeSnapshot(String layerId);
+
+    /**
+     * @see io.webfolder.cdp.command.LayerTree#profileSnapshot(String)
+     */
+    CompletableFuture<List<Double>> profileSnapshot(String snapshotId);
+
+    /**
+     * @see io.webfolder.cdp.command.LayerTree#profileSnapshot(String, Integer, Double, Rect)
+     */
+    CompletableFuture<List<Double>> profileSnapshot(String snapshotId,
+            @Optional Integer minRepeatCount, @Optional Double minDuration,
+            @Optional Rect clipRect);
+
+    /**
+     * @see io.webfolder.cdp.command.LayerTree#releaseSnapshot(String)
+     */
+    CompletableFuture<Void> releaseSnapshot(String snapshotId);
+
+    /**
+     * @see io.webfolder.cdp.command.LayerTree#replaySnapshot(String)
+     */
+    CompletableFuture<String> replaySnapshot(String snapshotId);
+
+    /**
+     * @see io.webfolder.cdp.command.LayerTree#replaySnapshot(String, Integer, Integer, Double)
+     */
+    CompletableFuture<String> replaySnapshot(String snapshotId, @Optional Integer fromStep,
+            @Optional Integer toStep, @Optional Double scale);
+}
@@ -0,0 +1,59 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.async;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.annotation.Domain;
+import io.webfolder.cdp.type.log.ViolationSetting;
+
+/**
+ * Asynchronous variant of {@link io.webfolder.cdp.command.Log}.
+ *
+ * The returned future is completed when the response of the command is received.
+ *
+ * Generated by CommandImplGenerator, do not edit.
+ */
+@Domain("Log")
+public interface AsyncLog {
+    /**
+     * @see io.webfolder.cdp.command.Log#clear()
+     */
+    CompletableFuture<Void> clear();
+
+    /**
+     * @see io.webfolder.cdp.command.Log#disable()
+     */
+    CompletableFuture<Void> disable();
+
+    /**
+     * @see io.webfolder.cdp.command.Log#enable()
+     */
+    CompletableFuture<Void> enable();
+
+    /**
+     * @see io.webfolder.cdp.command.Log#startViolationsReport(List)
+     */
+    CompletableFuture<Void> startViolationsReport(List<ViolationSetting> config);
+
+    /**
+     * @see io.webfolder.cdp.command.Log#stopViolationsReport()
+     */
+    CompletableFuture<Void> stopViolationsReport();
+}
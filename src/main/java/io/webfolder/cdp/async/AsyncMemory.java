@@ -0,0 +1,89 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.async;
+
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.annotation.Domain;
+import io.webfolder.cdp.annotation.Experimental;
+import io.webfolder.cdp.annotation.Optional;
+import io.webfolder.cdp.type.memory.GetDOMCountersResult;
+import io.webfolder.cdp.type.memory.PressureLevel;
+import io.webfolder.cdp.type.memory.SamplingProfile;
+
+/**
+ * Asynchronous variant of {@link io.webfolder.cdp.command.Memory}.
+ *
+ * The returned future is completed when the response of the command is received.
+ *
+ * Generated by CommandImplGenerator, do not edit.
+ */
+@Domain("Memory")
+@Experimental
+public interface AsyncMemory {
+    /**
+     * @see io.webfolder.cdp.command.Memory#getAllTimeSamplingProfile()
+     */
+    CompletableFuture<SamplingProfile> getAllTimeSamplingProfile();
+
+    /**
+     * @see io.webfolder.cdp.command.Memory#getBrowserSamplingProfile()
+     */
+    CompletableFuture<SamplingProfile> getBrowserSamplingProfile();
+
+    /**
+     * @see io.webfolder.cdp.command.Memory#getDOMCounters()
+     */
+    CompletableFuture<GetDOMCountersResult> getDOMCounters();
+
+    /**
+     * @see io.webfolder.cdp.command.Memory#getSamplingProfile()
+     */
+    CompletableFuture<SamplingProfile> getSamplingProfile();
+
+    /**
+     * @see io.webfolder.cdp.command.Memory#prepareForLeakDetection()
+     */
+    CompletableFuture<Void> prepareForLeakDetection();
+
+    /**
+     * @see io.webfolder.cdp.command.Memory#setPressureNotificationsSuppressed(Boolean)
+     */
+    CompletableFuture<Void> setPressureNotificationsSuppressed(Boolean suppressed);
+
+    /**
+     * @see io.webfolder.cdp.command.Memory#simulatePressureNotification(PressureLevel)
+     */
+    CompletableFuture<Void> simulatePressureNotification(PressureLevel level);
+
+    /**
+     * @see io.webfolder.cdp.command.Memory#startSampling()
+     */
+    CompletableFuture<Void> startSampling();
+
+    /**
+     * @see io.webfolder.cdp.command.Memory#startSampling(Integer, Boolean)
+     */
+    CompletableFuture<Void> startSampling(@Optional Integer samplingInterval,
+            @Optional Boolean suppressRandomness);
+
+    /**
+     * @see io.webfolder.cdp.command.Memory#stopSampling()
+     */
+    CompletableFuture<Void> stopSampling();
+}
@@ -0,0 +1,253 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.async;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.annotation.Domain;
+import io.webfolder.cdp.annotation.Experimental;
+import io.webfolder.cdp.annotation.Optional;
+import io.webfolder.cdp.type.debugger.SearchMatch;
+import io.webfolder.cdp.type.network.AuthChallengeResponse;
+import io.webfolder.cdp.type.network.ConnectionType;
+import io.webfolder.cdp.type.network.Cookie;
+import io.webfolder.cdp.type.network.CookieParam;
+import io.webfolder.cdp.type.network.CookieSameSite;
+import io.webfolder.cdp.type.network.ErrorReason;
+import io.webfolder.cdp.type.network.GetResponseBodyForInterceptionResult;
+import io.webfolder.cdp.type.network.GetResponseBodyResult;
+import io.webfolder.cdp.type.network.RequestPattern;
+
+/**
+ * Asynchronous variant of {@link io.webfolder.cdp.command.Network}.
+ *
+ * The returned future is completed when the response of the command is received.
+ *
+ * Generated by CommandImplGenerator, do not edit.
+ */
+@Domain("Network")
+public interface AsyncNetwork {
+    /**
+     * @see io.webfolder.cdp.command.Network#canClearBrowserCache()
+     */
+    CompletableFuture<Boolean> canClearBrowserCache();
+
+    /**
+     * @see io.webfolder.cdp.command.Network#canClearBrowserCookies()
+     */
+    CompletableFuture<Boolean> canClearBrowserCookies();
+
+    /**
+     * @see io.webfolder.cdp.command.Network#canEmulateNetworkConditions()
+     */
+    CompletableFuture<Boolean> canEmulateNetworkConditions();
+
+    /**
+     * @see io.webfolder.cdp.command.Network#clearBrowserCache()
+     */
+    CompletableFuture<Void> clearBrowserCache();
+
+    /**
+     * @see io.webfolder.cdp.command.Network#clearBrowserCookies()
+     */
+    CompletableFuture<Void> clearBrowserCookies();
+
+    /**
+     * @see io.webfolder.cdp.command.Network#continueInterceptedRequest(String)
+     */
+    @Experimental
+    CompletableFuture<Void> continueInterceptedRequest(String interceptionId);
+
+    /**
+     * @see io.webfolder.cdp.command.Network#continueInterceptedRequest(String, ErrorReason, String, String, String, String, Map, AuthChallengeResponse)
+     */
+    @Experimental
+    CompletableFuture<Void> continueInterceptedRequest(String interceptionId,
+            @Optional ErrorReason errorReason, @Optional String rawResponse, @Optional String url,
+            @Optional String method, @Optional String postData,
+            @Optional Map<String, Object> headers,
+            @Optional AuthChallengeResponse authChallengeResponse);
+
+    /**
+     * @see io.webfolder.cdp.command.Network#deleteCookies(String)
+     */
+    CompletableFuture<Void> deleteCookies(String name);
+
+    /**
+     * @see io.webfolder.cdp.command.Network#deleteCookies(String, String, String, String)
+     */
+    CompletableFuture<Void> deleteCookies(String name, @Optional String url,
+            @Optional String domain, @Optional String path);
+
+    /**
+     * @see io.webfolder.cdp.command.Network#disable()
+     */
+    CompletableFuture<Void> disable();
+
+    /**
+     * @see io.webfolder.cdp.command.Network#emulateNetworkConditions(Boolean, Double, Double, Double)
+     */
+    CompletableFuture<Void> emulateNetworkConditions(Boolean offline, Double latency,
+            Double downloadThroughput, Double uploadThroughput);
+
+    /**
+     * @see io.webfolder.cdp.command.Network#emulateNetworkConditions(Boolean, Double, Double, Double, ConnectionType)
+     */
+    CompletableFuture<Void> emulateNetworkConditions(Boolean offline, Double latency,
+            Double downloadThroughput, Double uploadThroughput,
+            @Optional ConnectionType connectionType);
+
+    /**
+     * @see io.webfolder.cdp.command.Network#enable()
+     */
+    CompletableFuture<Void> enable();
+
+    /**
+     * @see io.webfolder.cdp.command.Network#enable(Integer, Integer, Integer)
+     */
+    CompletableFuture<Void> enable(@Experimental @Optional Integer maxTotalBufferSize,
+            @Experimental @Optional Integer maxResourceBufferSize,
+            @Optional Integer maxPostDataSize);
+
+    /**
+     * @see io.webfolder.cdp.command.Network#getAllCookies()
+     */
+    CompletableFuture<List<Cookie>> getAllCookies();
+
+    /**
+     * @see io.webfolder.cdp.command.Network#getCertificate(String)
+     */
+    @Experimental
+    CompletableFuture<List<String>> getCertificate(String origin);
+
+    /**
+     * @see io.webfolder.cdp.command.Network#getCookies()
+     */
+    CompletableFuture<List<Cookie>> getCookies();
+
+    /**
+     * @see io.webfolder.cdp.command.Network#getCookies(List)
+     */
+    CompletableFuture<List<Cookie>> getCookies(@Optional List<String> urls);
+
+    /**
+     * @see io.webfolder.cdp.command.Network#getRequestPostData(String)
+     */
+    CompletableFuture<byte[]> getRequestPostData(String requestId);
+
+    /**
+     * @see io.webfolder.cdp.command.Network#getResponseBody(String)
+     */
+    CompletableFuture<GetResponseBodyResult> getResponseBody(String requestId);
+
+    /**
+     * @see io.webfolder.cdp.command.Network#getResponseBodyForInterception(String)
+     */
+    @Experimental
+    CompletableFuture<GetResponseBodyForInterceptionResult> getResponseBodyForInterception(String interceptionId);
+
+    /**
+     * @see io.webfolder.cdp.command.Network#replayXHR(String)
+     */
+    @Experimental
+    CompletableFuture<Void> replayXHR(String requestId);
+
+    /**
+     * @see io.webfolder.cdp.command.Network#searchInResponseBody(String, String)
+     */
+    @Experimental
+    CompletableFuture<List<SearchMatch>> searchInResponseBody(String requestId, String query);
+
+    /**
+     * @see io.webfolder.cdp.command.Network#searchInResponseBody(String, String, Boolean, Boolean)
+     */
+    @Experimental
+    CompletableFuture<List<SearchMatch>> searchInResponseBody(String requestId, String query,
+            @Optional Boolean caseSensitive, @Optional Boolean isRegex);
+
+    /**
+     * @see io.webfolder.cdp.command.Network#setBlockedURLs(List)
+     */
+    @Experimental
+    CompletableFuture<Void> setBlockedURLs(List<String> urls);
+
+    /**
+     * @see io.webfolder.cdp.command.Network#setBypassServiceWorker(Boolean)
+     */
+    @Experimental
+    CompletableFuture<Void> setBypassServiceWorker(Boolean bypass);
+
+    /**
+     * @see io.webfolder.cdp.command.Network#setCacheDisabled(Boolean)
+     */
+    CompletableFuture<Void> setCacheDisabled(Boolean cacheDisabled);
+
+    /**
+     * @see io.webfolder.cdp.command.Network#setCookie(String, String)
+     */
+    CompletableFuture<Boolean> setCookie(String name, String value);
+
+    /**
+     * @see io.webfolder.cdp.command.Network#setCookie(String, String, String, String, String, Boolean, Boolean, CookieSameSite, Double)
+     */
+    CompletableFuture<Boolean> setCookie(String name, String value, @Optional String url,
+            @Optional String domain, @Optional String path, @Optional Boolean secure,
+            @Optional Boolean httpOnly, @Optional CookieSameSite sameSite,
+            @Optional Double expires);
+
+    /**
+     * @see io.webfolder.cdp.command.Network#setCookies(List)
+     */
+    CompletableFuture<Void> setCookies(List<CookieParam> cookies);
+
+    /**
+     * @see io.webfolder.cdp.command.Network#setDataSizeLimitsForTest(Integer, Integer)
+     */
+    @Experimental
+    CompletableFuture<Void> setDataSizeLimitsForTest(Integer maxTotalSize, Integer maxResourceSize);
+
+    /**
+     * @see io.webfolder.cdp.command.Network#setExtraHTTPHeaders(Map)
+     */
+    CompletableFuture<Void> setExtraHTTPHeaders(Map<String, Object> headers);
+
+    /**
+     * @see io.webfolder.cdp.command.Network#setRequestInterception(List)
+     */
+    @Experimental
+    CompletableFuture<Void> setRequestInterception(List<RequestPattern> patterns);
+
+    /**
+     * @see io.webfolder.cdp.command.Network#setUserAgentOverride(String)
+     */
+    CompletableFuture<Void> setUserAgentOverride(String userAgent);
+
+    /**
+     * @see io.webfolder.cdp.command.Network#setUserAgentOverride(String, String, String)
+     */
+    CompletableFuture<Void> setUserAgentOverride(String userAgent, @Optional String acceptLanguage,
+            @Optional String platform);
+
+    /**
+     * @see io.webfolder.cdp.command.Network#takeResponseBodyForInterceptionAsStream(String)
+     */
+    @Experimental
+    CompletableFuture<String> takeResponseBodyForInterceptionAsStream(String interceptionId);
+}
@@ -0,0 +1,149 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.async;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.annotation.Domain;
+import io.webfolder.cdp.annotation.Experimental;
+import io.webfolder.cdp.annotation.Optional;
+import io.webfolder.cdp.type.dom.RGBA;
+import io.webfolder.cdp.type.overlay.HighlightConfig;
+import io.webfolder.cdp.type.overlay.InspectMode;
+
+/**
+ * Asynchronous variant of {@link io.webfolder.cdp.command.Overlay}.
+ *
+ * The returned future is completed when the response of the command is received.
+ *
+ * Generated by CommandImplGenerator, do not edit.
+ */
+@Domain("Overlay")
+@Experimental
+public interface AsyncOverlay {
+    /**
+     * @see io.webfolder.cdp.command.Overlay#disable()
+     */
+    CompletableFuture<Void> disable();
+
+    /**
+     * @see io.webfolder.cdp.command.Overlay#enable()
+     */
+    CompletableFuture<Void> enable();
+
+    /**
+     * @see io.webfolder.cdp.command.Overlay#hideHighlight()
+     */
+    CompletableFuture<Void> hideHighlight();
+
+    /**
+     * @see io.webfolder.cdp.command.Overlay#highlightFrame(String)
+     */
+    CompletableFuture<Void> highlightFrame(String frameId);
+
+    /**
+     * @see io.webfolder.cdp.command.Overlay#highlightFrame(String, RGBA, RGBA)
+     */
+    CompletableFuture<Void> highlightFrame(String frameId, @Optional RGBA contentColor,
+            @Optional RGBA contentOutlineColor);
+
+    /**
+     * @see io.webfolder.cdp.command.Overlay#highlightNode(HighlightConfig)
+     */
+    CompletableFuture<Void> highlightNode(HighlightConfig highlightConfig);
+
+    /**
+     * @see io.webfolder.cdp.command.Overlay#highlightNode(HighlightConfig, Integer, Integer, String)
+     */
+    CompletableFuture<Void> highlightNode(HighlightConfig highlightConfig, @Optional Integer nodeId,
+            @Optional Integer backendNodeId, @Optional String objectId);
+
+    /**
+     * @see io.webfolder.cdp.command.Overlay#highlightQuad(List)
+     */
+    CompletableFuture<Void> highlightQuad(List<Double> quad);
+
+    /**
+     * @see io.webfolder.cdp.command.Overlay#highlightQuad(List, RGBA, RGBA)
+     */
+    CompletableFuture<Void> highlightQuad(List<Double> quad, @Optional RGBA color,
+            @Optional RGBA outlineColor);
+
+    /**
+     * @see io.webfolder.cdp.command.Overlay#highlightRect(Integer, Integer, Integer, Integer)
+     */
+    CompletableFuture<Void> highlightRect(Integer x, Integer y, Integer width, Integer height);
+
+    /**
+     * @see io.webfolder.cdp.command.Overlay#highlightRect(Integer, Integer, Integer, Integer, RGBA, RGBA)
+     */
+    CompletableFuture<Void> highlightRect(Integer x, Integer y, Integer width, Integer height,
+            @Optional RGBA color, @Optional RGBA outlineColor);
+
+    /**
+     * @see io.webfolder.cdp.command.Overlay#setInspectMode(InspectMode)
+     */
+    CompletableFuture<Void> setInspectMode(InspectMode mode);
+
+    /**
+     * @see io.webfolder.cdp.command.Overlay#setInspectMode(InspectMode, HighlightConfig)
+     */
+    CompletableFuture<Void> setInspectMode(InspectMode mode,
+            @Optional HighlightConfig highlightConfig);
+
+    /**
+     * @see io.webfolder.cdp.command.Overlay#setPausedInDebuggerMessage()
+     */
+    CompletableFuture<Void> setPausedInDebuggerMessage();
+
+    /**
+     * @see io.webfolder.cdp.command.Overlay#setPausedInDebuggerMessage(String)
+     */
+    CompletableFuture<Void> setPausedInDebuggerMessage(@Optional String message);
+
+    /**
+     * @see io.webfolder.cdp.command.Overlay#setShowDebugBorders(Boolean)
+     */
+    CompletableFuture<Void> setShowDebugBorders(Boolean show);
+
+    /**
+     * @see io.webfolder.cdp.command.Overlay#setShowFPSCounter(Boolean)
+     */
+    CompletableFuture<Void> setShowFPSCounter(Boolean show);
+
+    /**
+     * @see io.webfolder.cdp.command.Overlay#setShowPaintRects(Boolean)
+     */
+    CompletableFuture<Void> setShowPaintRects(Boolean result);
+
+    /**
+     * @see io.webfolder.cdp.command.Overlay#setShowScrollBottleneckRects(Boolean)
+     */
+    CompletableFuture<Void> setShowScrollBottleneckRects(Boolean show);
+
+    /**
+     * @see io.webfolder.cdp.command.Overlay#setShowViewportSizeOnResize(Boolean)
+     */
+    CompletableFuture<Void> setShowViewportSizeOnResize(Boolean show);
+
+    /**
+     * @see io.webfolder.cdp.command.Overlay#setSuspended(Boolean)
+     */
+    CompletableFuture<Void> setSuspended(Boolean suspended);
+}
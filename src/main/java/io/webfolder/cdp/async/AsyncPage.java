@@ -0,0 +1,391 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.async;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.annotation.Domain;
+import io.webfolder.cdp.annotation.Experimental;
+import io.webfolder.cdp.annotation.Optional;
+import io.webfolder.cdp.type.constant.DownloadBehavior;
+import io.webfolder.cdp.type.constant.ImageFormat;
+import io.webfolder.cdp.type.constant.Platform;
+import io.webfolder.cdp.type.constant.TargetLifecycleState;
+import io.webfolder.cdp.type.debugger.SearchMatch;
+import io.webfolder.cdp.type.emulation.ScreenOrientation;
+import io.webfolder.cdp.type.network.Cookie;
+import io.webfolder.cdp.type.page.FontFamilies;
+import io.webfolder.cdp.type.page.FontSizes;
+import io.webfolder.cdp.type.page.FrameResourceTree;
+import io.webfolder.cdp.type.page.FrameTree;
+import io.webfolder.cdp.type.page.GetAppManifestResult;
+import io.webfolder.cdp.type.page.GetLayoutMetricsResult;
+import io.webfolder.cdp.type.page.GetNavigationHistoryResult;
+import io.webfolder.cdp.type.page.GetResourceContentResult;
+import io.webfolder.cdp.type.page.NavigateResult;
+import io.webfolder.cdp.type.page.TransitionType;
+import io.webfolder.cdp.type.page.Viewport;
+
+/**
+ * Asynchronous variant of {@link io.webfolder.cdp.command.Page}.
+ *
+ * The returned future is completed when the response of the command is received.
+ *
+ * Generated by CommandImplGenerator, do not edit.
+ */
+@Domain("Page")
+public interface AsyncPage {
+    /**
+     * @see io.webfolder.cdp.command.Page#addScriptToEvaluateOnLoad(String)
+     */
+    @Experimental
+    CompletableFuture<String> addScriptToEvaluateOnLoad(String scriptSource);
+
+    /**
+     * @see io.webfolder.cdp.command.Page#addScriptToEvaluateOnNewDocument(String)
+     */
+    CompletableFuture<String> addScriptToEvaluateOnNewDocument(String source);
+
+    /**
+     * @see io.webfolder.cdp.command.Page#bringToFront()
+     */
+    CompletableFuture<Void> bringToFront();
+
+    /**
+     * @see io.webfolder.cdp.command.Page#captureScreenshot()
+     */
+    CompletableFuture<byte[]> captureScreenshot();
+
+    /**
+     * @see io.webfolder.cdp.command.Page#captureScreenshot(ImageFormat, Integer, Viewport, Boolean)
+     */
+    CompletableFuture<byte[]> captureScreenshot(@Optional ImageFormat format,
+            @Optional Integer quality, @Optional Viewport clip,
+            @Experimental @Optional Boolean fromSurface);
+
+    /**
+     * @see io.webfolder.cdp.command.Page#clearDeviceMetricsOverride()
+     */
+    @Experimental
+    CompletableFuture<Void> clearDeviceMetricsOverride();
+
+    /**
+     * @see io.webfolder.cdp.command.Page#clearDeviceOrientationOverride()
+     */
+    @Experimental
+    CompletableFuture<Void> clearDeviceOrientationOverride();
+
+    /**
+     * @see io.webfolder.cdp.command.Page#clearGeolocationOverride()
+     */
+    CompletableFuture<Void> clearGeolocationOverride();
+
+    /**
+     * @see io.webfolder.cdp.command.Page#close()
+     */
+    @Experimental
+    CompletableFuture<Void> close();
+
+    /**
+     * @see io.webfolder.cdp.command.Page#crash()
+     */
+    @Experimental
+    CompletableFuture<Void> crash();
+
+    /**
+     * @see io.webfolder.cdp.command.Page#createIsolatedWorld(String)
+     */
+    CompletableFuture<Integer> createIsolatedWorld(String frameId);
+
+    /**
+     * @see io.webfolder.cdp.command.Page#createIsolatedWorld(String, String, Boolean)
+     */
+    CompletableFuture<Integer> createIsolatedWorld(String frameId, @Optional String worldName,
+            @Optional Boolean grantUniveralAccess);
+
+    /**
+     * @see io.webfolder.cdp.command.Page#deleteCookie(String, String)
+     */
+    @Experimental
+    CompletableFuture<Void> deleteCookie(String cookieName, String url);
+
+    /**
+     * @see io.webfolder.cdp.command.Page#disable()
+     */
+    CompletableFuture<Void> disable();
+
+    /**
+     * @see io.webfolder.cdp.command.Page#enable()
+     */
+    CompletableFuture<Void> enable();
+
+    /**
+     * @see io.webfolder.cdp.command.Page#getAppManifest()
+     */
+    CompletableFuture<GetAppManifestResult> getAppManifest();
+
+    /**
+     * @see io.webfolder.cdp.command.Page#getCookies()
+     */
+    @Experimental
+    CompletableFuture<List<Cookie>> getCookies();
+
+    /**
+     * @see io.webfolder.cdp.command.Page#getFrameTree()
+     */
+    CompletableFuture<FrameTree> getFrameTree();
+
+    /**
+     * @see io.webfolder.cdp.command.Page#getLayoutMetrics()
+     */
+    CompletableFuture<GetLayoutMetricsResult> getLayoutMetrics();
+
+    /**
+     * @see io.webfolder.cdp.command.Page#getNavigationHistory()
+     */
+    CompletableFuture<GetNavigationHistoryResult> getNavigationHistory();
+
+    /**
+     * @see io.webfolder.cdp.command.Page#getResourceContent(String, String)
+     */
+    @Experimental
+    CompletableFuture<GetResourceContentResult> getResourceContent(String frameId, String url);
+
+    /**
+     * @see io.webfolder.cdp.command.Page#getResourceTree()
+     */
+    @Experimental
+    CompletableFuture<FrameResourceTree> getResourceTree();
+
+    /**
+     * @see io.webfolder.cdp.command.Page#handleJavaScriptDialog(Boolean)
+     */
+    CompletableFuture<Void> handleJavaScriptDialog(Boolean accept);
+
+    /**
+     * @see io.webfolder.cdp.command.Page#handleJavaScriptDialog(Boolean, String)
+     */
+    CompletableFuture<Void> handleJavaScriptDialog(Boolean accept, @Optional String promptText);
+
+    /**
+     * @see io.webfolder.cdp.command.Page#navigate(String)
+     */
+    CompletableFuture<NavigateResult> navigate(String url);
+
+    /**
+     * @see io.webfolder.cdp.command.Page#navigate(String, String, TransitionType, String)
+     */
+    CompletableFuture<NavigateResult> navigate(String url, @Optional String referrer,
+            @Optional TransitionType transitionType, @Optional String frameId);
+
+    /**
+     * @see io.webfolder.cdp.command.Page#navigateToHistoryEntry(Integer)
+     */
+    CompletableFuture<Void> navigateToHistoryEntry(Integer entryId);
+
+    /**
+     * @see io.webfolder.cdp.command.Page#printToPDF()
+     */
+    CompletableFuture<byte[]> printToPDF();
+
+    /**
+     * @see io.webfolder.cdp.command.Page#printToPDF(Boolean, Boolean, Boolean, Double, Double, Double, Double, Double, Double, Double, String, Boolean, String, String, Boolean)
+     */
+    CompletableFuture<byte[]> printToPDF(@Optional Boolean landscape,
+            @Optional Boolean displayHeaderFooter, @Optional Boolean printBackground,
+            @Optional Double scale, @Optional Double paperWidth, @Optional Double paperHeight,
+            @Optional Double marginTop, @Optional Double marginBottom, @Optional Double marginLeft,
+            @Optional Double marginRight, @Optional String pageRanges,
+            @Optional Boolean ignoreInvalidPageRanges, @Optional String headerTemplate,
+            @Optional String footerTemplate, @Optional Boolean preferCSSPageSize);
+
+    /**
+     * @see io.webfolder.cdp.command.Page#reload()
+     */
+    CompletableFuture<Void> reload();
+
+    /**
+     * @see io.webfolder.cdp.command.Page#reload(Boolean, String)
+     */
+    CompletableFuture<Void> reload(@Optional Boolean ignoreCache,
+            @Optional String scriptToEvaluateOnLoad);
+
+    /**
+     * @see io.webfolder.cdp.command.Page#removeScriptToEvaluateOnLoad(String)
+     */
+    @Experimental
+    CompletableFuture<Void> removeScriptToEvaluateOnLoad(String identifier);
+
+    /**
+     * @see io.webfolder.cdp.command.Page#removeScriptToEvaluateOnNewDocument(String)
+     */
+    CompletableFuture<Void> removeScriptToEvaluateOnNewDocument(String identifier);
+
+    /**
+     * @see io.webfolder.cdp.command.Page#requestAppBanner()
+     */
+    @Experimental
+    CompletableFuture<Void> requestAppBanner();
+
+    /**
+     * @see io.webfolder.cdp.command.Page#screencastFrameAck(Integer)
+     */
+    @Experimental
+    CompletableFuture<Void> screencastFrameAck(Integer sessionId);
+
+    /**
+     * @see io.webfolder.cdp.command.Page#searchInResource(String, String, String)
+     */
+    @Experimental
+    CompletableFuture<List<SearchMatch>> searchInResource(String frameId, String url, String query);
+
+    /**
+     * @see io.webfolder.cdp.command.Page#searchInResource(String, String, String, Boolean, Boolean)
+     */
+    @Experimental
+    CompletableFuture<List<SearchMatch>> searchInResource(String frameId, String url, String query,
+            @Optional Boolean caseSensitive, @Optional Boolean isRegex);
+
+    /**
+     * @see io.webfolder.cdp.command.Page#setAdBlockingEnabled(Boolean)
+     */
+    @Experimental
+    CompletableFuture<Void> setAdBlockingEnabled(Boolean enabled);
+
+    /**
+     * @see io.webfolder.cdp.command.Page#setBypassCSP(Boolean)
+     */
+    @Experimental
+    CompletableFuture<Void> setBypassCSP(Boolean enabled);
+
+    /**
+     * @see io.webfolder.cdp.command.Page#setDeviceMetricsOverride(Integer, Integer, Double, Boolean)
+     */
+    @Experimental
+    CompletableFuture<Void> setDeviceMetricsOverride(Integer width, Integer height,
+            Double deviceScaleFactor, Boolean mobile);
+
+    /**
+     * @see io.webfolder.cdp.command.Page#setDeviceMetricsOverride(Integer, Integer, Double, Boolean, Double, Integer, Integer, Integer, Integer, Boolean, ScreenOrientation, Viewport)
+     */
+    @Experimental
+    CompletableFuture<Void> setDeviceMetricsOverride(Integer width, Integer height,
+            Double deviceScaleFactor, Boolean mobile, @Optional Double scale,
+            @Optional Integer screenWidth, @Optional Integer screenHeight,
+            @Optional Integer positionX, @Optional Integer positionY,
+            @Optional Boolean dontSetVisibleSize, @Optional ScreenOrientation screenOrientation,
+            @Optional Viewport viewport);
+
+    /**
+     * @see io.webfolder.cdp.command.Page#setDeviceOrientationOverride(Double, Double, Double)
+     */
+    @Experimental
+    CompletableFuture<Void> setDeviceOrientationOverride(Double alpha, Double beta, Double gamma);
+
+    /**
+     * @see io.webfolder.cdp.command.Page#setDocumentContent(String, String)
+     */
+    CompletableFuture<Void> setDocumentContent(String frameId, String html);
+
+    /**
+     * @see io.webfolder.cdp.command.Page#setDownloadBehavior(DownloadBehavior)
+     */
+    @Experimental
+    CompletableFuture<Void> setDownloadBehavior(DownloadBehavior behavior);
+
+    /**
+     * @see io.webfolder.cdp.command.Page#setDownloadBehavior(DownloadBehavior, String)
+     */
+    @Experimental
+    CompletableFuture<Void> setDownloadBehavior(DownloadBehavior behavior,
+            @Optional String downloadPath);
+
+    /**
+     * @see io.webfolder.cdp.command.Page#setFontFamilies(FontFamilies)
+     */
+    @Experimental
+    CompletableFuture<Void> setFontFamilies(FontFamilies fontFamilies);
+
+    /**
+     * @see io.webfolder.cdp.command.Page#setFontSizes(FontSizes)
+     */
+    @Experimental
+    CompletableFuture<Void> setFontSizes(FontSizes fontSizes);
+
+    /**
+     * @see io.webfolder.cdp.command.Page#setGeolocationOverride()
+     */
+    CompletableFuture<Void> setGeolocationOverride();
+
+    /**
+     * @see io.webfolder.cdp.command.Page#setGeolocationOverride(Double, Double, Double)
+     */
+    CompletableFuture<Void> setGeolocationOverride(@Optional Double latitude,
+            @Optional Double longitude, @Optional Double accuracy);
+
+    /**
+     * @see io.webfolder.cdp.command.Page#setLifecycleEventsEnabled(Boolean)
+     */
+    @Experimental
+    CompletableFuture<Void> setLifecycleEventsEnabled(Boolean enabled);
+
+    /**
+     * @see io.webfolder.cdp.command.Page#setTouchEmulationEnabled(Boolean)
+     */
+    @Experimental
+    CompletableFuture<Void> setTouchEmulationEnabled(Boolean enabled);
+
+    /**
+     * @see io.webfolder.cdp.command.Page#setTouchEmulationEnabled(Boolean, Platform)
+     */
+    @Experimental
+    CompletableFuture<Void> setTouchEmulationEnabled(Boolean enabled,
+            @Optional Platform configuration);
+
+    /**
+     * @see io.webfolder.cdp.command.Page#setWebLifecycleState(TargetLifecycleState)
+     */
+    @Experimental
+    CompletableFuture<Void> setWebLifecycleState(TargetLifecycleState state);
+
+    /**
+     * @see io.webfolder.cdp.command.Page#startScreencast()
+     */
+    @Experimental
+    CompletableFuture<Void> startScreencast();
+
+    /**
+     * @see io.webfolder.cdp.command.Page#startScreencast(ImageFormat, Integer, Integer, Integer, Integer)
+     */
+    @Experimental
+    CompletableFuture<Void> startScreencast(@Optional ImageFormat format, @Optional Integer quality,
+            @Optional Integer maxWidth, @Optional Integer maxHeight,
+            @Optional Integer everyNthFrame);
+
+    /**
+     * @see io.webfolder.cdp.command.Page#stopLoading()
+     */
+    CompletableFuture<Void> stopLoading();
+
+    /**
+     * @see io.webfolder.cdp.command.Page#stopScreencast()
+     */
+    @Experimental
+    CompletableFuture<Void> stopScreencast();
+}
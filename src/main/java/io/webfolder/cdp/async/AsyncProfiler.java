@@ -0,0 +1,107 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.async;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.annotation.Domain;
+import io.webfolder.cdp.annotation.Experimental;
+import io.webfolder.cdp.annotation.Optional;
+import io.webfolder.cdp.type.profiler.Profile;
+import io.webfolder.cdp.type.profiler.ScriptCoverage;
+import io.webfolder.cdp.type.profiler.ScriptTypeProfile;
+
+/**
+ * Asynchronous variant of {@link io.webfolder.cdp.command.Profiler}.
+ *
+ * The returned future is completed when the response of the command is received.
+ *
+ * Generated by CommandImplGenerator, do not edit.
+ */
+@Domain("Profiler")
+public interface AsyncProfiler {
+    /**
+     * @see io.webfolder.cdp.command.Profiler#disable()
+     */
+    CompletableFuture<Void> disable();
+
+    /**
+     * @see io.webfolder.cdp.command.Profiler#enable()
+     */
+    CompletableFuture<Void> enable();
+
+    /**
+     * @see io.webfolder.cdp.command.Profiler#getBestEffortCoverage()
+     */
+    CompletableFuture<List<ScriptCoverage>> getBestEffortCoverage();
+
+    /**
+     * @see io.webfolder.cdp.command.Profiler#setSamplingInterval(Integer)
+     */
+    CompletableFuture<Void> setSamplingInterval(Integer interval);
+
+    /**
+     * @see io.webfolder.cdp.command.Profiler#start()
+     */
+    CompletableFuture<Void> start();
+
+    /**
+     * @see io.webfolder.cdp.command.Profiler#startPreciseCoverage()
+     */
+    CompletableFuture<Void> startPreciseCoverage();
+
+    /**
+     * @see io.webfolder.cdp.command.Profiler#startPreciseCoverage(Boolean, Boolean)
+     */
+    CompletableFuture<Void> startPreciseCoverage(@Optional Boolean callCount,
+            @Optional Boolean detailed);
+
+    /**
+     * @see io.webfolder.cdp.command.Profiler#startTypeProfile()
+     */
+    @Experimental
+    CompletableFuture<Void> startTypeProfile();
+
+    /**
+     * @see io.webfolder.cdp.command.Profiler#stop()
+     */
+    CompletableFuture<Profile> stop();
+
+    /**
+     * @see io.webfolder.cdp.command.Profiler#stopPreciseCoverage()
+     */
+    CompletableFuture<Void> stopPreciseCoverage();
+
+    /**
+     * @see io.webfolder.cdp.command.Profiler#stopTypeProfile()
+     */
+    @Experimental
+    CompletableFuture<Void> stopTypeProfile();
+
+    /**
+     * @see io.webfolder.cdp.command.Profiler#takePreciseCoverage()
+     */
+    CompletableFuture<List<ScriptCoverage>> takePreciseCoverage();
+
+    /**
+     * @see io.webfolder.cdp.command.Profiler#takeTypeProfile()
+     */
+    @Experimental
+    CompletableFuture<List<ScriptTypeProfile>> takeTypeProfile();
+}
@@ -0,0 +1,227 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.async;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.annotation.Domain;
+import io.webfolder.cdp.annotation.Experimental;
+import io.webfolder.cdp.annotation.Optional;
+import io.webfolder.cdp.type.runtime.AwaitPromiseResult;
+import io.webfolder.cdp.type.runtime.CallArgument;
+import io.webfolder.cdp.type.runtime.CallFunctionOnResult;
+import io.webfolder.cdp.type.runtime.CompileScriptResult;
+import io.webfolder.cdp.type.runtime.EvaluateResult;
+import io.webfolder.cdp.type.runtime.GetHeapUsageResult;
+import io.webfolder.cdp.type.runtime.GetPropertiesResult;
+import io.webfolder.cdp.type.runtime.RemoteObject;
+import io.webfolder.cdp.type.runtime.RunScriptResult;
+
+/**
+ * Asynchronous variant of {@link io.webfolder.cdp.command.Runtime}.
+ *
+ * The returned future is completed when the response of the command is received.
+ *
+ * Generated by CommandImplGenerator, do not edit.
+ */
+@Domain("Runtime")
+public interface AsyncRuntime {
+    /**
+     * @see io.webfolder.cdp.command.Runtime#addBinding(String)
+     */
+    @Experimental
+    CompletableFuture<Void> addBinding(String name);
+
+    /**
+     * @see io.webfolder.cdp.command.Runtime#addBinding(String, Integer)
+     */
+    @Experimental
+    CompletableFuture<Void> addBinding(String name, @Optional Integer executionContextId);
+
+    /**
+     * @see io.webfolder.cdp.command.Runtime#awaitPromise(String)
+     */
+    CompletableFuture<AwaitPromiseResult> awaitPromise(String promiseObjectId);
+
+    /**
+     * @see io.webfolder.cdp.command.Runtime#awaitPromise(String, Boolean, Boolean)
+     */
+    CompletableFuture<AwaitPromiseResult> awaitPromise(String promiseObjectId,
+            @Optional Boolean returnByValue, @Optional Boolean generatePreview);
+
+    /**
+     * @see io.webfolder.cdp.command.Runtime#callFunctionOn(String)
+     */
+    CompletableFuture<CallFunctionOnResult> callFunctionOn(String functionDeclaration);
+
+    /**
+     * @see io.webfolder.cdp.command.Runtime#callFunctionOn(String, String, List, Boolean, Boolean, Boolean, Boolean, Boolean, Integer, String)
+     */
+    CompletableFuture<CallFunctionOnResult> callFunctionOn(String functionDeclaration,
+            @Optional String objectId, @Optional List<CallArgument> arguments,
+            @Optional Boolean silent, @Optional Boolean returnByValue,
+            @Experimental @Optional Boolean generatePreview, @Optional Boolean userGesture,
+            @Optional Boolean awaitPromise, @Optional Integer executionContextId,
+            @Optional String objectGroup);
+
+    /**
+     * @see io.webfolder.cdp.command.Runtime#compileScript(String, String, Boolean)
+     */
+    CompletableFuture<CompileScriptResult> compileScript(String expression, String sourceURL,
+            Boolean persistScript);
+
+    /**
+     * @see io.webfolder.cdp.command.Runtime#compileScript(String, String, Boolean, Integer)
+     */
+    CompletableFuture<CompileScriptResult> compileScript(String expression, String sourceURL,
+            Boolean persistScript, @Optional Integer executionContextId);
+
+    /**
+     * @see io.webfolder.cdp.command.Runtime#disable()
+     */
+    CompletableFuture<Void> disable();
+
+    /**
+     * @see io.webfolder.cdp.command.Runtime#discardConsoleEntries()
+     */
+    CompletableFuture<Void> discardConsoleEntries();
+
+    /**
+     * @see io.webfolder.cdp.command.Runtime#enable()
+     */
+    CompletableFuture<Void> enable();
+
+    /**
+     * @see io.webfolder.cdp.command.Runtime#evaluate(String)
+     */
+    CompletableFuture<EvaluateResult> evaluate(String expression);
+
+    /**
+     * @see io.webfolder.cdp.command.Runtime#evaluate(String, String, Boolean, Boolean, Integer, Boolean, Boolean, Boolean, Boolean, Boolean, Double)
+     */
+    CompletableFuture<EvaluateResult> evaluate(String expression, @Optional String objectGroup,
+            @Optional Boolean includeCommandLineAPI, @Optional Boolean silent,
+            @Optional Integer contextId, @Optional Boolean returnByValue,
+            @Experimental @Optional Boolean generatePreview, @Optional Boolean userGesture,
+            @Optional Boolean awaitPromise, @Experimental @Optional Boolean throwOnSideEffect,
+            @Experimental @Optional Double timeout);
+
+    /**
+     * @see io.webfolder.cdp.command.Runtime#getHeapUsage()
+     */
+    @Experimental
+    CompletableFuture<GetHeapUsageResult> getHeapUsage();
+
+    /**
+     * @see io.webfolder.cdp.command.Runtime#getIsolateId()
+     */
+    @Experimental
+    CompletableFuture<String> getIsolateId();
+
+    /**
+     * @see io.webfolder.cdp.command.Runtime#getProperties(String)
+     */
+    CompletableFuture<GetPropertiesResult> getProperties(String objectId);
+
+    /**
+     * @see io.webfolder.cdp.command.Runtime#getProperties(String, Boolean, Boolean, Boolean)
+     */
+    CompletableFuture<GetPropertiesResult> getProperties(String objectId,
+            @Optional Boolean ownProperties, @Experimental @Optional Boolean accessorPropertiesOnly,
+            @Experimental @Optional Boolean generatePreview);
+
+    /**
+     * @see io.webfolder.cdp.command.Runtime#globalLexicalScopeNames()
+     */
+    CompletableFuture<List<String>> globalLexicalScopeNames();
+
+    /**
+     * @see io.webfolder.cdp.command.Runtime#globalLexicalScopeNames(Integer)
+     */
+    CompletableFuture<List<String>> globalLexicalScopeNames(@Optional Integer executionContextId);
+
+    /**
+     * @see io.webfolder.cdp.command.Runtime#queryObjects(String)
+     */
+    CompletableFuture<RemoteObject> queryObjects(String prototypeObjectId);
+
+    /**
+     * @see io.webfolder.cdp.command.Runtime#queryObjects(String, String)
+     */
+    CompletableFuture<RemoteObject> queryObjects(String prototypeObjectId,
+            @Optional String objectGroup);
+
+    /**
+     * @see io.webfolder.cdp.command.Runtime#releaseObject(String)
+     */
+    CompletableFuture<Void> releaseObject(String objectId);
+
+    /**
+     * @see io.webfolder.cdp.command.Runtime#releaseObjectGroup(String)
+     */
+    CompletableFuture<Void> releaseObjectGroup(String objectGroup);
+
+    /**
+     * @see io.webfolder.cdp.command.Runtime#removeBinding(String)
+     */
+    @Experimental
+    CompletableFuture<Void> removeBinding(String name);
+
+    /**
+     * @see io.webfolder.cdp.command.Runtime#runIfWaitingForDebugger()
+     */
+    CompletableFuture<Void> runIfWaitingForDebugger();
+
+    /**
+     * @see io.webfolder.cdp.command.Runtime#runScript(String)
+     */
+    CompletableFuture<RunScriptResult> runScript(String scriptId);
+
+    /**
+     * @see io.webfolder.cdp.command.Runtime#runScript(String, Integer, String, Boolean, Boolean, Boolean, Boolean, Boolean)
+     */
+    CompletableFuture<RunScriptResult> runScript(String scriptId,
+            @Optional Integer executionContextId, @Optional String objectGroup,
+            @Optional Boolean silent, @Optional Boolean includeCommandLineAPI,
+            @Optional Boolean returnByValue, @Optional Boolean generatePreview,
+            @Optional Boolean awaitPromise);
+
+    /**
+     * @see io.webfolder.cdp.command.Runtime#setAsyncCallStackDepth(Integer)
+     */
+    CompletableFuture<Void> setAsyncCallStackDepth(Integer maxDepth);
+
+    /**
+     * @see io.webfolder.cdp.command.Runtime#setCustomObjectFormatterEnabled(Boolean)
+     */
+    @Experimental
+    CompletableFuture<Void> setCustomObjectFormatterEnabled(Boolean enabled);
+
+    /**
+     * @see io.webfolder.cdp.command.Runtime#setMaxCallStackSizeToCapture(Integer)
+     */
+    @Experimental
+    CompletableFuture<Void> setMaxCallStackSizeToCapture(Integer size);
+
+    /**
+     * @see io.webfolder.cdp.command.Runtime#terminateExecution()
+     */
+    @Experimental
+    CompletableFuture<Void> terminateExecution();
+}
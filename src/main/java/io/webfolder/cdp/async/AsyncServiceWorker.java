@@ -0,0 +1,95 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.async;
+
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.annotation.Domain;
+import io.webfolder.cdp.annotation.Experimental;
+
+/**
+ * Asynchronous variant of {@link io.webfolder.cdp.command.ServiceWorker}.
+ *
+ * The returned future is completed when the response of the command is received.
+ *
+ * Generated by CommandImplGenerator, do not edit.
+ */
+@Domain("ServiceWorker")
+@Experimental
+public interface AsyncServiceWorker {
+    /**
+     * @see io.webfolder.cdp.command.ServiceWorker#deliverPushMessage(String, String, String)
+     */
+    CompletableFuture<Void> deliverPushMessage(String origin, String registrationId, String data);
+
+    /**
+     * @see io.webfolder.cdp.command.ServiceWorker#disable()
+     */
+    CompletableFuture<Void> disable();
+
+    /**
+     * @see io.webfolder.cdp.command.ServiceWorker#dispatchSyncEvent(String, String, String, Boolean)
+     */
+    CompletableFuture<Void> dispatchSyncEvent(String origin, String registrationId, String tag,
+            Boolean lastChance);
+
+    /**
+     * @see io.webfolder.cdp.command.ServiceWorker#enable()
+     */
+    CompletableFuture<Void> enable();
+
+    /**
+     * @see io.webfolder.cdp.command.ServiceWorker#inspectWorker(String)
+     */
+    CompletableFuture<Void> inspectWorker(String versionId);
+
+    /**
+     * @see io.webfolder.cdp.command.ServiceWorker#setForceUpdateOnPageLoad(Boolean)
+     */
+    CompletableFuture<Void> setForceUpdateOnPageLoad(Boolean forceUpdateOnPageLoad);
+
+    /**
+     * @see io.webfolder.cdp.command.ServiceWorker#skipWaiting(String)
+     */
+    CompletableFuture<Void> skipWaiting(String scopeURL);
+
+    /**
+     * @see io.webfolder.cdp.command.ServiceWorker#startWorker(String)
+     */
+    CompletableFuture<Void> startWorker(String scopeURL);
+
+    /**
+     * @see io.webfolder.cdp.command.ServiceWorker#stopAllWorkers()
+     */
+    CompletableFuture<Void> stopAllWorkers();
+
+    /**
+     * @see io.webfolder.cdp.command.ServiceWorker#stopWorker(String)
+     */
+    CompletableFuture<Void> stopWorker(String versionId);
+
+    /**
+     * @see io.webfolder.cdp.command.ServiceWorker#unregister(String)
+     */
+    CompletableFuture<Void> unregister(String scopeURL);
+
+    /**
+     * @see io.webfolder.cdp.command.ServiceWorker#updateRegistration(String)
+     */
+    CompletableFuture<Void> updateRegistration(String scopeURL);
+}
@@ -0,0 +1,155 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.async;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.annotation.Domain;
+import io.webfolder.cdp.annotation.Experimental;
+import io.webfolder.cdp.annotation.Optional;
+import io.webfolder.cdp.type.target.RemoteLocation;
+import io.webfolder.cdp.type.target.TargetInfo;
+
+/**
+ * Asynchronous variant of {@link io.webfolder.cdp.command.Target}.
+ *
+ * The returned future is completed when the response of the command is received.
+ *
+ * Generated by CommandImplGenerator, do not edit.
+ */
+@Domain("Target")
+public interface AsyncTarget {
+    /**
+     * @see io.webfolder.cdp.command.Target#activateTarget(String)
+     */
+    CompletableFuture<Void> activateTarget(String targetId);
+
+    /**
+     * @see io.webfolder.cdp.command.Target#attachToTarget(String)
+     */
+    CompletableFuture<String> attachToTarget(String targetId);
+
+    /**
+     * @see io.webfolder.cdp.command.Target#attachToTarget(String, Boolean)
+     */
+    CompletableFuture<String> attachToTarget(String targetId,
+            @Experimental @Optional Boolean flatten);
+
+    /**
+     * @see io.webfolder.cdp.command.Target#closeTarget(String)
+     */
+    CompletableFuture<Boolean> closeTarget(String targetId);
+
+    /**
+     * @see io.webfolder.cdp.command.Target#createBrowserContext()
+     */
+    @Experimental
+    CompletableFuture<String> createBrowserContext();
+
+    /**
+     * @see io.webfolder.cdp.command.Target#createTarget(String)
+     */
+    CompletableFuture<String> createTarget(String url);
+
+    /**
+     * @see io.webfolder.cdp.command.Target#createTarget(String, Integer, Integer, String, Boolean)
+     */
+    CompletableFuture<String> createTarget(String url, @Optional Integer width,
+            @Optional Integer height, @Optional String browserContextId,
+            @Experimental @Optional Boolean enableBeginFrameControl);
+
+    /**
+     * @see io.webfolder.cdp.command.Target#detachFromTarget()
+     */
+    CompletableFuture<Void> detachFromTarget();
+
+    /**
+     * @see io.webfolder.cdp.command.Target#detachFromTarget(String, String)
+     */
+    CompletableFuture<Void> detachFromTarget(@Optional String sessionId, @Optional String targetId);
+
+    /**
+     * @see io.webfolder.cdp.command.Target#disposeBrowserContext(String)
+     */
+    @Experimental
+    CompletableFuture<Void> disposeBrowserContext(String browserContextId);
+
+    /**
+     * @see io.webfolder.cdp.command.Target#exposeDevToolsProtocol(String)
+     */
+    @Experimental
+    CompletableFuture<Void> exposeDevToolsProtocol(String targetId);
+
+    /**
+     * @see io.webfolder.cdp.command.Target#exposeDevToolsProtocol(String, String)
+     */
+    @Experimental
+    CompletableFuture<Void> exposeDevToolsProtocol(String targetId, @Optional String bindingName);
+
+    /**
+     * @see io.webfolder.cdp.command.Target#getBrowserContexts()
+     */
+    @Experimental
+    CompletableFuture<List<String>> getBrowserContexts();
+
+    /**
+     * @see io.webfolder.cdp.command.Target#getTargetInfo()
+     */
+    @Experimental
+    CompletableFuture<TargetInfo> getTargetInfo();
+
+    /**
+     * @see io.webfolder.cdp.command.Target#getTargetInfo(String)
+     */
+    @Experimental
+    CompletableFuture<TargetInfo> getTargetInfo(@Optional String targetId);
+
+    /**
+     * @see io.webfolder.cdp.command.Target#getTargets()
+     */
+    CompletableFuture<List<TargetInfo>> getTargets();
+
+    /**
+     * @see io.webfolder.cdp.command.Target#sendMessageToTarget(String)
+     */
+    CompletableFuture<Void> sendMessageToTarget(String message);
+
+    /**
+     * @see io.webfolder.cdp.command.Target#sendMessageToTarget(String, String, String)
+     */
+    CompletableFuture<Void> sendMessageToTarget(String message, @Optional String sessionId,
+            @Optional String targetId);
+
+    /**
+     * @see io.webfolder.cdp.command.Target#setAutoAttach(Boolean, Boolean)
+     */
+    @Experimental
+    CompletableFuture<Void> setAutoAttach(Boolean autoAttach, Boolean waitForDebuggerOnStart);
+
+    /**
+     * @see io.webfolder.cdp.command.Target#setDiscoverTargets(Boolean)
+     */
+    CompletableFuture<Void> setDiscoverTargets(Boolean discover);
+
+    /**
+     * @see io.webfolder.cdp.command.Target#setRemoteLocations(List)
+     */
+    @Experimental
+    CompletableFuture<Void> setRemoteLocations(List<RemoteLocation> locations);
+}
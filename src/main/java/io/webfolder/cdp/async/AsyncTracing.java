@@ -0,0 +1,72 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.async;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.annotation.Domain;
+import io.webfolder.cdp.annotation.Experimental;
+import io.webfolder.cdp.annotation.Optional;
+import io.webfolder.cdp.type.constant.TransferMode;
+import io.webfolder.cdp.type.tracing.RequestMemoryDumpResult;
+import io.webfolder.cdp.type.tracing.StreamCompression;
+import io.webfolder.cdp.type.tracing.TraceConfig;
+
+/**
+ * Asynchronous variant of {@link io.webfolder.cdp.command.Tracing}.
+ *
+ * The returned future is completed when the response of the command is received.
+ *
+ * Generated by CommandImplGenerator, do not edit.
+ */
+@Domain("Tracing")
+@Experimental
+public interface AsyncTracing {
+    /**
+     * @see io.webfolder.cdp.command.Tracing#end()
+     */
+    CompletableFuture<Void> end();
+
+    /**
+     * @see io.webfolder.cdp.command.Tracing#getCategories()
+     */
+    CompletableFuture<List<String>> getCategories();
+
+    /**
+     * @see io.webfolder.cdp.command.Tracing#recordClockSyncMarker(String)
+     */
+    CompletableFuture<Void> recordClockSyncMarker(String syncId);
+
+    /**
+     * @see io.webfolder.cdp.command.Tracing#requestMemoryDump()
+     */
+    CompletableFuture<RequestMemoryDumpResult> requestMemoryDump();
+
+    /**
+     * @see io.webfolder.cdp.command.Tracing#start()
+     */
+    CompletableFuture<Void> start();
+
+    /**
+     * @see io.webfolder.cdp.command.Tracing#start(String, String, Double, TransferMode, StreamCompression, TraceConfig)
+     */
+    CompletableFuture<Void> start(@Optional String categories, @Optional String options,
+            @Optional Double bufferUsageReportingInterval, @Optional TransferMode transferMode,
+            @Optional StreamCompression streamCompression, @Optional TraceConfig traceConfig);
+}
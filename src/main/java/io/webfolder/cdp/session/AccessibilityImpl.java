@@ -0,0 +1,60 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+import com.google.gson.reflect.TypeToken;
+
+import io.webfolder.cdp.command.Accessibility;
+import io.webfolder.cdp.type.accessibility.AXNode;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class AccessibilityImpl implements Accessibility {
+    static final CommandSerializer GET_PARTIAL_AXTREE = new CommandSerializer("Accessibility", "getPartialAXTree",
+            new String[0],
+            new Type[0],
+            new TypeToken<List<AXNode>>() { }.getType(), "nodes");
+
+    static final CommandSerializer GET_PARTIAL_AXTREE_1 = new CommandSerializer("Accessibility", "getPartialAXTree",
+            new String[] { "nodeId", "backendNodeId", "objectId", "fetchRelatives" },
+            new Type[] { Integer.class, Integer.class, String.class, Boolean.class },
+            new TypeToken<List<AXNode>>() { }.getType(), "nodes");
+
+    private final SessionInvocationHandler handler;
+
+    AccessibilityImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<AXNode> getPartialAXTree() {
+        return (List<AXNode>) handler.invoke(GET_PARTIAL_AXTREE, null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<AXNode> getPartialAXTree(final Integer nodeId, final Integer backendNodeId,
+            final String objectId, final Boolean fetchRelatives) {
+        return (List<AXNode>) handler.invoke(GET_PARTIAL_AXTREE_1, new Object[] { nodeId, backendNodeId, objectId, fetchRelatives });
+    }
+}
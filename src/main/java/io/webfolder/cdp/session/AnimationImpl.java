@@ -0,0 +1,137 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+import com.google.gson.reflect.TypeToken;
+
+import io.webfolder.cdp.command.Animation;
+import io.webfolder.cdp.type.runtime.RemoteObject;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class AnimationImpl implements Animation {
+    static final CommandSerializer DISABLE = new CommandSerializer("Animation", "disable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer ENABLE = new CommandSerializer("Animation", "enable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer GET_CURRENT_TIME = new CommandSerializer("Animation", "getCurrentTime",
+            new String[] { "id" },
+            new Type[] { String.class },
+            Double.class, "currentTime");
+
+    static final CommandSerializer GET_PLAYBACK_RATE = new CommandSerializer("Animation", "getPlaybackRate",
+            new String[0],
+            new Type[0],
+            Double.class, "playbackRate");
+
+    static final CommandSerializer RELEASE_ANIMATIONS = new CommandSerializer("Animation", "releaseAnimations",
+            new String[] { "animations" },
+            new Type[] { new TypeToken<List<String>>() { }.getType() },
+            null, null);
+
+    static final CommandSerializer RESOLVE_ANIMATION = new CommandSerializer("Animation", "resolveAnimation",
+            new String[] { "animationId" },
+            new Type[] { String.class },
+            RemoteObject.class, "remoteObject");
+
+    static final CommandSerializer SEEK_ANIMATIONS = new CommandSerializer("Animation", "seekAnimations",
+            new String[] { "animations", "currentTime" },
+            new Type[] { new TypeToken<List<String>>() { }.getType(), Double.class },
+            null, null);
+
+    static final CommandSerializer SET_PAUSED = new CommandSerializer("Animation", "setPaused",
+            new String[] { "animations", "paused" },
+            new Type[] { new TypeToken<List<String>>() { }.getType(), Boolean.class },
+            null, null);
+
+    static final CommandSerializer SET_PLAYBACK_RATE = new CommandSerializer("Animation", "setPlaybackRate",
+            new String[] { "playbackRate" },
+            new Type[] { Double.class },
+            null, null);
+
+    static final CommandSerializer SET_TIMING = new CommandSerializer("Animation", "setTiming",
+            new String[] { "animationId", "duration", "delay" },
+            new Type[] { String.class, Double.class, Double.class },
+            null, null);
+
+    private final SessionInvocationHandler handler;
+
+    AnimationImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public void disable() {
+        handler.invoke(DISABLE, null);
+    }
+
+    @Override
+    public void enable() {
+        handler.invoke(ENABLE, null);
+    }
+
+    @Override
+    public Double getCurrentTime(final String id) {
+        return (Double) handler.invoke(GET_CURRENT_TIME, new Object[] { id });
+    }
+
+    @Override
+    public Double getPlaybackRate() {
+        return (Double) handler.invoke(GET_PLAYBACK_RATE, null);
+    }
+
+    @Override
+    public void releaseAnimations(final List<String> animations) {
+        handler.invoke(RELEASE_ANIMATIONS, new Object[] { animations });
+    }
+
+    @Override
+    public RemoteObject resolveAnimation(final String animationId) {
+        return (RemoteObject) handler.invoke(RESOLVE_ANIMATION, new Object[] { animationId });
+    }
+
+    @Override
+    public void seekAnimations(final List<String> animations, final Double currentTime) {
+        handler.invoke(SEEK_ANIMATIONS, new Object[] { animations, currentTime });
+    }
+
+    @Override
+    public void setPaused(final List<String> animations, final Boolean paused) {
+        handler.invoke(SET_PAUSED, new Object[] { animations, paused });
+    }
+
+    @Override
+    public void setPlaybackRate(final Double playbackRate) {
+        handler.invoke(SET_PLAYBACK_RATE, new Object[] { playbackRate });
+    }
+
+    @Override
+    public void setTiming(final String animationId, final Double duration, final Double delay) {
+        handler.invoke(SET_TIMING, new Object[] { animationId, duration, delay });
+    }
+}
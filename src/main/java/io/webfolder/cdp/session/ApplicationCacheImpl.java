@@ -0,0 +1,78 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+import com.google.gson.reflect.TypeToken;
+
+import io.webfolder.cdp.command.ApplicationCache;
+import io.webfolder.cdp.type.applicationcache.FrameWithManifest;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class ApplicationCacheImpl implements ApplicationCache {
+    static final CommandSerializer ENABLE = new CommandSerializer("ApplicationCache", "enable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer GET_APPLICATION_CACHE_FOR_FRAME = new CommandSerializer("ApplicationCache", "getApplicationCacheForFrame",
+            new String[] { "frameId" },
+            new Type[] { String.class },
+            io.webfolder.cdp.type.applicationcache.ApplicationCache.class, "applicationCache");
+
+    static final CommandSerializer GET_FRAMES_WITH_MANIFESTS = new CommandSerializer("ApplicationCache", "getFramesWithManifests",
+            new String[0],
+            new Type[0],
+            new TypeToken<List<FrameWithManifest>>() { }.getType(), "frameIds");
+
+    static final CommandSerializer GET_MANIFEST_FOR_FRAME = new CommandSerializer("ApplicationCache", "getManifestForFrame",
+            new String[] { "frameId" },
+            new Type[] { String.class },
+            String.class, "manifestURL");
+
+    private final SessionInvocationHandler handler;
+
+    ApplicationCacheImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public void enable() {
+        handler.invoke(ENABLE, null);
+    }
+
+    @Override
+    public io.webfolder.cdp.type.applicationcache.ApplicationCache getApplicationCacheForFrame(final String frameId) {
+        return (io.webfolder.cdp.type.applicationcache.ApplicationCache) handler.invoke(GET_APPLICATION_CACHE_FOR_FRAME, new Object[] { frameId });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<FrameWithManifest> getFramesWithManifests() {
+        return (List<FrameWithManifest>) handler.invoke(GET_FRAMES_WITH_MANIFESTS, null);
+    }
+
+    @Override
+    public String getManifestForFrame(final String frameId) {
+        return (String) handler.invoke(GET_MANIFEST_FOR_FRAME, new Object[] { frameId });
+    }
+}
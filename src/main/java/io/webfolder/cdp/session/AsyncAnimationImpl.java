@@ -0,0 +1,87 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.async.AsyncAnimation;
+import io.webfolder.cdp.type.runtime.RemoteObject;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class AsyncAnimationImpl implements AsyncAnimation {
+    private final SessionInvocationHandler handler;
+
+    AsyncAnimationImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public CompletableFuture<Void> disable() {
+        return handler.invokeAsync(AnimationImpl.DISABLE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> enable() {
+        return handler.invokeAsync(AnimationImpl.ENABLE, null);
+    }
+
+    @Override
+    public CompletableFuture<Double> getCurrentTime(final String id) {
+        return handler.invokeAsync(AnimationImpl.GET_CURRENT_TIME, new Object[] { id });
+    }
+
+    @Override
+    public CompletableFuture<Double> getPlaybackRate() {
+        return handler.invokeAsync(AnimationImpl.GET_PLAYBACK_RATE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> releaseAnimations(final List<String> animations) {
+        return handler.invokeAsync(AnimationImpl.RELEASE_ANIMATIONS, new Object[] { animations });
+    }
+
+    @Override
+    public CompletableFuture<RemoteObject> resolveAnimation(final String animationId) {
+        return handler.invokeAsync(AnimationImpl.RESOLVE_ANIMATION, new Object[] { animationId });
+    }
+
+    @Override
+    public CompletableFuture<Void> seekAnimations(final List<String> animations,
+            final Double currentTime) {
+        return handler.invokeAsync(AnimationImpl.SEEK_ANIMATIONS, new Object[] { animations, currentTime });
+    }
+
+    @Override
+    public CompletableFuture<Void> setPaused(final List<String> animations, final Boolean paused) {
+        return handler.invokeAsync(AnimationImpl.SET_PAUSED, new Object[] { animations, paused });
+    }
+
+    @Override
+    public CompletableFuture<Void> setPlaybackRate(final Double playbackRate) {
+        return handler.invokeAsync(AnimationImpl.SET_PLAYBACK_RATE, new Object[] { playbackRate });
+    }
+
+    @Override
+    public CompletableFuture<Void> setTiming(final String animationId, final Double duration,
+            final Double delay) {
+        return handler.invokeAsync(AnimationImpl.SET_TIMING, new Object[] { animationId, duration, delay });
+    }
+}
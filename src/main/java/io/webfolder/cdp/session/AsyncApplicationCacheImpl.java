@@ -0,0 +1,56 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.async.AsyncApplicationCache;
+import io.webfolder.cdp.type.applicationcache.ApplicationCache;
+import io.webfolder.cdp.type.applicationcache.FrameWithManifest;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class AsyncApplicationCacheImpl implements AsyncApplicationCache {
+    private final SessionInvocationHandler handler;
+
+    AsyncApplicationCacheImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public CompletableFuture<Void> enable() {
+        return handler.invokeAsync(ApplicationCacheImpl.ENABLE, null);
+    }
+
+    @Override
+    public CompletableFuture<ApplicationCache> getApplicationCacheForFrame(final String frameId) {
+        return handler.invokeAsync(ApplicationCacheImpl.GET_APPLICATION_CACHE_FOR_FRAME, new Object[] { frameId });
+    }
+
+    @Override
+    public CompletableFuture<List<FrameWithManifest>> getFramesWithManifests() {
+        return handler.invokeAsync(ApplicationCacheImpl.GET_FRAMES_WITH_MANIFESTS, null);
+    }
+
+    @Override
+    public CompletableFuture<String> getManifestForFrame(final String frameId) {
+        return handler.invokeAsync(ApplicationCacheImpl.GET_MANIFEST_FOR_FRAME, new Object[] { frameId });
+    }
+}
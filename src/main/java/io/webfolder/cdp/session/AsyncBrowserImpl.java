@@ -0,0 +1,89 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.async.AsyncBrowser;
+import io.webfolder.cdp.type.browser.Bounds;
+import io.webfolder.cdp.type.browser.GetVersionResult;
+import io.webfolder.cdp.type.browser.GetWindowForTargetResult;
+import io.webfolder.cdp.type.browser.Histogram;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class AsyncBrowserImpl implements AsyncBrowser {
+    private final SessionInvocationHandler handler;
+
+    AsyncBrowserImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public CompletableFuture<Void> close() {
+        return handler.invokeAsync(BrowserImpl.CLOSE, null);
+    }
+
+    @Override
+    public CompletableFuture<List<String>> getBrowserCommandLine() {
+        return handler.invokeAsync(BrowserImpl.GET_BROWSER_COMMAND_LINE, null);
+    }
+
+    @Override
+    public CompletableFuture<Histogram> getHistogram(final String name) {
+        return handler.invokeAsync(BrowserImpl.GET_HISTOGRAM, new Object[] { name });
+    }
+
+    @Override
+    public CompletableFuture<Histogram> getHistogram(final String name, final Boolean delta) {
+        return handler.invokeAsync(BrowserImpl.GET_HISTOGRAM_1, new Object[] { name, delta });
+    }
+
+    @Override
+    public CompletableFuture<List<Histogram>> getHistograms() {
+        return handler.invokeAsync(BrowserImpl.GET_HISTOGRAMS, null);
+    }
+
+    @Override
+    public CompletableFuture<List<Histogram>> getHistograms(final String query,
+            final Boolean delta) {
+        return handler.invokeAsync(BrowserImpl.GET_HISTOGRAMS_1, new Object[] { query, delta });
+    }
+
+    @Override
+    public CompletableFuture<GetVersionResult> getVersion() {
+        return handler.invokeAsync(BrowserImpl.GET_VERSION, null);
+    }
+
+    @Override
+    public CompletableFuture<Bounds> getWindowBounds(final Integer windowId) {
+        return handler.invokeAsync(BrowserImpl.GET_WINDOW_BOUNDS, new Object[] { windowId });
+    }
+
+    @Override
+    public CompletableFuture<GetWindowForTargetResult> getWindowForTarget(final String targetId) {
+        return handler.invokeAsync(BrowserImpl.GET_WINDOW_FOR_TARGET, new Object[] { targetId });
+    }
+
+    @Override
+    public CompletableFuture<Void> setWindowBounds(final Integer windowId, final Bounds bounds) {
+        return handler.invokeAsync(BrowserImpl.SET_WINDOW_BOUNDS, new Object[] { windowId, bounds });
+    }
+}
@@ -0,0 +1,164 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.async.AsyncCSS;
+import io.webfolder.cdp.type.css.CSSComputedStyleProperty;
+import io.webfolder.cdp.type.css.CSSMedia;
+import io.webfolder.cdp.type.css.CSSRule;
+import io.webfolder.cdp.type.css.CSSStyle;
+import io.webfolder.cdp.type.css.GetBackgroundColorsResult;
+import io.webfolder.cdp.type.css.GetInlineStylesForNodeResult;
+import io.webfolder.cdp.type.css.GetMatchedStylesForNodeResult;
+import io.webfolder.cdp.type.css.PlatformFontUsage;
+import io.webfolder.cdp.type.css.RuleUsage;
+import io.webfolder.cdp.type.css.SelectorList;
+import io.webfolder.cdp.type.css.SourceRange;
+import io.webfolder.cdp.type.css.StyleDeclarationEdit;
+import io.webfolder.cdp.type.css.Value;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class AsyncCSSImpl implements AsyncCSS {
+    private final SessionInvocationHandler handler;
+
+    AsyncCSSImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public CompletableFuture<CSSRule> addRule(final String styleSheetId, final String ruleText,
+            final SourceRange location) {
+        return handler.invokeAsync(CSSImpl.ADD_RULE, new Object[] { styleSheetId, ruleText, location });
+    }
+
+    @Override
+    public CompletableFuture<List<String>> collectClassNames(final String styleSheetId) {
+        return handler.invokeAsync(CSSImpl.COLLECT_CLASS_NAMES, new Object[] { styleSheetId });
+    }
+
+    @Override
+    public CompletableFuture<String> createStyleSheet(final String frameId) {
+        return handler.invokeAsync(CSSImpl.CREATE_STYLE_SHEET, new Object[] { frameId });
+    }
+
+    @Override
+    public CompletableFuture<Void> disable() {
+        return handler.invokeAsync(CSSImpl.DISABLE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> enable() {
+        return handler.invokeAsync(CSSImpl.ENABLE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> forcePseudoState(final Integer nodeId,
+            final List<String> forcedPseudoClasses) {
+        return handler.invokeAsync(CSSImpl.FORCE_PSEUDO_STATE, new Object[] { nodeId, forcedPseudoClasses });
+    }
+
+    @Override
+    public CompletableFuture<GetBackgroundColorsResult> getBackgroundColors(final Integer nodeId) {
+        return handler.invokeAsync(CSSImpl.GET_BACKGROUND_COLORS, new Object[] { nodeId });
+    }
+
+    @Override
+    public CompletableFuture<List<CSSComputedStyleProperty>> getComputedStyleForNode(final Integer nodeId) {
+        return handler.invokeAsync(CSSImpl.GET_COMPUTED_STYLE_FOR_NODE, new Object[] { nodeId });
+    }
+
+    @Override
+    public CompletableFuture<GetInlineStylesForNodeResult> getInlineStylesForNode(final Integer nodeId) {
+        return handler.invokeAsync(CSSImpl.GET_INLINE_STYLES_FOR_NODE, new Object[] { nodeId });
+    }
+
+    @Override
+    public CompletableFuture<GetMatchedStylesForNodeResult> getMatchedStylesForNode(final Integer nodeId) {
+        return handler.invokeAsync(CSSImpl.GET_MATCHED_STYLES_FOR_NODE, new Object[] { nodeId });
+    }
+
+    @Override
+    public CompletableFuture<List<CSSMedia>> getMediaQueries() {
+        return handler.invokeAsync(CSSImpl.GET_MEDIA_QUERIES, null);
+    }
+
+    @Override
+    public CompletableFuture<List<PlatformFontUsage>> getPlatformFontsForNode(final Integer nodeId) {
+        return handler.invokeAsync(CSSImpl.GET_PLATFORM_FONTS_FOR_NODE, new Object[] { nodeId });
+    }
+
+    @Override
+    public CompletableFuture<String> getStyleSheetText(final String styleSheetId) {
+        return handler.invokeAsync(CSSImpl.GET_STYLE_SHEET_TEXT, new Object[] { styleSheetId });
+    }
+
+    @Override
+    public CompletableFuture<Void> setEffectivePropertyValueForNode(final Integer nodeId,
+            final String propertyName, final String value) {
+        return handler.invokeAsync(CSSImpl.SET_EFFECTIVE_PROPERTY_VALUE_FOR_NODE, new Object[] { nodeId, propertyName, value });
+    }
+
+    @Override
+    public CompletableFuture<Value> setKeyframeKey(final String styleSheetId,
+            final SourceRange range, final String keyText) {
+        return handler.invokeAsync(CSSImpl.SET_KEYFRAME_KEY, new Object[] { styleSheetId, range, keyText });
+    }
+
+    @Override
+    public CompletableFuture<CSSMedia> setMediaText(final String styleSheetId,
+            final SourceRange range, final String text) {
+        return handler.invokeAsync(CSSImpl.SET_MEDIA_TEXT, new Object[] { styleSheetId, range, text });
+    }
+
+    @Override
+    public CompletableFuture<SelectorList> setRuleSelector(final String styleSheetId,
+            final SourceRange range, final String selector) {
+        return handler.invokeAsync(CSSImpl.SET_RULE_SELECTOR, new Object[] { styleSheetId, range, selector });
+    }
+
+    @Override
+    public CompletableFuture<String> setStyleSheetText(final String styleSheetId,
+            final String text) {
+        return handler.invokeAsync(CSSImpl.SET_STYLE_SHEET_TEXT, new Object[] { styleSheetId, text });
+    }
+
+    @Override
+    public CompletableFuture<List<CSSStyle>> setStyleTexts(final List<StyleDeclarationEdit> edits) {
+        return handler.invokeAsync(CSSImpl.SET_STYLE_TEXTS, new Object[] { edits });
+    }
+
+    @Override
+    public CompletableFuture<Void> startRuleUsageTracking() {
+        return handler.invokeAsync(CSSImpl.START_RULE_USAGE_TRACKING, null);
+    }
+
+    @Override
+    public CompletableFuture<List<RuleUsage>> stopRuleUsageTracking() {
+        return handler.invokeAsync(CSSImpl.STOP_RULE_USAGE_TRACKING, null);
+    }
+
+    @Override
+    public CompletableFuture<List<RuleUsage>> takeCoverageDelta() {
+        return handler.invokeAsync(CSSImpl.TAKE_COVERAGE_DELTA, null);
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.async.AsyncCacheStorage;
+import io.webfolder.cdp.type.cachestorage.Cache;
+import io.webfolder.cdp.type.cachestorage.CachedResponse;
+import io.webfolder.cdp.type.cachestorage.RequestEntriesResult;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class AsyncCacheStorageImpl implements AsyncCacheStorage {
+    private final SessionInvocationHandler handler;
+
+    AsyncCacheStorageImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteCache(final String cacheId) {
+        return handler.invokeAsync(CacheStorageImpl.DELETE_CACHE, new Object[] { cacheId });
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteEntry(final String cacheId, final String request) {
+        return handler.invokeAsync(CacheStorageImpl.DELETE_ENTRY, new Object[] { cacheId, request });
+    }
+
+    @Override
+    public CompletableFuture<List<Cache>> requestCacheNames(final String securityOrigin) {
+        return handler.invokeAsync(CacheStorageImpl.REQUEST_CACHE_NAMES, new Object[] { securityOrigin });
+    }
+
+    @Override
+    public CompletableFuture<CachedResponse> requestCachedResponse(final String cacheId,
+            final String requestURL) {
+        return handler.invokeAsync(CacheStorageImpl.REQUEST_CACHED_RESPONSE, new Object[] { cacheId, requestURL });
+    }
+
+    @Override
+    public CompletableFuture<RequestEntriesResult> requestEntries(final String cacheId,
+            final Integer skipCount, final Integer pageSize) {
+        return handler.invokeAsync(CacheStorageImpl.REQUEST_ENTRIES, new Object[] { cacheId, skipCount, pageSize });
+    }
+}
@@ -0,0 +1,211 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import io.webfolder.cdp.async.AsyncAccessibility;
+import io.webfolder.cdp.async.AsyncAnimation;
+import io.webfolder.cdp.async.AsyncApplicationCache;
+import io.webfolder.cdp.async.AsyncBrowser;
+import io.webfolder.cdp.async.AsyncCSS;
+import io.webfolder.cdp.async.AsyncCacheStorage;
+import io.webfolder.cdp.async.AsyncDOM;
+import io.webfolder.cdp.async.AsyncDOMDebugger;
+import io.webfolder.cdp.async.AsyncDOMSnapshot;
+import io.webfolder.cdp.async.AsyncDOMStorage;
+import io.webfolder.cdp.async.AsyncDatabase;
+import io.webfolder.cdp.async.AsyncDebugger;
+import io.webfolder.cdp.async.AsyncDeviceOrientation;
+import io.webfolder.cdp.async.AsyncEmulation;
+import io.webfolder.cdp.async.AsyncHeapProfiler;
+import io.webfolder.cdp.async.AsyncIO;
+import io.webfolder.cdp.async.AsyncIndexedDB;
+import io.webfolder.cdp.async.AsyncInput;
+import io.webfolder.cdp.async.AsyncInspector;
+import io.webfolder.cdp.async.AsyncLayerTree;
+import io.webfolder.cdp.async.AsyncLog;
+import io.webfolder.cdp.async.AsyncMemory;
+import io.webfolder.cdp.async.AsyncNetwork;
+import io.webfolder.cdp.async.AsyncOverlay;
+import io.webfolder.cdp.async.AsyncPage;
+import io.webfolder.cdp.async.AsyncProfiler;
+import io.webfolder.cdp.async.AsyncRuntime;
+import io.webfolder.cdp.async.AsyncSecurity;
+import io.webfolder.cdp.async.AsyncServiceWorker;
+import io.webfolder.cdp.async.AsyncStorage;
+import io.webfolder.cdp.async.AsyncSystemInfo;
+import io.webfolder.cdp.async.AsyncTarget;
+import io.webfolder.cdp.async.AsyncTethering;
+import io.webfolder.cdp.async.AsyncTracing;
+
+/**
+ * Non-blocking variants of the {@link Command} domains.
+ */
+@SuppressWarnings("deprecation")
+public class AsyncCommand {
+
+    private final Session session;
+
+    public AsyncCommand(final Session session) {
+        this.session = session;
+    }
+
+    public AsyncAccessibility getAccessibility() {
+        return getProxy(AsyncAccessibility.class);
+    }
+
+    public AsyncAnimation getAnimation() {
+        return getProxy(AsyncAnimation.class);
+    }
+
+    public AsyncApplicationCache getApplicationCache() {
+        return getProxy(AsyncApplicationCache.class);
+    }
+
+    public AsyncBrowser getBrowser() {
+        return getProxy(AsyncBrowser.class);
+    }
+
+    public AsyncCacheStorage getCacheStorage() {
+        return getProxy(AsyncCacheStorage.class);
+    }
+ 
+    public AsyncCSS getCSS() {
+        return getProxy(AsyncCSS.class);
+    }
+
+    public AsyncDatabase getDatabase() {
+        return getProxy(AsyncDatabase.class);
+    }
+    
+    public AsyncDebugger getDebugger() {
+        return getProxy(AsyncDebugger.class);
+    }
+
+    public AsyncDeviceOrientation getDeviceOrientation() {
+        return getProxy(AsyncDeviceOrientation.class);
+    }
+
+    public AsyncDOM getDOM() {
+        return getProxy(AsyncDOM.class);
+    }
+
+    public AsyncDOMDebugger getDOMDebugger() {
+        return getProxy(AsyncDOMDebugger.class);
+    }
+
+    public AsyncDOMStorage getDOMStorage() {
+        return getProxy(AsyncDOMStorage.class);
+    }
+
+    public AsyncEmulation getEmulation() {
+        return getProxy(AsyncEmulation.class);
+    }
+
+    public AsyncHeapProfiler getHeapProfiler() {
+        return getProxy(AsyncHeapProfiler.class);
+    }
+
+    public AsyncIndexedDB getIndexedDB() {
+        return getProxy(AsyncIndexedDB.class);
+    }
+
+    public AsyncInput getInput() {
+        return getProxy(AsyncInput.class);
+    }
+
+    public AsyncInspector getInspector() {
+        return getProxy(AsyncInspector.class);
+    }
+
+    public AsyncIO getIO() {
+        return getProxy(AsyncIO.class);
+    }
+
+    public AsyncLayerTree getLayerTree() {
+        return getProxy(AsyncLayerTree.class);
+    }
+   
+    public AsyncLog getLog() {
+        return getProxy(AsyncLog.class);
+    }
+
+    public AsyncMemory getMemory() {
+        return getProxy(AsyncMemory.class);
+    }
+
+    public AsyncNetwork getNetwork() {
+        return getProxy(AsyncNetwork.class);
+    }
+
+    public AsyncPage getPage() {
+        return getProxy(AsyncPage.class);
+    }
+
+    public AsyncProfiler getProfiler() {
+        return getProxy(AsyncProfiler.class);
+    }
+
+    public AsyncOverlay getOverlay() {
+        return getProxy(AsyncOverlay.class);
+    }
+
+    public AsyncRuntime getRuntime() {
+        return getProxy(AsyncRuntime.class);
+    }
+
+    public io.webfolder.cdp.async.AsyncSchema getSchema() {
+        return getProxy(io.webfolder.cdp.async.AsyncSchema.class);
+    }
+
+    public AsyncSecurity getSecurity() {
+        return getProxy(AsyncSecurity.class);
+    }
+
+    public AsyncServiceWorker getServiceWorker() {
+        return getProxy(AsyncServiceWorker.class);
+    }
+
+    public AsyncStorage getStorage() {
+        return getProxy(AsyncStorage.class);
+    }
+
+    public AsyncSystemInfo getSystemInfo() {
+        return getProxy(AsyncSystemInfo.class);
+    }
+
+    public AsyncTarget getTarget() {
+        return getProxy(AsyncTarget.class);
+    }
+
+    public AsyncTethering getTethering() {
+        return getProxy(AsyncTethering.class);
+    }
+
+    public AsyncTracing getTracing() {
+        return getProxy(AsyncTracing.class);
+    }
+
+    public AsyncDOMSnapshot getDOMSnapshot() {
+        return getProxy(AsyncDOMSnapshot.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T getProxy(Class<?> klass) {
+        return (T) session.getAsyncProxy(klass);
+    }
+}
@@ -0,0 +1,101 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.async.AsyncDOMDebugger;
+import io.webfolder.cdp.type.domdebugger.DOMBreakpointType;
+import io.webfolder.cdp.type.domdebugger.EventListener;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class AsyncDOMDebuggerImpl implements AsyncDOMDebugger {
+    private final SessionInvocationHandler handler;
+
+    AsyncDOMDebuggerImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public CompletableFuture<List<EventListener>> getEventListeners(final String objectId) {
+        return handler.invokeAsync(DOMDebuggerImpl.GET_EVENT_LISTENERS, new Object[] { objectId });
+    }
+
+    @Override
+    public CompletableFuture<List<EventListener>> getEventListeners(final String objectId,
+            final Integer depth, final Boolean pierce) {
+        return handler.invokeAsync(DOMDebuggerImpl.GET_EVENT_LISTENERS_1, new Object[] { objectId, depth, pierce });
+    }
+
+    @Override
+    public CompletableFuture<Void> removeDOMBreakpoint(final Integer nodeId,
+            final DOMBreakpointType type) {
+        return handler.invokeAsync(DOMDebuggerImpl.REMOVE_DOMBREAKPOINT, new Object[] { nodeId, type });
+    }
+
+    @Override
+    public CompletableFuture<Void> removeEventListenerBreakpoint(final String eventName) {
+        return handler.invokeAsync(DOMDebuggerImpl.REMOVE_EVENT_LISTENER_BREAKPOINT, new Object[] { eventName });
+    }
+
+    @Override
+    public CompletableFuture<Void> removeEventListenerBreakpoint(final String eventName,
+            final String targetName) {
+        return handler.invokeAsync(DOMDebuggerImpl.REMOVE_EVENT_LISTENER_BREAKPOINT_1, new Object[] { eventName, targetName });
+    }
+
+    @Override
+    public CompletableFuture<Void> removeInstrumentationBreakpoint(final String eventName) {
+        return handler.invokeAsync(DOMDebuggerImpl.REMOVE_INSTRUMENTATION_BREAKPOINT, new Object[] { eventName });
+    }
+
+    @Override
+    public CompletableFuture<Void> removeXHRBreakpoint(final String url) {
+        return handler.invokeAsync(DOMDebuggerImpl.REMOVE_XHRBREAKPOINT, new Object[] { url });
+    }
+
+    @Override
+    public CompletableFuture<Void> setDOMBreakpoint(final Integer nodeId,
+            final DOMBreakpointType type) {
+        return handler.invokeAsync(DOMDebuggerImpl.SET_DOMBREAKPOINT, new Object[] { nodeId, type });
+    }
+
+    @Override
+    public CompletableFuture<Void> setEventListenerBreakpoint(final String eventName) {
+        return handler.invokeAsync(DOMDebuggerImpl.SET_EVENT_LISTENER_BREAKPOINT, new Object[] { eventName });
+    }
+
+    @Override
+    public CompletableFuture<Void> setEventListenerBreakpoint(final String eventName,
+            final String targetName) {
+        return handler.invokeAsync(DOMDebuggerImpl.SET_EVENT_LISTENER_BREAKPOINT_1, new Object[] { eventName, targetName });
+    }
+
+    @Override
+    public CompletableFuture<Void> setInstrumentationBreakpoint(final String eventName) {
+        return handler.invokeAsync(DOMDebuggerImpl.SET_INSTRUMENTATION_BREAKPOINT, new Object[] { eventName });
+    }
+
+    @Override
+    public CompletableFuture<Void> setXHRBreakpoint(final String url) {
+        return handler.invokeAsync(DOMDebuggerImpl.SET_XHRBREAKPOINT, new Object[] { url });
+    }
+}
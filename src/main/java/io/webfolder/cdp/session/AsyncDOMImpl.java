@@ -0,0 +1,335 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.async.AsyncDOM;
+import io.webfolder.cdp.type.dom.BoxModel;
+import io.webfolder.cdp.type.dom.Node;
+import io.webfolder.cdp.type.dom.PerformSearchResult;
+import io.webfolder.cdp.type.runtime.RemoteObject;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class AsyncDOMImpl implements AsyncDOM {
+    private final SessionInvocationHandler handler;
+
+    AsyncDOMImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public CompletableFuture<List<String>> collectClassNamesFromSubtree(final Integer nodeId) {
+        return handler.invokeAsync(DOMImpl.COLLECT_CLASS_NAMES_FROM_SUBTREE, new Object[] { nodeId });
+    }
+
+    @Override
+    public CompletableFuture<Integer> copyTo(final Integer nodeId, final Integer targetNodeId) {
+        return handler.invokeAsync(DOMImpl.COPY_TO, new Object[] { nodeId, targetNodeId });
+    }
+
+    @Override
+    public CompletableFuture<Integer> copyTo(final Integer nodeId, final Integer targetNodeId,
+            final Integer insertBeforeNodeId) {
+        return handler.invokeAsync(DOMImpl.COPY_TO_1, new Object[] { nodeId, targetNodeId, insertBeforeNodeId });
+    }
+
+    @Override
+    public CompletableFuture<Node> describeNode() {
+        return handler.invokeAsync(DOMImpl.DESCRIBE_NODE, null);
+    }
+
+    @Override
+    public CompletableFuture<Node> describeNode(final Integer nodeId, final Integer backendNodeId,
+            final String objectId, final Integer depth, final Boolean pierce) {
+        return handler.invokeAsync(DOMImpl.DESCRIBE_NODE_1, new Object[] { nodeId, backendNodeId, objectId, depth, pierce });
+    }
+
+    @Override
+    public CompletableFuture<Void> disable() {
+        return handler.invokeAsync(DOMImpl.DISABLE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> discardSearchResults(final String searchId) {
+        return handler.invokeAsync(DOMImpl.DISCARD_SEARCH_RESULTS, new Object[] { searchId });
+    }
+
+    @Override
+    public CompletableFuture<Void> enable() {
+        return handler.invokeAsync(DOMImpl.ENABLE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> focus() {
+        return handler.invokeAsync(DOMImpl.FOCUS, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> focus(final Integer nodeId, final Integer backendNodeId,
+            final String objectId) {
+        return handler.invokeAsync(DOMImpl.FOCUS_1, new Object[] { nodeId, backendNodeId, objectId });
+    }
+
+    @Override
+    public CompletableFuture<List<String>> getAttributes(final Integer nodeId) {
+        return handler.invokeAsync(DOMImpl.GET_ATTRIBUTES, new Object[] { nodeId });
+    }
+
+    @Override
+    public CompletableFuture<BoxModel> getBoxModel() {
+        return handler.invokeAsync(DOMImpl.GET_BOX_MODEL, null);
+    }
+
+    @Override
+    public CompletableFuture<BoxModel> getBoxModel(final Integer nodeId,
+            final Integer backendNodeId, final String objectId) {
+        return handler.invokeAsync(DOMImpl.GET_BOX_MODEL_1, new Object[] { nodeId, backendNodeId, objectId });
+    }
+
+    @Override
+    public CompletableFuture<List<Double>> getContentQuads() {
+        return handler.invokeAsync(DOMImpl.GET_CONTENT_QUADS, null);
+    }
+
+    @Override
+    public CompletableFuture<List<List<Double>>> getContentQuads(final Integer nodeId,
+            final Integer backendNodeId, final String objectId) {
+        return handler.invokeAsync(DOMImpl.GET_CONTENT_QUADS_1, new Object[] { nodeId, backendNodeId, objectId });
+    }
+
+    @Override
+    public CompletableFuture<Node> getDocument() {
+        return handler.invokeAsync(DOMImpl.GET_DOCUMENT, null);
+    }
+
+    @Override
+    public CompletableFuture<Node> getDocument(final Integer depth, final Boolean pierce) {
+        return handler.invokeAsync(DOMImpl.GET_DOCUMENT_1, new Object[] { depth, pierce });
+    }
+
+    @Override
+    public CompletableFuture<List<Node>> getFlattenedDocument() {
+        return handler.invokeAsync(DOMImpl.GET_FLATTENED_DOCUMENT, null);
+    }
+
+    @Override
+    public CompletableFuture<List<Node>> getFlattenedDocument(final Integer depth,
+            final Boolean pierce) {
+        return handler.invokeAsync(DOMImpl.GET_FLATTENED_DOCUMENT_1, new Object[] { depth, pierce });
+    }
+
+    @Override
+    public CompletableFuture<Integer> getFrameOwner(final String frameId) {
+        return handler.invokeAsync(DOMImpl.GET_FRAME_OWNER, new Object[] { frameId });
+    }
+
+    @Override
+    public CompletableFuture<Integer> getNodeForLocation(final Integer x, final Integer y) {
+        return handler.invokeAsync(DOMImpl.GET_NODE_FOR_LOCATION, new Object[] { x, y });
+    }
+
+    @Override
+    public CompletableFuture<Integer> getNodeForLocation(final Integer x, final Integer y,
+            final Boolean includeUserAgentShadowDOM) {
+        return handler.invokeAsync(DOMImpl.GET_NODE_FOR_LOCATION_1, new Object[] { x, y, includeUserAgentShadowDOM });
+    }
+
+    @Override
+    public CompletableFuture<String> getOuterHTML() {
+        return handler.invokeAsync(DOMImpl.GET_OUTER_HTML, null);
+    }
+
+    @Override
+    public CompletableFuture<String> getOuterHTML(final Integer nodeId, final Integer backendNodeId,
+            final String objectId) {
+        return handler.invokeAsync(DOMImpl.GET_OUTER_HTML_1, new Object[] { nodeId, backendNodeId, objectId });
+    }
+
+    @Override
+    public CompletableFuture<Integer> getRelayoutBoundary(final Integer nodeId) {
+        return handler.invokeAsync(DOMImpl.GET_RELAYOUT_BOUNDARY, new Object[] { nodeId });
+    }
+
+    @Override
+    public CompletableFuture<List<Integer>> getSearchResults(final String searchId,
+            final Integer fromIndex, final Integer toIndex) {
+        return handler.invokeAsync(DOMImpl.GET_SEARCH_RESULTS, new Object[] { searchId, fromIndex, toIndex });
+    }
+
+    @Override
+    public CompletableFuture<Void> hideHighlight() {
+        return handler.invokeAsync(DOMImpl.HIDE_HIGHLIGHT, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> highlightNode() {
+        return handler.invokeAsync(DOMImpl.HIGHLIGHT_NODE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> highlightRect() {
+        return handler.invokeAsync(DOMImpl.HIGHLIGHT_RECT, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> markUndoableState() {
+        return handler.invokeAsync(DOMImpl.MARK_UNDOABLE_STATE, null);
+    }
+
+    @Override
+    public CompletableFuture<Integer> moveTo(final Integer nodeId, final Integer targetNodeId) {
+        return handler.invokeAsync(DOMImpl.MOVE_TO, new Object[] { nodeId, targetNodeId });
+    }
+
+    @Override
+    public CompletableFuture<Integer> moveTo(final Integer nodeId, final Integer targetNodeId,
+            final Integer insertBeforeNodeId) {
+        return handler.invokeAsync(DOMImpl.MOVE_TO_1, new Object[] { nodeId, targetNodeId, insertBeforeNodeId });
+    }
+
+    @Override
+    public CompletableFuture<PerformSearchResult> performSearch(final String query) {
+        return handler.invokeAsync(DOMImpl.PERFORM_SEARCH, new Object[] { query });
+    }
+
+    @Override
+    public CompletableFuture<PerformSearchResult> performSearch(final String query,
+            final Boolean includeUserAgentShadowDOM) {
+        return handler.invokeAsync(DOMImpl.PERFORM_SEARCH_1, new Object[] { query, includeUserAgentShadowDOM });
+    }
+
+    @Override
+    public CompletableFuture<Integer> pushNodeByPathToFrontend(final String path) {
+        return handler.invokeAsync(DOMImpl.PUSH_NODE_BY_PATH_TO_FRONTEND, new Object[] { path });
+    }
+
+    @Override
+    public CompletableFuture<List<Integer>> pushNodesByBackendIdsToFrontend(final List<Integer> backendNodeIds) {
+        return handler.invokeAsync(DOMImpl.PUSH_NODES_BY_BACKEND_IDS_TO_FRONTEND, new Object[] { backendNodeIds });
+    }
+
+    @Override
+    public CompletableFuture<Integer> querySelector(final Integer nodeId, final String selector) {
+        return handler.invokeAsync(DOMImpl.QUERY_SELECTOR, new Object[] { nodeId, selector });
+    }
+
+    @Override
+    public CompletableFuture<List<Integer>> querySelectorAll(final Integer nodeId,
+            final String selector) {
+        return handler.invokeAsync(DOMImpl.QUERY_SELECTOR_ALL, new Object[] { nodeId, selector });
+    }
+
+    @Override
+    public CompletableFuture<Void> redo() {
+        return handler.invokeAsync(DOMImpl.REDO, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> removeAttribute(final Integer nodeId, final String name) {
+        return handler.invokeAsync(DOMImpl.REMOVE_ATTRIBUTE, new Object[] { nodeId, name });
+    }
+
+    @Override
+    public CompletableFuture<Void> removeNode(final Integer nodeId) {
+        return handler.invokeAsync(DOMImpl.REMOVE_NODE, new Object[] { nodeId });
+    }
+
+    @Override
+    public CompletableFuture<Void> requestChildNodes(final Integer nodeId) {
+        return handler.invokeAsync(DOMImpl.REQUEST_CHILD_NODES, new Object[] { nodeId });
+    }
+
+    @Override
+    public CompletableFuture<Void> requestChildNodes(final Integer nodeId, final Integer depth,
+            final Boolean pierce) {
+        return handler.invokeAsync(DOMImpl.REQUEST_CHILD_NODES_1, new Object[] { nodeId, depth, pierce });
+    }
+
+    @Override
+    public CompletableFuture<Integer> requestNode(final String objectId) {
+        return handler.invokeAsync(DOMImpl.REQUEST_NODE, new Object[] { objectId });
+    }
+
+    @Override
+    public CompletableFuture<RemoteObject> resolveNode() {
+        return handler.invokeAsync(DOMImpl.RESOLVE_NODE, null);
+    }
+
+    @Override
+    public CompletableFuture<RemoteObject> resolveNode(final Integer nodeId,
+            final Integer backendNodeId, final String objectGroup) {
+        return handler.invokeAsync(DOMImpl.RESOLVE_NODE_1, new Object[] { nodeId, backendNodeId, objectGroup });
+    }
+
+    @Override
+    public CompletableFuture<Void> setAttributeValue(final Integer nodeId, final String name,
+            final String value) {
+        return handler.invokeAsync(DOMImpl.SET_ATTRIBUTE_VALUE, new Object[] { nodeId, name, value });
+    }
+
+    @Override
+    public CompletableFuture<Void> setAttributesAsText(final Integer nodeId, final String text) {
+        return handler.invokeAsync(DOMImpl.SET_ATTRIBUTES_AS_TEXT, new Object[] { nodeId, text });
+    }
+
+    @Override
+    public CompletableFuture<Void> setAttributesAsText(final Integer nodeId, final String text,
+            final String name) {
+        return handler.invokeAsync(DOMImpl.SET_ATTRIBUTES_AS_TEXT_1, new Object[] { nodeId, text, name });
+    }
+
+    @Override
+    public CompletableFuture<Void> setFileInputFiles(final List<String> files) {
+        return handler.invokeAsync(DOMImpl.SET_FILE_INPUT_FILES, new Object[] { files });
+    }
+
+    @Override
+    public CompletableFuture<Void> setFileInputFiles(final List<String> files, final Integer nodeId,
+            final Integer backendNodeId, final String objectId) {
+        return handler.invokeAsync(DOMImpl.SET_FILE_INPUT_FILES_1, new Object[] { files, nodeId, backendNodeId, objectId });
+    }
+
+    @Override
+    public CompletableFuture<Void> setInspectedNode(final Integer nodeId) {
+        return handler.invokeAsync(DOMImpl.SET_INSPECTED_NODE, new Object[] { nodeId });
+    }
+
+    @Override
+    public CompletableFuture<Integer> setNodeName(final Integer nodeId, final String name) {
+        return handler.invokeAsync(DOMImpl.SET_NODE_NAME, new Object[] { nodeId, name });
+    }
+
+    @Override
+    public CompletableFuture<Void> setNodeValue(final Integer nodeId, final String value) {
+        return handler.invokeAsync(DOMImpl.SET_NODE_VALUE, new Object[] { nodeId, value });
+    }
+
+    @Override
+    public CompletableFuture<Void> setOuterHTML(final Integer nodeId, final String outerHTML) {
+        return handler.invokeAsync(DOMImpl.SET_OUTER_HTML, new Object[] { nodeId, outerHTML });
+    }
+
+    @Override
+    public CompletableFuture<Void> undo() {
+        return handler.invokeAsync(DOMImpl.UNDO, null);
+    }
+}
@@ -0,0 +1,63 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.async.AsyncDOMSnapshot;
+import io.webfolder.cdp.type.domsnapshot.CaptureSnapshotResult;
+import io.webfolder.cdp.type.domsnapshot.GetSnapshotResult;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class AsyncDOMSnapshotImpl implements AsyncDOMSnapshot {
+    private final SessionInvocationHandler handler;
+
+    AsyncDOMSnapshotImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public CompletableFuture<CaptureSnapshotResult> captureSnapshot(final List<String> computedStyles) {
+        return handler.invokeAsync(DOMSnapshotImpl.CAPTURE_SNAPSHOT, new Object[] { computedStyles });
+    }
+
+    @Override
+    public CompletableFuture<Void> disable() {
+        return handler.invokeAsync(DOMSnapshotImpl.DISABLE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> enable() {
+        return handler.invokeAsync(DOMSnapshotImpl.ENABLE, null);
+    }
+
+    @Override
+    public CompletableFuture<GetSnapshotResult> getSnapshot(final List<String> computedStyleWhitelist) {
+        return handler.invokeAsync(DOMSnapshotImpl.GET_SNAPSHOT, new Object[] { computedStyleWhitelist });
+    }
+
+    @Override
+    public CompletableFuture<GetSnapshotResult> getSnapshot(final List<String> computedStyleWhitelist,
+            final Boolean includeEventListeners, final Boolean includePaintOrder,
+            final Boolean includeUserAgentShadowTree) {
+        return handler.invokeAsync(DOMSnapshotImpl.GET_SNAPSHOT_1, new Object[] { computedStyleWhitelist, includeEventListeners, includePaintOrder, includeUserAgentShadowTree });
+    }
+}
@@ -0,0 +1,67 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.async.AsyncDOMStorage;
+import io.webfolder.cdp.type.domstorage.StorageId;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class AsyncDOMStorageImpl implements AsyncDOMStorage {
+    private final SessionInvocationHandler handler;
+
+    AsyncDOMStorageImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public CompletableFuture<Void> clear(final StorageId storageId) {
+        return handler.invokeAsync(DOMStorageImpl.CLEAR, new Object[] { storageId });
+    }
+
+    @Override
+    public CompletableFuture<Void> disable() {
+        return handler.invokeAsync(DOMStorageImpl.DISABLE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> enable() {
+        return handler.invokeAsync(DOMStorageImpl.ENABLE, null);
+    }
+
+    @Override
+    public CompletableFuture<List<String>> getDOMStorageItems(final StorageId storageId) {
+        return handler.invokeAsync(DOMStorageImpl.GET_DOMSTORAGE_ITEMS, new Object[] { storageId });
+    }
+
+    @Override
+    public CompletableFuture<Void> removeDOMStorageItem(final StorageId storageId,
+            final String key) {
+        return handler.invokeAsync(DOMStorageImpl.REMOVE_DOMSTORAGE_ITEM, new Object[] { storageId, key });
+    }
+
+    @Override
+    public CompletableFuture<Void> setDOMStorageItem(final StorageId storageId, final String key,
+            final String value) {
+        return handler.invokeAsync(DOMStorageImpl.SET_DOMSTORAGE_ITEM, new Object[] { storageId, key, value });
+    }
+}
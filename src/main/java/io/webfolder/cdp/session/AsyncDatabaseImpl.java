@@ -0,0 +1,56 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.async.AsyncDatabase;
+import io.webfolder.cdp.type.database.ExecuteSQLResult;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class AsyncDatabaseImpl implements AsyncDatabase {
+    private final SessionInvocationHandler handler;
+
+    AsyncDatabaseImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public CompletableFuture<Void> disable() {
+        return handler.invokeAsync(DatabaseImpl.DISABLE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> enable() {
+        return handler.invokeAsync(DatabaseImpl.ENABLE, null);
+    }
+
+    @Override
+    public CompletableFuture<ExecuteSQLResult> executeSQL(final String databaseId,
+            final String query) {
+        return handler.invokeAsync(DatabaseImpl.EXECUTE_SQL, new Object[] { databaseId, query });
+    }
+
+    @Override
+    public CompletableFuture<List<String>> getDatabaseTableNames(final String databaseId) {
+        return handler.invokeAsync(DatabaseImpl.GET_DATABASE_TABLE_NAMES, new Object[] { databaseId });
+    }
+}
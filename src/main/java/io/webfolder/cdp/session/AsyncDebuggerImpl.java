@@ -0,0 +1,254 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.async.AsyncDebugger;
+import io.webfolder.cdp.type.constant.PauseOnExceptionState;
+import io.webfolder.cdp.type.constant.TargetCallFrames;
+import io.webfolder.cdp.type.debugger.BreakLocation;
+import io.webfolder.cdp.type.debugger.EvaluateOnCallFrameResult;
+import io.webfolder.cdp.type.debugger.Location;
+import io.webfolder.cdp.type.debugger.RestartFrameResult;
+import io.webfolder.cdp.type.debugger.ScriptPosition;
+import io.webfolder.cdp.type.debugger.SearchMatch;
+import io.webfolder.cdp.type.debugger.SetBreakpointByUrlResult;
+import io.webfolder.cdp.type.debugger.SetBreakpointResult;
+import io.webfolder.cdp.type.debugger.SetScriptSourceResult;
+import io.webfolder.cdp.type.runtime.CallArgument;
+import io.webfolder.cdp.type.runtime.StackTrace;
+import io.webfolder.cdp.type.runtime.StackTraceId;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class AsyncDebuggerImpl implements AsyncDebugger {
+    private final SessionInvocationHandler handler;
+
+    AsyncDebuggerImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public CompletableFuture<Void> continueToLocation(final Location location) {
+        return handler.invokeAsync(DebuggerImpl.CONTINUE_TO_LOCATION, new Object[] { location });
+    }
+
+    @Override
+    public CompletableFuture<Void> continueToLocation(final Location location,
+            final TargetCallFrames targetCallFrames) {
+        return handler.invokeAsync(DebuggerImpl.CONTINUE_TO_LOCATION_1, new Object[] { location, targetCallFrames });
+    }
+
+    @Override
+    public CompletableFuture<Void> disable() {
+        return handler.invokeAsync(DebuggerImpl.DISABLE, null);
+    }
+
+    @Override
+    public CompletableFuture<String> enable() {
+        return handler.invokeAsync(DebuggerImpl.ENABLE, null);
+    }
+
+    @Override
+    public CompletableFuture<EvaluateOnCallFrameResult> evaluateOnCallFrame(final String callFrameId,
+            final String expression) {
+        return handler.invokeAsync(DebuggerImpl.EVALUATE_ON_CALL_FRAME, new Object[] { callFrameId, expression });
+    }
+
+    @Override
+    public CompletableFuture<EvaluateOnCallFrameResult> evaluateOnCallFrame(final String callFrameId,
+            final String expression, final String objectGroup, final Boolean includeCommandLineAPI,
+            final Boolean silent, final Boolean returnByValue, final Boolean generatePreview,
+            final Boolean throwOnSideEffect, final Double timeout) {
+        return handler.invokeAsync(DebuggerImpl.EVALUATE_ON_CALL_FRAME_1, new Object[] { callFrameId, expression, objectGroup, includeCommandLineAPI, silent, returnByValue, generatePreview, throwOnSideEffect, timeout });
+    }
+
+    @Override
+    public CompletableFuture<List<BreakLocation>> getPossibleBreakpoints(final Location start) {
+        return handler.invokeAsync(DebuggerImpl.GET_POSSIBLE_BREAKPOINTS, new Object[] { start });
+    }
+
+    @Override
+    public CompletableFuture<List<BreakLocation>> getPossibleBreakpoints(final Location start,
+            final Location end, final Boolean restrictToFunction) {
+        return handler.invokeAsync(DebuggerImpl.GET_POSSIBLE_BREAKPOINTS_1, new Object[] { start, end, restrictToFunction });
+    }
+
+    @Override
+    public CompletableFuture<String> getScriptSource(final String scriptId) {
+        return handler.invokeAsync(DebuggerImpl.GET_SCRIPT_SOURCE, new Object[] { scriptId });
+    }
+
+    @Override
+    public CompletableFuture<StackTrace> getStackTrace(final StackTraceId stackTraceId) {
+        return handler.invokeAsync(DebuggerImpl.GET_STACK_TRACE, new Object[] { stackTraceId });
+    }
+
+    @Override
+    public CompletableFuture<Void> pause() {
+        return handler.invokeAsync(DebuggerImpl.PAUSE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> pauseOnAsyncCall(final StackTraceId parentStackTraceId) {
+        return handler.invokeAsync(DebuggerImpl.PAUSE_ON_ASYNC_CALL, new Object[] { parentStackTraceId });
+    }
+
+    @Override
+    public CompletableFuture<Void> removeBreakpoint(final String breakpointId) {
+        return handler.invokeAsync(DebuggerImpl.REMOVE_BREAKPOINT, new Object[] { breakpointId });
+    }
+
+    @Override
+    public CompletableFuture<RestartFrameResult> restartFrame(final String callFrameId) {
+        return handler.invokeAsync(DebuggerImpl.RESTART_FRAME, new Object[] { callFrameId });
+    }
+
+    @Override
+    public CompletableFuture<Void> resume() {
+        return handler.invokeAsync(DebuggerImpl.RESUME, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> scheduleStepIntoAsync() {
+        return handler.invokeAsync(DebuggerImpl.SCHEDULE_STEP_INTO_ASYNC, null);
+    }
+
+    @Override
+    public CompletableFuture<List<SearchMatch>> searchInContent(final String scriptId,
+            final String query) {
+        return handler.invokeAsync(DebuggerImpl.SEARCH_IN_CONTENT, new Object[] { scriptId, query });
+    }
+
+    @Override
+    public CompletableFuture<List<SearchMatch>> searchInContent(final String scriptId,
+            final String query, final Boolean caseSensitive, final Boolean isRegex) {
+        return handler.invokeAsync(DebuggerImpl.SEARCH_IN_CONTENT_1, new Object[] { scriptId, query, caseSensitive, isRegex });
+    }
+
+    @Override
+    public CompletableFuture<Void> setAsyncCallStackDepth(final Integer maxDepth) {
+        return handler.invokeAsync(DebuggerImpl.SET_ASYNC_CALL_STACK_DEPTH, new Object[] { maxDepth });
+    }
+
+    @Override
+    public CompletableFuture<Void> setBlackboxPatterns(final List<String> patterns) {
+        return handler.invokeAsync(DebuggerImpl.SET_BLACKBOX_PATTERNS, new Object[] { patterns });
+    }
+
+    @Override
+    public CompletableFuture<Void> setBlackboxedRanges(final String scriptId,
+            final List<ScriptPosition> positions) {
+        return handler.invokeAsync(DebuggerImpl.SET_BLACKBOXED_RANGES, new Object[] { scriptId, positions });
+    }
+
+    @Override
+    public CompletableFuture<SetBreakpointResult> setBreakpoint(final Location location) {
+        return handler.invokeAsync(DebuggerImpl.SET_BREAKPOINT, new Object[] { location });
+    }
+
+    @Override
+    public CompletableFuture<SetBreakpointResult> setBreakpoint(final Location location,
+            final String condition) {
+        return handler.invokeAsync(DebuggerImpl.SET_BREAKPOINT_1, new Object[] { location, condition });
+    }
+
+    @Override
+    public CompletableFuture<SetBreakpointByUrlResult> setBreakpointByUrl(final Integer lineNumber) {
+        return handler.invokeAsync(DebuggerImpl.SET_BREAKPOINT_BY_URL, new Object[] { lineNumber });
+    }
+
+    @Override
+    public CompletableFuture<SetBreakpointByUrlResult> setBreakpointByUrl(final Integer lineNumber,
+            final String url, final String urlRegex, final String scriptHash,
+            final Integer columnNumber, final String condition) {
+        return handler.invokeAsync(DebuggerImpl.SET_BREAKPOINT_BY_URL_1, new Object[] { lineNumber, url, urlRegex, scriptHash, columnNumber, condition });
+    }
+
+    @Override
+    public CompletableFuture<String> setBreakpointOnFunctionCall(final String objectId) {
+        return handler.invokeAsync(DebuggerImpl.SET_BREAKPOINT_ON_FUNCTION_CALL, new Object[] { objectId });
+    }
+
+    @Override
+    public CompletableFuture<String> setBreakpointOnFunctionCall(final String objectId,
+            final String condition) {
+        return handler.invokeAsync(DebuggerImpl.SET_BREAKPOINT_ON_FUNCTION_CALL_1, new Object[] { objectId, condition });
+    }
+
+    @Override
+    public CompletableFuture<Void> setBreakpointsActive(final Boolean active) {
+        return handler.invokeAsync(DebuggerImpl.SET_BREAKPOINTS_ACTIVE, new Object[] { active });
+    }
+
+    @Override
+    public CompletableFuture<Void> setPauseOnExceptions(final PauseOnExceptionState state) {
+        return handler.invokeAsync(DebuggerImpl.SET_PAUSE_ON_EXCEPTIONS, new Object[] { state });
+    }
+
+    @Override
+    public CompletableFuture<Void> setReturnValue(final CallArgument newValue) {
+        return handler.invokeAsync(DebuggerImpl.SET_RETURN_VALUE, new Object[] { newValue });
+    }
+
+    @Override
+    public CompletableFuture<SetScriptSourceResult> setScriptSource(final String scriptId,
+            final String scriptSource) {
+        return handler.invokeAsync(DebuggerImpl.SET_SCRIPT_SOURCE, new Object[] { scriptId, scriptSource });
+    }
+
+    @Override
+    public CompletableFuture<SetScriptSourceResult> setScriptSource(final String scriptId,
+            final String scriptSource, final Boolean dryRun) {
+        return handler.invokeAsync(DebuggerImpl.SET_SCRIPT_SOURCE_1, new Object[] { scriptId, scriptSource, dryRun });
+    }
+
+    @Override
+    public CompletableFuture<Void> setSkipAllPauses(final Boolean skip) {
+        return handler.invokeAsync(DebuggerImpl.SET_SKIP_ALL_PAUSES, new Object[] { skip });
+    }
+
+    @Override
+    public CompletableFuture<Void> setVariableValue(final Integer scopeNumber,
+            final String variableName, final CallArgument newValue, final String callFrameId) {
+        return handler.invokeAsync(DebuggerImpl.SET_VARIABLE_VALUE, new Object[] { scopeNumber, variableName, newValue, callFrameId });
+    }
+
+    @Override
+    public CompletableFuture<Void> stepInto() {
+        return handler.invokeAsync(DebuggerImpl.STEP_INTO, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> stepInto(final Boolean breakOnAsyncCall) {
+        return handler.invokeAsync(DebuggerImpl.STEP_INTO_1, new Object[] { breakOnAsyncCall });
+    }
+
+    @Override
+    public CompletableFuture<Void> stepOut() {
+        return handler.invokeAsync(DebuggerImpl.STEP_OUT, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> stepOver() {
+        return handler.invokeAsync(DebuggerImpl.STEP_OVER, null);
+    }
+}
@@ -0,0 +1,179 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.async.AsyncEmulation;
+import io.webfolder.cdp.type.constant.Platform;
+import io.webfolder.cdp.type.dom.RGBA;
+import io.webfolder.cdp.type.emulation.ScreenOrientation;
+import io.webfolder.cdp.type.emulation.VirtualTimePolicy;
+import io.webfolder.cdp.type.page.Viewport;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class AsyncEmulationImpl implements AsyncEmulation {
+    private final SessionInvocationHandler handler;
+
+    AsyncEmulationImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> canEmulate() {
+        return handler.invokeAsync(EmulationImpl.CAN_EMULATE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> clearDeviceMetricsOverride() {
+        return handler.invokeAsync(EmulationImpl.CLEAR_DEVICE_METRICS_OVERRIDE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> clearGeolocationOverride() {
+        return handler.invokeAsync(EmulationImpl.CLEAR_GEOLOCATION_OVERRIDE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> resetPageScaleFactor() {
+        return handler.invokeAsync(EmulationImpl.RESET_PAGE_SCALE_FACTOR, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> setCPUThrottlingRate(final Double rate) {
+        return handler.invokeAsync(EmulationImpl.SET_CPUTHROTTLING_RATE, new Object[] { rate });
+    }
+
+    @Override
+    public CompletableFuture<Void> setDefaultBackgroundColorOverride() {
+        return handler.invokeAsync(EmulationImpl.SET_DEFAULT_BACKGROUND_COLOR_OVERRIDE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> setDefaultBackgroundColorOverride(final RGBA color) {
+        return handler.invokeAsync(EmulationImpl.SET_DEFAULT_BACKGROUND_COLOR_OVERRIDE_1, new Object[] { color });
+    }
+
+    @Override
+    public CompletableFuture<Void> setDeviceMetricsOverride(final Integer width,
+            final Integer height, final Double deviceScaleFactor, final Boolean mobile) {
+        return handler.invokeAsync(EmulationImpl.SET_DEVICE_METRICS_OVERRIDE, new Object[] { width, height, deviceScaleFactor, mobile });
+    }
+
+    @Override
+    public CompletableFuture<Void> setDeviceMetricsOverride(final Integer width,
+            final Integer height, final Double deviceScaleFactor, final Boolean mobile,
+            final Double scale, final Integer screenWidth, final Integer screenHeight,
+            final Integer positionX, final Integer positionY, final Boolean dontSetVisibleSize,
+            final ScreenOrientation screenOrientation, final Viewport viewport) {
+        return handler.invokeAsync(EmulationImpl.SET_DEVICE_METRICS_OVERRIDE_1, new Object[] { width, height, deviceScaleFactor, mobile, scale, screenWidth, screenHeight, positionX, positionY, dontSetVisibleSize, screenOrientation, viewport });
+    }
+
+    @Override
+    public CompletableFuture<Void> setDocumentCookieDisabled(final Boolean disabled) {
+        return handler.invokeAsync(EmulationImpl.SET_DOCUMENT_COOKIE_DISABLED, new Object[] { disabled });
+    }
+
+    @Override
+    public CompletableFuture<Void> setEmitTouchEventsForMouse(final Boolean enabled) {
+        return handler.invokeAsync(EmulationImpl.SET_EMIT_TOUCH_EVENTS_FOR_MOUSE, new Object[] { enabled });
+    }
+
+    @Override
+    public CompletableFuture<Void> setEmitTouchEventsForMouse(final Boolean enabled,
+            final Platform configuration) {
+        return handler.invokeAsync(EmulationImpl.SET_EMIT_TOUCH_EVENTS_FOR_MOUSE_1, new Object[] { enabled, configuration });
+    }
+
+    @Override
+    public CompletableFuture<Void> setEmulatedMedia(final String media) {
+        return handler.invokeAsync(EmulationImpl.SET_EMULATED_MEDIA, new Object[] { media });
+    }
+
+    @Override
+    public CompletableFuture<Void> setGeolocationOverride() {
+        return handler.invokeAsync(EmulationImpl.SET_GEOLOCATION_OVERRIDE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> setGeolocationOverride(final Double latitude,
+            final Double longitude, final Double accuracy) {
+        return handler.invokeAsync(EmulationImpl.SET_GEOLOCATION_OVERRIDE_1, new Object[] { latitude, longitude, accuracy });
+    }
+
+    @Override
+    public CompletableFuture<Void> setNavigatorOverrides(final String platform) {
+        return handler.invokeAsync(EmulationImpl.SET_NAVIGATOR_OVERRIDES, new Object[] { platform });
+    }
+
+    @Override
+    public CompletableFuture<Void> setPageScaleFactor(final Double pageScaleFactor) {
+        return handler.invokeAsync(EmulationImpl.SET_PAGE_SCALE_FACTOR, new Object[] { pageScaleFactor });
+    }
+
+    @Override
+    public CompletableFuture<Void> setScriptExecutionDisabled(final Boolean value) {
+        return handler.invokeAsync(EmulationImpl.SET_SCRIPT_EXECUTION_DISABLED, new Object[] { value });
+    }
+
+    @Override
+    public CompletableFuture<Void> setScrollbarsHidden(final Boolean hidden) {
+        return handler.invokeAsync(EmulationImpl.SET_SCROLLBARS_HIDDEN, new Object[] { hidden });
+    }
+
+    @Override
+    public CompletableFuture<Void> setTouchEmulationEnabled(final Boolean enabled) {
+        return handler.invokeAsync(EmulationImpl.SET_TOUCH_EMULATION_ENABLED, new Object[] { enabled });
+    }
+
+    @Override
+    public CompletableFuture<Void> setTouchEmulationEnabled(final Boolean enabled,
+            final Integer maxTouchPoints) {
+        return handler.invokeAsync(EmulationImpl.SET_TOUCH_EMULATION_ENABLED_1, new Object[] { enabled, maxTouchPoints });
+    }
+
+    @Override
+    public CompletableFuture<Void> setUserAgentOverride(final String userAgent) {
+        return handler.invokeAsync(EmulationImpl.SET_USER_AGENT_OVERRIDE, new Object[] { userAgent });
+    }
+
+    @Override
+    public CompletableFuture<Void> setUserAgentOverride(final String userAgent,
+            final String acceptLanguage, final String platform) {
+        return handler.invokeAsync(EmulationImpl.SET_USER_AGENT_OVERRIDE_1, new Object[] { userAgent, acceptLanguage, platform });
+    }
+
+    @Override
+    public CompletableFuture<Double> setVirtualTimePolicy(final VirtualTimePolicy policy) {
+        return handler.invokeAsync(EmulationImpl.SET_VIRTUAL_TIME_POLICY, new Object[] { policy });
+    }
+
+    @Override
+    public CompletableFuture<Double> setVirtualTimePolicy(final VirtualTimePolicy policy,
+            final Double budget, final Integer maxVirtualTimeTaskStarvationCount,
+            final Boolean waitForNavigation, final Double initialVirtualTime) {
+        return handler.invokeAsync(EmulationImpl.SET_VIRTUAL_TIME_POLICY_1, new Object[] { policy, budget, maxVirtualTimeTaskStarvationCount, waitForNavigation, initialVirtualTime });
+    }
+
+    @Override
+    public CompletableFuture<Void> setVisibleSize(final Integer width, final Integer height) {
+        return handler.invokeAsync(EmulationImpl.SET_VISIBLE_SIZE, new Object[] { width, height });
+    }
+}
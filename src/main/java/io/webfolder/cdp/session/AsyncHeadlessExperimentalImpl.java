@@ -0,0 +1,57 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.async.AsyncHeadlessExperimental;
+import io.webfolder.cdp.type.headlessexperimental.BeginFrameResult;
+import io.webfolder.cdp.type.headlessexperimental.ScreenshotParams;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class AsyncHeadlessExperimentalImpl implements AsyncHeadlessExperimental {
+    private final SessionInvocationHandler handler;
+
+    AsyncHeadlessExperimentalImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public CompletableFuture<BeginFrameResult> beginFrame() {
+        return handler.invokeAsync(HeadlessExperimentalImpl.BEGIN_FRAME, null);
+    }
+
+    @Override
+    public CompletableFuture<BeginFrameResult> beginFrame(final Double frameTimeTicks,
+            final Double interval, final Boolean noDisplayUpdates,
+            final ScreenshotParams screenshot) {
+        return handler.invokeAsync(HeadlessExperimentalImpl.BEGIN_FRAME_1, new Object[] { frameTimeTicks, interval, noDisplayUpdates, screenshot });
+    }
+
+    @Override
+    public CompletableFuture<Void> disable() {
+        return handler.invokeAsync(HeadlessExperimentalImpl.DISABLE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> enable() {
+        return handler.invokeAsync(HeadlessExperimentalImpl.ENABLE, null);
+    }
+}
@@ -0,0 +1,121 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.async.AsyncHeapProfiler;
+import io.webfolder.cdp.type.heapprofiler.SamplingHeapProfile;
+import io.webfolder.cdp.type.runtime.RemoteObject;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class AsyncHeapProfilerImpl implements AsyncHeapProfiler {
+    private final SessionInvocationHandler handler;
+
+    AsyncHeapProfilerImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public CompletableFuture<Void> addInspectedHeapObject(final String heapObjectId) {
+        return handler.invokeAsync(HeapProfilerImpl.ADD_INSPECTED_HEAP_OBJECT, new Object[] { heapObjectId });
+    }
+
+    @Override
+    public CompletableFuture<Void> collectGarbage() {
+        return handler.invokeAsync(HeapProfilerImpl.COLLECT_GARBAGE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> disable() {
+        return handler.invokeAsync(HeapProfilerImpl.DISABLE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> enable() {
+        return handler.invokeAsync(HeapProfilerImpl.ENABLE, null);
+    }
+
+    @Override
+    public CompletableFuture<String> getHeapObjectId(final String objectId) {
+        return handler.invokeAsync(HeapProfilerImpl.GET_HEAP_OBJECT_ID, new Object[] { objectId });
+    }
+
+    @Override
+    public CompletableFuture<RemoteObject> getObjectByHeapObjectId(final String objectId) {
+        return handler.invokeAsync(HeapProfilerImpl.GET_OBJECT_BY_HEAP_OBJECT_ID, new Object[] { objectId });
+    }
+
+    @Override
+    public CompletableFuture<RemoteObject> getObjectByHeapObjectId(final String objectId,
+            final String objectGroup) {
+        return handler.invokeAsync(HeapProfilerImpl.GET_OBJECT_BY_HEAP_OBJECT_ID_1, new Object[] { objectId, objectGroup });
+    }
+
+    @Override
+    public CompletableFuture<SamplingHeapProfile> getSamplingProfile() {
+        return handler.invokeAsync(HeapProfilerImpl.GET_SAMPLING_PROFILE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> startSampling() {
+        return handler.invokeAsync(HeapProfilerImpl.START_SAMPLING, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> startSampling(final Double samplingInterval) {
+        return handler.invokeAsync(HeapProfilerImpl.START_SAMPLING_1, new Object[] { samplingInterval });
+    }
+
+    @Override
+    public CompletableFuture<Void> startTrackingHeapObjects() {
+        return handler.invokeAsync(HeapProfilerImpl.START_TRACKING_HEAP_OBJECTS, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> startTrackingHeapObjects(final Boolean trackAllocations) {
+        return handler.invokeAsync(HeapProfilerImpl.START_TRACKING_HEAP_OBJECTS_1, new Object[] { trackAllocations });
+    }
+
+    @Override
+    public CompletableFuture<SamplingHeapProfile> stopSampling() {
+        return handler.invokeAsync(HeapProfilerImpl.STOP_SAMPLING, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> stopTrackingHeapObjects() {
+        return handler.invokeAsync(HeapProfilerImpl.STOP_TRACKING_HEAP_OBJECTS, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> stopTrackingHeapObjects(final Boolean reportProgress) {
+        return handler.invokeAsync(HeapProfilerImpl.STOP_TRACKING_HEAP_OBJECTS_1, new Object[] { reportProgress });
+    }
+
+    @Override
+    public CompletableFuture<Void> takeHeapSnapshot() {
+        return handler.invokeAsync(HeapProfilerImpl.TAKE_HEAP_SNAPSHOT, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> takeHeapSnapshot(final Boolean reportProgress) {
+        return handler.invokeAsync(HeapProfilerImpl.TAKE_HEAP_SNAPSHOT_1, new Object[] { reportProgress });
+    }
+}
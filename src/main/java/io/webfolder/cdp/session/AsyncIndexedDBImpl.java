@@ -0,0 +1,90 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.async.AsyncIndexedDB;
+import io.webfolder.cdp.type.indexeddb.DatabaseWithObjectStores;
+import io.webfolder.cdp.type.indexeddb.KeyRange;
+import io.webfolder.cdp.type.indexeddb.RequestDataResult;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class AsyncIndexedDBImpl implements AsyncIndexedDB {
+    private final SessionInvocationHandler handler;
+
+    AsyncIndexedDBImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public CompletableFuture<Void> clearObjectStore(final String securityOrigin,
+            final String databaseName, final String objectStoreName) {
+        return handler.invokeAsync(IndexedDBImpl.CLEAR_OBJECT_STORE, new Object[] { securityOrigin, databaseName, objectStoreName });
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteDatabase(final String securityOrigin,
+            final String databaseName) {
+        return handler.invokeAsync(IndexedDBImpl.DELETE_DATABASE, new Object[] { securityOrigin, databaseName });
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteObjectStoreEntries(final String securityOrigin,
+            final String databaseName, final String objectStoreName, final KeyRange keyRange) {
+        return handler.invokeAsync(IndexedDBImpl.DELETE_OBJECT_STORE_ENTRIES, new Object[] { securityOrigin, databaseName, objectStoreName, keyRange });
+    }
+
+    @Override
+    public CompletableFuture<Void> disable() {
+        return handler.invokeAsync(IndexedDBImpl.DISABLE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> enable() {
+        return handler.invokeAsync(IndexedDBImpl.ENABLE, null);
+    }
+
+    @Override
+    public CompletableFuture<RequestDataResult> requestData(final String securityOrigin,
+            final String databaseName, final String objectStoreName, final String indexName,
+            final Integer skipCount, final Integer pageSize) {
+        return handler.invokeAsync(IndexedDBImpl.REQUEST_DATA, new Object[] { securityOrigin, databaseName, objectStoreName, indexName, skipCount, pageSize });
+    }
+
+    @Override
+    public CompletableFuture<RequestDataResult> requestData(final String securityOrigin,
+            final String databaseName, final String objectStoreName, final String indexName,
+            final Integer skipCount, final Integer pageSize, final KeyRange keyRange) {
+        return handler.invokeAsync(IndexedDBImpl.REQUEST_DATA_1, new Object[] { securityOrigin, databaseName, objectStoreName, indexName, skipCount, pageSize, keyRange });
+    }
+
+    @Override
+    public CompletableFuture<DatabaseWithObjectStores> requestDatabase(final String securityOrigin,
+            final String databaseName) {
+        return handler.invokeAsync(IndexedDBImpl.REQUEST_DATABASE, new Object[] { securityOrigin, databaseName });
+    }
+
+    @Override
+    public CompletableFuture<List<String>> requestDatabaseNames(final String securityOrigin) {
+        return handler.invokeAsync(IndexedDBImpl.REQUEST_DATABASE_NAMES, new Object[] { securityOrigin });
+    }
+}
@@ -0,0 +1,139 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.async.AsyncInput;
+import io.webfolder.cdp.type.constant.KeyEventType;
+import io.webfolder.cdp.type.constant.MouseButtonType;
+import io.webfolder.cdp.type.constant.MouseEventType;
+import io.webfolder.cdp.type.constant.TouchEventType;
+import io.webfolder.cdp.type.input.GestureSourceType;
+import io.webfolder.cdp.type.input.TouchPoint;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class AsyncInputImpl implements AsyncInput {
+    private final SessionInvocationHandler handler;
+
+    AsyncInputImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public CompletableFuture<Void> dispatchKeyEvent(final KeyEventType type) {
+        return handler.invokeAsync(InputImpl.DISPATCH_KEY_EVENT, new Object[] { type });
+    }
+
+    @Override
+    public CompletableFuture<Void> dispatchKeyEvent(final KeyEventType type,
+            final Integer modifiers, final Double timestamp, final String text,
+            final String unmodifiedText, final String keyIdentifier, final String code,
+            final String key, final Integer windowsVirtualKeyCode,
+            final Integer nativeVirtualKeyCode, final Boolean autoRepeat, final Boolean isKeypad,
+            final Boolean isSystemKey, final Integer location) {
+        return handler.invokeAsync(InputImpl.DISPATCH_KEY_EVENT_1, new Object[] { type, modifiers, timestamp, text, unmodifiedText, keyIdentifier, code, key, windowsVirtualKeyCode, nativeVirtualKeyCode, autoRepeat, isKeypad, isSystemKey, location });
+    }
+
+    @Override
+    public CompletableFuture<Void> dispatchMouseEvent(final MouseEventType type, final Double x,
+            final Double y) {
+        return handler.invokeAsync(InputImpl.DISPATCH_MOUSE_EVENT, new Object[] { type, x, y });
+    }
+
+    @Override
+    public CompletableFuture<Void> dispatchMouseEvent(final MouseEventType type, final Double x,
+            final Double y, final Integer modifiers, final Double timestamp,
+            final MouseButtonType button, final Integer clickCount, final Double deltaX,
+            final Double deltaY) {
+        return handler.invokeAsync(InputImpl.DISPATCH_MOUSE_EVENT_1, new Object[] { type, x, y, modifiers, timestamp, button, clickCount, deltaX, deltaY });
+    }
+
+    @Override
+    public CompletableFuture<Void> dispatchTouchEvent(final TouchEventType type,
+            final List<TouchPoint> touchPoints) {
+        return handler.invokeAsync(InputImpl.DISPATCH_TOUCH_EVENT, new Object[] { type, touchPoints });
+    }
+
+    @Override
+    public CompletableFuture<Void> dispatchTouchEvent(final TouchEventType type,
+            final List<TouchPoint> touchPoints, final Integer modifiers, final Double timestamp) {
+        return handler.invokeAsync(InputImpl.DISPATCH_TOUCH_EVENT_1, new Object[] { type, touchPoints, modifiers, timestamp });
+    }
+
+    @Override
+    public CompletableFuture<Void> emulateTouchFromMouseEvent(final MouseEventType type,
+            final Integer x, final Integer y, final MouseButtonType button) {
+        return handler.invokeAsync(InputImpl.EMULATE_TOUCH_FROM_MOUSE_EVENT, new Object[] { type, x, y, button });
+    }
+
+    @Override
+    public CompletableFuture<Void> emulateTouchFromMouseEvent(final MouseEventType type,
+            final Integer x, final Integer y, final MouseButtonType button, final Double timestamp,
+            final Double deltaX, final Double deltaY, final Integer modifiers,
+            final Integer clickCount) {
+        return handler.invokeAsync(InputImpl.EMULATE_TOUCH_FROM_MOUSE_EVENT_1, new Object[] { type, x, y, button, timestamp, deltaX, deltaY, modifiers, clickCount });
+    }
+
+    @Override
+    public CompletableFuture<Void> setIgnoreInputEvents(final Boolean ignore) {
+        return handler.invokeAsync(InputImpl.SET_IGNORE_INPUT_EVENTS, new Object[] { ignore });
+    }
+
+    @Override
+    public CompletableFuture<Void> synthesizePinchGesture(final Double x, final Double y,
+            final Double scaleFactor) {
+        return handler.invokeAsync(InputImpl.SYNTHESIZE_PINCH_GESTURE, new Object[] { x, y, scaleFactor });
+    }
+
+    @Override
+    public CompletableFuture<Void> synthesizePinchGesture(final Double x, final Double y,
+            final Double scaleFactor, final Integer relativeSpeed,
+            final GestureSourceType gestureSourceType) {
+        return handler.invokeAsync(InputImpl.SYNTHESIZE_PINCH_GESTURE_1, new Object[] { x, y, scaleFactor, relativeSpeed, gestureSourceType });
+    }
+
+    @Override
+    public CompletableFuture<Void> synthesizeScrollGesture(final Double x, final Double y) {
+        return handler.invokeAsync(InputImpl.SYNTHESIZE_SCROLL_GESTURE, new Object[] { x, y });
+    }
+
+    @Override
+    public CompletableFuture<Void> synthesizeScrollGesture(final Double x, final Double y,
+            final Double xDistance, final Double yDistance, final Double xOverscroll,
+            final Double yOverscroll, final Boolean preventFling, final Integer speed,
+            final GestureSourceType gestureSourceType, final Integer repeatCount,
+            final Integer repeatDelayMs, final String interactionMarkerName) {
+        return handler.invokeAsync(InputImpl.SYNTHESIZE_SCROLL_GESTURE_1, new Object[] { x, y, xDistance, yDistance, xOverscroll, yOverscroll, preventFling, speed, gestureSourceType, repeatCount, repeatDelayMs, interactionMarkerName });
+    }
+
+    @Override
+    public CompletableFuture<Void> synthesizeTapGesture(final Double x, final Double y) {
+        return handler.invokeAsync(InputImpl.SYNTHESIZE_TAP_GESTURE, new Object[] { x, y });
+    }
+
+    @Override
+    public CompletableFuture<Void> synthesizeTapGesture(final Double x, final Double y,
+            final Integer duration, final Integer tapCount,
+            final GestureSourceType gestureSourceType) {
+        return handler.invokeAsync(InputImpl.SYNTHESIZE_TAP_GESTURE_1, new Object[] { x, y, duration, tapCount, gestureSourceType });
+    }
+}
@@ -0,0 +1,88 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.async.AsyncLayerTree;
+import io.webfolder.cdp.type.dom.Rect;
+import io.webfolder.cdp.type.layertree.PictureTile;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class AsyncLayerTreeImpl implements AsyncLayerTree {
+    private final SessionInvocationHandler handler;
+
+    AsyncLayerTreeImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public CompletableFuture<List<String>> compositingReasons(final String layerId) {
+        return handler.invokeAsync(LayerTreeImpl.COMPOSITING_REASONS, new Object[] { layerId });
+    }
+
+    @Override
+    public CompletableFuture<Void> disable() {
+        return handler.invokeAsync(LayerTreeImpl.DISABLE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> enable() {
+        return handler.invokeAsync(LayerTreeImpl.ENABLE, null);
+    }
+
+    @Override
+    public CompletableFuture<String> loadSnapshot(final List<PictureTile> tiles) {
+        return handler.invokeAsync(LayerTreeImpl.LOAD_SNAPSHOT, new Object[] { tiles });
+    }
+
+    @Override
+    public CompletableFuture<String> makeSnapshot(final String layerId) {
+        return handler.invokeAsync(LayerTreeImpl.MAKE_SNAPSHOT, new Object[] { layerId });
+    }
+
+    @Override
+    public CompletableFuture<List<Double>> profileSnapshot(final String snapshotId) {
+        return handler.invokeAsync(LayerTreeImpl.PROFILE_SNAPSHOT, new Object[] { snapshotId });
+    }
+
+    @Override
+    public CompletableFuture<List<Double>> profileSnapshot(final String snapshotId,
+            final Integer minRepeatCount, final Double minDuration, final Rect clipRect) {
+        return handler.invokeAsync(LayerTreeImpl.PROFILE_SNAPSHOT_1, new Object[] { snapshotId, minRepeatCount, minDuration, clipRect });
+    }
+
+    @Override
+    public CompletableFuture<Void> releaseSnapshot(final String snapshotId) {
+        return handler.invokeAsync(LayerTreeImpl.RELEASE_SNAPSHOT, new Object[] { snapshotId });
+    }
+
+    @Override
+    public CompletableFuture<String> replaySnapshot(final String snapshotId) {
+        return handler.invokeAsync(LayerTreeImpl.REPLAY_SNAPSHOT, new Object[] { snapshotId });
+    }
+
+    @Override
+    public CompletableFuture<String> replaySnapshot(final String snapshotId, final Integer fromStep,
+            final Integer toStep, final Double scale) {
+        return handler.invokeAsync(LayerTreeImpl.REPLAY_SNAPSHOT_1, new Object[] { snapshotId, fromStep, toStep, scale });
+    }
+}
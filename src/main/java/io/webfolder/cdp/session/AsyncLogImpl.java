@@ -0,0 +1,60 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.async.AsyncLog;
+import io.webfolder.cdp.type.log.ViolationSetting;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class AsyncLogImpl implements AsyncLog {
+    private final SessionInvocationHandler handler;
+
+    AsyncLogImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public CompletableFuture<Void> clear() {
+        return handler.invokeAsync(LogImpl.CLEAR, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> disable() {
+        return handler.invokeAsync(LogImpl.DISABLE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> enable() {
+        return handler.invokeAsync(LogImpl.ENABLE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> startViolationsReport(final List<ViolationSetting> config) {
+        return handler.invokeAsync(LogImpl.START_VIOLATIONS_REPORT, new Object[] { config });
+    }
+
+    @Override
+    public CompletableFuture<Void> stopViolationsReport() {
+        return handler.invokeAsync(LogImpl.STOP_VIOLATIONS_REPORT, null);
+    }
+}
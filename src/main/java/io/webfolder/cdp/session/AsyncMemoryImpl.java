@@ -0,0 +1,87 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.async.AsyncMemory;
+import io.webfolder.cdp.type.memory.GetDOMCountersResult;
+import io.webfolder.cdp.type.memory.PressureLevel;
+import io.webfolder.cdp.type.memory.SamplingProfile;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class AsyncMemoryImpl implements AsyncMemory {
+    private final SessionInvocationHandler handler;
+
+    AsyncMemoryImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public CompletableFuture<SamplingProfile> getAllTimeSamplingProfile() {
+        return handler.invokeAsync(MemoryImpl.GET_ALL_TIME_SAMPLING_PROFILE, null);
+    }
+
+    @Override
+    public CompletableFuture<SamplingProfile> getBrowserSamplingProfile() {
+        return handler.invokeAsync(MemoryImpl.GET_BROWSER_SAMPLING_PROFILE, null);
+    }
+
+    @Override
+    public CompletableFuture<GetDOMCountersResult> getDOMCounters() {
+        return handler.invokeAsync(MemoryImpl.GET_DOMCOUNTERS, null);
+    }
+
+    @Override
+    public CompletableFuture<SamplingProfile> getSamplingProfile() {
+        return handler.invokeAsync(MemoryImpl.GET_SAMPLING_PROFILE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> prepareForLeakDetection() {
+        return handler.invokeAsync(MemoryImpl.PREPARE_FOR_LEAK_DETECTION, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> setPressureNotificationsSuppressed(final Boolean suppressed) {
+        return handler.invokeAsync(MemoryImpl.SET_PRESSURE_NOTIFICATIONS_SUPPRESSED, new Object[] { suppressed });
+    }
+
+    @Override
+    public CompletableFuture<Void> simulatePressureNotification(final PressureLevel level) {
+        return handler.invokeAsync(MemoryImpl.SIMULATE_PRESSURE_NOTIFICATION, new Object[] { level });
+    }
+
+    @Override
+    public CompletableFuture<Void> startSampling() {
+        return handler.invokeAsync(MemoryImpl.START_SAMPLING, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> startSampling(final Integer samplingInterval,
+            final Boolean suppressRandomness) {
+        return handler.invokeAsync(MemoryImpl.START_SAMPLING_1, new Object[] { samplingInterval, suppressRandomness });
+    }
+
+    @Override
+    public CompletableFuture<Void> stopSampling() {
+        return handler.invokeAsync(MemoryImpl.STOP_SAMPLING, null);
+    }
+}
@@ -0,0 +1,239 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.async.AsyncNetwork;
+import io.webfolder.cdp.type.debugger.SearchMatch;
+import io.webfolder.cdp.type.network.AuthChallengeResponse;
+import io.webfolder.cdp.type.network.ConnectionType;
+import io.webfolder.cdp.type.network.Cookie;
+import io.webfolder.cdp.type.network.CookieParam;
+import io.webfolder.cdp.type.network.CookieSameSite;
+import io.webfolder.cdp.type.network.ErrorReason;
+import io.webfolder.cdp.type.network.GetResponseBodyForInterceptionResult;
+import io.webfolder.cdp.type.network.GetResponseBodyResult;
+import io.webfolder.cdp.type.network.RequestPattern;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class AsyncNetworkImpl implements AsyncNetwork {
+    private final SessionInvocationHandler handler;
+
+    AsyncNetworkImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> canClearBrowserCache() {
+        return handler.invokeAsync(NetworkImpl.CAN_CLEAR_BROWSER_CACHE, null);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> canClearBrowserCookies() {
+        return handler.invokeAsync(NetworkImpl.CAN_CLEAR_BROWSER_COOKIES, null);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> canEmulateNetworkConditions() {
+        return handler.invokeAsync(NetworkImpl.CAN_EMULATE_NETWORK_CONDITIONS, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> clearBrowserCache() {
+        return handler.invokeAsync(NetworkImpl.CLEAR_BROWSER_CACHE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> clearBrowserCookies() {
+        return handler.invokeAsync(NetworkImpl.CLEAR_BROWSER_COOKIES, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> continueInterceptedRequest(final String interceptionId) {
+        return handler.invokeAsync(NetworkImpl.CONTINUE_INTERCEPTED_REQUEST, new Object[] { interceptionId });
+    }
+
+    @Override
+    public CompletableFuture<Void> continueInterceptedRequest(final String interceptionId,
+            final ErrorReason errorReason, final String rawResponse, final String url,
+            final String method, final String postData, final Map<String, Object> headers,
+            final AuthChallengeResponse authChallengeResponse) {
+        return handler.invokeAsync(NetworkImpl.CONTINUE_INTERCEPTED_REQUEST_1, new Object[] { interceptionId, errorReason, rawResponse, url, method, postData, headers, authChallengeResponse });
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteCookies(final String name) {
+        return handler.invokeAsync(NetworkImpl.DELETE_COOKIES, new Object[] { name });
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteCookies(final String name, final String url,
+            final String domain, final String path) {
+        return handler.invokeAsync(NetworkImpl.DELETE_COOKIES_1, new Object[] { name, url, domain, path });
+    }
+
+    @Override
+    public CompletableFuture<Void> disable() {
+        return handler.invokeAsync(NetworkImpl.DISABLE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> emulateNetworkConditions(final Boolean offline,
+            final Double latency, final Double downloadThroughput, final Double uploadThroughput) {
+        return handler.invokeAsync(NetworkImpl.EMULATE_NETWORK_CONDITIONS, new Object[] { offline, latency, downloadThroughput, uploadThroughput });
+    }
+
+    @Override
+    public CompletableFuture<Void> emulateNetworkConditions(final Boolean offline,
+            final Double latency, final Double downloadThroughput, final Double uploadThroughput,
+            final ConnectionType connectionType) {
+        return handler.invokeAsync(NetworkImpl.EMULATE_NETWORK_CONDITIONS_1, new Object[] { offline, latency, downloadThroughput, uploadThroughput, connectionType });
+    }
+
+    @Override
+    public CompletableFuture<Void> enable() {
+        return handler.invokeAsync(NetworkImpl.ENABLE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> enable(final Integer maxTotalBufferSize,
+            final Integer maxResourceBufferSize, final Integer maxPostDataSize) {
+        return handler.invokeAsync(NetworkImpl.ENABLE_1, new Object[] { maxTotalBufferSize, maxResourceBufferSize, maxPostDataSize });
+    }
+
+    @Override
+    public CompletableFuture<List<Cookie>> getAllCookies() {
+        return handler.invokeAsync(NetworkImpl.GET_ALL_COOKIES, null);
+    }
+
+    @Override
+    public CompletableFuture<List<String>> getCertificate(final String origin) {
+        return handler.invokeAsync(NetworkImpl.GET_CERTIFICATE, new Object[] { origin });
+    }
+
+    @Override
+    public CompletableFuture<List<Cookie>> getCookies() {
+        return handler.invokeAsync(NetworkImpl.GET_COOKIES, null);
+    }
+
+    @Override
+    public CompletableFuture<List<Cookie>> getCookies(final List<String> urls) {
+        return handler.invokeAsync(NetworkImpl.GET_COOKIES_1, new Object[] { urls });
+    }
+
+    @Override
+    public CompletableFuture<byte[]> getRequestPostData(final String requestId) {
+        return handler.invokeAsync(NetworkImpl.GET_REQUEST_POST_DATA, new Object[] { requestId });
+    }
+
+    @Override
+    public CompletableFuture<GetResponseBodyResult> getResponseBody(final String requestId) {
+        return handler.invokeAsync(NetworkImpl.GET_RESPONSE_BODY, new Object[] { requestId });
+    }
+
+    @Override
+    public CompletableFuture<GetResponseBodyForInterceptionResult> getResponseBodyForInterception(final String interceptionId) {
+        return handler.invokeAsync(NetworkImpl.GET_RESPONSE_BODY_FOR_INTERCEPTION, new Object[] { interceptionId });
+    }
+
+    @Override
+    public CompletableFuture<Void> replayXHR(final String requestId) {
+        return handler.invokeAsync(NetworkImpl.REPLAY_XHR, new Object[] { requestId });
+    }
+
+    @Override
+    public CompletableFuture<List<SearchMatch>> searchInResponseBody(final String requestId,
+            final String query) {
+        return handler.invokeAsync(NetworkImpl.SEARCH_IN_RESPONSE_BODY, new Object[] { requestId, query });
+    }
+
+    @Override
+    public CompletableFuture<List<SearchMatch>> searchInResponseBody(final String requestId,
+            final String query, final Boolean caseSensitive, final Boolean isRegex) {
+        return handler.invokeAsync(NetworkImpl.SEARCH_IN_RESPONSE_BODY_1, new Object[] { requestId, query, caseSensitive, isRegex });
+    }
+
+    @Override
+    public CompletableFuture<Void> setBlockedURLs(final List<String> urls) {
+        return handler.invokeAsync(NetworkImpl.SET_BLOCKED_URLS, new Object[] { urls });
+    }
+
+    @Override
+    public CompletableFuture<Void> setBypassServiceWorker(final Boolean bypass) {
+        return handler.invokeAsync(NetworkImpl.SET_BYPASS_SERVICE_WORKER, new Object[] { bypass });
+    }
+
+    @Override
+    public CompletableFuture<Void> setCacheDisabled(final Boolean cacheDisabled) {
+        return handler.invokeAsync(NetworkImpl.SET_CACHE_DISABLED, new Object[] { cacheDisabled });
+    }
+
+    @Override
+    public CompletableFuture<Boolean> setCookie(final String name, final String value) {
+        return handler.invokeAsync(NetworkImpl.SET_COOKIE, new Object[] { name, value });
+    }
+
+    @Override
+    public CompletableFuture<Boolean> setCookie(final String name, final String value,
+            final String url, final String domain, final String path, final Boolean secure,
+            final Boolean httpOnly, final CookieSameSite sameSite, final Double expires) {
+        return handler.invokeAsync(NetworkImpl.SET_COOKIE_1, new Object[] { name, value, url, domain, path, secure, httpOnly, sameSite, expires });
+    }
+
+    @Override
+    public CompletableFuture<Void> setCookies(final List<CookieParam> cookies) {
+        return handler.invokeAsync(NetworkImpl.SET_COOKIES, new Object[] { cookies });
+    }
+
+    @Override
+    public CompletableFuture<Void> setDataSizeLimitsForTest(final Integer maxTotalSize,
+            final Integer maxResourceSize) {
+        return handler.invokeAsync(NetworkImpl.SET_DATA_SIZE_LIMITS_FOR_TEST, new Object[] { maxTotalSize, maxResourceSize });
+    }
+
+    @Override
+    public CompletableFuture<Void> setExtraHTTPHeaders(final Map<String, Object> headers) {
+        return handler.invokeAsync(NetworkImpl.SET_EXTRA_HTTPHEADERS, new Object[] { headers });
+    }
+
+    @Override
+    public CompletableFuture<Void> setRequestInterception(final List<RequestPattern> patterns) {
+        return handler.invokeAsync(NetworkImpl.SET_REQUEST_INTERCEPTION, new Object[] { patterns });
+    }
+
+    @Override
+    public CompletableFuture<Void> setUserAgentOverride(final String userAgent) {
+        return handler.invokeAsync(NetworkImpl.SET_USER_AGENT_OVERRIDE, new Object[] { userAgent });
+    }
+
+    @Override
+    public CompletableFuture<Void> setUserAgentOverride(final String userAgent,
+            final String acceptLanguage, final String platform) {
+        return handler.invokeAsync(NetworkImpl.SET_USER_AGENT_OVERRIDE_1, new Object[] { userAgent, acceptLanguage, platform });
+    }
+
+    @Override
+    public CompletableFuture<String> takeResponseBodyForInterceptionAsStream(final String interceptionId) {
+        return handler.invokeAsync(NetworkImpl.TAKE_RESPONSE_BODY_FOR_INTERCEPTION_AS_STREAM, new Object[] { interceptionId });
+    }
+}
@@ -0,0 +1,148 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.async.AsyncOverlay;
+import io.webfolder.cdp.type.dom.RGBA;
+import io.webfolder.cdp.type.overlay.HighlightConfig;
+import io.webfolder.cdp.type.overlay.InspectMode;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class AsyncOverlayImpl implements AsyncOverlay {
+    private final SessionInvocationHandler handler;
+
+    AsyncOverlayImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public CompletableFuture<Void> disable() {
+        return handler.invokeAsync(OverlayImpl.DISABLE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> enable() {
+        return handler.invokeAsync(OverlayImpl.ENABLE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> hideHighlight() {
+        return handler.invokeAsync(OverlayImpl.HIDE_HIGHLIGHT, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> highlightFrame(final String frameId) {
+        return handler.invokeAsync(OverlayImpl.HIGHLIGHT_FRAME, new Object[] { frameId });
+    }
+
+    @Override
+    public CompletableFuture<Void> highlightFrame(final String frameId, final RGBA contentColor,
+            final RGBA contentOutlineColor) {
+        return handler.invokeAsync(OverlayImpl.HIGHLIGHT_FRAME_1, new Object[] { frameId, contentColor, contentOutlineColor });
+    }
+
+    @Override
+    public CompletableFuture<Void> highlightNode(final HighlightConfig highlightConfig) {
+        return handler.invokeAsync(OverlayImpl.HIGHLIGHT_NODE, new Object[] { highlightConfig });
+    }
+
+    @Override
+    public CompletableFuture<Void> highlightNode(final HighlightConfig highlightConfig,
+            final Integer nodeId, final Integer backendNodeId, final String objectId) {
+        return handler.invokeAsync(OverlayImpl.HIGHLIGHT_NODE_1, new Object[] { highlightConfig, nodeId, backendNodeId, objectId });
+    }
+
+    @Override
+    public CompletableFuture<Void> highlightQuad(final List<Double> quad) {
+        return handler.invokeAsync(OverlayImpl.HIGHLIGHT_QUAD, new Object[] { quad });
+    }
+
+    @Override
+    public CompletableFuture<Void> highlightQuad(final List<Double> quad, final RGBA color,
+            final RGBA outlineColor) {
+        return handler.invokeAsync(OverlayImpl.HIGHLIGHT_QUAD_1, new Object[] { quad, color, outlineColor });
+    }
+
+    @Override
+    public CompletableFuture<Void> highlightRect(final Integer x, final Integer y,
+            final Integer width, final Integer height) {
+        return handler.invokeAsync(OverlayImpl.HIGHLIGHT_RECT, new Object[] { x, y, width, height });
+    }
+
+    @Override
+    public CompletableFuture<Void> highlightRect(final Integer x, final Integer y,
+            final Integer width, final Integer height, final RGBA color, final RGBA outlineColor) {
+        return handler.invokeAsync(OverlayImpl.HIGHLIGHT_RECT_1, new Object[] { x, y, width, height, color, outlineColor });
+    }
+
+    @Override
+    public CompletableFuture<Void> setInspectMode(final InspectMode mode) {
+        return handler.invokeAsync(OverlayImpl.SET_INSPECT_MODE, new Object[] { mode });
+    }
+
+    @Override
+    public CompletableFuture<Void> setInspectMode(final InspectMode mode,
+            final HighlightConfig highlightConfig) {
+        return handler.invokeAsync(OverlayImpl.SET_INSPECT_MODE_1, new Object[] { mode, highlightConfig });
+    }
+
+    @Override
+    public CompletableFuture<Void> setPausedInDebuggerMessage() {
+        return handler.invokeAsync(OverlayImpl.SET_PAUSED_IN_DEBUGGER_MESSAGE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> setPausedInDebuggerMessage(final String message) {
+        return handler.invokeAsync(OverlayImpl.SET_PAUSED_IN_DEBUGGER_MESSAGE_1, new Object[] { message });
+    }
+
+    @Override
+    public CompletableFuture<Void> setShowDebugBorders(final Boolean show) {
+        return handler.invokeAsync(OverlayImpl.SET_SHOW_DEBUG_BORDERS, new Object[] { show });
+    }
+
+    @Override
+    public CompletableFuture<Void> setShowFPSCounter(final Boolean show) {
+        return handler.invokeAsync(OverlayImpl.SET_SHOW_FPSCOUNTER, new Object[] { show });
+    }
+
+    @Override
+    public CompletableFuture<Void> setShowPaintRects(final Boolean result) {
+        return handler.invokeAsync(OverlayImpl.SET_SHOW_PAINT_RECTS, new Object[] { result });
+    }
+
+    @Override
+    public CompletableFuture<Void> setShowScrollBottleneckRects(final Boolean show) {
+        return handler.invokeAsync(OverlayImpl.SET_SHOW_SCROLL_BOTTLENECK_RECTS, new Object[] { show });
+    }
+
+    @Override
+    public CompletableFuture<Void> setShowViewportSizeOnResize(final Boolean show) {
+        return handler.invokeAsync(OverlayImpl.SET_SHOW_VIEWPORT_SIZE_ON_RESIZE, new Object[] { show });
+    }
+
+    @Override
+    public CompletableFuture<Void> setSuspended(final Boolean suspended) {
+        return handler.invokeAsync(OverlayImpl.SET_SUSPENDED, new Object[] { suspended });
+    }
+}
@@ -0,0 +1,362 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.async.AsyncPage;
+import io.webfolder.cdp.type.constant.DownloadBehavior;
+import io.webfolder.cdp.type.constant.ImageFormat;
+import io.webfolder.cdp.type.constant.Platform;
+import io.webfolder.cdp.type.constant.TargetLifecycleState;
+import io.webfolder.cdp.type.debugger.SearchMatch;
+import io.webfolder.cdp.type.emulation.ScreenOrientation;
+import io.webfolder.cdp.type.network.Cookie;
+import io.webfolder.cdp.type.page.FontFamilies;
+import io.webfolder.cdp.type.page.FontSizes;
+import io.webfolder.cdp.type.page.FrameResourceTree;
+import io.webfolder.cdp.type.page.FrameTree;
+import io.webfolder.cdp.type.page.GetAppManifestResult;
+import io.webfolder.cdp.type.page.GetLayoutMetricsResult;
+import io.webfolder.cdp.type.page.GetNavigationHistoryResult;
+import io.webfolder.cdp.type.page.GetResourceContentResult;
+import io.webfolder.cdp.type.page.NavigateResult;
+import io.webfolder.cdp.type.page.TransitionType;
+import io.webfolder.cdp.type.page.Viewport;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class AsyncPageImpl implements AsyncPage {
+    private final SessionInvocationHandler handler;
+
+    AsyncPageImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public CompletableFuture<String> addScriptToEvaluateOnLoad(final String scriptSource) {
+        return handler.invokeAsync(PageImpl.ADD_SCRIPT_TO_EVALUATE_ON_LOAD, new Object[] { scriptSource });
+    }
+
+    @Override
+    public CompletableFuture<String> addScriptToEvaluateOnNewDocument(final String source) {
+        return handler.invokeAsync(PageImpl.ADD_SCRIPT_TO_EVALUATE_ON_NEW_DOCUMENT, new Object[] { source });
+    }
+
+    @Override
+    public CompletableFuture<Void> bringToFront() {
+        return handler.invokeAsync(PageImpl.BRING_TO_FRONT, null);
+    }
+
+    @Override
+    public CompletableFuture<byte[]> captureScreenshot() {
+        return handler.invokeAsync(PageImpl.CAPTURE_SCREENSHOT, null);
+    }
+
+    @Override
+    public CompletableFuture<byte[]> captureScreenshot(final ImageFormat format,
+            final Integer quality, final Viewport clip, final Boolean fromSurface) {
+        return handler.invokeAsync(PageImpl.CAPTURE_SCREENSHOT_1, new Object[] { format, quality, clip, fromSurface });
+    }
+
+    @Override
+    public CompletableFuture<Void> clearDeviceMetricsOverride() {
+        return handler.invokeAsync(PageImpl.CLEAR_DEVICE_METRICS_OVERRIDE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> clearDeviceOrientationOverride() {
+        return handler.invokeAsync(PageImpl.CLEAR_DEVICE_ORIENTATION_OVERRIDE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> clearGeolocationOverride() {
+        return handler.invokeAsync(PageImpl.CLEAR_GEOLOCATION_OVERRIDE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> close() {
+        return handler.invokeAsync(PageImpl.CLOSE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> crash() {
+        return handler.invokeAsync(PageImpl.CRASH, null);
+    }
+
+    @Override
+    public CompletableFuture<Integer> createIsolatedWorld(final String frameId) {
+        return handler.invokeAsync(PageImpl.CREATE_ISOLATED_WORLD, new Object[] { frameId });
+    }
+
+    @Override
+    public CompletableFuture<Integer> createIsolatedWorld(final String frameId,
+            final String worldName, final Boolean grantUniveralAccess) {
+        return handler.invokeAsync(PageImpl.CREATE_ISOLATED_WORLD_1, new Object[] { frameId, worldName, grantUniveralAccess });
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteCookie(final String cookieName, final String url) {
+        return handler.invokeAsync(PageImpl.DELETE_COOKIE, new Object[] { cookieName, url });
+    }
+
+    @Override
+    public CompletableFuture<Void> disable() {
+        return handler.invokeAsync(PageImpl.DISABLE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> enable() {
+        return handler.invokeAsync(PageImpl.ENABLE, null);
+    }
+
+    @Override
+    public CompletableFuture<GetAppManifestResult> getAppManifest() {
+        return handler.invokeAsync(PageImpl.GET_APP_MANIFEST, null);
+    }
+
+    @Override
+    public CompletableFuture<List<Cookie>> getCookies() {
+        return handler.invokeAsync(PageImpl.GET_COOKIES, null);
+    }
+
+    @Override
+    public CompletableFuture<FrameTree> getFrameTree() {
+        return handler.invokeAsync(PageImpl.GET_FRAME_TREE, null);
+    }
+
+    @Override
+    public CompletableFuture<GetLayoutMetricsResult> getLayoutMetrics() {
+        return handler.invokeAsync(PageImpl.GET_LAYOUT_METRICS, null);
+    }
+
+    @Override
+    public CompletableFuture<GetNavigationHistoryResult> getNavigationHistory() {
+        return handler.invokeAsync(PageImpl.GET_NAVIGATION_HISTORY, null);
+    }
+
+    @Override
+    public CompletableFuture<GetResourceContentResult> getResourceContent(final String frameId,
+            final String url) {
+        return handler.invokeAsync(PageImpl.GET_RESOURCE_CONTENT, new Object[] { frameId, url });
+    }
+
+    @Override
+    public CompletableFuture<FrameResourceTree> getResourceTree() {
+        return handler.invokeAsync(PageImpl.GET_RESOURCE_TREE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> handleJavaScriptDialog(final Boolean accept) {
+        return handler.invokeAsync(PageImpl.HANDLE_JAVA_SCRIPT_DIALOG, new Object[] { accept });
+    }
+
+    @Override
+    public CompletableFuture<Void> handleJavaScriptDialog(final Boolean accept,
+            final String promptText) {
+        return handler.invokeAsync(PageImpl.HANDLE_JAVA_SCRIPT_DIALOG_1, new Object[] { accept, promptText });
+    }
+
+    @Override
+    public CompletableFuture<NavigateResult> navigate(final String url) {
+        return handler.invokeAsync(PageImpl.NAVIGATE, new Object[] { url });
+    }
+
+    @Override
+    public CompletableFuture<NavigateResult> navigate(final String url, final String referrer,
+            final TransitionType transitionType, final String frameId) {
+        return handler.invokeAsync(PageImpl.NAVIGATE_1, new Object[] { url, referrer, transitionType, frameId });
+    }
+
+    @Override
+    public CompletableFuture<Void> navigateToHistoryEntry(final Integer entryId) {
+        return handler.invokeAsync(PageImpl.NAVIGATE_TO_HISTORY_ENTRY, new Object[] { entryId });
+    }
+
+    @Override
+    public CompletableFuture<byte[]> printToPDF() {
+        return handler.invokeAsync(PageImpl.PRINT_TO_PDF, null);
+    }
+
+    @Override
+    public CompletableFuture<byte[]> printToPDF(final Boolean landscape,
+            final Boolean displayHeaderFooter, final Boolean printBackground, final Double scale,
+            final Double paperWidth, final Double paperHeight, final Double marginTop,
+            final Double marginBottom, final Double marginLeft, final Double marginRight,
+            final String pageRanges, final Boolean ignoreInvalidPageRanges,
+            final String headerTemplate, final String footerTemplate,
+            final Boolean preferCSSPageSize) {
+        return handler.invokeAsync(PageImpl.PRINT_TO_PDF_1, new Object[] { landscape, displayHeaderFooter, printBackground, scale, paperWidth, paperHeight, marginTop, marginBottom, marginLeft, marginRight, pageRanges, ignoreInvalidPageRanges, headerTemplate, footerTemplate, preferCSSPageSize });
+    }
+
+    @Override
+    public CompletableFuture<Void> reload() {
+        return handler.invokeAsync(PageImpl.RELOAD, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> reload(final Boolean ignoreCache,
+            final String scriptToEvaluateOnLoad) {
+        return handler.invokeAsync(PageImpl.RELOAD_1, new Object[] { ignoreCache, scriptToEvaluateOnLoad });
+    }
+
+    @Override
+    public CompletableFuture<Void> removeScriptToEvaluateOnLoad(final String identifier) {
+        return handler.invokeAsync(PageImpl.REMOVE_SCRIPT_TO_EVALUATE_ON_LOAD, new Object[] { identifier });
+    }
+
+    @Override
+    public CompletableFuture<Void> removeScriptToEvaluateOnNewDocument(final String identifier) {
+        return handler.invokeAsync(PageImpl.REMOVE_SCRIPT_TO_EVALUATE_ON_NEW_DOCUMENT, new Object[] { identifier });
+    }
+
+    @Override
+    public CompletableFuture<Void> requestAppBanner() {
+        return handler.invokeAsync(PageImpl.REQUEST_APP_BANNER, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> screencastFrameAck(final Integer sessionId) {
+        return handler.invokeAsync(PageImpl.SCREENCAST_FRAME_ACK, new Object[] { sessionId });
+    }
+
+    @Override
+    public CompletableFuture<List<SearchMatch>> searchInResource(final String frameId,
+            final String url, final String query) {
+        return handler.invokeAsync(PageImpl.SEARCH_IN_RESOURCE, new Object[] { frameId, url, query });
+    }
+
+    @Override
+    public CompletableFuture<List<SearchMatch>> searchInResource(final String frameId,
+            final String url, final String query, final Boolean caseSensitive,
+            final Boolean isRegex) {
+        return handler.invokeAsync(PageImpl.SEARCH_IN_RESOURCE_1, new Object[] { frameId, url, query, caseSensitive, isRegex });
+    }
+
+    @Override
+    public CompletableFuture<Void> setAdBlockingEnabled(final Boolean enabled) {
+        return handler.invokeAsync(PageImpl.SET_AD_BLOCKING_ENABLED, new Object[] { enabled });
+    }
+
+    @Override
+    public CompletableFuture<Void> setBypassCSP(final Boolean enabled) {
+        return handler.invokeAsync(PageImpl.SET_BYPASS_CSP, new Object[] { enabled });
+    }
+
+    @Override
+    public CompletableFuture<Void> setDeviceMetricsOverride(final Integer width,
+            final Integer height, final Double deviceScaleFactor, final Boolean mobile) {
+        return handler.invokeAsync(PageImpl.SET_DEVICE_METRICS_OVERRIDE, new Object[] { width, height, deviceScaleFactor, mobile });
+    }
+
+    @Override
+    public CompletableFuture<Void> setDeviceMetricsOverride(final Integer width,
+            final Integer height, final Double deviceScaleFactor, final Boolean mobile,
+            final Double scale, final Integer screenWidth, final Integer screenHeight,
+            final Integer positionX, final Integer positionY, final Boolean dontSetVisibleSize,
+            final ScreenOrientation screenOrientation, final Viewport viewport) {
+        return handler.invokeAsync(PageImpl.SET_DEVICE_METRICS_OVERRIDE_1, new Object[] { width, height, deviceScaleFactor, mobile, scale, screenWidth, screenHeight, positionX, positionY, dontSetVisibleSize, screenOrientation, viewport });
+    }
+
+    @Override
+    public CompletableFuture<Void> setDeviceOrientationOverride(final Double alpha,
+            final Double beta, final Double gamma) {
+        return handler.invokeAsync(PageImpl.SET_DEVICE_ORIENTATION_OVERRIDE, new Object[] { alpha, beta, gamma });
+    }
+
+    @Override
+    public CompletableFuture<Void> setDocumentContent(final String frameId, final String html) {
+        return handler.invokeAsync(PageImpl.SET_DOCUMENT_CONTENT, new Object[] { frameId, html });
+    }
+
+    @Override
+    public CompletableFuture<Void> setDownloadBehavior(final DownloadBehavior behavior) {
+        return handler.invokeAsync(PageImpl.SET_DOWNLOAD_BEHAVIOR, new Object[] { behavior });
+    }
+
+    @Override
+    public CompletableFuture<Void> setDownloadBehavior(final DownloadBehavior behavior,
+            final String downloadPath) {
+        return handler.invokeAsync(PageImpl.SET_DOWNLOAD_BEHAVIOR_1, new Object[] { behavior, downloadPath });
+    }
+
+    @Override
+    public CompletableFuture<Void> setFontFamilies(final FontFamilies fontFamilies) {
+        return handler.invokeAsync(PageImpl.SET_FONT_FAMILIES, new Object[] { fontFamilies });
+    }
+
+    @Override
+    public CompletableFuture<Void> setFontSizes(final FontSizes fontSizes) {
+        return handler.invokeAsync(PageImpl.SET_FONT_SIZES, new Object[] { fontSizes });
+    }
+
+    @Override
+    public CompletableFuture<Void> setGeolocationOverride() {
+        return handler.invokeAsync(PageImpl.SET_GEOLOCATION_OVERRIDE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> setGeolocationOverride(final Double latitude,
+            final Double longitude, final Double accuracy) {
+        return handler.invokeAsync(PageImpl.SET_GEOLOCATION_OVERRIDE_1, new Object[] { latitude, longitude, accuracy });
+    }
+
+    @Override
+    public CompletableFuture<Void> setLifecycleEventsEnabled(final Boolean enabled) {
+        return handler.invokeAsync(PageImpl.SET_LIFECYCLE_EVENTS_ENABLED, new Object[] { enabled });
+    }
+
+    @Override
+    public CompletableFuture<Void> setTouchEmulationEnabled(final Boolean enabled) {
+        return handler.invokeAsync(PageImpl.SET_TOUCH_EMULATION_ENABLED, new Object[] { enabled });
+    }
+
+    @Override
+    public CompletableFuture<Void> setTouchEmulationEnabled(final Boolean enabled,
+            final Platform configuration) {
+        return handler.invokeAsync(PageImpl.SET_TOUCH_EMULATION_ENABLED_1, new Object[] { enabled, configuration });
+    }
+
+    @Override
+    public CompletableFuture<Void> setWebLifecycleState(final TargetLifecycleState state) {
+        return handler.invokeAsync(PageImpl.SET_WEB_LIFECYCLE_STATE, new Object[] { state });
+    }
+
+    @Override
+    public CompletableFuture<Void> startScreencast() {
+        return handler.invokeAsync(PageImpl.START_SCREENCAST, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> startScreencast(final ImageFormat format, final Integer quality,
+            final Integer maxWidth, final Integer maxHeight, final Integer everyNthFrame) {
+        return handler.invokeAsync(PageImpl.START_SCREENCAST_1, new Object[] { format, quality, maxWidth, maxHeight, everyNthFrame });
+    }
+
+    @Override
+    public CompletableFuture<Void> stopLoading() {
+        return handler.invokeAsync(PageImpl.STOP_LOADING, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> stopScreencast() {
+        return handler.invokeAsync(PageImpl.STOP_SCREENCAST, null);
+    }
+}
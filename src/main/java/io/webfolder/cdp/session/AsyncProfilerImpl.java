@@ -0,0 +1,103 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.async.AsyncProfiler;
+import io.webfolder.cdp.type.profiler.Profile;
+import io.webfolder.cdp.type.profiler.ScriptCoverage;
+import io.webfolder.cdp.type.profiler.ScriptTypeProfile;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class AsyncProfilerImpl implements AsyncProfiler {
+    private final SessionInvocationHandler handler;
+
+    AsyncProfilerImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public CompletableFuture<Void> disable() {
+        return handler.invokeAsync(ProfilerImpl.DISABLE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> enable() {
+        return handler.invokeAsync(ProfilerImpl.ENABLE, null);
+    }
+
+    @Override
+    public CompletableFuture<List<ScriptCoverage>> getBestEffortCoverage() {
+        return handler.invokeAsync(ProfilerImpl.GET_BEST_EFFORT_COVERAGE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> setSamplingInterval(final Integer interval) {
+        return handler.invokeAsync(ProfilerImpl.SET_SAMPLING_INTERVAL, new Object[] { interval });
+    }
+
+    @Override
+    public CompletableFuture<Void> start() {
+        return handler.invokeAsync(ProfilerImpl.START, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> startPreciseCoverage() {
+        return handler.invokeAsync(ProfilerImpl.START_PRECISE_COVERAGE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> startPreciseCoverage(final Boolean callCount,
+            final Boolean detailed) {
+        return handler.invokeAsync(ProfilerImpl.START_PRECISE_COVERAGE_1, new Object[] { callCount, detailed });
+    }
+
+    @Override
+    public CompletableFuture<Void> startTypeProfile() {
+        return handler.invokeAsync(ProfilerImpl.START_TYPE_PROFILE, null);
+    }
+
+    @Override
+    public CompletableFuture<Profile> stop() {
+        return handler.invokeAsync(ProfilerImpl.STOP, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> stopPreciseCoverage() {
+        return handler.invokeAsync(ProfilerImpl.STOP_PRECISE_COVERAGE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> stopTypeProfile() {
+        return handler.invokeAsync(ProfilerImpl.STOP_TYPE_PROFILE, null);
+    }
+
+    @Override
+    public CompletableFuture<List<ScriptCoverage>> takePreciseCoverage() {
+        return handler.invokeAsync(ProfilerImpl.TAKE_PRECISE_COVERAGE, null);
+    }
+
+    @Override
+    public CompletableFuture<List<ScriptTypeProfile>> takeTypeProfile() {
+        return handler.invokeAsync(ProfilerImpl.TAKE_TYPE_PROFILE, null);
+    }
+}
@@ -0,0 +1,215 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.async.AsyncRuntime;
+import io.webfolder.cdp.type.runtime.AwaitPromiseResult;
+import io.webfolder.cdp.type.runtime.CallArgument;
+import io.webfolder.cdp.type.runtime.CallFunctionOnResult;
+import io.webfolder.cdp.type.runtime.CompileScriptResult;
+import io.webfolder.cdp.type.runtime.EvaluateResult;
+import io.webfolder.cdp.type.runtime.GetHeapUsageResult;
+import io.webfolder.cdp.type.runtime.GetPropertiesResult;
+import io.webfolder.cdp.type.runtime.RemoteObject;
+import io.webfolder.cdp.type.runtime.RunScriptResult;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class AsyncRuntimeImpl implements AsyncRuntime {
+    private final SessionInvocationHandler handler;
+
+    AsyncRuntimeImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public CompletableFuture<Void> addBinding(final String name) {
+        return handler.invokeAsync(RuntimeImpl.ADD_BINDING, new Object[] { name });
+    }
+
+    @Override
+    public CompletableFuture<Void> addBinding(final String name, final Integer executionContextId) {
+        return handler.invokeAsync(RuntimeImpl.ADD_BINDING_1, new Object[] { name, executionContextId });
+    }
+
+    @Override
+    public CompletableFuture<AwaitPromiseResult> awaitPromise(final String promiseObjectId) {
+        return handler.invokeAsync(RuntimeImpl.AWAIT_PROMISE, new Object[] { promiseObjectId });
+    }
+
+    @Override
+    public CompletableFuture<AwaitPromiseResult> awaitPromise(final String promiseObjectId,
+            final Boolean returnByValue, final Boolean generatePreview) {
+        return handler.invokeAsync(RuntimeImpl.AWAIT_PROMISE_1, new Object[] { promiseObjectId, returnByValue, generatePreview });
+    }
+
+    @Override
+    public CompletableFuture<CallFunctionOnResult> callFunctionOn(final String functionDeclaration) {
+        return handler.invokeAsync(RuntimeImpl.CALL_FUNCTION_ON, new Object[] { functionDeclaration });
+    }
+
+    @Override
+    public CompletableFuture<CallFunctionOnResult> callFunctionOn(final String functionDeclaration,
+            final String objectId, final List<CallArgument> arguments, final Boolean silent,
+            final Boolean returnByValue, final Boolean generatePreview, final Boolean userGesture,
+            final Boolean awaitPromise, final Integer executionContextId,
+            final String objectGroup) {
+        return handler.invokeAsync(RuntimeImpl.CALL_FUNCTION_ON_1, new Object[] { functionDeclaration, objectId, arguments, silent, returnByValue, generatePreview, userGesture, awaitPromise, executionContextId, objectGroup });
+    }
+
+    @Override
+    public CompletableFuture<CompileScriptResult> compileScript(final String expression,
+            final String sourceURL, final Boolean persistScript) {
+        return handler.invokeAsync(RuntimeImpl.COMPILE_SCRIPT, new Object[] { expression, sourceURL, persistScript });
+    }
+
+    @Override
+    public CompletableFuture<CompileScriptResult> compileScript(final String expression,
+            final String sourceURL, final Boolean persistScript, final Integer executionContextId) {
+        return handler.invokeAsync(RuntimeImpl.COMPILE_SCRIPT_1, new Object[] { expression, sourceURL, persistScript, executionContextId });
+    }
+
+    @Override
+    public CompletableFuture<Void> disable() {
+        return handler.invokeAsync(RuntimeImpl.DISABLE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> discardConsoleEntries() {
+        return handler.invokeAsync(RuntimeImpl.DISCARD_CONSOLE_ENTRIES, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> enable() {
+        return handler.invokeAsync(RuntimeImpl.ENABLE, null);
+    }
+
+    @Override
+    public CompletableFuture<EvaluateResult> evaluate(final String expression) {
+        return handler.invokeAsync(RuntimeImpl.EVALUATE, new Object[] { expression });
+    }
+
+    @Override
+    public CompletableFuture<EvaluateResult> evaluate(final String expression,
+            final String objectGroup, final Boolean includeCommandLineAPI, final Boolean silent,
+            final Integer contextId, final Boolean returnByValue, final Boolean generatePreview,
+            final Boolean userGesture, final Boolean awaitPromise, final Boolean throwOnSideEffect,
+            final Double timeout) {
+        return handler.invokeAsync(RuntimeImpl.EVALUATE_1, new Object[] { expression, objectGroup, includeCommandLineAPI, silent, contextId, returnByValue, generatePreview, userGesture, awaitPromise, throwOnSideEffect, timeout });
+    }
+
+    @Override
+    public CompletableFuture<GetHeapUsageResult> getHeapUsage() {
+        return handler.invokeAsync(RuntimeImpl.GET_HEAP_USAGE, null);
+    }
+
+    @Override
+    public CompletableFuture<String> getIsolateId() {
+        return handler.invokeAsync(RuntimeImpl.GET_ISOLATE_ID, null);
+    }
+
+    @Override
+    public CompletableFuture<GetPropertiesResult> getProperties(final String objectId) {
+        return handler.invokeAsync(RuntimeImpl.GET_PROPERTIES, new Object[] { objectId });
+    }
+
+    @Override
+    public CompletableFuture<GetPropertiesResult> getProperties(final String objectId,
+            final Boolean ownProperties, final Boolean accessorPropertiesOnly,
+            final Boolean generatePreview) {
+        return handler.invokeAsync(RuntimeImpl.GET_PROPERTIES_1, new Object[] { objectId, ownProperties, accessorPropertiesOnly, generatePreview });
+    }
+
+    @Override
+    public CompletableFuture<List<String>> globalLexicalScopeNames() {
+        return handler.invokeAsync(RuntimeImpl.GLOBAL_LEXICAL_SCOPE_NAMES, null);
+    }
+
+    @Override
+    public CompletableFuture<List<String>> globalLexicalScopeNames(final Integer executionContextId) {
+        return handler.invokeAsync(RuntimeImpl.GLOBAL_LEXICAL_SCOPE_NAMES_1, new Object[] { executionContextId });
+    }
+
+    @Override
+    public CompletableFuture<RemoteObject> queryObjects(final String prototypeObjectId) {
+        return handler.invokeAsync(RuntimeImpl.QUERY_OBJECTS, new Object[] { prototypeObjectId });
+    }
+
+    @Override
+    public CompletableFuture<RemoteObject> queryObjects(final String prototypeObjectId,
+            final String objectGroup) {
+        return handler.invokeAsync(RuntimeImpl.QUERY_OBJECTS_1, new Object[] { prototypeObjectId, objectGroup });
+    }
+
+    @Override
+    public CompletableFuture<Void> releaseObject(final String objectId) {
+        return handler.invokeAsync(RuntimeImpl.RELEASE_OBJECT, new Object[] { objectId });
+    }
+
+    @Override
+    public CompletableFuture<Void> releaseObjectGroup(final String objectGroup) {
+        return handler.invokeAsync(RuntimeImpl.RELEASE_OBJECT_GROUP, new Object[] { objectGroup });
+    }
+
+    @Override
+    public CompletableFuture<Void> removeBinding(final String name) {
+        return handler.invokeAsync(RuntimeImpl.REMOVE_BINDING, new Object[] { name });
+    }
+
+    @Override
+    public CompletableFuture<Void> runIfWaitingForDebugger() {
+        return handler.invokeAsync(RuntimeImpl.RUN_IF_WAITING_FOR_DEBUGGER, null);
+    }
+
+    @Override
+    public CompletableFuture<RunScriptResult> runScript(final String scriptId) {
+        return handler.invokeAsync(RuntimeImpl.RUN_SCRIPT, new Object[] { scriptId });
+    }
+
+    @Override
+    public CompletableFuture<RunScriptResult> runScript(final String scriptId,
+            final Integer executionContextId, final String objectGroup, final Boolean silent,
+            final Boolean includeCommandLineAPI, final Boolean returnByValue,
+            final Boolean generatePreview, final Boolean awaitPromise) {
+        return handler.invokeAsync(RuntimeImpl.RUN_SCRIPT_1, new Object[] { scriptId, executionContextId, objectGroup, silent, includeCommandLineAPI, returnByValue, generatePreview, awaitPromise });
+    }
+
+    @Override
+    public CompletableFuture<Void> setAsyncCallStackDepth(final Integer maxDepth) {
+        return handler.invokeAsync(RuntimeImpl.SET_ASYNC_CALL_STACK_DEPTH, new Object[] { maxDepth });
+    }
+
+    @Override
+    public CompletableFuture<Void> setCustomObjectFormatterEnabled(final Boolean enabled) {
+        return handler.invokeAsync(RuntimeImpl.SET_CUSTOM_OBJECT_FORMATTER_ENABLED, new Object[] { enabled });
+    }
+
+    @Override
+    public CompletableFuture<Void> setMaxCallStackSizeToCapture(final Integer size) {
+        return handler.invokeAsync(RuntimeImpl.SET_MAX_CALL_STACK_SIZE_TO_CAPTURE, new Object[] { size });
+    }
+
+    @Override
+    public CompletableFuture<Void> terminateExecution() {
+        return handler.invokeAsync(RuntimeImpl.TERMINATE_EXECUTION, null);
+    }
+}
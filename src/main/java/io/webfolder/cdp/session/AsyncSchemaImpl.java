@@ -0,0 +1,40 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.type.schema.Domain;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+@SuppressWarnings("deprecation")
+final class AsyncSchemaImpl implements io.webfolder.cdp.async.AsyncSchema {
+    private final SessionInvocationHandler handler;
+
+    AsyncSchemaImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public CompletableFuture<List<Domain>> getDomains() {
+        return handler.invokeAsync(SchemaImpl.GET_DOMAINS, null);
+    }
+}
@@ -0,0 +1,60 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.async.AsyncSecurity;
+import io.webfolder.cdp.type.security.CertificateErrorAction;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class AsyncSecurityImpl implements AsyncSecurity {
+    private final SessionInvocationHandler handler;
+
+    AsyncSecurityImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public CompletableFuture<Void> disable() {
+        return handler.invokeAsync(SecurityImpl.DISABLE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> enable() {
+        return handler.invokeAsync(SecurityImpl.ENABLE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> handleCertificateError(final Integer eventId,
+            final CertificateErrorAction action) {
+        return handler.invokeAsync(SecurityImpl.HANDLE_CERTIFICATE_ERROR, new Object[] { eventId, action });
+    }
+
+    @Override
+    public CompletableFuture<Void> setIgnoreCertificateErrors(final Boolean ignore) {
+        return handler.invokeAsync(SecurityImpl.SET_IGNORE_CERTIFICATE_ERRORS, new Object[] { ignore });
+    }
+
+    @Override
+    public CompletableFuture<Void> setOverrideCertificateErrors(final Boolean override) {
+        return handler.invokeAsync(SecurityImpl.SET_OVERRIDE_CERTIFICATE_ERRORS, new Object[] { override });
+    }
+}
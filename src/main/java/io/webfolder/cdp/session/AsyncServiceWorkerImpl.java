@@ -0,0 +1,95 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.async.AsyncServiceWorker;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class AsyncServiceWorkerImpl implements AsyncServiceWorker {
+    private final SessionInvocationHandler handler;
+
+    AsyncServiceWorkerImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public CompletableFuture<Void> deliverPushMessage(final String origin,
+            final String registrationId, final String data) {
+        return handler.invokeAsync(ServiceWorkerImpl.DELIVER_PUSH_MESSAGE, new Object[] { origin, registrationId, data });
+    }
+
+    @Override
+    public CompletableFuture<Void> disable() {
+        return handler.invokeAsync(ServiceWorkerImpl.DISABLE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> dispatchSyncEvent(final String origin,
+            final String registrationId, final String tag, final Boolean lastChance) {
+        return handler.invokeAsync(ServiceWorkerImpl.DISPATCH_SYNC_EVENT, new Object[] { origin, registrationId, tag, lastChance });
+    }
+
+    @Override
+    public CompletableFuture<Void> enable() {
+        return handler.invokeAsync(ServiceWorkerImpl.ENABLE, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> inspectWorker(final String versionId) {
+        return handler.invokeAsync(ServiceWorkerImpl.INSPECT_WORKER, new Object[] { versionId });
+    }
+
+    @Override
+    public CompletableFuture<Void> setForceUpdateOnPageLoad(final Boolean forceUpdateOnPageLoad) {
+        return handler.invokeAsync(ServiceWorkerImpl.SET_FORCE_UPDATE_ON_PAGE_LOAD, new Object[] { forceUpdateOnPageLoad });
+    }
+
+    @Override
+    public CompletableFuture<Void> skipWaiting(final String scopeURL) {
+        return handler.invokeAsync(ServiceWorkerImpl.SKIP_WAITING, new Object[] { scopeURL });
+    }
+
+    @Override
+    public CompletableFuture<Void> startWorker(final String scopeURL) {
+        return handler.invokeAsync(ServiceWorkerImpl.START_WORKER, new Object[] { scopeURL });
+    }
+
+    @Override
+    public CompletableFuture<Void> stopAllWorkers() {
+        return handler.invokeAsync(ServiceWorkerImpl.STOP_ALL_WORKERS, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> stopWorker(final String versionId) {
+        return handler.invokeAsync(ServiceWorkerImpl.STOP_WORKER, new Object[] { versionId });
+    }
+
+    @Override
+    public CompletableFuture<Void> unregister(final String scopeURL) {
+        return handler.invokeAsync(ServiceWorkerImpl.UNREGISTER, new Object[] { scopeURL });
+    }
+
+    @Override
+    public CompletableFuture<Void> updateRegistration(final String scopeURL) {
+        return handler.invokeAsync(ServiceWorkerImpl.UPDATE_REGISTRATION, new Object[] { scopeURL });
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.async.AsyncStorage;
+import io.webfolder.cdp.type.storage.GetUsageAndQuotaResult;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class AsyncStorageImpl implements AsyncStorage {
+    private final SessionInvocationHandler handler;
+
+    AsyncStorageImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public CompletableFuture<Void> clearDataForOrigin(final String origin,
+            final String storageTypes) {
+        return handler.invokeAsync(StorageImpl.CLEAR_DATA_FOR_ORIGIN, new Object[] { origin, storageTypes });
+    }
+
+    @Override
+    public CompletableFuture<GetUsageAndQuotaResult> getUsageAndQuota(final String origin) {
+        return handler.invokeAsync(StorageImpl.GET_USAGE_AND_QUOTA, new Object[] { origin });
+    }
+
+    @Override
+    public CompletableFuture<Void> trackCacheStorageForOrigin(final String origin) {
+        return handler.invokeAsync(StorageImpl.TRACK_CACHE_STORAGE_FOR_ORIGIN, new Object[] { origin });
+    }
+
+    @Override
+    public CompletableFuture<Void> trackIndexedDBForOrigin(final String origin) {
+        return handler.invokeAsync(StorageImpl.TRACK_INDEXED_DBFOR_ORIGIN, new Object[] { origin });
+    }
+
+    @Override
+    public CompletableFuture<Void> untrackCacheStorageForOrigin(final String origin) {
+        return handler.invokeAsync(StorageImpl.UNTRACK_CACHE_STORAGE_FOR_ORIGIN, new Object[] { origin });
+    }
+
+    @Override
+    public CompletableFuture<Void> untrackIndexedDBForOrigin(final String origin) {
+        return handler.invokeAsync(StorageImpl.UNTRACK_INDEXED_DBFOR_ORIGIN, new Object[] { origin });
+    }
+}
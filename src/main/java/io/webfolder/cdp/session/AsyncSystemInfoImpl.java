@@ -0,0 +1,39 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.async.AsyncSystemInfo;
+import io.webfolder.cdp.type.systeminfo.GetInfoResult;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class AsyncSystemInfoImpl implements AsyncSystemInfo {
+    private final SessionInvocationHandler handler;
+
+    AsyncSystemInfoImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public CompletableFuture<GetInfoResult> getInfo() {
+        return handler.invokeAsync(SystemInfoImpl.GET_INFO, null);
+    }
+}
@@ -0,0 +1,146 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.async.AsyncTarget;
+import io.webfolder.cdp.type.target.RemoteLocation;
+import io.webfolder.cdp.type.target.TargetInfo;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class AsyncTargetImpl implements AsyncTarget {
+    private final SessionInvocationHandler handler;
+
+    AsyncTargetImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public CompletableFuture<Void> activateTarget(final String targetId) {
+        return handler.invokeAsync(TargetImpl.ACTIVATE_TARGET, new Object[] { targetId });
+    }
+
+    @Override
+    public CompletableFuture<String> attachToTarget(final String targetId) {
+        return handler.invokeAsync(TargetImpl.ATTACH_TO_TARGET, new Object[] { targetId });
+    }
+
+    @Override
+    public CompletableFuture<String> attachToTarget(final String targetId, final Boolean flatten) {
+        return handler.invokeAsync(TargetImpl.ATTACH_TO_TARGET_1, new Object[] { targetId, flatten });
+    }
+
+    @Override
+    public CompletableFuture<Boolean> closeTarget(final String targetId) {
+        return handler.invokeAsync(TargetImpl.CLOSE_TARGET, new Object[] { targetId });
+    }
+
+    @Override
+    public CompletableFuture<String> createBrowserContext() {
+        return handler.invokeAsync(TargetImpl.CREATE_BROWSER_CONTEXT, null);
+    }
+
+    @Override
+    public CompletableFuture<String> createTarget(final String url) {
+        return handler.invokeAsync(TargetImpl.CREATE_TARGET, new Object[] { url });
+    }
+
+    @Override
+    public CompletableFuture<String> createTarget(final String url, final Integer width,
+            final Integer height, final String browserContextId,
+            final Boolean enableBeginFrameControl) {
+        return handler.invokeAsync(TargetImpl.CREATE_TARGET_1, new Object[] { url, width, height, browserContextId, enableBeginFrameControl });
+    }
+
+    @Override
+    public CompletableFuture<Void> detachFromTarget() {
+        return handler.invokeAsync(TargetImpl.DETACH_FROM_TARGET, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> detachFromTarget(final String sessionId, final String targetId) {
+        return handler.invokeAsync(TargetImpl.DETACH_FROM_TARGET_1, new Object[] { sessionId, targetId });
+    }
+
+    @Override
+    public CompletableFuture<Void> disposeBrowserContext(final String browserContextId) {
+        return handler.invokeAsync(TargetImpl.DISPOSE_BROWSER_CONTEXT, new Object[] { browserContextId });
+    }
+
+    @Override
+    public CompletableFuture<Void> exposeDevToolsProtocol(final String targetId) {
+        return handler.invokeAsync(TargetImpl.EXPOSE_DEV_TOOLS_PROTOCOL, new Object[] { targetId });
+    }
+
+    @Override
+    public CompletableFuture<Void> exposeDevToolsProtocol(final String targetId,
+            final String bindingName) {
+        return handler.invokeAsync(TargetImpl.EXPOSE_DEV_TOOLS_PROTOCOL_1, new Object[] { targetId, bindingName });
+    }
+
+    @Override
+    public CompletableFuture<List<String>> getBrowserContexts() {
+        return handler.invokeAsync(TargetImpl.GET_BROWSER_CONTEXTS, null);
+    }
+
+    @Override
+    public CompletableFuture<TargetInfo> getTargetInfo() {
+        return handler.invokeAsync(TargetImpl.GET_TARGET_INFO, null);
+    }
+
+    @Override
+    public CompletableFuture<TargetInfo> getTargetInfo(final String targetId) {
+        return handler.invokeAsync(TargetImpl.GET_TARGET_INFO_1, new Object[] { targetId });
+    }
+
+    @Override
+    public CompletableFuture<List<TargetInfo>> getTargets() {
+        return handler.invokeAsync(TargetImpl.GET_TARGETS, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> sendMessageToTarget(final String message) {
+        return handler.invokeAsync(TargetImpl.SEND_MESSAGE_TO_TARGET, new Object[] { message });
+    }
+
+    @Override
+    public CompletableFuture<Void> sendMessageToTarget(final String message, final String sessionId,
+            final String targetId) {
+        return handler.invokeAsync(TargetImpl.SEND_MESSAGE_TO_TARGET_1, new Object[] { message, sessionId, targetId });
+    }
+
+    @Override
+    public CompletableFuture<Void> setAutoAttach(final Boolean autoAttach,
+            final Boolean waitForDebuggerOnStart) {
+        return handler.invokeAsync(TargetImpl.SET_AUTO_ATTACH, new Object[] { autoAttach, waitForDebuggerOnStart });
+    }
+
+    @Override
+    public CompletableFuture<Void> setDiscoverTargets(final Boolean discover) {
+        return handler.invokeAsync(TargetImpl.SET_DISCOVER_TARGETS, new Object[] { discover });
+    }
+
+    @Override
+    public CompletableFuture<Void> setRemoteLocations(final List<RemoteLocation> locations) {
+        return handler.invokeAsync(TargetImpl.SET_REMOTE_LOCATIONS, new Object[] { locations });
+    }
+}
@@ -0,0 +1,70 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.webfolder.cdp.async.AsyncTracing;
+import io.webfolder.cdp.type.constant.TransferMode;
+import io.webfolder.cdp.type.tracing.RequestMemoryDumpResult;
+import io.webfolder.cdp.type.tracing.StreamCompression;
+import io.webfolder.cdp.type.tracing.TraceConfig;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class AsyncTracingImpl implements AsyncTracing {
+    private final SessionInvocationHandler handler;
+
+    AsyncTracingImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public CompletableFuture<Void> end() {
+        return handler.invokeAsync(TracingImpl.END, null);
+    }
+
+    @Override
+    public CompletableFuture<List<String>> getCategories() {
+        return handler.invokeAsync(TracingImpl.GET_CATEGORIES, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> recordClockSyncMarker(final String syncId) {
+        return handler.invokeAsync(TracingImpl.RECORD_CLOCK_SYNC_MARKER, new Object[] { syncId });
+    }
+
+    @Override
+    public CompletableFuture<RequestMemoryDumpResult> requestMemoryDump() {
+        return handler.invokeAsync(TracingImpl.REQUEST_MEMORY_DUMP, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> start() {
+        return handler.invokeAsync(TracingImpl.START, null);
+    }
+
+    @Override
+    public CompletableFuture<Void> start(final String categories, final String options,
+            final Double bufferUsageReportingInterval, final TransferMode transferMode,
+            final StreamCompression streamCompression, final TraceConfig traceConfig) {
+        return handler.invokeAsync(TracingImpl.START_1, new Object[] { categories, options, bufferUsageReportingInterval, transferMode, streamCompression, traceConfig });
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.lang.reflect.Type;
+
+import io.webfolder.cdp.command.Audits;
+import io.webfolder.cdp.type.audits.GetEncodedResponseResult;
+import io.webfolder.cdp.type.constant.Encoding;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class AuditsImpl implements Audits {
+    static final CommandSerializer GET_ENCODED_RESPONSE = new CommandSerializer("Audits", "getEncodedResponse",
+            new String[] { "requestId", "encoding" },
+            new Type[] { String.class, Encoding.class },
+            GetEncodedResponseResult.class, null);
+
+    static final CommandSerializer GET_ENCODED_RESPONSE_1 = new CommandSerializer("Audits", "getEncodedResponse",
+            new String[] { "requestId", "encoding", "quality", "sizeOnly" },
+            new Type[] { String.class, Encoding.class, Double.class, Boolean.class },
+            GetEncodedResponseResult.class, null);
+
+    private final SessionInvocationHandler handler;
+
+    AuditsImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public GetEncodedResponseResult getEncodedResponse(final String requestId,
+            final Encoding encoding) {
+        return (GetEncodedResponseResult) handler.invoke(GET_ENCODED_RESPONSE, new Object[] { requestId, encoding });
+    }
+
+    @Override
+    public GetEncodedResponseResult getEncodedResponse(final String requestId,
+            final Encoding encoding, final Double quality, final Boolean sizeOnly) {
+        return (GetEncodedResponseResult) handler.invoke(GET_ENCODED_RESPONSE_1, new Object[] { requestId, encoding, quality, sizeOnly });
+    }
+}
@@ -0,0 +1,407 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import static io.webfolder.cdp.session.SessionPool.ALL_STORAGE_TYPES;
+import static io.webfolder.cdp.session.SessionPool.getOrigin;
+import static java.lang.Math.min;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.webfolder.cdp.command.Storage;
+import io.webfolder.cdp.exception.CdpException;
+import io.webfolder.cdp.logger.CdpLogger;
+import io.webfolder.cdp.type.page.NavigationEntry;
+
+/**
+ * Keeps incognito browser contexts ready for the jobs which need their own cookies and storage.
+ * 
+ * Each context is created together with a warm tab. {@link #lease()} hands out a context exclusively,
+ * the tabs of the job are created in it with {@link ContextLease#create()}. When the lease is closed its
+ * tabs are closed and the context is returned to the pool. After {@link #setMaxUses(int) a number of leases}
+ * (one by default, every job gets a fresh context) the context is disposed and replaced in the background,
+ * so neither the context nor the first tab is created on the critical path of a job.
+ * 
+ * A context which is leased again is cleared first: its cookies and the data of the origins visited by
+ * its tabs are deleted with <code>Network.clearBrowserCookies</code> and <code>Storage.clearDataForOrigin</code>.
+ * If a context can not be cleared or replaced it is disposed and the replacement is retried until it succeeds,
+ * so the pool does not shrink when the browser is temporarily unresponsive.
+ * 
+ * Live tabs are tracked per context, the idle context with the fewest live tabs is leased first.
+ */
+public class BrowserContextPool implements AutoCloseable {
+
+    private static final long MIN_RETRY_DELAY = 500;
+
+    private static final long MAX_RETRY_DELAY = 30_000;
+
+    private final SessionFactory factory;
+
+    private final int size;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition available = lock.newCondition();
+
+    // guarded by lock
+    private final List<PooledContext> idle = new ArrayList<>();
+
+    private final Set<PooledContext> contexts = ConcurrentHashMap.newKeySet();
+
+    private final ScheduledExecutorService creator;
+
+    private final CdpLogger log;
+
+    private final AtomicLong createdCount = new AtomicLong();
+
+    private final AtomicLong disposedCount = new AtomicLong();
+
+    private volatile int maxUses = 1;
+
+    private volatile long leaseTimeout = 30_000;
+
+    private volatile boolean closed;
+
+    static class PooledContext {
+
+        private final String browserContextId;
+
+        // tabs which are created in the context, the closed ones are removed lazily
+        private final Set<Session> tabs = ConcurrentHashMap.newKeySet();
+
+        private volatile Session warmTab;
+
+        private int uses;
+
+        PooledContext(final String browserContextId) {
+            this.browserContextId = browserContextId;
+        }
+
+        String getBrowserContextId() {
+            return browserContextId;
+        }
+
+        int getTabCount() {
+            tabs.removeIf(tab -> ! tab.isConnected());
+            return tabs.size();
+        }
+    }
+
+    /**
+     * Creates <code>size</code> contexts and their warm tabs before it returns.
+     */
+    public BrowserContextPool(final SessionFactory factory, final int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.factory = factory;
+        this.size    = size;
+        this.log     = factory.getLoggerFactory().getLogger("cdp4j.pool");
+        this.creator = newSingleThreadScheduledExecutor(r -> {
+                            Thread thread = new Thread(r, "cdp4j-context-pool");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        for (int i = 0; i < size; i++) {
+            addIdle(createContext());
+        }
+    }
+
+    /**
+     * Leases a context, waits up to {@link #setLeaseTimeout(long) the lease timeout} if all contexts are leased.
+     */
+    public ContextLease lease() {
+        return lease(leaseTimeout, MILLISECONDS);
+    }
+
+    public ContextLease lease(final long timeout, final TimeUnit unit) {
+        long nanos = unit.toNanos(timeout);
+        lock.lock();
+        try {
+            while (idle.isEmpty()) {
+                if (closed) {
+                    throw new CdpException("Browser context pool is closed");
+                }
+                if (nanos <= 0) {
+                    throw new CdpException("Timed out waiting for a browser context, pool size: " + size);
+                }
+                nanos = available.awaitNanos(nanos);
+            }
+            if (closed) {
+                throw new CdpException("Browser context pool is closed");
+            }
+            PooledContext next = idle.get(0);
+            int tabs = next.getTabCount();
+            for (int i = 1; i < idle.size() && tabs > 0; i++) {
+                int count = idle.get(i).getTabCount();
+                if (count < tabs) {
+                    next = idle.get(i);
+                    tabs = count;
+                }
+            }
+            idle.remove(next);
+            next.uses += 1;
+            return new ContextLease(this, next);
+        } catch (InterruptedException e) {
+            throw new CdpException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Creates a tab in the leased context, the warm tab is returned first.
+     */
+    Session create(final PooledContext context) {
+        Session warmTab = context.warmTab;
+        context.warmTab = null;
+        Session session = warmTab != null && warmTab.isConnected() ?
+                                warmTab : factory.create(context.browserContextId);
+        context.tabs.add(session);
+        return session;
+    }
+
+    void release(final PooledContext context) {
+        int maxUses = this.maxUses;
+        boolean recycle = closed || (maxUses > 0 && context.uses >= maxUses);
+        // origins are collected before the tabs are closed, a reused context is cleared of their data
+        Set<String> origins = new LinkedHashSet<>();
+        for (Session next : context.tabs) {
+            if (next != context.warmTab && next.isConnected()) {
+                try {
+                    if ( ! recycle ) {
+                        addOrigins(next, origins);
+                    }
+                    next.close();
+                } catch (RuntimeException e) {
+                    // ignore
+                }
+            }
+        }
+        if (closed) {
+            dispose(context);
+            return;
+        }
+        try {
+            creator.execute(() -> {
+                if (recycle) {
+                    dispose(context);
+                    replace(0);
+                    return;
+                }
+                try {
+                    warmUp(context);
+                    clear(context, origins);
+                    addIdle(context);
+                } catch (RuntimeException e) {
+                    log.error("Failed to reuse the browser context " + context.browserContextId + ", replacing it", e);
+                    dispose(context);
+                    replace(0);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // pool is closed
+            dispose(context);
+        }
+    }
+
+    private void addOrigins(final Session session, final Set<String> origins) {
+        for (NavigationEntry next : session.getCommand().getPage().getNavigationHistory().getEntries()) {
+            String origin = getOrigin(next.getUrl());
+            if (origin != null) {
+                origins.add(origin);
+            }
+        }
+    }
+
+    /**
+     * Deletes the cookies of the context and the data of the visited origins through the warm tab.
+     */
+    private void clear(final PooledContext context, final Set<String> origins) {
+        Session warmTab = context.warmTab;
+        warmTab.getCommand().getNetwork().clearBrowserCookies();
+        Storage storage = warmTab.getCommand().getStorage();
+        for (String origin : origins) {
+            storage.clearDataForOrigin(origin, ALL_STORAGE_TYPES);
+        }
+    }
+
+    /**
+     * Creates a context in place of a disposed one, retries with a growing delay until it succeeds or the pool is closed.
+     */
+    private void replace(final int attempt) {
+        if (closed) {
+            return;
+        }
+        try {
+            addIdle(createContext());
+        } catch (RuntimeException e) {
+            long delay = min(MAX_RETRY_DELAY, MIN_RETRY_DELAY << min(attempt, 6));
+            log.error("Failed to create a browser context, retrying in " + delay + " ms", e);
+            try {
+                creator.schedule(() -> replace(attempt + 1), delay, MILLISECONDS);
+            } catch (RejectedExecutionException ignore) {
+                // pool is closed
+            }
+        }
+    }
+
+    private PooledContext createContext() {
+        PooledContext context = new PooledContext(factory.createBrowserContext());
+        contexts.add(context);
+        createdCount.incrementAndGet();
+        try {
+            warmUp(context);
+        } catch (RuntimeException e) {
+            dispose(context);
+            throw e;
+        }
+        return context;
+    }
+
+    private void warmUp(final PooledContext context) {
+        if (context.warmTab == null || ! context.warmTab.isConnected()) {
+            Session warmTab = factory.create(context.browserContextId);
+            context.tabs.add(warmTab);
+            context.warmTab = warmTab;
+        }
+    }
+
+    private void addIdle(final PooledContext context) {
+        lock.lock();
+        try {
+            if (closed) {
+                dispose(context);
+                return;
+            }
+            idle.add(context);
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void dispose(final PooledContext context) {
+        if ( ! contexts.remove(context) ) {
+            return;
+        }
+        try {
+            // tabs of the context are closed by the browser
+            factory.disposeBrowserContext(context.browserContextId);
+        } catch (RuntimeException e) {
+            // ignore
+        }
+        disposedCount.incrementAndGet();
+    }
+
+    /**
+     * Disposes the idle contexts, the leased contexts are disposed when their leases are closed.
+     */
+    @Override
+    public void close() {
+        List<PooledContext> disposed;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            disposed = new ArrayList<>(idle);
+            idle.clear();
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        creator.shutdown();
+        for (PooledContext next : disposed) {
+            dispose(next);
+        }
+    }
+
+    /**
+     * Disposes and replaces a context after it is leased <code>maxUses</code> times.
+     * Default value is <code>1</code>, <code>0</code> reuses the contexts forever.
+     */
+    public void setMaxUses(int maxUses) {
+        this.maxUses = maxUses;
+    }
+
+    public int getMaxUses() {
+        return maxUses;
+    }
+
+    /**
+     * Maximum wait time of {@link #lease()} in milliseconds, default value is 30 seconds.
+     */
+    public void setLeaseTimeout(long leaseTimeout) {
+        this.leaseTimeout = leaseTimeout;
+    }
+
+    public long getLeaseTimeout() {
+        return leaseTimeout;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getIdleCount() {
+        lock.lock();
+        try {
+            return idle.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of the live tabs of all contexts, including the warm tabs.
+     */
+    public int getTabCount() {
+        int count = 0;
+        for (PooledContext next : contexts) {
+            count += next.getTabCount();
+        }
+        return count;
+    }
+
+    public long getCreatedCount() {
+        return createdCount.get();
+    }
+
+    public long getDisposedCount() {
+        return disposedCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return "BrowserContextPool [size=" + size + ", contexts=" + contexts.size() + "]";
+    }
+}
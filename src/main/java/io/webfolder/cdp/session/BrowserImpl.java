@@ -0,0 +1,143 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+import com.google.gson.reflect.TypeToken;
+
+import io.webfolder.cdp.command.Browser;
+import io.webfolder.cdp.type.browser.Bounds;
+import io.webfolder.cdp.type.browser.GetVersionResult;
+import io.webfolder.cdp.type.browser.GetWindowForTargetResult;
+import io.webfolder.cdp.type.browser.Histogram;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class BrowserImpl implements Browser {
+    static final CommandSerializer CLOSE = new CommandSerializer("Browser", "close",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer GET_BROWSER_COMMAND_LINE = new CommandSerializer("Browser", "getBrowserCommandLine",
+            new String[0],
+            new Type[0],
+            new TypeToken<List<String>>() { }.getType(), "arguments");
+
+    static final CommandSerializer GET_HISTOGRAM = new CommandSerializer("Browser", "getHistogram",
+            new String[] { "name" },
+            new Type[] { String.class },
+            Histogram.class, "histogram");
+
+    static final CommandSerializer GET_HISTOGRAM_1 = new CommandSerializer("Browser", "getHistogram",
+            new String[] { "name", "delta" },
+            new Type[] { String.class, Boolean.class },
+            Histogram.class, "histogram");
+
+    static final CommandSerializer GET_HISTOGRAMS = new CommandSerializer("Browser", "getHistograms",
+            new String[0],
+            new Type[0],
+            new TypeToken<List<Histogram>>() { }.getType(), "histograms");
+
+    static final CommandSerializer GET_HISTOGRAMS_1 = new CommandSerializer("Browser", "getHistograms",
+            new String[] { "query", "delta" },
+            new Type[] { String.class, Boolean.class },
+            new TypeToken<List<Histogram>>() { }.getType(), "histograms");
+
+    static final CommandSerializer GET_VERSION = new CommandSerializer("Browser", "getVersion",
+            new String[0],
+            new Type[0],
+            GetVersionResult.class, null);
+
+    static final CommandSerializer GET_WINDOW_BOUNDS = new CommandSerializer("Browser", "getWindowBounds",
+            new String[] { "windowId" },
+            new Type[] { Integer.class },
+            Bounds.class, "bounds");
+
+    static final CommandSerializer GET_WINDOW_FOR_TARGET = new CommandSerializer("Browser", "getWindowForTarget",
+            new String[] { "targetId" },
+            new Type[] { String.class },
+            GetWindowForTargetResult.class, null);
+
+    static final CommandSerializer SET_WINDOW_BOUNDS = new CommandSerializer("Browser", "setWindowBounds",
+            new String[] { "windowId", "bounds" },
+            new Type[] { Integer.class, Bounds.class },
+            null, null);
+
+    private final SessionInvocationHandler handler;
+
+    BrowserImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public void close() {
+        handler.invoke(CLOSE, null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> getBrowserCommandLine() {
+        return (List<String>) handler.invoke(GET_BROWSER_COMMAND_LINE, null);
+    }
+
+    @Override
+    public Histogram getHistogram(final String name) {
+        return (Histogram) handler.invoke(GET_HISTOGRAM, new Object[] { name });
+    }
+
+    @Override
+    public Histogram getHistogram(final String name, final Boolean delta) {
+        return (Histogram) handler.invoke(GET_HISTOGRAM_1, new Object[] { name, delta });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Histogram> getHistograms() {
+        return (List<Histogram>) handler.invoke(GET_HISTOGRAMS, null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Histogram> getHistograms(final String query, final Boolean delta) {
+        return (List<Histogram>) handler.invoke(GET_HISTOGRAMS_1, new Object[] { query, delta });
+    }
+
+    @Override
+    public GetVersionResult getVersion() {
+        return (GetVersionResult) handler.invoke(GET_VERSION, null);
+    }
+
+    @Override
+    public Bounds getWindowBounds(final Integer windowId) {
+        return (Bounds) handler.invoke(GET_WINDOW_BOUNDS, new Object[] { windowId });
+    }
+
+    @Override
+    public GetWindowForTargetResult getWindowForTarget(final String targetId) {
+        return (GetWindowForTargetResult) handler.invoke(GET_WINDOW_FOR_TARGET, new Object[] { targetId });
+    }
+
+    @Override
+    public void setWindowBounds(final Integer windowId, final Bounds bounds) {
+        handler.invoke(SET_WINDOW_BOUNDS, new Object[] { windowId, bounds });
+    }
+}
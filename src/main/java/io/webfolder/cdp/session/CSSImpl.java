@@ -0,0 +1,281 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+import com.google.gson.reflect.TypeToken;
+
+import io.webfolder.cdp.command.CSS;
+import io.webfolder.cdp.type.css.CSSComputedStyleProperty;
+import io.webfolder.cdp.type.css.CSSMedia;
+import io.webfolder.cdp.type.css.CSSRule;
+import io.webfolder.cdp.type.css.CSSStyle;
+import io.webfolder.cdp.type.css.GetBackgroundColorsResult;
+import io.webfolder.cdp.type.css.GetInlineStylesForNodeResult;
+import io.webfolder.cdp.type.css.GetMatchedStylesForNodeResult;
+import io.webfolder.cdp.type.css.PlatformFontUsage;
+import io.webfolder.cdp.type.css.RuleUsage;
+import io.webfolder.cdp.type.css.SelectorList;
+import io.webfolder.cdp.type.css.SourceRange;
+import io.webfolder.cdp.type.css.StyleDeclarationEdit;
+import io.webfolder.cdp.type.css.Value;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class CSSImpl implements CSS {
+    static final CommandSerializer ADD_RULE = new CommandSerializer("CSS", "addRule",
+            new String[] { "styleSheetId", "ruleText", "location" },
+            new Type[] { String.class, String.class, SourceRange.class },
+            CSSRule.class, "rule");
+
+    static final CommandSerializer COLLECT_CLASS_NAMES = new CommandSerializer("CSS", "collectClassNames",
+            new String[] { "styleSheetId" },
+            new Type[] { String.class },
+            new TypeToken<List<String>>() { }.getType(), "classNames");
+
+    static final CommandSerializer CREATE_STYLE_SHEET = new CommandSerializer("CSS", "createStyleSheet",
+            new String[] { "frameId" },
+            new Type[] { String.class },
+            String.class, "styleSheetId");
+
+    static final CommandSerializer DISABLE = new CommandSerializer("CSS", "disable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer ENABLE = new CommandSerializer("CSS", "enable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer FORCE_PSEUDO_STATE = new CommandSerializer("CSS", "forcePseudoState",
+            new String[] { "nodeId", "forcedPseudoClasses" },
+            new Type[] { Integer.class, new TypeToken<List<String>>() { }.getType() },
+            null, null);
+
+    static final CommandSerializer GET_BACKGROUND_COLORS = new CommandSerializer("CSS", "getBackgroundColors",
+            new String[] { "nodeId" },
+            new Type[] { Integer.class },
+            GetBackgroundColorsResult.class, null);
+
+    static final CommandSerializer GET_COMPUTED_STYLE_FOR_NODE = new CommandSerializer("CSS", "getComputedStyleForNode",
+            new String[] { "nodeId" },
+            new Type[] { Integer.class },
+            new TypeToken<List<CSSComputedStyleProperty>>() { }.getType(), "computedStyle");
+
+    static final CommandSerializer GET_INLINE_STYLES_FOR_NODE = new CommandSerializer("CSS", "getInlineStylesForNode",
+            new String[] { "nodeId" },
+            new Type[] { Integer.class },
+            GetInlineStylesForNodeResult.class, null);
+
+    static final CommandSerializer GET_MATCHED_STYLES_FOR_NODE = new CommandSerializer("CSS", "getMatchedStylesForNode",
+            new String[] { "nodeId" },
+            new Type[] { Integer.class },
+            GetMatchedStylesForNodeResult.class, null);
+
+    static final CommandSerializer GET_MEDIA_QUERIES = new CommandSerializer("CSS", "getMediaQueries",
+            new String[0],
+            new Type[0],
+            new TypeToken<List<CSSMedia>>() { }.getType(), "medias");
+
+    static final CommandSerializer GET_PLATFORM_FONTS_FOR_NODE = new CommandSerializer("CSS", "getPlatformFontsForNode",
+            new String[] { "nodeId" },
+            new Type[] { Integer.class },
+            new TypeToken<List<PlatformFontUsage>>() { }.getType(), "fonts");
+
+    static final CommandSerializer GET_STYLE_SHEET_TEXT = new CommandSerializer("CSS", "getStyleSheetText",
+            new String[] { "styleSheetId" },
+            new Type[] { String.class },
+            String.class, "text");
+
+    static final CommandSerializer SET_EFFECTIVE_PROPERTY_VALUE_FOR_NODE = new CommandSerializer("CSS", "setEffectivePropertyValueForNode",
+            new String[] { "nodeId", "propertyName", "value" },
+            new Type[] { Integer.class, String.class, String.class },
+            null, null);
+
+    static final CommandSerializer SET_KEYFRAME_KEY = new CommandSerializer("CSS", "setKeyframeKey",
+            new String[] { "styleSheetId", "range", "keyText" },
+            new Type[] { String.class, SourceRange.class, String.class },
+            Value.class, "keyText");
+
+    static final CommandSerializer SET_MEDIA_TEXT = new CommandSerializer("CSS", "setMediaText",
+            new String[] { "styleSheetId", "range", "text" },
+            new Type[] { String.class, SourceRange.class, String.class },
+            CSSMedia.class, "media");
+
+    static final CommandSerializer SET_RULE_SELECTOR = new CommandSerializer("CSS", "setRuleSelector",
+            new String[] { "styleSheetId", "range", "selector" },
+            new Type[] { String.class, SourceRange.class, String.class },
+            SelectorList.class, "selectorList");
+
+    static final CommandSerializer SET_STYLE_SHEET_TEXT = new CommandSerializer("CSS", "setStyleSheetText",
+            new String[] { "styleSheetId", "text" },
+            new Type[] { String.class, String.class },
+            String.class, "sourceMapURL");
+
+    static final CommandSerializer SET_STYLE_TEXTS = new CommandSerializer("CSS", "setStyleTexts",
+            new String[] { "edits" },
+            new Type[] { new TypeToken<List<StyleDeclarationEdit>>() { }.getType() },
+            new TypeToken<List<CSSStyle>>() { }.getType(), "styles");
+
+    static final CommandSerializer START_RULE_USAGE_TRACKING = new CommandSerializer("CSS", "startRuleUsageTracking",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer STOP_RULE_USAGE_TRACKING = new CommandSerializer("CSS", "stopRuleUsageTracking",
+            new String[0],
+            new Type[0],
+            new TypeToken<List<RuleUsage>>() { }.getType(), "ruleUsage");
+
+    static final CommandSerializer TAKE_COVERAGE_DELTA = new CommandSerializer("CSS", "takeCoverageDelta",
+            new String[0],
+            new Type[0],
+            new TypeToken<List<RuleUsage>>() { }.getType(), "coverage");
+
+    private final SessionInvocationHandler handler;
+
+    CSSImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public CSSRule addRule(final String styleSheetId, final String ruleText,
+            final SourceRange location) {
+        return (CSSRule) handler.invoke(ADD_RULE, new Object[] { styleSheetId, ruleText, location });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> collectClassNames(final String styleSheetId) {
+        return (List<String>) handler.invoke(COLLECT_CLASS_NAMES, new Object[] { styleSheetId });
+    }
+
+    @Override
+    public String createStyleSheet(final String frameId) {
+        return (String) handler.invoke(CREATE_STYLE_SHEET, new Object[] { frameId });
+    }
+
+    @Override
+    public void disable() {
+        handler.invoke(DISABLE, null);
+    }
+
+    @Override
+    public void enable() {
+        handler.invoke(ENABLE, null);
+    }
+
+    @Override
+    public void forcePseudoState(final Integer nodeId, final List<String> forcedPseudoClasses) {
+        handler.invoke(FORCE_PSEUDO_STATE, new Object[] { nodeId, forcedPseudoClasses });
+    }
+
+    @Override
+    public GetBackgroundColorsResult getBackgroundColors(final Integer nodeId) {
+        return (GetBackgroundColorsResult) handler.invoke(GET_BACKGROUND_COLORS, new Object[] { nodeId });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<CSSComputedStyleProperty> getComputedStyleForNode(final Integer nodeId) {
+        return (List<CSSComputedStyleProperty>) handler.invoke(GET_COMPUTED_STYLE_FOR_NODE, new Object[] { nodeId });
+    }
+
+    @Override
+    public GetInlineStylesForNodeResult getInlineStylesForNode(final Integer nodeId) {
+        return (GetInlineStylesForNodeResult) handler.invoke(GET_INLINE_STYLES_FOR_NODE, new Object[] { nodeId });
+    }
+
+    @Override
+    public GetMatchedStylesForNodeResult getMatchedStylesForNode(final Integer nodeId) {
+        return (GetMatchedStylesForNodeResult) handler.invoke(GET_MATCHED_STYLES_FOR_NODE, new Object[] { nodeId });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<CSSMedia> getMediaQueries() {
+        return (List<CSSMedia>) handler.invoke(GET_MEDIA_QUERIES, null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<PlatformFontUsage> getPlatformFontsForNode(final Integer nodeId) {
+        return (List<PlatformFontUsage>) handler.invoke(GET_PLATFORM_FONTS_FOR_NODE, new Object[] { nodeId });
+    }
+
+    @Override
+    public String getStyleSheetText(final String styleSheetId) {
+        return (String) handler.invoke(GET_STYLE_SHEET_TEXT, new Object[] { styleSheetId });
+    }
+
+    @Override
+    public void setEffectivePropertyValueForNode(final Integer nodeId, final String propertyName,
+            final String value) {
+        handler.invoke(SET_EFFECTIVE_PROPERTY_VALUE_FOR_NODE, new Object[] { nodeId, propertyName, value });
+    }
+
+    @Override
+    public Value setKeyframeKey(final String styleSheetId, final SourceRange range,
+            final String keyText) {
+        return (Value) handler.invoke(SET_KEYFRAME_KEY, new Object[] { styleSheetId, range, keyText });
+    }
+
+    @Override
+    public CSSMedia setMediaText(final String styleSheetId, final SourceRange range,
+            final String text) {
+        return (CSSMedia) handler.invoke(SET_MEDIA_TEXT, new Object[] { styleSheetId, range, text });
+    }
+
+    @Override
+    public SelectorList setRuleSelector(final String styleSheetId, final SourceRange range,
+            final String selector) {
+        return (SelectorList) handler.invoke(SET_RULE_SELECTOR, new Object[] { styleSheetId, range, selector });
+    }
+
+    @Override
+    public String setStyleSheetText(final String styleSheetId, final String text) {
+        return (String) handler.invoke(SET_STYLE_SHEET_TEXT, new Object[] { styleSheetId, text });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<CSSStyle> setStyleTexts(final List<StyleDeclarationEdit> edits) {
+        return (List<CSSStyle>) handler.invoke(SET_STYLE_TEXTS, new Object[] { edits });
+    }
+
+    @Override
+    public void startRuleUsageTracking() {
+        handler.invoke(START_RULE_USAGE_TRACKING, null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<RuleUsage> stopRuleUsageTracking() {
+        return (List<RuleUsage>) handler.invoke(STOP_RULE_USAGE_TRACKING, null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<RuleUsage> takeCoverageDelta() {
+        return (List<RuleUsage>) handler.invoke(TAKE_COVERAGE_DELTA, null);
+    }
+}
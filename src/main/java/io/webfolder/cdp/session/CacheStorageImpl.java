@@ -0,0 +1,91 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+import com.google.gson.reflect.TypeToken;
+
+import io.webfolder.cdp.command.CacheStorage;
+import io.webfolder.cdp.type.cachestorage.Cache;
+import io.webfolder.cdp.type.cachestorage.CachedResponse;
+import io.webfolder.cdp.type.cachestorage.RequestEntriesResult;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class CacheStorageImpl implements CacheStorage {
+    static final CommandSerializer DELETE_CACHE = new CommandSerializer("CacheStorage", "deleteCache",
+            new String[] { "cacheId" },
+            new Type[] { String.class },
+            null, null);
+
+    static final CommandSerializer DELETE_ENTRY = new CommandSerializer("CacheStorage", "deleteEntry",
+            new String[] { "cacheId", "request" },
+            new Type[] { String.class, String.class },
+            null, null);
+
+    static final CommandSerializer REQUEST_CACHE_NAMES = new CommandSerializer("CacheStorage", "requestCacheNames",
+            new String[] { "securityOrigin" },
+            new Type[] { String.class },
+            new TypeToken<List<Cache>>() { }.getType(), "caches");
+
+    static final CommandSerializer REQUEST_CACHED_RESPONSE = new CommandSerializer("CacheStorage", "requestCachedResponse",
+            new String[] { "cacheId", "requestURL" },
+            new Type[] { String.class, String.class },
+            CachedResponse.class, "response");
+
+    static final CommandSerializer REQUEST_ENTRIES = new CommandSerializer("CacheStorage", "requestEntries",
+            new String[] { "cacheId", "skipCount", "pageSize" },
+            new Type[] { String.class, Integer.class, Integer.class },
+            RequestEntriesResult.class, null);
+
+    private final SessionInvocationHandler handler;
+
+    CacheStorageImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public void deleteCache(final String cacheId) {
+        handler.invoke(DELETE_CACHE, new Object[] { cacheId });
+    }
+
+    @Override
+    public void deleteEntry(final String cacheId, final String request) {
+        handler.invoke(DELETE_ENTRY, new Object[] { cacheId, request });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Cache> requestCacheNames(final String securityOrigin) {
+        return (List<Cache>) handler.invoke(REQUEST_CACHE_NAMES, new Object[] { securityOrigin });
+    }
+
+    @Override
+    public CachedResponse requestCachedResponse(final String cacheId, final String requestURL) {
+        return (CachedResponse) handler.invoke(REQUEST_CACHED_RESPONSE, new Object[] { cacheId, requestURL });
+    }
+
+    @Override
+    public RequestEntriesResult requestEntries(final String cacheId, final Integer skipCount,
+            final Integer pageSize) {
+        return (RequestEntriesResult) handler.invoke(REQUEST_ENTRIES, new Object[] { cacheId, skipCount, pageSize });
+    }
+}
@@ -0,0 +1,346 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import io.webfolder.cdp.async.AsyncAccessibility;
+import io.webfolder.cdp.async.AsyncAnimation;
+import io.webfolder.cdp.async.AsyncApplicationCache;
+import io.webfolder.cdp.async.AsyncAudits;
+import io.webfolder.cdp.async.AsyncBrowser;
+import io.webfolder.cdp.async.AsyncCSS;
+import io.webfolder.cdp.async.AsyncCacheStorage;
+import io.webfolder.cdp.async.AsyncDOM;
+import io.webfolder.cdp.async.AsyncDOMDebugger;
+import io.webfolder.cdp.async.AsyncDOMSnapshot;
+import io.webfolder.cdp.async.AsyncDOMStorage;
+import io.webfolder.cdp.async.AsyncDatabase;
+import io.webfolder.cdp.async.AsyncDebugger;
+import io.webfolder.cdp.async.AsyncDeviceOrientation;
+import io.webfolder.cdp.async.AsyncEmulation;
+import io.webfolder.cdp.async.AsyncHeadlessExperimental;
+import io.webfolder.cdp.async.AsyncHeapProfiler;
+import io.webfolder.cdp.async.AsyncIO;
+import io.webfolder.cdp.async.AsyncIndexedDB;
+import io.webfolder.cdp.async.AsyncInput;
+import io.webfolder.cdp.async.AsyncInspector;
+import io.webfolder.cdp.async.AsyncLayerTree;
+import io.webfolder.cdp.async.AsyncLog;
+import io.webfolder.cdp.async.AsyncMemory;
+import io.webfolder.cdp.async.AsyncNetwork;
+import io.webfolder.cdp.async.AsyncOverlay;
+import io.webfolder.cdp.async.AsyncPage;
+import io.webfolder.cdp.async.AsyncPerformance;
+import io.webfolder.cdp.async.AsyncProfiler;
+import io.webfolder.cdp.async.AsyncRuntime;
+import io.webfolder.cdp.async.AsyncSecurity;
+import io.webfolder.cdp.async.AsyncServiceWorker;
+import io.webfolder.cdp.async.AsyncStorage;
+import io.webfolder.cdp.async.AsyncSystemInfo;
+import io.webfolder.cdp.async.AsyncTarget;
+import io.webfolder.cdp.async.AsyncTethering;
+import io.webfolder.cdp.async.AsyncTracing;
+import io.webfolder.cdp.command.Accessibility;
+import io.webfolder.cdp.command.Animation;
+import io.webfolder.cdp.command.ApplicationCache;
+import io.webfolder.cdp.command.Audits;
+import io.webfolder.cdp.command.Browser;
+import io.webfolder.cdp.command.CSS;
+import io.webfolder.cdp.command.CacheStorage;
+import io.webfolder.cdp.command.DOM;
+import io.webfolder.cdp.command.DOMDebugger;
+import io.webfolder.cdp.command.DOMSnapshot;
+import io.webfolder.cdp.command.DOMStorage;
+import io.webfolder.cdp.command.Database;
+import io.webfolder.cdp.command.Debugger;
+import io.webfolder.cdp.command.DeviceOrientation;
+import io.webfolder.cdp.command.Emulation;
+import io.webfolder.cdp.command.HeadlessExperimental;
+import io.webfolder.cdp.command.HeapProfiler;
+import io.webfolder.cdp.command.IO;
+import io.webfolder.cdp.command.IndexedDB;
+import io.webfolder.cdp.command.Input;
+import io.webfolder.cdp.command.Inspector;
+import io.webfolder.cdp.command.LayerTree;
+import io.webfolder.cdp.command.Log;
+import io.webfolder.cdp.command.Memory;
+import io.webfolder.cdp.command.Network;
+import io.webfolder.cdp.command.Overlay;
+import io.webfolder.cdp.command.Page;
+import io.webfolder.cdp.command.Performance;
+import io.webfolder.cdp.command.Profiler;
+import io.webfolder.cdp.command.Runtime;
+import io.webfolder.cdp.command.Security;
+import io.webfolder.cdp.command.ServiceWorker;
+import io.webfolder.cdp.command.Storage;
+import io.webfolder.cdp.command.SystemInfo;
+import io.webfolder.cdp.command.Target;
+import io.webfolder.cdp.command.Tethering;
+import io.webfolder.cdp.command.Tracing;
+
+/**
+ * Creates the generated command implementations.
+ *
+ * Generated by CommandImplGenerator, do not edit.
+ */
+@SuppressWarnings("deprecation")
+final class CommandImpls {
+    private CommandImpls() {
+    }
+
+    static Object create(final Class<?> klass, final SessionInvocationHandler handler) {
+        if (Accessibility.class.equals(klass)) {
+            return new AccessibilityImpl(handler);
+        }
+        if (Animation.class.equals(klass)) {
+            return new AnimationImpl(handler);
+        }
+        if (ApplicationCache.class.equals(klass)) {
+            return new ApplicationCacheImpl(handler);
+        }
+        if (Audits.class.equals(klass)) {
+            return new AuditsImpl(handler);
+        }
+        if (Browser.class.equals(klass)) {
+            return new BrowserImpl(handler);
+        }
+        if (CSS.class.equals(klass)) {
+            return new CSSImpl(handler);
+        }
+        if (CacheStorage.class.equals(klass)) {
+            return new CacheStorageImpl(handler);
+        }
+        if (io.webfolder.cdp.command.Console.class.equals(klass)) {
+            return new ConsoleImpl(handler);
+        }
+        if (DOM.class.equals(klass)) {
+            return new DOMImpl(handler);
+        }
+        if (DOMDebugger.class.equals(klass)) {
+            return new DOMDebuggerImpl(handler);
+        }
+        if (DOMSnapshot.class.equals(klass)) {
+            return new DOMSnapshotImpl(handler);
+        }
+        if (DOMStorage.class.equals(klass)) {
+            return new DOMStorageImpl(handler);
+        }
+        if (Database.class.equals(klass)) {
+            return new DatabaseImpl(handler);
+        }
+        if (Debugger.class.equals(klass)) {
+            return new DebuggerImpl(handler);
+        }
+        if (DeviceOrientation.class.equals(klass)) {
+            return new DeviceOrientationImpl(handler);
+        }
+        if (Emulation.class.equals(klass)) {
+            return new EmulationImpl(handler);
+        }
+        if (HeadlessExperimental.class.equals(klass)) {
+            return new HeadlessExperimentalImpl(handler);
+        }
+        if (HeapProfiler.class.equals(klass)) {
+            return new HeapProfilerImpl(handler);
+        }
+        if (IO.class.equals(klass)) {
+            return new IOImpl(handler);
+        }
+        if (IndexedDB.class.equals(klass)) {
+            return new IndexedDBImpl(handler);
+        }
+        if (Input.class.equals(klass)) {
+            return new InputImpl(handler);
+        }
+        if (Inspector.class.equals(klass)) {
+            return new InspectorImpl(handler);
+        }
+        if (LayerTree.class.equals(klass)) {
+            return new LayerTreeImpl(handler);
+        }
+        if (Log.class.equals(klass)) {
+            return new LogImpl(handler);
+        }
+        if (Memory.class.equals(klass)) {
+            return new MemoryImpl(handler);
+        }
+        if (Network.class.equals(klass)) {
+            return new NetworkImpl(handler);
+        }
+        if (Overlay.class.equals(klass)) {
+            return new OverlayImpl(handler);
+        }
+        if (Page.class.equals(klass)) {
+            return new PageImpl(handler);
+        }
+        if (Performance.class.equals(klass)) {
+            return new PerformanceImpl(handler);
+        }
+        if (Profiler.class.equals(klass)) {
+            return new ProfilerImpl(handler);
+        }
+        if (Runtime.class.equals(klass)) {
+            return new RuntimeImpl(handler);
+        }
+        if (io.webfolder.cdp.command.Schema.class.equals(klass)) {
+            return new SchemaImpl(handler);
+        }
+        if (Security.class.equals(klass)) {
+            return new SecurityImpl(handler);
+        }
+        if (ServiceWorker.class.equals(klass)) {
+            return new ServiceWorkerImpl(handler);
+        }
+        if (Storage.class.equals(klass)) {
+            return new StorageImpl(handler);
+        }
+        if (SystemInfo.class.equals(klass)) {
+            return new SystemInfoImpl(handler);
+        }
+        if (Target.class.equals(klass)) {
+            return new TargetImpl(handler);
+        }
+        if (Tethering.class.equals(klass)) {
+            return new TetheringImpl(handler);
+        }
+        if (Tracing.class.equals(klass)) {
+            return new TracingImpl(handler);
+        }
+        return null;
+    }
+
+    static Object createAsync(final Class<?> klass, final SessionInvocationHandler handler) {
+        if (AsyncAccessibility.class.equals(klass)) {
+            return new AsyncAccessibilityImpl(handler);
+        }
+        if (AsyncAnimation.class.equals(klass)) {
+            return new AsyncAnimationImpl(handler);
+        }
+        if (AsyncApplicationCache.class.equals(klass)) {
+            return new AsyncApplicationCacheImpl(handler);
+        }
+        if (AsyncAudits.class.equals(klass)) {
+            return new AsyncAuditsImpl(handler);
+        }
+        if (AsyncBrowser.class.equals(klass)) {
+            return new AsyncBrowserImpl(handler);
+        }
+        if (AsyncCSS.class.equals(klass)) {
+            return new AsyncCSSImpl(handler);
+        }
+        if (AsyncCacheStorage.class.equals(klass)) {
+            return new AsyncCacheStorageImpl(handler);
+        }
+        if (io.webfolder.cdp.async.AsyncConsole.class.equals(klass)) {
+            return new AsyncConsoleImpl(handler);
+        }
+        if (AsyncDOM.class.equals(klass)) {
+            return new AsyncDOMImpl(handler);
+        }
+        if (AsyncDOMDebugger.class.equals(klass)) {
+            return new AsyncDOMDebuggerImpl(handler);
+        }
+        if (AsyncDOMSnapshot.class.equals(klass)) {
+            return new AsyncDOMSnapshotImpl(handler);
+        }
+        if (AsyncDOMStorage.class.equals(klass)) {
+            return new AsyncDOMStorageImpl(handler);
+        }
+        if (AsyncDatabase.class.equals(klass)) {
+            return new AsyncDatabaseImpl(handler);
+        }
+        if (AsyncDebugger.class.equals(klass)) {
+            return new AsyncDebuggerImpl(handler);
+        }
+        if (AsyncDeviceOrientation.class.equals(klass)) {
+            return new AsyncDeviceOrientationImpl(handler);
+        }
+        if (AsyncEmulation.class.equals(klass)) {
+            return new AsyncEmulationImpl(handler);
+        }
+        if (AsyncHeadlessExperimental.class.equals(klass)) {
+            return new AsyncHeadlessExperimentalImpl(handler);
+        }
+        if (AsyncHeapProfiler.class.equals(klass)) {
+            return new AsyncHeapProfilerImpl(handler);
+        }
+        if (AsyncIO.class.equals(klass)) {
+            return new AsyncIOImpl(handler);
+        }
+        if (AsyncIndexedDB.class.equals(klass)) {
+            return new AsyncIndexedDBImpl(handler);
+        }
+        if (AsyncInput.class.equals(klass)) {
+            return new AsyncInputImpl(handler);
+        }
+        if (AsyncInspector.class.equals(klass)) {
+            return new AsyncInspectorImpl(handler);
+        }
+        if (AsyncLayerTree.class.equals(klass)) {
+            return new AsyncLayerTreeImpl(handler);
+        }
+        if (AsyncLog.class.equals(klass)) {
+            return new AsyncLogImpl(handler);
+        }
+        if (AsyncMemory.class.equals(klass)) {
+            return new AsyncMemoryImpl(handler);
+        }
+        if (AsyncNetwork.class.equals(klass)) {
+            return new AsyncNetworkImpl(handler);
+        }
+        if (AsyncOverlay.class.equals(klass)) {
+            return new AsyncOverlayImpl(handler);
+        }
+        if (AsyncPage.class.equals(klass)) {
+            return new AsyncPageImpl(handler);
+        }
+        if (AsyncPerformance.class.equals(klass)) {
+            return new AsyncPerformanceImpl(handler);
+        }
+        if (AsyncProfiler.class.equals(klass)) {
+            return new AsyncProfilerImpl(handler);
+        }
+        if (AsyncRuntime.class.equals(klass)) {
+            return new AsyncRuntimeImpl(handler);
+        }
+        if (io.webfolder.cdp.async.AsyncSchema.class.equals(klass)) {
+            return new AsyncSchemaImpl(handler);
+        }
+        if (AsyncSecurity.class.equals(klass)) {
+            return new AsyncSecurityImpl(handler);
+        }
+        if (AsyncServiceWorker.class.equals(klass)) {
+            return new AsyncServiceWorkerImpl(handler);
+        }
+        if (AsyncStorage.class.equals(klass)) {
+            return new AsyncStorageImpl(handler);
+        }
+        if (AsyncSystemInfo.class.equals(klass)) {
+            return new AsyncSystemInfoImpl(handler);
+        }
+        if (AsyncTarget.class.equals(klass)) {
+            return new AsyncTargetImpl(handler);
+        }
+        if (AsyncTethering.class.equals(klass)) {
+            return new AsyncTetheringImpl(handler);
+        }
+        if (AsyncTracing.class.equals(klass)) {
+            return new AsyncTracingImpl(handler);
+        }
+        return null;
+    }
+}
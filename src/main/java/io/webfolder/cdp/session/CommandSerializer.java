@@ -0,0 +1,272 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonWriter;
+
+import io.webfolder.cdp.annotation.Domain;
+import io.webfolder.cdp.annotation.Returns;
+import io.webfolder.cdp.exception.CdpException;
+
+/**
+ * Serializer of a single command method.
+ * 
+ * Everything which can be resolved by reflection (domain, method name, parameter names and types,
+ * return type) is resolved once when the serializer is created. The request envelope is written
+ * with a <code>JsonWriter</code> into a buffer which is reused by the calling thread.
+ * <code>null</code> parameters are omitted.
+ */
+class CommandSerializer {
+
+    // Larger buffers are not kept by the thread
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private static final ThreadLocal<StringBuilderWriter> BUFFER =
+                                ThreadLocal.withInitial(StringBuilderWriter::new);
+
+    private final String domain;
+
+    private final String method;
+
+    private final String[] parameterNames;
+
+    private final TypeToken<?>[] parameterTypes;
+
+    private final Type returnType;
+
+    private final String returns;
+
+    private final boolean enable;
+
+    private final boolean disable;
+
+    /**
+     * Creates the serializer of a reflectively invoked command (see {@link SessionInvocationHandler}).
+     */
+    CommandSerializer(final Method method) {
+        this(getDomain(method.getDeclaringClass()),
+                method.getName(),
+                getParameterNames(method),
+                getParameterTypes(method),
+                getReturnType(method),
+                method.isAnnotationPresent(Returns.class) ?
+                        method.getAnnotation(Returns.class).value() : null);
+    }
+
+    /**
+     * Creates the serializer of a generated command implementation.
+     * 
+     * @param domain domain name
+     * @param command command name
+     * @param parameterNames names of the command parameters
+     * @param parameterTypes types of the command parameters
+     * @param returnType the type of the command result, <code>null</code> if the command does not return a value
+     * @param returns name of the result property to bind, <code>null</code> to bind the whole result object
+     */
+    CommandSerializer(
+                final String domain,
+                final String command,
+                final String[] parameterNames,
+                final Type[] parameterTypes,
+                final Type returnType,
+                final String returns) {
+        this.domain = domain;
+        this.method = domain + "." + command;
+        this.parameterNames = parameterNames;
+        this.parameterTypes = new TypeToken<?>[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            this.parameterTypes[i] = TypeToken.get(parameterTypes[i]);
+        }
+        this.returnType = returnType;
+        this.returns    = returns;
+        this.enable     = returnType == null && "enable".equals(command);
+        this.disable    = returnType == null && "disable".equals(command);
+    }
+
+    private static String getDomain(final Class<?> klass) {
+        Domain domain = klass.getAnnotation(Domain.class);
+        if (domain == null) {
+            throw new CdpException("@Domain annotation not found: " + klass.getName());
+        }
+        return domain.value();
+    }
+
+    private static String[] getParameterNames(final Method method) {
+        Parameter[] parameters = method.getParameters();
+        String[] names = new String[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            names[i] = parameters[i].getName();
+        }
+        return names;
+    }
+
+    private static Type[] getParameterTypes(final Method method) {
+        return method.getGenericParameterTypes();
+    }
+
+    private static Type getReturnType(final Method method) {
+        Class<?> retType = method.getReturnType();
+        return void.class.equals(retType) || Void.class.equals(retType) ?
+                                        null : method.getGenericReturnType();
+    }
+
+    /**
+     * Writes the request envelope.
+     * 
+     * @param id command id
+     * @param args arguments of the command, <code>null</code> if the command has no parameter
+     * @param sessionId flat session id, <code>null</code> if the command is not routed by session id
+     */
+    String serialize(
+                final Gson gson,
+                final int id,
+                final Object[] args,
+                final String sessionId) {
+        StringBuilderWriter buffer = BUFFER.get();
+        try {
+            // same settings as Gson.toJson(), e.g. null fields of nested objects are omitted
+            JsonWriter writer = gson.newJsonWriter(buffer);
+            writer.beginObject();
+            writer.name("id").value(id);
+            writer.name("method").value(method);
+            writer.name("params");
+            writer.beginObject();
+            if (args != null) {
+                for (int i = 0; i < args.length; i++) {
+                    Object value = args[i];
+                    if (value == null) {
+                        continue;
+                    }
+                    writer.name(parameterNames[i]);
+                    writeValue(gson, writer, parameterTypes[i], value);
+                }
+            }
+            writer.endObject();
+            if (sessionId != null) {
+                writer.name("sessionId").value(sessionId);
+            }
+            writer.endObject();
+            return buffer.toString();
+        } catch (IOException e) {
+            throw new CdpException(e);
+        } finally {
+            buffer.reset();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeValue(
+                final Gson gson,
+                final JsonWriter writer,
+                final TypeToken<?> type,
+                final Object value) throws IOException {
+        if (value instanceof String) {
+            writer.value((String) value);
+        } else if (value instanceof Boolean) {
+            writer.value(((Boolean) value).booleanValue());
+        } else if (value instanceof Number) {
+            writer.value((Number) value);
+        } else {
+            TypeAdapter<Object> adapter = (TypeAdapter<Object>) gson.getAdapter(type);
+            adapter.write(writer, value);
+        }
+    }
+
+    /**
+     * @return protocol method name, e.g. <code>DOM.getDocument</code>
+     */
+    String getMethod() {
+        return method;
+    }
+
+    String getDomain() {
+        return domain;
+    }
+
+    Type getReturnType() {
+        return returnType;
+    }
+
+    String getReturns() {
+        return returns;
+    }
+
+    boolean isEnable() {
+        return enable;
+    }
+
+    boolean isDisable() {
+        return disable;
+    }
+
+    private static class StringBuilderWriter extends Writer {
+
+        private StringBuilder builder = new StringBuilder(256);
+
+        @Override
+        public void write(final int c) {
+            builder.append((char) c);
+        }
+
+        @Override
+        public void write(final char[] cbuf, final int off, final int len) {
+            builder.append(cbuf, off, len);
+        }
+
+        @Override
+        public void write(final String str, final int off, final int len) {
+            builder.append(str, off, off + len);
+        }
+
+        @Override
+        public Writer append(final CharSequence csq) {
+            builder.append(csq);
+            return this;
+        }
+
+        void reset() {
+            if (builder.capacity() > MAX_RETAINED_CAPACITY) {
+                builder = new StringBuilder(256);
+            } else {
+                builder.setLength(0);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return builder.toString();
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.lang.reflect.Type;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+@SuppressWarnings("deprecation")
+final class ConsoleImpl implements io.webfolder.cdp.command.Console {
+    static final CommandSerializer CLEAR_MESSAGES = new CommandSerializer("Console", "clearMessages",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer DISABLE = new CommandSerializer("Console", "disable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer ENABLE = new CommandSerializer("Console", "enable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    private final SessionInvocationHandler handler;
+
+    ConsoleImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public void clearMessages() {
+        handler.invoke(CLEAR_MESSAGES, null);
+    }
+
+    @Override
+    public void disable() {
+        handler.invoke(DISABLE, null);
+    }
+
+    @Override
+    public void enable() {
+        handler.invoke(ENABLE, null);
+    }
+}
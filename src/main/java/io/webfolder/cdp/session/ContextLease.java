@@ -0,0 +1,75 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.webfolder.cdp.session.BrowserContextPool.PooledContext;
+
+/**
+ * A browser context which is leased from a {@link BrowserContextPool}.
+ * 
+ * Tabs created with {@link #create()} share the cookies and the storage of the context
+ * and nothing else. {@link #close()} closes the tabs and returns the context to the pool.
+ */
+public class ContextLease implements AutoCloseable {
+
+    private final BrowserContextPool pool;
+
+    private final PooledContext context;
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    ContextLease(final BrowserContextPool pool, final PooledContext context) {
+        this.pool    = pool;
+        this.context = context;
+    }
+
+    /**
+     * Creates a tab in the leased context.
+     */
+    public Session create() {
+        if (closed.get()) {
+            throw new IllegalStateException("Browser context lease is closed");
+        }
+        return pool.create(context);
+    }
+
+    public String getBrowserContextId() {
+        return context.getBrowserContextId();
+    }
+
+    /**
+     * Returns the number of the live tabs of the context.
+     */
+    public int getTabCount() {
+        return context.getTabCount();
+    }
+
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            pool.release(context);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ContextLease [browserContextId=" + getBrowserContextId() + "]";
+    }
+}
@@ -0,0 +1,161 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+import com.google.gson.reflect.TypeToken;
+
+import io.webfolder.cdp.command.DOMDebugger;
+import io.webfolder.cdp.type.domdebugger.DOMBreakpointType;
+import io.webfolder.cdp.type.domdebugger.EventListener;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class DOMDebuggerImpl implements DOMDebugger {
+    static final CommandSerializer GET_EVENT_LISTENERS = new CommandSerializer("DOMDebugger", "getEventListeners",
+            new String[] { "objectId" },
+            new Type[] { String.class },
+            new TypeToken<List<EventListener>>() { }.getType(), "listeners");
+
+    static final CommandSerializer GET_EVENT_LISTENERS_1 = new CommandSerializer("DOMDebugger", "getEventListeners",
+            new String[] { "objectId", "depth", "pierce" },
+            new Type[] { String.class, Integer.class, Boolean.class },
+            new TypeToken<List<EventListener>>() { }.getType(), "listeners");
+
+    static final CommandSerializer REMOVE_DOMBREAKPOINT = new CommandSerializer("DOMDebugger", "removeDOMBreakpoint",
+            new String[] { "nodeId", "type" },
+            new Type[] { Integer.class, DOMBreakpointType.class },
+            null, null);
+
+    static final CommandSerializer REMOVE_EVENT_LISTENER_BREAKPOINT = new CommandSerializer("DOMDebugger", "removeEventListenerBreakpoint",
+            new String[] { "eventName" },
+            new Type[] { String.class },
+            null, null);
+
+    static final CommandSerializer REMOVE_EVENT_LISTENER_BREAKPOINT_1 = new CommandSerializer("DOMDebugger", "removeEventListenerBreakpoint",
+            new String[] { "eventName", "targetName" },
+            new Type[] { String.class, String.class },
+            null, null);
+
+    static final CommandSerializer REMOVE_INSTRUMENTATION_BREAKPOINT = new CommandSerializer("DOMDebugger", "removeInstrumentationBreakpoint",
+            new String[] { "eventName" },
+            new Type[] { String.class },
+            null, null);
+
+    static final CommandSerializer REMOVE_XHRBREAKPOINT = new CommandSerializer("DOMDebugger", "removeXHRBreakpoint",
+            new String[] { "url" },
+            new Type[] { String.class },
+            null, null);
+
+    static final CommandSerializer SET_DOMBREAKPOINT = new CommandSerializer("DOMDebugger", "setDOMBreakpoint",
+            new String[] { "nodeId", "type" },
+            new Type[] { Integer.class, DOMBreakpointType.class },
+            null, null);
+
+    static final CommandSerializer SET_EVENT_LISTENER_BREAKPOINT = new CommandSerializer("DOMDebugger", "setEventListenerBreakpoint",
+            new String[] { "eventName" },
+            new Type[] { String.class },
+            null, null);
+
+    static final CommandSerializer SET_EVENT_LISTENER_BREAKPOINT_1 = new CommandSerializer("DOMDebugger", "setEventListenerBreakpoint",
+            new String[] { "eventName", "targetName" },
+            new Type[] { String.class, String.class },
+            null, null);
+
+    static final CommandSerializer SET_INSTRUMENTATION_BREAKPOINT = new CommandSerializer("DOMDebugger", "setInstrumentationBreakpoint",
+            new String[] { "eventName" },
+            new Type[] { String.class },
+            null, null);
+
+    static final CommandSerializer SET_XHRBREAKPOINT = new CommandSerializer("DOMDebugger", "setXHRBreakpoint",
+            new String[] { "url" },
+            new Type[] { String.class },
+            null, null);
+
+    private final SessionInvocationHandler handler;
+
+    DOMDebuggerImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<EventListener> getEventListeners(final String objectId) {
+        return (List<EventListener>) handler.invoke(GET_EVENT_LISTENERS, new Object[] { objectId });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<EventListener> getEventListeners(final String objectId, final Integer depth,
+            final Boolean pierce) {
+        return (List<EventListener>) handler.invoke(GET_EVENT_LISTENERS_1, new Object[] { objectId, depth, pierce });
+    }
+
+    @Override
+    public void removeDOMBreakpoint(final Integer nodeId, final DOMBreakpointType type) {
+        handler.invoke(REMOVE_DOMBREAKPOINT, new Object[] { nodeId, type });
+    }
+
+    @Override
+    public void removeEventListenerBreakpoint(final String eventName) {
+        handler.invoke(REMOVE_EVENT_LISTENER_BREAKPOINT, new Object[] { eventName });
+    }
+
+    @Override
+    public void removeEventListenerBreakpoint(final String eventName, final String targetName) {
+        handler.invoke(REMOVE_EVENT_LISTENER_BREAKPOINT_1, new Object[] { eventName, targetName });
+    }
+
+    @Override
+    public void removeInstrumentationBreakpoint(final String eventName) {
+        handler.invoke(REMOVE_INSTRUMENTATION_BREAKPOINT, new Object[] { eventName });
+    }
+
+    @Override
+    public void removeXHRBreakpoint(final String url) {
+        handler.invoke(REMOVE_XHRBREAKPOINT, new Object[] { url });
+    }
+
+    @Override
+    public void setDOMBreakpoint(final Integer nodeId, final DOMBreakpointType type) {
+        handler.invoke(SET_DOMBREAKPOINT, new Object[] { nodeId, type });
+    }
+
+    @Override
+    public void setEventListenerBreakpoint(final String eventName) {
+        handler.invoke(SET_EVENT_LISTENER_BREAKPOINT, new Object[] { eventName });
+    }
+
+    @Override
+    public void setEventListenerBreakpoint(final String eventName, final String targetName) {
+        handler.invoke(SET_EVENT_LISTENER_BREAKPOINT_1, new Object[] { eventName, targetName });
+    }
+
+    @Override
+    public void setInstrumentationBreakpoint(final String eventName) {
+        handler.invoke(SET_INSTRUMENTATION_BREAKPOINT, new Object[] { eventName });
+    }
+
+    @Override
+    public void setXHRBreakpoint(final String url) {
+        handler.invoke(SET_XHRBREAKPOINT, new Object[] { url });
+    }
+}
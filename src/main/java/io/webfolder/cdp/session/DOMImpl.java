@@ -0,0 +1,620 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+import com.google.gson.reflect.TypeToken;
+
+import io.webfolder.cdp.command.DOM;
+import io.webfolder.cdp.type.dom.BoxModel;
+import io.webfolder.cdp.type.dom.Node;
+import io.webfolder.cdp.type.dom.PerformSearchResult;
+import io.webfolder.cdp.type.runtime.RemoteObject;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class DOMImpl implements DOM {
+    static final CommandSerializer COLLECT_CLASS_NAMES_FROM_SUBTREE = new CommandSerializer("DOM", "collectClassNamesFromSubtree",
+            new String[] { "nodeId" },
+            new Type[] { Integer.class },
+            new TypeToken<List<String>>() { }.getType(), "classNames");
+
+    static final CommandSerializer COPY_TO = new CommandSerializer("DOM", "copyTo",
+            new String[] { "nodeId", "targetNodeId" },
+            new Type[] { Integer.class, Integer.class },
+            Integer.class, "nodeId");
+
+    static final CommandSerializer COPY_TO_1 = new CommandSerializer("DOM", "copyTo",
+            new String[] { "nodeId", "targetNodeId", "insertBeforeNodeId" },
+            new Type[] { Integer.class, Integer.class, Integer.class },
+            Integer.class, "nodeId");
+
+    static final CommandSerializer DESCRIBE_NODE = new CommandSerializer("DOM", "describeNode",
+            new String[0],
+            new Type[0],
+            Node.class, "node");
+
+    static final CommandSerializer DESCRIBE_NODE_1 = new CommandSerializer("DOM", "describeNode",
+            new String[] { "nodeId", "backendNodeId", "objectId", "depth", "pierce" },
+            new Type[] { Integer.class, Integer.class, String.class, Integer.class, Boolean.class },
+            Node.class, "node");
+
+    static final CommandSerializer DISABLE = new CommandSerializer("DOM", "disable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer DISCARD_SEARCH_RESULTS = new CommandSerializer("DOM", "discardSearchResults",
+            new String[] { "searchId" },
+            new Type[] { String.class },
+            null, null);
+
+    static final CommandSerializer ENABLE = new CommandSerializer("DOM", "enable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer FOCUS = new CommandSerializer("DOM", "focus",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer FOCUS_1 = new CommandSerializer("DOM", "focus",
+            new String[] { "nodeId", "backendNodeId", "objectId" },
+            new Type[] { Integer.class, Integer.class, String.class },
+            null, null);
+
+    static final CommandSerializer GET_ATTRIBUTES = new CommandSerializer("DOM", "getAttributes",
+            new String[] { "nodeId" },
+            new Type[] { Integer.class },
+            new TypeToken<List<String>>() { }.getType(), "attributes");
+
+    static final CommandSerializer GET_BOX_MODEL = new CommandSerializer("DOM", "getBoxModel",
+            new String[0],
+            new Type[0],
+            BoxModel.class, "model");
+
+    static final CommandSerializer GET_BOX_MODEL_1 = new CommandSerializer("DOM", "getBoxModel",
+            new String[] { "nodeId", "backendNodeId", "objectId" },
+            new Type[] { Integer.class, Integer.class, String.class },
+            BoxModel.class, "model");
+
+    static final CommandSerializer GET_CONTENT_QUADS = new CommandSerializer("DOM", "getContentQuads",
+            new String[0],
+            new Type[0],
+            new TypeToken<List<Double>>() { }.getType(), "quads");
+
+    static final CommandSerializer GET_CONTENT_QUADS_1 = new CommandSerializer("DOM", "getContentQuads",
+            new String[] { "nodeId", "backendNodeId", "objectId" },
+            new Type[] { Integer.class, Integer.class, String.class },
+            new TypeToken<List<List<Double>>>() { }.getType(), "quads");
+
+    static final CommandSerializer GET_DOCUMENT = new CommandSerializer("DOM", "getDocument",
+            new String[0],
+            new Type[0],
+            Node.class, "root");
+
+    static final CommandSerializer GET_DOCUMENT_1 = new CommandSerializer("DOM", "getDocument",
+            new String[] { "depth", "pierce" },
+            new Type[] { Integer.class, Boolean.class },
+            Node.class, "root");
+
+    static final CommandSerializer GET_FLATTENED_DOCUMENT = new CommandSerializer("DOM", "getFlattenedDocument",
+            new String[0],
+            new Type[0],
+            new TypeToken<List<Node>>() { }.getType(), "nodes");
+
+    static final CommandSerializer GET_FLATTENED_DOCUMENT_1 = new CommandSerializer("DOM", "getFlattenedDocument",
+            new String[] { "depth", "pierce" },
+            new Type[] { Integer.class, Boolean.class },
+            new TypeToken<List<Node>>() { }.getType(), "nodes");
+
+    static final CommandSerializer GET_FRAME_OWNER = new CommandSerializer("DOM", "getFrameOwner",
+            new String[] { "frameId" },
+            new Type[] { String.class },
+            Integer.class, "nodeId");
+
+    static final CommandSerializer GET_NODE_FOR_LOCATION = new CommandSerializer("DOM", "getNodeForLocation",
+            new String[] { "x", "y" },
+            new Type[] { Integer.class, Integer.class },
+            Integer.class, "nodeId");
+
+    static final CommandSerializer GET_NODE_FOR_LOCATION_1 = new CommandSerializer("DOM", "getNodeForLocation",
+            new String[] { "x", "y", "includeUserAgentShadowDOM" },
+            new Type[] { Integer.class, Integer.class, Boolean.class },
+            Integer.class, "nodeId");
+
+    static final CommandSerializer GET_OUTER_HTML = new CommandSerializer("DOM", "getOuterHTML",
+            new String[0],
+            new Type[0],
+            String.class, "outerHTML");
+
+    static final CommandSerializer GET_OUTER_HTML_1 = new CommandSerializer("DOM", "getOuterHTML",
+            new String[] { "nodeId", "backendNodeId", "objectId" },
+            new Type[] { Integer.class, Integer.class, String.class },
+            String.class, "outerHTML");
+
+    static final CommandSerializer GET_RELAYOUT_BOUNDARY = new CommandSerializer("DOM", "getRelayoutBoundary",
+            new String[] { "nodeId" },
+            new Type[] { Integer.class },
+            Integer.class, "nodeId");
+
+    static final CommandSerializer GET_SEARCH_RESULTS = new CommandSerializer("DOM", "getSearchResults",
+            new String[] { "searchId", "fromIndex", "toIndex" },
+            new Type[] { String.class, Integer.class, Integer.class },
+            new TypeToken<List<Integer>>() { }.getType(), "nodeIds");
+
+    static final CommandSerializer HIDE_HIGHLIGHT = new CommandSerializer("DOM", "hideHighlight",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer HIGHLIGHT_NODE = new CommandSerializer("DOM", "highlightNode",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer HIGHLIGHT_RECT = new CommandSerializer("DOM", "highlightRect",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer MARK_UNDOABLE_STATE = new CommandSerializer("DOM", "markUndoableState",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer MOVE_TO = new CommandSerializer("DOM", "moveTo",
+            new String[] { "nodeId", "targetNodeId" },
+            new Type[] { Integer.class, Integer.class },
+            Integer.class, "nodeId");
+
+    static final CommandSerializer MOVE_TO_1 = new CommandSerializer("DOM", "moveTo",
+            new String[] { "nodeId", "targetNodeId", "insertBeforeNodeId" },
+            new Type[] { Integer.class, Integer.class, Integer.class },
+            Integer.class, "nodeId");
+
+    static final CommandSerializer PERFORM_SEARCH = new CommandSerializer("DOM", "performSearch",
+            new String[] { "query" },
+            new Type[] { String.class },
+            PerformSearchResult.class, null);
+
+    static final CommandSerializer PERFORM_SEARCH_1 = new CommandSerializer("DOM", "performSearch",
+            new String[] { "query", "includeUserAgentShadowDOM" },
+            new Type[] { String.class, Boolean.class },
+            PerformSearchResult.class, null);
+
+    static final CommandSerializer PUSH_NODE_BY_PATH_TO_FRONTEND = new CommandSerializer("DOM", "pushNodeByPathToFrontend",
+            new String[] { "path" },
+            new Type[] { String.class },
+            Integer.class, "nodeId");
+
+    static final CommandSerializer PUSH_NODES_BY_BACKEND_IDS_TO_FRONTEND = new CommandSerializer("DOM", "pushNodesByBackendIdsToFrontend",
+            new String[] { "backendNodeIds" },
+            new Type[] { new TypeToken<List<Integer>>() { }.getType() },
+            new TypeToken<List<Integer>>() { }.getType(), "nodeIds");
+
+    static final CommandSerializer QUERY_SELECTOR = new CommandSerializer("DOM", "querySelector",
+            new String[] { "nodeId", "selector" },
+            new Type[] { Integer.class, String.class },
+            Integer.class, "nodeId");
+
+    static final CommandSerializer QUERY_SELECTOR_ALL = new CommandSerializer("DOM", "querySelectorAll",
+            new String[] { "nodeId", "selector" },
+            new Type[] { Integer.class, String.class },
+            new TypeToken<List<Integer>>() { }.getType(), "nodeIds");
+
+    static final CommandSerializer REDO = new CommandSerializer("DOM", "redo",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer REMOVE_ATTRIBUTE = new CommandSerializer("DOM", "removeAttribute",
+            new String[] { "nodeId", "name" },
+            new Type[] { Integer.class, String.class },
+            null, null);
+
+    static final CommandSerializer REMOVE_NODE = new CommandSerializer("DOM", "removeNode",
+            new String[] { "nodeId" },
+            new Type[] { Integer.class },
+            null, null);
+
+    static final CommandSerializer REQUEST_CHILD_NODES = new CommandSerializer("DOM", "requestChildNodes",
+            new String[] { "nodeId" },
+            new Type[] { Integer.class },
+            null, null);
+
+    static final CommandSerializer REQUEST_CHILD_NODES_1 = new CommandSerializer("DOM", "requestChildNodes",
+            new String[] { "nodeId", "depth", "pierce" },
+            new Type[] { Integer.class, Integer.class, Boolean.class },
+            null, null);
+
+    static final CommandSerializer REQUEST_NODE = new CommandSerializer("DOM", "requestNode",
+            new String[] { "objectId" },
+            new Type[] { String.class },
+            Integer.class, "nodeId");
+
+    static final CommandSerializer RESOLVE_NODE = new CommandSerializer("DOM", "resolveNode",
+            new String[0],
+            new Type[0],
+            RemoteObject.class, "object");
+
+    static final CommandSerializer RESOLVE_NODE_1 = new CommandSerializer("DOM", "resolveNode",
+            new String[] { "nodeId", "backendNodeId", "objectGroup" },
+            new Type[] { Integer.class, Integer.class, String.class },
+            RemoteObject.class, "object");
+
+    static final CommandSerializer SET_ATTRIBUTE_VALUE = new CommandSerializer("DOM", "setAttributeValue",
+            new String[] { "nodeId", "name", "value" },
+            new Type[] { Integer.class, String.class, String.class },
+            null, null);
+
+    static final CommandSerializer SET_ATTRIBUTES_AS_TEXT = new CommandSerializer("DOM", "setAttributesAsText",
+            new String[] { "nodeId", "text" },
+            new Type[] { Integer.class, String.class },
+            null, null);
+
+    static final CommandSerializer SET_ATTRIBUTES_AS_TEXT_1 = new CommandSerializer("DOM", "setAttributesAsText",
+            new String[] { "nodeId", "text", "name" },
+            new Type[] { Integer.class, String.class, String.class },
+            null, null);
+
+    static final CommandSerializer SET_FILE_INPUT_FILES = new CommandSerializer("DOM", "setFileInputFiles",
+            new String[] { "files" },
+            new Type[] { new TypeToken<List<String>>() { }.getType() },
+            null, null);
+
+    static final CommandSerializer SET_FILE_INPUT_FILES_1 = new CommandSerializer("DOM", "setFileInputFiles",
+            new String[] { "files", "nodeId", "backendNodeId", "objectId" },
+            new Type[] { new TypeToken<List<String>>() { }.getType(), Integer.class, Integer.class, String.class },
+            null, null);
+
+    static final CommandSerializer SET_INSPECTED_NODE = new CommandSerializer("DOM", "setInspectedNode",
+            new String[] { "nodeId" },
+            new Type[] { Integer.class },
+            null, null);
+
+    static final CommandSerializer SET_NODE_NAME = new CommandSerializer("DOM", "setNodeName",
+            new String[] { "nodeId", "name" },
+            new Type[] { Integer.class, String.class },
+            Integer.class, "nodeId");
+
+    static final CommandSerializer SET_NODE_VALUE = new CommandSerializer("DOM", "setNodeValue",
+            new String[] { "nodeId", "value" },
+            new Type[] { Integer.class, String.class },
+            null, null);
+
+    static final CommandSerializer SET_OUTER_HTML = new CommandSerializer("DOM", "setOuterHTML",
+            new String[] { "nodeId", "outerHTML" },
+            new Type[] { Integer.class, String.class },
+            null, null);
+
+    static final CommandSerializer UNDO = new CommandSerializer("DOM", "undo",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    private final SessionInvocationHandler handler;
+
+    DOMImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> collectClassNamesFromSubtree(final Integer nodeId) {
+        return (List<String>) handler.invoke(COLLECT_CLASS_NAMES_FROM_SUBTREE, new Object[] { nodeId });
+    }
+
+    @Override
+    public Integer copyTo(final Integer nodeId, final Integer targetNodeId) {
+        return (Integer) handler.invoke(COPY_TO, new Object[] { nodeId, targetNodeId });
+    }
+
+    @Override
+    public Integer copyTo(final Integer nodeId, final Integer targetNodeId,
+            final Integer insertBeforeNodeId) {
+        return (Integer) handler.invoke(COPY_TO_1, new Object[] { nodeId, targetNodeId, insertBeforeNodeId });
+    }
+
+    @Override
+    public Node describeNode() {
+        return (Node) handler.invoke(DESCRIBE_NODE, null);
+    }
+
+    @Override
+    public Node describeNode(final Integer nodeId, final Integer backendNodeId,
+            final String objectId, final Integer depth, final Boolean pierce) {
+        return (Node) handler.invoke(DESCRIBE_NODE_1, new Object[] { nodeId, backendNodeId, objectId, depth, pierce });
+    }
+
+    @Override
+    public void disable() {
+        handler.invoke(DISABLE, null);
+    }
+
+    @Override
+    public void discardSearchResults(final String searchId) {
+        handler.invoke(DISCARD_SEARCH_RESULTS, new Object[] { searchId });
+    }
+
+    @Override
+    public void enable() {
+        handler.invoke(ENABLE, null);
+    }
+
+    @Override
+    public void focus() {
+        handler.invoke(FOCUS, null);
+    }
+
+    @Override
+    public void focus(final Integer nodeId, final Integer backendNodeId, final String objectId) {
+        handler.invoke(FOCUS_1, new Object[] { nodeId, backendNodeId, objectId });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> getAttributes(final Integer nodeId) {
+        return (List<String>) handler.invoke(GET_ATTRIBUTES, new Object[] { nodeId });
+    }
+
+    @Override
+    public BoxModel getBoxModel() {
+        return (BoxModel) handler.invoke(GET_BOX_MODEL, null);
+    }
+
+    @Override
+    public BoxModel getBoxModel(final Integer nodeId, final Integer backendNodeId,
+            final String objectId) {
+        return (BoxModel) handler.invoke(GET_BOX_MODEL_1, new Object[] { nodeId, backendNodeId, objectId });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Double> getContentQuads() {
+        return (List<Double>) handler.invoke(GET_CONTENT_QUADS, null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<List<Double>> getContentQuads(final Integer nodeId, final Integer backendNodeId,
+            final String objectId) {
+        return (List<List<Double>>) handler.invoke(GET_CONTENT_QUADS_1, new Object[] { nodeId, backendNodeId, objectId });
+    }
+
+    @Override
+    public Node getDocument() {
+        return (Node) handler.invoke(GET_DOCUMENT, null);
+    }
+
+    @Override
+    public Node getDocument(final Integer depth, final Boolean pierce) {
+        return (Node) handler.invoke(GET_DOCUMENT_1, new Object[] { depth, pierce });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Node> getFlattenedDocument() {
+        return (List<Node>) handler.invoke(GET_FLATTENED_DOCUMENT, null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Node> getFlattenedDocument(final Integer depth, final Boolean pierce) {
+        return (List<Node>) handler.invoke(GET_FLATTENED_DOCUMENT_1, new Object[] { depth, pierce });
+    }
+
+    @Override
+    public Integer getFrameOwner(final String frameId) {
+        return (Integer) handler.invoke(GET_FRAME_OWNER, new Object[] { frameId });
+    }
+
+    @Override
+    public Integer getNodeForLocation(final Integer x, final Integer y) {
+        return (Integer) handler.invoke(GET_NODE_FOR_LOCATION, new Object[] { x, y });
+    }
+
+    @Override
+    public Integer getNodeForLocation(final Integer x, final Integer y,
+            final Boolean includeUserAgentShadowDOM) {
+        return (Integer) handler.invoke(GET_NODE_FOR_LOCATION_1, new Object[] { x, y, includeUserAgentShadowDOM });
+    }
+
+    @Override
+    public String getOuterHTML() {
+        return (String) handler.invoke(GET_OUTER_HTML, null);
+    }
+
+    @Override
+    public String getOuterHTML(final Integer nodeId, final Integer backendNodeId,
+            final String objectId) {
+        return (String) handler.invoke(GET_OUTER_HTML_1, new Object[] { nodeId, backendNodeId, objectId });
+    }
+
+    @Override
+    public Integer getRelayoutBoundary(final Integer nodeId) {
+        return (Integer) handler.invoke(GET_RELAYOUT_BOUNDARY, new Object[] { nodeId });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Integer> getSearchResults(final String searchId, final Integer fromIndex,
+            final Integer toIndex) {
+        return (List<Integer>) handler.invoke(GET_SEARCH_RESULTS, new Object[] { searchId, fromIndex, toIndex });
+    }
+
+    @Override
+    public void hideHighlight() {
+        handler.invoke(HIDE_HIGHLIGHT, null);
+    }
+
+    @Override
+    public void highlightNode() {
+        handler.invoke(HIGHLIGHT_NODE, null);
+    }
+
+    @Override
+    public void highlightRect() {
+        handler.invoke(HIGHLIGHT_RECT, null);
+    }
+
+    @Override
+    public void markUndoableState() {
+        handler.invoke(MARK_UNDOABLE_STATE, null);
+    }
+
+    @Override
+    public Integer moveTo(final Integer nodeId, final Integer targetNodeId) {
+        return (Integer) handler.invoke(MOVE_TO, new Object[] { nodeId, targetNodeId });
+    }
+
+    @Override
+    public Integer moveTo(final Integer nodeId, final Integer targetNodeId,
+            final Integer insertBeforeNodeId) {
+        return (Integer) handler.invoke(MOVE_TO_1, new Object[] { nodeId, targetNodeId, insertBeforeNodeId });
+    }
+
+    @Override
+    public PerformSearchResult performSearch(final String query) {
+        return (PerformSearchResult) handler.invoke(PERFORM_SEARCH, new Object[] { query });
+    }
+
+    @Override
+    public PerformSearchResult performSearch(final String query,
+            final Boolean includeUserAgentShadowDOM) {
+        return (PerformSearchResult) handler.invoke(PERFORM_SEARCH_1, new Object[] { query, includeUserAgentShadowDOM });
+    }
+
+    @Override
+    public Integer pushNodeByPathToFrontend(final String path) {
+        return (Integer) handler.invoke(PUSH_NODE_BY_PATH_TO_FRONTEND, new Object[] { path });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Integer> pushNodesByBackendIdsToFrontend(final List<Integer> backendNodeIds) {
+        return (List<Integer>) handler.invoke(PUSH_NODES_BY_BACKEND_IDS_TO_FRONTEND, new Object[] { backendNodeIds });
+    }
+
+    @Override
+    public Integer querySelector(final Integer nodeId, final String selector) {
+        return (Integer) handler.invoke(QUERY_SELECTOR, new Object[] { nodeId, selector });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Integer> querySelectorAll(final Integer nodeId, final String selector) {
+        return (List<Integer>) handler.invoke(QUERY_SELECTOR_ALL, new Object[] { nodeId, selector });
+    }
+
+    @Override
+    public void redo() {
+        handler.invoke(REDO, null);
+    }
+
+    @Override
+    public void removeAttribute(final Integer nodeId, final String name) {
+        handler.invoke(REMOVE_ATTRIBUTE, new Object[] { nodeId, name });
+    }
+
+    @Override
+    public void removeNode(final Integer nodeId) {
+        handler.invoke(REMOVE_NODE, new Object[] { nodeId });
+    }
+
+    @Override
+    public void requestChildNodes(final Integer nodeId) {
+        handler.invoke(REQUEST_CHILD_NODES, new Object[] { nodeId });
+    }
+
+    @Override
+    public void requestChildNodes(final Integer nodeId, final Integer depth, final Boolean pierce) {
+        handler.invoke(REQUEST_CHILD_NODES_1, new Object[] { nodeId, depth, pierce });
+    }
+
+    @Override
+    public Integer requestNode(final String objectId) {
+        return (Integer) handler.invoke(REQUEST_NODE, new Object[] { objectId });
+    }
+
+    @Override
+    public RemoteObject resolveNode() {
+        return (RemoteObject) handler.invoke(RESOLVE_NODE, null);
+    }
+
+    @Override
+    public RemoteObject resolveNode(final Integer nodeId, final Integer backendNodeId,
+            final String objectGroup) {
+        return (RemoteObject) handler.invoke(RESOLVE_NODE_1, new Object[] { nodeId, backendNodeId, objectGroup });
+    }
+
+    @Override
+    public void setAttributeValue(final Integer nodeId, final String name, final String value) {
+        handler.invoke(SET_ATTRIBUTE_VALUE, new Object[] { nodeId, name, value });
+    }
+
+    @Override
+    public void setAttributesAsText(final Integer nodeId, final String text) {
+        handler.invoke(SET_ATTRIBUTES_AS_TEXT, new Object[] { nodeId, text });
+    }
+
+    @Override
+    public void setAttributesAsText(final Integer nodeId, final String text, final String name) {
+        handler.invoke(SET_ATTRIBUTES_AS_TEXT_1, new Object[] { nodeId, text, name });
+    }
+
+    @Override
+    public void setFileInputFiles(final List<String> files) {
+        handler.invoke(SET_FILE_INPUT_FILES, new Object[] { files });
+    }
+
+    @Override
+    public void setFileInputFiles(final List<String> files, final Integer nodeId,
+            final Integer backendNodeId, final String objectId) {
+        handler.invoke(SET_FILE_INPUT_FILES_1, new Object[] { files, nodeId, backendNodeId, objectId });
+    }
+
+    @Override
+    public void setInspectedNode(final Integer nodeId) {
+        handler.invoke(SET_INSPECTED_NODE, new Object[] { nodeId });
+    }
+
+    @Override
+    public Integer setNodeName(final Integer nodeId, final String name) {
+        return (Integer) handler.invoke(SET_NODE_NAME, new Object[] { nodeId, name });
+    }
+
+    @Override
+    public void setNodeValue(final Integer nodeId, final String value) {
+        handler.invoke(SET_NODE_VALUE, new Object[] { nodeId, value });
+    }
+
+    @Override
+    public void setOuterHTML(final Integer nodeId, final String outerHTML) {
+        handler.invoke(SET_OUTER_HTML, new Object[] { nodeId, outerHTML });
+    }
+
+    @Override
+    public void undo() {
+        handler.invoke(UNDO, null);
+    }
+}
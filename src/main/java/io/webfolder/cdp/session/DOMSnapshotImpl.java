@@ -0,0 +1,90 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+import com.google.gson.reflect.TypeToken;
+
+import io.webfolder.cdp.command.DOMSnapshot;
+import io.webfolder.cdp.type.domsnapshot.CaptureSnapshotResult;
+import io.webfolder.cdp.type.domsnapshot.GetSnapshotResult;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class DOMSnapshotImpl implements DOMSnapshot {
+    static final CommandSerializer CAPTURE_SNAPSHOT = new CommandSerializer("DOMSnapshot", "captureSnapshot",
+            new String[] { "computedStyles" },
+            new Type[] { new TypeToken<List<String>>() { }.getType() },
+            CaptureSnapshotResult.class, null);
+
+    static final CommandSerializer DISABLE = new CommandSerializer("DOMSnapshot", "disable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer ENABLE = new CommandSerializer("DOMSnapshot", "enable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer GET_SNAPSHOT = new CommandSerializer("DOMSnapshot", "getSnapshot",
+            new String[] { "computedStyleWhitelist" },
+            new Type[] { new TypeToken<List<String>>() { }.getType() },
+            GetSnapshotResult.class, null);
+
+    static final CommandSerializer GET_SNAPSHOT_1 = new CommandSerializer("DOMSnapshot", "getSnapshot",
+            new String[] { "computedStyleWhitelist", "includeEventListeners", "includePaintOrder", "includeUserAgentShadowTree" },
+            new Type[] { new TypeToken<List<String>>() { }.getType(), Boolean.class, Boolean.class, Boolean.class },
+            GetSnapshotResult.class, null);
+
+    private final SessionInvocationHandler handler;
+
+    DOMSnapshotImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public CaptureSnapshotResult captureSnapshot(final List<String> computedStyles) {
+        return (CaptureSnapshotResult) handler.invoke(CAPTURE_SNAPSHOT, new Object[] { computedStyles });
+    }
+
+    @Override
+    public void disable() {
+        handler.invoke(DISABLE, null);
+    }
+
+    @Override
+    public void enable() {
+        handler.invoke(ENABLE, null);
+    }
+
+    @Override
+    public GetSnapshotResult getSnapshot(final List<String> computedStyleWhitelist) {
+        return (GetSnapshotResult) handler.invoke(GET_SNAPSHOT, new Object[] { computedStyleWhitelist });
+    }
+
+    @Override
+    public GetSnapshotResult getSnapshot(final List<String> computedStyleWhitelist,
+            final Boolean includeEventListeners, final Boolean includePaintOrder,
+            final Boolean includeUserAgentShadowTree) {
+        return (GetSnapshotResult) handler.invoke(GET_SNAPSHOT_1, new Object[] { computedStyleWhitelist, includeEventListeners, includePaintOrder, includeUserAgentShadowTree });
+    }
+}
@@ -0,0 +1,98 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+import com.google.gson.reflect.TypeToken;
+
+import io.webfolder.cdp.command.DOMStorage;
+import io.webfolder.cdp.type.domstorage.StorageId;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class DOMStorageImpl implements DOMStorage {
+    static final CommandSerializer CLEAR = new CommandSerializer("DOMStorage", "clear",
+            new String[] { "storageId" },
+            new Type[] { StorageId.class },
+            null, null);
+
+    static final CommandSerializer DISABLE = new CommandSerializer("DOMStorage", "disable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer ENABLE = new CommandSerializer("DOMStorage", "enable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer GET_DOMSTORAGE_ITEMS = new CommandSerializer("DOMStorage", "getDOMStorageItems",
+            new String[] { "storageId" },
+            new Type[] { StorageId.class },
+            new TypeToken<List<String>>() { }.getType(), "entries");
+
+    static final CommandSerializer REMOVE_DOMSTORAGE_ITEM = new CommandSerializer("DOMStorage", "removeDOMStorageItem",
+            new String[] { "storageId", "key" },
+            new Type[] { StorageId.class, String.class },
+            null, null);
+
+    static final CommandSerializer SET_DOMSTORAGE_ITEM = new CommandSerializer("DOMStorage", "setDOMStorageItem",
+            new String[] { "storageId", "key", "value" },
+            new Type[] { StorageId.class, String.class, String.class },
+            null, null);
+
+    private final SessionInvocationHandler handler;
+
+    DOMStorageImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public void clear(final StorageId storageId) {
+        handler.invoke(CLEAR, new Object[] { storageId });
+    }
+
+    @Override
+    public void disable() {
+        handler.invoke(DISABLE, null);
+    }
+
+    @Override
+    public void enable() {
+        handler.invoke(ENABLE, null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> getDOMStorageItems(final StorageId storageId) {
+        return (List<String>) handler.invoke(GET_DOMSTORAGE_ITEMS, new Object[] { storageId });
+    }
+
+    @Override
+    public void removeDOMStorageItem(final StorageId storageId, final String key) {
+        handler.invoke(REMOVE_DOMSTORAGE_ITEM, new Object[] { storageId, key });
+    }
+
+    @Override
+    public void setDOMStorageItem(final StorageId storageId, final String key, final String value) {
+        handler.invoke(SET_DOMSTORAGE_ITEM, new Object[] { storageId, key, value });
+    }
+}
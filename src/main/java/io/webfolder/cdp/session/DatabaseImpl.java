@@ -0,0 +1,78 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+import com.google.gson.reflect.TypeToken;
+
+import io.webfolder.cdp.command.Database;
+import io.webfolder.cdp.type.database.ExecuteSQLResult;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class DatabaseImpl implements Database {
+    static final CommandSerializer DISABLE = new CommandSerializer("Database", "disable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer ENABLE = new CommandSerializer("Database", "enable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer EXECUTE_SQL = new CommandSerializer("Database", "executeSQL",
+            new String[] { "databaseId", "query" },
+            new Type[] { String.class, String.class },
+            ExecuteSQLResult.class, null);
+
+    static final CommandSerializer GET_DATABASE_TABLE_NAMES = new CommandSerializer("Database", "getDatabaseTableNames",
+            new String[] { "databaseId" },
+            new Type[] { String.class },
+            new TypeToken<List<String>>() { }.getType(), "tableNames");
+
+    private final SessionInvocationHandler handler;
+
+    DatabaseImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public void disable() {
+        handler.invoke(DISABLE, null);
+    }
+
+    @Override
+    public void enable() {
+        handler.invoke(ENABLE, null);
+    }
+
+    @Override
+    public ExecuteSQLResult executeSQL(final String databaseId, final String query) {
+        return (ExecuteSQLResult) handler.invoke(EXECUTE_SQL, new Object[] { databaseId, query });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> getDatabaseTableNames(final String databaseId) {
+        return (List<String>) handler.invoke(GET_DATABASE_TABLE_NAMES, new Object[] { databaseId });
+    }
+}
@@ -0,0 +1,445 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+import com.google.gson.reflect.TypeToken;
+
+import io.webfolder.cdp.command.Debugger;
+import io.webfolder.cdp.type.constant.PauseOnExceptionState;
+import io.webfolder.cdp.type.constant.TargetCallFrames;
+import io.webfolder.cdp.type.debugger.BreakLocation;
+import io.webfolder.cdp.type.debugger.EvaluateOnCallFrameResult;
+import io.webfolder.cdp.type.debugger.Location;
+import io.webfolder.cdp.type.debugger.RestartFrameResult;
+import io.webfolder.cdp.type.debugger.ScriptPosition;
+import io.webfolder.cdp.type.debugger.SearchMatch;
+import io.webfolder.cdp.type.debugger.SetBreakpointByUrlResult;
+import io.webfolder.cdp.type.debugger.SetBreakpointResult;
+import io.webfolder.cdp.type.debugger.SetScriptSourceResult;
+import io.webfolder.cdp.type.runtime.CallArgument;
+import io.webfolder.cdp.type.runtime.StackTrace;
+import io.webfolder.cdp.type.runtime.StackTraceId;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class DebuggerImpl implements Debugger {
+    static final CommandSerializer CONTINUE_TO_LOCATION = new CommandSerializer("Debugger", "continueToLocation",
+            new String[] { "location" },
+            new Type[] { Location.class },
+            null, null);
+
+    static final CommandSerializer CONTINUE_TO_LOCATION_1 = new CommandSerializer("Debugger", "continueToLocation",
+            new String[] { "location", "targetCallFrames" },
+            new Type[] { Location.class, TargetCallFrames.class },
+            null, null);
+
+    static final CommandSerializer DISABLE = new CommandSerializer("Debugger", "disable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer ENABLE = new CommandSerializer("Debugger", "enable",
+            new String[0],
+            new Type[0],
+            String.class, "debuggerId");
+
+    static final CommandSerializer EVALUATE_ON_CALL_FRAME = new CommandSerializer("Debugger", "evaluateOnCallFrame",
+            new String[] { "callFrameId", "expression" },
+            new Type[] { String.class, String.class },
+            EvaluateOnCallFrameResult.class, null);
+
+    static final CommandSerializer EVALUATE_ON_CALL_FRAME_1 = new CommandSerializer("Debugger", "evaluateOnCallFrame",
+            new String[] { "callFrameId", "expression", "objectGroup", "includeCommandLineAPI", "silent", "returnByValue", "generatePreview", "throwOnSideEffect", "timeout" },
+            new Type[] { String.class, String.class, String.class, Boolean.class, Boolean.class, Boolean.class, Boolean.class, Boolean.class, Double.class },
+            EvaluateOnCallFrameResult.class, null);
+
+    static final CommandSerializer GET_POSSIBLE_BREAKPOINTS = new CommandSerializer("Debugger", "getPossibleBreakpoints",
+            new String[] { "start" },
+            new Type[] { Location.class },
+            new TypeToken<List<BreakLocation>>() { }.getType(), "locations");
+
+    static final CommandSerializer GET_POSSIBLE_BREAKPOINTS_1 = new CommandSerializer("Debugger", "getPossibleBreakpoints",
+            new String[] { "start", "end", "restrictToFunction" },
+            new Type[] { Location.class, Location.class, Boolean.class },
+            new TypeToken<List<BreakLocation>>() { }.getType(), "locations");
+
+    static final CommandSerializer GET_SCRIPT_SOURCE = new CommandSerializer("Debugger", "getScriptSource",
+            new String[] { "scriptId" },
+            new Type[] { String.class },
+            String.class, "scriptSource");
+
+    static final CommandSerializer GET_STACK_TRACE = new CommandSerializer("Debugger", "getStackTrace",
+            new String[] { "stackTraceId" },
+            new Type[] { StackTraceId.class },
+            StackTrace.class, "stackTrace");
+
+    static final CommandSerializer PAUSE = new CommandSerializer("Debugger", "pause",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer PAUSE_ON_ASYNC_CALL = new CommandSerializer("Debugger", "pauseOnAsyncCall",
+            new String[] { "parentStackTraceId" },
+            new Type[] { StackTraceId.class },
+            null, null);
+
+    static final CommandSerializer REMOVE_BREAKPOINT = new CommandSerializer("Debugger", "removeBreakpoint",
+            new String[] { "breakpointId" },
+            new Type[] { String.class },
+            null, null);
+
+    static final CommandSerializer RESTART_FRAME = new CommandSerializer("Debugger", "restartFrame",
+            new String[] { "callFrameId" },
+            new Type[] { String.class },
+            RestartFrameResult.class, null);
+
+    static final CommandSerializer RESUME = new CommandSerializer("Debugger", "resume",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer SCHEDULE_STEP_INTO_ASYNC = new CommandSerializer("Debugger", "scheduleStepIntoAsync",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer SEARCH_IN_CONTENT = new CommandSerializer("Debugger", "searchInContent",
+            new String[] { "scriptId", "query" },
+            new Type[] { String.class, String.class },
+            new TypeToken<List<SearchMatch>>() { }.getType(), "result");
+
+    static final CommandSerializer SEARCH_IN_CONTENT_1 = new CommandSerializer("Debugger", "searchInContent",
+            new String[] { "scriptId", "query", "caseSensitive", "isRegex" },
+            new Type[] { String.class, String.class, Boolean.class, Boolean.class },
+            new TypeToken<List<SearchMatch>>() { }.getType(), "result");
+
+    static final CommandSerializer SET_ASYNC_CALL_STACK_DEPTH = new CommandSerializer("Debugger", "setAsyncCallStackDepth",
+            new String[] { "maxDepth" },
+            new Type[] { Integer.class },
+            null, null);
+
+    static final CommandSerializer SET_BLACKBOX_PATTERNS = new CommandSerializer("Debugger", "setBlackboxPatterns",
+            new String[] { "patterns" },
+            new Type[] { new TypeToken<List<String>>() { }.getType() },
+            null, null);
+
+    static final CommandSerializer SET_BLACKBOXED_RANGES = new CommandSerializer("Debugger", "setBlackboxedRanges",
+            new String[] { "scriptId", "positions" },
+            new Type[] { String.class, new TypeToken<List<ScriptPosition>>() { }.getType() },
+            null, null);
+
+    static final CommandSerializer SET_BREAKPOINT = new CommandSerializer("Debugger", "setBreakpoint",
+            new String[] { "location" },
+            new Type[] { Location.class },
+            SetBreakpointResult.class, null);
+
+    static final CommandSerializer SET_BREAKPOINT_1 = new CommandSerializer("Debugger", "setBreakpoint",
+            new String[] { "location", "condition" },
+            new Type[] { Location.class, String.class },
+            SetBreakpointResult.class, null);
+
+    static final CommandSerializer SET_BREAKPOINT_BY_URL = new CommandSerializer("Debugger", "setBreakpointByUrl",
+            new String[] { "lineNumber" },
+            new Type[] { Integer.class },
+            SetBreakpointByUrlResult.class, null);
+
+    static final CommandSerializer SET_BREAKPOINT_BY_URL_1 = new CommandSerializer("Debugger", "setBreakpointByUrl",
+            new String[] { "lineNumber", "url", "urlRegex", "scriptHash", "columnNumber", "condition" },
+            new Type[] { Integer.class, String.class, String.class, String.class, Integer.class, String.class },
+            SetBreakpointByUrlResult.class, null);
+
+    static final CommandSerializer SET_BREAKPOINT_ON_FUNCTION_CALL = new CommandSerializer("Debugger", "setBreakpointOnFunctionCall",
+            new String[] { "objectId" },
+            new Type[] { String.class },
+            String.class, "breakpointId");
+
+    static final CommandSerializer SET_BREAKPOINT_ON_FUNCTION_CALL_1 = new CommandSerializer("Debugger", "setBreakpointOnFunctionCall",
+            new String[] { "objectId", "condition" },
+            new Type[] { String.class, String.class },
+            String.class, "breakpointId");
+
+    static final CommandSerializer SET_BREAKPOINTS_ACTIVE = new CommandSerializer("Debugger", "setBreakpointsActive",
+            new String[] { "active" },
+            new Type[] { Boolean.class },
+            null, null);
+
+    static final CommandSerializer SET_PAUSE_ON_EXCEPTIONS = new CommandSerializer("Debugger", "setPauseOnExceptions",
+            new String[] { "state" },
+            new Type[] { PauseOnExceptionState.class },
+            null, null);
+
+    static final CommandSerializer SET_RETURN_VALUE = new CommandSerializer("Debugger", "setReturnValue",
+            new String[] { "newValue" },
+            new Type[] { CallArgument.class },
+            null, null);
+
+    static final CommandSerializer SET_SCRIPT_SOURCE = new CommandSerializer("Debugger", "setScriptSource",
+            new String[] { "scriptId", "scriptSource" },
+            new Type[] { String.class, String.class },
+            SetScriptSourceResult.class, null);
+
+    static final CommandSerializer SET_SCRIPT_SOURCE_1 = new CommandSerializer("Debugger", "setScriptSource",
+            new String[] { "scriptId", "scriptSource", "dryRun" },
+            new Type[] { String.class, String.class, Boolean.class },
+            SetScriptSourceResult.class, null);
+
+    static final CommandSerializer SET_SKIP_ALL_PAUSES = new CommandSerializer("Debugger", "setSkipAllPauses",
+            new String[] { "skip" },
+            new Type[] { Boolean.class },
+            null, null);
+
+    static final CommandSerializer SET_VARIABLE_VALUE = new CommandSerializer("Debugger", "setVariableValue",
+            new String[] { "scopeNumber", "variableName", "newValue", "callFrameId" },
+            new Type[] { Integer.class, String.class, CallArgument.class, String.class },
+            null, null);
+
+    static final CommandSerializer STEP_INTO = new CommandSerializer("Debugger", "stepInto",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer STEP_INTO_1 = new CommandSerializer("Debugger", "stepInto",
+            new String[] { "breakOnAsyncCall" },
+            new Type[] { Boolean.class },
+            null, null);
+
+    static final CommandSerializer STEP_OUT = new CommandSerializer("Debugger", "stepOut",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer STEP_OVER = new CommandSerializer("Debugger", "stepOver",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    private final SessionInvocationHandler handler;
+
+    DebuggerImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public void continueToLocation(final Location location) {
+        handler.invoke(CONTINUE_TO_LOCATION, new Object[] { location });
+    }
+
+    @Override
+    public void continueToLocation(final Location location,
+            final TargetCallFrames targetCallFrames) {
+        handler.invoke(CONTINUE_TO_LOCATION_1, new Object[] { location, targetCallFrames });
+    }
+
+    @Override
+    public void disable() {
+        handler.invoke(DISABLE, null);
+    }
+
+    @Override
+    public String enable() {
+        return (String) handler.invoke(ENABLE, null);
+    }
+
+    @Override
+    public EvaluateOnCallFrameResult evaluateOnCallFrame(final String callFrameId,
+            final String expression) {
+        return (EvaluateOnCallFrameResult) handler.invoke(EVALUATE_ON_CALL_FRAME, new Object[] { callFrameId, expression });
+    }
+
+    @Override
+    public EvaluateOnCallFrameResult evaluateOnCallFrame(final String callFrameId,
+            final String expression, final String objectGroup, final Boolean includeCommandLineAPI,
+            final Boolean silent, final Boolean returnByValue, final Boolean generatePreview,
+            final Boolean throwOnSideEffect, final Double timeout) {
+        return (EvaluateOnCallFrameResult) handler.invoke(EVALUATE_ON_CALL_FRAME_1, new Object[] { callFrameId, expression, objectGroup, includeCommandLineAPI, silent, returnByValue, generatePreview, throwOnSideEffect, timeout });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<BreakLocation> getPossibleBreakpoints(final Location start) {
+        return (List<BreakLocation>) handler.invoke(GET_POSSIBLE_BREAKPOINTS, new Object[] { start });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<BreakLocation> getPossibleBreakpoints(final Location start, final Location end,
+            final Boolean restrictToFunction) {
+        return (List<BreakLocation>) handler.invoke(GET_POSSIBLE_BREAKPOINTS_1, new Object[] { start, end, restrictToFunction });
+    }
+
+    @Override
+    public String getScriptSource(final String scriptId) {
+        return (String) handler.invoke(GET_SCRIPT_SOURCE, new Object[] { scriptId });
+    }
+
+    @Override
+    public StackTrace getStackTrace(final StackTraceId stackTraceId) {
+        return (StackTrace) handler.invoke(GET_STACK_TRACE, new Object[] { stackTraceId });
+    }
+
+    @Override
+    public void pause() {
+        handler.invoke(PAUSE, null);
+    }
+
+    @Override
+    public void pauseOnAsyncCall(final StackTraceId parentStackTraceId) {
+        handler.invoke(PAUSE_ON_ASYNC_CALL, new Object[] { parentStackTraceId });
+    }
+
+    @Override
+    public void removeBreakpoint(final String breakpointId) {
+        handler.invoke(REMOVE_BREAKPOINT, new Object[] { breakpointId });
+    }
+
+    @Override
+    public RestartFrameResult restartFrame(final String callFrameId) {
+        return (RestartFrameResult) handler.invoke(RESTART_FRAME, new Object[] { callFrameId });
+    }
+
+    @Override
+    public void resume() {
+        handler.invoke(RESUME, null);
+    }
+
+    @Override
+    public void scheduleStepIntoAsync() {
+        handler.invoke(SCHEDULE_STEP_INTO_ASYNC, null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<SearchMatch> searchInContent(final String scriptId, final String query) {
+        return (List<SearchMatch>) handler.invoke(SEARCH_IN_CONTENT, new Object[] { scriptId, query });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<SearchMatch> searchInContent(final String scriptId, final String query,
+            final Boolean caseSensitive, final Boolean isRegex) {
+        return (List<SearchMatch>) handler.invoke(SEARCH_IN_CONTENT_1, new Object[] { scriptId, query, caseSensitive, isRegex });
+    }
+
+    @Override
+    public void setAsyncCallStackDepth(final Integer maxDepth) {
+        handler.invoke(SET_ASYNC_CALL_STACK_DEPTH, new Object[] { maxDepth });
+    }
+
+    @Override
+    public void setBlackboxPatterns(final List<String> patterns) {
+        handler.invoke(SET_BLACKBOX_PATTERNS, new Object[] { patterns });
+    }
+
+    @Override
+    public void setBlackboxedRanges(final String scriptId, final List<ScriptPosition> positions) {
+        handler.invoke(SET_BLACKBOXED_RANGES, new Object[] { scriptId, positions });
+    }
+
+    @Override
+    public SetBreakpointResult setBreakpoint(final Location location) {
+        return (SetBreakpointResult) handler.invoke(SET_BREAKPOINT, new Object[] { location });
+    }
+
+    @Override
+    public SetBreakpointResult setBreakpoint(final Location location, final String condition) {
+        return (SetBreakpointResult) handler.invoke(SET_BREAKPOINT_1, new Object[] { location, condition });
+    }
+
+    @Override
+    public SetBreakpointByUrlResult setBreakpointByUrl(final Integer lineNumber) {
+        return (SetBreakpointByUrlResult) handler.invoke(SET_BREAKPOINT_BY_URL, new Object[] { lineNumber });
+    }
+
+    @Override
+    public SetBreakpointByUrlResult setBreakpointByUrl(final Integer lineNumber, final String url,
+            final String urlRegex, final String scriptHash, final Integer columnNumber,
+            final String condition) {
+        return (SetBreakpointByUrlResult) handler.invoke(SET_BREAKPOINT_BY_URL_1, new Object[] { lineNumber, url, urlRegex, scriptHash, columnNumber, condition });
+    }
+
+    @Override
+    public String setBreakpointOnFunctionCall(final String objectId) {
+        return (String) handler.invoke(SET_BREAKPOINT_ON_FUNCTION_CALL, new Object[] { objectId });
+    }
+
+    @Override
+    public String setBreakpointOnFunctionCall(final String objectId, final String condition) {
+        return (String) handler.invoke(SET_BREAKPOINT_ON_FUNCTION_CALL_1, new Object[] { objectId, condition });
+    }
+
+    @Override
+    public void setBreakpointsActive(final Boolean active) {
+        handler.invoke(SET_BREAKPOINTS_ACTIVE, new Object[] { active });
+    }
+
+    @Override
+    public void setPauseOnExceptions(final PauseOnExceptionState state) {
+        handler.invoke(SET_PAUSE_ON_EXCEPTIONS, new Object[] { state });
+    }
+
+    @Override
+    public void setReturnValue(final CallArgument newValue) {
+        handler.invoke(SET_RETURN_VALUE, new Object[] { newValue });
+    }
+
+    @Override
+    public SetScriptSourceResult setScriptSource(final String scriptId, final String scriptSource) {
+        return (SetScriptSourceResult) handler.invoke(SET_SCRIPT_SOURCE, new Object[] { scriptId, scriptSource });
+    }
+
+    @Override
+    public SetScriptSourceResult setScriptSource(final String scriptId, final String scriptSource,
+            final Boolean dryRun) {
+        return (SetScriptSourceResult) handler.invoke(SET_SCRIPT_SOURCE_1, new Object[] { scriptId, scriptSource, dryRun });
+    }
+
+    @Override
+    public void setSkipAllPauses(final Boolean skip) {
+        handler.invoke(SET_SKIP_ALL_PAUSES, new Object[] { skip });
+    }
+
+    @Override
+    public void setVariableValue(final Integer scopeNumber, final String variableName,
+            final CallArgument newValue, final String callFrameId) {
+        handler.invoke(SET_VARIABLE_VALUE, new Object[] { scopeNumber, variableName, newValue, callFrameId });
+    }
+
+    @Override
+    public void stepInto() {
+        handler.invoke(STEP_INTO, null);
+    }
+
+    @Override
+    public void stepInto(final Boolean breakOnAsyncCall) {
+        handler.invoke(STEP_INTO_1, new Object[] { breakOnAsyncCall });
+    }
+
+    @Override
+    public void stepOut() {
+        handler.invoke(STEP_OUT, null);
+    }
+
+    @Override
+    public void stepOver() {
+        handler.invoke(STEP_OVER, null);
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.lang.reflect.Type;
+
+import io.webfolder.cdp.command.DeviceOrientation;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class DeviceOrientationImpl implements DeviceOrientation {
+    static final CommandSerializer CLEAR_DEVICE_ORIENTATION_OVERRIDE = new CommandSerializer("DeviceOrientation", "clearDeviceOrientationOverride",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer SET_DEVICE_ORIENTATION_OVERRIDE = new CommandSerializer("DeviceOrientation", "setDeviceOrientationOverride",
+            new String[] { "alpha", "beta", "gamma" },
+            new Type[] { Double.class, Double.class, Double.class },
+            null, null);
+
+    private final SessionInvocationHandler handler;
+
+    DeviceOrientationImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public void clearDeviceOrientationOverride() {
+        handler.invoke(CLEAR_DEVICE_ORIENTATION_OVERRIDE, null);
+    }
+
+    @Override
+    public void setDeviceOrientationOverride(final Double alpha, final Double beta,
+            final Double gamma) {
+        handler.invoke(SET_DEVICE_ORIENTATION_OVERRIDE, new Object[] { alpha, beta, gamma });
+    }
+}
@@ -322,8 +322,7 @@ public interface Dom {
                     }
                 }
             }
-            getThis().releaseObject(pd.getValue().getObjectId());
-            getThis().releaseObject(objectId);
+            getThis().releaseObjects(pd.getValue().getObjectId(), objectId);
             return list;
         }
         getThis().releaseObject(objectId);
@@ -413,8 +412,7 @@ public interface Dom {
                         }
                     }
                 }
-                getThis().releaseObject(pd.getValue().getObjectId());
-                getThis().releaseObject(objectId);
+                getThis().releaseObjects(pd.getValue().getObjectId(), objectId);
                 return getThis();
             }
         }
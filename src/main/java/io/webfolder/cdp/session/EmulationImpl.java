@@ -0,0 +1,307 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.lang.reflect.Type;
+
+import io.webfolder.cdp.command.Emulation;
+import io.webfolder.cdp.type.constant.Platform;
+import io.webfolder.cdp.type.dom.RGBA;
+import io.webfolder.cdp.type.emulation.ScreenOrientation;
+import io.webfolder.cdp.type.emulation.VirtualTimePolicy;
+import io.webfolder.cdp.type.page.Viewport;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class EmulationImpl implements Emulation {
+    static final CommandSerializer CAN_EMULATE = new CommandSerializer("Emulation", "canEmulate",
+            new String[0],
+            new Type[0],
+            Boolean.class, "result");
+
+    static final CommandSerializer CLEAR_DEVICE_METRICS_OVERRIDE = new CommandSerializer("Emulation", "clearDeviceMetricsOverride",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer CLEAR_GEOLOCATION_OVERRIDE = new CommandSerializer("Emulation", "clearGeolocationOverride",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer RESET_PAGE_SCALE_FACTOR = new CommandSerializer("Emulation", "resetPageScaleFactor",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer SET_CPUTHROTTLING_RATE = new CommandSerializer("Emulation", "setCPUThrottlingRate",
+            new String[] { "rate" },
+            new Type[] { Double.class },
+            null, null);
+
+    static final CommandSerializer SET_DEFAULT_BACKGROUND_COLOR_OVERRIDE = new CommandSerializer("Emulation", "setDefaultBackgroundColorOverride",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer SET_DEFAULT_BACKGROUND_COLOR_OVERRIDE_1 = new CommandSerializer("Emulation", "setDefaultBackgroundColorOverride",
+            new String[] { "color" },
+            new Type[] { RGBA.class },
+            null, null);
+
+    static final CommandSerializer SET_DEVICE_METRICS_OVERRIDE = new CommandSerializer("Emulation", "setDeviceMetricsOverride",
+            new String[] { "width", "height", "deviceScaleFactor", "mobile" },
+            new Type[] { Integer.class, Integer.class, Double.class, Boolean.class },
+            null, null);
+
+    static final CommandSerializer SET_DEVICE_METRICS_OVERRIDE_1 = new CommandSerializer("Emulation", "setDeviceMetricsOverride",
+            new String[] { "width", "height", "deviceScaleFactor", "mobile", "scale", "screenWidth", "screenHeight", "positionX", "positionY", "dontSetVisibleSize", "screenOrientation", "viewport" },
+            new Type[] { Integer.class, Integer.class, Double.class, Boolean.class, Double.class, Integer.class, Integer.class, Integer.class, Integer.class, Boolean.class, ScreenOrientation.class, Viewport.class },
+            null, null);
+
+    static final CommandSerializer SET_DOCUMENT_COOKIE_DISABLED = new CommandSerializer("Emulation", "setDocumentCookieDisabled",
+            new String[] { "disabled" },
+            new Type[] { Boolean.class },
+            null, null);
+
+    static final CommandSerializer SET_EMIT_TOUCH_EVENTS_FOR_MOUSE = new CommandSerializer("Emulation", "setEmitTouchEventsForMouse",
+            new String[] { "enabled" },
+            new Type[] { Boolean.class },
+            null, null);
+
+    static final CommandSerializer SET_EMIT_TOUCH_EVENTS_FOR_MOUSE_1 = new CommandSerializer("Emulation", "setEmitTouchEventsForMouse",
+            new String[] { "enabled", "configuration" },
+            new Type[] { Boolean.class, Platform.class },
+            null, null);
+
+    static final CommandSerializer SET_EMULATED_MEDIA = new CommandSerializer("Emulation", "setEmulatedMedia",
+            new String[] { "media" },
+            new Type[] { String.class },
+            null, null);
+
+    static final CommandSerializer SET_GEOLOCATION_OVERRIDE = new CommandSerializer("Emulation", "setGeolocationOverride",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer SET_GEOLOCATION_OVERRIDE_1 = new CommandSerializer("Emulation", "setGeolocationOverride",
+            new String[] { "latitude", "longitude", "accuracy" },
+            new Type[] { Double.class, Double.class, Double.class },
+            null, null);
+
+    static final CommandSerializer SET_NAVIGATOR_OVERRIDES = new CommandSerializer("Emulation", "setNavigatorOverrides",
+            new String[] { "platform" },
+            new Type[] { String.class },
+            null, null);
+
+    static final CommandSerializer SET_PAGE_SCALE_FACTOR = new CommandSerializer("Emulation", "setPageScaleFactor",
+            new String[] { "pageScaleFactor" },
+            new Type[] { Double.class },
+            null, null);
+
+    static final CommandSerializer SET_SCRIPT_EXECUTION_DISABLED = new CommandSerializer("Emulation", "setScriptExecutionDisabled",
+            new String[] { "value" },
+            new Type[] { Boolean.class },
+            null, null);
+
+    static final CommandSerializer SET_SCROLLBARS_HIDDEN = new CommandSerializer("Emulation", "setScrollbarsHidden",
+            new String[] { "hidden" },
+            new Type[] { Boolean.class },
+            null, null);
+
+    static final CommandSerializer SET_TOUCH_EMULATION_ENABLED = new CommandSerializer("Emulation", "setTouchEmulationEnabled",
+            new String[] { "enabled" },
+            new Type[] { Boolean.class },
+            null, null);
+
+    static final CommandSerializer SET_TOUCH_EMULATION_ENABLED_1 = new CommandSerializer("Emulation", "setTouchEmulationEnabled",
+            new String[] { "enabled", "maxTouchPoints" },
+            new Type[] { Boolean.class, Integer.class },
+            null, null);
+
+    static final CommandSerializer SET_USER_AGENT_OVERRIDE = new CommandSerializer("Emulation", "setUserAgentOverride",
+            new String[] { "userAgent" },
+            new Type[] { String.class },
+            null, null);
+
+    static final CommandSerializer SET_USER_AGENT_OVERRIDE_1 = new CommandSerializer("Emulation", "setUserAgentOverride",
+            new String[] { "userAgent", "acceptLanguage", "platform" },
+            new Type[] { String.class, String.class, String.class },
+            null, null);
+
+    static final CommandSerializer SET_VIRTUAL_TIME_POLICY = new CommandSerializer("Emulation", "setVirtualTimePolicy",
+            new String[] { "policy" },
+            new Type[] { VirtualTimePolicy.class },
+            Double.class, "virtualTimeTicksBase");
+
+    static final CommandSerializer SET_VIRTUAL_TIME_POLICY_1 = new CommandSerializer("Emulation", "setVirtualTimePolicy",
+            new String[] { "policy", "budget", "maxVirtualTimeTaskStarvationCount", "waitForNavigation", "initialVirtualTime" },
+            new Type[] { VirtualTimePolicy.class, Double.class, Integer.class, Boolean.class, Double.class },
+            Double.class, "virtualTimeTicksBase");
+
+    static final CommandSerializer SET_VISIBLE_SIZE = new CommandSerializer("Emulation", "setVisibleSize",
+            new String[] { "width", "height" },
+            new Type[] { Integer.class, Integer.class },
+            null, null);
+
+    private final SessionInvocationHandler handler;
+
+    EmulationImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public Boolean canEmulate() {
+        return (Boolean) handler.invoke(CAN_EMULATE, null);
+    }
+
+    @Override
+    public void clearDeviceMetricsOverride() {
+        handler.invoke(CLEAR_DEVICE_METRICS_OVERRIDE, null);
+    }
+
+    @Override
+    public void clearGeolocationOverride() {
+        handler.invoke(CLEAR_GEOLOCATION_OVERRIDE, null);
+    }
+
+    @Override
+    public void resetPageScaleFactor() {
+        handler.invoke(RESET_PAGE_SCALE_FACTOR, null);
+    }
+
+    @Override
+    public void setCPUThrottlingRate(final Double rate) {
+        handler.invoke(SET_CPUTHROTTLING_RATE, new Object[] { rate });
+    }
+
+    @Override
+    public void setDefaultBackgroundColorOverride() {
+        handler.invoke(SET_DEFAULT_BACKGROUND_COLOR_OVERRIDE, null);
+    }
+
+    @Override
+    public void setDefaultBackgroundColorOverride(final RGBA color) {
+        handler.invoke(SET_DEFAULT_BACKGROUND_COLOR_OVERRIDE_1, new Object[] { color });
+    }
+
+    @Override
+    public void setDeviceMetricsOverride(final Integer width, final Integer height,
+            final Double deviceScaleFactor, final Boolean mobile) {
+        handler.invoke(SET_DEVICE_METRICS_OVERRIDE, new Object[] { width, height, deviceScaleFactor, mobile });
+    }
+
+    @Override
+    public void setDeviceMetricsOverride(final Integer width, final Integer height,
+            final Double deviceScaleFactor, final Boolean mobile, final Double scale,
+            final Integer screenWidth, final Integer screenHeight, final Integer positionX,
+            final Integer positionY, final Boolean dontSetVisibleSize,
+            final ScreenOrientation screenOrientation, final Viewport viewport) {
+        handler.invoke(SET_DEVICE_METRICS_OVERRIDE_1, new Object[] { width, height, deviceScaleFactor, mobile, scale, screenWidth, screenHeight, positionX, positionY, dontSetVisibleSize, screenOrientation, viewport });
+    }
+
+    @Override
+    public void setDocumentCookieDisabled(final Boolean disabled) {
+        handler.invoke(SET_DOCUMENT_COOKIE_DISABLED, new Object[] { disabled });
+    }
+
+    @Override
+    public void setEmitTouchEventsForMouse(final Boolean enabled) {
+        handler.invoke(SET_EMIT_TOUCH_EVENTS_FOR_MOUSE, new Object[] { enabled });
+    }
+
+    @Override
+    public void setEmitTouchEventsForMouse(final Boolean enabled, final Platform configuration) {
+        handler.invoke(SET_EMIT_TOUCH_EVENTS_FOR_MOUSE_1, new Object[] { enabled, configuration });
+    }
+
+    @Override
+    public void setEmulatedMedia(final String media) {
+        handler.invoke(SET_EMULATED_MEDIA, new Object[] { media });
+    }
+
+    @Override
+    public void setGeolocationOverride() {
+        handler.invoke(SET_GEOLOCATION_OVERRIDE, null);
+    }
+
+    @Override
+    public void setGeolocationOverride(final Double latitude, final Double longitude,
+            final Double accuracy) {
+        handler.invoke(SET_GEOLOCATION_OVERRIDE_1, new Object[] { latitude, longitude, accuracy });
+    }
+
+    @Override
+    public void setNavigatorOverrides(final String platform) {
+        handler.invoke(SET_NAVIGATOR_OVERRIDES, new Object[] { platform });
+    }
+
+    @Override
+    public void setPageScaleFactor(final Double pageScaleFactor) {
+        handler.invoke(SET_PAGE_SCALE_FACTOR, new Object[] { pageScaleFactor });
+    }
+
+    @Override
+    public void setScriptExecutionDisabled(final Boolean value) {
+        handler.invoke(SET_SCRIPT_EXECUTION_DISABLED, new Object[] { value });
+    }
+
+    @Override
+    public void setScrollbarsHidden(final Boolean hidden) {
+        handler.invoke(SET_SCROLLBARS_HIDDEN, new Object[] { hidden });
+    }
+
+    @Override
+    public void setTouchEmulationEnabled(final Boolean enabled) {
+        handler.invoke(SET_TOUCH_EMULATION_ENABLED, new Object[] { enabled });
+    }
+
+    @Override
+    public void setTouchEmulationEnabled(final Boolean enabled, final Integer maxTouchPoints) {
+        handler.invoke(SET_TOUCH_EMULATION_ENABLED_1, new Object[] { enabled, maxTouchPoints });
+    }
+
+    @Override
+    public void setUserAgentOverride(final String userAgent) {
+        handler.invoke(SET_USER_AGENT_OVERRIDE, new Object[] { userAgent });
+    }
+
+    @Override
+    public void setUserAgentOverride(final String userAgent, final String acceptLanguage,
+            final String platform) {
+        handler.invoke(SET_USER_AGENT_OVERRIDE_1, new Object[] { userAgent, acceptLanguage, platform });
+    }
+
+    @Override
+    public Double setVirtualTimePolicy(final VirtualTimePolicy policy) {
+        return (Double) handler.invoke(SET_VIRTUAL_TIME_POLICY, new Object[] { policy });
+    }
+
+    @Override
+    public Double setVirtualTimePolicy(final VirtualTimePolicy policy, final Double budget,
+            final Integer maxVirtualTimeTaskStarvationCount, final Boolean waitForNavigation,
+            final Double initialVirtualTime) {
+        return (Double) handler.invoke(SET_VIRTUAL_TIME_POLICY_1, new Object[] { policy, budget, maxVirtualTimeTaskStarvationCount, waitForNavigation, initialVirtualTime });
+    }
+
+    @Override
+    public void setVisibleSize(final Integer width, final Integer height) {
+        handler.invoke(SET_VISIBLE_SIZE, new Object[] { width, height });
+    }
+}
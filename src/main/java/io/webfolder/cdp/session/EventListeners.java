@@ -0,0 +1,209 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import io.webfolder.cdp.event.Events;
+import io.webfolder.cdp.listener.AbstractListener;
+import io.webfolder.cdp.listener.EventListener;
+import io.webfolder.cdp.listener.RawEventListener;
+
+/**
+ * Event listeners of a session.
+ * 
+ * Listeners which are registered for a specific event are kept in an <code>EnumMap</code>,
+ * listeners which are registered with {@link Session#addEventListener(EventListener)} receive all events.
+ * {@link RawEventListener}s receive a {@link RawEvent} view instead of the decoded event.
+ * {@link WSAdapter} does not decode an event unless it is subscribed.
+ */
+class EventListeners {
+
+    private final List<EventListener> all = new ArrayList<>();
+
+    private final Map<Events, List<EventListener>> typed = new EnumMap<>(Events.class);
+
+    private final Map<Events, List<RawEventListener>> raw = new EnumMap<>(Events.class);
+
+    // read by the decoder without locking
+    private final AtomicIntegerArray subscriptions = new AtomicIntegerArray(Events.values().length);
+
+    private final AtomicIntegerArray rawSubscriptions = new AtomicIntegerArray(Events.values().length);
+
+    private volatile int allCount;
+
+    // registrations restored by reset()
+    private EventListeners marked;
+
+    static class TypedListener implements EventListener {
+
+        private final AbstractListener<Object> listener;
+
+        @SuppressWarnings("unchecked")
+        TypedListener(final AbstractListener<?> listener) {
+            this.listener = (AbstractListener<Object>) listener;
+        }
+
+        @Override
+        public void onEvent(final Events event, final Object value) {
+            listener.onEvent(value);
+        }
+    }
+
+    synchronized void add(final EventListener listener) {
+        all.add(listener);
+        allCount = all.size();
+    }
+
+    synchronized void remove(final EventListener listener) {
+        if (all.remove(listener)) {
+            allCount = all.size();
+        }
+    }
+
+    synchronized void add(final Events event, final EventListener listener) {
+        List<EventListener> list = typed.get(event);
+        if (list == null) {
+            list = new ArrayList<>(2);
+            typed.put(event, list);
+        }
+        list.add(listener);
+        subscriptions.incrementAndGet(event.ordinal());
+    }
+
+    synchronized void remove(final Events event, final EventListener listener) {
+        List<EventListener> list = typed.get(event);
+        if (list != null && list.remove(listener)) {
+            subscriptions.decrementAndGet(event.ordinal());
+        }
+    }
+
+    synchronized void remove(final Events event, final AbstractListener<?> listener) {
+        List<EventListener> list = typed.get(event);
+        if (list == null) {
+            return;
+        }
+        for (int i = 0; i < list.size(); i++) {
+            EventListener next = list.get(i);
+            if (next instanceof TypedListener && ((TypedListener) next).listener == listener) {
+                list.remove(i);
+                subscriptions.decrementAndGet(event.ordinal());
+                return;
+            }
+        }
+    }
+
+    synchronized void add(final Events event, final RawEventListener listener) {
+        List<RawEventListener> list = raw.get(event);
+        if (list == null) {
+            list = new ArrayList<>(2);
+            raw.put(event, list);
+        }
+        list.add(listener);
+        rawSubscriptions.incrementAndGet(event.ordinal());
+    }
+
+    synchronized void remove(final Events event, final RawEventListener listener) {
+        List<RawEventListener> list = raw.get(event);
+        if (list != null && list.remove(listener)) {
+            rawSubscriptions.decrementAndGet(event.ordinal());
+        }
+    }
+
+    boolean isRawSubscribed(final Events event) {
+        return rawSubscriptions.get(event.ordinal()) > 0;
+    }
+
+    boolean isSubscribed(final Events event) {
+        return allCount > 0 || subscriptions.get(event.ordinal()) > 0;
+    }
+
+    /**
+     * Copies the listeners of <code>event</code> to <code>target</code>,
+     * listeners are invoked without holding the lock so they can add or remove listeners.
+     */
+    synchronized void copy(final Events event, final List<EventListener> target) {
+        List<EventListener> list = typed.get(event);
+        if (list != null) {
+            target.addAll(list);
+        }
+        target.addAll(all);
+    }
+
+    synchronized void copyRaw(final Events event, final List<RawEventListener> target) {
+        List<RawEventListener> list = raw.get(event);
+        if (list != null) {
+            target.addAll(list);
+        }
+    }
+
+    /**
+     * Remembers the current registrations, the listeners which are added later are removed by {@link #reset()}.
+     */
+    synchronized void mark() {
+        marked = new EventListeners();
+        marked.all.addAll(all);
+        for (Map.Entry<Events, List<EventListener>> next : typed.entrySet()) {
+            marked.typed.put(next.getKey(), new ArrayList<>(next.getValue()));
+        }
+        for (Map.Entry<Events, List<RawEventListener>> next : raw.entrySet()) {
+            marked.raw.put(next.getKey(), new ArrayList<>(next.getValue()));
+        }
+    }
+
+    /**
+     * Restores the registrations of {@link #mark()}, removes all listeners if it is not called.
+     */
+    synchronized void reset() {
+        EventListeners marked = this.marked;
+        clear();
+        this.marked = marked;
+        if (marked == null) {
+            return;
+        }
+        for (EventListener next : marked.all) {
+            add(next);
+        }
+        for (Map.Entry<Events, List<EventListener>> next : marked.typed.entrySet()) {
+            for (EventListener listener : next.getValue()) {
+                add(next.getKey(), listener);
+            }
+        }
+        for (Map.Entry<Events, List<RawEventListener>> next : marked.raw.entrySet()) {
+            for (RawEventListener listener : next.getValue()) {
+                add(next.getKey(), listener);
+            }
+        }
+    }
+
+    synchronized void clear() {
+        marked = null;
+        all.clear();
+        typed.clear();
+        raw.clear();
+        allCount = 0;
+        for (int i = 0; i < subscriptions.length(); i++) {
+            subscriptions.set(i, 0);
+            rawSubscriptions.set(i, 0);
+        }
+    }
+}
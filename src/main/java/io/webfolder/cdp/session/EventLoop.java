@@ -0,0 +1,459 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.google.gson.Gson;
+
+import io.webfolder.cdp.event.Events;
+import io.webfolder.cdp.listener.EventListener;
+import io.webfolder.cdp.listener.RawEventListener;
+import io.webfolder.cdp.logger.CdpLogger;
+
+/**
+ * Delivers the events of a session to its listeners in protocol order.
+ * 
+ * Events are queued in a ring buffer and drained by a single consumer.
+ * The consumer is a task of the executor which is submitted only when the loop is idle,
+ * so a burst of events costs one task instead of one task per event and listener.
+ * 
+ * The number of queued events of a type is limited by its {@link EventPolicy}.
+ * Dropped events leave an empty slot in the ring which is skipped by the consumer.
+ */
+class EventLoop implements Runnable {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    // events delivered by a task before yielding the thread to other sessions
+    private static final int MAX_DRAIN = 1024;
+
+    private static final int EVENT_COUNT = Events.values().length;
+
+    private static final int MIN_BUFFER_SIZE = 4 * 1024;
+
+    // larger copies of the raw messages are left to the garbage collector
+    private static final int MAX_POOLED_BUFFER_SIZE = 64 * 1024;
+
+    private static final int MAX_POOLED_BUFFERS = 16;
+
+    private final EventListeners listeners;
+
+    // used only by the consumer
+    private final List<EventListener> dispatching = new ArrayList<>();
+
+    private final List<RawEventListener> dispatchingRaw = new ArrayList<>();
+
+    // flyweight view, reused for every raw event
+    private final RawEvent rawEvent;
+
+    // copies of the raw messages, recycled after the raw listeners return
+    private final ArrayDeque<byte[]> buffers = new ArrayDeque<>();
+
+    private final Executor executor;
+
+    private final CdpLogger log;
+
+    private Events[] events = new Events[INITIAL_CAPACITY];
+
+    private Object[] values = new Object[INITIAL_CAPACITY];
+
+    // true if the value is the raw message of the event
+    private boolean[] raws = new boolean[INITIAL_CAPACITY];
+
+    // number of the encoded bytes of the raw message
+    private int[] lengths = new int[INITIAL_CAPACITY];
+
+    // coalescing key of the event, null if the event is not coalesced
+    private Object[] keys = new Object[INITIAL_CAPACITY];
+
+    private int head;
+
+    // sequence number of the head slot, sequence numbers locate coalesced events after the ring grows
+    private long headSeq;
+
+    // number of slots including the dropped events
+    private int size;
+
+    // number of the events waiting to be delivered
+    private int live;
+
+    private final int[] queued = new int[EVENT_COUNT];
+
+    private final EventPolicy[] policies = new EventPolicy[EVENT_COUNT];
+
+    private final Map<Events, Map<Object, Long>> coalescing = new EnumMap<>(Events.class);
+
+    private final AtomicLongArray dropped = new AtomicLongArray(EVENT_COUNT);
+
+    private final AtomicLongArray coalesced = new AtomicLongArray(EVENT_COUNT);
+
+    private int waiters;
+
+    private boolean running;
+
+    private boolean closed;
+
+    EventLoop(
+            final EventListeners listeners,
+            final Executor executor,
+            final Gson gson,
+            final CdpLogger log) {
+        this.listeners = listeners;
+        this.executor  = executor;
+        this.rawEvent  = new RawEvent(gson);
+        this.log       = log;
+    }
+
+    void post(final Events event, final Object value) {
+        post(event, value, false, 0);
+    }
+
+    /**
+     * @param message message text, delivered to the {@link RawEventListener}s
+     */
+    void postRaw(final Events event, final String message) {
+        post(event, message, true, message.length());
+    }
+
+    /**
+     * Copies the UTF-8 encoded message into a pooled buffer,
+     * the buffer of the caller is reused for the next message.
+     */
+    void postRaw(final Events event, final byte[] message, final int offset, final int length) {
+        byte[] buffer = borrow(length);
+        System.arraycopy(message, offset, buffer, 0, length);
+        if ( ! post(event, buffer, true, length) ) {
+            recycle(buffer);
+        }
+    }
+
+    /**
+     * @return <code>false</code> if the event is dropped
+     */
+    private boolean post(final Events event, final Object value, final boolean raw, final int length) {
+        boolean schedule;
+        synchronized (this) {
+            if (closed) {
+                return false;
+            }
+            int ordinal = event.ordinal();
+            Object key = null;
+            EventPolicy policy = policies[ordinal];
+            if (policy != null) {
+                switch (policy.getType()) {
+                    case Coalesce:
+                        if ( ! raw ) {
+                            key = policy.getKey(value);
+                            Long seq = coalescing.get(event).get(key);
+                            if (seq != null) {
+                                // keeps the position of the queued event
+                                values[slot(seq)] = value;
+                                coalesced.incrementAndGet(ordinal);
+                                return true;
+                            }
+                        }
+                        // distinct keys are limited like the other policies
+                        if (queued[ordinal] >= policy.getCapacity()) {
+                            removeOldest(event);
+                            dropped.incrementAndGet(ordinal);
+                        }
+                    break;
+                    case DropNewest:
+                        if (queued[ordinal] >= policy.getCapacity()) {
+                            dropped.incrementAndGet(ordinal);
+                            return false;
+                        }
+                    break;
+                    case DropOldest:
+                        if (queued[ordinal] >= policy.getCapacity()) {
+                            removeOldest(event);
+                            dropped.incrementAndGet(ordinal);
+                        }
+                    break;
+                    case Block:
+                        if ( ! await(event, policy) ) {
+                            return false;
+                        }
+                    break;
+                }
+            }
+            if (size == events.length) {
+                grow();
+            }
+            int tail = (head + size) & (events.length - 1);
+            events[tail] = event;
+            values[tail] = value;
+            raws[tail]    = raw;
+            lengths[tail] = length;
+            keys[tail]    = key;
+            if (key != null) {
+                coalescing.get(event).put(key, headSeq + size);
+            }
+            size += 1;
+            live += 1;
+            queued[ordinal] += 1;
+            schedule = ! running;
+            running  = true;
+        }
+        if (schedule) {
+            schedule();
+        }
+        return true;
+    }
+
+    private synchronized byte[] borrow(final int length) {
+        byte[] buffer = buffers.poll();
+        if (buffer == null || buffer.length < length) {
+            buffer = new byte[Math.max(length, MIN_BUFFER_SIZE)];
+        }
+        return buffer;
+    }
+
+    private synchronized void recycle(final byte[] buffer) {
+        if (buffer.length <= MAX_POOLED_BUFFER_SIZE && buffers.size() < MAX_POOLED_BUFFERS && ! closed) {
+            buffers.push(buffer);
+        }
+    }
+
+    /**
+     * @return <code>false</code> if the loop is closed while waiting
+     */
+    private boolean await(final Events event, final EventPolicy policy) {
+        int ordinal = event.ordinal();
+        while (queued[ordinal] >= policy.getCapacity() && ! closed && policies[ordinal] == policy) {
+            waiters += 1;
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                // the event is queued over the capacity
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                waiters -= 1;
+            }
+        }
+        return ! closed;
+    }
+
+    private int slot(final long seq) {
+        return (head + (int) (seq - headSeq)) & (events.length - 1);
+    }
+
+    private void removeOldest(final Events event) {
+        for (int i = 0; i < size; i++) {
+            int slot = (head + i) & (events.length - 1);
+            if (events[slot] == event) {
+                remove(slot);
+                return;
+            }
+        }
+    }
+
+    private void remove(final int slot) {
+        Events event = events[slot];
+        if (raws[slot] && values[slot] instanceof byte[]) {
+            recycle((byte[]) values[slot]);
+        }
+        if (keys[slot] != null) {
+            Map<Object, Long> index = coalescing.get(event);
+            if (index != null) {
+                index.remove(keys[slot]);
+            }
+        }
+        events[slot] = null;
+        values[slot] = null;
+        keys[slot]   = null;
+        live -= 1;
+        queued[event.ordinal()] -= 1;
+    }
+
+    private void grow() {
+        int capacity = events.length * 2;
+        Events[]  newEvents  = new Events[capacity];
+        Object[]  newValues  = new Object[capacity];
+        boolean[] newRaws    = new boolean[capacity];
+        int[]     newLengths = new int[capacity];
+        Object[]  newKeys    = new Object[capacity];
+        for (int i = 0; i < size; i++) {
+            int index = (head + i) & (events.length - 1);
+            newEvents[i]  = events[index];
+            newValues[i]  = values[index];
+            newRaws[i]    = raws[index];
+            newLengths[i] = lengths[index];
+            newKeys[i]    = keys[index];
+        }
+        events  = newEvents;
+        values  = newValues;
+        raws    = newRaws;
+        lengths = newLengths;
+        keys    = newKeys;
+        head    = 0;
+    }
+
+    private void schedule() {
+        try {
+            executor.execute(this);
+        } catch (RejectedExecutionException e) {
+            // thread pool is terminated, events can not be delivered anymore
+            synchronized (this) {
+                running = false;
+                clear();
+            }
+        }
+    }
+
+    @Override
+    public void run() {
+        for (int drained = 0; drained < MAX_DRAIN; drained++) {
+            Events  event  = null;
+            Object  value  = null;
+            boolean raw    = false;
+            int     length = 0;
+            synchronized (this) {
+                while (event == null) {
+                    if (size == 0) {
+                        running = false;
+                        return;
+                    }
+                    if (events[head] != null) {
+                        event  = events[head];
+                        value  = values[head];
+                        raw    = raws[head];
+                        length = lengths[head];
+                        // the buffer of the raw message is recycled after the dispatch
+                        values[head] = null;
+                        remove(head);
+                    }
+                    head     = (head + 1) & (events.length - 1);
+                    headSeq += 1;
+                    size    -= 1;
+                }
+                if (waiters > 0) {
+                    notifyAll();
+                }
+            }
+            if (raw) {
+                dispatchRaw(event, value, length);
+            } else {
+                dispatch(event, value);
+            }
+        }
+        // keeps running flag, the next task continues from where this one left off
+        schedule();
+    }
+
+    private void dispatch(final Events event, final Object value) {
+        listeners.copy(event, dispatching);
+        try {
+            for (int i = 0; i < dispatching.size(); i++) {
+                try {
+                    dispatching.get(i).onEvent(event, value);
+                } catch (RuntimeException e) {
+                    log.error(e.getMessage(), e);
+                }
+            }
+        } finally {
+            dispatching.clear();
+        }
+    }
+
+    private void dispatchRaw(final Events event, final Object message, final int length) {
+        listeners.copyRaw(event, dispatchingRaw);
+        rawEvent.reset(event, message, length);
+        try {
+            for (int i = 0; i < dispatchingRaw.size(); i++) {
+                try {
+                    dispatchingRaw.get(i).onEvent(rawEvent);
+                } catch (RuntimeException e) {
+                    log.error(e.getMessage(), e);
+                }
+            }
+        } finally {
+            rawEvent.reset(null, null, 0);
+            dispatchingRaw.clear();
+            if (message instanceof byte[]) {
+                recycle((byte[]) message);
+            }
+        }
+    }
+
+    synchronized void setPolicy(final Events event, final EventPolicy policy) {
+        policies[event.ordinal()] = policy;
+        if (policy != null && EventPolicy.Type.Coalesce.equals(policy.getType())) {
+            if ( ! coalescing.containsKey(event) ) {
+                coalescing.put(event, new HashMap<>());
+            }
+        } else {
+            Map<Object, Long> index = coalescing.remove(event);
+            if (index != null) {
+                for (Long seq : index.values()) {
+                    keys[slot(seq)] = null;
+                }
+            }
+        }
+        // blocked producers re-evaluate the new policy
+        notifyAll();
+    }
+
+    long getDroppedCount(final Events event) {
+        return dropped.get(event.ordinal());
+    }
+
+    long getCoalescedCount(final Events event) {
+        return coalesced.get(event.ordinal());
+    }
+
+    synchronized void close() {
+        closed = true;
+        clear();
+        buffers.clear();
+        notifyAll();
+    }
+
+    private void clear() {
+        for (int i = 0; i < events.length; i++) {
+            events[i] = null;
+            values[i] = null;
+            keys[i]   = null;
+        }
+        for (Map<Object, Long> index : coalescing.values()) {
+            index.clear();
+        }
+        Arrays.fill(queued, 0);
+        head = 0;
+        size = 0;
+        live = 0;
+    }
+
+    /**
+     * @return number of the events waiting to be delivered
+     */
+    synchronized int size() {
+        return live;
+    }
+}
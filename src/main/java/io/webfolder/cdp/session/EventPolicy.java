@@ -0,0 +1,118 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.util.function.Function;
+
+import io.webfolder.cdp.exception.CdpException;
+
+/**
+ * Limits the number of events of a type which are waiting to be delivered to the listeners of a session.
+ * 
+ * <pre>
+ * session.setEventPolicy(NetworkDataReceived, EventPolicy.dropOldest(1000));
+ * session.setEventPolicy(DOMChildNodeCountUpdated,
+ *             EventPolicy.coalesce(ChildNodeCountUpdated.class, ChildNodeCountUpdated::getNodeId, 1000));
+ * </pre>
+ * 
+ * @see Session#setEventPolicy(io.webfolder.cdp.event.Events, EventPolicy)
+ */
+public final class EventPolicy {
+
+    enum Type {
+        Block,
+        DropOldest,
+        DropNewest,
+        Coalesce
+    }
+
+    private final Type type;
+
+    private final int capacity;
+
+    private final Function<Object, ?> key;
+
+    private EventPolicy(final Type type, final int capacity, final Function<Object, ?> key) {
+        if (capacity <= 0) {
+            throw new CdpException("capacity must be greater than zero");
+        }
+        this.type     = type;
+        this.capacity = capacity;
+        this.key      = key;
+    }
+
+    /**
+     * Blocks the thread which reads the connection until a queued event is delivered.
+     * 
+     * Accepted only by a session which reads its connection alone, a page session of
+     * {@link RoutingMode#Dedicated} without a {@link SelectorGroup}. The connection of the other
+     * sessions is shared by all sessions of the browser and must not be stalled by one of them.
+     * Responses of the commands are not received while the reading thread is blocked,
+     * listeners of the event must not send commands synchronously.
+     */
+    public static EventPolicy block(final int capacity) {
+        return new EventPolicy(Type.Block, capacity, null);
+    }
+
+    /**
+     * Discards the oldest queued event to make room for the received one.
+     */
+    public static EventPolicy dropOldest(final int capacity) {
+        return new EventPolicy(Type.DropOldest, capacity, null);
+    }
+
+    /**
+     * Discards the received event if the queue is full.
+     */
+    public static EventPolicy dropNewest(final int capacity) {
+        return new EventPolicy(Type.DropNewest, capacity, null);
+    }
+
+    /**
+     * Replaces the queued event which has the same key with the received one,
+     * only the latest event of a key is delivered. If the queue is full with the events of distinct keys
+     * the oldest one is discarded.
+     * 
+     * Events which are delivered to a {@link io.webfolder.cdp.listener.RawEventListener} are not coalesced.
+     * 
+     * @param type the event class
+     * @param key extracts the key of the event, e.g. <code>nodeId</code>
+     * @param capacity maximum number of the queued events
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> EventPolicy coalesce(final Class<T> type, final Function<T, ?> key, final int capacity) {
+        return new EventPolicy(Type.Coalesce, capacity, (Function<Object, ?>) key);
+    }
+
+    Type getType() {
+        return type;
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    Object getKey(final Object value) {
+        return key.apply(value);
+    }
+
+    @Override
+    public String toString() {
+        return "EventPolicy [type=" + type + ", capacity=" + capacity + "]";
+    }
+}
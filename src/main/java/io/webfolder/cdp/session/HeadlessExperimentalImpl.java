@@ -0,0 +1,76 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.lang.reflect.Type;
+
+import io.webfolder.cdp.command.HeadlessExperimental;
+import io.webfolder.cdp.type.headlessexperimental.BeginFrameResult;
+import io.webfolder.cdp.type.headlessexperimental.ScreenshotParams;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class HeadlessExperimentalImpl implements HeadlessExperimental {
+    static final CommandSerializer BEGIN_FRAME = new CommandSerializer("HeadlessExperimental", "beginFrame",
+            new String[0],
+            new Type[0],
+            BeginFrameResult.class, null);
+
+    static final CommandSerializer BEGIN_FRAME_1 = new CommandSerializer("HeadlessExperimental", "beginFrame",
+            new String[] { "frameTimeTicks", "interval", "noDisplayUpdates", "screenshot" },
+            new Type[] { Double.class, Double.class, Boolean.class, ScreenshotParams.class },
+            BeginFrameResult.class, null);
+
+    static final CommandSerializer DISABLE = new CommandSerializer("HeadlessExperimental", "disable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer ENABLE = new CommandSerializer("HeadlessExperimental", "enable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    private final SessionInvocationHandler handler;
+
+    HeadlessExperimentalImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public BeginFrameResult beginFrame() {
+        return (BeginFrameResult) handler.invoke(BEGIN_FRAME, null);
+    }
+
+    @Override
+    public BeginFrameResult beginFrame(final Double frameTimeTicks, final Double interval,
+            final Boolean noDisplayUpdates, final ScreenshotParams screenshot) {
+        return (BeginFrameResult) handler.invoke(BEGIN_FRAME_1, new Object[] { frameTimeTicks, interval, noDisplayUpdates, screenshot });
+    }
+
+    @Override
+    public void disable() {
+        handler.invoke(DISABLE, null);
+    }
+
+    @Override
+    public void enable() {
+        handler.invoke(ENABLE, null);
+    }
+}
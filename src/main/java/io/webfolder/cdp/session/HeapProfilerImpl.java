@@ -0,0 +1,205 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.lang.reflect.Type;
+
+import io.webfolder.cdp.command.HeapProfiler;
+import io.webfolder.cdp.type.heapprofiler.SamplingHeapProfile;
+import io.webfolder.cdp.type.runtime.RemoteObject;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class HeapProfilerImpl implements HeapProfiler {
+    static final CommandSerializer ADD_INSPECTED_HEAP_OBJECT = new CommandSerializer("HeapProfiler", "addInspectedHeapObject",
+            new String[] { "heapObjectId" },
+            new Type[] { String.class },
+            null, null);
+
+    static final CommandSerializer COLLECT_GARBAGE = new CommandSerializer("HeapProfiler", "collectGarbage",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer DISABLE = new CommandSerializer("HeapProfiler", "disable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer ENABLE = new CommandSerializer("HeapProfiler", "enable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer GET_HEAP_OBJECT_ID = new CommandSerializer("HeapProfiler", "getHeapObjectId",
+            new String[] { "objectId" },
+            new Type[] { String.class },
+            String.class, "heapSnapshotObjectId");
+
+    static final CommandSerializer GET_OBJECT_BY_HEAP_OBJECT_ID = new CommandSerializer("HeapProfiler", "getObjectByHeapObjectId",
+            new String[] { "objectId" },
+            new Type[] { String.class },
+            RemoteObject.class, "result");
+
+    static final CommandSerializer GET_OBJECT_BY_HEAP_OBJECT_ID_1 = new CommandSerializer("HeapProfiler", "getObjectByHeapObjectId",
+            new String[] { "objectId", "objectGroup" },
+            new Type[] { String.class, String.class },
+            RemoteObject.class, "result");
+
+    static final CommandSerializer GET_SAMPLING_PROFILE = new CommandSerializer("HeapProfiler", "getSamplingProfile",
+            new String[0],
+            new Type[0],
+            SamplingHeapProfile.class, "profile");
+
+    static final CommandSerializer START_SAMPLING = new CommandSerializer("HeapProfiler", "startSampling",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer START_SAMPLING_1 = new CommandSerializer("HeapProfiler", "startSampling",
+            new String[] { "samplingInterval" },
+            new Type[] { Double.class },
+            null, null);
+
+    static final CommandSerializer START_TRACKING_HEAP_OBJECTS = new CommandSerializer("HeapProfiler", "startTrackingHeapObjects",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer START_TRACKING_HEAP_OBJECTS_1 = new CommandSerializer("HeapProfiler", "startTrackingHeapObjects",
+            new String[] { "trackAllocations" },
+            new Type[] { Boolean.class },
+            null, null);
+
+    static final CommandSerializer STOP_SAMPLING = new CommandSerializer("HeapProfiler", "stopSampling",
+            new String[0],
+            new Type[0],
+            SamplingHeapProfile.class, "profile");
+
+    static final CommandSerializer STOP_TRACKING_HEAP_OBJECTS = new CommandSerializer("HeapProfiler", "stopTrackingHeapObjects",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer STOP_TRACKING_HEAP_OBJECTS_1 = new CommandSerializer("HeapProfiler", "stopTrackingHeapObjects",
+            new String[] { "reportProgress" },
+            new Type[] { Boolean.class },
+            null, null);
+
+    static final CommandSerializer TAKE_HEAP_SNAPSHOT = new CommandSerializer("HeapProfiler", "takeHeapSnapshot",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer TAKE_HEAP_SNAPSHOT_1 = new CommandSerializer("HeapProfiler", "takeHeapSnapshot",
+            new String[] { "reportProgress" },
+            new Type[] { Boolean.class },
+            null, null);
+
+    private final SessionInvocationHandler handler;
+
+    HeapProfilerImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public void addInspectedHeapObject(final String heapObjectId) {
+        handler.invoke(ADD_INSPECTED_HEAP_OBJECT, new Object[] { heapObjectId });
+    }
+
+    @Override
+    public void collectGarbage() {
+        handler.invoke(COLLECT_GARBAGE, null);
+    }
+
+    @Override
+    public void disable() {
+        handler.invoke(DISABLE, null);
+    }
+
+    @Override
+    public void enable() {
+        handler.invoke(ENABLE, null);
+    }
+
+    @Override
+    public String getHeapObjectId(final String objectId) {
+        return (String) handler.invoke(GET_HEAP_OBJECT_ID, new Object[] { objectId });
+    }
+
+    @Override
+    public RemoteObject getObjectByHeapObjectId(final String objectId) {
+        return (RemoteObject) handler.invoke(GET_OBJECT_BY_HEAP_OBJECT_ID, new Object[] { objectId });
+    }
+
+    @Override
+    public RemoteObject getObjectByHeapObjectId(final String objectId, final String objectGroup) {
+        return (RemoteObject) handler.invoke(GET_OBJECT_BY_HEAP_OBJECT_ID_1, new Object[] { objectId, objectGroup });
+    }
+
+    @Override
+    public SamplingHeapProfile getSamplingProfile() {
+        return (SamplingHeapProfile) handler.invoke(GET_SAMPLING_PROFILE, null);
+    }
+
+    @Override
+    public void startSampling() {
+        handler.invoke(START_SAMPLING, null);
+    }
+
+    @Override
+    public void startSampling(final Double samplingInterval) {
+        handler.invoke(START_SAMPLING_1, new Object[] { samplingInterval });
+    }
+
+    @Override
+    public void startTrackingHeapObjects() {
+        handler.invoke(START_TRACKING_HEAP_OBJECTS, null);
+    }
+
+    @Override
+    public void startTrackingHeapObjects(final Boolean trackAllocations) {
+        handler.invoke(START_TRACKING_HEAP_OBJECTS_1, new Object[] { trackAllocations });
+    }
+
+    @Override
+    public SamplingHeapProfile stopSampling() {
+        return (SamplingHeapProfile) handler.invoke(STOP_SAMPLING, null);
+    }
+
+    @Override
+    public void stopTrackingHeapObjects() {
+        handler.invoke(STOP_TRACKING_HEAP_OBJECTS, null);
+    }
+
+    @Override
+    public void stopTrackingHeapObjects(final Boolean reportProgress) {
+        handler.invoke(STOP_TRACKING_HEAP_OBJECTS_1, new Object[] { reportProgress });
+    }
+
+    @Override
+    public void takeHeapSnapshot() {
+        handler.invoke(TAKE_HEAP_SNAPSHOT, null);
+    }
+
+    @Override
+    public void takeHeapSnapshot(final Boolean reportProgress) {
+        handler.invoke(TAKE_HEAP_SNAPSHOT_1, new Object[] { reportProgress });
+    }
+}
@@ -0,0 +1,74 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.lang.reflect.Type;
+
+import io.webfolder.cdp.command.IO;
+import io.webfolder.cdp.type.io.ReadResult;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class IOImpl implements IO {
+    static final CommandSerializer CLOSE = new CommandSerializer("IO", "close",
+            new String[] { "handle" },
+            new Type[] { String.class },
+            null, null);
+
+    static final CommandSerializer READ = new CommandSerializer("IO", "read",
+            new String[] { "handle" },
+            new Type[] { String.class },
+            ReadResult.class, null);
+
+    static final CommandSerializer READ_1 = new CommandSerializer("IO", "read",
+            new String[] { "handle", "offset", "size" },
+            new Type[] { String.class, Integer.class, Integer.class },
+            ReadResult.class, null);
+
+    static final CommandSerializer RESOLVE_BLOB = new CommandSerializer("IO", "resolveBlob",
+            new String[] { "objectId" },
+            new Type[] { String.class },
+            String.class, "uuid");
+
+    private final SessionInvocationHandler handler;
+
+    IOImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public void close(final String handle) {
+        handler.invoke(CLOSE, new Object[] { handle });
+    }
+
+    @Override
+    public ReadResult read(final String handle) {
+        return (ReadResult) handler.invoke(READ, new Object[] { handle });
+    }
+
+    @Override
+    public ReadResult read(final String handle, final Integer offset, final Integer size) {
+        return (ReadResult) handler.invoke(READ_1, new Object[] { handle, offset, size });
+    }
+
+    @Override
+    public String resolveBlob(final String objectId) {
+        return (String) handler.invoke(RESOLVE_BLOB, new Object[] { objectId });
+    }
+}
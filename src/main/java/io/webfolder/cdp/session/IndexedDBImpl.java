@@ -0,0 +1,137 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+import com.google.gson.reflect.TypeToken;
+
+import io.webfolder.cdp.command.IndexedDB;
+import io.webfolder.cdp.type.indexeddb.DatabaseWithObjectStores;
+import io.webfolder.cdp.type.indexeddb.KeyRange;
+import io.webfolder.cdp.type.indexeddb.RequestDataResult;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class IndexedDBImpl implements IndexedDB {
+    static final CommandSerializer CLEAR_OBJECT_STORE = new CommandSerializer("IndexedDB", "clearObjectStore",
+            new String[] { "securityOrigin", "databaseName", "objectStoreName" },
+            new Type[] { String.class, String.class, String.class },
+            null, null);
+
+    static final CommandSerializer DELETE_DATABASE = new CommandSerializer("IndexedDB", "deleteDatabase",
+            new String[] { "securityOrigin", "databaseName" },
+            new Type[] { String.class, String.class },
+            null, null);
+
+    static final CommandSerializer DELETE_OBJECT_STORE_ENTRIES = new CommandSerializer("IndexedDB", "deleteObjectStoreEntries",
+            new String[] { "securityOrigin", "databaseName", "objectStoreName", "keyRange" },
+            new Type[] { String.class, String.class, String.class, KeyRange.class },
+            null, null);
+
+    static final CommandSerializer DISABLE = new CommandSerializer("IndexedDB", "disable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer ENABLE = new CommandSerializer("IndexedDB", "enable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer REQUEST_DATA = new CommandSerializer("IndexedDB", "requestData",
+            new String[] { "securityOrigin", "databaseName", "objectStoreName", "indexName", "skipCount", "pageSize" },
+            new Type[] { String.class, String.class, String.class, String.class, Integer.class, Integer.class },
+            RequestDataResult.class, null);
+
+    static final CommandSerializer REQUEST_DATA_1 = new CommandSerializer("IndexedDB", "requestData",
+            new String[] { "securityOrigin", "databaseName", "objectStoreName", "indexName", "skipCount", "pageSize", "keyRange" },
+            new Type[] { String.class, String.class, String.class, String.class, Integer.class, Integer.class, KeyRange.class },
+            RequestDataResult.class, null);
+
+    static final CommandSerializer REQUEST_DATABASE = new CommandSerializer("IndexedDB", "requestDatabase",
+            new String[] { "securityOrigin", "databaseName" },
+            new Type[] { String.class, String.class },
+            DatabaseWithObjectStores.class, "databaseWithObjectStores");
+
+    static final CommandSerializer REQUEST_DATABASE_NAMES = new CommandSerializer("IndexedDB", "requestDatabaseNames",
+            new String[] { "securityOrigin" },
+            new Type[] { String.class },
+            new TypeToken<List<String>>() { }.getType(), "databaseNames");
+
+    private final SessionInvocationHandler handler;
+
+    IndexedDBImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public void clearObjectStore(final String securityOrigin, final String databaseName,
+            final String objectStoreName) {
+        handler.invoke(CLEAR_OBJECT_STORE, new Object[] { securityOrigin, databaseName, objectStoreName });
+    }
+
+    @Override
+    public void deleteDatabase(final String securityOrigin, final String databaseName) {
+        handler.invoke(DELETE_DATABASE, new Object[] { securityOrigin, databaseName });
+    }
+
+    @Override
+    public void deleteObjectStoreEntries(final String securityOrigin, final String databaseName,
+            final String objectStoreName, final KeyRange keyRange) {
+        handler.invoke(DELETE_OBJECT_STORE_ENTRIES, new Object[] { securityOrigin, databaseName, objectStoreName, keyRange });
+    }
+
+    @Override
+    public void disable() {
+        handler.invoke(DISABLE, null);
+    }
+
+    @Override
+    public void enable() {
+        handler.invoke(ENABLE, null);
+    }
+
+    @Override
+    public RequestDataResult requestData(final String securityOrigin, final String databaseName,
+            final String objectStoreName, final String indexName, final Integer skipCount,
+            final Integer pageSize) {
+        return (RequestDataResult) handler.invoke(REQUEST_DATA, new Object[] { securityOrigin, databaseName, objectStoreName, indexName, skipCount, pageSize });
+    }
+
+    @Override
+    public RequestDataResult requestData(final String securityOrigin, final String databaseName,
+            final String objectStoreName, final String indexName, final Integer skipCount,
+            final Integer pageSize, final KeyRange keyRange) {
+        return (RequestDataResult) handler.invoke(REQUEST_DATA_1, new Object[] { securityOrigin, databaseName, objectStoreName, indexName, skipCount, pageSize, keyRange });
+    }
+
+    @Override
+    public DatabaseWithObjectStores requestDatabase(final String securityOrigin,
+            final String databaseName) {
+        return (DatabaseWithObjectStores) handler.invoke(REQUEST_DATABASE, new Object[] { securityOrigin, databaseName });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> requestDatabaseNames(final String securityOrigin) {
+        return (List<String>) handler.invoke(REQUEST_DATABASE_NAMES, new Object[] { securityOrigin });
+    }
+}
@@ -0,0 +1,210 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+import com.google.gson.reflect.TypeToken;
+
+import io.webfolder.cdp.command.Input;
+import io.webfolder.cdp.type.constant.KeyEventType;
+import io.webfolder.cdp.type.constant.MouseButtonType;
+import io.webfolder.cdp.type.constant.MouseEventType;
+import io.webfolder.cdp.type.constant.TouchEventType;
+import io.webfolder.cdp.type.input.GestureSourceType;
+import io.webfolder.cdp.type.input.TouchPoint;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class InputImpl implements Input {
+    static final CommandSerializer DISPATCH_KEY_EVENT = new CommandSerializer("Input", "dispatchKeyEvent",
+            new String[] { "type" },
+            new Type[] { KeyEventType.class },
+            null, null);
+
+    static final CommandSerializer DISPATCH_KEY_EVENT_1 = new CommandSerializer("Input", "dispatchKeyEvent",
+            new String[] { "type", "modifiers", "timestamp", "text", "unmodifiedText", "keyIdentifier", "code", "key", "windowsVirtualKeyCode", "nativeVirtualKeyCode", "autoRepeat", "isKeypad", "isSystemKey", "location" },
+            new Type[] { KeyEventType.class, Integer.class, Double.class, String.class, String.class, String.class, String.class, String.class, Integer.class, Integer.class, Boolean.class, Boolean.class, Boolean.class, Integer.class },
+            null, null);
+
+    static final CommandSerializer DISPATCH_MOUSE_EVENT = new CommandSerializer("Input", "dispatchMouseEvent",
+            new String[] { "type", "x", "y" },
+            new Type[] { MouseEventType.class, Double.class, Double.class },
+            null, null);
+
+    static final CommandSerializer DISPATCH_MOUSE_EVENT_1 = new CommandSerializer("Input", "dispatchMouseEvent",
+            new String[] { "type", "x", "y", "modifiers", "timestamp", "button", "clickCount", "deltaX", "deltaY" },
+            new Type[] { MouseEventType.class, Double.class, Double.class, Integer.class, Double.class, MouseButtonType.class, Integer.class, Double.class, Double.class },
+            null, null);
+
+    static final CommandSerializer DISPATCH_TOUCH_EVENT = new CommandSerializer("Input", "dispatchTouchEvent",
+            new String[] { "type", "touchPoints" },
+            new Type[] { TouchEventType.class, new TypeToken<List<TouchPoint>>() { }.getType() },
+            null, null);
+
+    static final CommandSerializer DISPATCH_TOUCH_EVENT_1 = new CommandSerializer("Input", "dispatchTouchEvent",
+            new String[] { "type", "touchPoints", "modifiers", "timestamp" },
+            new Type[] { TouchEventType.class, new TypeToken<List<TouchPoint>>() { }.getType(), Integer.class, Double.class },
+            null, null);
+
+    static final CommandSerializer EMULATE_TOUCH_FROM_MOUSE_EVENT = new CommandSerializer("Input", "emulateTouchFromMouseEvent",
+            new String[] { "type", "x", "y", "button" },
+            new Type[] { MouseEventType.class, Integer.class, Integer.class, MouseButtonType.class },
+            null, null);
+
+    static final CommandSerializer EMULATE_TOUCH_FROM_MOUSE_EVENT_1 = new CommandSerializer("Input", "emulateTouchFromMouseEvent",
+            new String[] { "type", "x", "y", "button", "timestamp", "deltaX", "deltaY", "modifiers", "clickCount" },
+            new Type[] { MouseEventType.class, Integer.class, Integer.class, MouseButtonType.class, Double.class, Double.class, Double.class, Integer.class, Integer.class },
+            null, null);
+
+    static final CommandSerializer SET_IGNORE_INPUT_EVENTS = new CommandSerializer("Input", "setIgnoreInputEvents",
+            new String[] { "ignore" },
+            new Type[] { Boolean.class },
+            null, null);
+
+    static final CommandSerializer SYNTHESIZE_PINCH_GESTURE = new CommandSerializer("Input", "synthesizePinchGesture",
+            new String[] { "x", "y", "scaleFactor" },
+            new Type[] { Double.class, Double.class, Double.class },
+            null, null);
+
+    static final CommandSerializer SYNTHESIZE_PINCH_GESTURE_1 = new CommandSerializer("Input", "synthesizePinchGesture",
+            new String[] { "x", "y", "scaleFactor", "relativeSpeed", "gestureSourceType" },
+            new Type[] { Double.class, Double.class, Double.class, Integer.class, GestureSourceType.class },
+            null, null);
+
+    static final CommandSerializer SYNTHESIZE_SCROLL_GESTURE = new CommandSerializer("Input", "synthesizeScrollGesture",
+            new String[] { "x", "y" },
+            new Type[] { Double.class, Double.class },
+            null, null);
+
+    static final CommandSerializer SYNTHESIZE_SCROLL_GESTURE_1 = new CommandSerializer("Input", "synthesizeScrollGesture",
+            new String[] { "x", "y", "xDistance", "yDistance", "xOverscroll", "yOverscroll", "preventFling", "speed", "gestureSourceType", "repeatCount", "repeatDelayMs", "interactionMarkerName" },
+            new Type[] { Double.class, Double.class, Double.class, Double.class, Double.class, Double.class, Boolean.class, Integer.class, GestureSourceType.class, Integer.class, Integer.class, String.class },
+            null, null);
+
+    static final CommandSerializer SYNTHESIZE_TAP_GESTURE = new CommandSerializer("Input", "synthesizeTapGesture",
+            new String[] { "x", "y" },
+            new Type[] { Double.class, Double.class },
+            null, null);
+
+    static final CommandSerializer SYNTHESIZE_TAP_GESTURE_1 = new CommandSerializer("Input", "synthesizeTapGesture",
+            new String[] { "x", "y", "duration", "tapCount", "gestureSourceType" },
+            new Type[] { Double.class, Double.class, Integer.class, Integer.class, GestureSourceType.class },
+            null, null);
+
+    private final SessionInvocationHandler handler;
+
+    InputImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public void dispatchKeyEvent(final KeyEventType type) {
+        handler.invoke(DISPATCH_KEY_EVENT, new Object[] { type });
+    }
+
+    @Override
+    public void dispatchKeyEvent(final KeyEventType type, final Integer modifiers,
+            final Double timestamp, final String text, final String unmodifiedText,
+            final String keyIdentifier, final String code, final String key,
+            final Integer windowsVirtualKeyCode, final Integer nativeVirtualKeyCode,
+            final Boolean autoRepeat, final Boolean isKeypad, final Boolean isSystemKey,
+            final Integer location) {
+        handler.invoke(DISPATCH_KEY_EVENT_1, new Object[] { type, modifiers, timestamp, text, unmodifiedText, keyIdentifier, code, key, windowsVirtualKeyCode, nativeVirtualKeyCode, autoRepeat, isKeypad, isSystemKey, location });
+    }
+
+    @Override
+    public void dispatchMouseEvent(final MouseEventType type, final Double x, final Double y) {
+        handler.invoke(DISPATCH_MOUSE_EVENT, new Object[] { type, x, y });
+    }
+
+    @Override
+    public void dispatchMouseEvent(final MouseEventType type, final Double x, final Double y,
+            final Integer modifiers, final Double timestamp, final MouseButtonType button,
+            final Integer clickCount, final Double deltaX, final Double deltaY) {
+        handler.invoke(DISPATCH_MOUSE_EVENT_1, new Object[] { type, x, y, modifiers, timestamp, button, clickCount, deltaX, deltaY });
+    }
+
+    @Override
+    public void dispatchTouchEvent(final TouchEventType type, final List<TouchPoint> touchPoints) {
+        handler.invoke(DISPATCH_TOUCH_EVENT, new Object[] { type, touchPoints });
+    }
+
+    @Override
+    public void dispatchTouchEvent(final TouchEventType type, final List<TouchPoint> touchPoints,
+            final Integer modifiers, final Double timestamp) {
+        handler.invoke(DISPATCH_TOUCH_EVENT_1, new Object[] { type, touchPoints, modifiers, timestamp });
+    }
+
+    @Override
+    public void emulateTouchFromMouseEvent(final MouseEventType type, final Integer x,
+            final Integer y, final MouseButtonType button) {
+        handler.invoke(EMULATE_TOUCH_FROM_MOUSE_EVENT, new Object[] { type, x, y, button });
+    }
+
+    @Override
+    public void emulateTouchFromMouseEvent(final MouseEventType type, final Integer x,
+            final Integer y, final MouseButtonType button, final Double timestamp,
+            final Double deltaX, final Double deltaY, final Integer modifiers,
+            final Integer clickCount) {
+        handler.invoke(EMULATE_TOUCH_FROM_MOUSE_EVENT_1, new Object[] { type, x, y, button, timestamp, deltaX, deltaY, modifiers, clickCount });
+    }
+
+    @Override
+    public void setIgnoreInputEvents(final Boolean ignore) {
+        handler.invoke(SET_IGNORE_INPUT_EVENTS, new Object[] { ignore });
+    }
+
+    @Override
+    public void synthesizePinchGesture(final Double x, final Double y, final Double scaleFactor) {
+        handler.invoke(SYNTHESIZE_PINCH_GESTURE, new Object[] { x, y, scaleFactor });
+    }
+
+    @Override
+    public void synthesizePinchGesture(final Double x, final Double y, final Double scaleFactor,
+            final Integer relativeSpeed, final GestureSourceType gestureSourceType) {
+        handler.invoke(SYNTHESIZE_PINCH_GESTURE_1, new Object[] { x, y, scaleFactor, relativeSpeed, gestureSourceType });
+    }
+
+    @Override
+    public void synthesizeScrollGesture(final Double x, final Double y) {
+        handler.invoke(SYNTHESIZE_SCROLL_GESTURE, new Object[] { x, y });
+    }
+
+    @Override
+    public void synthesizeScrollGesture(final Double x, final Double y, final Double xDistance,
+            final Double yDistance, final Double xOverscroll, final Double yOverscroll,
+            final Boolean preventFling, final Integer speed,
+            final GestureSourceType gestureSourceType, final Integer repeatCount,
+            final Integer repeatDelayMs, final String interactionMarkerName) {
+        handler.invoke(SYNTHESIZE_SCROLL_GESTURE_1, new Object[] { x, y, xDistance, yDistance, xOverscroll, yOverscroll, preventFling, speed, gestureSourceType, repeatCount, repeatDelayMs, interactionMarkerName });
+    }
+
+    @Override
+    public void synthesizeTapGesture(final Double x, final Double y) {
+        handler.invoke(SYNTHESIZE_TAP_GESTURE, new Object[] { x, y });
+    }
+
+    @Override
+    public void synthesizeTapGesture(final Double x, final Double y, final Integer duration,
+            final Integer tapCount, final GestureSourceType gestureSourceType) {
+        handler.invoke(SYNTHESIZE_TAP_GESTURE_1, new Object[] { x, y, duration, tapCount, gestureSourceType });
+    }
+}
@@ -159,8 +159,8 @@ public interface JavaScript {
                                                 FALSE, FALSE,
                                                 FALSE, null, null);
 
-        getThis().releaseObject(funcObj.getResult().getObjectId());
-        getThis().releaseObject(func.getResult().getObjectId());
+        getThis().releaseObjects(funcObj.getResult().getObjectId(),
+                                    func.getResult().getObjectId());
 
         if ( func.getExceptionDetails() != null &&
                 func.getExceptionDetails().getException() != null ) {
@@ -0,0 +1,143 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+import com.google.gson.reflect.TypeToken;
+
+import io.webfolder.cdp.command.LayerTree;
+import io.webfolder.cdp.type.dom.Rect;
+import io.webfolder.cdp.type.layertree.PictureTile;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class LayerTreeImpl implements LayerTree {
+    static final CommandSerializer COMPOSITING_REASONS = new CommandSerializer("LayerTree", "compositingReasons",
+            new String[] { "layerId" },
+            new Type[] { String.class },
+            new TypeToken<List<String>>() { }.getType(), "compositingReasons");
+
+    static final CommandSerializer DISABLE = new CommandSerializer("LayerTree", "disable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer ENABLE = new CommandSerializer("LayerTree", "enable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer LOAD_SNAPSHOT = new CommandSerializer("LayerTree", "loadSnapshot",
+            new String[] { "tiles" },
+            new Type[] { new TypeToken<List<PictureTile>>() { }.getType() },
+            String.class, "snapshotId");
+
+    static final CommandSerializer MAKE_SNAPSHOT = new CommandSerializer("LayerTree", "makeSnapshot",
+            new String[] { "layerId" },
+            new Type[] { String.class },
+            String.class, "snapshotId");
+
+    static final CommandSerializer PROFILE_SNAPSHOT = new CommandSerializer("LayerTree", "profileSnapshot",
+            new String[] { "snapshotId" },
+            new Type[] { String.class },
+            new TypeToken<List<Double>>() { }.getType(), "timings");
+
+    static final CommandSerializer PROFILE_SNAPSHOT_1 = new CommandSerializer("LayerTree", "profileSnapshot",
+            new String[] { "snapshotId", "minRepeatCount", "minDuration", "clipRect" },
+            new Type[] { String.class, Integer.class, Double.class, Rect.class },
+            new TypeToken<List<Double>>() { }.getType(), "timings");
+
+    static final CommandSerializer RELEASE_SNAPSHOT = new CommandSerializer("LayerTree", "releaseSnapshot",
+            new String[] { "snapshotId" },
+            new Type[] { String.class },
+            null, null);
+
+    static final CommandSerializer REPLAY_SNAPSHOT = new CommandSerializer("LayerTree", "replaySnapshot",
+            new String[] { "snapshotId" },
+            new Type[] { String.class },
+            String.class, "dataURL");
+
+    static final CommandSerializer REPLAY_SNAPSHOT_1 = new CommandSerializer("LayerTree", "replaySnapshot",
+            new String[] { "snapshotId", "fromStep", "toStep", "scale" },
+            new Type[] { String.class, Integer.class, Integer.class, Double.class },
+            String.class, "dataURL");
+
+    private final SessionInvocationHandler handler;
+
+    LayerTreeImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> compositingReasons(final String layerId) {
+        return (List<String>) handler.invoke(COMPOSITING_REASONS, new Object[] { layerId });
+    }
+
+    @Override
+    public void disable() {
+        handler.invoke(DISABLE, null);
+    }
+
+    @Override
+    public void enable() {
+        handler.invoke(ENABLE, null);
+    }
+
+    @Override
+    public String loadSnapshot(final List<PictureTile> tiles) {
+        return (String) handler.invoke(LOAD_SNAPSHOT, new Object[] { tiles });
+    }
+
+    @Override
+    public String makeSnapshot(final String layerId) {
+        return (String) handler.invoke(MAKE_SNAPSHOT, new Object[] { layerId });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Double> profileSnapshot(final String snapshotId) {
+        return (List<Double>) handler.invoke(PROFILE_SNAPSHOT, new Object[] { snapshotId });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Double> profileSnapshot(final String snapshotId, final Integer minRepeatCount,
+            final Double minDuration, final Rect clipRect) {
+        return (List<Double>) handler.invoke(PROFILE_SNAPSHOT_1, new Object[] { snapshotId, minRepeatCount, minDuration, clipRect });
+    }
+
+    @Override
+    public void releaseSnapshot(final String snapshotId) {
+        handler.invoke(RELEASE_SNAPSHOT, new Object[] { snapshotId });
+    }
+
+    @Override
+    public String replaySnapshot(final String snapshotId) {
+        return (String) handler.invoke(REPLAY_SNAPSHOT, new Object[] { snapshotId });
+    }
+
+    @Override
+    public String replaySnapshot(final String snapshotId, final Integer fromStep,
+            final Integer toStep, final Double scale) {
+        return (String) handler.invoke(REPLAY_SNAPSHOT_1, new Object[] { snapshotId, fromStep, toStep, scale });
+    }
+}
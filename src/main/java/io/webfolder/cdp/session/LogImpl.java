@@ -0,0 +1,87 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+import com.google.gson.reflect.TypeToken;
+
+import io.webfolder.cdp.command.Log;
+import io.webfolder.cdp.type.log.ViolationSetting;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class LogImpl implements Log {
+    static final CommandSerializer CLEAR = new CommandSerializer("Log", "clear",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer DISABLE = new CommandSerializer("Log", "disable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer ENABLE = new CommandSerializer("Log", "enable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer START_VIOLATIONS_REPORT = new CommandSerializer("Log", "startViolationsReport",
+            new String[] { "config" },
+            new Type[] { new TypeToken<List<ViolationSetting>>() { }.getType() },
+            null, null);
+
+    static final CommandSerializer STOP_VIOLATIONS_REPORT = new CommandSerializer("Log", "stopViolationsReport",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    private final SessionInvocationHandler handler;
+
+    LogImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public void clear() {
+        handler.invoke(CLEAR, null);
+    }
+
+    @Override
+    public void disable() {
+        handler.invoke(DISABLE, null);
+    }
+
+    @Override
+    public void enable() {
+        handler.invoke(ENABLE, null);
+    }
+
+    @Override
+    public void startViolationsReport(final List<ViolationSetting> config) {
+        handler.invoke(START_VIOLATIONS_REPORT, new Object[] { config });
+    }
+
+    @Override
+    public void stopViolationsReport() {
+        handler.invoke(STOP_VIOLATIONS_REPORT, null);
+    }
+}
@@ -0,0 +1,136 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.lang.reflect.Type;
+
+import io.webfolder.cdp.command.Memory;
+import io.webfolder.cdp.type.memory.GetDOMCountersResult;
+import io.webfolder.cdp.type.memory.PressureLevel;
+import io.webfolder.cdp.type.memory.SamplingProfile;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class MemoryImpl implements Memory {
+    static final CommandSerializer GET_ALL_TIME_SAMPLING_PROFILE = new CommandSerializer("Memory", "getAllTimeSamplingProfile",
+            new String[0],
+            new Type[0],
+            SamplingProfile.class, "profile");
+
+    static final CommandSerializer GET_BROWSER_SAMPLING_PROFILE = new CommandSerializer("Memory", "getBrowserSamplingProfile",
+            new String[0],
+            new Type[0],
+            SamplingProfile.class, "profile");
+
+    static final CommandSerializer GET_DOMCOUNTERS = new CommandSerializer("Memory", "getDOMCounters",
+            new String[0],
+            new Type[0],
+            GetDOMCountersResult.class, null);
+
+    static final CommandSerializer GET_SAMPLING_PROFILE = new CommandSerializer("Memory", "getSamplingProfile",
+            new String[0],
+            new Type[0],
+            SamplingProfile.class, "profile");
+
+    static final CommandSerializer PREPARE_FOR_LEAK_DETECTION = new CommandSerializer("Memory", "prepareForLeakDetection",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer SET_PRESSURE_NOTIFICATIONS_SUPPRESSED = new CommandSerializer("Memory", "setPressureNotificationsSuppressed",
+            new String[] { "suppressed" },
+            new Type[] { Boolean.class },
+            null, null);
+
+    static final CommandSerializer SIMULATE_PRESSURE_NOTIFICATION = new CommandSerializer("Memory", "simulatePressureNotification",
+            new String[] { "level" },
+            new Type[] { PressureLevel.class },
+            null, null);
+
+    static final CommandSerializer START_SAMPLING = new CommandSerializer("Memory", "startSampling",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer START_SAMPLING_1 = new CommandSerializer("Memory", "startSampling",
+            new String[] { "samplingInterval", "suppressRandomness" },
+            new Type[] { Integer.class, Boolean.class },
+            null, null);
+
+    static final CommandSerializer STOP_SAMPLING = new CommandSerializer("Memory", "stopSampling",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    private final SessionInvocationHandler handler;
+
+    MemoryImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public SamplingProfile getAllTimeSamplingProfile() {
+        return (SamplingProfile) handler.invoke(GET_ALL_TIME_SAMPLING_PROFILE, null);
+    }
+
+    @Override
+    public SamplingProfile getBrowserSamplingProfile() {
+        return (SamplingProfile) handler.invoke(GET_BROWSER_SAMPLING_PROFILE, null);
+    }
+
+    @Override
+    public GetDOMCountersResult getDOMCounters() {
+        return (GetDOMCountersResult) handler.invoke(GET_DOMCOUNTERS, null);
+    }
+
+    @Override
+    public SamplingProfile getSamplingProfile() {
+        return (SamplingProfile) handler.invoke(GET_SAMPLING_PROFILE, null);
+    }
+
+    @Override
+    public void prepareForLeakDetection() {
+        handler.invoke(PREPARE_FOR_LEAK_DETECTION, null);
+    }
+
+    @Override
+    public void setPressureNotificationsSuppressed(final Boolean suppressed) {
+        handler.invoke(SET_PRESSURE_NOTIFICATIONS_SUPPRESSED, new Object[] { suppressed });
+    }
+
+    @Override
+    public void simulatePressureNotification(final PressureLevel level) {
+        handler.invoke(SIMULATE_PRESSURE_NOTIFICATION, new Object[] { level });
+    }
+
+    @Override
+    public void startSampling() {
+        handler.invoke(START_SAMPLING, null);
+    }
+
+    @Override
+    public void startSampling(final Integer samplingInterval, final Boolean suppressRandomness) {
+        handler.invoke(START_SAMPLING_1, new Object[] { samplingInterval, suppressRandomness });
+    }
+
+    @Override
+    public void stopSampling() {
+        handler.invoke(STOP_SAMPLING, null);
+    }
+}
@@ -0,0 +1,426 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.reflect.TypeToken;
+
+import io.webfolder.cdp.command.Network;
+import io.webfolder.cdp.type.debugger.SearchMatch;
+import io.webfolder.cdp.type.network.AuthChallengeResponse;
+import io.webfolder.cdp.type.network.ConnectionType;
+import io.webfolder.cdp.type.network.Cookie;
+import io.webfolder.cdp.type.network.CookieParam;
+import io.webfolder.cdp.type.network.CookieSameSite;
+import io.webfolder.cdp.type.network.ErrorReason;
+import io.webfolder.cdp.type.network.GetResponseBodyForInterceptionResult;
+import io.webfolder.cdp.type.network.GetResponseBodyResult;
+import io.webfolder.cdp.type.network.RequestPattern;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class NetworkImpl implements Network {
+    static final CommandSerializer CAN_CLEAR_BROWSER_CACHE = new CommandSerializer("Network", "canClearBrowserCache",
+            new String[0],
+            new Type[0],
+            Boolean.class, "result");
+
+    static final CommandSerializer CAN_CLEAR_BROWSER_COOKIES = new CommandSerializer("Network", "canClearBrowserCookies",
+            new String[0],
+            new Type[0],
+            Boolean.class, "result");
+
+    static final CommandSerializer CAN_EMULATE_NETWORK_CONDITIONS = new CommandSerializer("Network", "canEmulateNetworkConditions",
+            new String[0],
+            new Type[0],
+            Boolean.class, "result");
+
+    static final CommandSerializer CLEAR_BROWSER_CACHE = new CommandSerializer("Network", "clearBrowserCache",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer CLEAR_BROWSER_COOKIES = new CommandSerializer("Network", "clearBrowserCookies",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer CONTINUE_INTERCEPTED_REQUEST = new CommandSerializer("Network", "continueInterceptedRequest",
+            new String[] { "interceptionId" },
+            new Type[] { String.class },
+            null, null);
+
+    static final CommandSerializer CONTINUE_INTERCEPTED_REQUEST_1 = new CommandSerializer("Network", "continueInterceptedRequest",
+            new String[] { "interceptionId", "errorReason", "rawResponse", "url", "method", "postData", "headers", "authChallengeResponse" },
+            new Type[] { String.class, ErrorReason.class, String.class, String.class, String.class, String.class, new TypeToken<Map<String, Object>>() { }.getType(), AuthChallengeResponse.class },
+            null, null);
+
+    static final CommandSerializer DELETE_COOKIES = new CommandSerializer("Network", "deleteCookies",
+            new String[] { "name" },
+            new Type[] { String.class },
+            null, null);
+
+    static final CommandSerializer DELETE_COOKIES_1 = new CommandSerializer("Network", "deleteCookies",
+            new String[] { "name", "url", "domain", "path" },
+            new Type[] { String.class, String.class, String.class, String.class },
+            null, null);
+
+    static final CommandSerializer DISABLE = new CommandSerializer("Network", "disable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer EMULATE_NETWORK_CONDITIONS = new CommandSerializer("Network", "emulateNetworkConditions",
+            new String[] { "offline", "latency", "downloadThroughput", "uploadThroughput" },
+            new Type[] { Boolean.class, Double.class, Double.class, Double.class },
+            null, null);
+
+    static final CommandSerializer EMULATE_NETWORK_CONDITIONS_1 = new CommandSerializer("Network", "emulateNetworkConditions",
+            new String[] { "offline", "latency", "downloadThroughput", "uploadThroughput", "connectionType" },
+            new Type[] { Boolean.class, Double.class, Double.class, Double.class, ConnectionType.class },
+            null, null);
+
+    static final CommandSerializer ENABLE = new CommandSerializer("Network", "enable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer ENABLE_1 = new CommandSerializer("Network", "enable",
+            new String[] { "maxTotalBufferSize", "maxResourceBufferSize", "maxPostDataSize" },
+            new Type[] { Integer.class, Integer.class, Integer.class },
+            null, null);
+
+    static final CommandSerializer GET_ALL_COOKIES = new CommandSerializer("Network", "getAllCookies",
+            new String[0],
+            new Type[0],
+            new TypeToken<List<Cookie>>() { }.getType(), "cookies");
+
+    static final CommandSerializer GET_CERTIFICATE = new CommandSerializer("Network", "getCertificate",
+            new String[] { "origin" },
+            new Type[] { String.class },
+            new TypeToken<List<String>>() { }.getType(), "tableNames");
+
+    static final CommandSerializer GET_COOKIES = new CommandSerializer("Network", "getCookies",
+            new String[0],
+            new Type[0],
+            new TypeToken<List<Cookie>>() { }.getType(), "cookies");
+
+    static final CommandSerializer GET_COOKIES_1 = new CommandSerializer("Network", "getCookies",
+            new String[] { "urls" },
+            new Type[] { new TypeToken<List<String>>() { }.getType() },
+            new TypeToken<List<Cookie>>() { }.getType(), "cookies");
+
+    static final CommandSerializer GET_REQUEST_POST_DATA = new CommandSerializer("Network", "getRequestPostData",
+            new String[] { "requestId" },
+            new Type[] { String.class },
+            byte[].class, "postData");
+
+    static final CommandSerializer GET_RESPONSE_BODY = new CommandSerializer("Network", "getResponseBody",
+            new String[] { "requestId" },
+            new Type[] { String.class },
+            GetResponseBodyResult.class, null);
+
+    static final CommandSerializer GET_RESPONSE_BODY_FOR_INTERCEPTION = new CommandSerializer("Network", "getResponseBodyForInterception",
+            new String[] { "interceptionId" },
+            new Type[] { String.class },
+            GetResponseBodyForInterceptionResult.class, null);
+
+    static final CommandSerializer REPLAY_XHR = new CommandSerializer("Network", "replayXHR",
+            new String[] { "requestId" },
+            new Type[] { String.class },
+            null, null);
+
+    static final CommandSerializer SEARCH_IN_RESPONSE_BODY = new CommandSerializer("Network", "searchInResponseBody",
+            new String[] { "requestId", "query" },
+            new Type[] { String.class, String.class },
+            new TypeToken<List<SearchMatch>>() { }.getType(), "result");
+
+    static final CommandSerializer SEARCH_IN_RESPONSE_BODY_1 = new CommandSerializer("Network", "searchInResponseBody",
+            new String[] { "requestId", "query", "caseSensitive", "isRegex" },
+            new Type[] { String.class, String.class, Boolean.class, Boolean.class },
+            new TypeToken<List<SearchMatch>>() { }.getType(), "result");
+
+    static final CommandSerializer SET_BLOCKED_URLS = new CommandSerializer("Network", "setBlockedURLs",
+            new String[] { "urls" },
+            new Type[] { new TypeToken<List<String>>() { }.getType() },
+            null, null);
+
+    static final CommandSerializer SET_BYPASS_SERVICE_WORKER = new CommandSerializer("Network", "setBypassServiceWorker",
+            new String[] { "bypass" },
+            new Type[] { Boolean.class },
+            null, null);
+
+    static final CommandSerializer SET_CACHE_DISABLED = new CommandSerializer("Network", "setCacheDisabled",
+            new String[] { "cacheDisabled" },
+            new Type[] { Boolean.class },
+            null, null);
+
+    static final CommandSerializer SET_COOKIE = new CommandSerializer("Network", "setCookie",
+            new String[] { "name", "value" },
+            new Type[] { String.class, String.class },
+            Boolean.class, "success");
+
+    static final CommandSerializer SET_COOKIE_1 = new CommandSerializer("Network", "setCookie",
+            new String[] { "name", "value", "url", "domain", "path", "secure", "httpOnly", "sameSite", "expires" },
+            new Type[] { String.class, String.class, String.class, String.class, String.class, Boolean.class, Boolean.class, CookieSameSite.class, Double.class },
+            Boolean.class, "success");
+
+    static final CommandSerializer SET_COOKIES = new CommandSerializer("Network", "setCookies",
+            new String[] { "cookies" },
+            new Type[] { new TypeToken<List<CookieParam>>() { }.getType() },
+            null, null);
+
+    static final CommandSerializer SET_DATA_SIZE_LIMITS_FOR_TEST = new CommandSerializer("Network", "setDataSizeLimitsForTest",
+            new String[] { "maxTotalSize", "maxResourceSize" },
+            new Type[] { Integer.class, Integer.class },
+            null, null);
+
+    static final CommandSerializer SET_EXTRA_HTTPHEADERS = new CommandSerializer("Network", "setExtraHTTPHeaders",
+            new String[] { "headers" },
+            new Type[] { new TypeToken<Map<String, Object>>() { }.getType() },
+            null, null);
+
+    static final CommandSerializer SET_REQUEST_INTERCEPTION = new CommandSerializer("Network", "setRequestInterception",
+            new String[] { "patterns" },
+            new Type[] { new TypeToken<List<RequestPattern>>() { }.getType() },
+            null, null);
+
+    static final CommandSerializer SET_USER_AGENT_OVERRIDE = new CommandSerializer("Network", "setUserAgentOverride",
+            new String[] { "userAgent" },
+            new Type[] { String.class },
+            null, null);
+
+    static final CommandSerializer SET_USER_AGENT_OVERRIDE_1 = new CommandSerializer("Network", "setUserAgentOverride",
+            new String[] { "userAgent", "acceptLanguage", "platform" },
+            new Type[] { String.class, String.class, String.class },
+            null, null);
+
+    static final CommandSerializer TAKE_RESPONSE_BODY_FOR_INTERCEPTION_AS_STREAM = new CommandSerializer("Network", "takeResponseBodyForInterceptionAsStream",
+            new String[] { "interceptionId" },
+            new Type[] { String.class },
+            String.class, "stream");
+
+    private final SessionInvocationHandler handler;
+
+    NetworkImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public Boolean canClearBrowserCache() {
+        return (Boolean) handler.invoke(CAN_CLEAR_BROWSER_CACHE, null);
+    }
+
+    @Override
+    public Boolean canClearBrowserCookies() {
+        return (Boolean) handler.invoke(CAN_CLEAR_BROWSER_COOKIES, null);
+    }
+
+    @Override
+    public Boolean canEmulateNetworkConditions() {
+        return (Boolean) handler.invoke(CAN_EMULATE_NETWORK_CONDITIONS, null);
+    }
+
+    @Override
+    public void clearBrowserCache() {
+        handler.invoke(CLEAR_BROWSER_CACHE, null);
+    }
+
+    @Override
+    public void clearBrowserCookies() {
+        handler.invoke(CLEAR_BROWSER_COOKIES, null);
+    }
+
+    @Override
+    public void continueInterceptedRequest(final String interceptionId) {
+        handler.invoke(CONTINUE_INTERCEPTED_REQUEST, new Object[] { interceptionId });
+    }
+
+    @Override
+    public void continueInterceptedRequest(final String interceptionId,
+            final ErrorReason errorReason, final String rawResponse, final String url,
+            final String method, final String postData, final Map<String, Object> headers,
+            final AuthChallengeResponse authChallengeResponse) {
+        handler.invoke(CONTINUE_INTERCEPTED_REQUEST_1, new Object[] { interceptionId, errorReason, rawResponse, url, method, postData, headers, authChallengeResponse });
+    }
+
+    @Override
+    public void deleteCookies(final String name) {
+        handler.invoke(DELETE_COOKIES, new Object[] { name });
+    }
+
+    @Override
+    public void deleteCookies(final String name, final String url, final String domain,
+            final String path) {
+        handler.invoke(DELETE_COOKIES_1, new Object[] { name, url, domain, path });
+    }
+
+    @Override
+    public void disable() {
+        handler.invoke(DISABLE, null);
+    }
+
+    @Override
+    public void emulateNetworkConditions(final Boolean offline, final Double latency,
+            final Double downloadThroughput, final Double uploadThroughput) {
+        handler.invoke(EMULATE_NETWORK_CONDITIONS, new Object[] { offline, latency, downloadThroughput, uploadThroughput });
+    }
+
+    @Override
+    public void emulateNetworkConditions(final Boolean offline, final Double latency,
+            final Double downloadThroughput, final Double uploadThroughput,
+            final ConnectionType connectionType) {
+        handler.invoke(EMULATE_NETWORK_CONDITIONS_1, new Object[] { offline, latency, downloadThroughput, uploadThroughput, connectionType });
+    }
+
+    @Override
+    public void enable() {
+        handler.invoke(ENABLE, null);
+    }
+
+    @Override
+    public void enable(final Integer maxTotalBufferSize, final Integer maxResourceBufferSize,
+            final Integer maxPostDataSize) {
+        handler.invoke(ENABLE_1, new Object[] { maxTotalBufferSize, maxResourceBufferSize, maxPostDataSize });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Cookie> getAllCookies() {
+        return (List<Cookie>) handler.invoke(GET_ALL_COOKIES, null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> getCertificate(final String origin) {
+        return (List<String>) handler.invoke(GET_CERTIFICATE, new Object[] { origin });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Cookie> getCookies() {
+        return (List<Cookie>) handler.invoke(GET_COOKIES, null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Cookie> getCookies(final List<String> urls) {
+        return (List<Cookie>) handler.invoke(GET_COOKIES_1, new Object[] { urls });
+    }
+
+    @Override
+    public byte[] getRequestPostData(final String requestId) {
+        return (byte[]) handler.invoke(GET_REQUEST_POST_DATA, new Object[] { requestId });
+    }
+
+    @Override
+    public GetResponseBodyResult getResponseBody(final String requestId) {
+        return (GetResponseBodyResult) handler.invoke(GET_RESPONSE_BODY, new Object[] { requestId });
+    }
+
+    @Override
+    public GetResponseBodyForInterceptionResult getResponseBodyForInterception(final String interceptionId) {
+        return (GetResponseBodyForInterceptionResult) handler.invoke(GET_RESPONSE_BODY_FOR_INTERCEPTION, new Object[] { interceptionId });
+    }
+
+    @Override
+    public void replayXHR(final String requestId) {
+        handler.invoke(REPLAY_XHR, new Object[] { requestId });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<SearchMatch> searchInResponseBody(final String requestId, final String query) {
+        return (List<SearchMatch>) handler.invoke(SEARCH_IN_RESPONSE_BODY, new Object[] { requestId, query });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<SearchMatch> searchInResponseBody(final String requestId, final String query,
+            final Boolean caseSensitive, final Boolean isRegex) {
+        return (List<SearchMatch>) handler.invoke(SEARCH_IN_RESPONSE_BODY_1, new Object[] { requestId, query, caseSensitive, isRegex });
+    }
+
+    @Override
+    public void setBlockedURLs(final List<String> urls) {
+        handler.invoke(SET_BLOCKED_URLS, new Object[] { urls });
+    }
+
+    @Override
+    public void setBypassServiceWorker(final Boolean bypass) {
+        handler.invoke(SET_BYPASS_SERVICE_WORKER, new Object[] { bypass });
+    }
+
+    @Override
+    public void setCacheDisabled(final Boolean cacheDisabled) {
+        handler.invoke(SET_CACHE_DISABLED, new Object[] { cacheDisabled });
+    }
+
+    @Override
+    public Boolean setCookie(final String name, final String value) {
+        return (Boolean) handler.invoke(SET_COOKIE, new Object[] { name, value });
+    }
+
+    @Override
+    public Boolean setCookie(final String name, final String value, final String url,
+            final String domain, final String path, final Boolean secure, final Boolean httpOnly,
+            final CookieSameSite sameSite, final Double expires) {
+        return (Boolean) handler.invoke(SET_COOKIE_1, new Object[] { name, value, url, domain, path, secure, httpOnly, sameSite, expires });
+    }
+
+    @Override
+    public void setCookies(final List<CookieParam> cookies) {
+        handler.invoke(SET_COOKIES, new Object[] { cookies });
+    }
+
+    @Override
+    public void setDataSizeLimitsForTest(final Integer maxTotalSize,
+            final Integer maxResourceSize) {
+        handler.invoke(SET_DATA_SIZE_LIMITS_FOR_TEST, new Object[] { maxTotalSize, maxResourceSize });
+    }
+
+    @Override
+    public void setExtraHTTPHeaders(final Map<String, Object> headers) {
+        handler.invoke(SET_EXTRA_HTTPHEADERS, new Object[] { headers });
+    }
+
+    @Override
+    public void setRequestInterception(final List<RequestPattern> patterns) {
+        handler.invoke(SET_REQUEST_INTERCEPTION, new Object[] { patterns });
+    }
+
+    @Override
+    public void setUserAgentOverride(final String userAgent) {
+        handler.invoke(SET_USER_AGENT_OVERRIDE, new Object[] { userAgent });
+    }
+
+    @Override
+    public void setUserAgentOverride(final String userAgent, final String acceptLanguage,
+            final String platform) {
+        handler.invoke(SET_USER_AGENT_OVERRIDE_1, new Object[] { userAgent, acceptLanguage, platform });
+    }
+
+    @Override
+    public String takeResponseBodyForInterceptionAsStream(final String interceptionId) {
+        return (String) handler.invoke(TAKE_RESPONSE_BODY_FOR_INTERCEPTION_AS_STREAM, new Object[] { interceptionId });
+    }
+}
@@ -0,0 +1,253 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+import com.google.gson.reflect.TypeToken;
+
+import io.webfolder.cdp.command.Overlay;
+import io.webfolder.cdp.type.dom.RGBA;
+import io.webfolder.cdp.type.overlay.HighlightConfig;
+import io.webfolder.cdp.type.overlay.InspectMode;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class OverlayImpl implements Overlay {
+    static final CommandSerializer DISABLE = new CommandSerializer("Overlay", "disable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer ENABLE = new CommandSerializer("Overlay", "enable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer HIDE_HIGHLIGHT = new CommandSerializer("Overlay", "hideHighlight",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer HIGHLIGHT_FRAME = new CommandSerializer("Overlay", "highlightFrame",
+            new String[] { "frameId" },
+            new Type[] { String.class },
+            null, null);
+
+    static final CommandSerializer HIGHLIGHT_FRAME_1 = new CommandSerializer("Overlay", "highlightFrame",
+            new String[] { "frameId", "contentColor", "contentOutlineColor" },
+            new Type[] { String.class, RGBA.class, RGBA.class },
+            null, null);
+
+    static final CommandSerializer HIGHLIGHT_NODE = new CommandSerializer("Overlay", "highlightNode",
+            new String[] { "highlightConfig" },
+            new Type[] { HighlightConfig.class },
+            null, null);
+
+    static final CommandSerializer HIGHLIGHT_NODE_1 = new CommandSerializer("Overlay", "highlightNode",
+            new String[] { "highlightConfig", "nodeId", "backendNodeId", "objectId" },
+            new Type[] { HighlightConfig.class, Integer.class, Integer.class, String.class },
+            null, null);
+
+    static final CommandSerializer HIGHLIGHT_QUAD = new CommandSerializer("Overlay", "highlightQuad",
+            new String[] { "quad" },
+            new Type[] { new TypeToken<List<Double>>() { }.getType() },
+            null, null);
+
+    static final CommandSerializer HIGHLIGHT_QUAD_1 = new CommandSerializer("Overlay", "highlightQuad",
+            new String[] { "quad", "color", "outlineColor" },
+            new Type[] { new TypeToken<List<Double>>() { }.getType(), RGBA.class, RGBA.class },
+            null, null);
+
+    static final CommandSerializer HIGHLIGHT_RECT = new CommandSerializer("Overlay", "highlightRect",
+            new String[] { "x", "y", "width", "height" },
+            new Type[] { Integer.class, Integer.class, Integer.class, Integer.class },
+            null, null);
+
+    static final CommandSerializer HIGHLIGHT_RECT_1 = new CommandSerializer("Overlay", "highlightRect",
+            new String[] { "x", "y", "width", "height", "color", "outlineColor" },
+            new Type[] { Integer.class, Integer.class, Integer.class, Integer.class, RGBA.class, RGBA.class },
+            null, null);
+
+    static final CommandSerializer SET_INSPECT_MODE = new CommandSerializer("Overlay", "setInspectMode",
+            new String[] { "mode" },
+            new Type[] { InspectMode.class },
+            null, null);
+
+    static final CommandSerializer SET_INSPECT_MODE_1 = new CommandSerializer("Overlay", "setInspectMode",
+            new String[] { "mode", "highlightConfig" },
+            new Type[] { InspectMode.class, HighlightConfig.class },
+            null, null);
+
+    static final CommandSerializer SET_PAUSED_IN_DEBUGGER_MESSAGE = new CommandSerializer("Overlay", "setPausedInDebuggerMessage",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer SET_PAUSED_IN_DEBUGGER_MESSAGE_1 = new CommandSerializer("Overlay", "setPausedInDebuggerMessage",
+            new String[] { "message" },
+            new Type[] { String.class },
+            null, null);
+
+    static final CommandSerializer SET_SHOW_DEBUG_BORDERS = new CommandSerializer("Overlay", "setShowDebugBorders",
+            new String[] { "show" },
+            new Type[] { Boolean.class },
+            null, null);
+
+    static final CommandSerializer SET_SHOW_FPSCOUNTER = new CommandSerializer("Overlay", "setShowFPSCounter",
+            new String[] { "show" },
+            new Type[] { Boolean.class },
+            null, null);
+
+    static final CommandSerializer SET_SHOW_PAINT_RECTS = new CommandSerializer("Overlay", "setShowPaintRects",
+            new String[] { "result" },
+            new Type[] { Boolean.class },
+            null, null);
+
+    static final CommandSerializer SET_SHOW_SCROLL_BOTTLENECK_RECTS = new CommandSerializer("Overlay", "setShowScrollBottleneckRects",
+            new String[] { "show" },
+            new Type[] { Boolean.class },
+            null, null);
+
+    static final CommandSerializer SET_SHOW_VIEWPORT_SIZE_ON_RESIZE = new CommandSerializer("Overlay", "setShowViewportSizeOnResize",
+            new String[] { "show" },
+            new Type[] { Boolean.class },
+            null, null);
+
+    static final CommandSerializer SET_SUSPENDED = new CommandSerializer("Overlay", "setSuspended",
+            new String[] { "suspended" },
+            new Type[] { Boolean.class },
+            null, null);
+
+    private final SessionInvocationHandler handler;
+
+    OverlayImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public void disable() {
+        handler.invoke(DISABLE, null);
+    }
+
+    @Override
+    public void enable() {
+        handler.invoke(ENABLE, null);
+    }
+
+    @Override
+    public void hideHighlight() {
+        handler.invoke(HIDE_HIGHLIGHT, null);
+    }
+
+    @Override
+    public void highlightFrame(final String frameId) {
+        handler.invoke(HIGHLIGHT_FRAME, new Object[] { frameId });
+    }
+
+    @Override
+    public void highlightFrame(final String frameId, final RGBA contentColor,
+            final RGBA contentOutlineColor) {
+        handler.invoke(HIGHLIGHT_FRAME_1, new Object[] { frameId, contentColor, contentOutlineColor });
+    }
+
+    @Override
+    public void highlightNode(final HighlightConfig highlightConfig) {
+        handler.invoke(HIGHLIGHT_NODE, new Object[] { highlightConfig });
+    }
+
+    @Override
+    public void highlightNode(final HighlightConfig highlightConfig, final Integer nodeId,
+            final Integer backendNodeId, final String objectId) {
+        handler.invoke(HIGHLIGHT_NODE_1, new Object[] { highlightConfig, nodeId, backendNodeId, objectId });
+    }
+
+    @Override
+    public void highlightQuad(final List<Double> quad) {
+        handler.invoke(HIGHLIGHT_QUAD, new Object[] { quad });
+    }
+
+    @Override
+    public void highlightQuad(final List<Double> quad, final RGBA color, final RGBA outlineColor) {
+        handler.invoke(HIGHLIGHT_QUAD_1, new Object[] { quad, color, outlineColor });
+    }
+
+    @Override
+    public void highlightRect(final Integer x, final Integer y, final Integer width,
+            final Integer height) {
+        handler.invoke(HIGHLIGHT_RECT, new Object[] { x, y, width, height });
+    }
+
+    @Override
+    public void highlightRect(final Integer x, final Integer y, final Integer width,
+            final Integer height, final RGBA color, final RGBA outlineColor) {
+        handler.invoke(HIGHLIGHT_RECT_1, new Object[] { x, y, width, height, color, outlineColor });
+    }
+
+    @Override
+    public void setInspectMode(final InspectMode mode) {
+        handler.invoke(SET_INSPECT_MODE, new Object[] { mode });
+    }
+
+    @Override
+    public void setInspectMode(final InspectMode mode, final HighlightConfig highlightConfig) {
+        handler.invoke(SET_INSPECT_MODE_1, new Object[] { mode, highlightConfig });
+    }
+
+    @Override
+    public void setPausedInDebuggerMessage() {
+        handler.invoke(SET_PAUSED_IN_DEBUGGER_MESSAGE, null);
+    }
+
+    @Override
+    public void setPausedInDebuggerMessage(final String message) {
+        handler.invoke(SET_PAUSED_IN_DEBUGGER_MESSAGE_1, new Object[] { message });
+    }
+
+    @Override
+    public void setShowDebugBorders(final Boolean show) {
+        handler.invoke(SET_SHOW_DEBUG_BORDERS, new Object[] { show });
+    }
+
+    @Override
+    public void setShowFPSCounter(final Boolean show) {
+        handler.invoke(SET_SHOW_FPSCOUNTER, new Object[] { show });
+    }
+
+    @Override
+    public void setShowPaintRects(final Boolean result) {
+        handler.invoke(SET_SHOW_PAINT_RECTS, new Object[] { result });
+    }
+
+    @Override
+    public void setShowScrollBottleneckRects(final Boolean show) {
+        handler.invoke(SET_SHOW_SCROLL_BOTTLENECK_RECTS, new Object[] { show });
+    }
+
+    @Override
+    public void setShowViewportSizeOnResize(final Boolean show) {
+        handler.invoke(SET_SHOW_VIEWPORT_SIZE_ON_RESIZE, new Object[] { show });
+    }
+
+    @Override
+    public void setSuspended(final Boolean suspended) {
+        handler.invoke(SET_SUSPENDED, new Object[] { suspended });
+    }
+}
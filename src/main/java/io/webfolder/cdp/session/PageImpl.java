@@ -0,0 +1,645 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+import com.google.gson.reflect.TypeToken;
+
+import io.webfolder.cdp.command.Page;
+import io.webfolder.cdp.type.constant.DownloadBehavior;
+import io.webfolder.cdp.type.constant.ImageFormat;
+import io.webfolder.cdp.type.constant.Platform;
+import io.webfolder.cdp.type.constant.TargetLifecycleState;
+import io.webfolder.cdp.type.debugger.SearchMatch;
+import io.webfolder.cdp.type.emulation.ScreenOrientation;
+import io.webfolder.cdp.type.network.Cookie;
+import io.webfolder.cdp.type.page.FontFamilies;
+import io.webfolder.cdp.type.page.FontSizes;
+import io.webfolder.cdp.type.page.FrameResourceTree;
+import io.webfolder.cdp.type.page.FrameTree;
+import io.webfolder.cdp.type.page.GetAppManifestResult;
+import io.webfolder.cdp.type.page.GetLayoutMetricsResult;
+import io.webfolder.cdp.type.page.GetNavigationHistoryResult;
+import io.webfolder.cdp.type.page.GetResourceContentResult;
+import io.webfolder.cdp.type.page.NavigateResult;
+import io.webfolder.cdp.type.page.TransitionType;
+import io.webfolder.cdp.type.page.Viewport;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class PageImpl implements Page {
+    static final CommandSerializer ADD_SCRIPT_TO_EVALUATE_ON_LOAD = new CommandSerializer("Page", "addScriptToEvaluateOnLoad",
+            new String[] { "scriptSource" },
+            new Type[] { String.class },
+            String.class, "identifier");
+
+    static final CommandSerializer ADD_SCRIPT_TO_EVALUATE_ON_NEW_DOCUMENT = new CommandSerializer("Page", "addScriptToEvaluateOnNewDocument",
+            new String[] { "source" },
+            new Type[] { String.class },
+            String.class, "identifier");
+
+    static final CommandSerializer BRING_TO_FRONT = new CommandSerializer("Page", "bringToFront",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer CAPTURE_SCREENSHOT = new CommandSerializer("Page", "captureScreenshot",
+            new String[0],
+            new Type[0],
+            byte[].class, "data");
+
+    static final CommandSerializer CAPTURE_SCREENSHOT_1 = new CommandSerializer("Page", "captureScreenshot",
+            new String[] { "format", "quality", "clip", "fromSurface" },
+            new Type[] { ImageFormat.class, Integer.class, Viewport.class, Boolean.class },
+            byte[].class, "data");
+
+    static final CommandSerializer CLEAR_DEVICE_METRICS_OVERRIDE = new CommandSerializer("Page", "clearDeviceMetricsOverride",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer CLEAR_DEVICE_ORIENTATION_OVERRIDE = new CommandSerializer("Page", "clearDeviceOrientationOverride",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer CLEAR_GEOLOCATION_OVERRIDE = new CommandSerializer("Page", "clearGeolocationOverride",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer CLOSE = new CommandSerializer("Page", "close",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer CRASH = new CommandSerializer("Page", "crash",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer CREATE_ISOLATED_WORLD = new CommandSerializer("Page", "createIsolatedWorld",
+            new String[] { "frameId" },
+            new Type[] { String.class },
+            Integer.class, "executionContextId");
+
+    static final CommandSerializer CREATE_ISOLATED_WORLD_1 = new CommandSerializer("Page", "createIsolatedWorld",
+            new String[] { "frameId", "worldName", "grantUniveralAccess" },
+            new Type[] { String.class, String.class, Boolean.class },
+            Integer.class, "executionContextId");
+
+    static final CommandSerializer DELETE_COOKIE = new CommandSerializer("Page", "deleteCookie",
+            new String[] { "cookieName", "url" },
+            new Type[] { String.class, String.class },
+            null, null);
+
+    static final CommandSerializer DISABLE = new CommandSerializer("Page", "disable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer ENABLE = new CommandSerializer("Page", "enable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer GET_APP_MANIFEST = new CommandSerializer("Page", "getAppManifest",
+            new String[0],
+            new Type[0],
+            GetAppManifestResult.class, null);
+
+    static final CommandSerializer GET_COOKIES = new CommandSerializer("Page", "getCookies",
+            new String[0],
+            new Type[0],
+            new TypeToken<List<Cookie>>() { }.getType(), "cookies");
+
+    static final CommandSerializer GET_FRAME_TREE = new CommandSerializer("Page", "getFrameTree",
+            new String[0],
+            new Type[0],
+            FrameTree.class, "frameTree");
+
+    static final CommandSerializer GET_LAYOUT_METRICS = new CommandSerializer("Page", "getLayoutMetrics",
+            new String[0],
+            new Type[0],
+            GetLayoutMetricsResult.class, null);
+
+    static final CommandSerializer GET_NAVIGATION_HISTORY = new CommandSerializer("Page", "getNavigationHistory",
+            new String[0],
+            new Type[0],
+            GetNavigationHistoryResult.class, null);
+
+    static final CommandSerializer GET_RESOURCE_CONTENT = new CommandSerializer("Page", "getResourceContent",
+            new String[] { "frameId", "url" },
+            new Type[] { String.class, String.class },
+            GetResourceContentResult.class, null);
+
+    static final CommandSerializer GET_RESOURCE_TREE = new CommandSerializer("Page", "getResourceTree",
+            new String[0],
+            new Type[0],
+            FrameResourceTree.class, "frameTree");
+
+    static final CommandSerializer HANDLE_JAVA_SCRIPT_DIALOG = new CommandSerializer("Page", "handleJavaScriptDialog",
+            new String[] { "accept" },
+            new Type[] { Boolean.class },
+            null, null);
+
+    static final CommandSerializer HANDLE_JAVA_SCRIPT_DIALOG_1 = new CommandSerializer("Page", "handleJavaScriptDialog",
+            new String[] { "accept", "promptText" },
+            new Type[] { Boolean.class, String.class },
+            null, null);
+
+    static final CommandSerializer NAVIGATE = new CommandSerializer("Page", "navigate",
+            new String[] { "url" },
+            new Type[] { String.class },
+            NavigateResult.class, null);
+
+    static final CommandSerializer NAVIGATE_1 = new CommandSerializer("Page", "navigate",
+            new String[] { "url", "referrer", "transitionType", "frameId" },
+            new Type[] { String.class, String.class, TransitionType.class, String.class },
+            NavigateResult.class, null);
+
+    static final CommandSerializer NAVIGATE_TO_HISTORY_ENTRY = new CommandSerializer("Page", "navigateToHistoryEntry",
+            new String[] { "entryId" },
+            new Type[] { Integer.class },
+            null, null);
+
+    static final CommandSerializer PRINT_TO_PDF = new CommandSerializer("Page", "printToPDF",
+            new String[0],
+            new Type[0],
+            byte[].class, "data");
+
+    static final CommandSerializer PRINT_TO_PDF_1 = new CommandSerializer("Page", "printToPDF",
+            new String[] { "landscape", "displayHeaderFooter", "printBackground", "scale", "paperWidth", "paperHeight", "marginTop", "marginBottom", "marginLeft", "marginRight", "pageRanges", "ignoreInvalidPageRanges", "headerTemplate", "footerTemplate", "preferCSSPageSize" },
+            new Type[] { Boolean.class, Boolean.class, Boolean.class, Double.class, Double.class, Double.class, Double.class, Double.class, Double.class, Double.class, String.class, Boolean.class, String.class, String.class, Boolean.class },
+            byte[].class, "data");
+
+    static final CommandSerializer RELOAD = new CommandSerializer("Page", "reload",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer RELOAD_1 = new CommandSerializer("Page", "reload",
+            new String[] { "ignoreCache", "scriptToEvaluateOnLoad" },
+            new Type[] { Boolean.class, String.class },
+            null, null);
+
+    static final CommandSerializer REMOVE_SCRIPT_TO_EVALUATE_ON_LOAD = new CommandSerializer("Page", "removeScriptToEvaluateOnLoad",
+            new String[] { "identifier" },
+            new Type[] { String.class },
+            null, null);
+
+    static final CommandSerializer REMOVE_SCRIPT_TO_EVALUATE_ON_NEW_DOCUMENT = new CommandSerializer("Page", "removeScriptToEvaluateOnNewDocument",
+            new String[] { "identifier" },
+            new Type[] { String.class },
+            null, null);
+
+    static final CommandSerializer REQUEST_APP_BANNER = new CommandSerializer("Page", "requestAppBanner",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer SCREENCAST_FRAME_ACK = new CommandSerializer("Page", "screencastFrameAck",
+            new String[] { "sessionId" },
+            new Type[] { Integer.class },
+            null, null);
+
+    static final CommandSerializer SEARCH_IN_RESOURCE = new CommandSerializer("Page", "searchInResource",
+            new String[] { "frameId", "url", "query" },
+            new Type[] { String.class, String.class, String.class },
+            new TypeToken<List<SearchMatch>>() { }.getType(), "result");
+
+    static final CommandSerializer SEARCH_IN_RESOURCE_1 = new CommandSerializer("Page", "searchInResource",
+            new String[] { "frameId", "url", "query", "caseSensitive", "isRegex" },
+            new Type[] { String.class, String.class, String.class, Boolean.class, Boolean.class },
+            new TypeToken<List<SearchMatch>>() { }.getType(), "result");
+
+    static final CommandSerializer SET_AD_BLOCKING_ENABLED = new CommandSerializer("Page", "setAdBlockingEnabled",
+            new String[] { "enabled" },
+            new Type[] { Boolean.class },
+            null, null);
+
+    static final CommandSerializer SET_BYPASS_CSP = new CommandSerializer("Page", "setBypassCSP",
+            new String[] { "enabled" },
+            new Type[] { Boolean.class },
+            null, null);
+
+    static final CommandSerializer SET_DEVICE_METRICS_OVERRIDE = new CommandSerializer("Page", "setDeviceMetricsOverride",
+            new String[] { "width", "height", "deviceScaleFactor", "mobile" },
+            new Type[] { Integer.class, Integer.class, Double.class, Boolean.class },
+            null, null);
+
+    static final CommandSerializer SET_DEVICE_METRICS_OVERRIDE_1 = new CommandSerializer("Page", "setDeviceMetricsOverride",
+            new String[] { "width", "height", "deviceScaleFactor", "mobile", "scale", "screenWidth", "screenHeight", "positionX", "positionY", "dontSetVisibleSize", "screenOrientation", "viewport" },
+            new Type[] { Integer.class, Integer.class, Double.class, Boolean.class, Double.class, Integer.class, Integer.class, Integer.class, Integer.class, Boolean.class, ScreenOrientation.class, Viewport.class },
+            null, null);
+
+    static final CommandSerializer SET_DEVICE_ORIENTATION_OVERRIDE = new CommandSerializer("Page", "setDeviceOrientationOverride",
+            new String[] { "alpha", "beta", "gamma" },
+            new Type[] { Double.class, Double.class, Double.class },
+            null, null);
+
+    static final CommandSerializer SET_DOCUMENT_CONTENT = new CommandSerializer("Page", "setDocumentContent",
+            new String[] { "frameId", "html" },
+            new Type[] { String.class, String.class },
+            null, null);
+
+    static final CommandSerializer SET_DOWNLOAD_BEHAVIOR = new CommandSerializer("Page", "setDownloadBehavior",
+            new String[] { "behavior" },
+            new Type[] { DownloadBehavior.class },
+            null, null);
+
+    static final CommandSerializer SET_DOWNLOAD_BEHAVIOR_1 = new CommandSerializer("Page", "setDownloadBehavior",
+            new String[] { "behavior", "downloadPath" },
+            new Type[] { DownloadBehavior.class, String.class },
+            null, null);
+
+    static final CommandSerializer SET_FONT_FAMILIES = new CommandSerializer("Page", "setFontFamilies",
+            new String[] { "fontFamilies" },
+            new Type[] { FontFamilies.class },
+            null, null);
+
+    static final CommandSerializer SET_FONT_SIZES = new CommandSerializer("Page", "setFontSizes",
+            new String[] { "fontSizes" },
+            new Type[] { FontSizes.class },
+            null, null);
+
+    static final CommandSerializer SET_GEOLOCATION_OVERRIDE = new CommandSerializer("Page", "setGeolocationOverride",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer SET_GEOLOCATION_OVERRIDE_1 = new CommandSerializer("Page", "setGeolocationOverride",
+            new String[] { "latitude", "longitude", "accuracy" },
+            new Type[] { Double.class, Double.class, Double.class },
+            null, null);
+
+    static final CommandSerializer SET_LIFECYCLE_EVENTS_ENABLED = new CommandSerializer("Page", "setLifecycleEventsEnabled",
+            new String[] { "enabled" },
+            new Type[] { Boolean.class },
+            null, null);
+
+    static final CommandSerializer SET_TOUCH_EMULATION_ENABLED = new CommandSerializer("Page", "setTouchEmulationEnabled",
+            new String[] { "enabled" },
+            new Type[] { Boolean.class },
+            null, null);
+
+    static final CommandSerializer SET_TOUCH_EMULATION_ENABLED_1 = new CommandSerializer("Page", "setTouchEmulationEnabled",
+            new String[] { "enabled", "configuration" },
+            new Type[] { Boolean.class, Platform.class },
+            null, null);
+
+    static final CommandSerializer SET_WEB_LIFECYCLE_STATE = new CommandSerializer("Page", "setWebLifecycleState",
+            new String[] { "state" },
+            new Type[] { TargetLifecycleState.class },
+            null, null);
+
+    static final CommandSerializer START_SCREENCAST = new CommandSerializer("Page", "startScreencast",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer START_SCREENCAST_1 = new CommandSerializer("Page", "startScreencast",
+            new String[] { "format", "quality", "maxWidth", "maxHeight", "everyNthFrame" },
+            new Type[] { ImageFormat.class, Integer.class, Integer.class, Integer.class, Integer.class },
+            null, null);
+
+    static final CommandSerializer STOP_LOADING = new CommandSerializer("Page", "stopLoading",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer STOP_SCREENCAST = new CommandSerializer("Page", "stopScreencast",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    private final SessionInvocationHandler handler;
+
+    PageImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public String addScriptToEvaluateOnLoad(final String scriptSource) {
+        return (String) handler.invoke(ADD_SCRIPT_TO_EVALUATE_ON_LOAD, new Object[] { scriptSource });
+    }
+
+    @Override
+    public String addScriptToEvaluateOnNewDocument(final String source) {
+        return (String) handler.invoke(ADD_SCRIPT_TO_EVALUATE_ON_NEW_DOCUMENT, new Object[] { source });
+    }
+
+    @Override
+    public void bringToFront() {
+        handler.invoke(BRING_TO_FRONT, null);
+    }
+
+    @Override
+    public byte[] captureScreenshot() {
+        return (byte[]) handler.invoke(CAPTURE_SCREENSHOT, null);
+    }
+
+    @Override
+    public byte[] captureScreenshot(final ImageFormat format, final Integer quality,
+            final Viewport clip, final Boolean fromSurface) {
+        return (byte[]) handler.invoke(CAPTURE_SCREENSHOT_1, new Object[] { format, quality, clip, fromSurface });
+    }
+
+    @Override
+    public void clearDeviceMetricsOverride() {
+        handler.invoke(CLEAR_DEVICE_METRICS_OVERRIDE, null);
+    }
+
+    @Override
+    public void clearDeviceOrientationOverride() {
+        handler.invoke(CLEAR_DEVICE_ORIENTATION_OVERRIDE, null);
+    }
+
+    @Override
+    public void clearGeolocationOverride() {
+        handler.invoke(CLEAR_GEOLOCATION_OVERRIDE, null);
+    }
+
+    @Override
+    public void close() {
+        handler.invoke(CLOSE, null);
+    }
+
+    @Override
+    public void crash() {
+        handler.invoke(CRASH, null);
+    }
+
+    @Override
+    public Integer createIsolatedWorld(final String frameId) {
+        return (Integer) handler.invoke(CREATE_ISOLATED_WORLD, new Object[] { frameId });
+    }
+
+    @Override
+    public Integer createIsolatedWorld(final String frameId, final String worldName,
+            final Boolean grantUniveralAccess) {
+        return (Integer) handler.invoke(CREATE_ISOLATED_WORLD_1, new Object[] { frameId, worldName, grantUniveralAccess });
+    }
+
+    @Override
+    public void deleteCookie(final String cookieName, final String url) {
+        handler.invoke(DELETE_COOKIE, new Object[] { cookieName, url });
+    }
+
+    @Override
+    public void disable() {
+        handler.invoke(DISABLE, null);
+    }
+
+    @Override
+    public void enable() {
+        handler.invoke(ENABLE, null);
+    }
+
+    @Override
+    public GetAppManifestResult getAppManifest() {
+        return (GetAppManifestResult) handler.invoke(GET_APP_MANIFEST, null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Cookie> getCookies() {
+        return (List<Cookie>) handler.invoke(GET_COOKIES, null);
+    }
+
+    @Override
+    public FrameTree getFrameTree() {
+        return (FrameTree) handler.invoke(GET_FRAME_TREE, null);
+    }
+
+    @Override
+    public GetLayoutMetricsResult getLayoutMetrics() {
+        return (GetLayoutMetricsResult) handler.invoke(GET_LAYOUT_METRICS, null);
+    }
+
+    @Override
+    public GetNavigationHistoryResult getNavigationHistory() {
+        return (GetNavigationHistoryResult) handler.invoke(GET_NAVIGATION_HISTORY, null);
+    }
+
+    @Override
+    public GetResourceContentResult getResourceContent(final String frameId, final String url) {
+        return (GetResourceContentResult) handler.invoke(GET_RESOURCE_CONTENT, new Object[] { frameId, url });
+    }
+
+    @Override
+    public FrameResourceTree getResourceTree() {
+        return (FrameResourceTree) handler.invoke(GET_RESOURCE_TREE, null);
+    }
+
+    @Override
+    public void handleJavaScriptDialog(final Boolean accept) {
+        handler.invoke(HANDLE_JAVA_SCRIPT_DIALOG, new Object[] { accept });
+    }
+
+    @Override
+    public void handleJavaScriptDialog(final Boolean accept, final String promptText) {
+        handler.invoke(HANDLE_JAVA_SCRIPT_DIALOG_1, new Object[] { accept, promptText });
+    }
+
+    @Override
+    public NavigateResult navigate(final String url) {
+        return (NavigateResult) handler.invoke(NAVIGATE, new Object[] { url });
+    }
+
+    @Override
+    public NavigateResult navigate(final String url, final String referrer,
+            final TransitionType transitionType, final String frameId) {
+        return (NavigateResult) handler.invoke(NAVIGATE_1, new Object[] { url, referrer, transitionType, frameId });
+    }
+
+    @Override
+    public void navigateToHistoryEntry(final Integer entryId) {
+        handler.invoke(NAVIGATE_TO_HISTORY_ENTRY, new Object[] { entryId });
+    }
+
+    @Override
+    public byte[] printToPDF() {
+        return (byte[]) handler.invoke(PRINT_TO_PDF, null);
+    }
+
+    @Override
+    public byte[] printToPDF(final Boolean landscape, final Boolean displayHeaderFooter,
+            final Boolean printBackground, final Double scale, final Double paperWidth,
+            final Double paperHeight, final Double marginTop, final Double marginBottom,
+            final Double marginLeft, final Double marginRight, final String pageRanges,
+            final Boolean ignoreInvalidPageRanges, final String headerTemplate,
+            final String footerTemplate, final Boolean preferCSSPageSize) {
+        return (byte[]) handler.invoke(PRINT_TO_PDF_1, new Object[] { landscape, displayHeaderFooter, printBackground, scale, paperWidth, paperHeight, marginTop, marginBottom, marginLeft, marginRight, pageRanges, ignoreInvalidPageRanges, headerTemplate, footerTemplate, preferCSSPageSize });
+    }
+
+    @Override
+    public void reload() {
+        handler.invoke(RELOAD, null);
+    }
+
+    @Override
+    public void reload(final Boolean ignoreCache, final String scriptToEvaluateOnLoad) {
+        handler.invoke(RELOAD_1, new Object[] { ignoreCache, scriptToEvaluateOnLoad });
+    }
+
+    @Override
+    public void removeScriptToEvaluateOnLoad(final String identifier) {
+        handler.invoke(REMOVE_SCRIPT_TO_EVALUATE_ON_LOAD, new Object[] { identifier });
+    }
+
+    @Override
+    public void removeScriptToEvaluateOnNewDocument(final String identifier) {
+        handler.invoke(REMOVE_SCRIPT_TO_EVALUATE_ON_NEW_DOCUMENT, new Object[] { identifier });
+    }
+
+    @Override
+    public void requestAppBanner() {
+        handler.invoke(REQUEST_APP_BANNER, null);
+    }
+
+    @Override
+    public void screencastFrameAck(final Integer sessionId) {
+        handler.invoke(SCREENCAST_FRAME_ACK, new Object[] { sessionId });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<SearchMatch> searchInResource(final String frameId, final String url,
+            final String query) {
+        return (List<SearchMatch>) handler.invoke(SEARCH_IN_RESOURCE, new Object[] { frameId, url, query });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<SearchMatch> searchInResource(final String frameId, final String url,
+            final String query, final Boolean caseSensitive, final Boolean isRegex) {
+        return (List<SearchMatch>) handler.invoke(SEARCH_IN_RESOURCE_1, new Object[] { frameId, url, query, caseSensitive, isRegex });
+    }
+
+    @Override
+    public void setAdBlockingEnabled(final Boolean enabled) {
+        handler.invoke(SET_AD_BLOCKING_ENABLED, new Object[] { enabled });
+    }
+
+    @Override
+    public void setBypassCSP(final Boolean enabled) {
+        handler.invoke(SET_BYPASS_CSP, new Object[] { enabled });
+    }
+
+    @Override
+    public void setDeviceMetricsOverride(final Integer width, final Integer height,
+            final Double deviceScaleFactor, final Boolean mobile) {
+        handler.invoke(SET_DEVICE_METRICS_OVERRIDE, new Object[] { width, height, deviceScaleFactor, mobile });
+    }
+
+    @Override
+    public void setDeviceMetricsOverride(final Integer width, final Integer height,
+            final Double deviceScaleFactor, final Boolean mobile, final Double scale,
+            final Integer screenWidth, final Integer screenHeight, final Integer positionX,
+            final Integer positionY, final Boolean dontSetVisibleSize,
+            final ScreenOrientation screenOrientation, final Viewport viewport) {
+        handler.invoke(SET_DEVICE_METRICS_OVERRIDE_1, new Object[] { width, height, deviceScaleFactor, mobile, scale, screenWidth, screenHeight, positionX, positionY, dontSetVisibleSize, screenOrientation, viewport });
+    }
+
+    @Override
+    public void setDeviceOrientationOverride(final Double alpha, final Double beta,
+            final Double gamma) {
+        handler.invoke(SET_DEVICE_ORIENTATION_OVERRIDE, new Object[] { alpha, beta, gamma });
+    }
+
+    @Override
+    public void setDocumentContent(final String frameId, final String html) {
+        handler.invoke(SET_DOCUMENT_CONTENT, new Object[] { frameId, html });
+    }
+
+    @Override
+    public void setDownloadBehavior(final DownloadBehavior behavior) {
+        handler.invoke(SET_DOWNLOAD_BEHAVIOR, new Object[] { behavior });
+    }
+
+    @Override
+    public void setDownloadBehavior(final DownloadBehavior behavior, final String downloadPath) {
+        handler.invoke(SET_DOWNLOAD_BEHAVIOR_1, new Object[] { behavior, downloadPath });
+    }
+
+    @Override
+    public void setFontFamilies(final FontFamilies fontFamilies) {
+        handler.invoke(SET_FONT_FAMILIES, new Object[] { fontFamilies });
+    }
+
+    @Override
+    public void setFontSizes(final FontSizes fontSizes) {
+        handler.invoke(SET_FONT_SIZES, new Object[] { fontSizes });
+    }
+
+    @Override
+    public void setGeolocationOverride() {
+        handler.invoke(SET_GEOLOCATION_OVERRIDE, null);
+    }
+
+    @Override
+    public void setGeolocationOverride(final Double latitude, final Double longitude,
+            final Double accuracy) {
+        handler.invoke(SET_GEOLOCATION_OVERRIDE_1, new Object[] { latitude, longitude, accuracy });
+    }
+
+    @Override
+    public void setLifecycleEventsEnabled(final Boolean enabled) {
+        handler.invoke(SET_LIFECYCLE_EVENTS_ENABLED, new Object[] { enabled });
+    }
+
+    @Override
+    public void setTouchEmulationEnabled(final Boolean enabled) {
+        handler.invoke(SET_TOUCH_EMULATION_ENABLED, new Object[] { enabled });
+    }
+
+    @Override
+    public void setTouchEmulationEnabled(final Boolean enabled, final Platform configuration) {
+        handler.invoke(SET_TOUCH_EMULATION_ENABLED_1, new Object[] { enabled, configuration });
+    }
+
+    @Override
+    public void setWebLifecycleState(final TargetLifecycleState state) {
+        handler.invoke(SET_WEB_LIFECYCLE_STATE, new Object[] { state });
+    }
+
+    @Override
+    public void startScreencast() {
+        handler.invoke(START_SCREENCAST, null);
+    }
+
+    @Override
+    public void startScreencast(final ImageFormat format, final Integer quality,
+            final Integer maxWidth, final Integer maxHeight, final Integer everyNthFrame) {
+        handler.invoke(START_SCREENCAST_1, new Object[] { format, quality, maxWidth, maxHeight, everyNthFrame });
+    }
+
+    @Override
+    public void stopLoading() {
+        handler.invoke(STOP_LOADING, null);
+    }
+
+    @Override
+    public void stopScreencast() {
+        handler.invoke(STOP_SCREENCAST, null);
+    }
+}
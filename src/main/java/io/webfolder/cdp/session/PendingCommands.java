@@ -0,0 +1,246 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * In-flight commands of a {@link SessionFactory}, keyed by the command id.
+ * 
+ * Ids are kept unboxed in striped open-addressing tables. Command ids are issued
+ * sequentially, consecutive ids are spread over the stripes and each stripe
+ * holds a window of consecutive ids without collision.
+ * 
+ * Commands which are registered with a timeout are evicted by the {@link TimeoutWheel}
+ * and failed with {@link io.webfolder.cdp.exception.CommandTimeoutException}
+ * if the response is not received in time.
+ */
+class PendingCommands {
+
+    private static final int STRIPE_BITS = 4;
+
+    private static final int STRIPES = 1 << STRIPE_BITS;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    private final TimeoutWheel wheel;
+
+    private static class Stripe {
+
+        private int[] keys = new int[INITIAL_CAPACITY];
+
+        private WSContext[] values = new WSContext[INITIAL_CAPACITY];
+
+        private int size;
+
+        private int index(final int key) {
+            return (key >>> STRIPE_BITS) & (values.length - 1);
+        }
+
+        private int find(final int key) {
+            int mask = values.length - 1;
+            int i = index(key);
+            while (values[i] != null) {
+                if (keys[i] == key) {
+                    return i;
+                }
+                i = (i + 1) & mask;
+            }
+            return -1;
+        }
+
+        synchronized void put(final int key, final WSContext value) {
+            int i = find(key);
+            if (i >= 0) {
+                values[i] = value;
+                return;
+            }
+            if ((size + 1) * 2 > values.length) {
+                resize(values.length * 2);
+            }
+            insert(key, value);
+            size += 1;
+        }
+
+        private void insert(final int key, final WSContext value) {
+            int mask = values.length - 1;
+            int i = index(key);
+            while (values[i] != null) {
+                i = (i + 1) & mask;
+            }
+            keys[i]   = key;
+            values[i] = value;
+        }
+
+        private void resize(final int capacity) {
+            int[]       oldKeys   = keys;
+            WSContext[] oldValues = values;
+            keys   = new int[capacity];
+            values = new WSContext[capacity];
+            for (int i = 0; i < oldValues.length; i++) {
+                if (oldValues[i] != null) {
+                    insert(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        synchronized WSContext get(final int key) {
+            int i = find(key);
+            return i >= 0 ? values[i] : null;
+        }
+
+        synchronized WSContext remove(final int key, final WSContext expected) {
+            int i = find(key);
+            if (i < 0) {
+                return null;
+            }
+            WSContext value = values[i];
+            if (expected != null && expected != value) {
+                return null;
+            }
+            delete(i);
+            return value;
+        }
+
+        // backward shift deletion, linear probing does not need tombstones
+        private void delete(int i) {
+            int mask = values.length - 1;
+            values[i] = null;
+            size -= 1;
+            int j = i;
+            while (true) {
+                j = (j + 1) & mask;
+                if (values[j] == null) {
+                    return;
+                }
+                int home = index(keys[j]);
+                boolean movable = i <= j ? (home <= i || home > j) : (home <= i && home > j);
+                if (movable) {
+                    keys[i]   = keys[j];
+                    values[i] = values[j];
+                    values[j] = null;
+                    i = j;
+                }
+            }
+        }
+
+        synchronized void removeOwner(final Object owner, final List<WSContext> removed) {
+            int i = 0;
+            while (i < values.length) {
+                WSContext value = values[i];
+                if (value != null && value.getOwner() == owner) {
+                    removed.add(value);
+                    // the next entry might be shifted into this slot
+                    delete(i);
+                } else {
+                    i += 1;
+                }
+            }
+        }
+
+        synchronized int count(final Object owner) {
+            if (owner == null) {
+                return size;
+            }
+            int count = 0;
+            for (WSContext value : values) {
+                if (value != null && value.getOwner() == owner) {
+                    count += 1;
+                }
+            }
+            return count;
+        }
+    }
+
+    PendingCommands() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.wheel = new TimeoutWheel(this);
+    }
+
+    private Stripe stripe(final int id) {
+        return stripes[id & (STRIPES - 1)];
+    }
+
+    /**
+     * Registers a command whose caller waits for the response itself.
+     */
+    void put(final int id, final WSContext context) {
+        stripe(id).put(id, context);
+    }
+
+    /**
+     * Registers a command which is failed if the response is not received in <code>timeout</code> milliseconds.
+     */
+    void put(final int id, final WSContext context, final int timeout) {
+        stripe(id).put(id, context);
+        wheel.schedule(id, context, timeout);
+    }
+
+    WSContext get(final int id) {
+        return stripe(id).get(id);
+    }
+
+    WSContext remove(final int id) {
+        return stripe(id).remove(id, null);
+    }
+
+    /**
+     * Removes the command only if it is still mapped to <code>context</code>.
+     * 
+     * @return <code>true</code> if the caller owns the completion of the context
+     */
+    boolean remove(final int id, final WSContext context) {
+        return stripe(id).remove(id, context) != null;
+    }
+
+    List<WSContext> removeOwner(final Object owner) {
+        List<WSContext> removed = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            stripe.removeOwner(owner, removed);
+        }
+        return removed;
+    }
+
+    /**
+     * @return number of the in-flight commands sent by <code>owner</code>
+     */
+    int count(final Object owner) {
+        int count = 0;
+        for (Stripe stripe : stripes) {
+            count += stripe.count(owner);
+        }
+        return count;
+    }
+
+    int size() {
+        return count(null);
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    void close() {
+        wheel.stop();
+    }
+}
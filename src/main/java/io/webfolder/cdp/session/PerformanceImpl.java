@@ -0,0 +1,68 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+import com.google.gson.reflect.TypeToken;
+
+import io.webfolder.cdp.command.Performance;
+import io.webfolder.cdp.type.performance.Metric;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class PerformanceImpl implements Performance {
+    static final CommandSerializer DISABLE = new CommandSerializer("Performance", "disable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer ENABLE = new CommandSerializer("Performance", "enable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer GET_METRICS = new CommandSerializer("Performance", "getMetrics",
+            new String[0],
+            new Type[0],
+            new TypeToken<List<Metric>>() { }.getType(), "metrics");
+
+    private final SessionInvocationHandler handler;
+
+    PerformanceImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public void disable() {
+        handler.invoke(DISABLE, null);
+    }
+
+    @Override
+    public void enable() {
+        handler.invoke(ENABLE, null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Metric> getMetrics() {
+        return (List<Metric>) handler.invoke(GET_METRICS, null);
+    }
+}
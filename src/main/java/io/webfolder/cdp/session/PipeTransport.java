@@ -0,0 +1,168 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.copyOf;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.webfolder.cdp.exception.CdpException;
+
+/**
+ * Talks to a browser which is launched with <code>--remote-debugging-pipe</code>.
+ * 
+ * Messages are null-byte-delimited JSON documents, there is no HTTP handshake,
+ * no framing and no port to allocate.
+ * 
+ * @see io.webfolder.cdp.Launcher#setPipe(boolean)
+ */
+public class PipeTransport implements Transport {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final InputStream in;
+
+    private final OutputStream out;
+
+    // not a monitor, a virtual thread which blocks on a full pipe must not pin its carrier
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile boolean open = true;
+
+    /**
+     * @param in the stream which the browser writes to (file descriptor <code>4</code> of the browser)
+     * @param out the stream which the browser reads from (file descriptor <code>3</code> of the browser)
+     */
+    public PipeTransport(final InputStream in, final OutputStream out) {
+        this.in  = in;
+        this.out = out;
+    }
+
+    @Override
+    public void connect(final MessageHandler handler) {
+        Thread thread = new Thread(() -> read(handler));
+        thread.setName("cdp4j-pipe");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void read(final MessageHandler handler) {
+        byte[] chunk   = new byte[BUFFER_SIZE];
+        byte[] message = new byte[BUFFER_SIZE];
+        int    length  = 0;
+        try {
+            int read;
+            while ((read = in.read(chunk)) != -1) {
+                int start = 0;
+                for (int i = 0; i < read; i++) {
+                    if (chunk[i] != 0) {
+                        continue;
+                    }
+                    int size = i - start;
+                    if (length == 0) {
+                        // the whole message is in the chunk, no need to copy
+                        handler.onMessage(chunk, start, size);
+                    } else {
+                        message = append(message, length, chunk, start, size);
+                        handler.onMessage(message, 0, length + size);
+                        length = 0;
+                    }
+                    start = i + 1;
+                }
+                if (start < read) {
+                    message = append(message, length, chunk, start, read - start);
+                    length += read - start;
+                }
+            }
+        } catch (IOException e) {
+            // closed
+        } finally {
+            close();
+        }
+    }
+
+    private static byte[] append(byte[] message, final int length,
+                                    final byte[] chunk, final int start, final int size) {
+        if (length + size > message.length) {
+            message = copyOf(message, Math.max(message.length * 2, length + size));
+        }
+        System.arraycopy(chunk, start, message, length, size);
+        return message;
+    }
+
+    @Override
+    public void send(final String message) {
+        writeLock.lock();
+        try {
+            write(message);
+            out.flush();
+        } catch (IOException e) {
+            throw new CdpException(e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void send(final List<String> messages) {
+        writeLock.lock();
+        try {
+            for (String message : messages) {
+                write(message);
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new CdpException(e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void write(final String message) throws IOException {
+        out.write(message.getBytes(UTF_8));
+        out.write(0);
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public void close() {
+        if ( ! open ) {
+            return;
+        }
+        open = false;
+        try {
+            out.close();
+        } catch (IOException e) {
+            // ignore
+        }
+        try {
+            in.close();
+        } catch (IOException e) {
+            // ignore
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+import com.google.gson.reflect.TypeToken;
+
+import io.webfolder.cdp.command.Profiler;
+import io.webfolder.cdp.type.profiler.Profile;
+import io.webfolder.cdp.type.profiler.ScriptCoverage;
+import io.webfolder.cdp.type.profiler.ScriptTypeProfile;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class ProfilerImpl implements Profiler {
+    static final CommandSerializer DISABLE = new CommandSerializer("Profiler", "disable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer ENABLE = new CommandSerializer("Profiler", "enable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer GET_BEST_EFFORT_COVERAGE = new CommandSerializer("Profiler", "getBestEffortCoverage",
+            new String[0],
+            new Type[0],
+            new TypeToken<List<ScriptCoverage>>() { }.getType(), "result");
+
+    static final CommandSerializer SET_SAMPLING_INTERVAL = new CommandSerializer("Profiler", "setSamplingInterval",
+            new String[] { "interval" },
+            new Type[] { Integer.class },
+            null, null);
+
+    static final CommandSerializer START = new CommandSerializer("Profiler", "start",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer START_PRECISE_COVERAGE = new CommandSerializer("Profiler", "startPreciseCoverage",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer START_PRECISE_COVERAGE_1 = new CommandSerializer("Profiler", "startPreciseCoverage",
+            new String[] { "callCount", "detailed" },
+            new Type[] { Boolean.class, Boolean.class },
+            null, null);
+
+    static final CommandSerializer START_TYPE_PROFILE = new CommandSerializer("Profiler", "startTypeProfile",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer STOP = new CommandSerializer("Profiler", "stop",
+            new String[0],
+            new Type[0],
+            Profile.class, "profile");
+
+    static final CommandSerializer STOP_PRECISE_COVERAGE = new CommandSerializer("Profiler", "stopPreciseCoverage",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer STOP_TYPE_PROFILE = new CommandSerializer("Profiler", "stopTypeProfile",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer TAKE_PRECISE_COVERAGE = new CommandSerializer("Profiler", "takePreciseCoverage",
+            new String[0],
+            new Type[0],
+            new TypeToken<List<ScriptCoverage>>() { }.getType(), "result");
+
+    static final CommandSerializer TAKE_TYPE_PROFILE = new CommandSerializer("Profiler", "takeTypeProfile",
+            new String[0],
+            new Type[0],
+            new TypeToken<List<ScriptTypeProfile>>() { }.getType(), "result");
+
+    private final SessionInvocationHandler handler;
+
+    ProfilerImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public void disable() {
+        handler.invoke(DISABLE, null);
+    }
+
+    @Override
+    public void enable() {
+        handler.invoke(ENABLE, null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ScriptCoverage> getBestEffortCoverage() {
+        return (List<ScriptCoverage>) handler.invoke(GET_BEST_EFFORT_COVERAGE, null);
+    }
+
+    @Override
+    public void setSamplingInterval(final Integer interval) {
+        handler.invoke(SET_SAMPLING_INTERVAL, new Object[] { interval });
+    }
+
+    @Override
+    public void start() {
+        handler.invoke(START, null);
+    }
+
+    @Override
+    public void startPreciseCoverage() {
+        handler.invoke(START_PRECISE_COVERAGE, null);
+    }
+
+    @Override
+    public void startPreciseCoverage(final Boolean callCount, final Boolean detailed) {
+        handler.invoke(START_PRECISE_COVERAGE_1, new Object[] { callCount, detailed });
+    }
+
+    @Override
+    public void startTypeProfile() {
+        handler.invoke(START_TYPE_PROFILE, null);
+    }
+
+    @Override
+    public Profile stop() {
+        return (Profile) handler.invoke(STOP, null);
+    }
+
+    @Override
+    public void stopPreciseCoverage() {
+        handler.invoke(STOP_PRECISE_COVERAGE, null);
+    }
+
+    @Override
+    public void stopTypeProfile() {
+        handler.invoke(STOP_TYPE_PROFILE, null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ScriptCoverage> takePreciseCoverage() {
+        return (List<ScriptCoverage>) handler.invoke(TAKE_PRECISE_COVERAGE, null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ScriptTypeProfile> takeTypeProfile() {
+        return (List<ScriptTypeProfile>) handler.invoke(TAKE_TYPE_PROFILE, null);
+    }
+}
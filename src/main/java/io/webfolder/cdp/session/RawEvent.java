@@ -0,0 +1,545 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import static java.lang.Math.max;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.copyOf;
+import static java.util.Arrays.fill;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
+
+import io.webfolder.cdp.event.Events;
+import io.webfolder.cdp.exception.CdpException;
+
+/**
+ * Lightweight view over the raw message of an event.
+ * 
+ * The <code>params</code> of the event is not decoded when the message is received.
+ * The first accessor locates the members of the <code>params</code> in a single pass,
+ * each accessor decodes only the requested member and keeps the value for the next call.
+ * Listeners which read a few members of a high-frequency event avoid building the event object
+ * and its nested maps and lists.
+ * 
+ * The instance is reused for the next event of the session, it must not be retained
+ * after the listener returns. Use {@link #toEvent()} to keep the event.
+ */
+public final class RawEvent {
+
+    private static final int INITIAL_MEMBERS = 16;
+
+    // fields of a member in the index
+    private static final int NAME_START  = 0;
+    private static final int NAME_END    = 1;
+    private static final int VALUE_START = 2;
+    private static final int VALUE_END   = 3;
+    private static final int FIELDS      = 4;
+
+    private final Gson gson;
+
+    private final SliceReader slice = new SliceReader();
+
+    private Events event;
+
+    // UTF-8 encoded message or message text
+    private Object message;
+
+    // number of the encoded bytes of the message
+    private int length;
+
+    // message text, reused for the next event
+    private char[] chars = new char[1024];
+
+    private boolean indexed;
+
+    private int paramsStart = -1;
+
+    private int paramsEnd;
+
+    // name and value offsets of the params members
+    private int[] members = new int[INITIAL_MEMBERS * FIELDS];
+
+    private int count;
+
+    // decoded member values and the types which they are decoded to
+    private Object[] values = new Object[INITIAL_MEMBERS];
+
+    private Object[] types = new Object[INITIAL_MEMBERS];
+
+    private Object decoded;
+
+    RawEvent(final Gson gson) {
+        this.gson = gson;
+    }
+
+    /**
+     * @param message UTF-8 encoded message or message text
+     * @param length number of the encoded bytes, ignored for the message text
+     */
+    void reset(final Events event, final Object message, final int length) {
+        this.event   = event;
+        this.message = message;
+        this.length  = length;
+        if (indexed) {
+            fill(values, 0, count, null);
+            fill(types, 0, count, null);
+            indexed     = false;
+            paramsStart = -1;
+            count       = 0;
+            decoded     = null;
+        }
+    }
+
+    public Events getEvent() {
+        return event;
+    }
+
+    public boolean has(final String name) {
+        int member = find(name);
+        return member >= 0 && ! isNull(member);
+    }
+
+    public String getString(final String name) {
+        return (String) read(name, String.class);
+    }
+
+    public Integer getInteger(final String name) {
+        return (Integer) read(name, Integer.class);
+    }
+
+    public Long getLong(final String name) {
+        return (Long) read(name, Long.class);
+    }
+
+    public Double getDouble(final String name) {
+        return (Double) read(name, Double.class);
+    }
+
+    public Boolean getBoolean(final String name) {
+        return (Boolean) read(name, Boolean.class);
+    }
+
+    /**
+     * Binds a member of the <code>params</code> to the given type.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(final String name, final Class<T> type) {
+        return (T) read(name, type);
+    }
+
+    /**
+     * Decodes the whole event, e.g. {@link io.webfolder.cdp.event.network.DataReceived}.
+     */
+    public Object toEvent() {
+        index();
+        if (paramsStart < 0) {
+            return null;
+        }
+        if (decoded == null) {
+            decoded = bind(paramsStart, paramsEnd, event.klass);
+        }
+        return decoded;
+    }
+
+    private Object read(final String name, final Class<?> type) {
+        int member = find(name);
+        if (member < 0 || isNull(member)) {
+            return null;
+        }
+        if (types[member] == type) {
+            return values[member];
+        }
+        int start = members[member * FIELDS + VALUE_START];
+        int end   = members[member * FIELDS + VALUE_END];
+        Object value;
+        try {
+            if (String.class.equals(type)) {
+                value = text(start, end);
+            } else if (Integer.class.equals(type)) {
+                long number = toLong(start, end);
+                if ((int) number != number) {
+                    throw new NumberFormatException("Expected an int but was " + number);
+                }
+                value = Integer.valueOf((int) number);
+            } else if (Long.class.equals(type)) {
+                value = Long.valueOf(toLong(start, end));
+            } else if (Double.class.equals(type)) {
+                value = Double.valueOf(text(start, end));
+            } else if (Boolean.class.equals(type)) {
+                if (matches(start, end, "true")) {
+                    value = Boolean.TRUE;
+                } else if (matches(start, end, "false")) {
+                    value = Boolean.FALSE;
+                } else {
+                    throw new IllegalStateException("Expected a boolean but was " + new String(chars, start, end - start));
+                }
+            } else {
+                value = bind(start, end, type);
+            }
+        } catch (IllegalStateException | NumberFormatException e) {
+            throw new CdpException(e);
+        }
+        values[member] = value;
+        types[member]  = type;
+        return value;
+    }
+
+    private Object bind(final int start, final int end, final Class<?> type) {
+        slice.reset(chars, start, end);
+        JsonReader reader = new JsonReader(slice);
+        reader.setLenient(true);
+        try {
+            return gson.getAdapter(type).read(reader);
+        } catch (IOException | IllegalStateException | NumberFormatException e) {
+            throw new CdpException(e);
+        }
+    }
+
+    /**
+     * @return index of the member, <code>-1</code> if the params has no such member
+     */
+    private int find(final String name) {
+        index();
+        for (int i = 0; i < count; i++) {
+            int start = members[i * FIELDS + NAME_START];
+            int end   = members[i * FIELDS + NAME_END];
+            if (matches(start, end, name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isNull(final int member) {
+        return matches(members[member * FIELDS + VALUE_START], members[member * FIELDS + VALUE_END], "null");
+    }
+
+    private boolean matches(final int start, final int end, final String value) {
+        if (end - start != value.length()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (chars[start + i] != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ------------------------------------------------------------------------
+    // index
+    // ------------------------------------------------------------------------
+
+    /**
+     * Locates the <code>params</code> and the offsets of its members, once per event.
+     */
+    private void index() {
+        if (indexed) {
+            return;
+        }
+        int size = decode();
+        indexed = true;
+        try {
+            int pos = expect(skipWhitespace(0, size), size, '{');
+            while (true) {
+                pos = skipWhitespace(pos, size);
+                if (pos < size && chars[pos] == '}') {
+                    return;
+                }
+                int nameStart = expect(pos, size, '"');
+                int nameEnd   = skipString(pos, size) - 1;
+                pos = skipWhitespace(expect(skipWhitespace(nameEnd + 1, size), size, ':'), size);
+                int valueEnd = skipValue(pos, size);
+                if (matches(nameStart, nameEnd, "params")) {
+                    if (chars[pos] == '{') {
+                        paramsStart = pos;
+                        paramsEnd   = valueEnd;
+                        indexMembers(pos + 1, valueEnd - 1);
+                    }
+                    return;
+                }
+                pos = skipWhitespace(valueEnd, size);
+                if (pos < size && chars[pos] == ',') {
+                    pos += 1;
+                }
+            }
+        } catch (IllegalStateException e) {
+            count       = 0;
+            paramsStart = -1;
+            throw new CdpException(e);
+        }
+    }
+
+    private void indexMembers(final int start, final int end) {
+        int pos = skipWhitespace(start, end);
+        while (pos < end) {
+            int nameStart = expect(pos, end, '"');
+            int nameEnd   = skipString(pos, end) - 1;
+            pos = skipWhitespace(expect(skipWhitespace(nameEnd + 1, end), end, ':'), end);
+            int valueEnd = skipValue(pos, end);
+            if (count * FIELDS == members.length) {
+                members = copyOf(members, members.length * 2);
+                values  = copyOf(values, values.length * 2);
+                types   = copyOf(types, types.length * 2);
+            }
+            int offset = count * FIELDS;
+            members[offset + NAME_START]  = nameStart;
+            members[offset + NAME_END]    = nameEnd;
+            members[offset + VALUE_START] = pos;
+            members[offset + VALUE_END]   = valueEnd;
+            count += 1;
+            pos = skipWhitespace(valueEnd, end);
+            if (pos < end) {
+                pos = skipWhitespace(expect(pos, end, ','), end);
+            }
+        }
+    }
+
+    /**
+     * Decodes the message into the reused char buffer.
+     * 
+     * @return number of the chars
+     */
+    private int decode() {
+        if (message instanceof String) {
+            String text = (String) message;
+            ensureCapacity(text.length());
+            text.getChars(0, text.length(), chars, 0);
+            return text.length();
+        }
+        byte[] bytes = (byte[]) message;
+        ensureCapacity(length);
+        int i = 0;
+        // protocol messages are mostly ASCII
+        while (i < length && bytes[i] >= 0) {
+            chars[i] = (char) bytes[i];
+            i += 1;
+        }
+        if (i == length) {
+            return length;
+        }
+        String rest = new String(bytes, i, length - i, UTF_8);
+        ensureCapacity(i + rest.length());
+        rest.getChars(0, rest.length(), chars, i);
+        return i + rest.length();
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (chars.length < capacity) {
+            chars = copyOf(chars, max(capacity, chars.length * 2));
+        }
+    }
+
+    private int skipWhitespace(int pos, final int end) {
+        while (pos < end && chars[pos] <= ' ') {
+            pos += 1;
+        }
+        return pos;
+    }
+
+    private int expect(final int pos, final int end, final char c) {
+        if (pos >= end || chars[pos] != c) {
+            throw new IllegalStateException("Expected '" + c + "' at " + pos);
+        }
+        return pos + 1;
+    }
+
+    /**
+     * @return position after the closing quote
+     */
+    private int skipString(int pos, final int end) {
+        pos += 1;
+        while (pos < end) {
+            char c = chars[pos];
+            if (c == '"') {
+                return pos + 1;
+            }
+            pos += c == '\\' ? 2 : 1;
+        }
+        throw new IllegalStateException("Unterminated string");
+    }
+
+    /**
+     * @return position after the value
+     */
+    private int skipValue(int pos, final int end) {
+        if (pos >= end) {
+            throw new IllegalStateException("Expected a value at " + pos);
+        }
+        char c = chars[pos];
+        if (c == '"') {
+            return skipString(pos, end);
+        }
+        if (c == '{' || c == '[') {
+            int depth = 0;
+            while (pos < end) {
+                c = chars[pos];
+                if (c == '"') {
+                    pos = skipString(pos, end);
+                    continue;
+                }
+                if (c == '{' || c == '[') {
+                    depth += 1;
+                } else if (c == '}' || c == ']') {
+                    depth -= 1;
+                    if (depth == 0) {
+                        return pos + 1;
+                    }
+                }
+                pos += 1;
+            }
+            throw new IllegalStateException("Unterminated value");
+        }
+        while (pos < end && (c = chars[pos]) != ',' && c != '}' && c != ']' && c > ' ') {
+            pos += 1;
+        }
+        return pos;
+    }
+
+    // ------------------------------------------------------------------------
+    // values
+    // ------------------------------------------------------------------------
+
+    /**
+     * @return content of the string, or the literal text of a number or a boolean
+     */
+    private String text(final int start, final int end) {
+        char c = chars[start];
+        if (c == '{' || c == '[') {
+            throw new IllegalStateException("Expected a string but was " + (c == '{' ? "BEGIN_OBJECT" : "BEGIN_ARRAY"));
+        }
+        if (c != '"') {
+            return new String(chars, start, end - start);
+        }
+        int pos = start + 1;
+        int last = end - 1;
+        StringBuilder builder = null;
+        int from = pos;
+        while (pos < last) {
+            if (chars[pos] != '\\') {
+                pos += 1;
+                continue;
+            }
+            if (builder == null) {
+                builder = new StringBuilder(last - start);
+            }
+            builder.append(chars, from, pos - from);
+            char escaped = chars[pos + 1];
+            switch (escaped) {
+                case 'b': builder.append('\b'); break;
+                case 'f': builder.append('\f'); break;
+                case 'n': builder.append('\n'); break;
+                case 'r': builder.append('\r'); break;
+                case 't': builder.append('\t'); break;
+                case 'u':
+                    if (pos + 6 > last) {
+                        throw new NumberFormatException("Unterminated escape sequence");
+                    }
+                    builder.append((char) Integer.parseInt(new String(chars, pos + 2, 4), 16));
+                    pos += 4;
+                break;
+                default: builder.append(escaped);
+            }
+            pos += 2;
+            from = pos;
+        }
+        if (builder == null) {
+            return new String(chars, start + 1, last - start - 1);
+        }
+        return builder.append(chars, from, last - from).toString();
+    }
+
+    private long toLong(final int start, final int end) {
+        int pos = start;
+        int last = end;
+        if (chars[pos] == '"') {
+            pos += 1;
+            last -= 1;
+        }
+        boolean negative = pos < last && chars[pos] == '-';
+        if (negative) {
+            pos += 1;
+        }
+        long value = 0;
+        boolean digits = pos < last;
+        for (int i = pos; i < last && digits; i++) {
+            char c = chars[i];
+            // digits are accumulated as a negative number to include Long.MIN_VALUE
+            if (c < '0' || c > '9' || value < (Long.MIN_VALUE + (c - '0')) / 10) {
+                digits = false;
+            } else {
+                value = value * 10 - (c - '0');
+            }
+        }
+        if (digits && (negative || value != Long.MIN_VALUE)) {
+            return negative ? value : -value;
+        }
+        // exponent or fraction, accepted if the number has no fractional part as JsonReader does
+        String text = text(start, end);
+        double number = Double.parseDouble(text);
+        long result = (long) number;
+        if (result != number) {
+            throw new NumberFormatException("Expected a long but was " + text);
+        }
+        return result;
+    }
+
+    /**
+     * Reads a range of the char buffer, reused for every member which is bound by {@link Gson}.
+     */
+    private static final class SliceReader extends Reader {
+
+        private char[] chars;
+
+        private int pos;
+
+        private int end;
+
+        void reset(final char[] chars, final int start, final int end) {
+            this.chars = chars;
+            this.pos   = start;
+            this.end   = end;
+        }
+
+        @Override
+        public int read(final char[] buffer, final int offset, final int length) {
+            if (pos >= end) {
+                return -1;
+            }
+            int read = Math.min(length, end - pos);
+            System.arraycopy(chars, pos, buffer, offset, read);
+            pos += read;
+            return read;
+        }
+
+        @Override
+        public void close() {
+            // no op
+        }
+    }
+
+    @Override
+    public String toString() {
+        String text = message instanceof byte[] ? new String((byte[]) message, 0, length, UTF_8) : (String) message;
+        return "RawEvent [event=" + event + ", message=" + text + "]";
+    }
+}
@@ -0,0 +1,42 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+/**
+ * Defines how the commands and the events of a page session
+ * are carried between cdp4j and the browser.
+ */
+public enum RoutingMode {
+    /**
+     * Messages are wrapped with <code>Target.sendMessageToTarget</code>
+     * and unwrapped from <code>Target.receivedMessageFromTarget</code> events.
+     */
+    Tunnel,
+    /**
+     * Messages are sent over the browser WebSocket with a top level <code>sessionId</code>
+     * and demultiplexed by <code>sessionId</code>. Requires a browser that supports
+     * the <code>flatten</code> parameter of <code>Target.attachToTarget</code>.
+     */
+    Flat,
+    /**
+     * Each page session opens its own WebSocket connection
+     * (<code>ws://host:port/devtools/page/&lt;targetId&gt;</code>).
+     * The browser WebSocket is used only for the Target domain.
+     */
+    Dedicated
+}
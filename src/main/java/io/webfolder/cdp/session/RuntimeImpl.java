@@ -0,0 +1,371 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+import com.google.gson.reflect.TypeToken;
+
+import io.webfolder.cdp.command.Runtime;
+import io.webfolder.cdp.type.runtime.AwaitPromiseResult;
+import io.webfolder.cdp.type.runtime.CallArgument;
+import io.webfolder.cdp.type.runtime.CallFunctionOnResult;
+import io.webfolder.cdp.type.runtime.CompileScriptResult;
+import io.webfolder.cdp.type.runtime.EvaluateResult;
+import io.webfolder.cdp.type.runtime.GetHeapUsageResult;
+import io.webfolder.cdp.type.runtime.GetPropertiesResult;
+import io.webfolder.cdp.type.runtime.RemoteObject;
+import io.webfolder.cdp.type.runtime.RunScriptResult;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class RuntimeImpl implements Runtime {
+    static final CommandSerializer ADD_BINDING = new CommandSerializer("Runtime", "addBinding",
+            new String[] { "name" },
+            new Type[] { String.class },
+            null, null);
+
+    static final CommandSerializer ADD_BINDING_1 = new CommandSerializer("Runtime", "addBinding",
+            new String[] { "name", "executionContextId" },
+            new Type[] { String.class, Integer.class },
+            null, null);
+
+    static final CommandSerializer AWAIT_PROMISE = new CommandSerializer("Runtime", "awaitPromise",
+            new String[] { "promiseObjectId" },
+            new Type[] { String.class },
+            AwaitPromiseResult.class, null);
+
+    static final CommandSerializer AWAIT_PROMISE_1 = new CommandSerializer("Runtime", "awaitPromise",
+            new String[] { "promiseObjectId", "returnByValue", "generatePreview" },
+            new Type[] { String.class, Boolean.class, Boolean.class },
+            AwaitPromiseResult.class, null);
+
+    static final CommandSerializer CALL_FUNCTION_ON = new CommandSerializer("Runtime", "callFunctionOn",
+            new String[] { "functionDeclaration" },
+            new Type[] { String.class },
+            CallFunctionOnResult.class, null);
+
+    static final CommandSerializer CALL_FUNCTION_ON_1 = new CommandSerializer("Runtime", "callFunctionOn",
+            new String[] { "functionDeclaration", "objectId", "arguments", "silent", "returnByValue", "generatePreview", "userGesture", "awaitPromise", "executionContextId", "objectGroup" },
+            new Type[] { String.class, String.class, new TypeToken<List<CallArgument>>() { }.getType(), Boolean.class, Boolean.class, Boolean.class, Boolean.class, Boolean.class, Integer.class, String.class },
+            CallFunctionOnResult.class, null);
+
+    static final CommandSerializer COMPILE_SCRIPT = new CommandSerializer("Runtime", "compileScript",
+            new String[] { "expression", "sourceURL", "persistScript" },
+            new Type[] { String.class, String.class, Boolean.class },
+            CompileScriptResult.class, null);
+
+    static final CommandSerializer COMPILE_SCRIPT_1 = new CommandSerializer("Runtime", "compileScript",
+            new String[] { "expression", "sourceURL", "persistScript", "executionContextId" },
+            new Type[] { String.class, String.class, Boolean.class, Integer.class },
+            CompileScriptResult.class, null);
+
+    static final CommandSerializer DISABLE = new CommandSerializer("Runtime", "disable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer DISCARD_CONSOLE_ENTRIES = new CommandSerializer("Runtime", "discardConsoleEntries",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer ENABLE = new CommandSerializer("Runtime", "enable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer EVALUATE = new CommandSerializer("Runtime", "evaluate",
+            new String[] { "expression" },
+            new Type[] { String.class },
+            EvaluateResult.class, null);
+
+    static final CommandSerializer EVALUATE_1 = new CommandSerializer("Runtime", "evaluate",
+            new String[] { "expression", "objectGroup", "includeCommandLineAPI", "silent", "contextId", "returnByValue", "generatePreview", "userGesture", "awaitPromise", "throwOnSideEffect", "timeout" },
+            new Type[] { String.class, String.class, Boolean.class, Boolean.class, Integer.class, Boolean.class, Boolean.class, Boolean.class, Boolean.class, Boolean.class, Double.class },
+            EvaluateResult.class, null);
+
+    static final CommandSerializer GET_HEAP_USAGE = new CommandSerializer("Runtime", "getHeapUsage",
+            new String[0],
+            new Type[0],
+            GetHeapUsageResult.class, null);
+
+    static final CommandSerializer GET_ISOLATE_ID = new CommandSerializer("Runtime", "getIsolateId",
+            new String[0],
+            new Type[0],
+            String.class, "id");
+
+    static final CommandSerializer GET_PROPERTIES = new CommandSerializer("Runtime", "getProperties",
+            new String[] { "objectId" },
+            new Type[] { String.class },
+            GetPropertiesResult.class, null);
+
+    static final CommandSerializer GET_PROPERTIES_1 = new CommandSerializer("Runtime", "getProperties",
+            new String[] { "objectId", "ownProperties", "accessorPropertiesOnly", "generatePreview" },
+            new Type[] { String.class, Boolean.class, Boolean.class, Boolean.class },
+            GetPropertiesResult.class, null);
+
+    static final CommandSerializer GLOBAL_LEXICAL_SCOPE_NAMES = new CommandSerializer("Runtime", "globalLexicalScopeNames",
+            new String[0],
+            new Type[0],
+            new TypeToken<List<String>>() { }.getType(), "names");
+
+    static final CommandSerializer GLOBAL_LEXICAL_SCOPE_NAMES_1 = new CommandSerializer("Runtime", "globalLexicalScopeNames",
+            new String[] { "executionContextId" },
+            new Type[] { Integer.class },
+            new TypeToken<List<String>>() { }.getType(), "names");
+
+    static final CommandSerializer QUERY_OBJECTS = new CommandSerializer("Runtime", "queryObjects",
+            new String[] { "prototypeObjectId" },
+            new Type[] { String.class },
+            RemoteObject.class, "objects");
+
+    static final CommandSerializer QUERY_OBJECTS_1 = new CommandSerializer("Runtime", "queryObjects",
+            new String[] { "prototypeObjectId", "objectGroup" },
+            new Type[] { String.class, String.class },
+            RemoteObject.class, "objects");
+
+    static final CommandSerializer RELEASE_OBJECT = new CommandSerializer("Runtime", "releaseObject",
+            new String[] { "objectId" },
+            new Type[] { String.class },
+            null, null);
+
+    static final CommandSerializer RELEASE_OBJECT_GROUP = new CommandSerializer("Runtime", "releaseObjectGroup",
+            new String[] { "objectGroup" },
+            new Type[] { String.class },
+            null, null);
+
+    static final CommandSerializer REMOVE_BINDING = new CommandSerializer("Runtime", "removeBinding",
+            new String[] { "name" },
+            new Type[] { String.class },
+            null, null);
+
+    static final CommandSerializer RUN_IF_WAITING_FOR_DEBUGGER = new CommandSerializer("Runtime", "runIfWaitingForDebugger",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer RUN_SCRIPT = new CommandSerializer("Runtime", "runScript",
+            new String[] { "scriptId" },
+            new Type[] { String.class },
+            RunScriptResult.class, null);
+
+    static final CommandSerializer RUN_SCRIPT_1 = new CommandSerializer("Runtime", "runScript",
+            new String[] { "scriptId", "executionContextId", "objectGroup", "silent", "includeCommandLineAPI", "returnByValue", "generatePreview", "awaitPromise" },
+            new Type[] { String.class, Integer.class, String.class, Boolean.class, Boolean.class, Boolean.class, Boolean.class, Boolean.class },
+            RunScriptResult.class, null);
+
+    static final CommandSerializer SET_ASYNC_CALL_STACK_DEPTH = new CommandSerializer("Runtime", "setAsyncCallStackDepth",
+            new String[] { "maxDepth" },
+            new Type[] { Integer.class },
+            null, null);
+
+    static final CommandSerializer SET_CUSTOM_OBJECT_FORMATTER_ENABLED = new CommandSerializer("Runtime", "setCustomObjectFormatterEnabled",
+            new String[] { "enabled" },
+            new Type[] { Boolean.class },
+            null, null);
+
+    static final CommandSerializer SET_MAX_CALL_STACK_SIZE_TO_CAPTURE = new CommandSerializer("Runtime", "setMaxCallStackSizeToCapture",
+            new String[] { "size" },
+            new Type[] { Integer.class },
+            null, null);
+
+    static final CommandSerializer TERMINATE_EXECUTION = new CommandSerializer("Runtime", "terminateExecution",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    private final SessionInvocationHandler handler;
+
+    RuntimeImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public void addBinding(final String name) {
+        handler.invoke(ADD_BINDING, new Object[] { name });
+    }
+
+    @Override
+    public void addBinding(final String name, final Integer executionContextId) {
+        handler.invoke(ADD_BINDING_1, new Object[] { name, executionContextId });
+    }
+
+    @Override
+    public AwaitPromiseResult awaitPromise(final String promiseObjectId) {
+        return (AwaitPromiseResult) handler.invoke(AWAIT_PROMISE, new Object[] { promiseObjectId });
+    }
+
+    @Override
+    public AwaitPromiseResult awaitPromise(final String promiseObjectId,
+            final Boolean returnByValue, final Boolean generatePreview) {
+        return (AwaitPromiseResult) handler.invoke(AWAIT_PROMISE_1, new Object[] { promiseObjectId, returnByValue, generatePreview });
+    }
+
+    @Override
+    public CallFunctionOnResult callFunctionOn(final String functionDeclaration) {
+        return (CallFunctionOnResult) handler.invoke(CALL_FUNCTION_ON, new Object[] { functionDeclaration });
+    }
+
+    @Override
+    public CallFunctionOnResult callFunctionOn(final String functionDeclaration,
+            final String objectId, final List<CallArgument> arguments, final Boolean silent,
+            final Boolean returnByValue, final Boolean generatePreview, final Boolean userGesture,
+            final Boolean awaitPromise, final Integer executionContextId,
+            final String objectGroup) {
+        return (CallFunctionOnResult) handler.invoke(CALL_FUNCTION_ON_1, new Object[] { functionDeclaration, objectId, arguments, silent, returnByValue, generatePreview, userGesture, awaitPromise, executionContextId, objectGroup });
+    }
+
+    @Override
+    public CompileScriptResult compileScript(final String expression, final String sourceURL,
+            final Boolean persistScript) {
+        return (CompileScriptResult) handler.invoke(COMPILE_SCRIPT, new Object[] { expression, sourceURL, persistScript });
+    }
+
+    @Override
+    public CompileScriptResult compileScript(final String expression, final String sourceURL,
+            final Boolean persistScript, final Integer executionContextId) {
+        return (CompileScriptResult) handler.invoke(COMPILE_SCRIPT_1, new Object[] { expression, sourceURL, persistScript, executionContextId });
+    }
+
+    @Override
+    public void disable() {
+        handler.invoke(DISABLE, null);
+    }
+
+    @Override
+    public void discardConsoleEntries() {
+        handler.invoke(DISCARD_CONSOLE_ENTRIES, null);
+    }
+
+    @Override
+    public void enable() {
+        handler.invoke(ENABLE, null);
+    }
+
+    @Override
+    public EvaluateResult evaluate(final String expression) {
+        return (EvaluateResult) handler.invoke(EVALUATE, new Object[] { expression });
+    }
+
+    @Override
+    public EvaluateResult evaluate(final String expression, final String objectGroup,
+            final Boolean includeCommandLineAPI, final Boolean silent, final Integer contextId,
+            final Boolean returnByValue, final Boolean generatePreview, final Boolean userGesture,
+            final Boolean awaitPromise, final Boolean throwOnSideEffect, final Double timeout) {
+        return (EvaluateResult) handler.invoke(EVALUATE_1, new Object[] { expression, objectGroup, includeCommandLineAPI, silent, contextId, returnByValue, generatePreview, userGesture, awaitPromise, throwOnSideEffect, timeout });
+    }
+
+    @Override
+    public GetHeapUsageResult getHeapUsage() {
+        return (GetHeapUsageResult) handler.invoke(GET_HEAP_USAGE, null);
+    }
+
+    @Override
+    public String getIsolateId() {
+        return (String) handler.invoke(GET_ISOLATE_ID, null);
+    }
+
+    @Override
+    public GetPropertiesResult getProperties(final String objectId) {
+        return (GetPropertiesResult) handler.invoke(GET_PROPERTIES, new Object[] { objectId });
+    }
+
+    @Override
+    public GetPropertiesResult getProperties(final String objectId, final Boolean ownProperties,
+            final Boolean accessorPropertiesOnly, final Boolean generatePreview) {
+        return (GetPropertiesResult) handler.invoke(GET_PROPERTIES_1, new Object[] { objectId, ownProperties, accessorPropertiesOnly, generatePreview });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> globalLexicalScopeNames() {
+        return (List<String>) handler.invoke(GLOBAL_LEXICAL_SCOPE_NAMES, null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> globalLexicalScopeNames(final Integer executionContextId) {
+        return (List<String>) handler.invoke(GLOBAL_LEXICAL_SCOPE_NAMES_1, new Object[] { executionContextId });
+    }
+
+    @Override
+    public RemoteObject queryObjects(final String prototypeObjectId) {
+        return (RemoteObject) handler.invoke(QUERY_OBJECTS, new Object[] { prototypeObjectId });
+    }
+
+    @Override
+    public RemoteObject queryObjects(final String prototypeObjectId, final String objectGroup) {
+        return (RemoteObject) handler.invoke(QUERY_OBJECTS_1, new Object[] { prototypeObjectId, objectGroup });
+    }
+
+    @Override
+    public void releaseObject(final String objectId) {
+        handler.invoke(RELEASE_OBJECT, new Object[] { objectId });
+    }
+
+    @Override
+    public void releaseObjectGroup(final String objectGroup) {
+        handler.invoke(RELEASE_OBJECT_GROUP, new Object[] { objectGroup });
+    }
+
+    @Override
+    public void removeBinding(final String name) {
+        handler.invoke(REMOVE_BINDING, new Object[] { name });
+    }
+
+    @Override
+    public void runIfWaitingForDebugger() {
+        handler.invoke(RUN_IF_WAITING_FOR_DEBUGGER, null);
+    }
+
+    @Override
+    public RunScriptResult runScript(final String scriptId) {
+        return (RunScriptResult) handler.invoke(RUN_SCRIPT, new Object[] { scriptId });
+    }
+
+    @Override
+    public RunScriptResult runScript(final String scriptId, final Integer executionContextId,
+            final String objectGroup, final Boolean silent, final Boolean includeCommandLineAPI,
+            final Boolean returnByValue, final Boolean generatePreview,
+            final Boolean awaitPromise) {
+        return (RunScriptResult) handler.invoke(RUN_SCRIPT_1, new Object[] { scriptId, executionContextId, objectGroup, silent, includeCommandLineAPI, returnByValue, generatePreview, awaitPromise });
+    }
+
+    @Override
+    public void setAsyncCallStackDepth(final Integer maxDepth) {
+        handler.invoke(SET_ASYNC_CALL_STACK_DEPTH, new Object[] { maxDepth });
+    }
+
+    @Override
+    public void setCustomObjectFormatterEnabled(final Boolean enabled) {
+        handler.invoke(SET_CUSTOM_OBJECT_FORMATTER_ENABLED, new Object[] { enabled });
+    }
+
+    @Override
+    public void setMaxCallStackSizeToCapture(final Integer size) {
+        handler.invoke(SET_MAX_CALL_STACK_SIZE_TO_CAPTURE, new Object[] { size });
+    }
+
+    @Override
+    public void terminateExecution() {
+        handler.invoke(TERMINATE_EXECUTION, null);
+    }
+}
@@ -0,0 +1,48 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+import com.google.gson.reflect.TypeToken;
+
+import io.webfolder.cdp.type.schema.Domain;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+@SuppressWarnings("deprecation")
+final class SchemaImpl implements io.webfolder.cdp.command.Schema {
+    static final CommandSerializer GET_DOMAINS = new CommandSerializer("Schema", "getDomains",
+            new String[0],
+            new Type[0],
+            new TypeToken<List<Domain>>() { }.getType(), "domains");
+
+    private final SessionInvocationHandler handler;
+
+    SchemaImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Domain> getDomains() {
+        return (List<Domain>) handler.invoke(GET_DOMAINS, null);
+    }
+}
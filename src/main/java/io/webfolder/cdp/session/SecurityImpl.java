@@ -0,0 +1,84 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.lang.reflect.Type;
+
+import io.webfolder.cdp.command.Security;
+import io.webfolder.cdp.type.security.CertificateErrorAction;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class SecurityImpl implements Security {
+    static final CommandSerializer DISABLE = new CommandSerializer("Security", "disable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer ENABLE = new CommandSerializer("Security", "enable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer HANDLE_CERTIFICATE_ERROR = new CommandSerializer("Security", "handleCertificateError",
+            new String[] { "eventId", "action" },
+            new Type[] { Integer.class, CertificateErrorAction.class },
+            null, null);
+
+    static final CommandSerializer SET_IGNORE_CERTIFICATE_ERRORS = new CommandSerializer("Security", "setIgnoreCertificateErrors",
+            new String[] { "ignore" },
+            new Type[] { Boolean.class },
+            null, null);
+
+    static final CommandSerializer SET_OVERRIDE_CERTIFICATE_ERRORS = new CommandSerializer("Security", "setOverrideCertificateErrors",
+            new String[] { "override" },
+            new Type[] { Boolean.class },
+            null, null);
+
+    private final SessionInvocationHandler handler;
+
+    SecurityImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public void disable() {
+        handler.invoke(DISABLE, null);
+    }
+
+    @Override
+    public void enable() {
+        handler.invoke(ENABLE, null);
+    }
+
+    @Override
+    public void handleCertificateError(final Integer eventId, final CertificateErrorAction action) {
+        handler.invoke(HANDLE_CERTIFICATE_ERROR, new Object[] { eventId, action });
+    }
+
+    @Override
+    public void setIgnoreCertificateErrors(final Boolean ignore) {
+        handler.invoke(SET_IGNORE_CERTIFICATE_ERRORS, new Object[] { ignore });
+    }
+
+    @Override
+    public void setOverrideCertificateErrors(final Boolean override) {
+        handler.invoke(SET_OVERRIDE_CERTIFICATE_ERRORS, new Object[] { override });
+    }
+}
@@ -473,6 +473,22 @@ public interface Selector {
         return getNodeId(null, selector, EMPTY_ARGS);
     }
 
+    /**
+     * Releases the remote objects with a single round trip.
+     * 
+     * @param objectIds identifiers of the remote objects, <code>null</code> values are ignored
+     */
+    default Session releaseObjects(final String ...objectIds) {
+        getThis().batch(command -> {
+            for (String objectId : objectIds) {
+                if (objectId != null) {
+                    command.getRuntime().releaseObject(objectId);
+                }
+            }
+        });
+        return getThis();
+    }
+
     default Session releaseObject(final String objectId) {
         if (objectId != null) {
             try {
@@ -0,0 +1,91 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Multiplexes the WebSocket connections of many {@link SessionFactory} instances
+ * over a fixed number of NIO selector threads.
+ * 
+ * By default each connection has its own reading and writing threads. A group can be shared
+ * with {@link SessionFactory#setSelectorGroup(SelectorGroup)} to run many browsers per host
+ * with a constant number of I/O threads. Only <code>ws://</code> connections are supported.
+ */
+public class SelectorGroup implements AutoCloseable {
+
+    private static final AtomicInteger GROUPS = new AtomicInteger();
+
+    private final SelectorLoop[] loops;
+
+    public SelectorGroup() {
+        this(2);
+    }
+
+    /**
+     * @param threads number of selector threads
+     */
+    public SelectorGroup(final int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException();
+        }
+        int group = GROUPS.incrementAndGet();
+        loops = new SelectorLoop[threads];
+        for (int i = 0; i < threads; i++) {
+            loops[i] = new SelectorLoop("cdp4j-selector-" + group + "-" + (i + 1));
+        }
+    }
+
+    /**
+     * Returns the loop with the fewest connections.
+     */
+    SelectorLoop next() {
+        SelectorLoop next = loops[0];
+        for (int i = 1; i < loops.length; i++) {
+            if (loops[i].getConnections().get() < next.getConnections().get()) {
+                next = loops[i];
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Returns the number of the open connections of the group.
+     */
+    public int getConnectionCount() {
+        int count = 0;
+        for (SelectorLoop next : loops) {
+            count += next.getConnections().get();
+        }
+        return count;
+    }
+
+    public int getThreadCount() {
+        return loops.length;
+    }
+
+    /**
+     * Stops the selector threads and closes their connections.
+     */
+    @Override
+    public void close() {
+        for (SelectorLoop next : loops) {
+            next.close();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.io.IOException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.webfolder.cdp.exception.CdpException;
+
+/**
+ * Single threaded event loop of a {@link SelectorGroup}.
+ * 
+ * The channels registered to a loop are read and written only by its thread,
+ * other threads hand over their work with {@link #execute(Runnable)}.
+ */
+class SelectorLoop implements Runnable {
+
+    private final Selector selector;
+
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger connections = new AtomicInteger();
+
+    private final Thread thread;
+
+    private volatile boolean stopped;
+
+    SelectorLoop(final String name) {
+        try {
+            this.selector = Selector.open();
+        } catch (IOException e) {
+            throw new CdpException(e);
+        }
+        this.thread = new Thread(this, name);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    void execute(final Runnable task) {
+        tasks.add(task);
+        if (Thread.currentThread() != thread) {
+            selector.wakeup();
+        }
+    }
+
+    boolean inLoop() {
+        return Thread.currentThread() == thread;
+    }
+
+    Selector getSelector() {
+        return selector;
+    }
+
+    AtomicInteger getConnections() {
+        return connections;
+    }
+
+    @Override
+    public void run() {
+        while ( ! stopped ) {
+            try {
+                selector.select();
+            } catch (IOException e) {
+                continue;
+            }
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+            Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+            while (iterator.hasNext()) {
+                SelectionKey key = iterator.next();
+                iterator.remove();
+                SelectorTransport transport = (SelectorTransport) key.attachment();
+                if ( ! key.isValid() ) {
+                    continue;
+                }
+                if (key.isWritable()) {
+                    transport.onWritable();
+                }
+                if (key.isValid() && key.isReadable()) {
+                    transport.onReadable();
+                }
+            }
+        }
+        for (SelectionKey key : selector.keys()) {
+            ((SelectorTransport) key.attachment()).close();
+        }
+        try {
+            selector.close();
+        } catch (IOException e) {
+            // ignore
+        }
+    }
+
+    void close() {
+        stopped = true;
+        selector.wakeup();
+    }
+}
@@ -0,0 +1,449 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import static java.nio.channels.SelectionKey.OP_READ;
+import static java.nio.channels.SelectionKey.OP_WRITE;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.copyOf;
+import static java.util.Locale.ENGLISH;
+import static java.util.concurrent.ThreadLocalRandom.current;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Base64;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.webfolder.cdp.exception.CdpException;
+
+/**
+ * WebSocket client which is read and written by the thread of a {@link SelectorLoop}.
+ * 
+ * The opening handshake is done in blocking mode on the calling thread, the frames are handled
+ * in non-blocking mode afterwards. Messages are sent from the calling thread if the socket accepts
+ * them at once, the rest is written by the loop when the socket becomes writable.
+ */
+class SelectorTransport implements Transport {
+
+    private static final String ACCEPT_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+
+    private static final int OPCODE_CONTINUATION = 0x0;
+
+    private static final int OPCODE_TEXT = 0x1;
+
+    private static final int OPCODE_BINARY = 0x2;
+
+    private static final int OPCODE_CLOSE = 0x8;
+
+    private static final int OPCODE_PING = 0x9;
+
+    private static final int OPCODE_PONG = 0xA;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final int MAX_HEADER_SIZE = 16 * 1024;
+
+    private final SelectorGroup group;
+
+    private final URI uri;
+
+    private final int connectionTimeout;
+
+    // frames which are not written yet, guarded by itself
+    private final Queue<ByteBuffer> pending = new ArrayDeque<>();
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private volatile boolean open;
+
+    private SocketChannel channel;
+
+    private SelectorLoop loop;
+
+    private SelectionKey key;
+
+    private MessageHandler handler;
+
+    // the fields below are accessed only by the loop thread
+
+    private ByteBuffer input = ByteBuffer.allocate(BUFFER_SIZE);
+
+    private byte[] fragments = new byte[0];
+
+    private int fragmentsLength;
+
+    SelectorTransport(final SelectorGroup group, final String url, final int connectionTimeout) {
+        this.group             = group;
+        this.uri               = URI.create(url);
+        this.connectionTimeout = connectionTimeout;
+    }
+
+    @Override
+    public void connect(final MessageHandler handler) {
+        if ( ! "ws".equalsIgnoreCase(uri.getScheme()) ) {
+            throw new CdpException("Only ws:// connections are supported by SelectorGroup: " + uri);
+        }
+        this.handler = handler;
+        int port = uri.getPort() == -1 ? 80 : uri.getPort();
+        try {
+            channel = SocketChannel.open();
+            channel.socket().setTcpNoDelay(true);
+            channel.socket().setSoTimeout(connectionTimeout);
+            channel.socket().connect(new InetSocketAddress(uri.getHost(), port), connectionTimeout);
+            shakeHands(port);
+            channel.configureBlocking(false);
+        } catch (IOException e) {
+            closeChannel();
+            throw new CdpException(e);
+        }
+        open = true;
+        loop = group.next();
+        loop.getConnections().incrementAndGet();
+        loop.execute(this::register);
+    }
+
+    private void shakeHands(final int port) throws IOException {
+        byte[] nonce = new byte[16];
+        current().nextBytes(nonce);
+        String key = Base64.getEncoder().encodeToString(nonce);
+        String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        if (uri.getRawQuery() != null) {
+            path += "?" + uri.getRawQuery();
+        }
+        String request = "GET " + path + " HTTP/1.1\r\n" +
+                            "Host: " + uri.getHost() + ":" + port + "\r\n" +
+                            "Connection: Upgrade\r\n" +
+                            "Upgrade: websocket\r\n" +
+                            "Sec-WebSocket-Version: 13\r\n" +
+                            "Sec-WebSocket-Key: " + key + "\r\n\r\n";
+        ByteBuffer buffer = ByteBuffer.wrap(request.getBytes(ISO_8859_1));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+
+        // reads byte by byte, the frames which follow the response must stay in the socket
+        InputStream in = channel.socket().getInputStream();
+        StringBuilder response = new StringBuilder();
+        while (response.length() < 4 || response.lastIndexOf("\r\n\r\n") != response.length() - 4) {
+            int next = in.read();
+            if (next == -1 || response.length() > MAX_HEADER_SIZE) {
+                throw new IOException("Invalid opening handshake response");
+            }
+            response.append((char) next);
+        }
+
+        String[] lines = response.toString().split("\r\n");
+        if ( ! lines[0].matches("HTTP/1\\.1 101.*") ) {
+            throw new IOException("Unexpected opening handshake response: " + lines[0]);
+        }
+        String accept = null;
+        for (int i = 1; i < lines.length; i++) {
+            int separator = lines[i].indexOf(':');
+            if (separator > 0 && lines[i].substring(0, separator).trim().toLowerCase(ENGLISH).equals("sec-websocket-accept")) {
+                accept = lines[i].substring(separator + 1).trim();
+            }
+        }
+        if ( ! accept(key).equals(accept) ) {
+            throw new IOException("Invalid Sec-WebSocket-Accept header: " + accept);
+        }
+    }
+
+    static String accept(final String key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            return Base64.getEncoder().encodeToString(digest.digest((key + ACCEPT_GUID).getBytes(ISO_8859_1)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new CdpException(e);
+        }
+    }
+
+    private void register() {
+        if ( ! open ) {
+            return;
+        }
+        try {
+            synchronized (pending) {
+                int ops = pending.isEmpty() ? OP_READ : OP_READ | OP_WRITE;
+                key = channel.register(loop.getSelector(), ops, this);
+            }
+        } catch (IOException e) {
+            close();
+        }
+    }
+
+    void onReadable() {
+        int read;
+        try {
+            read = channel.read(input);
+        } catch (IOException e) {
+            close();
+            return;
+        }
+        if (read == -1) {
+            close();
+            return;
+        }
+        input.flip();
+        while (open && readFrame()) {
+            // next frame
+        }
+        input.compact();
+    }
+
+    /**
+     * @return <code>true</code> if a complete frame is read from the input buffer
+     */
+    private boolean readFrame() {
+        int position  = input.position();
+        int available = input.remaining();
+        if (available < 2) {
+            return false;
+        }
+        int     b0     = input.get(position);
+        int     b1     = input.get(position + 1);
+        boolean fin    = (b0 & 0x80) != 0;
+        int     opcode = b0 & 0x0F;
+        boolean masked = (b1 & 0x80) != 0;
+        long    length = b1 & 0x7F;
+        int     header = 2;
+        if (length == 126) {
+            if (available < 4) {
+                return false;
+            }
+            length = input.getShort(position + 2) & 0xFFFF;
+            header = 4;
+        } else if (length == 127) {
+            if (available < 10) {
+                return false;
+            }
+            length = input.getLong(position + 2);
+            header = 10;
+        }
+        if (masked) {
+            header += 4;
+        }
+        if (length < 0 || length > Integer.MAX_VALUE - header) {
+            close();
+            return false;
+        }
+        int size = header + (int) length;
+        if (available < size) {
+            if (size > input.capacity()) {
+                // the frame does not fit, the buffer stays in read mode
+                ByteBuffer larger = ByteBuffer.allocate(size);
+                larger.put(input);
+                larger.flip();
+                input = larger;
+            }
+            return false;
+        }
+
+        byte[] data   = input.array();
+        int    offset = input.arrayOffset() + position + header;
+        int    count  = (int) length;
+        if (masked) {
+            // servers must not mask their frames, unmasked anyway
+            int mask = offset - 4;
+            for (int i = 0; i < count; i++) {
+                data[offset + i] ^= data[mask + (i & 3)];
+            }
+        }
+        input.position(position + size);
+
+        switch (opcode) {
+            case OPCODE_TEXT:
+            case OPCODE_BINARY:
+                if (fin) {
+                    // decoded directly from the read buffer
+                    handler.onMessage(data, offset, count);
+                } else {
+                    fragmentsLength = 0;
+                    appendFragment(data, offset, count);
+                }
+            break;
+            case OPCODE_CONTINUATION:
+                appendFragment(data, offset, count);
+                if (fin) {
+                    handler.onMessage(fragments, 0, fragmentsLength);
+                    fragmentsLength = 0;
+                }
+            break;
+            case OPCODE_PING:
+                enqueue(encode(OPCODE_PONG, data, offset, count));
+            break;
+            case OPCODE_CLOSE:
+                close();
+            break;
+            default:
+                // pong and the reserved opcodes
+            break;
+        }
+        return true;
+    }
+
+    private void appendFragment(final byte[] data, final int offset, final int count) {
+        if (fragmentsLength + count > fragments.length) {
+            fragments = copyOf(fragments, Math.max(fragments.length * 2, fragmentsLength + count));
+        }
+        System.arraycopy(data, offset, fragments, fragmentsLength, count);
+        fragmentsLength += count;
+    }
+
+    void onWritable() {
+        try {
+            synchronized (pending) {
+                ByteBuffer next;
+                while ((next = pending.peek()) != null) {
+                    channel.write(next);
+                    if (next.hasRemaining()) {
+                        return;
+                    }
+                    pending.poll();
+                }
+                key.interestOps(OP_READ);
+            }
+        } catch (IOException e) {
+            close();
+        }
+    }
+
+    @Override
+    public void send(final String message) {
+        byte[] payload = message.getBytes(UTF_8);
+        enqueue(encode(OPCODE_TEXT, payload, 0, payload.length));
+    }
+
+    @Override
+    public void send(final List<String> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        byte[][] payloads = new byte[messages.size()][];
+        int size = 0;
+        for (int i = 0; i < payloads.length; i++) {
+            payloads[i] = messages.get(i).getBytes(UTF_8);
+            size += 14 + payloads[i].length;
+        }
+        // written with a single system call if the socket accepts them
+        ByteBuffer frames = ByteBuffer.allocate(size);
+        for (byte[] payload : payloads) {
+            frames.put(encode(OPCODE_TEXT, payload, 0, payload.length));
+        }
+        frames.flip();
+        enqueue(frames);
+    }
+
+    /**
+     * Client frames are masked with a zero key, the payload is the same as the masked one.
+     */
+    private static ByteBuffer encode(final int opcode, final byte[] payload, final int offset, final int length) {
+        ByteBuffer frame = ByteBuffer.allocate(14 + length);
+        frame.put((byte) (0x80 | opcode));
+        if (length < 126) {
+            frame.put((byte) (0x80 | length));
+        } else if (length <= 0xFFFF) {
+            frame.put((byte) (0x80 | 126));
+            frame.putShort((short) length);
+        } else {
+            frame.put((byte) (0x80 | 127));
+            frame.putLong(length);
+        }
+        frame.putInt(0);
+        frame.put(payload, offset, length);
+        frame.flip();
+        return frame;
+    }
+
+    private void enqueue(final ByteBuffer frame) {
+        if ( ! open ) {
+            throw new CdpException("WebSocket connection is not alive.");
+        }
+        boolean requestWrite = false;
+        synchronized (pending) {
+            if (pending.isEmpty()) {
+                try {
+                    channel.write(frame);
+                } catch (IOException e) {
+                    close();
+                    throw new CdpException(e);
+                }
+            }
+            if (frame.hasRemaining()) {
+                requestWrite = pending.isEmpty();
+                pending.add(frame);
+            }
+        }
+        if (requestWrite) {
+            loop.execute(() -> {
+                if (key != null && key.isValid()) {
+                    key.interestOps(OP_READ | OP_WRITE);
+                }
+            });
+        }
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public void close() {
+        if ( ! closed.compareAndSet(false, true) ) {
+            return;
+        }
+        boolean connected = open;
+        open = false;
+        if (connected) {
+            try {
+                // best effort, the close frame of the server is not awaited
+                ByteBuffer frame = encode(OPCODE_CLOSE, new byte[] { 0x03, (byte) 0xE8 }, 0, 2);
+                synchronized (pending) {
+                    if (pending.isEmpty()) {
+                        channel.write(frame);
+                    }
+                }
+            } catch (IOException e) {
+                // ignore
+            }
+            loop.getConnections().decrementAndGet();
+        }
+        closeChannel();
+    }
+
+    private void closeChannel() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // ignore
+            }
+        }
+    }
+}
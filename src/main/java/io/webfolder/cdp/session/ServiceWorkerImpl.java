@@ -0,0 +1,155 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.lang.reflect.Type;
+
+import io.webfolder.cdp.command.ServiceWorker;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class ServiceWorkerImpl implements ServiceWorker {
+    static final CommandSerializer DELIVER_PUSH_MESSAGE = new CommandSerializer("ServiceWorker", "deliverPushMessage",
+            new String[] { "origin", "registrationId", "data" },
+            new Type[] { String.class, String.class, String.class },
+            null, null);
+
+    static final CommandSerializer DISABLE = new CommandSerializer("ServiceWorker", "disable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer DISPATCH_SYNC_EVENT = new CommandSerializer("ServiceWorker", "dispatchSyncEvent",
+            new String[] { "origin", "registrationId", "tag", "lastChance" },
+            new Type[] { String.class, String.class, String.class, Boolean.class },
+            null, null);
+
+    static final CommandSerializer ENABLE = new CommandSerializer("ServiceWorker", "enable",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer INSPECT_WORKER = new CommandSerializer("ServiceWorker", "inspectWorker",
+            new String[] { "versionId" },
+            new Type[] { String.class },
+            null, null);
+
+    static final CommandSerializer SET_FORCE_UPDATE_ON_PAGE_LOAD = new CommandSerializer("ServiceWorker", "setForceUpdateOnPageLoad",
+            new String[] { "forceUpdateOnPageLoad" },
+            new Type[] { Boolean.class },
+            null, null);
+
+    static final CommandSerializer SKIP_WAITING = new CommandSerializer("ServiceWorker", "skipWaiting",
+            new String[] { "scopeURL" },
+            new Type[] { String.class },
+            null, null);
+
+    static final CommandSerializer START_WORKER = new CommandSerializer("ServiceWorker", "startWorker",
+            new String[] { "scopeURL" },
+            new Type[] { String.class },
+            null, null);
+
+    static final CommandSerializer STOP_ALL_WORKERS = new CommandSerializer("ServiceWorker", "stopAllWorkers",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer STOP_WORKER = new CommandSerializer("ServiceWorker", "stopWorker",
+            new String[] { "versionId" },
+            new Type[] { String.class },
+            null, null);
+
+    static final CommandSerializer UNREGISTER = new CommandSerializer("ServiceWorker", "unregister",
+            new String[] { "scopeURL" },
+            new Type[] { String.class },
+            null, null);
+
+    static final CommandSerializer UPDATE_REGISTRATION = new CommandSerializer("ServiceWorker", "updateRegistration",
+            new String[] { "scopeURL" },
+            new Type[] { String.class },
+            null, null);
+
+    private final SessionInvocationHandler handler;
+
+    ServiceWorkerImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public void deliverPushMessage(final String origin, final String registrationId,
+            final String data) {
+        handler.invoke(DELIVER_PUSH_MESSAGE, new Object[] { origin, registrationId, data });
+    }
+
+    @Override
+    public void disable() {
+        handler.invoke(DISABLE, null);
+    }
+
+    @Override
+    public void dispatchSyncEvent(final String origin, final String registrationId,
+            final String tag, final Boolean lastChance) {
+        handler.invoke(DISPATCH_SYNC_EVENT, new Object[] { origin, registrationId, tag, lastChance });
+    }
+
+    @Override
+    public void enable() {
+        handler.invoke(ENABLE, null);
+    }
+
+    @Override
+    public void inspectWorker(final String versionId) {
+        handler.invoke(INSPECT_WORKER, new Object[] { versionId });
+    }
+
+    @Override
+    public void setForceUpdateOnPageLoad(final Boolean forceUpdateOnPageLoad) {
+        handler.invoke(SET_FORCE_UPDATE_ON_PAGE_LOAD, new Object[] { forceUpdateOnPageLoad });
+    }
+
+    @Override
+    public void skipWaiting(final String scopeURL) {
+        handler.invoke(SKIP_WAITING, new Object[] { scopeURL });
+    }
+
+    @Override
+    public void startWorker(final String scopeURL) {
+        handler.invoke(START_WORKER, new Object[] { scopeURL });
+    }
+
+    @Override
+    public void stopAllWorkers() {
+        handler.invoke(STOP_ALL_WORKERS, null);
+    }
+
+    @Override
+    public void stopWorker(final String versionId) {
+        handler.invoke(STOP_WORKER, new Object[] { versionId });
+    }
+
+    @Override
+    public void unregister(final String scopeURL) {
+        handler.invoke(UNREGISTER, new Object[] { scopeURL });
+    }
+
+    @Override
+    public void updateRegistration(final String scopeURL) {
+        handler.invoke(UPDATE_REGISTRATION, new Object[] { scopeURL });
+    }
+}
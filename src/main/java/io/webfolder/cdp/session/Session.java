@@ -17,11 +17,11 @@
  */
 package io.webfolder.cdp.session;
 
-import static com.neovisionaries.ws.client.WebSocketCloseCode.NORMAL;
 import static io.webfolder.cdp.event.Events.LogEntryAdded;
 import static io.webfolder.cdp.event.Events.NetworkResponseReceived;
 import static io.webfolder.cdp.event.Events.PageLifecycleEvent;
 import static io.webfolder.cdp.event.Events.RuntimeConsoleAPICalled;
+import static io.webfolder.cdp.session.RoutingMode.Dedicated;
 import static io.webfolder.cdp.session.WaitUntil.DomReady;
 import static io.webfolder.cdp.session.WaitUntil.Load;
 import static io.webfolder.cdp.type.constant.ImageFormat.Png;
@@ -44,16 +44,17 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import com.google.gson.Gson;
-import com.neovisionaries.ws.client.WebSocket;
 
 import io.webfolder.cdp.annotation.Experimental;
 import io.webfolder.cdp.annotation.Optional;
 import io.webfolder.cdp.command.CSS;
 import io.webfolder.cdp.command.Emulation;
 import io.webfolder.cdp.command.Page;
+import io.webfolder.cdp.event.Events;
 import io.webfolder.cdp.event.log.EntryAdded;
 import io.webfolder.cdp.event.network.ResponseReceived;
 import io.webfolder.cdp.event.page.LifecycleEvent;
@@ -61,11 +62,14 @@ import io.webfolder.cdp.event.runtime.ConsoleAPICalled;
 import io.webfolder.cdp.exception.CdpException;
 import io.webfolder.cdp.exception.LoadTimeoutException;
 import io.webfolder.cdp.exception.DestinationUnreachableException;
+import io.webfolder.cdp.listener.AbstractListener;
 import io.webfolder.cdp.listener.EventListener;
+import io.webfolder.cdp.listener.RawEventListener;
 import io.webfolder.cdp.listener.TerminateEvent;
 import io.webfolder.cdp.listener.TerminateListener;
 import io.webfolder.cdp.logger.CdpLogger;
 import io.webfolder.cdp.logger.LoggerFactory;
+import io.webfolder.cdp.session.EventListeners.TypedListener;
 import io.webfolder.cdp.type.constant.ImageFormat;
 import io.webfolder.cdp.type.css.SourceRange;
 import io.webfolder.cdp.type.dom.Rect;
@@ -88,7 +92,7 @@ public class Session implements AutoCloseable,
 
     private AtomicBoolean connected = new AtomicBoolean(true);
 
-    private final List<EventListener> listeners;
+    private final EventListeners listeners;
 
     private final SessionInvocationHandler invocationHandler;
 
@@ -96,7 +100,7 @@ public class Session implements AutoCloseable,
 
     private final String sessionId;
 
-    private final WebSocket webSocket;
+    private final Transport transport;
 
     private final CdpLogger log;
 
@@ -114,14 +118,22 @@ public class Session implements AutoCloseable,
 
     private Command command;
 
+    private AsyncCommand asyncCommand;
+
     private final ReentrantLock lock = new ReentrantLock(true);
 
     private String browserContextId;
 
     private volatile Integer executionContextId;
 
+    private volatile boolean lifecycleEventsEnabled;
+
+    private volatile EventLoop eventLoop;
+
     private final int majorVersion;
 
+    private final RoutingMode routingMode;
+
     private static final ThreadLocal<Boolean> ENABLE_ENTRY_EXIT_LOG = 
                                                     withInitial(() -> { return TRUE; });
 
@@ -130,36 +142,42 @@ public class Session implements AutoCloseable,
             final String sessionId,
             final String targetId,
             final String browserContextId,
-            final WebSocket webSocket,
-            final Map<Integer, WSContext> contextList,
+            final Transport transport,
+            final PendingCommands contextList,
             final SessionFactory sessionFactory,
-            final List<EventListener> eventListeners,
+            final EventListeners eventListeners,
             final LoggerFactory loggerFactory,
             final boolean browserSession,
             final Session session,
-            final int majorVersion) {
+            final int majorVersion,
+            final RoutingMode routingMode) {
         this.sessionId = sessionId;
         this.browserContextId = browserContextId;
         this.invocationHandler = new SessionInvocationHandler(
                                                         gson,
-                                                        webSocket,
+                                                        transport,
+                                                        sessionFactory.getCounter(),
                                                         contextList,
                                                         session == null ? this : session,
                                                         loggerFactory.getLogger("cdp4j.ws.request"),
                                                         browserSession,
                                                         sessionId,
                                                         targetId,
-                                                        sessionFactory.getWebSocketReadTimeout());
+                                                        routingMode,
+                                                        sessionFactory.getWebSocketReadTimeout(),
+                                                        sessionFactory.getThreadPool());
         this.targetId         = targetId; 
         this.sesessionFactory = sessionFactory;
         this.listeners   = eventListeners;
-        this.webSocket        = webSocket;
+        this.transport        = transport;
         this.log              = loggerFactory.getLogger("cdp4j.session");
         this.logFlow          = loggerFactory.getLogger("cdp4j.flow");
         this.gson             = gson;
         this.browserSession   = browserSession;
         this.majorVersion     = majorVersion;
+        this.routingMode      = routingMode;
         this.command          = new Command(this);
+        this.asyncCommand     = new AsyncCommand(this);
     }
 
     public String getId() {
@@ -185,7 +203,61 @@ public class Session implements AutoCloseable,
     }
 
     public boolean isConnected() {
-        return connected.get() && webSocket.isOpen();
+        return connected.get() && transport.isOpen();
+    }
+
+    /**
+     * Returns the number of commands sent by this session which are waiting for a response.
+     */
+    public int getPendingCommandCount() {
+        return invocationHandler.getPendingCommandCount();
+    }
+
+    /**
+     * Returns the number of events which are received but not yet delivered to the event listeners.
+     */
+    public int getEventQueueDepth() {
+        EventLoop eventLoop = this.eventLoop;
+        return eventLoop != null ? eventLoop.size() : 0;
+    }
+
+    /**
+     * Limits the number of the queued events of a type.
+     * 
+     * @param event the event type
+     * @param policy the policy, <code>null</code> to remove the limit
+     * 
+     * @return this
+     * 
+     * @throws CdpException if the policy blocks a connection which is shared with other sessions,
+     *         see {@link EventPolicy#block(int)}
+     */
+    public Session setEventPolicy(Events event, EventPolicy policy) {
+        if (policy != null && EventPolicy.Type.Block.equals(policy.getType()) && ! ownsReader()) {
+            throw new CdpException("Block policy is supported only by the page sessions which read their own connection " +
+                                        "(Dedicated routing mode without a selector group)");
+        }
+        EventLoop eventLoop = this.eventLoop;
+        if (eventLoop != null) {
+            eventLoop.setPolicy(event, policy);
+        }
+        return getThis();
+    }
+
+    /**
+     * Returns the number of events discarded by the {@link EventPolicy} of the event type.
+     */
+    public long getDroppedEventCount(Events event) {
+        EventLoop eventLoop = this.eventLoop;
+        return eventLoop != null ? eventLoop.getDroppedCount(event) : 0;
+    }
+
+    /**
+     * Returns the number of events replaced by a newer event of the same key.
+     */
+    public long getCoalescedEventCount(Events event) {
+        EventLoop eventLoop = this.eventLoop;
+        return eventLoop != null ? eventLoop.getCoalescedCount(event) : 0;
     }
 
     /**
@@ -212,6 +284,84 @@ public class Session implements AutoCloseable,
         }
     }
 
+    /**
+     * Adds a listener which receives only the given event.
+     * 
+     * Events which have no listener are not decoded.
+     * Prefer this method to {@link #addEventListener(EventListener)} which receives all events.
+     */
+    public void addEventListener(Events event, EventListener eventListener) {
+        listeners.add(event, eventListener);
+    }
+
+    public void removeEventListener(Events event, EventListener eventListener) {
+        if (eventListener != null) {
+            listeners.remove(event, eventListener);
+        }
+    }
+
+    /**
+     * Adds a typed listener which receives only the given event.
+     * 
+     * <pre>
+     * session.on(NetworkLoadingFinished, LoadingFinished.class, e -&gt; System.out.println(e.getRequestId()));
+     * </pre>
+     * 
+     * @param event the event to listen
+     * @param type the event class, must be assignable from the class of the event
+     * @param listener the listener
+     * 
+     * @return this
+     */
+    public <T> Session on(Events event, Class<T> type, AbstractListener<T> listener) {
+        if ( ! type.isAssignableFrom(event.klass) ) {
+            throw new CdpException("Invalid event type: " + type.getName() + ", expected: " + event.klass.getName());
+        }
+        listeners.add(event, new TypedListener(listener));
+        return getThis();
+    }
+
+    /**
+     * Removes a listener which is added by {@link #on(Events, Class, AbstractListener)}
+     * 
+     * @return this
+     */
+    public Session off(Events event, AbstractListener<?> listener) {
+        if (listener != null) {
+            listeners.remove(event, listener);
+        }
+        return getThis();
+    }
+
+    /**
+     * Adds a listener which receives a lazy view over the raw message of the given event.
+     * 
+     * The event is not decoded for the raw listeners, {@link RawEvent} decodes only the requested members.
+     * Suitable for high-frequency events such as <code>Network.dataReceived</code>.
+     * 
+     * <pre>
+     * session.onRaw(NetworkDataReceived, e -&gt; bytes.addAndGet(e.getInteger("dataLength")));
+     * </pre>
+     * 
+     * @return this
+     */
+    public Session onRaw(Events event, RawEventListener listener) {
+        listeners.add(event, listener);
+        return getThis();
+    }
+
+    /**
+     * Removes a listener which is added by {@link #onRaw(Events, RawEventListener)}
+     * 
+     * @return this
+     */
+    public Session offRaw(Events event, RawEventListener listener) {
+        if (listener != null) {
+            listeners.remove(event, listener);
+        }
+        return getThis();
+    }
+
     /**
      * waits until document is ready
      * 
@@ -237,13 +387,13 @@ public class Session implements AutoCloseable,
         if (isDomReady()) {
             return getThis();
         }
+        enableLifecycleEvents();
         CountDownLatch latch  = new CountDownLatch(2);
         AtomicBoolean  loaded = new AtomicBoolean(false);
         AtomicBoolean  ready  = new AtomicBoolean(false);
         if (isConnected()) {
-            EventListener loadListener = (e, d) -> {
-                if (PageLifecycleEvent.equals(e) &&
-                        "load".equalsIgnoreCase(((LifecycleEvent) d).getName())) {
+            AbstractListener<LifecycleEvent> loadListener = le -> {
+                if ("load".equalsIgnoreCase(le.getName())) {
                     latch.countDown();
                     loaded.set(true);
                     if (isDomReady()) {
@@ -251,7 +401,7 @@ public class Session implements AutoCloseable,
                     }
                 }
             };
-            addEventListener(loadListener);
+            on(PageLifecycleEvent, LifecycleEvent.class, loadListener);
             sesessionFactory.getThreadPool().execute(() -> {
                 try {
                     waitUntil(s -> ! isConnected() || s.isDomReady() || ready.get(), timeout, false);
@@ -270,7 +420,7 @@ public class Session implements AutoCloseable,
             } catch (InterruptedException e) {
                 throw new LoadTimeoutException(e);
             } finally {
-                removeEventEventListener(loadListener);
+                off(PageLifecycleEvent, loadListener);
             }
             long elapsed = System.currentTimeMillis() - start;
             if ( elapsed > timeout && isConnected() && ! isDomReady() ) {
@@ -347,6 +497,8 @@ public class Session implements AutoCloseable,
         logEntry("navigateAndWait",
                             format("[url=%s, waitUntil=%s, timeout=%d]", url, condition.name(), timeout));
 
+        enableLifecycleEvents();
+
         NavigateResult navigate = command.getPage().navigate(url);
         if (navigate == null) {
         	throw new DestinationUnreachableException(url);
@@ -356,23 +508,20 @@ public class Session implements AutoCloseable,
 
         CountDownLatch latch = new CountDownLatch(1);
 
-        EventListener loadListener = (e, d) -> {
-            if (PageLifecycleEvent.equals(e)) {
-                LifecycleEvent le = (LifecycleEvent) d;
-                if (waitUntil.value.equals(le.getName())) {
-                    latch.countDown();
-                }
+        AbstractListener<LifecycleEvent> loadListener = le -> {
+            if (waitUntil.value.equals(le.getName())) {
+                latch.countDown();
             }
         };
 
-        addEventListener(loadListener);
+        on(PageLifecycleEvent, LifecycleEvent.class, loadListener);
 
         try {
             latch.await(timeout, MILLISECONDS);
         } catch (InterruptedException e) {
             throw new LoadTimeoutException(e);
         } finally {
-            removeEventEventListener(loadListener);
+            off(PageLifecycleEvent, loadListener);
         }
 
         long elapsedTime = System.currentTimeMillis() - start;
@@ -402,7 +551,7 @@ public class Session implements AutoCloseable,
      */
     public Session enableConsoleLog() {
         getCommand().getRuntime().enable();
-        addEventListener((e, d) -> {
+        addEventListener(RuntimeConsoleAPICalled, (e, d) -> {
             if (RuntimeConsoleAPICalled.equals(e)) {
                 ConsoleAPICalled ca = (ConsoleAPICalled) d;
                 for (RemoteObject next : ca.getArgs()) {
@@ -428,7 +577,7 @@ public class Session implements AutoCloseable,
      */
     public Session enableDetailLog() {
         getCommand().getLog().enable();
-        addEventListener((e, d) -> {
+        addEventListener(LogEntryAdded, (e, d) -> {
             if (LogEntryAdded.equals(e)) {
                 EntryAdded entryAdded = (EntryAdded) d;
                 LogEntry entry = entryAdded.getEntry();
@@ -451,7 +600,7 @@ public class Session implements AutoCloseable,
      */
     public Session enableNetworkLog() {
         getCommand().getNetwork().enable();
-        addEventListener((e, d) -> {
+        addEventListener(NetworkResponseReceived, (e, d) -> {
             if (NetworkResponseReceived.equals(e)) {
                 ResponseReceived rr = (ResponseReceived) d;
                 Response         response = rr.getResponse();
@@ -569,7 +718,7 @@ public class Session implements AutoCloseable,
                 }
                 condition.await(timeout, MILLISECONDS);
             } catch (InterruptedException e) {
-                if (webSocket.isOpen() && connected.get()) {
+                if (transport.isOpen() && connected.get()) {
                     throw new CdpException(e);
                 }
             } finally {
@@ -592,6 +741,41 @@ public class Session implements AutoCloseable,
         return command;
     }
 
+    /**
+     * Non-blocking variants of the commands.
+     * 
+     * Each command returns a <code>CompletableFuture</code> which is completed when the response arrives,
+     * the calling thread doesn't wait for the response.
+     */
+    public AsyncCommand getAsyncCommand() {
+        return asyncCommand;
+    }
+
+    /**
+     * Sends the asynchronous commands issued by <code>commands</code> in a single write
+     * and waits until all of them are completed.
+     * 
+     * <pre>
+     * List&lt;CompletableFuture&lt;List&lt;String&gt;&gt;&gt; attributes = new ArrayList&lt;&gt;();
+     * session.batch(command -&gt; {
+     *     for (Integer nodeId : nodeIds) {
+     *         attributes.add(command.getDOM().getAttributes(nodeId));
+     *     }
+     * });
+     * List&lt;String&gt; first = attributes.get(0).join();
+     * </pre>
+     * 
+     * The returned futures are already completed when this method returns,
+     * so the commands cost a single round trip instead of one round trip per command.
+     * 
+     * @param commands issues the commands through the given {@link AsyncCommand}
+     * 
+     * @throws CdpException if any of the commands failed or the responses did not arrive in time
+     */
+    public void batch(final Consumer<AsyncCommand> commands) {
+        invocationHandler.batch(() -> commands.accept(asyncCommand));
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
@@ -620,16 +804,27 @@ public class Session implements AutoCloseable,
     void dispose() {
         proxies.clear();
         listeners.clear();
+        if (eventLoop != null) {
+            eventLoop.close();
+        }
         invocationHandler.dispose();
-        if (browserSession && webSocket.isOpen()) {
+        boolean ownsTransport = browserSession || Dedicated.equals(routingMode);
+        if (ownsTransport && transport.isOpen()) {
             try {
-                webSocket.disconnect(NORMAL, null, 1000); // max wait time to close: 1 seconds
+                transport.close();
             } catch (Throwable t) {
                 // ignore
             }
         }
     }
 
+    /**
+     * @return <code>true</code> if no other session is read by the thread which reads the connection of this session
+     */
+    private boolean ownsReader() {
+        return ! browserSession && Dedicated.equals(routingMode) && ! (transport instanceof SelectorTransport);
+    }
+
     Gson getGson() {
         return gson;
     }
@@ -699,9 +894,30 @@ public class Session implements AutoCloseable,
         if (proxy != null) {
             return (T) proxy;
         }
-        ClassLoader classLoader = getClass().getClassLoader();
-        Class<T>[] interfaces = new Class[] { klass };
-        proxy = (T) newProxyInstance(classLoader, interfaces, invocationHandler);
+        // generated implementations don't use reflection
+        proxy = (T) CommandImpls.create(klass, invocationHandler);
+        if (proxy == null) {
+            ClassLoader classLoader = getClass().getClassLoader();
+            Class<T>[] interfaces = new Class[] { klass };
+            proxy = (T) newProxyInstance(classLoader, interfaces, invocationHandler);
+        }
+        Object existing = proxies.putIfAbsent(klass, proxy);
+        if (existing != null) {
+            return (T) existing;
+        }
+        return proxy;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T getAsyncProxy(Class<T> klass) {
+        T proxy = (T) proxies.get(klass);
+        if (proxy != null) {
+            return (T) proxy;
+        }
+        proxy = (T) CommandImpls.createAsync(klass, invocationHandler);
+        if (proxy == null) {
+            throw new CdpException("Unknown async command: " + klass.getName());
+        }
         Object existing = proxies.putIfAbsent(klass, proxy);
         if (existing != null) {
             return (T) existing;
@@ -758,6 +974,24 @@ public class Session implements AutoCloseable,
         return browserContextId;
     }
 
+    /**
+     * Enables Page lifecycle events if they are not enabled by the {@link SessionProfile}.
+     */
+    void enableLifecycleEvents() {
+        if (lifecycleEventsEnabled) {
+            return;
+        }
+        batch(command -> {
+            command.getPage().enable();
+            command.getPage().setLifecycleEventsEnabled(true);
+        });
+        lifecycleEventsEnabled = true;
+    }
+
+    void setLifecycleEventsEnabled() {
+        lifecycleEventsEnabled = true;
+    }
+
     public Integer getExecutionContextId() {
         return executionContextId;
     }
@@ -766,6 +1000,25 @@ public class Session implements AutoCloseable,
         this.executionContextId = executionContextId;
     }
 
+    void setEventLoop(EventLoop eventLoop) {
+        this.eventLoop = eventLoop;
+    }
+
+    /**
+     * Keeps the listeners which are registered so far when {@link #resetListeners()} is called.
+     */
+    void markListeners() {
+        listeners.mark();
+    }
+
+    /**
+     * Removes the listeners which are registered after {@link #markListeners()}.
+     */
+    void resetListeners() {
+        listeners.reset();
+        terminateListener = null;
+    }
+
     @Override
     public String toString() {
         return "Session [sessionId=" + sessionId + "]";
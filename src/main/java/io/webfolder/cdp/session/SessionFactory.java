@@ -19,12 +19,18 @@ package io.webfolder.cdp.session;
 
 import static io.webfolder.cdp.event.Events.RuntimeExecutionContextCreated;
 import static io.webfolder.cdp.event.Events.RuntimeExecutionContextDestroyed;
+import static io.webfolder.cdp.event.Events.TargetDetachedFromTarget;
+import static io.webfolder.cdp.event.Events.TargetTargetCreated;
+import static io.webfolder.cdp.event.Events.TargetTargetDestroyed;
 import static io.webfolder.cdp.logger.CdpLoggerType.Slf4j;
+import static io.webfolder.cdp.session.RoutingMode.Dedicated;
+import static io.webfolder.cdp.session.RoutingMode.Flat;
+import static io.webfolder.cdp.session.RoutingMode.Tunnel;
 import static java.lang.Boolean.TRUE;
 import static java.lang.String.format;
-import static java.lang.Thread.sleep;
 import static java.util.Locale.ENGLISH;
-import static java.util.concurrent.Executors.newCachedThreadPool;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
 import java.io.IOException;
@@ -32,20 +38,29 @@ import java.io.InputStreamReader;
 import java.io.Reader;
 import java.net.ConnectException;
 import java.net.HttpURLConnection;
+import java.net.URI;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.neovisionaries.ws.client.CompressionStatistics;
 import com.neovisionaries.ws.client.WebSocket;
-import com.neovisionaries.ws.client.WebSocketException;
 import com.neovisionaries.ws.client.WebSocketFactory;
 import com.neovisionaries.ws.client.ZeroMasker;
 
@@ -53,7 +68,6 @@ import io.webfolder.cdp.command.Target;
 import io.webfolder.cdp.event.runtime.ExecutionContextCreated;
 import io.webfolder.cdp.event.runtime.ExecutionContextDestroyed;
 import io.webfolder.cdp.exception.CdpException;
-import io.webfolder.cdp.listener.EventListener;
 import io.webfolder.cdp.logger.CdpLoggerFactory;
 import io.webfolder.cdp.logger.CdpLoggerType;
 import io.webfolder.cdp.logger.LoggerFactory;
@@ -67,7 +81,8 @@ public class SessionFactory implements AutoCloseable {
 
     private final String host;
 
-    private final int port;
+    // chrome selects the port if it is launched with --remote-debugging-port=0
+    private volatile int port;
 
     private final int connectionTimeout;
 
@@ -85,17 +100,37 @@ public class SessionFactory implements AutoCloseable {
 
     private static final int DEFAULT_WS_READ_TIMEOUT = 10 * 1000; // 10 seconds
 
+    private static final int TARGET_CREATED_TIMEOUT = 5 * 1000; // 5 seconds
+
     private final Map<String, Session> sessions = new ConcurrentHashMap<>();
 
     private final Map<String, WSAdapter> wsAdapters = new ConcurrentHashMap<>();
 
-    private final List<String> contexts = new CopyOnWriteArrayList<>();
+    private final Set<String> contexts = ConcurrentHashMap.newKeySet();
+
+    // pending commands of the all sessions, command ids are unique per SessionFactory
+    private final PendingCommands wsContexts = new PendingCommands();
 
+    private final AtomicInteger counter = new AtomicInteger(0);
+
+    // blank tabs which are not claimed yet, guarded by itself together with pendingTargets
     private final List<TabInfo> tabs = new CopyOnWriteArrayList<>();
 
+    // tabs which are created by Target.createTarget and not announced yet by Target.targetCreated
+    private final Map<String, CompletableFuture<TabInfo>> pendingTargets = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean initialTabClaimed = new AtomicBoolean();
+
     private final ExecutorService threadPool;
 
-    private WebSocket webSocket;
+    // browser connection, the WebSocket of /json/version if no transport is set
+    private Transport browserTransport;
+
+    private volatile Transport transport;
+
+    private volatile String webSocketDebuggerUrl;
+
+    private volatile SelectorGroup selectorGroup;
 
     private volatile Session browserSession;
 
@@ -107,12 +142,24 @@ public class SessionFactory implements AutoCloseable {
 
     private volatile int majorVersion;
 
+    private volatile RoutingMode routingMode = Tunnel;
+
+    private volatile SessionProfile sessionProfile = SessionProfile.full();
+
+    private volatile boolean compression;
+
+    private volatile int compressionLevel;
+
+    private volatile int compressionThreshold;
+
+    private final CompressionStatistics compressionStatistics = new CompressionStatistics();
+
     public SessionFactory() {
         this(DEFAULT_HOST,
                 DEFAULT_PORT,
                 DEFAULT_CONNECTION_TIMEOUT,
                 Slf4j,
-                newCachedThreadPool(new CdpThreadFactory()));
+                CdpExecutors.newExecutor());
     }
 
     public SessionFactory(CdpLoggerType loggerType) {
@@ -120,7 +167,7 @@ public class SessionFactory implements AutoCloseable {
                 DEFAULT_PORT,
                 DEFAULT_CONNECTION_TIMEOUT,
                 loggerType,
-                newCachedThreadPool(new CdpThreadFactory()));
+                CdpExecutors.newExecutor());
     }
 
     public SessionFactory(final int port) {
@@ -128,7 +175,7 @@ public class SessionFactory implements AutoCloseable {
                 port,
                 DEFAULT_CONNECTION_TIMEOUT,
                 Slf4j,
-                newCachedThreadPool(new CdpThreadFactory()));
+                CdpExecutors.newExecutor());
     }
 
     public SessionFactory(final int port, CdpLoggerType loggerType) {
@@ -136,7 +183,7 @@ public class SessionFactory implements AutoCloseable {
                 port,
                 DEFAULT_CONNECTION_TIMEOUT,
                 loggerType,
-                newCachedThreadPool(new CdpThreadFactory()));
+                CdpExecutors.newExecutor());
     }
 
     public SessionFactory(final String host, final int port) {
@@ -144,7 +191,7 @@ public class SessionFactory implements AutoCloseable {
                 port,
                 DEFAULT_CONNECTION_TIMEOUT,
                 Slf4j,
-                newCachedThreadPool(new CdpThreadFactory()));
+                CdpExecutors.newExecutor());
     }
 
     public SessionFactory(
@@ -193,153 +240,246 @@ public class SessionFactory implements AutoCloseable {
     }
 
     public Session create(String browserContextId) {
-        boolean initialized = browserSession == null ? false : true;
+        return create(browserContextId, sessionProfile);
+    }
 
+    /**
+     * Creates a session which enables the domains of the given profile.
+     * 
+     * @param browserContextId browser context of the tab, <code>null</code> for the default context
+     * @param profile domains to enable at attach
+     */
+    public Session create(String browserContextId, SessionProfile profile) {
+        if (profile == null) {
+            throw new IllegalArgumentException();
+        }
         Session browserSession = getBrowserSession();
         Target target = browserSession.getCommand().getTarget();
 
         TabInfo tab = null;
 
-        if ( ! initialized ) {
-            for (int i = 0; i < 500 && tabs.isEmpty(); i++) {
-                try {
-                    sleep(10);
-                } catch (InterruptedException e) {
-                    throw new CdpException(e);
+        // reuses the blank tab of the browser which is opened at startup
+        if ( browserContextId == null && initialTabClaimed.compareAndSet(false, true) ) {
+            for (TargetInfo next : target.getTargets()) {
+                if ( TargetListener.isBlankPage(next) &&
+                        ! TRUE.equals(next.isAttached()) &&
+                        next.getBrowserContextId() == null ) {
+                    tab = new TabInfo(next.getTargetId(), null);
+                    synchronized (tabs) {
+                        tabs.removeIf(info -> info.getTargetId().equals(next.getTargetId()));
+                    }
+                    break;
                 }
             }
-            if ( ! tabs.isEmpty() ) {
-                tab = tabs.remove(0);
-            }
         }
 
         if (tab == null) {
             String targetId = target.createTarget("about:blank",
                                                     DEFAULT_SCREEN_WIDTH,
                                                     DEFAULT_SCREEN_HEIGHT,
-                                                    browserContextId, false);            
-            boolean found = false;
-            for (int i = 0; i < 500 && ! found; i++) {
-                for (TabInfo info : tabs) {
-                    if (info.getTargetId().equals(targetId)) {
-                        found = true;
-                        tabs.remove(info);
-                        break;
+                                                    browserContextId, false);
+            tab = awaitTarget(targetId, browserContextId);
+        }
+
+        return connect(tab.getTargetId(), tab.getBrowserContextId(), profile);
+    }
+
+    /**
+     * Creates and attaches <code>count</code> tabs concurrently.
+     * 
+     * If a tab could not be created the other tabs are closed.
+     * 
+     * @param count number of the tabs
+     * @param browserContextId browser context of the tabs, <code>null</code> for the default context
+     */
+    public List<Session> createAll(int count, String browserContextId) {
+        if (count < 1) {
+            throw new IllegalArgumentException();
+        }
+        getBrowserSession();
+        ExecutorService executor = CdpExecutors.newExecutor();
+        try {
+            List<CompletableFuture<Session>> futures = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                futures.add(supplyAsync(() -> create(browserContextId), executor));
+            }
+            List<Session> created = new ArrayList<>(count);
+            CdpException error = null;
+            for (CompletableFuture<Session> next : futures) {
+                try {
+                    created.add(next.join());
+                } catch (CompletionException e) {
+                    if (error == null) {
+                        error = e.getCause() instanceof CdpException ?
+                                        (CdpException) e.getCause() : new CdpException(e.getCause());
                     }
                 }
-                if ( ! found ) {
-                    try {
-                        sleep(10);
-                    } catch (InterruptedException e) {
-                        throw new CdpException(e);
-                    }
+            }
+            if (error != null) {
+                for (Session next : created) {
+                    next.close();
                 }
+                throw error;
             }
-
-            tab = new TabInfo(targetId, browserContextId);
+            return created;
+        } finally {
+            executor.shutdown();
         }
+    }
 
-        return connect(tab.getTargetId(), tab.getBrowserContextId());
+    // waits for Target.targetCreated, the event could be received before the response of Target.createTarget
+    private TabInfo awaitTarget(String targetId, String browserContextId) {
+        CompletableFuture<TabInfo> future = new CompletableFuture<>();
+        synchronized (tabs) {
+            for (TabInfo next : tabs) {
+                if (next.getTargetId().equals(targetId)) {
+                    tabs.remove(next);
+                    return next;
+                }
+            }
+            pendingTargets.put(targetId, future);
+        }
+        try {
+            return future.get(TARGET_CREATED_TIMEOUT, MILLISECONDS);
+        } catch (TimeoutException e) {
+            return new TabInfo(targetId, browserContextId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CdpException(e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof CdpException ?
+                        (CdpException) e.getCause() : new CdpException(e.getCause());
+        } finally {
+            pendingTargets.remove(targetId);
+        }
     }
 
     public Session connect(String targetId) {
-        return connect(targetId, null);
+        Session bs = getBrowserSession();
+        TargetInfo found = null;
+        List<TargetInfo> targets = bs.getCommand().getTarget().getTargets();
+        for (TargetInfo next : targets) {
+            if (next.getTargetId().equals(targetId)) {
+                found = next;
+            }
+        }
+        if (found == null) {
+            throw new CdpException("Target not found: " + targetId);
+        }
+        return connect(targetId, found.getBrowserContextId(), sessionProfile);
     }
 
-    Session connect(String targetId, String browserContextId) {
+    Session connect(String targetId, String browserContextId, SessionProfile profile) {
         Session bs = getBrowserSession();
 
-        if (browserContextId == null) {
-            TargetInfo found = null;
-            List<TargetInfo> targets = bs.getCommand().getTarget().getTargets();
-            for (TargetInfo next : targets) {
-                if (next.getTargetId().equals(targetId)) {
-                    found = next;
-                }
-            }
-            if (found == null) {
-                throw new CdpException("Target not found: " + targetId);
-            }
-            browserContextId = found.getBrowserContextId();
-        }
+        final RoutingMode routingMode = this.routingMode;
+
+        EventListeners listeners = new EventListeners();
+
+        WSAdapter wsAdapter = new WSAdapter(gson, wsContexts,
+                                                listeners, threadPool,
+                                                loggerFactory.getLogger("cdp4j.ws.response"));
 
-        Target target = bs.getCommand().getTarget();
-        String sessionId = target.attachToTarget(targetId);
+        String sessionId = null;
+        Transport sessionTransport = null;
+        Session parent = null;
 
-        Map<Integer, WSContext> contexts = new ConcurrentHashMap<>();
-        List<EventListener> listeners = new CopyOnWriteArrayList<>();
+        if (Dedicated.equals(routingMode)) {
+            if (transport != null) {
+                throw new CdpException("Dedicated routing mode requires a WebSocket connection");
+            }
+            sessionId = format("ws://%s:%d/devtools/page/%s", host, port, targetId);
+            sessionTransport = connectWebSocket(sessionId, wsAdapter);
+        } else {
+            Target target = bs.getCommand().getTarget();
+            sessionId = Flat.equals(routingMode) ?
+                                target.attachToTarget(targetId, TRUE) :
+                                target.attachToTarget(targetId);
+            sessionTransport = browserTransport;
+            parent = browserSession;
+        }
 
         Session session = new Session(gson, sessionId,
                                         targetId, browserContextId,
-                                        webSocket, contexts,
+                                        sessionTransport, wsContexts,
                                         this, listeners,
                                         loggerFactory, false,
-                                        browserSession, getMajorVersion());
-        WSAdapter wsAdapter = new WSAdapter(gson, contexts,
-                                                listeners, threadPool,
-                                                loggerFactory.getLogger("cdp4j.ws.response"));
+                                        parent, getMajorVersion(),
+                                        routingMode);
         wsAdapter.setSession(session);
+        session.setEventLoop(wsAdapter.getEventLoop());
         wsAdapters.put(sessionId, wsAdapter);
         sessions.put(sessionId, session);
 
-        session.getCommand().getRuntime().enable();
+        session.on(RuntimeExecutionContextCreated, ExecutionContextCreated.class, ecc -> {
+            if (targetId.equals(ecc.getContext().getAuxData().get("frameId"))) {
+                session.setExecutionContextId(ecc.getContext().getId());
+            }
+        });
 
-        session.addEventListener((event, value) -> {
-            if (RuntimeExecutionContextCreated.equals(event)) {
-                ExecutionContextCreated ecc = (ExecutionContextCreated) value;
-                if (targetId.equals(ecc.getContext().getAuxData().get("frameId"))) {
-                    session.setExecutionContextId(ecc.getContext().getId());
-                }
-            } else if (RuntimeExecutionContextDestroyed.equals(event)) {
-                ExecutionContextDestroyed ecd = (ExecutionContextDestroyed) value;
-                if ( ecd.getExecutionContextId() != null &&
-                        ecd.getExecutionContextId().equals(session.getExecutionContextId()) ) {
-                    session.setExecutionContextId(null);
-                }
+        session.on(RuntimeExecutionContextDestroyed, ExecutionContextDestroyed.class, ecd -> {
+            if ( ecd.getExecutionContextId() != null &&
+                    ecd.getExecutionContextId().equals(session.getExecutionContextId()) ) {
+                session.setExecutionContextId(null);
             }
         });
 
-        Command command = session.getCommand();
+        // enable commands are pipelined, they cost a single round trip
+        session.batch(command -> {
+            if (profile.isRuntime()) {
+                command.getRuntime().enable();
+            }
+            if (profile.isInspector()) {
+                command.getInspector().enable();
+            }
+            if (profile.isPage()) {
+                command.getPage().enable();
+            }
+            if (profile.isLifecycleEvents()) {
+                command.getPage().setLifecycleEventsEnabled(true);
+            }
+        });
+        if (profile.isLifecycleEvents()) {
+            session.setLifecycleEventsEnabled();
+        }
 
-        command.getInspector().enable();
-        command.getPage().enable();
-        command.getPage().setLifecycleEventsEnabled(true);
- 
         return session;
     }
 
     private synchronized Session getBrowserSession() {
         if (browserSession == null) {
-            Map<String, Object> version = getVersion();
-            String webSocketDebuggerUrl = (String) version.get("webSocketDebuggerUrl");
-            webSocket = null;
-            try {
-                webSocket = factory.createSocket(webSocketDebuggerUrl);
-                webSocket.setPayloadMask(new ZeroMasker());
-            } catch (IOException e) {
-                throw new CdpException(e);
-            }
-            Map<Integer, WSContext> contexts = new ConcurrentHashMap<>();
-            List<EventListener> listeners = new CopyOnWriteArrayList<>();
-            WSAdapter adapter = new WSAdapter(gson, contexts,
+            EventListeners listeners = new EventListeners();
+            WSAdapter adapter = new WSAdapter(gson, wsContexts,
                                         listeners, threadPool,
                                         loggerFactory.getLogger("cdp4j.ws.response"));
-            webSocket.addListener(adapter);
-            try {
-                webSocket.connect();
-            } catch (WebSocketException e) {
-                throw new CdpException(e);
+            String id = null;
+            Transport transport = this.transport;
+            if (transport == null) {
+                id = webSocketDebuggerUrl;
+                if (id == null) {
+                    Map<String, Object> version = getVersion();
+                    id = (String) version.get("webSocketDebuggerUrl");
+                }
+                browserTransport = connectWebSocket(id, adapter);
+            } else {
+                id = "browser";
+                transport.connect(adapter);
+                browserTransport = transport;
             }
-            webSocket.setAutoFlush(true);
 
-            browserSession = new Session(gson, webSocketDebuggerUrl,
-                                        webSocketDebuggerUrl, null,
-                                        webSocket, contexts,
+            browserSession = new Session(gson, id,
+                                        id, null,
+                                        browserTransport, wsContexts,
                                         this, listeners,
                                         loggerFactory, true,
-                                        null, 0);
+                                        null, 0, Tunnel);
             adapter.setSession(browserSession);
-            browserSession.addEventListener(new TargetListener(sessions, wsAdapters, tabs));
+            browserSession.setEventLoop(adapter.getEventLoop());
+            adapter.setSessionAdapters(wsAdapters);
+            TargetListener targetListener = new TargetListener(sessions, wsAdapters, tabs, pendingTargets);
+            browserSession.addEventListener(TargetTargetCreated, targetListener);
+            browserSession.addEventListener(TargetTargetDestroyed, targetListener);
+            browserSession.addEventListener(TargetDetachedFromTarget, targetListener);
             Target target = browserSession.getCommand().getTarget();
             target.setDiscoverTargets(TRUE);
             browserSession.onTerminate(event -> close());
@@ -347,6 +487,28 @@ public class SessionFactory implements AutoCloseable {
         return browserSession;
     }
 
+    private Transport connectWebSocket(String url, WSAdapter adapter) {
+        SelectorGroup selectorGroup = this.selectorGroup;
+        if (selectorGroup != null) {
+            Transport transport = new SelectorTransport(selectorGroup, url, connectionTimeout);
+            transport.connect(adapter);
+            return transport;
+        }
+        WebSocket webSocket = null;
+        try {
+            webSocket = factory.createSocket(url);
+            webSocket.setPayloadMask(new ZeroMasker());
+            if (compression) {
+                webSocket.setPerMessageDeflate(compressionLevel, compressionThreshold, compressionStatistics);
+            }
+        } catch (IOException e) {
+            throw new CdpException(e);
+        }
+        Transport transport = new WebSocketTransport(webSocket);
+        transport.connect(adapter);
+        return transport;
+    }
+
     void close(Session session) {
         if (browserSession.isConnected()) {
             int version = getMajorVersion();
@@ -391,13 +553,24 @@ public class SessionFactory implements AutoCloseable {
             return;
         }
         closed = true;
+        for (Session next : sessions.values()) {
+            // releases the dedicated connections
+            next.dispose();
+        }
         if ( browserSession != null ) {
             browserSession.dispose();
         }
         sessions.clear();
         wsAdapters.clear();
         contexts.clear();
-        tabs.clear();
+        synchronized (tabs) {
+            tabs.clear();
+            for (CompletableFuture<TabInfo> next : pendingTargets.values()) {
+                next.completeExceptionally(new CdpException("Session factory is closed"));
+            }
+            pendingTargets.clear();
+        }
+        wsContexts.close();
         threadPool.shutdownNow();
         browserSession = null;
     }
@@ -459,6 +632,10 @@ public class SessionFactory implements AutoCloseable {
     }
 
     public boolean ping() {
+        Transport transport = this.transport;
+        if (transport != null) {
+            return transport.isOpen();
+        }
         String sessions = format("http://%s:%d/json/version",
                                         host,
                                         port);
@@ -491,19 +668,47 @@ public class SessionFactory implements AutoCloseable {
     }
 
     public void disposeBrowserContext(final String browserContextId) {
-        if (contexts.contains(browserContextId)) {
+        if (contexts.remove(browserContextId)) {
             getBrowserSession()
                     .getCommand()
                     .getTarget()
                     .disposeBrowserContext(browserContextId);
-            contexts.remove(browserContextId);
         }
     }
 
+    /**
+     * Returns the number of browser contexts which are created by {@link #createBrowserContext()} and not disposed yet.
+     */
+    public int getBrowserContextCount() {
+        return contexts.size();
+    }
+
+    AtomicInteger getCounter() {
+        return counter;
+    }
+
     ExecutorService getThreadPool() {
         return threadPool;
     }
 
+    LoggerFactory getLoggerFactory() {
+        return loggerFactory;
+    }
+
+    /**
+     * Returns the number of the open page sessions.
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Returns the number of commands sent by all sessions which are waiting for a response.
+     */
+    public int getPendingCommandCount() {
+        return wsContexts.size();
+    }
+
     protected LoggerFactory createLoggerFactory(CdpLoggerType loggerType) {
         ServiceLoader<LoggerFactory> loader = ServiceLoader.<LoggerFactory>load(LoggerFactory.class);
         Iterator<LoggerFactory> iter = loader.iterator();
@@ -522,6 +727,128 @@ public class SessionFactory implements AutoCloseable {
         this.webSocketReadTimeout = webSocketReadTimeout;
     }
 
+    public RoutingMode getRoutingMode() {
+        return routingMode;
+    }
+
+    /**
+     * Selects the domains which are enabled by {@link #create()}, default value is {@link SessionProfile#full()}.
+     */
+    public void setSessionProfile(SessionProfile sessionProfile) {
+        if (sessionProfile == null) {
+            throw new IllegalArgumentException();
+        }
+        this.sessionProfile = sessionProfile;
+    }
+
+    public SessionProfile getSessionProfile() {
+        return sessionProfile;
+    }
+
+    /**
+     * Sets the WebSocket endpoint of the browser, e.g. <code>ws://127.0.0.1:9222/devtools/browser/&lt;id&gt;</code>.
+     * 
+     * The browser is connected without requesting <code>/json/version</code> and the port of the endpoint
+     * replaces the port of this factory, so a browser which selects its own port can be used.
+     */
+    public void setWebSocketDebuggerUrl(String webSocketDebuggerUrl) {
+        URI uri = URI.create(webSocketDebuggerUrl);
+        if ( ! "ws".equals(uri.getScheme()) || uri.getPort() <= 0 ) {
+            throw new CdpException("Invalid WebSocket debugger url: " + webSocketDebuggerUrl);
+        }
+        this.port                 = uri.getPort();
+        this.webSocketDebuggerUrl = webSocketDebuggerUrl;
+    }
+
+    public String getWebSocketDebuggerUrl() {
+        return webSocketDebuggerUrl;
+    }
+
+    /**
+     * Sets how the page sessions created after this call exchange messages with the browser.
+     * Default value is {@link RoutingMode#Tunnel}.
+     */
+    public void setRoutingMode(RoutingMode routingMode) {
+        if (routingMode == null) {
+            throw new IllegalArgumentException();
+        }
+        this.routingMode = routingMode;
+    }
+
+    /**
+     * Connects to the browser over the given transport instead of the WebSocket of <code>/json/version</code>.
+     * Must be set before the first session is created. Page sessions share the transport,
+     * therefore {@link RoutingMode#Dedicated} is not supported.
+     * 
+     * @see PipeTransport
+     */
+    public void setTransport(Transport transport) {
+        this.transport = transport;
+    }
+
+    public Transport getTransport() {
+        return transport;
+    }
+
+    /**
+     * Multiplexes the WebSocket connections opened after this call over the threads of the given group
+     * instead of starting a reading and a writing thread per connection. A group can be shared
+     * by many factories and is not closed by {@link #close()}. Compression is not supported
+     * by the selector transport.
+     */
+    public void setSelectorGroup(SelectorGroup selectorGroup) {
+        this.selectorGroup = selectorGroup;
+    }
+
+    public SelectorGroup getSelectorGroup() {
+        return selectorGroup;
+    }
+
+    /**
+     * Offers permessage-deflate compression to the browser for the connections opened after this call.
+     * Disabled by default; useful when the browser runs on a remote host and the traffic is
+     * dominated by large payloads such as screenshots and DOM snapshots.
+     * 
+     * @param level compression level, from <code>0</code> to <code>9</code> or <code>-1</code> for the default level
+     * @param threshold messages smaller than this size in bytes are sent uncompressed
+     */
+    public void setCompression(int level, int threshold) {
+        if (level < -1 || level > 9 || threshold < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.compressionLevel = level;
+        this.compressionThreshold = threshold;
+        this.compression = true;
+    }
+
+    /**
+     * Returns the total size of the sent messages before compression.
+     */
+    public long getSentUncompressedBytes() {
+        return compressionStatistics.getSentUncompressedBytes();
+    }
+
+    /**
+     * Returns the total size of the sent messages after compression.
+     */
+    public long getSentCompressedBytes() {
+        return compressionStatistics.getSentCompressedBytes();
+    }
+
+    /**
+     * Returns the total size of the compressed messages received from the browser.
+     */
+    public long getReceivedCompressedBytes() {
+        return compressionStatistics.getReceivedCompressedBytes();
+    }
+
+    /**
+     * Returns the total size of the received messages after decompression.
+     */
+    public long getReceivedUncompressedBytes() {
+        return compressionStatistics.getReceivedUncompressedBytes();
+    }
+
     @Override
     public String toString() {
         return "SessionFactory [host=" + host + ", port=" + port + ", sessions=" + sessions + "]";
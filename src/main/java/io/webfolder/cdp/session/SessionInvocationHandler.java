@@ -17,39 +17,46 @@
  */
 package io.webfolder.cdp.session;
 
-import static java.lang.String.format;
-import static java.util.Base64.getDecoder;
+import static io.webfolder.cdp.session.RoutingMode.Flat;
+import static io.webfolder.cdp.session.RoutingMode.Tunnel;
+import static java.util.concurrent.CompletableFuture.allOf;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import com.google.gson.Gson;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.neovisionaries.ws.client.WebSocket;
 
-import io.webfolder.cdp.annotation.Domain;
-import io.webfolder.cdp.annotation.Returns;
+import io.webfolder.cdp.async.AsyncTarget;
 import io.webfolder.cdp.exception.CdpException;
+import io.webfolder.cdp.exception.CommandTimeoutException;
 import io.webfolder.cdp.logger.CdpLogger;
 
 class SessionInvocationHandler implements InvocationHandler {
 
-    private final AtomicInteger counter = new AtomicInteger(0);
+    // command serializers are shared by all sessions
+    private static final ConcurrentMap<Method, CommandSerializer> serializers = new ConcurrentHashMap<>();
+
+    private final AtomicInteger counter;
 
     private final Gson gson;
 
-    private final WebSocket webSocket;
+    private final Transport transport;
 
-    private final Map<Integer, WSContext> contexts;
+    private final PendingCommands contexts;
 
     private final List<String> enabledDomains = new CopyOnWriteArrayList<>();
 
@@ -63,27 +70,50 @@ class SessionInvocationHandler implements InvocationHandler {
 
     private final String targetId;
 
+    private final RoutingMode routingMode;
+
     private final int timeout;
 
+    private final Executor executor;
+
+    private final ThreadLocal<Batch> batches = new ThreadLocal<>();
+
+    private static class Batch {
+
+        private final List<Integer> ids = new ArrayList<>();
+
+        private final List<WSContext> contexts = new ArrayList<>();
+
+        private final List<String> messages = new ArrayList<>();
+
+        private final List<CompletableFuture<?>> futures = new ArrayList<>();
+    }
+
     SessionInvocationHandler(
                     final Gson gson,
-                    final WebSocket webSocket,
-                    final Map<Integer, WSContext> contexts,
+                    final Transport transport,
+                    final AtomicInteger counter,
+                    final PendingCommands contexts,
                     final Session session,
                     final CdpLogger log,
                     final boolean browserSession,
                     final String sessionId,
                     final String targetId,
-                    final int webSocketReadTimeout) {
+                    final RoutingMode routingMode,
+                    final int webSocketReadTimeout,
+                    final Executor executor) {
         this.gson           = gson;
-        this.webSocket      = webSocket;
+        this.transport      = transport;
+        this.counter        = counter;
         this.contexts       = contexts;
         this.session        = session;
         this.log            = log;
         this.browserSession = browserSession;
         this.sessionId      = sessionId;
         this.targetId       = targetId;
+        this.routingMode    = routingMode;
         this.timeout        = webSocketReadTimeout;
+        this.executor       = executor;
     }
 
     @Override
@@ -91,61 +121,60 @@ class SessionInvocationHandler implements InvocationHandler {
                 final Object proxy,
                 final Method method,
                 final Object[] args) throws Throwable {
+        return invoke(getSerializer(method), args);
+    }
 
-        final Class<?> klass = method.getDeclaringClass();
-        final String  domain = klass.getAnnotation(Domain.class).value();
-        final String command = method.getName();
-
-        final boolean hasArgs = args != null && args.length > 0;
-        final boolean voidMethod = void.class.equals(method.getReturnType());
+    /**
+     * Sends the command and waits for its result.
+     * 
+     * Called by the generated command implementations without reflection
+     * and by {@link #invoke(Object, Method, Object[])} for dynamic proxies.
+     */
+    Object invoke(
+                final CommandSerializer serializer,
+                final Object[] args) {
+        final String domain = serializer.getDomain();
 
-        boolean enable = "enable".intern() == command && voidMethod;
+        boolean enable = serializer.isEnable();
 
         // it's unnecessary to call enable command more than once.
         if (enable && enabledDomains.contains(domain)) {
             return null;
         }
 
-        boolean disable = "disable".intern() == command && voidMethod;
-
-        if (disable) {
+        if (serializer.isDisable()) {
             enabledDomains.remove(domain);
         }
 
-        Map<String, Object> params = new HashMap<>(hasArgs ? args.length : 0);
-
-        if (hasArgs) {
-            int argIndex = 0;
-            Parameter[] parameters = method.getParameters();
-            for (Object argValue : args) {
-                String argName = parameters[argIndex++].getName();
-                params.put(argName, argValue);
-            }
-        }
+        boolean flat = ! browserSession && Flat.equals(routingMode);
 
         int id = counter.incrementAndGet();
-        Map<String, Object> map = new HashMap<>(3);
-        map.put("id"    , id);
-        map.put("method", format("%s.%s", domain, command));
-        map.put("params", params);
 
-        String json = gson.toJson(map);
+        String json = serializer.serialize(gson, id, args, flat ? sessionId : null);
 
         log.debug(json);
 
+        Type type = serializer.getReturnType();
+
+        String returns = serializer.getReturns();
+
         WSContext context = null;
 
         if (session.isConnected()) {
-            context = new WSContext();
+            context = new WSContext(this, type, returns);
             contexts.put(id, context);
-            if (browserSession) {
-                webSocket.sendText(json);
-            } else {
-                session.getCommand()
-                        .getTarget()
-                        .sendMessageToTarget(json, sessionId, targetId);
+            send(json);
+            if ( ! context.await(timeout) ) {
+                if (contexts.remove(id, context)) {
+                    throw new CommandTimeoutException(id, "Command timed out, id: " + id +
+                                                            ", method: " + serializer.getMethod());
+                }
+                // the response is being decoded, it is completed right after it is removed
+                if ( ! context.await(timeout) ) {
+                    throw new CommandTimeoutException(id, "Command timed out, id: " + id +
+                                                            ", method: " + serializer.getMethod());
+                }
             }
-            context.await(timeout);
         } else {
             throw new CdpException("WebSocket connection is not alive. id: " + id);
         }
@@ -158,78 +187,212 @@ class SessionInvocationHandler implements InvocationHandler {
             enabledDomains.add(domain);
         }
 
-        Class<?> retType = method.getReturnType();
-
-        if (voidMethod || retType.equals(Void.class)) {
+        if (type == null) {
             return null;
         }
 
-        JsonElement data = context.getData();
+        // the result is already bound to the return type by WSAdapter
+        return context.getData();
+    }
 
-        String returns = method.isAnnotationPresent(Returns.class) ?
-                    method.getAnnotation(Returns.class).value() : null;
+    /**
+     * Sends the command without waiting for its result.
+     * 
+     * The returned future is completed by the executor of the {@link SessionFactory}
+     * when the response is received.
+     */
+    @SuppressWarnings("unchecked")
+    <T> CompletableFuture<T> invokeAsync(
+                final CommandSerializer serializer,
+                final Object[] args) {
+        final String domain = serializer.getDomain();
 
-        if (data == null) {
-            return null;
-        }
+        boolean enable = serializer.isEnable();
 
-        if ( ! data.isJsonObject() ) {
-            throw new CdpException("invalid response");
+        // it's unnecessary to call enable command more than once.
+        if (enable && enabledDomains.contains(domain)) {
+            return completedFuture(null);
         }
 
-        JsonObject object = data.getAsJsonObject();
-        JsonElement result = object.get("result");
+        if (serializer.isDisable()) {
+            enabledDomains.remove(domain);
+        }
 
-        if ( result == null || ! result.isJsonObject() ) {
-            throw new CdpException("invalid result");   
+        if ( ! session.isConnected() ) {
+            CompletableFuture<T> future = new CompletableFuture<>();
+            future.completeExceptionally(new CdpException("WebSocket connection is not alive."));
+            Batch batch = batches.get();
+            if (batch != null) {
+                // fails the batch
+                batch.futures.add(future);
+            }
+            return future;
         }
 
-        JsonObject resultObject = result.getAsJsonObject();
+        boolean flat = ! browserSession && Flat.equals(routingMode);
+
+        int id = counter.incrementAndGet();
+
+        String json = serializer.serialize(gson, id, args, flat ? sessionId : null);
 
-        Object ret = null;
-        Type genericReturnType = method.getGenericReturnType();
+        log.debug(json);
 
-        if (returns != null) {
+        WSContext context = new WSContext(this, serializer.getReturnType(),
+                                            serializer.getReturns(), executor);
+        // nobody waits for the response, the timeout wheel fails the future if it is not received
+        contexts.put(id, context, timeout);
 
-            JsonElement jsonElement = resultObject.get(returns);
+        CompletableFuture<Object> future = context.getFuture();
 
-            if ( jsonElement != null && jsonElement.isJsonPrimitive() ) {
-                if (String.class.equals(retType)) {
-                    return resultObject.get(returns).getAsString();
-                } else if (Boolean.class.equals(retType)) {
-                    return resultObject.get(returns).getAsBoolean() ? Boolean.TRUE : Boolean.FALSE;
-                } else if (Integer.class.equals(retType)) {
-                    return resultObject.get(returns).getAsInt();
-                } else if (Double.class.equals(retType)) {
-                    return resultObject.get(returns).getAsDouble();
-                }
+        Batch batch = batches.get();
+        if (batch == null) {
+            sendAsync(id, context, json);
+        } else {
+            batch.ids.add(id);
+            batch.contexts.add(context);
+            batch.messages.add(json);
+            batch.futures.add(future);
+        }
+
+        if (enable) {
+            future = future.thenApply(result -> {
+                enabledDomains.add(domain);
+                return result;
+            });
+        }
+
+        return (CompletableFuture<T>) future;
+    }
+
+    /**
+     * Collects the asynchronous commands issued by <code>commands</code> on the calling thread,
+     * sends them together and waits until all responses are received.
+     */
+    void batch(final Runnable commands) {
+        if (batches.get() != null) {
+            // nested batch is a part of the outer batch
+            commands.run();
+            return;
+        }
+        Batch batch = new Batch();
+        batches.set(batch);
+        try {
+            commands.run();
+        } finally {
+            batches.remove();
+            // commands are already registered, their responses must arrive even if commands failed
+            send(batch);
+        }
+        CompletableFuture<?>[] futures = batch.futures.toArray(new CompletableFuture<?>[0]);
+        try {
+            allOf(futures).get(timeout, MILLISECONDS);
+        } catch (InterruptedException e) {
+            throw new CdpException(e);
+        } catch (TimeoutException e) {
+            throw new CommandTimeoutException(0, "Batch timed out, commands: " + futures.length);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CdpException) {
+                throw (CdpException) cause;
             }
+            throw new CdpException(cause);
+        }
+    }
 
-            if (jsonElement != null && byte[].class.equals(genericReturnType)) {
-                String encoded = gson.fromJson(jsonElement, String.class);
-                if (encoded == null || encoded.trim().isEmpty()) {
-                    return null;
-                } else {
-                    return getDecoder().decode(encoded);
+    /**
+     * Sends the commands of the batch, a command fails as soon as it could not be sent.
+     */
+    private void send(final Batch batch) {
+        List<String> messages = batch.messages;
+        if (messages.isEmpty()) {
+            return;
+        }
+        boolean direct = browserSession || ! Tunnel.equals(routingMode);
+        if (direct) {
+            try {
+                transport.send(messages);
+            } catch (RuntimeException e) {
+                for (int i = 0; i < messages.size(); i++) {
+                    fail(batch.ids.get(i), batch.contexts.get(i), e);
                 }
             }
+            return;
+        }
+        AsyncTarget target = session.getAsyncCommand().getTarget();
+        for (int i = 0; i < messages.size(); i++) {
+            sendToTarget(target, batch.ids.get(i), batch.contexts.get(i), messages.get(i));
+        }
+    }
 
-            if (List.class.equals(retType)) {
-                JsonArray jsonArray = jsonElement.getAsJsonArray();
-                ret = gson.fromJson(jsonArray, genericReturnType);
-            } else {
-                ret = gson.fromJson(jsonElement, genericReturnType);
-            }
+    /**
+     * Sends the command without waiting for a round trip in tunnel mode,
+     * the command fails if it could not be sent.
+     */
+    private void sendAsync(final int id, final WSContext context, final String json) {
+        boolean direct = browserSession || ! Tunnel.equals(routingMode);
+        if ( ! direct ) {
+            sendToTarget(session.getAsyncCommand().getTarget(), id, context, json);
+            return;
+        }
+        try {
+            transport.send(json);
+        } catch (RuntimeException e) {
+            fail(id, context, e);
+        }
+    }
+
+    private void sendToTarget(
+                final AsyncTarget target,
+                final int id,
+                final WSContext context,
+                final String json) {
+        try {
+            target.sendMessageToTarget(json, sessionId, targetId)
+                    .whenComplete((result, error) -> {
+                        if (error != null) {
+                            fail(id, context, error);
+                        }
+                    });
+        } catch (RuntimeException e) {
+            fail(id, context, e);
+        }
+    }
+
+    private void fail(final int id, final WSContext context, final Throwable error) {
+        if (contexts.remove(id, context)) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ?
+                                    error.getCause() : error;
+            context.setError(cause instanceof CdpException ? (CdpException) cause : new CdpException(cause));
+        }
+    }
+
+    private void send(final String json) {
+        boolean direct = browserSession || ! Tunnel.equals(routingMode);
+        if (direct) {
+            transport.send(json);
         } else {
-            ret = gson.fromJson(resultObject, genericReturnType);
+            session.getCommand()
+                    .getTarget()
+                    .sendMessageToTarget(json, sessionId, targetId);
         }
+    }
 
-        return ret;
+    private static CommandSerializer getSerializer(final Method method) {
+        CommandSerializer serializer = serializers.get(method);
+        if (serializer == null) {
+            serializer = new CommandSerializer(method);
+            CommandSerializer existing = serializers.putIfAbsent(method, serializer);
+            if (existing != null) {
+                serializer = existing;
+            }
+        }
+        return serializer;
     }
 
     void dispose() {
         enabledDomains.clear();
-        for (WSContext context : contexts.values()) {
+        // contexts are shared by all sessions of the SessionFactory
+        for (WSContext context : contexts.removeOwner(this)) {
             try {
                 context.setData(null);
             } catch (Throwable t) {
@@ -240,4 +403,8 @@ class SessionInvocationHandler implements InvocationHandler {
     WSContext getContext(int id) {
         return contexts.get(id);
     }
+
+    int getPendingCommandCount() {
+        return contexts.count(this);
+    }
 }
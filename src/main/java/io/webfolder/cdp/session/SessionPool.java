@@ -0,0 +1,437 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.net.URI;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.webfolder.cdp.command.Storage;
+import io.webfolder.cdp.exception.CdpException;
+import io.webfolder.cdp.type.page.NavigationEntry;
+
+/**
+ * Keeps attached and enabled tabs ready to be leased.
+ * 
+ * {@link SessionFactory#create()} creates a target, attaches to it and enables the Runtime,
+ * Inspector and Page domains. A pool pays this cost ahead of time: {@link #lease()} returns an idle
+ * session and {@link #release(Session)} resets it to <code>about:blank</code> instead of closing the tab.
+ * 
+ * On release the data of the visited origins (cookies, storage and cache) is cleared with
+ * <code>Storage.clearDataForOrigin</code> and the listeners which are added by the user are removed.
+ * Tabs are closed after {@link #setMaxUses(int) a number of leases} and idle tabs above the
+ * minimum size are closed after {@link #setIdleTimeout(long) the idle timeout}.
+ * 
+ * Leased sessions must be returned with {@link #release(Session)}, {@link Session#close()} closes the tab.
+ */
+public class SessionPool implements AutoCloseable {
+
+    static final String ALL_STORAGE_TYPES = "all";
+
+    private final SessionFactory factory;
+
+    private final String browserContextId;
+
+    private final int minSize;
+
+    private final int maxSize;
+
+    // most recently used first, warm tabs are leased before the cold ones
+    private final LinkedBlockingDeque<Entry> idle = new LinkedBlockingDeque<>();
+
+    private final Map<Session, Entry> leased = new ConcurrentHashMap<>();
+
+    // idle, leased and being created
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final AtomicLong leaseCount = new AtomicLong();
+
+    private final AtomicLong totalWaitTime = new AtomicLong();
+
+    private final AtomicLong maxWaitTime = new AtomicLong();
+
+    private final AtomicLong createdCount = new AtomicLong();
+
+    private final AtomicLong closedCount = new AtomicLong();
+
+    private final ScheduledExecutorService scheduler;
+
+    private volatile int maxUses;
+
+    private volatile long idleTimeout;
+
+    private volatile long leaseTimeout = 30_000;
+
+    private volatile boolean closed;
+
+    private static class Entry {
+
+        private final Session session;
+
+        private int uses;
+
+        private long idleSince;
+
+        Entry(final Session session) {
+            this.session   = session;
+            // a new tab is idle until its first lease
+            this.idleSince = nanoTime();
+        }
+    }
+
+    public SessionPool(final SessionFactory factory, final int minSize, final int maxSize) {
+        this(factory, null, minSize, maxSize);
+    }
+
+    /**
+     * Creates <code>minSize</code> sessions before it returns.
+     * 
+     * @param browserContextId browser context of the tabs, <code>null</code> for the default context
+     * @param minSize number of the tabs which are kept ready
+     * @param maxSize maximum number of the tabs, leases wait if all of them are leased
+     */
+    public SessionPool(
+                final SessionFactory factory,
+                final String browserContextId,
+                final int minSize,
+                final int maxSize) {
+        if (minSize < 0 || maxSize < 1 || minSize > maxSize) {
+            throw new IllegalArgumentException();
+        }
+        this.factory          = factory;
+        this.browserContextId = browserContextId;
+        this.minSize          = minSize;
+        this.maxSize          = maxSize;
+        this.scheduler        = newSingleThreadScheduledExecutor(r -> {
+                                    Thread thread = new Thread(r, "cdp4j-pool");
+                                    thread.setDaemon(true);
+                                    return thread;
+                                });
+        fill();
+        scheduler.scheduleWithFixedDelay(this::evict, 1, 1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Leases a session, waits up to {@link #setLeaseTimeout(long) the lease timeout} if the pool is exhausted.
+     */
+    public Session lease() {
+        return lease(leaseTimeout, MILLISECONDS);
+    }
+
+    public Session lease(final long timeout, final TimeUnit unit) {
+        long start    = nanoTime();
+        long deadline = start + unit.toNanos(timeout);
+        while ( ! closed ) {
+            Entry entry = idle.pollFirst();
+            if (entry == null && reserve()) {
+                entry = create();
+            }
+            if (entry == null) {
+                long remaining = deadline - nanoTime();
+                if (remaining <= 0) {
+                    throw new CdpException("Timed out waiting for a session, pool size: " + maxSize);
+                }
+                try {
+                    // a tab which is closed frees a slot without returning an entry, polled in short slices
+                    entry = idle.pollFirst(Math.min(remaining, MILLISECONDS.toNanos(100)), NANOSECONDS);
+                } catch (InterruptedException e) {
+                    throw new CdpException(e);
+                }
+            }
+            if (entry == null) {
+                continue;
+            }
+            if ( ! entry.session.isConnected() ) {
+                destroy(entry);
+                continue;
+            }
+            leased.put(entry.session, entry);
+            recordWait(nanoTime() - start);
+            return entry.session;
+        }
+        throw new CdpException("Session pool is closed");
+    }
+
+    /**
+     * Returns a leased session to the pool. The session is reset on the calling thread,
+     * it is closed if it can not be reset or if it is used {@link #setMaxUses(int) too many times}.
+     */
+    public void release(final Session session) {
+        Entry entry = leased.remove(session);
+        if (entry == null) {
+            throw new IllegalArgumentException("Session is not leased from this pool: " + session);
+        }
+        entry.uses += 1;
+        int maxUses = this.maxUses;
+        if (closed || ! session.isConnected() || (maxUses > 0 && entry.uses >= maxUses)) {
+            destroy(entry);
+            return;
+        }
+        try {
+            reset(session);
+        } catch (RuntimeException e) {
+            destroy(entry);
+            return;
+        }
+        entry.idleSince = nanoTime();
+        idle.offerFirst(entry);
+        if (closed && idle.remove(entry)) {
+            destroy(entry);
+        }
+    }
+
+    private void reset(final Session session) {
+        session.resetListeners();
+        Set<String> origins = new LinkedHashSet<>();
+        for (NavigationEntry next : session.getCommand().getPage().getNavigationHistory().getEntries()) {
+            String origin = getOrigin(next.getUrl());
+            if (origin != null) {
+                origins.add(origin);
+            }
+        }
+        session.navigate("about:blank");
+        Storage storage = session.getCommand().getStorage();
+        for (String origin : origins) {
+            storage.clearDataForOrigin(origin, ALL_STORAGE_TYPES);
+        }
+    }
+
+    static String getOrigin(final String url) {
+        if (url == null) {
+            return null;
+        }
+        try {
+            URI uri = URI.create(url);
+            String scheme = uri.getScheme();
+            if ( ! "http".equals(scheme) && ! "https".equals(scheme) ) {
+                return null;
+            }
+            return uri.getPort() == -1 ?
+                        scheme + "://" + uri.getHost() :
+                        scheme + "://" + uri.getHost() + ":" + uri.getPort();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private boolean reserve() {
+        while (true) {
+            int current = size.get();
+            if (current >= maxSize) {
+                return false;
+            }
+            if (size.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Creates a session for a reserved slot.
+     */
+    private Entry create() {
+        try {
+            Session session = factory.create(browserContextId);
+            session.markListeners();
+            createdCount.incrementAndGet();
+            return new Entry(session);
+        } catch (RuntimeException e) {
+            size.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private void destroy(final Entry entry) {
+        try {
+            entry.session.close();
+        } catch (RuntimeException e) {
+            // ignore
+        } finally {
+            size.decrementAndGet();
+            closedCount.incrementAndGet();
+        }
+        if ( ! closed ) {
+            scheduler.execute(this::fill);
+        }
+    }
+
+    /**
+     * Creates idle sessions until the pool has <code>minSize</code> tabs.
+     */
+    private void fill() {
+        while ( ! closed && size.get() < minSize && reserve() ) {
+            idle.offerLast(create());
+        }
+    }
+
+    private void evict() {
+        long idleTimeout = this.idleTimeout;
+        if (idleTimeout <= 0 || closed) {
+            return;
+        }
+        long now = nanoTime();
+        // the least recently used tabs are at the end
+        Iterator<Entry> iterator = idle.descendingIterator();
+        while (iterator.hasNext() && size.get() > minSize) {
+            Entry next = iterator.next();
+            if (now - next.idleSince < MILLISECONDS.toNanos(idleTimeout)) {
+                break;
+            }
+            if (idle.remove(next)) {
+                destroy(next);
+            }
+        }
+    }
+
+    private void recordWait(final long nanos) {
+        leaseCount.incrementAndGet();
+        totalWaitTime.addAndGet(nanos);
+        long max;
+        while ((max = maxWaitTime.get()) < nanos && ! maxWaitTime.compareAndSet(max, nanos)) {
+            // retry
+        }
+    }
+
+    /**
+     * Closes the idle tabs, the leased tabs are closed when they are released.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        scheduler.shutdownNow();
+        Entry next;
+        while ((next = idle.pollFirst()) != null) {
+            destroy(next);
+        }
+    }
+
+    /**
+     * Closes a tab after it is leased <code>maxUses</code> times, <code>0</code> (default) means unlimited.
+     */
+    public void setMaxUses(int maxUses) {
+        this.maxUses = maxUses;
+    }
+
+    public int getMaxUses() {
+        return maxUses;
+    }
+
+    /**
+     * Closes the tabs above the minimum size which are idle longer than <code>idleTimeout</code> milliseconds,
+     * <code>0</code> (default) keeps them open.
+     */
+    public void setIdleTimeout(long idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    public long getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * Maximum wait time of {@link #lease()} in milliseconds, default value is 30 seconds.
+     */
+    public void setLeaseTimeout(long leaseTimeout) {
+        this.leaseTimeout = leaseTimeout;
+    }
+
+    public long getLeaseTimeout() {
+        return leaseTimeout;
+    }
+
+    public int getMinSize() {
+        return minSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public String getBrowserContextId() {
+        return browserContextId;
+    }
+
+    /**
+     * Returns the number of the open tabs, idle and leased.
+     */
+    public int getSize() {
+        return size.get();
+    }
+
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    public int getLeasedCount() {
+        return leased.size();
+    }
+
+    public long getLeaseCount() {
+        return leaseCount.get();
+    }
+
+    /**
+     * Returns the number of the tabs which are created by the pool.
+     */
+    public long getCreatedCount() {
+        return createdCount.get();
+    }
+
+    /**
+     * Returns the number of the tabs which are closed by the pool.
+     */
+    public long getClosedCount() {
+        return closedCount.get();
+    }
+
+    /**
+     * Returns the average time spent in {@link #lease()} in milliseconds, including tab creation.
+     */
+    public double getAverageWaitTime() {
+        long count = leaseCount.get();
+        return count == 0 ? 0 : (double) totalWaitTime.get() / count / MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Returns the longest time spent in {@link #lease()} in milliseconds.
+     */
+    public double getMaxWaitTime() {
+        return (double) maxWaitTime.get() / MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public String toString() {
+        return "SessionPool [size=" + size.get() + ", idle=" + idle.size() + ", leased=" + leased.size() + "]";
+    }
+}
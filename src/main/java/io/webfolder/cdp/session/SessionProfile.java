@@ -0,0 +1,118 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+/**
+ * Selects the domains which are enabled when a session is attached to its target.
+ * 
+ * The enable commands are sent together in a single write. Each enabled domain emits events
+ * whether or not they are used, a session which only extracts content doesn't need them:
+ * 
+ * <pre>
+ * factory.setSessionProfile(SessionProfile.none());
+ * </pre>
+ * 
+ * Page lifecycle events are enabled on first use by {@link Session#waitDocumentReady()}
+ * and {@link Session#navigateAndWait(String, WaitUntil)} if they are not enabled at attach.
+ */
+public final class SessionProfile {
+
+    private static final SessionProfile FULL = new SessionProfile(true, true, true, true);
+
+    private static final SessionProfile NONE = new SessionProfile(false, false, false, false);
+
+    private final boolean runtime;
+
+    private final boolean inspector;
+
+    private final boolean page;
+
+    private final boolean lifecycleEvents;
+
+    private SessionProfile(
+                final boolean runtime,
+                final boolean inspector,
+                final boolean page,
+                final boolean lifecycleEvents) {
+        this.runtime         = runtime;
+        this.inspector       = inspector;
+        this.page            = page || lifecycleEvents;
+        this.lifecycleEvents = lifecycleEvents;
+    }
+
+    /**
+     * Enables Runtime, Inspector, Page and Page lifecycle events (default).
+     */
+    public static SessionProfile full() {
+        return FULL;
+    }
+
+    /**
+     * Enables no domain.
+     */
+    public static SessionProfile none() {
+        return NONE;
+    }
+
+    /**
+     * Enables the Runtime domain, the execution context of the main frame is tracked by its events.
+     */
+    public SessionProfile withRuntime() {
+        return new SessionProfile(true, inspector, page, lifecycleEvents);
+    }
+
+    /**
+     * Enables the Inspector domain, the session is terminated when the target crashes or is detached.
+     */
+    public SessionProfile withInspector() {
+        return new SessionProfile(runtime, true, page, lifecycleEvents);
+    }
+
+    public SessionProfile withPage() {
+        return new SessionProfile(runtime, inspector, true, lifecycleEvents);
+    }
+
+    /**
+     * Enables the Page domain and its lifecycle events.
+     */
+    public SessionProfile withLifecycleEvents() {
+        return new SessionProfile(runtime, inspector, true, true);
+    }
+
+    public boolean isRuntime() {
+        return runtime;
+    }
+
+    public boolean isInspector() {
+        return inspector;
+    }
+
+    public boolean isPage() {
+        return page;
+    }
+
+    public boolean isLifecycleEvents() {
+        return lifecycleEvents;
+    }
+
+    @Override
+    public String toString() {
+        return "SessionProfile [runtime=" + runtime + ", inspector=" + inspector +
+                    ", page=" + page + ", lifecycleEvents=" + lifecycleEvents + "]";
+    }
+}
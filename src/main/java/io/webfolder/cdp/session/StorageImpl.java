@@ -0,0 +1,94 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.lang.reflect.Type;
+
+import io.webfolder.cdp.command.Storage;
+import io.webfolder.cdp.type.storage.GetUsageAndQuotaResult;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class StorageImpl implements Storage {
+    static final CommandSerializer CLEAR_DATA_FOR_ORIGIN = new CommandSerializer("Storage", "clearDataForOrigin",
+            new String[] { "origin", "storageTypes" },
+            new Type[] { String.class, String.class },
+            null, null);
+
+    static final CommandSerializer GET_USAGE_AND_QUOTA = new CommandSerializer("Storage", "getUsageAndQuota",
+            new String[] { "origin" },
+            new Type[] { String.class },
+            GetUsageAndQuotaResult.class, null);
+
+    static final CommandSerializer TRACK_CACHE_STORAGE_FOR_ORIGIN = new CommandSerializer("Storage", "trackCacheStorageForOrigin",
+            new String[] { "origin" },
+            new Type[] { String.class },
+            null, null);
+
+    static final CommandSerializer TRACK_INDEXED_DBFOR_ORIGIN = new CommandSerializer("Storage", "trackIndexedDBForOrigin",
+            new String[] { "origin" },
+            new Type[] { String.class },
+            null, null);
+
+    static final CommandSerializer UNTRACK_CACHE_STORAGE_FOR_ORIGIN = new CommandSerializer("Storage", "untrackCacheStorageForOrigin",
+            new String[] { "origin" },
+            new Type[] { String.class },
+            null, null);
+
+    static final CommandSerializer UNTRACK_INDEXED_DBFOR_ORIGIN = new CommandSerializer("Storage", "untrackIndexedDBForOrigin",
+            new String[] { "origin" },
+            new Type[] { String.class },
+            null, null);
+
+    private final SessionInvocationHandler handler;
+
+    StorageImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public void clearDataForOrigin(final String origin, final String storageTypes) {
+        handler.invoke(CLEAR_DATA_FOR_ORIGIN, new Object[] { origin, storageTypes });
+    }
+
+    @Override
+    public GetUsageAndQuotaResult getUsageAndQuota(final String origin) {
+        return (GetUsageAndQuotaResult) handler.invoke(GET_USAGE_AND_QUOTA, new Object[] { origin });
+    }
+
+    @Override
+    public void trackCacheStorageForOrigin(final String origin) {
+        handler.invoke(TRACK_CACHE_STORAGE_FOR_ORIGIN, new Object[] { origin });
+    }
+
+    @Override
+    public void trackIndexedDBForOrigin(final String origin) {
+        handler.invoke(TRACK_INDEXED_DBFOR_ORIGIN, new Object[] { origin });
+    }
+
+    @Override
+    public void untrackCacheStorageForOrigin(final String origin) {
+        handler.invoke(UNTRACK_CACHE_STORAGE_FOR_ORIGIN, new Object[] { origin });
+    }
+
+    @Override
+    public void untrackIndexedDBForOrigin(final String origin) {
+        handler.invoke(UNTRACK_INDEXED_DBFOR_ORIGIN, new Object[] { origin });
+    }
+}
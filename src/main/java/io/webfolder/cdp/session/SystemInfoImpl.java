@@ -0,0 +1,44 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.lang.reflect.Type;
+
+import io.webfolder.cdp.command.SystemInfo;
+import io.webfolder.cdp.type.systeminfo.GetInfoResult;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class SystemInfoImpl implements SystemInfo {
+    static final CommandSerializer GET_INFO = new CommandSerializer("SystemInfo", "getInfo",
+            new String[0],
+            new Type[0],
+            GetInfoResult.class, null);
+
+    private final SessionInvocationHandler handler;
+
+    SystemInfoImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public GetInfoResult getInfo() {
+        return (GetInfoResult) handler.invoke(GET_INFO, null);
+    }
+}
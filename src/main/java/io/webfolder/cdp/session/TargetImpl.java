@@ -0,0 +1,252 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+import com.google.gson.reflect.TypeToken;
+
+import io.webfolder.cdp.command.Target;
+import io.webfolder.cdp.type.target.RemoteLocation;
+import io.webfolder.cdp.type.target.TargetInfo;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class TargetImpl implements Target {
+    static final CommandSerializer ACTIVATE_TARGET = new CommandSerializer("Target", "activateTarget",
+            new String[] { "targetId" },
+            new Type[] { String.class },
+            null, null);
+
+    static final CommandSerializer ATTACH_TO_TARGET = new CommandSerializer("Target", "attachToTarget",
+            new String[] { "targetId" },
+            new Type[] { String.class },
+            String.class, "sessionId");
+
+    static final CommandSerializer ATTACH_TO_TARGET_1 = new CommandSerializer("Target", "attachToTarget",
+            new String[] { "targetId", "flatten" },
+            new Type[] { String.class, Boolean.class },
+            String.class, "sessionId");
+
+    static final CommandSerializer CLOSE_TARGET = new CommandSerializer("Target", "closeTarget",
+            new String[] { "targetId" },
+            new Type[] { String.class },
+            Boolean.class, "success");
+
+    static final CommandSerializer CREATE_BROWSER_CONTEXT = new CommandSerializer("Target", "createBrowserContext",
+            new String[0],
+            new Type[0],
+            String.class, "browserContextId");
+
+    static final CommandSerializer CREATE_TARGET = new CommandSerializer("Target", "createTarget",
+            new String[] { "url" },
+            new Type[] { String.class },
+            String.class, "targetId");
+
+    static final CommandSerializer CREATE_TARGET_1 = new CommandSerializer("Target", "createTarget",
+            new String[] { "url", "width", "height", "browserContextId", "enableBeginFrameControl" },
+            new Type[] { String.class, Integer.class, Integer.class, String.class, Boolean.class },
+            String.class, "targetId");
+
+    static final CommandSerializer DETACH_FROM_TARGET = new CommandSerializer("Target", "detachFromTarget",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer DETACH_FROM_TARGET_1 = new CommandSerializer("Target", "detachFromTarget",
+            new String[] { "sessionId", "targetId" },
+            new Type[] { String.class, String.class },
+            null, null);
+
+    static final CommandSerializer DISPOSE_BROWSER_CONTEXT = new CommandSerializer("Target", "disposeBrowserContext",
+            new String[] { "browserContextId" },
+            new Type[] { String.class },
+            null, null);
+
+    static final CommandSerializer EXPOSE_DEV_TOOLS_PROTOCOL = new CommandSerializer("Target", "exposeDevToolsProtocol",
+            new String[] { "targetId" },
+            new Type[] { String.class },
+            null, null);
+
+    static final CommandSerializer EXPOSE_DEV_TOOLS_PROTOCOL_1 = new CommandSerializer("Target", "exposeDevToolsProtocol",
+            new String[] { "targetId", "bindingName" },
+            new Type[] { String.class, String.class },
+            null, null);
+
+    static final CommandSerializer GET_BROWSER_CONTEXTS = new CommandSerializer("Target", "getBrowserContexts",
+            new String[0],
+            new Type[0],
+            new TypeToken<List<String>>() { }.getType(), "browserContextIds");
+
+    static final CommandSerializer GET_TARGET_INFO = new CommandSerializer("Target", "getTargetInfo",
+            new String[0],
+            new Type[0],
+            TargetInfo.class, "targetInfo");
+
+    static final CommandSerializer GET_TARGET_INFO_1 = new CommandSerializer("Target", "getTargetInfo",
+            new String[] { "targetId" },
+            new Type[] { String.class },
+            TargetInfo.class, "targetInfo");
+
+    static final CommandSerializer GET_TARGETS = new CommandSerializer("Target", "getTargets",
+            new String[0],
+            new Type[0],
+            new TypeToken<List<TargetInfo>>() { }.getType(), "targetInfos");
+
+    static final CommandSerializer SEND_MESSAGE_TO_TARGET = new CommandSerializer("Target", "sendMessageToTarget",
+            new String[] { "message" },
+            new Type[] { String.class },
+            null, null);
+
+    static final CommandSerializer SEND_MESSAGE_TO_TARGET_1 = new CommandSerializer("Target", "sendMessageToTarget",
+            new String[] { "message", "sessionId", "targetId" },
+            new Type[] { String.class, String.class, String.class },
+            null, null);
+
+    static final CommandSerializer SET_AUTO_ATTACH = new CommandSerializer("Target", "setAutoAttach",
+            new String[] { "autoAttach", "waitForDebuggerOnStart" },
+            new Type[] { Boolean.class, Boolean.class },
+            null, null);
+
+    static final CommandSerializer SET_DISCOVER_TARGETS = new CommandSerializer("Target", "setDiscoverTargets",
+            new String[] { "discover" },
+            new Type[] { Boolean.class },
+            null, null);
+
+    static final CommandSerializer SET_REMOTE_LOCATIONS = new CommandSerializer("Target", "setRemoteLocations",
+            new String[] { "locations" },
+            new Type[] { new TypeToken<List<RemoteLocation>>() { }.getType() },
+            null, null);
+
+    private final SessionInvocationHandler handler;
+
+    TargetImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public void activateTarget(final String targetId) {
+        handler.invoke(ACTIVATE_TARGET, new Object[] { targetId });
+    }
+
+    @Override
+    public String attachToTarget(final String targetId) {
+        return (String) handler.invoke(ATTACH_TO_TARGET, new Object[] { targetId });
+    }
+
+    @Override
+    public String attachToTarget(final String targetId, final Boolean flatten) {
+        return (String) handler.invoke(ATTACH_TO_TARGET_1, new Object[] { targetId, flatten });
+    }
+
+    @Override
+    public Boolean closeTarget(final String targetId) {
+        return (Boolean) handler.invoke(CLOSE_TARGET, new Object[] { targetId });
+    }
+
+    @Override
+    public String createBrowserContext() {
+        return (String) handler.invoke(CREATE_BROWSER_CONTEXT, null);
+    }
+
+    @Override
+    public String createTarget(final String url) {
+        return (String) handler.invoke(CREATE_TARGET, new Object[] { url });
+    }
+
+    @Override
+    public String createTarget(final String url, final Integer width, final Integer height,
+            final String browserContextId, final Boolean enableBeginFrameControl) {
+        return (String) handler.invoke(CREATE_TARGET_1, new Object[] { url, width, height, browserContextId, enableBeginFrameControl });
+    }
+
+    @Override
+    public void detachFromTarget() {
+        handler.invoke(DETACH_FROM_TARGET, null);
+    }
+
+    @Override
+    public void detachFromTarget(final String sessionId, final String targetId) {
+        handler.invoke(DETACH_FROM_TARGET_1, new Object[] { sessionId, targetId });
+    }
+
+    @Override
+    public void disposeBrowserContext(final String browserContextId) {
+        handler.invoke(DISPOSE_BROWSER_CONTEXT, new Object[] { browserContextId });
+    }
+
+    @Override
+    public void exposeDevToolsProtocol(final String targetId) {
+        handler.invoke(EXPOSE_DEV_TOOLS_PROTOCOL, new Object[] { targetId });
+    }
+
+    @Override
+    public void exposeDevToolsProtocol(final String targetId, final String bindingName) {
+        handler.invoke(EXPOSE_DEV_TOOLS_PROTOCOL_1, new Object[] { targetId, bindingName });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> getBrowserContexts() {
+        return (List<String>) handler.invoke(GET_BROWSER_CONTEXTS, null);
+    }
+
+    @Override
+    public TargetInfo getTargetInfo() {
+        return (TargetInfo) handler.invoke(GET_TARGET_INFO, null);
+    }
+
+    @Override
+    public TargetInfo getTargetInfo(final String targetId) {
+        return (TargetInfo) handler.invoke(GET_TARGET_INFO_1, new Object[] { targetId });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TargetInfo> getTargets() {
+        return (List<TargetInfo>) handler.invoke(GET_TARGETS, null);
+    }
+
+    @Override
+    public void sendMessageToTarget(final String message) {
+        handler.invoke(SEND_MESSAGE_TO_TARGET, new Object[] { message });
+    }
+
+    @Override
+    public void sendMessageToTarget(final String message, final String sessionId,
+            final String targetId) {
+        handler.invoke(SEND_MESSAGE_TO_TARGET_1, new Object[] { message, sessionId, targetId });
+    }
+
+    @Override
+    public void setAutoAttach(final Boolean autoAttach, final Boolean waitForDebuggerOnStart) {
+        handler.invoke(SET_AUTO_ATTACH, new Object[] { autoAttach, waitForDebuggerOnStart });
+    }
+
+    @Override
+    public void setDiscoverTargets(final Boolean discover) {
+        handler.invoke(SET_DISCOVER_TARGETS, new Object[] { discover });
+    }
+
+    @Override
+    public void setRemoteLocations(final List<RemoteLocation> locations) {
+        handler.invoke(SET_REMOTE_LOCATIONS, new Object[] { locations });
+    }
+}
@@ -19,10 +19,10 @@ package io.webfolder.cdp.session;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import io.webfolder.cdp.event.Events;
 import io.webfolder.cdp.event.target.DetachedFromTarget;
-import io.webfolder.cdp.event.target.ReceivedMessageFromTarget;
 import io.webfolder.cdp.event.target.TargetCreated;
 import io.webfolder.cdp.event.target.TargetDestroyed;
 import io.webfolder.cdp.exception.CdpException;
@@ -37,44 +37,44 @@ class TargetListener implements EventListener {
 
     private List<TabInfo> tabs;
 
+    private Map<String, CompletableFuture<TabInfo>> pendingTargets;
+
     TargetListener(
         Map<String, Session> sessions,
         Map<String, WSAdapter> wsAdapters,
-        List<TabInfo> tabs) {
+        List<TabInfo> tabs,
+        Map<String, CompletableFuture<TabInfo>> pendingTargets) {
         this.sessions = sessions;
         this.wsAdapters = wsAdapters;
         this.tabs = tabs;
+        this.pendingTargets = pendingTargets;
+    }
+
+    static boolean isBlankPage(TargetInfo info) {
+        String url = info.getUrl();
+        String type = info.getType();
+        return "page".equals(type) &&
+                    (url.isEmpty()                      ||
+                        "about:blank".equals(url)       ||
+                        "chrome://welcome/".equals(url) ||
+                        "chrome://newtab/".equals(url)  ||
+                        url.startsWith("chrome://welcome-win10"));
     }
 
     @Override
     public void onEvent(Events event, Object value) {
         switch (event) {
-            case TargetReceivedMessageFromTarget:
-                ReceivedMessageFromTarget receivedMessage = (ReceivedMessageFromTarget) value;
-                Session session = sessions.get(receivedMessage.getSessionId());
-                if ( session != null ) {
-                    WSAdapter wsAdapter = wsAdapters.get(session.getId());
-                    if ( wsAdapter != null ) {
-                        try {
-                            wsAdapter.onMessage(receivedMessage.getMessage(), false);
-                        } catch (Exception e) {
-                            throw new CdpException(e);
-                        }
-                    }
-                }
-            break;
             case TargetTargetCreated:
                 TargetCreated targetCreated = (TargetCreated) value;
                 TargetInfo info = targetCreated.getTargetInfo();
-                String url = info.getUrl();
-                String type = info.getType();
-                if ("page".equals(type) &&
-                        (url.isEmpty()                      ||
-                            "about:blank".equals(url)       ||
-                            "chrome://welcome/".equals(url) ||
-                            "chrome://newtab/".equals(url)  ||
-                            url.startsWith("chrome://welcome-win10"))) {
-                    tabs.add(new TabInfo(info.getTargetId(), info.getBrowserContextId()));
+                TabInfo tab = new TabInfo(info.getTargetId(), info.getBrowserContextId());
+                synchronized (tabs) {
+                    CompletableFuture<TabInfo> pending = pendingTargets.remove(info.getTargetId());
+                    if (pending != null) {
+                        pending.complete(tab);
+                    } else if (isBlankPage(info)) {
+                        tabs.add(tab);
+                    }
                 }
             break;
             case TargetTargetDestroyed:
@@ -88,9 +88,11 @@ class TargetListener implements EventListener {
                         }
                     }
                 }
-                for (TabInfo next : tabs) {
-                    if (destroyed.getTargetId().equals(next.getTargetId())) {
-                        tabs.remove(next);
+                synchronized (tabs) {
+                    tabs.removeIf(next -> destroyed.getTargetId().equals(next.getTargetId()));
+                    CompletableFuture<TabInfo> pending = pendingTargets.remove(destroyed.getTargetId());
+                    if (pending != null) {
+                        pending.completeExceptionally(new CdpException("Target destroyed: " + destroyed.getTargetId()));
                     }
                 }
             break;
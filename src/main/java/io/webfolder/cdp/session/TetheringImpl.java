@@ -0,0 +1,53 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.lang.reflect.Type;
+
+import io.webfolder.cdp.command.Tethering;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class TetheringImpl implements Tethering {
+    static final CommandSerializer BIND = new CommandSerializer("Tethering", "bind",
+            new String[] { "port" },
+            new Type[] { Integer.class },
+            null, null);
+
+    static final CommandSerializer UNBIND = new CommandSerializer("Tethering", "unbind",
+            new String[] { "port" },
+            new Type[] { Integer.class },
+            null, null);
+
+    private final SessionInvocationHandler handler;
+
+    TetheringImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public void bind(final Integer port) {
+        handler.invoke(BIND, new Object[] { port });
+    }
+
+    @Override
+    public void unbind(final Integer port) {
+        handler.invoke(UNBIND, new Object[] { port });
+    }
+}
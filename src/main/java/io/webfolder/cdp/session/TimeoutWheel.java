@@ -0,0 +1,156 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+import io.webfolder.cdp.exception.CommandTimeoutException;
+
+/**
+ * Hashed timer wheel which fails the commands whose response is not received before their deadline.
+ * 
+ * Deadlines are hashed into buckets by the tick in which they expire.
+ * Scheduling is a lock-free enqueue, the buckets are owned by a single daemon thread
+ * which is started on demand and advances one bucket per tick.
+ */
+class TimeoutWheel implements Runnable {
+
+    private static final long TICK = MILLISECONDS.toNanos(100);
+
+    private static final int WHEEL_SIZE = 512;
+
+    private final PendingCommands commands;
+
+    private final Queue<Timeout> scheduled = new ConcurrentLinkedQueue<>();
+
+    private final Timeout[] buckets = new Timeout[WHEEL_SIZE];
+
+    private long start;
+
+    private long tick;
+
+    private volatile Thread thread;
+
+    private volatile boolean stopped;
+
+    private static class Timeout {
+
+        private final int id;
+
+        private final WSContext context;
+
+        private final long deadline;
+
+        private Timeout next;
+
+        Timeout(final int id, final WSContext context, final long deadline) {
+            this.id       = id;
+            this.context  = context;
+            this.deadline = deadline;
+        }
+    }
+
+    TimeoutWheel(final PendingCommands commands) {
+        this.commands = commands;
+    }
+
+    void schedule(final int id, final WSContext context, final int timeout) {
+        if (stopped) {
+            return;
+        }
+        scheduled.add(new Timeout(id, context, System.nanoTime() + MILLISECONDS.toNanos(timeout)));
+        if (thread == null) {
+            startThread();
+        }
+    }
+
+    private synchronized void startThread() {
+        if (thread == null && ! stopped) {
+            start  = System.nanoTime();
+            thread = new Thread(this, "cdp4j-timeout");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    synchronized void stop() {
+        stopped = true;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    @Override
+    public void run() {
+        while ( ! stopped ) {
+            long wakeup = start + (tick + 1) * TICK;
+            long now;
+            while ((now = System.nanoTime()) < wakeup && ! stopped) {
+                LockSupport.parkNanos(this, wakeup - now);
+            }
+            tick += 1;
+            transfer();
+            expire(now);
+        }
+        scheduled.clear();
+    }
+
+    private void transfer() {
+        Timeout timeout;
+        while ((timeout = scheduled.poll()) != null) {
+            // the first tick which starts at or after the deadline
+            long expiresAt = (timeout.deadline - start + TICK - 1) / TICK;
+            int index = (int) (Math.max(expiresAt, tick) & (WHEEL_SIZE - 1));
+            timeout.next = buckets[index];
+            buckets[index] = timeout;
+        }
+    }
+
+    private void expire(final long now) {
+        int index = (int) (tick & (WHEEL_SIZE - 1));
+        Timeout previous = null;
+        Timeout timeout = buckets[index];
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            // deadlines which are more than one revolution ahead stay in the bucket
+            if (timeout.deadline - now <= 0) {
+                if (previous == null) {
+                    buckets[index] = next;
+                } else {
+                    previous.next = next;
+                }
+                onTimeout(timeout);
+            } else {
+                previous = timeout;
+            }
+            timeout = next;
+        }
+    }
+
+    private void onTimeout(final Timeout timeout) {
+        // the response might be received already
+        if (commands.remove(timeout.id, timeout.context)) {
+            timeout.context.setError(new CommandTimeoutException(timeout.id,
+                                        "Command timed out, id: " + timeout.id));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+import com.google.gson.reflect.TypeToken;
+
+import io.webfolder.cdp.command.Tracing;
+import io.webfolder.cdp.type.constant.TransferMode;
+import io.webfolder.cdp.type.tracing.RequestMemoryDumpResult;
+import io.webfolder.cdp.type.tracing.StreamCompression;
+import io.webfolder.cdp.type.tracing.TraceConfig;
+
+/**
+ * Generated by CommandImplGenerator, do not edit.
+ */
+final class TracingImpl implements Tracing {
+    static final CommandSerializer END = new CommandSerializer("Tracing", "end",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer GET_CATEGORIES = new CommandSerializer("Tracing", "getCategories",
+            new String[0],
+            new Type[0],
+            new TypeToken<List<String>>() { }.getType(), "categories");
+
+    static final CommandSerializer RECORD_CLOCK_SYNC_MARKER = new CommandSerializer("Tracing", "recordClockSyncMarker",
+            new String[] { "syncId" },
+            new Type[] { String.class },
+            null, null);
+
+    static final CommandSerializer REQUEST_MEMORY_DUMP = new CommandSerializer("Tracing", "requestMemoryDump",
+            new String[0],
+            new Type[0],
+            RequestMemoryDumpResult.class, null);
+
+    static final CommandSerializer START = new CommandSerializer("Tracing", "start",
+            new String[0],
+            new Type[0],
+            null, null);
+
+    static final CommandSerializer START_1 = new CommandSerializer("Tracing", "start",
+            new String[] { "categories", "options", "bufferUsageReportingInterval", "transferMode", "streamCompression", "traceConfig" },
+            new Type[] { String.class, String.class, Double.class, TransferMode.class, StreamCompression.class, TraceConfig.class },
+            null, null);
+
+    private final SessionInvocationHandler handler;
+
+    TracingImpl(final SessionInvocationHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public void end() {
+        handler.invoke(END, null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> getCategories() {
+        return (List<String>) handler.invoke(GET_CATEGORIES, null);
+    }
+
+    @Override
+    public void recordClockSyncMarker(final String syncId) {
+        handler.invoke(RECORD_CLOCK_SYNC_MARKER, new Object[] { syncId });
+    }
+
+    @Override
+    public RequestMemoryDumpResult requestMemoryDump() {
+        return (RequestMemoryDumpResult) handler.invoke(REQUEST_MEMORY_DUMP, null);
+    }
+
+    @Override
+    public void start() {
+        handler.invoke(START, null);
+    }
+
+    @Override
+    public void start(final String categories, final String options,
+            final Double bufferUsageReportingInterval, final TransferMode transferMode,
+            final StreamCompression streamCompression, final TraceConfig traceConfig) {
+        handler.invoke(START_1, new Object[] { categories, options, bufferUsageReportingInterval, transferMode, streamCompression, traceConfig });
+    }
+}
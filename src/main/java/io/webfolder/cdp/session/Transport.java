@@ -0,0 +1,64 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import java.util.List;
+
+/**
+ * Carries the protocol messages between cdp4j and the browser.
+ * 
+ * The default transport is the WebSocket connection of <code>/json/version</code>,
+ * a different transport can be set with {@link SessionFactory#setTransport(Transport)}.
+ */
+public interface Transport {
+
+    /**
+     * Receives the messages of a transport.
+     */
+    interface MessageHandler {
+
+        /**
+         * Called by the reading thread of the transport, one message at a time.
+         * 
+         * @param data buffer which contains the UTF-8 encoded message, it is reused after this method returns
+         * @param offset start of the message
+         * @param length length of the message
+         */
+        void onMessage(byte[] data, int offset, int length);
+    }
+
+    /**
+     * Opens the transport and starts delivering the incoming messages to <code>handler</code>.
+     */
+    void connect(MessageHandler handler);
+
+    void send(String message);
+
+    /**
+     * Sends the messages together, a transport may write them with a single flush.
+     */
+    default void send(List<String> messages) {
+        for (String message : messages) {
+            send(message);
+        }
+    }
+
+    boolean isOpen();
+
+    void close();
+}
@@ -17,34 +17,42 @@
  */
 package io.webfolder.cdp.session;
 
-import static java.lang.Integer.parseInt;
+import static io.webfolder.cdp.event.Events.InspectorDetached;
+import static io.webfolder.cdp.event.Events.TargetReceivedMessageFromTarget;
 import static java.util.Collections.unmodifiableMap;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.StringReader;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Executor;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.neovisionaries.ws.client.WebSocket;
-import com.neovisionaries.ws.client.WebSocketAdapter;
+import com.google.gson.stream.JsonReader;
 
 import io.webfolder.cdp.event.Events;
+import io.webfolder.cdp.event.inspector.Detached;
+import io.webfolder.cdp.event.target.ReceivedMessageFromTarget;
+import io.webfolder.cdp.exception.CdpException;
 import io.webfolder.cdp.exception.CommandException;
-import io.webfolder.cdp.listener.EventListener;
 import io.webfolder.cdp.logger.CdpLogger;
 
-class WSAdapter extends WebSocketAdapter {
+class WSAdapter implements Transport.MessageHandler {
 
-    private final Map<String, Events> events = listEvents();
+    private static final Map<String, Events> EVENTS = listEvents();
 
     private final Gson gson;
 
-    private final Map<Integer, WSContext> contexts;
+    private final PendingCommands contexts;
+
+    private final EventListeners listeners;
 
-    private final List<EventListener> listeners;
+    private final EventLoop eventLoop;
 
     private final Executor executor;
 
@@ -52,109 +60,313 @@ class WSAdapter extends WebSocketAdapter {
 
     private Session session;
 
+    private Map<String, WSAdapter> sessionAdapters;
+
     private static class TerminateSession implements Runnable {
 
         private final Session session;
 
-        private final JsonObject object;
+        private final String reason;
 
-        public TerminateSession(final Session session, final JsonObject object) {
+        public TerminateSession(final Session session, final String reason) {
             this.session = session;
-            this.object = object;
+            this.reason = reason;
         }
 
         @Override
         public void run() {
             if ( session != null && session.isConnected() ) {
                 session.close();
-                session.terminate(
-                        object.get("params")
-                        .getAsJsonObject()
-                        .get("reason").getAsString());
+                session.terminate(reason);
             }
         }
     }
 
+    // Converted to a String only if the message is logged
+    private static class Utf8Message {
+
+        private final byte[] data;
+
+        private final int offset;
+
+        private final int length;
+
+        public Utf8Message(final byte[] data, final int offset, final int length) {
+            this.data   = data;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public String toString() {
+            return new String(data, offset, length, UTF_8);
+        }
+    }
+
     WSAdapter(
             final Gson gson,
-            final Map<Integer, WSContext> contexts,
-            final List<EventListener> listeners,
+            final PendingCommands contexts,
+            final EventListeners listeners,
             final Executor executor,
             final CdpLogger log) {
         this.gson      = gson;
         this.contexts  = contexts;
         this.listeners = listeners;
+        this.eventLoop = new EventLoop(listeners, executor, gson, log);
         this.executor  = executor;
         this.log       = log; 
     }
 
+    /**
+     * Decodes the message on the reading thread directly from the pooled buffer of the transport.
+     * 
+     * The buffer is reused for the next message, therefore the message is decoded
+     * before this method returns. Event listeners are still invoked by the executor.
+     */
     @Override
-    public void onTextMessage(
-                            final WebSocket websocket,
-                            final String data) throws Exception {
-        onMessage(data, true);
+    public void onMessage(
+                    final byte[] data,
+                    final int offset,
+                    final int length) {
+        log.debug("{}", new Utf8Message(data, offset, length));
+        try (JsonReader reader = new JsonReader(new InputStreamReader(new ByteArrayInputStream(data, offset, length), UTF_8))) {
+            reader.setLenient(true);
+            decode(reader, data, offset, length);
+        } catch (IOException | RuntimeException e) {
+            log.error(e.getMessage(), e);
+        }
     }
 
     void onMessage(final String data, boolean async) throws Exception {
         Runnable runnable = () -> {
             log.debug(data);
-            JsonElement  json = gson.fromJson(data, JsonElement.class);
-            JsonObject object = json.getAsJsonObject();
-            JsonElement idElement = object.get("id");
-            if ( idElement != null ) {
-                String id = idElement.getAsString();
-                if ( id != null ) {
-                    int valId = parseInt(id);
-                    WSContext context = contexts.remove(valId);
-                    if ( context != null ) {
-                        JsonObject error = object.getAsJsonObject("error");
-                        if ( error != null ) {
-                            int code = (int) error.getAsJsonPrimitive("code").getAsDouble();
-                            String message = error.getAsJsonPrimitive("message").getAsString();
-                            JsonElement messageData = error.get("data");
-                            context.setError(new CommandException(code, message +
-                                                        (messageData != null && messageData.isJsonPrimitive() ? ". " +
-                                                        messageData.getAsString() : "")));
+            try (JsonReader reader = new JsonReader(new StringReader(data))) {
+                reader.setLenient(true);
+                decode(reader, data, 0, data.length());
+            } catch (IOException | RuntimeException e) {
+                log.error(e.getMessage(), e);
+            }
+        };
+        if (async) {
+            executor.execute(runnable);
+        } else {
+            runnable.run();
+        }
+    }
+
+    /**
+     * Decodes a protocol message in a single pass.
+     * 
+     * The <code>result</code> of a response is bound directly to the return type of the pending command
+     * and the <code>params</code> of an event is bound directly to the event class.
+     * A <code>JsonElement</code> tree is built only if <code>result</code> or <code>params</code>
+     * precedes the member (<code>id</code> or <code>method</code>) which is required to bind it.
+     * 
+     * @param message the message which is read by <code>reader</code>, a pooled <code>byte[]</code> buffer or a <code>String</code>,
+     * it is retained only if the event has a {@link io.webfolder.cdp.listener.RawEventListener}
+     * @param offset start of the message in <code>message</code>
+     * @param length length of the message
+     */
+    void decode(final JsonReader reader, final Object message, final int offset, final int length) throws IOException {
+        boolean     hasId     = false;
+        WSContext   context   = null;
+        Events      event     = null;
+        String      method    = null;
+        String      sessionId = null;
+        Object      value     = null;
+        JsonElement pending   = null;
+        boolean     skipped   = false;
+        CommandException error = null;
+
+        try {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "id":
+                        hasId   = true;
+                        context = contexts.remove(reader.nextInt());
+                    break;
+                    case "result":
+                        if ( ! hasId ) {
+                            pending = gson.getAdapter(JsonElement.class).read(reader);
+                        } else if ( context != null ) {
+                            value = context.read(gson, reader);
                         } else {
-                            context.setData(json);
+                            reader.skipValue();
                         }
-                    }
-                }
-            } else {
-                JsonElement method = object.get("method");
-                if ( method != null && method.isJsonPrimitive() ) {
-                    String eventName = method.getAsString();
-                    if ( "Inspector.detached".equals(eventName) && session != null ) {
-                        if ( session != null && session.isConnected() ) {
-                            Thread thread = new Thread(new TerminateSession(session, object));
-                            thread.setName("cdp4j-terminate");
-                            thread.setDaemon(true);
-                            thread.start();
-                            session = null;
+                    break;
+                    case "error":
+                        error = readError(reader);
+                    break;
+                    case "method":
+                        method = reader.nextString();
+                        event  = EVENTS.get(method);
+                    break;
+                    case "params":
+                        if ( method == null ) {
+                            pending = gson.getAdapter(JsonElement.class).read(reader);
+                        } else if ( event != null && isDecoded(event) ) {
+                            value = gson.getAdapter(event.klass).read(reader);
+                        } else {
+                            // nobody listens to the event, no need to build it
+                            skipped = true;
+                            reader.skipValue();
                         }
-                    } else {
-                        Events event = events.get(eventName);
-                        if ( event != null ) {
-                            JsonElement params = object.get("params");
-                            Object value = gson.fromJson(params, event.klass);
-                            for (EventListener next : listeners) {
-                                executor.execute(() -> {
-                                    next.onEvent(event, value);
-                                });
-                            }
+                    break;
+                    case "sessionId":
+                        sessionId = reader.nextString();
+                    break;
+                    default:
+                        reader.skipValue();
+                    break;
+                }
+            }
+            reader.endObject();
+        } catch (IOException | RuntimeException e) {
+            // the command is already removed from the pending commands, its caller must not wait for the timeout
+            if ( context != null ) {
+                context.setError(new CdpException(e));
+            }
+            throw e;
+        }
+
+        if ( hasId ) {
+            if ( context != null ) {
+                if ( error != null ) {
+                    context.setError(error);
+                } else {
+                    if ( pending != null ) {
+                        try {
+                            value = context.read(gson, toReader(pending));
+                        } catch (IOException | RuntimeException e) {
+                            context.setError(new CdpException(e));
+                            throw e;
                         }
                     }
+                    context.setData(value);
                 }
             }
-        };
-        if (async) {
-            executor.execute(runnable);
+        } else if ( event != null ) {
+            WSAdapter adapter = this;
+            if ( sessionId != null && sessionAdapters != null ) {
+                // flat mode: the event belongs to a page session
+                adapter = sessionAdapters.get(sessionId);
+            }
+            if ( adapter == null ) {
+                return;
+            }
+            if ( ! skipped && adapter.accepts(event) ) {
+                if ( pending != null ) {
+                    value = gson.fromJson(pending, event.klass);
+                }
+                adapter.onEvent(event, value);
+            }
+            if ( adapter.listeners.isRawSubscribed(event) ) {
+                if ( message instanceof byte[] ) {
+                    adapter.eventLoop.postRaw(event, (byte[]) message, offset, length);
+                } else {
+                    adapter.eventLoop.postRaw(event, (String) message);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return <code>true</code> if the event must be delivered to this adapter
+     */
+    private boolean accepts(final Events event) {
+        if ( InspectorDetached.equals(event) ) {
+            return true;
+        }
+        if ( TargetReceivedMessageFromTarget.equals(event) && sessionAdapters != null ) {
+            return true;
+        }
+        return listeners.isSubscribed(event);
+    }
+
+    /**
+     * In flat mode the session of an event is known only after its <code>params</code> are read,
+     * the event is decoded if any session accepts it.
+     */
+    private boolean isDecoded(final Events event) {
+        if ( accepts(event) ) {
+            return true;
+        }
+        if ( sessionAdapters != null ) {
+            for (WSAdapter next : sessionAdapters.values()) {
+                if ( next.accepts(event) ) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    void onEvent(final Events event, final Object value) {
+        if ( InspectorDetached.equals(event) ) {
+            if ( session != null && session.isConnected() ) {
+                Detached detached = (Detached) value;
+                Thread thread = new Thread(new TerminateSession(session, detached.getReason()));
+                thread.setName("cdp4j-terminate");
+                thread.setDaemon(true);
+                thread.start();
+                session = null;
+            }
         } else {
-            runnable.run();
+            if ( TargetReceivedMessageFromTarget.equals(event) && sessionAdapters != null ) {
+                // tunnel mode: decoded in order and without waiting for the listeners of the browser session
+                ReceivedMessageFromTarget received = (ReceivedMessageFromTarget) value;
+                WSAdapter adapter = sessionAdapters.get(received.getSessionId());
+                if ( adapter != null ) {
+                    try {
+                        adapter.onMessage(received.getMessage(), false);
+                    } catch (Exception e) {
+                        log.error(e.getMessage(), e);
+                    }
+                }
+            }
+            if ( listeners.isSubscribed(event) ) {
+                eventLoop.post(event, value);
+            }
+        }
+    }
+
+    private CommandException readError(final JsonReader reader) throws IOException {
+        int    code        = 0;
+        String message     = null;
+        String messageData = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "code":
+                    code = (int) reader.nextDouble();
+                break;
+                case "message":
+                    message = reader.nextString();
+                break;
+                case "data":
+                    JsonElement data = gson.getAdapter(JsonElement.class).read(reader);
+                    if ( data.isJsonPrimitive() ) {
+                        messageData = data.getAsString();
+                    }
+                break;
+                default:
+                    reader.skipValue();
+                break;
+            }
         }
+        reader.endObject();
+        return new CommandException(code, message +
+                                        (messageData != null ? ". " + messageData : ""));
+    }
+
+    private JsonReader toReader(final JsonElement element) {
+        JsonReader reader = new JsonReader(new StringReader(element.toString()));
+        reader.setLenient(true);
+        return reader;
     }
 
-    Map<String, Events> listEvents() {
+    static Map<String, Events> listEvents() {
         Map<String, Events> map = new HashMap<>();
         for (Events next : Events.values()) {
             map.put(next.domain + "." + next.name, next);
@@ -162,7 +374,15 @@ class WSAdapter extends WebSocketAdapter {
         return unmodifiableMap(map);
     }
 
+    EventLoop getEventLoop() {
+        return eventLoop;
+    }
+
     void setSession(final Session session) {
         this.session = session;
     }
+
+    void setSessionAdapters(final Map<String, WSAdapter> sessionAdapters) {
+        this.sessionAdapters = sessionAdapters;
+    }
 }
@@ -17,46 +17,163 @@
  */
 package io.webfolder.cdp.session;
 
+import static com.google.gson.stream.JsonToken.BEGIN_OBJECT;
+import static com.google.gson.stream.JsonToken.NULL;
+import static java.util.Base64.getDecoder;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
-import com.google.gson.JsonElement;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
 
 import io.webfolder.cdp.exception.CdpException;
-import io.webfolder.cdp.exception.CommandException;
 
 class WSContext {
 
     private CountDownLatch latch = new CountDownLatch(1);
 
-    private JsonElement data;
+    private final Object owner;
 
-    private CommandException error;
+    private final Type type;
 
-    void await(final int timeout) {
+    private final String returns;
+
+    private volatile Object data;
+
+    private volatile CdpException error;
+
+    private final CompletableFuture<Object> future;
+
+    private final Executor executor;
+
+    /**
+     * @param owner invocation handler which sent the command
+     * @param type the type of the command result, <code>null</code> if the command does not return a value
+     * @param returns name of the result property to bind, <code>null</code> to bind the whole result object
+     */
+    WSContext(final Object owner, final Type type, final String returns) {
+        this(owner, type, returns, null);
+    }
+
+    /**
+     * @param executor if not <code>null</code>, the context is completed through a <code>CompletableFuture</code>
+     * and the dependent stages of the future are executed by this executor instead of the reading thread
+     */
+    WSContext(final Object owner, final Type type, final String returns, final Executor executor) {
+        this.owner    = owner;
+        this.type     = type;
+        this.returns  = returns;
+        this.executor = executor;
+        this.future   = executor != null ? new CompletableFuture<>() : null;
+    }
+
+    /**
+     * @return <code>false</code> if the context is not completed in <code>timeout</code> milliseconds
+     */
+    boolean await(final int timeout) {
         try {
-            latch.await(timeout, MILLISECONDS);
+            return latch.await(timeout, MILLISECONDS);
         } catch (InterruptedException e) {
             throw new CdpException(e);
         }
     }
 
-    void setData(final JsonElement data) {
+    /**
+     * Binds the <code>result</code> member of the response directly to the return type of the command.
+     */
+    Object read(final Gson gson, final JsonReader reader) throws IOException {
+        if (type == null) {
+            reader.skipValue();
+            return null;
+        }
+        if ( ! BEGIN_OBJECT.equals(reader.peek()) ) {
+            throw new CdpException("invalid result");
+        }
+        if (returns == null) {
+            return gson.getAdapter(TypeToken.get(type)).read(reader);
+        }
+        Object value = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (returns.equals(reader.nextName())) {
+                value = readValue(gson, reader);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
+    }
+
+    private Object readValue(final Gson gson, final JsonReader reader) throws IOException {
+        if (NULL.equals(reader.peek())) {
+            reader.nextNull();
+            return null;
+        }
+        if (String.class.equals(type)) {
+            return reader.nextString();
+        } else if (Boolean.class.equals(type)) {
+            return reader.nextBoolean() ? Boolean.TRUE : Boolean.FALSE;
+        } else if (Integer.class.equals(type)) {
+            return reader.nextInt();
+        } else if (Double.class.equals(type)) {
+            return reader.nextDouble();
+        } else if (byte[].class.equals(type)) {
+            String encoded = reader.nextString();
+            if (encoded.trim().isEmpty()) {
+                return null;
+            } else {
+                return getDecoder().decode(encoded);
+            }
+        }
+        return gson.getAdapter(TypeToken.get(type)).read(reader);
+    }
+
+    void setData(final Object data) {
         this.data = data;
         latch.countDown();
+        if (future != null) {
+            complete(() -> future.complete(data));
+        }
     }
 
-    JsonElement getData() {
+    Object getData() {
         return data;
     }
 
-    void setError(CommandException error) {
+    void setError(CdpException error) {
         this.error = error;
         latch.countDown();
+        if (future != null) {
+            complete(() -> future.completeExceptionally(error));
+        }
+    }
+
+    private void complete(final Runnable completion) {
+        try {
+            executor.execute(completion);
+        } catch (RejectedExecutionException e) {
+            // thread pool is already terminated
+            completion.run();
+        }
     }
 
-    CommandException getError() {
+    CompletableFuture<Object> getFuture() {
+        return future;
+    }
+
+    CdpException getError() {
         return error;
     }
+
+    Object getOwner() {
+        return owner;
+    }
 }
@@ -0,0 +1,71 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import static com.neovisionaries.ws.client.WebSocketCloseCode.NORMAL;
+
+import java.util.List;
+
+import com.neovisionaries.ws.client.WebSocket;
+import com.neovisionaries.ws.client.WebSocketException;
+
+import io.webfolder.cdp.exception.CdpException;
+
+class WebSocketTransport implements Transport {
+
+    private final WebSocket webSocket;
+
+    WebSocketTransport(final WebSocket webSocket) {
+        this.webSocket = webSocket;
+    }
+
+    @Override
+    public void connect(final MessageHandler handler) {
+        // text messages are passed as pooled UTF-8 bytes
+        webSocket.setTextMessageListener((websocket, data, length) -> handler.onMessage(data, 0, length));
+        try {
+            webSocket.connect();
+        } catch (WebSocketException e) {
+            throw new CdpException(e);
+        }
+        webSocket.setAutoFlush(true);
+    }
+
+    @Override
+    public void send(final String message) {
+        webSocket.sendText(message);
+    }
+
+    @Override
+    public void send(final List<String> messages) {
+        // written to the socket with a single flush
+        webSocket.sendTexts(messages);
+    }
+
+    @Override
+    public boolean isOpen() {
+        return webSocket.isOpen();
+    }
+
+    @Override
+    public void close() {
+        if (webSocket.isOpen()) {
+            webSocket.disconnect(NORMAL, null, 1000); // max wait time to close: 1 seconds
+        }
+    }
+}
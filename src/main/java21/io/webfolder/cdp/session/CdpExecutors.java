@@ -0,0 +1,47 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import static java.lang.Boolean.parseBoolean;
+import static java.lang.System.getProperty;
+import static java.util.concurrent.Executors.newCachedThreadPool;
+import static java.util.concurrent.Executors.newThreadPerTaskExecutor;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Java 21 version of the default executor, loaded from <code>META-INF/versions/21</code>.
+ * 
+ * Event listeners and asynchronous command callbacks run on virtual threads, blocking
+ * command waits park on {@link java.util.concurrent.CountDownLatch} and do not pin the carrier.
+ * Set <code>cdp4j.virtualThreads=false</code> to use the platform thread pool of older versions.
+ */
+class CdpExecutors {
+
+    private static final boolean VIRTUAL = parseBoolean(getProperty("cdp4j.virtualThreads", "true"));
+
+    private CdpExecutors() {
+    }
+
+    static ExecutorService newExecutor() {
+        if (VIRTUAL) {
+            return newThreadPerTaskExecutor(Thread.ofVirtual().name("cdp4j-", 1).factory());
+        }
+        return newCachedThreadPool(new CdpThreadFactory());
+    }
+}
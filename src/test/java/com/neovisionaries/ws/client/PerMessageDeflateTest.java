@@ -0,0 +1,132 @@
+package com.neovisionaries.ws.client;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import org.junit.Test;
+
+
+public class PerMessageDeflateTest
+{
+    private static PerMessageDeflate create(String header, int threshold, CompressionStatistics statistics) throws WebSocketException
+    {
+        PerMessageDeflate deflate = new PerMessageDeflate(
+            WebSocketExtension.parse(header), Deflater.DEFAULT_COMPRESSION, threshold, statistics);
+
+        deflate.validate();
+
+        return deflate;
+    }
+
+
+    private static byte[] message(int i)
+    {
+        StringBuilder builder = new StringBuilder();
+
+        for (int j = 0; j < 50; ++j)
+        {
+            builder.append("{\"method\":\"Network.dataReceived\",\"params\":{\"requestId\":\"")
+                   .append(i).append('.').append(j).append("\"}}");
+        }
+
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+
+    @Test
+    public void testRoundTripWithContextTakeover() throws WebSocketException
+    {
+        CompressionStatistics statistics = new CompressionStatistics();
+        PerMessageDeflate client = create("permessage-deflate", 0, statistics);
+        PerMessageDeflate server = create("permessage-deflate", 0, null);
+
+        for (int i = 0; i < 10; ++i)
+        {
+            byte[] plain = message(i);
+            byte[] compressed = client.compress(plain);
+
+            assertTrue(compressed.length < plain.length);
+            assertArrayEquals(plain, server.decompress(compressed));
+        }
+
+        assertTrue(statistics.getSentCompressedBytes() < statistics.getSentUncompressedBytes());
+    }
+
+
+    @Test
+    public void testServerContextTakeover() throws WebSocketException
+    {
+        // A server which keeps its sliding window between messages.
+        Deflater server = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        CompressionStatistics statistics = new CompressionStatistics();
+        PerMessageDeflate client = create("permessage-deflate", 0, statistics);
+        byte[] buffer = new byte[65536];
+        long compressedTotal = 0;
+        long plainTotal = 0;
+
+        for (int i = 0; i < 10; ++i)
+        {
+            byte[] plain = message(i);
+
+            server.setInput(plain);
+
+            int length = server.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+            byte[] compressed = new byte[length - 4];
+
+            System.arraycopy(buffer, 0, compressed, 0, compressed.length);
+
+            assertArrayEquals(plain, client.decompress(compressed));
+
+            compressedTotal += compressed.length;
+            plainTotal += plain.length;
+        }
+
+        assertEquals(compressedTotal, statistics.getReceivedCompressedBytes());
+        assertEquals(plainTotal, statistics.getReceivedUncompressedBytes());
+    }
+
+
+    @Test
+    public void testThreshold() throws WebSocketException
+    {
+        CompressionStatistics statistics = new CompressionStatistics();
+        PerMessageDeflate client = create("permessage-deflate", 1024, statistics);
+        byte[] plain = "{\"id\":1,\"method\":\"Page.enable\"}".getBytes(StandardCharsets.UTF_8);
+
+        assertSame(plain, client.compress(plain));
+        assertEquals(plain.length, statistics.getSentUncompressedBytes());
+        assertEquals(plain.length, statistics.getSentCompressedBytes());
+    }
+
+
+    @Test
+    public void testParameters() throws WebSocketException
+    {
+        create("permessage-deflate; server_no_context_takeover; client_no_context_takeover; server_max_window_bits=10", 0, null);
+        create("permessage-deflate; client_max_window_bits=15", 0, null);
+
+        try
+        {
+            create("permessage-deflate; client_max_window_bits=10", 0, null);
+            fail();
+        }
+        catch (WebSocketException e)
+        {
+            assertEquals(WebSocketError.PERMESSAGE_DEFLATE_INVALID_MAX_WINDOW_BITS, e.getError());
+        }
+
+        try
+        {
+            create("permessage-deflate; foo", 0, null);
+            fail();
+        }
+        catch (WebSocketException e)
+        {
+            assertEquals(WebSocketError.PERMESSAGE_DEFLATE_UNSUPPORTED_PARAMETER, e.getError());
+        }
+    }
+}
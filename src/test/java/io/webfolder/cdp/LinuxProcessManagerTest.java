@@ -0,0 +1,78 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp;
+
+import static java.nio.file.Paths.get;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+public class LinuxProcessManagerTest {
+
+    @Test
+    public void testParseStat() {
+        String[] stat = LinuxProcessManager.parseStat("42 (Web Content (1)) S 1 42 42 0 -1 4194560 100 0 0 0 7 3 1 2 20 0\n");
+        assertEquals("S", stat[0]);
+        assertEquals("1", stat[1]);
+        // utime, stime, cutime, cstime
+        assertEquals("7", stat[11]);
+        assertEquals("3", stat[12]);
+        assertEquals("1", stat[13]);
+        assertEquals("2", stat[14]);
+    }
+
+    @Test
+    public void testParseResidentMemory() {
+        String status = "Name:\tchrome\n" +
+                        "State:\tS (sleeping)\n" +
+                        "VmHWM:\t  204800 kB\n" +
+                        "VmRSS:\t  102400 kB\n" +
+                        "RssAnon:\t   51200 kB\n";
+        assertEquals(102400L * 1024, LinuxProcessManager.parseResidentMemory(status));
+        // kernel threads have no user memory
+        assertEquals(0, LinuxProcessManager.parseResidentMemory("Name:\tkthreadd\nState:\tS (sleeping)\n"));
+    }
+
+    @Test
+    public void testParseMarkers() {
+        Map<String, String> markers = LinuxProcessManager.parseMarkers("PATH=/usr/bin\0CDP4J_ID=abc\0CDP4J_OWNER=42\0HOME=/root\0");
+        assertEquals("abc", markers.get("CDP4J_ID"));
+        assertEquals("42", markers.get("CDP4J_OWNER"));
+        assertEquals(2, markers.size());
+        assertNull(LinuxProcessManager.parseMarkers("CDP4J_IDX=1\0").get("CDP4J_ID"));
+    }
+
+    @Test
+    public void testParseClockTicks() {
+        assertEquals(100, LinuxProcessManager.parseClockTicks("100"));
+        assertEquals(250, LinuxProcessManager.parseClockTicks(" 250 "));
+        assertEquals(100, LinuxProcessManager.parseClockTicks("undefined"));
+        assertEquals(100, LinuxProcessManager.parseClockTicks("0"));
+    }
+
+    @Test
+    public void testResidentMemoryOfSelf() {
+        assumeTrue(System.getProperty("os.name").toLowerCase().startsWith("linux"));
+        assertTrue(LinuxProcessManager.getResidentMemory(get("/proc/self")) > 0);
+    }
+}
@@ -0,0 +1,140 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp;
+
+import static java.lang.management.ManagementFactory.getRuntimeMXBean;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.createDirectories;
+import static java.nio.file.Files.createDirectory;
+import static java.nio.file.Files.createFile;
+import static java.nio.file.Files.createTempDirectory;
+import static java.nio.file.Files.exists;
+import static java.nio.file.Files.readAllBytes;
+import static java.nio.file.Files.write;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ProfileManagerTest {
+
+    private static final String PID = getRuntimeMXBean().getName().split("@")[0];
+
+    private Path root;
+
+    @Before
+    public void init() throws IOException {
+        root = createTempDirectory("cdp4j-profiles");
+    }
+
+    @After
+    public void dispose() {
+        ProfileManager.deleteDirectory(root);
+    }
+
+    private void createTemplate() throws IOException {
+        Path template = createDirectories(root.resolve("template").resolve("Default"));
+        write(template.resolve("Preferences"), "{}".getBytes(UTF_8));
+        createFile(root.resolve("template").resolve("cdp4j-template"));
+    }
+
+    @Test
+    public void testCreateEmpty() {
+        ProfileManager manager = new ProfileManager(root);
+        assertFalse(manager.isPrepared());
+        Path profile = manager.create();
+        assertEquals(root, profile.getParent());
+        assertTrue(profile.getFileName().toString().startsWith("profile-" + PID + "-"));
+        assertTrue(exists(profile));
+    }
+
+    @Test
+    public void testCreateFromTemplate() throws IOException {
+        createTemplate();
+        ProfileManager manager = new ProfileManager(root);
+        assertTrue(manager.isPrepared());
+        Path profile = manager.create();
+        assertEquals("{}", new String(readAllBytes(profile.resolve("Default").resolve("Preferences")), UTF_8));
+        assertFalse(exists(profile.resolve("cdp4j-template")));
+    }
+
+    @Test
+    public void testCopyIfCloneFails() throws IOException {
+        createTemplate();
+        ProfileManager manager = new ProfileManager(root) {
+
+            @Override
+            boolean cloneTemplate(Path profile) {
+                return false;
+            }
+        };
+        Path profile = manager.create();
+        assertEquals("{}", new String(readAllBytes(profile.resolve("Default").resolve("Preferences")), UTF_8));
+        assertFalse(exists(profile.resolve("cdp4j-template")));
+    }
+
+    @Test
+    public void testDelete() throws IOException {
+        ProfileManager manager = new ProfileManager(root);
+        Path profile = manager.create();
+        createFile(profile.resolve("Cookies"));
+        manager.delete(profile);
+        assertFalse(exists(profile));
+
+        // only the profiles of the manager are deleted
+        Path other = createDirectory(root.resolve("other"));
+        manager.delete(other);
+        assertTrue(exists(other));
+        Path outside = createTempDirectory("profile-");
+        try {
+            manager.delete(outside);
+            assertTrue(exists(outside));
+        } finally {
+            ProfileManager.deleteDirectory(outside);
+        }
+    }
+
+    @Test
+    public void testCollect() throws IOException {
+        createTemplate();
+        // pid of a process which is not running, above the maximum pid of linux
+        Path dead    = createDirectory(root.resolve("profile-4194400-ab"));
+        Path staging = createDirectory(root.resolve("staging-4194400-cd"));
+        Path own     = createDirectory(root.resolve("profile-" + PID + "-ef"));
+        Path invalid = createDirectory(root.resolve("profile-x-12"));
+        ProfileManager manager = new ProfileManager(root);
+        assertEquals(2, manager.collect());
+        assertFalse(exists(dead));
+        assertFalse(exists(staging));
+        assertTrue(exists(own));
+        assertTrue(exists(invalid));
+        assertTrue(manager.isPrepared());
+        assertEquals(0, manager.collect());
+    }
+
+    @Test
+    public void testCollectWithoutRoot() {
+        assertEquals(0, new ProfileManager(root.resolve("missing")).collect());
+    }
+}
@@ -0,0 +1,44 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.sample;
+
+import static io.webfolder.cdp.LoadMetric.PendingCommands;
+import static java.util.Arrays.asList;
+
+import io.webfolder.cdp.BrowserFarm;
+import io.webfolder.cdp.session.Session;
+
+public class BrowserFarmSample {
+
+    public static void main(String[] args) {
+        try (BrowserFarm farm = new BrowserFarm(2)) {
+            farm.setArguments(asList("--headless", "--disable-gpu"));
+            farm.setLoadMetric(PendingCommands);
+            // restart each browser after 4 pages
+            farm.setMaxPages(4);
+            farm.start();
+            for (int i = 0; i < 8; i++) {
+                try (Session session = farm.create()) {
+                    session.navigate("https://webfolder.io?cdp4j");
+                    session.waitDocumentReady();
+                    System.out.println(session.getTitle());
+                }
+            }
+        }
+    }
+}
@@ -17,10 +17,6 @@
  */
 package io.webfolder.cdp.sample;
 
-import static io.webfolder.cdp.session.SessionFactory.DEFAULT_PORT;
-
-import java.io.IOException;
-import java.net.ServerSocket;
 import java.nio.file.Path;
 import java.util.Random;
 
@@ -33,13 +29,13 @@ import io.webfolder.cdp.session.SessionFactory;
 
 public class MultiProcess {
 
-    // port number and user-data-dir must be different for each chrome process
+    // user-data-dir must be different for each chrome process, port 0 lets chrome select a free port
     // As an alternative @see IncognitoBrowsing.java for incognito mode (private browsing).
     public static void main(String[] args) {
         new Thread() {
 
             public void run() {
-                Launcher launcher = new Launcher(getFreePort(DEFAULT_PORT));
+                Launcher launcher = new Launcher(0);
                 Path remoteProfileData = get(getProperty("java.io.tmpdir")).resolve("remote-profile-" + new Random().nextInt());
                 SessionFactory factory = launcher.launch(asList("--user-data-dir=" + remoteProfileData.toString()));
 
@@ -56,7 +52,7 @@ public class MultiProcess {
         new Thread() {
 
             public void run() {
-                Launcher launcher = new Launcher(getFreePort(DEFAULT_PORT));
+                Launcher launcher = new Launcher(0);
                 Path remoteProfileData = get(getProperty("java.io.tmpdir")).resolve("remote-profile-" + new Random().nextInt());
                 SessionFactory factory = launcher.launch(asList("--user-data-dir=" + remoteProfileData.toString()));
 
@@ -70,13 +66,4 @@ public class MultiProcess {
             }
         }.start();
     }
-
-    protected static int getFreePort(int portNumber) {
-        try (ServerSocket socket = new ServerSocket(portNumber)) {
-            int freePort = socket.getLocalPort();
-            return freePort;
-        } catch (IOException e) {
-            return getFreePort(portNumber + 1);
-        }
-    }
 }
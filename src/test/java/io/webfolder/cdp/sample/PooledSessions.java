@@ -0,0 +1,49 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.sample;
+
+import io.webfolder.cdp.Launcher;
+import io.webfolder.cdp.session.Session;
+import io.webfolder.cdp.session.SessionFactory;
+import io.webfolder.cdp.session.SessionPool;
+
+public class PooledSessions {
+
+    public static void main(String[] args) {
+        Launcher launcher = new Launcher();
+
+        try (SessionFactory factory = launcher.launch();
+                SessionPool pool = new SessionPool(factory, 2, 4)) {
+            pool.setMaxUses(100);
+            pool.setIdleTimeout(60_000);
+            for (int i = 0; i < 10; i++) {
+                Session session = pool.lease();
+                try {
+                    session.navigate("https://webfolder.io?cdp4j");
+                    session.waitDocumentReady();
+                    System.out.println(session.getTitle());
+                } finally {
+                    pool.release(session);
+                }
+            }
+            System.out.println(pool + ", average wait: " + pool.getAverageWaitTime() + "ms");
+        } finally {
+            launcher.kill();
+        }
+    }
+}
@@ -0,0 +1,557 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import static com.squareup.javapoet.TypeName.OBJECT;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.sort;
+import static java.util.Comparator.comparing;
+import static java.util.Arrays.asList;
+import static javax.lang.model.element.Modifier.ABSTRACT;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.PUBLIC;
+import static javax.lang.model.element.Modifier.STATIC;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import com.google.gson.reflect.TypeToken;
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.WildcardTypeName;
+
+import io.webfolder.cdp.annotation.Domain;
+import io.webfolder.cdp.annotation.Experimental;
+import io.webfolder.cdp.annotation.Optional;
+import io.webfolder.cdp.annotation.Returns;
+
+/**
+ * Generates reflection-free implementations of the command interfaces,
+ * their asynchronous variants (<code>io.webfolder.cdp.async</code>) and the implementations of the variants.
+ * 
+ * The command interfaces of <code>io.webfolder.cdp.command</code> are generated from
+ * <code>browser_protocol.json</code> and <code>js_protocol.json</code>. This generator reads
+ * the compiled interfaces (which requires the <code>-parameters</code> compiler option)
+ * so that overloads and type mappings are exactly the same as the interfaces.
+ * 
+ * Run {@link #main(String[])} from the project directory after the command interfaces are regenerated.
+ */
+public class CommandImplGenerator {
+
+    static final String COMMAND_PACKAGE = "io.webfolder.cdp.command";
+
+    static final String SESSION_PACKAGE = "io.webfolder.cdp.session";
+
+    static final String ASYNC_PACKAGE = "io.webfolder.cdp.async";
+
+    static final String REGISTRY = "CommandImpls";
+
+    private static final ClassName SERIALIZER = ClassName.get(SESSION_PACKAGE, "CommandSerializer");
+
+    private static final ClassName HANDLER = ClassName.get(SESSION_PACKAGE, "SessionInvocationHandler");
+
+    private static final List<Class<? extends Annotation>> COPIED_ANNOTATIONS =
+                                asList(Experimental.class, Optional.class, Deprecated.class);
+
+    private final Path sourceDir;
+
+    private final String header;
+
+    public CommandImplGenerator(final Path sourceDir) throws IOException {
+        this.sourceDir = sourceDir;
+        this.header = header(sourceDir.resolve(SESSION_PACKAGE.replace('.', '/'))
+                                        .resolve("Session.java"));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path sourceDir = Paths.get("src/main/java");
+        CommandImplGenerator generator = new CommandImplGenerator(sourceDir);
+        for (Map.Entry<String, String> next : generator.generate().entrySet()) {
+            Path file = sourceDir.resolve(next.getKey());
+            Files.createDirectories(file.getParent());
+            Files.write(file, next.getValue().getBytes(UTF_8));
+        }
+    }
+
+    /**
+     * @return source code of the generated classes, keyed by the path relative to the source directory
+     */
+    public Map<String, String> generate() throws ClassNotFoundException {
+        Map<String, String> sources = new LinkedHashMap<>();
+        List<Class<?>> commands = listCommands();
+        for (Class<?> command : commands) {
+            add(sources, SESSION_PACKAGE, generateImpl(command));
+            add(sources, ASYNC_PACKAGE, generateAsyncInterface(command));
+            add(sources, SESSION_PACKAGE, generateAsyncImpl(command));
+        }
+        add(sources, SESSION_PACKAGE, generateRegistry(commands));
+        return sources;
+    }
+
+    private void add(final Map<String, String> sources, final String packageName, final TypeSpec type) {
+        sources.put(packageName.replace('.', '/') + "/" + type.name + ".java", toString(packageName, type));
+    }
+
+    List<Class<?>> listCommands() throws ClassNotFoundException {
+        File dir = sourceDir.resolve(COMMAND_PACKAGE.replace('.', '/')).toFile();
+        TreeSet<String> names = new TreeSet<>();
+        for (String file : dir.list()) {
+            if (file.endsWith(".java")) {
+                names.add(file.substring(0, file.length() - ".java".length()));
+            }
+        }
+        List<Class<?>> commands = new ArrayList<>();
+        for (String name : names) {
+            Class<?> klass = Class.forName(COMMAND_PACKAGE + "." + name);
+            if (klass.isInterface() && klass.isAnnotationPresent(Domain.class)) {
+                commands.add(klass);
+            }
+        }
+        return commands;
+    }
+
+    private TypeSpec generateImpl(final Class<?> command) {
+        String domain = command.getAnnotation(Domain.class).value();
+
+        TypeSpec.Builder builder = TypeSpec.classBuilder(command.getSimpleName() + "Impl")
+                                            .addModifiers(FINAL)
+                                            .addSuperinterface(command)
+                                            .addJavadoc("Generated by CommandImplGenerator, do not edit.\n");
+
+        if (command.isAnnotationPresent(Deprecated.class) || hasDeprecatedMethod(command)) {
+            builder.addAnnotation(deprecation());
+        }
+
+        for (Map.Entry<String, Method> next : listMethods(command).entrySet()) {
+            builder.addField(generateSerializer(domain, next.getKey(), next.getValue()));
+            builder.addMethod(generateMethod(next.getKey(), next.getValue()));
+        }
+
+        builder.addField(HANDLER, "handler", PRIVATE, FINAL);
+
+        // JavaPoet emits the constructor before the methods
+        builder.addMethod(MethodSpec.constructorBuilder()
+                                    .addParameter(HANDLER, "handler", FINAL)
+                                    .addStatement("this.handler = handler")
+                                    .build());
+
+        return builder.build();
+    }
+
+    private TypeSpec generateAsyncInterface(final Class<?> command) {
+        TypeSpec.Builder builder = TypeSpec.interfaceBuilder(asyncName(command))
+                                            .addModifiers(PUBLIC)
+                                            .addAnnotation(AnnotationSpec.get(command.getAnnotation(Domain.class)))
+                                            .addJavadoc("Asynchronous variant of {@link $T}.\n", command)
+                                            .addJavadoc("\n")
+                                            .addJavadoc("The returned future is completed when the response of the command is received.\n")
+                                            .addJavadoc("\n")
+                                            .addJavadoc("Generated by CommandImplGenerator, do not edit.\n");
+        copyAnnotations(command, builder::addAnnotation);
+        for (Method method : listMethods(command).values()) {
+            MethodSpec.Builder next = MethodSpec.methodBuilder(method.getName())
+                                        .addModifiers(PUBLIC, ABSTRACT)
+                                        .returns(futureOf(method))
+                                        .addJavadoc("@see $T#$L($L)\n", command, method.getName(),
+                                                    javadocParameters(method));
+            copyAnnotations(method, next::addAnnotation);
+            for (Parameter parameter : method.getParameters()) {
+                ParameterSpec.Builder param = ParameterSpec.builder(
+                                                TypeName.get(parameter.getParameterizedType()),
+                                                parameter.getName());
+                copyAnnotations(parameter, param::addAnnotation);
+                next.addParameter(param.build());
+            }
+            builder.addMethod(next.build());
+        }
+        return builder.build();
+    }
+
+    private TypeSpec generateAsyncImpl(final Class<?> command) {
+        TypeSpec.Builder builder = TypeSpec.classBuilder(asyncName(command) + "Impl")
+                                            .addModifiers(FINAL)
+                                            .addSuperinterface(ClassName.get(ASYNC_PACKAGE, asyncName(command)))
+                                            .addJavadoc("Generated by CommandImplGenerator, do not edit.\n");
+
+        if (command.isAnnotationPresent(Deprecated.class) || hasDeprecatedMethod(command)) {
+            builder.addAnnotation(deprecation());
+        }
+
+        builder.addField(HANDLER, "handler", PRIVATE, FINAL);
+
+        builder.addMethod(MethodSpec.constructorBuilder()
+                                    .addParameter(HANDLER, "handler", FINAL)
+                                    .addStatement("this.handler = handler")
+                                    .build());
+
+        ClassName impl = ClassName.get(SESSION_PACKAGE, command.getSimpleName() + "Impl");
+
+        for (Map.Entry<String, Method> next : listMethods(command).entrySet()) {
+            Method method = next.getValue();
+            MethodSpec.Builder spec = MethodSpec.methodBuilder(method.getName())
+                                            .addAnnotation(Override.class)
+                                            .addModifiers(PUBLIC)
+                                            .returns(futureOf(method));
+            List<String> args = new ArrayList<>();
+            for (Parameter parameter : method.getParameters()) {
+                spec.addParameter(ParameterSpec.builder(TypeName.get(parameter.getParameterizedType()),
+                                                            parameter.getName(), FINAL).build());
+                args.add(parameter.getName());
+            }
+            CodeBlock serializer = CodeBlock.of("$T.$N", impl, next.getKey());
+            CodeBlock invocation = args.isEmpty() ?
+                            CodeBlock.of("handler.invokeAsync($L, null)", serializer) :
+                            CodeBlock.of("handler.invokeAsync($L, new $T[] { $L })", serializer,
+                                            Object.class, String.join(", ", args));
+            spec.addStatement("return $L", invocation);
+            builder.addMethod(spec.build());
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return command methods in a stable order, keyed by the name of the serializer constant
+     */
+    private static Map<String, Method> listMethods(final Class<?> command) {
+        Method[] methods = command.getMethods();
+        sort(methods, comparing(Method::getName)
+                            .thenComparing(Method::getParameterCount)
+                            .thenComparing(m -> m.toGenericString()));
+        Map<String, Method> list = new LinkedHashMap<>();
+        Map<String, Integer> names = new LinkedHashMap<>();
+        for (Method method : methods) {
+            String constant = constantName(method.getName());
+            Integer count = names.merge(constant, 1, Integer::sum);
+            if (count > 1) {
+                constant += "_" + (count - 1);
+            }
+            list.put(constant, method);
+        }
+        return list;
+    }
+
+    private static TypeName futureOf(final Method method) {
+        Type returnType = method.getGenericReturnType();
+        TypeName result = void.class.equals(returnType) ?
+                                ClassName.get(Void.class) : TypeName.get(returnType).box();
+        return ParameterizedTypeName.get(ClassName.get(CompletableFuture.class), result);
+    }
+
+    private static String asyncName(final Class<?> command) {
+        return "Async" + command.getSimpleName();
+    }
+
+    private static String javadocParameters(final Method method) {
+        List<String> types = new ArrayList<>();
+        for (Class<?> type : method.getParameterTypes()) {
+            types.add(type.getSimpleName());
+        }
+        return String.join(", ", types);
+    }
+
+    /**
+     * Copies the protocol annotations (<code>@Experimental</code>, <code>@Optional</code>, <code>@Deprecated</code>).
+     */
+    private static void copyAnnotations(final AnnotatedElement element, final Consumer<AnnotationSpec> target) {
+        for (Class<? extends Annotation> annotation : COPIED_ANNOTATIONS) {
+            if (element.isAnnotationPresent(annotation)) {
+                target.accept(AnnotationSpec.builder(annotation).build());
+            }
+        }
+    }
+
+    private FieldSpec generateSerializer(
+                        final String domain,
+                        final String constant,
+                        final Method method) {
+        Parameter[] parameters = method.getParameters();
+        CodeBlock.Builder names = CodeBlock.builder();
+        CodeBlock.Builder types = CodeBlock.builder();
+        if (parameters.length == 0) {
+            names.add("new $T[0]", String.class);
+            types.add("new $T[0]", Type.class);
+        } else {
+            names.add("new $T[] { ", String.class);
+            types.add("new $T[] { ", Type.class);
+            for (int i = 0; i < parameters.length; i++) {
+                if (i > 0) {
+                    names.add(", ");
+                    types.add(", ");
+                }
+                names.add("$S", parameters[i].getName());
+                types.add(typeLiteral(parameters[i].getParameterizedType()));
+            }
+            names.add(" }");
+            types.add(" }");
+        }
+
+        Class<?> retType = method.getReturnType();
+        boolean hasResult = ! void.class.equals(retType) && ! Void.class.equals(retType);
+        CodeBlock returnType = hasResult ? typeLiteral(method.getGenericReturnType()) :
+                                            CodeBlock.of("null");
+        Returns returns = method.getAnnotation(Returns.class);
+
+        CodeBlock initializer = CodeBlock.builder()
+                        .add("new $T($S, $S,\n", SERIALIZER, domain, method.getName())
+                        .indent().indent()
+                        .add("$L,\n", names.build())
+                        .add("$L,\n", types.build())
+                        .add("$L, $L)", returnType, returns == null ? "null" : CodeBlock.of("$S", returns.value()))
+                        .unindent().unindent()
+                        .build();
+
+        // shared with the asynchronous implementation
+        return FieldSpec.builder(SERIALIZER, constant, STATIC, FINAL)
+                        .initializer(initializer)
+                        .build();
+    }
+
+    private MethodSpec generateMethod(final String constant, final Method method) {
+        MethodSpec.Builder builder = MethodSpec.methodBuilder(method.getName())
+                                        .addAnnotation(Override.class)
+                                        .addModifiers(PUBLIC);
+        Parameter[] parameters = method.getParameters();
+        List<String> args = new ArrayList<>();
+        for (Parameter parameter : parameters) {
+            builder.addParameter(ParameterSpec.builder(TypeName.get(parameter.getParameterizedType()),
+                                                        parameter.getName(), FINAL).build());
+            args.add(parameter.getName());
+        }
+        CodeBlock invocation = parameters.length == 0 ?
+                        CodeBlock.of("handler.invoke($N, null)", constant) :
+                        CodeBlock.of("handler.invoke($N, new $T[] { $L })", constant,
+                                        Object.class, String.join(", ", args));
+
+        Type returnType = method.getGenericReturnType();
+        if (void.class.equals(returnType)) {
+            builder.addStatement("$L", invocation);
+        } else {
+            TypeName typeName = TypeName.get(returnType);
+            builder.returns(typeName);
+            if (OBJECT.equals(typeName)) {
+                builder.addStatement("return $L", invocation);
+            } else {
+                if (typeName instanceof ParameterizedTypeName) {
+                    builder.addAnnotation(unchecked());
+                }
+                builder.addStatement("return ($T) $L", typeName, invocation);
+            }
+        }
+        return builder.build();
+    }
+
+    private TypeSpec generateRegistry(final List<Class<?>> commands) {
+        MethodSpec.Builder create = MethodSpec.methodBuilder("create")
+                                            .addModifiers(STATIC)
+                                            .returns(Object.class)
+                                            .addParameter(ParameterizedTypeName.get(ClassName.get(Class.class),
+                                                                    WildcardTypeName.subtypeOf(Object.class)), "klass", FINAL)
+                                            .addParameter(HANDLER, "handler", FINAL);
+        for (Class<?> command : commands) {
+            create.beginControlFlow("if ($T.class.equals(klass))", command)
+                  .addStatement("return new $N(handler)", command.getSimpleName() + "Impl")
+                  .endControlFlow();
+        }
+        create.addStatement("return null");
+        MethodSpec.Builder createAsync = MethodSpec.methodBuilder("createAsync")
+                                            .addModifiers(STATIC)
+                                            .returns(Object.class)
+                                            .addParameter(ParameterizedTypeName.get(ClassName.get(Class.class),
+                                                                    WildcardTypeName.subtypeOf(Object.class)), "klass", FINAL)
+                                            .addParameter(HANDLER, "handler", FINAL);
+        for (Class<?> command : commands) {
+            createAsync.beginControlFlow("if ($T.class.equals(klass))", ClassName.get(ASYNC_PACKAGE, asyncName(command)))
+                       .addStatement("return new $N(handler)", asyncName(command) + "Impl")
+                       .endControlFlow();
+        }
+        createAsync.addStatement("return null");
+        return TypeSpec.classBuilder(REGISTRY)
+                            .addModifiers(FINAL)
+                            .addAnnotation(deprecation())
+                            .addJavadoc("Creates the generated command implementations.\n")
+                            .addJavadoc("\n")
+                            .addJavadoc("Generated by CommandImplGenerator, do not edit.\n")
+                            .addMethod(MethodSpec.constructorBuilder().addModifiers(PRIVATE).build())
+                            .addMethod(create.build())
+                            .addMethod(createAsync.build())
+                            .build();
+    }
+
+    private boolean hasDeprecatedMethod(final Class<?> command) {
+        for (Method method : command.getMethods()) {
+            if (method.isAnnotationPresent(Deprecated.class)) {
+                return true;
+            }
+            for (Class<?> parameter : method.getParameterTypes()) {
+                if (parameter.isAnnotationPresent(Deprecated.class)) {
+                    return true;
+                }
+            }
+            if (method.getReturnType().isAnnotationPresent(Deprecated.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static CodeBlock typeLiteral(final Type type) {
+        TypeName typeName = TypeName.get(type);
+        if (typeName instanceof ParameterizedTypeName) {
+            return CodeBlock.of("new $T<$T>() { }.getType()", TypeToken.class, typeName);
+        }
+        return CodeBlock.of("$T.class", typeName);
+    }
+
+    private static String constantName(final String name) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isUpperCase(c) && i > 0 && ! Character.isUpperCase(name.charAt(i - 1))) {
+                builder.append('_');
+            }
+            builder.append(Character.toUpperCase(c));
+        }
+        return builder.toString();
+    }
+
+    private String toString(final String packageName, final TypeSpec type) {
+        String source = JavaFile.builder(packageName, type)
+                                .indent("    ")
+                                .skipJavaLangImports(true)
+                                .build()
+                                .toString();
+        return header + groupImports(qualifyDeprecated(source));
+    }
+
+    /**
+     * Replaces the imports of the deprecated types with their qualified names.
+     * 
+     * <code>@SuppressWarnings("deprecation")</code> doesn't apply to imports,
+     * javac reports them if the source level is 8.
+     */
+    private static String qualifyDeprecated(final String source) {
+        StringBuilder builder = new StringBuilder();
+        List<String> deprecated = new ArrayList<>();
+        for (String line : source.split("\n", -1)) {
+            if (line.startsWith("import ") && ! line.startsWith("import static ") &&
+                    isDeprecated(line.substring("import ".length(), line.length() - 1))) {
+                deprecated.add(line.substring("import ".length(), line.length() - 1));
+            } else {
+                builder.append(line).append('\n');
+            }
+        }
+        String qualified = builder.substring(0, builder.length() - 1);
+        for (String name : deprecated) {
+            String simpleName = name.substring(name.lastIndexOf('.') + 1);
+            // skips the string literals, member names and the other identifiers which contain the name
+            qualified = qualified.replaceAll("(?<![\\w.\"])" + simpleName + "(?![\\w\"])", name);
+        }
+        return qualified;
+    }
+
+    private static boolean isDeprecated(final String name) {
+        String className = name;
+        if (name.startsWith(ASYNC_PACKAGE + ".Async")) {
+            // asynchronous variant is deprecated if its command is deprecated
+            className = COMMAND_PACKAGE + "." + name.substring(ASYNC_PACKAGE.length() + ".Async".length());
+        }
+        try {
+            return Class.forName(className).isAnnotationPresent(Deprecated.class);
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Groups the imports by top level package as in the hand-written sources.
+     */
+    private static String groupImports(final String source) {
+        String[] lines = source.split("\n", -1);
+        // java and javax first, then the others in alphabetical order
+        Map<String, List<String>> imports = new TreeMap<>(comparing((String group) -> ! group.startsWith("java"))
+                                                                .thenComparing(group -> group));
+        StringBuilder head = new StringBuilder();
+        StringBuilder body = new StringBuilder();
+        boolean importSection = false;
+        for (String line : lines) {
+            if (line.startsWith("import ")) {
+                importSection = true;
+                String group = line.substring("import ".length(), line.indexOf('.'));
+                imports.computeIfAbsent(group, k -> new ArrayList<>()).add(line);
+            } else if (importSection && line.isEmpty() && body.length() == 0) {
+                continue;
+            } else if (importSection) {
+                body.append(line).append('\n');
+            } else {
+                head.append(line).append('\n');
+            }
+        }
+        StringBuilder builder = new StringBuilder(head);
+        for (List<String> group : imports.values()) {
+            for (String next : group) {
+                builder.append(next).append('\n');
+            }
+            builder.append('\n');
+        }
+        builder.append(body);
+        // JavaFile ends with a single new line
+        return builder.substring(0, builder.length() - 1);
+    }
+
+    private static String header(final Path file) throws IOException {
+        String source = new String(Files.readAllBytes(file), UTF_8);
+        return source.substring(0, source.indexOf("package "));
+    }
+
+    private static AnnotationSpec deprecation() {
+        return AnnotationSpec.builder(SuppressWarnings.class)
+                                .addMember("value", "$S", "deprecation")
+                                .build();
+    }
+
+    private static AnnotationSpec unchecked() {
+        return AnnotationSpec.builder(SuppressWarnings.class)
+                                .addMember("value", "$S", "unchecked")
+                                .build();
+    }
+}
@@ -0,0 +1,58 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+
+import org.junit.Test;
+
+import io.webfolder.cdp.async.AsyncDOM;
+import io.webfolder.cdp.command.DOM;
+import io.webfolder.cdp.command.Runtime;
+
+public class CommandImplGeneratorTest {
+
+    @Test
+    public void testGeneratedSourcesUpToDate() throws Exception {
+        Path sourceDir = Paths.get("src/main/java");
+        Map<String, String> sources = new CommandImplGenerator(sourceDir).generate();
+        for (Map.Entry<String, String> next : sources.entrySet()) {
+            Path file = sourceDir.resolve(next.getKey());
+            assertTrue("missing " + file + ", run CommandImplGenerator", Files.exists(file));
+            assertEquals("outdated " + file + ", run CommandImplGenerator",
+                            next.getValue(), new String(Files.readAllBytes(file), UTF_8));
+        }
+    }
+
+    @Test
+    public void testRegistry() {
+        assertTrue(CommandImpls.create(DOM.class, null) instanceof DOMImpl);
+        assertNotNull(CommandImpls.create(Runtime.class, null));
+        assertEquals(null, CommandImpls.create(Map.class, null));
+        assertTrue(CommandImpls.createAsync(AsyncDOM.class, null) instanceof AsyncDOMImpl);
+        assertEquals(null, CommandImpls.createAsync(DOM.class, null));
+    }
+}
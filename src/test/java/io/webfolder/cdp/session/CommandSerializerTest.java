@@ -0,0 +1,78 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import static io.webfolder.cdp.type.constant.MouseEventType.MousePressed;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Method;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import io.webfolder.cdp.command.DOM;
+import io.webfolder.cdp.command.Input;
+import io.webfolder.cdp.command.Page;
+import io.webfolder.cdp.type.constant.MouseButtonType;
+import io.webfolder.cdp.type.constant.MouseEventType;
+
+public class CommandSerializerTest {
+
+    private final Gson gson = new GsonBuilder()
+                                    .disableHtmlEscaping()
+                                    .create();
+
+    @Test
+    public void testEnvelope() throws Exception {
+        Method method = DOM.class.getMethod("querySelector", Integer.class, String.class);
+        CommandSerializer serializer = new CommandSerializer(method);
+        assertEquals("{\"id\":5,\"method\":\"DOM.querySelector\",\"params\":{\"nodeId\":1,\"selector\":\"a<b>\"}}",
+                            serializer.serialize(gson, 5, new Object[] { 1, "a<b>" }, null));
+        assertEquals(Integer.class, serializer.getReturnType());
+        assertEquals("nodeId", serializer.getReturns());
+        assertEquals("DOM", serializer.getDomain());
+    }
+
+    @Test
+    public void testNullParametersOmitted() throws Exception {
+        Method method = Input.class.getMethod("dispatchMouseEvent", MouseEventType.class,
+                                                Double.class, Double.class, Integer.class,
+                                                Double.class, MouseButtonType.class,
+                                                Integer.class, Double.class, Double.class);
+        CommandSerializer serializer = new CommandSerializer(method);
+        String json = serializer.serialize(gson, 1, new Object[] { MousePressed, 10D, 20.5D, null,
+                                                null, MouseButtonType.Left, 1, null, null }, "s1");
+        assertEquals("{\"id\":1,\"method\":\"Input.dispatchMouseEvent\",\"params\":{\"type\":\"mousePressed\"," +
+                        "\"x\":10.0,\"y\":20.5,\"button\":\"left\",\"clickCount\":1},\"sessionId\":\"s1\"}", json);
+        assertNull(serializer.getReturnType());
+    }
+
+    @Test
+    public void testEnable() throws Exception {
+        CommandSerializer enable = new CommandSerializer(Page.class.getMethod("enable"));
+        assertTrue(enable.isEnable());
+        assertFalse(enable.isDisable());
+        assertEquals("{\"id\":2,\"method\":\"Page.enable\",\"params\":{}}", enable.serialize(gson, 2, null, null));
+        assertTrue(new CommandSerializer(Page.class.getMethod("disable")).isDisable());
+    }
+}
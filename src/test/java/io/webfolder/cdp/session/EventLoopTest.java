@@ -0,0 +1,177 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import static io.webfolder.cdp.event.Events.DOMChildNodeCountUpdated;
+import static io.webfolder.cdp.event.Events.NetworkDataReceived;
+import static io.webfolder.cdp.event.Events.NetworkLoadingFinished;
+import static io.webfolder.cdp.logger.CdpLoggerType.Null;
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+
+import io.webfolder.cdp.logger.CdpLoggerFactory;
+
+public class EventLoopTest {
+
+    @Test
+    public void testOrder() throws Exception {
+        int count = 10_000;
+        List<Object> received = new ArrayList<>();
+        AtomicBoolean concurrent = new AtomicBoolean();
+        AtomicBoolean dispatching = new AtomicBoolean();
+        CountDownLatch latch = new CountDownLatch(count);
+        EventListeners listeners = new EventListeners();
+        listeners.add((event, value) -> {
+            if ( ! dispatching.compareAndSet(false, true) ) {
+                concurrent.set(true);
+            }
+            received.add(value);
+            dispatching.set(false);
+        });
+        // failing listener must not stop the delivery
+        listeners.add((event, value) -> { throw new IllegalStateException(); });
+        listeners.add((event, value) -> latch.countDown());
+        ExecutorService executor = Executors.newCachedThreadPool();
+        EventLoop loop = new EventLoop(listeners, executor, new Gson(), new CdpLoggerFactory(Null).getLogger("test"));
+        for (int i = 0; i < count; i++) {
+            loop.post(NetworkLoadingFinished, i);
+        }
+        assertTrue(latch.await(10, SECONDS));
+        executor.shutdown();
+        assertFalse(concurrent.get());
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, received.get(i));
+        }
+    }
+
+    @Test
+    public void testQueueDepth() {
+        List<Runnable> tasks = new ArrayList<>();
+        List<Object> received = new ArrayList<>();
+        EventListeners listeners = new EventListeners();
+        listeners.add((event, value) -> received.add(value));
+        EventLoop loop = new EventLoop(listeners, tasks::add, new Gson(), new CdpLoggerFactory(Null).getLogger("test"));
+        for (int i = 0; i < 300; i++) {
+            loop.post(NetworkLoadingFinished, i);
+        }
+        // a single task is scheduled for the burst
+        assertEquals(1, tasks.size());
+        assertEquals(300, loop.size());
+        tasks.get(0).run();
+        assertEquals(0, loop.size());
+        assertEquals(300, received.size());
+    }
+
+    private EventLoop createLoop(final List<Runnable> tasks, final List<Object> received) {
+        EventListeners listeners = new EventListeners();
+        listeners.add((event, value) -> received.add(value));
+        return new EventLoop(listeners, tasks::add, new Gson(), new CdpLoggerFactory(Null).getLogger("test"));
+    }
+
+    @Test
+    public void testDropPolicies() {
+        List<Runnable> tasks = new ArrayList<>();
+        List<Object> received = new ArrayList<>();
+        EventLoop loop = createLoop(tasks, received);
+        loop.setPolicy(NetworkLoadingFinished, EventPolicy.dropNewest(2));
+        loop.setPolicy(NetworkDataReceived, EventPolicy.dropOldest(2));
+        for (int i = 0; i < 4; i++) {
+            loop.post(NetworkLoadingFinished, "f" + i);
+            loop.post(NetworkDataReceived, "d" + i);
+        }
+        assertEquals(4, loop.size());
+        assertEquals(2, loop.getDroppedCount(NetworkLoadingFinished));
+        assertEquals(2, loop.getDroppedCount(NetworkDataReceived));
+        tasks.get(0).run();
+        assertEquals(asList("f0", "f1", "d2", "d3"), received);
+    }
+
+    @Test
+    public void testCoalesce() {
+        List<Runnable> tasks = new ArrayList<>();
+        List<Object> received = new ArrayList<>();
+        EventLoop loop = createLoop(tasks, received);
+        loop.setPolicy(DOMChildNodeCountUpdated, EventPolicy.coalesce(String.class, value -> value.charAt(0), 1000));
+        // grows the ring while coalesced events are queued
+        for (int i = 0; i < 300; i++) {
+            loop.post(NetworkLoadingFinished, i);
+            loop.post(DOMChildNodeCountUpdated, (i % 2 == 0 ? "a" : "b") + i);
+        }
+        assertEquals(302, loop.size());
+        assertEquals(298, loop.getCoalescedCount(DOMChildNodeCountUpdated));
+        tasks.get(0).run();
+        assertEquals(302, received.size());
+        assertEquals(0, received.get(0));
+        assertEquals("a298", received.get(1));
+        assertEquals("b299", received.get(3));
+        // delivered events are not coalesced anymore
+        loop.post(DOMChildNodeCountUpdated, "a300");
+        assertEquals(1, loop.size());
+    }
+
+    @Test
+    public void testCoalesceCapacity() {
+        List<Runnable> tasks = new ArrayList<>();
+        List<Object> received = new ArrayList<>();
+        EventLoop loop = createLoop(tasks, received);
+        loop.setPolicy(DOMChildNodeCountUpdated, EventPolicy.coalesce(String.class, value -> value.charAt(0), 2));
+        loop.post(DOMChildNodeCountUpdated, "a0");
+        loop.post(DOMChildNodeCountUpdated, "b0");
+        loop.post(DOMChildNodeCountUpdated, "a1");
+        // distinct key, the oldest event is discarded
+        loop.post(DOMChildNodeCountUpdated, "c0");
+        assertEquals(2, loop.size());
+        assertEquals(1, loop.getCoalescedCount(DOMChildNodeCountUpdated));
+        assertEquals(1, loop.getDroppedCount(DOMChildNodeCountUpdated));
+        tasks.get(0).run();
+        assertEquals(asList("b0", "c0"), received);
+    }
+
+    @Test
+    public void testBlock() throws Exception {
+        List<Runnable> tasks = new ArrayList<>();
+        List<Object> received = new ArrayList<>();
+        EventLoop loop = createLoop(tasks, received);
+        loop.setPolicy(NetworkLoadingFinished, EventPolicy.block(1));
+        loop.post(NetworkLoadingFinished, 0);
+        Thread producer = new Thread(() -> loop.post(NetworkLoadingFinished, 1));
+        producer.start();
+        producer.join(200);
+        assertTrue(producer.isAlive());
+        assertEquals(1, loop.size());
+        tasks.get(0).run();
+        producer.join(5000);
+        assertFalse(producer.isAlive());
+        // the unblocked event is queued or already delivered by the same task
+        assertEquals(2, received.size() + loop.size());
+    }
+}
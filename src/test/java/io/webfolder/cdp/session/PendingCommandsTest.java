@@ -0,0 +1,108 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.Test;
+
+import io.webfolder.cdp.exception.CommandTimeoutException;
+
+public class PendingCommandsTest {
+
+    @Test
+    public void testMatchesHashMap() {
+        PendingCommands commands = new PendingCommands();
+        Map<Integer, WSContext> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            // narrow key range to exercise probing and deletion
+            int id = random.nextInt(4096) - 2048;
+            if (random.nextBoolean()) {
+                WSContext context = new WSContext(this, null, null);
+                commands.put(id, context);
+                expected.put(id, context);
+            } else {
+                assertSame(expected.remove(id), commands.remove(id));
+            }
+        }
+        assertEquals(expected.size(), commands.size());
+        for (Map.Entry<Integer, WSContext> next : expected.entrySet()) {
+            assertSame(next.getValue(), commands.get(next.getKey()));
+        }
+        commands.close();
+    }
+
+    @Test
+    public void testRemoveOwner() {
+        PendingCommands commands = new PendingCommands();
+        Object first = new Object();
+        Object second = new Object();
+        for (int id = 1; id <= 1000; id++) {
+            commands.put(id, new WSContext(id % 3 == 0 ? first : second, null, null));
+        }
+        assertEquals(333, commands.count(first));
+        assertEquals(333, commands.removeOwner(first).size());
+        assertEquals(0, commands.count(first));
+        assertEquals(667, commands.count(second));
+        for (int id = 1; id <= 1000; id++) {
+            assertEquals(id % 3 != 0, commands.get(id) != null);
+        }
+        commands.close();
+    }
+
+    @Test
+    public void testConditionalRemove() {
+        PendingCommands commands = new PendingCommands();
+        WSContext context = new WSContext(this, null, null);
+        commands.put(1, context);
+        assertFalse(commands.remove(1, new WSContext(this, null, null)));
+        assertTrue(commands.remove(1, context));
+        assertNull(commands.get(1));
+        commands.close();
+    }
+
+    @Test
+    public void testTimeout() throws Exception {
+        PendingCommands commands = new PendingCommands();
+        WSContext expired = new WSContext(this, null, null, Runnable::run);
+        WSContext received = new WSContext(this, null, null, Runnable::run);
+        commands.put(1, expired, 50);
+        commands.put(2, received, 50);
+        commands.remove(2).setData(null);
+        try {
+            expired.getFuture().get(5, SECONDS);
+        } catch (ExecutionException e) {
+            assertEquals(1, ((CommandTimeoutException) e.getCause()).getId());
+        }
+        assertTrue(expired.getFuture().isCompletedExceptionally());
+        assertFalse(received.getFuture().isCompletedExceptionally());
+        assertTrue(commands.isEmpty());
+        commands.close();
+    }
+}
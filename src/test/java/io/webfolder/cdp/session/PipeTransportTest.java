@@ -0,0 +1,78 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+public class PipeTransportTest {
+
+    @Test
+    public void testReadDelimitedMessages() throws Exception {
+        StringBuilder large = new StringBuilder("{\"data\":\"");
+        for (int i = 0; i < 100000; i++) {
+            large.append('x');
+        }
+        large.append("\"}");
+        String input = "{\"id\":1}\0{\"id\":2,\"value\":\"☃\"}\0" + large + "\0{\"id\":3}\0";
+        // returns a few bytes at a time, messages are split across reads
+        InputStream in = new ByteArrayInputStream(input.getBytes(UTF_8)) {
+
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, 7000));
+            }
+        };
+        List<String> messages = new ArrayList<>();
+        CountDownLatch closed = new CountDownLatch(1);
+        PipeTransport transport = new PipeTransport(in, new ByteArrayOutputStream()) {
+
+            @Override
+            public void close() {
+                super.close();
+                closed.countDown();
+            }
+        };
+        transport.connect((data, offset, length) -> messages.add(new String(data, offset, length, UTF_8)));
+        assertTrue(closed.await(5, SECONDS));
+        assertFalse(transport.isOpen());
+        assertEquals(asList("{\"id\":1}", "{\"id\":2,\"value\":\"☃\"}", large.toString(), "{\"id\":3}"), messages);
+    }
+
+    @Test
+    public void testSend() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PipeTransport transport = new PipeTransport(new ByteArrayInputStream(new byte[0]), out);
+        transport.send("{\"id\":1}");
+        transport.send(asList("{\"id\":2}", "{\"id\":3}"));
+        assertEquals("{\"id\":1}\0{\"id\":2}\0{\"id\":3}\0", new String(out.toByteArray(), UTF_8));
+    }
+}
@@ -0,0 +1,173 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.junit.Test;
+
+public class SelectorTransportTest {
+
+    private static class Frame {
+
+        final int opcode;
+
+        final String payload;
+
+        Frame(final int opcode, final String payload) {
+            this.opcode  = opcode;
+            this.payload = payload;
+        }
+    }
+
+    @Test
+    public void testMessages() throws Exception {
+        StringBuilder large = new StringBuilder();
+        for (int i = 0; i < 200000; i++) {
+            large.append((char) ('a' + i % 26));
+        }
+        BlockingQueue<Frame> clientFrames = new LinkedBlockingQueue<>();
+        try (ServerSocket server = new ServerSocket(0);
+                SelectorGroup group = new SelectorGroup(1)) {
+            Thread thread = new Thread(() -> {
+                try (Socket socket = server.accept()) {
+                    InputStream in = socket.getInputStream();
+                    OutputStream out = socket.getOutputStream();
+                    handshake(in, out);
+                    writeFrame(out, 0x81, "{\"id\":1}");
+                    writeFrame(out, 0x01, "{\"id\":");
+                    writeFrame(out, 0x80, "2}");
+                    writeFrame(out, 0x89, "p");
+                    writeFrame(out, 0x81, large.toString());
+                    DataInputStream data = new DataInputStream(in);
+                    for (int i = 0; i < 3; i++) {
+                        clientFrames.add(readFrame(data));
+                    }
+                    // keeps the connection open until the client closes it
+                    clientFrames.add(readFrame(data));
+                } catch (IOException e) {
+                    // the test fails on timeout
+                }
+            });
+            thread.setDaemon(true);
+            thread.start();
+
+            BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+            SelectorTransport transport = new SelectorTransport(group,
+                                                "ws://127.0.0.1:" + server.getLocalPort() + "/devtools/browser/1", 5000);
+            transport.connect((data, offset, length) -> messages.add(new String(data, offset, length, UTF_8)));
+            assertTrue(transport.isOpen());
+            assertEquals(1, group.getConnectionCount());
+
+            assertEquals("{\"id\":1}", messages.poll(5, SECONDS));
+            assertEquals("{\"id\":2}", messages.poll(5, SECONDS));
+            assertEquals(large.toString(), messages.poll(5, SECONDS));
+
+            List<String> batch = new ArrayList<>();
+            batch.add("{\"id\":3}");
+            batch.add("{\"id\":4}");
+            transport.send(batch);
+
+            List<Frame> frames = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                frames.add(clientFrames.poll(5, SECONDS));
+            }
+            // the pong is sent by the selector thread before the batch
+            assertEquals(0xA, frames.get(0).opcode);
+            assertEquals("p", frames.get(0).payload);
+            assertEquals("{\"id\":3}", frames.get(1).payload);
+            assertEquals("{\"id\":4}", frames.get(2).payload);
+
+            transport.close();
+            assertFalse(transport.isOpen());
+            assertEquals(0, group.getConnectionCount());
+        }
+    }
+
+    private static void handshake(final InputStream in, final OutputStream out) throws IOException {
+        StringBuilder request = new StringBuilder();
+        while ( ! request.toString().endsWith("\r\n\r\n") ) {
+            request.append((char) in.read());
+        }
+        String key = null;
+        for (String line : request.toString().split("\r\n")) {
+            if (line.startsWith("Sec-WebSocket-Key:")) {
+                key = line.substring(line.indexOf(':') + 1).trim();
+            }
+        }
+        out.write(("HTTP/1.1 101 Switching Protocols\r\n" +
+                    "Upgrade: websocket\r\n" +
+                    "Connection: Upgrade\r\n" +
+                    "Sec-WebSocket-Accept: " + SelectorTransport.accept(key) + "\r\n\r\n").getBytes(ISO_8859_1));
+    }
+
+    private static void writeFrame(final OutputStream out, final int b0, final String payload) throws IOException {
+        byte[] data = payload.getBytes(UTF_8);
+        out.write(b0);
+        if (data.length < 126) {
+            out.write(data.length);
+        } else if (data.length <= 0xFFFF) {
+            out.write(126);
+            out.write(data.length >> 8);
+            out.write(data.length);
+        } else {
+            out.write(127);
+            for (int i = 7; i >= 0; i--) {
+                out.write((int) ((long) data.length >> (8 * i)));
+            }
+        }
+        out.write(data);
+        out.flush();
+    }
+
+    private static Frame readFrame(final DataInputStream in) throws IOException {
+        int b0 = in.readUnsignedByte();
+        int b1 = in.readUnsignedByte();
+        assertTrue("client frames must be masked", (b1 & 0x80) != 0);
+        long length = b1 & 0x7F;
+        if (length == 126) {
+            length = in.readUnsignedShort();
+        } else if (length == 127) {
+            length = in.readLong();
+        }
+        byte[] mask = new byte[4];
+        in.readFully(mask);
+        byte[] payload = new byte[(int) length];
+        in.readFully(payload);
+        for (int i = 0; i < payload.length; i++) {
+            payload[i] ^= mask[i & 3];
+        }
+        return new Frame(b0 & 0x0F, new String(payload, UTF_8));
+    }
+}
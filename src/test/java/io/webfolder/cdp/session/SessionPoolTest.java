@@ -0,0 +1,69 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import static io.webfolder.cdp.event.Events.NetworkLoadingFinished;
+import static io.webfolder.cdp.event.Events.PageLifecycleEvent;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import io.webfolder.cdp.listener.EventListener;
+
+public class SessionPoolTest {
+
+    @Test
+    public void testOrigin() {
+        assertEquals("https://example.com", SessionPool.getOrigin("https://example.com/a/b?c=d"));
+        assertEquals("http://localhost:8080", SessionPool.getOrigin("http://localhost:8080/"));
+        assertNull(SessionPool.getOrigin("about:blank"));
+        assertNull(SessionPool.getOrigin("data:text/html,<p>"));
+        assertNull(SessionPool.getOrigin(null));
+    }
+
+    @Test
+    public void testResetListeners() {
+        EventListeners listeners = new EventListeners();
+        EventListener internal = (event, value) -> { };
+        listeners.add(PageLifecycleEvent, internal);
+        listeners.mark();
+
+        EventListener user = (event, value) -> { };
+        listeners.add(NetworkLoadingFinished, user);
+        listeners.add(user);
+        assertTrue(listeners.isSubscribed(NetworkLoadingFinished));
+
+        listeners.reset();
+        assertFalse(listeners.isSubscribed(NetworkLoadingFinished));
+        assertTrue(listeners.isSubscribed(PageLifecycleEvent));
+        List<EventListener> copy = new ArrayList<>();
+        listeners.copy(PageLifecycleEvent, copy);
+        assertEquals(1, copy.size());
+        assertTrue(copy.get(0) == internal);
+
+        // marked registrations survive more than one reset
+        listeners.reset();
+        assertTrue(listeners.isSubscribed(PageLifecycleEvent));
+    }
+}
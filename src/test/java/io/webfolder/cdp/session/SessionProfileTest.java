@@ -0,0 +1,46 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class SessionProfileTest {
+
+    @Test
+    public void testNone() {
+        SessionProfile profile = SessionProfile.none();
+        assertFalse(profile.isRuntime());
+        assertFalse(profile.isInspector());
+        assertFalse(profile.isPage());
+        assertFalse(profile.isLifecycleEvents());
+    }
+
+    @Test
+    public void testLifecycleEventsEnablePage() {
+        SessionProfile profile = SessionProfile.none().withRuntime().withLifecycleEvents();
+        assertTrue(profile.isRuntime());
+        assertFalse(profile.isInspector());
+        assertTrue(profile.isPage());
+        assertTrue(profile.isLifecycleEvents());
+        // profiles are immutable
+        assertFalse(SessionProfile.none().isRuntime());
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import static io.webfolder.cdp.event.Events.TargetTargetCreated;
+import static io.webfolder.cdp.event.Events.TargetTargetDestroyed;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.Test;
+
+import io.webfolder.cdp.event.target.TargetCreated;
+import io.webfolder.cdp.event.target.TargetDestroyed;
+import io.webfolder.cdp.type.target.TargetInfo;
+
+public class TargetListenerTest {
+
+    private final List<TabInfo> tabs = new CopyOnWriteArrayList<>();
+
+    private final Map<String, CompletableFuture<TabInfo>> pendingTargets = new ConcurrentHashMap<>();
+
+    private final TargetListener listener = new TargetListener(new ConcurrentHashMap<>(),
+                                                                new ConcurrentHashMap<>(),
+                                                                tabs, pendingTargets);
+
+    private static TargetCreated created(String targetId, String type, String url) {
+        TargetInfo info = new TargetInfo();
+        info.setTargetId(targetId);
+        info.setType(type);
+        info.setUrl(url);
+        info.setBrowserContextId("context");
+        TargetCreated event = new TargetCreated();
+        event.setTargetInfo(info);
+        return event;
+    }
+
+    @Test
+    public void testCompletesPendingTarget() throws Exception {
+        CompletableFuture<TabInfo> future = new CompletableFuture<>();
+        pendingTargets.put("t1", future);
+        listener.onEvent(TargetTargetCreated, created("t1", "page", "about:blank"));
+        assertEquals("t1", future.get().getTargetId());
+        assertEquals("context", future.get().getBrowserContextId());
+        assertTrue(pendingTargets.isEmpty());
+        assertTrue(tabs.isEmpty());
+    }
+
+    @Test
+    public void testQueuesUnclaimedBlankPage() {
+        listener.onEvent(TargetTargetCreated, created("t1", "page", "about:blank"));
+        listener.onEvent(TargetTargetCreated, created("t2", "page", "https://webfolder.io"));
+        listener.onEvent(TargetTargetCreated, created("t3", "service_worker", ""));
+        assertEquals(1, tabs.size());
+        assertEquals("t1", tabs.get(0).getTargetId());
+
+        TargetDestroyed destroyed = new TargetDestroyed();
+        destroyed.setTargetId("t1");
+        listener.onEvent(TargetTargetDestroyed, destroyed);
+        assertTrue(tabs.isEmpty());
+    }
+
+    @Test
+    public void testFailsDestroyedTarget() {
+        CompletableFuture<TabInfo> future = new CompletableFuture<>();
+        pendingTargets.put("t1", future);
+        TargetDestroyed destroyed = new TargetDestroyed();
+        destroyed.setTargetId("t1");
+        listener.onEvent(TargetTargetDestroyed, destroyed);
+        assertTrue(future.isCompletedExceptionally());
+        assertTrue(pendingTargets.isEmpty());
+    }
+}
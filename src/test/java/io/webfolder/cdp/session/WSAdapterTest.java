@@ -0,0 +1,252 @@
+/**
+ * cdp4j - Chrome DevTools Protocol for Java
+ * Copyright © 2017, 2018 WebFolder OÜ (support@webfolder.io)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.webfolder.cdp.session;
+
+import static io.webfolder.cdp.event.Events.NetworkDataReceived;
+import static io.webfolder.cdp.event.Events.NetworkLoadingFinished;
+import static io.webfolder.cdp.logger.CdpLoggerType.Null;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+
+import io.webfolder.cdp.event.network.DataReceived;
+import io.webfolder.cdp.event.network.LoadingFinished;
+import io.webfolder.cdp.exception.CdpException;
+import io.webfolder.cdp.exception.CommandException;
+import io.webfolder.cdp.listener.AbstractListener;
+import io.webfolder.cdp.listener.RawEventListener;
+import io.webfolder.cdp.logger.CdpLogger;
+import io.webfolder.cdp.logger.CdpLoggerFactory;
+import io.webfolder.cdp.session.EventListeners.TypedListener;
+
+public class WSAdapterTest {
+
+    private final Gson gson = new Gson();
+
+    private final PendingCommands contexts = new PendingCommands();
+
+    private final List<Object> events = new ArrayList<>();
+
+    private final CdpLogger log = new CdpLoggerFactory(Null).getLogger("test");
+
+    private WSAdapter createAdapter() {
+        EventListeners listeners = new EventListeners();
+        listeners.add((event, value) -> events.add(value));
+        return new WSAdapter(gson, contexts, listeners,
+                                Runnable::run, log);
+    }
+
+    @Test
+    public void testResultBoundToReturnType() throws Exception {
+        WSContext context = new WSContext(this, Integer.class, "nodeId");
+        contexts.put(1, context);
+        createAdapter().onMessage("{\"id\":1,\"result\":{\"foo\":[1,2],\"nodeId\":42}}", false);
+        assertEquals(42, context.getData());
+        assertTrue(contexts.isEmpty());
+    }
+
+    @Test
+    public void testUtf8Payload() throws Exception {
+        WSContext context = new WSContext(this, String.class, "value");
+        contexts.put(3, context);
+        byte[] message = "{\"id\":3,\"result\":{\"value\":\"\u00e7\u00f6\u2603\"}}".getBytes(UTF_8);
+        // pooled buffers are usually larger than the message
+        byte[] buffer = new byte[message.length + 16];
+        System.arraycopy(message, 0, buffer, 0, message.length);
+        createAdapter().onMessage(buffer, 0, message.length);
+        assertEquals("\u00e7\u00f6\u2603", context.getData());
+    }
+
+    @Test
+    public void testFutureCompleted() throws Exception {
+        WSContext context = new WSContext(this, Integer.class, "nodeId", Runnable::run);
+        contexts.put(4, context);
+        CompletableFuture<Object> future = context.getFuture();
+        assertFalse(future.isDone());
+        createAdapter().onMessage("{\"id\":4,\"result\":{\"nodeId\":8}}", false);
+        assertEquals(8, future.get());
+
+        WSContext failed = new WSContext(this, Integer.class, "nodeId", Runnable::run);
+        contexts.put(5, failed);
+        createAdapter().onMessage("{\"id\":5,\"error\":{\"code\":-32000,\"message\":\"Not found\"}}", false);
+        assertTrue(failed.getFuture().isCompletedExceptionally());
+    }
+
+    @Test
+    public void testBindingErrorFailsCommand() throws Exception {
+        WSContext context = new WSContext(this, Integer.class, "nodeId", Runnable::run);
+        contexts.put(8, context);
+        createAdapter().onMessage("{\"id\":8,\"result\":[1]}", false);
+        assertTrue(context.getError() instanceof CdpException);
+        assertTrue(context.getFuture().isCompletedExceptionally());
+
+        WSContext late = new WSContext(this, Integer.class, "nodeId");
+        contexts.put(9, late);
+        createAdapter().onMessage("{\"result\":{\"nodeId\":\"foo\"},\"id\":9}", false);
+        assertTrue(late.getError() instanceof CdpException);
+        assertTrue(contexts.isEmpty());
+    }
+
+    @Test
+    public void testResultBeforeId() throws Exception {
+        WSContext context = new WSContext(this, String.class, "value");
+        contexts.put(7, context);
+        createAdapter().onMessage("{\"result\":{\"value\":\"foo\"},\"id\":7}", false);
+        assertEquals("foo", context.getData());
+    }
+
+    @Test
+    public void testError() throws Exception {
+        WSContext context = new WSContext(this, null, null);
+        contexts.put(2, context);
+        createAdapter().onMessage("{\"id\":2,\"error\":{\"code\":-32000,\"message\":\"Not found\",\"data\":\"node\"}}", false);
+        assertNull(context.getData());
+        CommandException error = (CommandException) context.getError();
+        assertEquals(-32000, error.getCode());
+        assertEquals("Not found. node", error.getMessage());
+    }
+
+    @Test
+    public void testEventRoutedBySessionId() throws Exception {
+        WSAdapter browser = createAdapter();
+        List<Object> pageEvents = new ArrayList<>();
+        EventListeners pageListeners = new EventListeners();
+        pageListeners.add((event, value) -> {
+            assertEquals(NetworkLoadingFinished, event);
+            pageEvents.add(value);
+        });
+        WSAdapter page = new WSAdapter(gson, contexts, pageListeners,
+                                            Runnable::run, log);
+        Map<String, WSAdapter> adapters = new HashMap<>();
+        adapters.put("s1", page);
+        browser.setSessionAdapters(adapters);
+        browser.onMessage("{\"method\":\"Network.loadingFinished\",\"params\":" +
+                                "{\"requestId\":\"r1\",\"encodedDataLength\":10},\"sessionId\":\"s1\"}", false);
+        assertTrue(events.isEmpty());
+        assertEquals(1, pageEvents.size());
+        LoadingFinished loadingFinished = (LoadingFinished) pageEvents.get(0);
+        assertEquals("r1", loadingFinished.getRequestId());
+    }
+
+    @Test
+    public void testTunnelMessageRouted() throws Exception {
+        WSAdapter browser = createAdapter();
+        WSAdapter page = createAdapter();
+        Map<String, WSAdapter> adapters = new HashMap<>();
+        adapters.put("s1", page);
+        browser.setSessionAdapters(adapters);
+        WSContext context = new WSContext(this, String.class, "value");
+        contexts.put(8, context);
+        browser.onMessage("{\"method\":\"Target.receivedMessageFromTarget\",\"params\":" +
+                                "{\"sessionId\":\"s1\",\"message\":\"{\\\"id\\\":8,\\\"result\\\":{\\\"value\\\":\\\"foo\\\"}}\"}}", false);
+        assertEquals("foo", context.getData());
+    }
+
+    @Test
+    public void testUnsubscribedEventSkipped() throws Exception {
+        EventListeners listeners = new EventListeners();
+        List<Object> received = new ArrayList<>();
+        AbstractListener<LoadingFinished> listener = e -> received.add(e.getRequestId());
+        listeners.add(NetworkLoadingFinished, new TypedListener(listener));
+        WSAdapter adapter = new WSAdapter(gson, contexts, listeners, Runnable::run, log);
+        adapter.onMessage("{\"method\":\"Network.dataReceived\",\"params\":{\"requestId\":\"r0\"}}", false);
+        adapter.onMessage("{\"method\":\"Network.loadingFinished\",\"params\":{\"requestId\":\"r1\"}}", false);
+        assertEquals(1, received.size());
+        assertEquals("r1", received.get(0));
+        assertFalse(listeners.isSubscribed(NetworkDataReceived));
+
+        listeners.remove(NetworkLoadingFinished, listener);
+        assertFalse(listeners.isSubscribed(NetworkLoadingFinished));
+        adapter.onMessage("{\"method\":\"Network.loadingFinished\",\"params\":{\"requestId\":\"r2\"}}", false);
+        assertEquals(1, received.size());
+    }
+
+    @Test
+    public void testRawEvent() throws Exception {
+        EventListeners listeners = new EventListeners();
+        List<Object> received = new ArrayList<>();
+        listeners.add(NetworkDataReceived, (RawEventListener) e -> {
+            assertEquals(NetworkDataReceived, e.getEvent());
+            received.add(e.getString("requestId"));
+            received.add(e.getInteger("dataLength"));
+            received.add(e.has("missing"));
+            received.add(((DataReceived) e.toEvent()).getEncodedDataLength());
+        });
+        WSAdapter adapter = new WSAdapter(gson, contexts, listeners, Runnable::run, log);
+        byte[] message = ("{\"method\":\"Network.dataReceived\",\"params\":" +
+                            "{\"requestId\":\"r1\",\"timestamp\":1.5,\"dataLength\":512,\"encodedDataLength\":128}}").getBytes(UTF_8);
+        byte[] buffer = new byte[message.length + 16];
+        System.arraycopy(message, 0, buffer, 0, message.length);
+        adapter.onMessage(buffer, 0, message.length);
+        // pooled buffer is reused
+        buffer[0] = 0;
+        assertEquals(4, received.size());
+        assertEquals("r1", received.get(0));
+        assertEquals(512, received.get(1));
+        assertEquals(false, received.get(2));
+        assertEquals(128, received.get(3));
+    }
+
+    @Test
+    public void testRawEventMembers() throws Exception {
+        RawEvent event = new RawEvent(gson);
+        byte[] message = ("{\"params\" : { \"text\":\"a\\\"b\\u0041\u00e7\", \"nested\":{\"x\":[1,\"}\"]}, " +
+                            "\"count\":\"12\",\"time\":1.5e3,\"big\":-9223372036854775808,\"flag\":true,\"none\":null}," +
+                            "\"method\":\"Network.dataReceived\"}").getBytes(UTF_8);
+        byte[] buffer = new byte[message.length + 16];
+        System.arraycopy(message, 0, buffer, 0, message.length);
+        event.reset(NetworkDataReceived, buffer, message.length);
+        assertEquals("a\"bA\u00e7", event.getString("text"));
+        assertEquals(Integer.valueOf(12), event.getInteger("count"));
+        assertEquals(Long.valueOf(1500), event.getLong("time"));
+        assertEquals(Double.valueOf(1500), event.getDouble("time"));
+        assertEquals(Long.valueOf(Long.MIN_VALUE), event.getLong("big"));
+        assertEquals(Boolean.TRUE, event.getBoolean("flag"));
+        assertTrue(event.has("nested"));
+        assertFalse(event.has("none"));
+        assertNull(event.getString("none"));
+        assertNull(event.getString("missing"));
+        assertEquals("[1.0, }]", event.get("nested", Map.class).get("x").toString());
+        try {
+            event.getInteger("text");
+            assertTrue(false);
+        } catch (CdpException e) {
+            assertTrue(e.getCause() instanceof NumberFormatException);
+        }
+
+        // the view is reused for the next event
+        event.reset(NetworkDataReceived, "{\"method\":\"Network.dataReceived\",\"params\":{\"text\":\"c\"}}", 0);
+        assertEquals("c", event.getString("text"));
+        assertFalse(event.has("count"));
+        event.reset(NetworkDataReceived, "{\"method\":\"Network.dataReceived\"}", 0);
+        assertNull(event.getString("text"));
+        assertNull(event.toEvent());
+    }
+}